@@ -0,0 +1,27 @@
+package com.checkpoint.api.client;
+
+/**
+ * Outcome of a conditional GET: either a fresh body or "not modified", together with
+ * the validators to send next time.
+ *
+ * @param body       the parsed body, or {@code null} when the server answered {@code 304}
+ * @param validators the validators to replay on the next request
+ * @param <T>        the parsed body type
+ */
+public record ConditionalResponse<T>(T body, HttpValidators validators) {
+
+    public static <T> ConditionalResponse<T> modified(T body, HttpValidators validators) {
+        return new ConditionalResponse<>(body, validators);
+    }
+
+    public static <T> ConditionalResponse<T> notModified(HttpValidators validators) {
+        return new ConditionalResponse<>(null, validators);
+    }
+
+    /**
+     * @return whether the server answered {@code 304 Not Modified}
+     */
+    public boolean isNotModified() {
+        return body == null;
+    }
+}
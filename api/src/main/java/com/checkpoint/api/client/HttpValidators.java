@@ -0,0 +1,36 @@
+package com.checkpoint.api.client;
+
+/**
+ * The cache validators a server returned with a resource, replayed as
+ * {@code If-None-Match} / {@code If-Modified-Since} on the next request so that an
+ * unchanged resource costs a {@code 304 Not Modified} instead of a full download.
+ *
+ * @param etag         the {@code ETag} header value (quotes and weak prefix included), or {@code null}
+ * @param lastModified the {@code Last-Modified} header value, or {@code null}
+ */
+public record HttpValidators(String etag, String lastModified) {
+
+    /** No validators: the request is unconditional. */
+    public static final HttpValidators NONE = new HttpValidators(null, null);
+
+    /**
+     * @return whether neither validator is known
+     */
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+
+    /**
+     * Returns these validators with the ones a new response carried laid over them. A
+     * {@code 304} response may omit headers it did not change.
+     *
+     * @param etag         the response's {@code ETag}, or {@code null} when absent
+     * @param lastModified the response's {@code Last-Modified}, or {@code null} when absent
+     * @return the merged validators
+     */
+    public HttpValidators updatedWith(String etag, String lastModified) {
+        return new HttpValidators(
+                etag != null ? etag : this.etag,
+                lastModified != null ? lastModified : this.lastModified);
+    }
+}
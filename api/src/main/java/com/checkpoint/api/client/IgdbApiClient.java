@@ -3,6 +3,8 @@ package com.checkpoint.api.client;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import com.checkpoint.api.dto.igdb.IgdbExternalGameDto;
 import com.checkpoint.api.dto.igdb.IgdbGameDto;
@@ -30,6 +32,15 @@ public interface IgdbApiClient {
      */
     List<IgdbGameDto> fetchGamesByIds(List<Long> gameIds);
 
+    /**
+     * Asynchronous variant of {@link #fetchGamesByIds(List)}. Large inputs are split
+     * into batches that run concurrently within the client's rate and concurrency limits.
+     *
+     * @param gameIds list of IGDB game IDs
+     * @return a future completing with the games, or exceptionally on an API error
+     */
+    CompletableFuture<List<IgdbGameDto>> fetchGamesByIdsAsync(List<Long> gameIds);
+
     /**
      * Searches games by name on IGDB.
      *
@@ -48,6 +59,17 @@ public interface IgdbApiClient {
      */
     List<IgdbGameDto> fetchTopRatedGames(int limit, int minRatingCount);
 
+    /**
+     * Streaming variant of {@link #fetchTopRatedGames(int, int)}: hands each page to
+     * {@code pageConsumer} as soon as it arrives instead of collecting the whole result,
+     * so a caller can persist one page while the next is being fetched.
+     *
+     * @param limit          maximum number of games to fetch
+     * @param minRatingCount minimum number of ratings required
+     * @param pageConsumer   receives every non-empty page, in order, on the calling thread
+     */
+    void fetchTopRatedGames(int limit, int minRatingCount, Consumer<List<IgdbGameDto>> pageConsumer);
+
     /**
      * Fetches the time-to-beat statistics for a single game from IGDB.
      * Best-effort: returns {@code null} if the endpoint fails or returns no data.
@@ -71,6 +93,16 @@ public interface IgdbApiClient {
      */
     Map<Long, IgdbTimeToBeatDto> fetchTimeToBeatForGames(Collection<Long> igdbGameIds);
 
+    /**
+     * Asynchronous variant of {@link #fetchTimeToBeatForGames(Collection)}; the chunks
+     * run concurrently. Best-effort like the synchronous call: it never completes
+     * exceptionally because of a failed chunk.
+     *
+     * @param igdbGameIds the IGDB game IDs to look up
+     * @return a future completing with the IGDB game ID → time-to-beat map
+     */
+    CompletableFuture<Map<Long, IgdbTimeToBeatDto>> fetchTimeToBeatForGamesAsync(Collection<Long> igdbGameIds);
+
     /**
      * Resolves a list of Steam application IDs to IGDB game IDs via IGDB's
      * {@code /external_games} endpoint (category 1 = Steam).
@@ -83,6 +115,16 @@ public interface IgdbApiClient {
      */
     List<IgdbExternalGameDto> findIgdbIdsForSteamAppIds(List<Long> steamAppIds);
 
+    /**
+     * Asynchronous variant of {@link #findIgdbIdsForSteamAppIds(List)}; the chunks run
+     * concurrently, and a chunk identical to one already in flight (e.g. another user's
+     * sync of the same appIds) shares that request.
+     *
+     * @param steamAppIds the Steam application IDs to look up
+     * @return a future completing with the matched rows, or exceptionally on an API error
+     */
+    CompletableFuture<List<IgdbExternalGameDto>> findIgdbIdsForSteamAppIdsAsync(List<Long> steamAppIds);
+
     /**
      * Resolves a collection of IGDB game IDs to their Steam application IDs via the
      * same {@code /external_games} endpoint. The IGDB-to-Steam direction is used by
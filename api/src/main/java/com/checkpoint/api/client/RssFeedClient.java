@@ -3,6 +3,8 @@ package com.checkpoint.api.client;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.checkpoint.api.exceptions.RssFeedException;
+
 /**
  * Client that fetches and parses an RSS or Atom feed using ROME.
  *
@@ -21,6 +23,20 @@ public interface RssFeedClient {
      */
     List<RssItem> fetch(String name, String url);
 
+    /**
+     * Fetches and parses the given feed unless it is unchanged since the given validators
+     * were returned. Over http(s) the validators are sent as {@code If-None-Match} /
+     * {@code If-Modified-Since}; other URL schemes are always read in full.
+     *
+     * @param name       a human-readable feed name (used for logging only)
+     * @param url        the feed URL
+     * @param validators the validators returned by the previous fetch, or {@link HttpValidators#NONE}
+     * @return the entries, or a not-modified response; either way with the validators to
+     *         send next time
+     * @throws RssFeedException if the feed cannot be downloaded or parsed
+     */
+    ConditionalResponse<List<RssItem>> fetchIfModified(String name, String url, HttpValidators validators);
+
     /**
      * A single feed entry after sanitization.
      *
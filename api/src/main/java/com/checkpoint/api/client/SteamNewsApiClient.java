@@ -21,4 +21,17 @@ public interface SteamNewsApiClient {
      *         the app has no news. Never returns {@code null}.
      */
     List<SteamNewsResponseDto.NewsItem> fetchNewsForApp(long steamAppId, int count);
+
+    /**
+     * Fetches the latest news items for a Steam application unless they are unchanged
+     * since the given validators were returned.
+     *
+     * @param steamAppId the Steam application ID
+     * @param count      the maximum number of items to return (Steam caps this at 100)
+     * @param validators the validators returned by the previous fetch, or {@link HttpValidators#NONE}
+     * @return the news items (newest first), or a not-modified response; either way with
+     *         the validators to send next time
+     */
+    ConditionalResponse<List<SteamNewsResponseDto.NewsItem>> fetchNewsForAppIfModified(
+            long steamAppId, int count, HttpValidators validators);
 }
@@ -8,10 +8,20 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -27,12 +37,17 @@ import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 
+import jakarta.annotation.PreDestroy;
+
 /**
- * Implementation of {@link IgdbApiClient} with rate limiting.
- * Uses Resilience4j RateLimiter to ensure we don't exceed IGDB API limits.
+ * Implementation of {@link IgdbApiClient} with rate and concurrency limiting.
  *
- * IGDB API allows approximately 4 requests per second, but we use 1 per second
- * to be safe and avoid any risk of being rate limited.
+ * <p>IGDB allows about 4 requests per second with up to 8 requests in flight. Every
+ * request waits for a Resilience4j {@link RateLimiter} permit (requests per second)
+ * while holding a {@link Semaphore} slot (requests in flight); both limits are
+ * configurable. The batched lookups fan their batches out on virtual threads and
+ * are exposed as {@code *Async} variants; identical queries that are already in
+ * flight (e.g. two Steam syncs resolving the same appIds) share a single request.</p>
  */
 @Component
 public class IgdbApiClientImpl implements IgdbApiClient {
@@ -55,22 +70,41 @@ public class IgdbApiClientImpl implements IgdbApiClient {
             game_modes.*, themes.*, player_perspectives.*;
             """;
 
+    private static final ParameterizedTypeReference<List<IgdbGameDto>> GAME_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<List<IgdbExternalGameDto>> EXTERNAL_GAME_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<List<IgdbTimeToBeatDto>> TIME_TO_BEAT_LIST =
+            new ParameterizedTypeReference<>() {};
+
     private final RestClient igdbClient;
     private final RateLimiter rateLimiter;
+    private final Semaphore inFlightPermits;
+    private final ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Queries currently being executed, keyed by endpoint and query body. */
+    private final ConcurrentMap<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
 
-    public IgdbApiClientImpl(RestClient igdbClient) {
+    public IgdbApiClientImpl(RestClient igdbClient,
+                             @Value("${igdb.api.requests-per-second:4}") int requestsPerSecond,
+                             @Value("${igdb.api.max-concurrent-requests:8}") int maxConcurrentRequests) {
         this.igdbClient = igdbClient;
-        this.rateLimiter = createRateLimiter();
+        this.rateLimiter = createRateLimiter(Math.max(1, requestsPerSecond));
+        this.inFlightPermits = new Semaphore(Math.max(1, maxConcurrentRequests), true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        requestExecutor.shutdown();
     }
 
     /**
-     * Creates a rate limiter configured for 1 request per second.
-     * This is conservative but ensures we never hit IGDB rate limits.
+     * Creates a rate limiter handing out {@code requestsPerSecond} permits per second.
      */
-    private RateLimiter createRateLimiter() {
+    private RateLimiter createRateLimiter(int requestsPerSecond) {
         RateLimiterConfig config = RateLimiterConfig.custom()
                 .limitRefreshPeriod(Duration.ofSeconds(1))
-                .limitForPeriod(1)
+                .limitForPeriod(requestsPerSecond)
                 .timeoutDuration(Duration.ofSeconds(30))
                 .build();
 
@@ -96,19 +130,27 @@ public class IgdbApiClientImpl implements IgdbApiClient {
 
     @Override
     public List<IgdbGameDto> fetchGamesByIds(List<Long> gameIds) {
+        return await(fetchGamesByIdsAsync(gameIds));
+    }
+
+    @Override
+    public CompletableFuture<List<IgdbGameDto>> fetchGamesByIdsAsync(List<Long> gameIds) {
         if (gameIds == null || gameIds.isEmpty()) {
-            return Collections.emptyList();
+            return CompletableFuture.completedFuture(Collections.emptyList());
         }
 
         log.info("Fetching {} games by IDs from IGDB", gameIds.size());
 
-        String idsString = String.join(",", gameIds.stream().map(String::valueOf).toList());
-        String query = GAME_FIELDS + String.format("""
-                where id = (%s);
-                limit %d;
-                """, idsString, gameIds.size());
-
-        return executeQuery("/games", query);
+        List<CompletableFuture<List<IgdbGameDto>>> batches = new ArrayList<>();
+        for (List<Long> batch : partition(gameIds, GAMES_PAGE_SIZE)) {
+            String idsString = batch.stream().map(String::valueOf).collect(Collectors.joining(","));
+            String query = GAME_FIELDS + String.format("""
+                    where id = (%s);
+                    limit %d;
+                    """, idsString, batch.size());
+            batches.add(coalesced("/games", query, () -> post("/games", query, GAME_LIST)));
+        }
+        return concat(batches);
     }
 
     @Override
@@ -146,19 +188,30 @@ public class IgdbApiClientImpl implements IgdbApiClient {
      * proxy for how widely known a game is). Games below {@code minRatingCount}
      * are excluded so obscure titles never enter the catalogue.
      *
-     * <p>Because a single response is size-limited (see {@link #GAMES_PAGE_SIZE}),
-     * this pages through results with {@code limit}/{@code offset} until it has
-     * collected {@code limit} games or runs out of qualifying ones. Each page is
-     * a separate request and is therefore rate-limited by {@link #executeQuery}.</p>
+     * <p>Collects the pages produced by
+     * {@link #fetchTopRatedGames(int, int, Consumer)} into a single list.</p>
      */
     @Override
     public List<IgdbGameDto> fetchTopRatedGames(int limit, int minRatingCount) {
+        List<IgdbGameDto> all = new ArrayList<>();
+        fetchTopRatedGames(limit, minRatingCount, all::addAll);
+        return all;
+    }
+
+    /**
+     * Because a single response is size-limited (see {@link #GAMES_PAGE_SIZE}),
+     * this pages through results with {@code limit}/{@code offset} until it has
+     * produced {@code limit} games or runs out of qualifying ones. Each page is
+     * a separate request and is therefore rate-limited by {@link #executeQuery}.
+     */
+    @Override
+    public void fetchTopRatedGames(int limit, int minRatingCount, Consumer<List<IgdbGameDto>> pageConsumer) {
         log.info("Fetching {} most popular games from IGDB (min {} ratings)", limit, minRatingCount);
 
-        List<IgdbGameDto> all = new ArrayList<>();
+        int fetched = 0;
         int offset = 0;
-        while (all.size() < limit) {
-            int pageSize = Math.min(GAMES_PAGE_SIZE, limit - all.size());
+        while (fetched < limit) {
+            int pageSize = Math.min(GAMES_PAGE_SIZE, limit - fetched);
             String query = GAME_FIELDS + String.format("""
                     where total_rating_count >= %d;
                     sort total_rating_count desc;
@@ -170,15 +223,17 @@ public class IgdbApiClientImpl implements IgdbApiClient {
             if (page.isEmpty()) {
                 break; // no more qualifying games
             }
-            all.addAll(page);
+            // A page may overshoot the requested limit; trim to be exact.
+            List<IgdbGameDto> accepted = page.size() > limit - fetched
+                    ? new ArrayList<>(page.subList(0, limit - fetched))
+                    : page;
+            pageConsumer.accept(accepted);
+            fetched += accepted.size();
             if (page.size() < pageSize) {
                 break; // last (partial) page
             }
             offset += page.size();
         }
-
-        // The final page may overshoot the requested limit; trim to be exact.
-        return all.size() > limit ? new ArrayList<>(all.subList(0, limit)) : all;
     }
 
     /**
@@ -197,22 +252,34 @@ public class IgdbApiClientImpl implements IgdbApiClient {
 
     @Override
     public List<IgdbExternalGameDto> findIgdbIdsForSteamAppIds(List<Long> steamAppIds) {
+        return await(findIgdbIdsForSteamAppIdsAsync(steamAppIds));
+    }
+
+    @Override
+    public CompletableFuture<List<IgdbExternalGameDto>> findIgdbIdsForSteamAppIdsAsync(List<Long> steamAppIds) {
         if (steamAppIds == null || steamAppIds.isEmpty()) {
-            return Collections.emptyList();
+            return CompletableFuture.completedFuture(Collections.emptyList());
         }
 
         log.info("Resolving {} Steam appIds via IGDB external_games", steamAppIds.size());
 
-        List<IgdbExternalGameDto> aggregated = new ArrayList<>();
-        for (int i = 0; i < steamAppIds.size(); i += EXTERNAL_GAMES_BATCH_SIZE) {
-            List<Long> batch = steamAppIds.subList(
-                    i, Math.min(i + EXTERNAL_GAMES_BATCH_SIZE, steamAppIds.size()));
-            aggregated.addAll(fetchExternalGamesBatch(batch));
+        List<CompletableFuture<List<IgdbExternalGameDto>>> batches = new ArrayList<>();
+        for (List<Long> batch : partition(steamAppIds, EXTERNAL_GAMES_BATCH_SIZE)) {
+            String uids = batch.stream()
+                    .map(appId -> "\"" + appId + "\"")
+                    .collect(Collectors.joining(","));
+            String query = String.format("""
+                    fields uid,game;
+                    where external_game_source = %d & uid = (%s);
+                    limit %d;
+                    """, STEAM_EXTERNAL_GAME_SOURCE, uids, EXTERNAL_GAMES_BATCH_SIZE);
+            batches.add(coalesced("/external_games", query,
+                    () -> post("/external_games", query, EXTERNAL_GAME_LIST)));
         }
 
-        return aggregated.stream()
+        return concat(batches).thenApply(rows -> rows.stream()
                 .filter(row -> row.game() != null)
-                .toList();
+                .toList());
     }
 
     @Override
@@ -224,89 +291,37 @@ public class IgdbApiClientImpl implements IgdbApiClient {
         List<Long> ordered = new ArrayList<>(igdbIds);
         log.info("Resolving {} IGDB IDs to Steam appIds via external_games", ordered.size());
 
+        List<CompletableFuture<List<IgdbExternalGameDto>>> batches = new ArrayList<>();
+        for (List<Long> batch : partition(ordered, EXTERNAL_GAMES_BATCH_SIZE)) {
+            String ids = batch.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            String query = String.format("""
+                    fields uid,game;
+                    where external_game_source = %d & game = (%s);
+                    limit %d;
+                    """, STEAM_EXTERNAL_GAME_SOURCE, ids, EXTERNAL_GAMES_BATCH_SIZE);
+            batches.add(coalesced("/external_games", query,
+                    () -> post("/external_games", query, EXTERNAL_GAME_LIST)));
+        }
+
         Map<Long, Long> result = new HashMap<>();
-        for (int i = 0; i < ordered.size(); i += EXTERNAL_GAMES_BATCH_SIZE) {
-            List<Long> batch = ordered.subList(
-                    i, Math.min(i + EXTERNAL_GAMES_BATCH_SIZE, ordered.size()));
-            for (IgdbExternalGameDto row : fetchExternalGamesByGameIds(batch)) {
-                if (row.game() == null || row.uid() == null) {
-                    continue;
-                }
-                try {
-                    result.put(row.game(), Long.parseLong(row.uid()));
-                } catch (NumberFormatException e) {
-                    log.debug("Skipping non-numeric Steam uid '{}' for IGDB game {}",
-                            row.uid(), row.game());
-                }
+        for (IgdbExternalGameDto row : await(concat(batches))) {
+            if (row.game() == null || row.uid() == null) {
+                continue;
+            }
+            try {
+                result.put(row.game(), Long.parseLong(row.uid()));
+            } catch (NumberFormatException e) {
+                log.debug("Skipping non-numeric Steam uid '{}' for IGDB game {}",
+                        row.uid(), row.game());
             }
         }
         return result;
     }
 
-    private List<IgdbExternalGameDto> fetchExternalGamesByGameIds(List<Long> batch) {
-        RateLimiter.waitForPermission(rateLimiter);
-
-        String ids = batch.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
-
-        String query = String.format("""
-                fields uid,game;
-                where external_game_source = %d & game = (%s);
-                limit %d;
-                """, STEAM_EXTERNAL_GAME_SOURCE, ids, EXTERNAL_GAMES_BATCH_SIZE);
-
-        log.debug("Executing IGDB external_games query for {} IGDB IDs", batch.size());
-
-        try {
-            List<IgdbExternalGameDto> result = igdbClient.post()
-                    .uri("/external_games")
-                    .contentType(MediaType.TEXT_PLAIN)
-                    .body(query)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<List<IgdbExternalGameDto>>() {});
-
-            return result != null ? result : Collections.emptyList();
-        } catch (Exception e) {
-            log.error("Error executing IGDB external_games query: {}", e.getMessage(), e);
-            throw new IgdbApiException("Failed to fetch external games from IGDB", e);
-        }
-    }
-
-    private List<IgdbExternalGameDto> fetchExternalGamesBatch(List<Long> batch) {
-        RateLimiter.waitForPermission(rateLimiter);
-
-        String uids = batch.stream()
-                .map(appId -> "\"" + appId + "\"")
-                .collect(Collectors.joining(","));
-
-        String query = String.format("""
-                fields uid,game;
-                where external_game_source = %d & uid = (%s);
-                limit %d;
-                """, STEAM_EXTERNAL_GAME_SOURCE, uids, EXTERNAL_GAMES_BATCH_SIZE);
-
-        log.debug("Executing IGDB external_games query for {} appIds", batch.size());
-
-        try {
-            List<IgdbExternalGameDto> result = igdbClient.post()
-                    .uri("/external_games")
-                    .contentType(MediaType.TEXT_PLAIN)
-                    .body(query)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<List<IgdbExternalGameDto>>() {});
-
-            return result != null ? result : Collections.emptyList();
-        } catch (Exception e) {
-            log.error("Error executing IGDB external_games query: {}", e.getMessage(), e);
-            throw new IgdbApiException("Failed to fetch external games from IGDB", e);
-        }
-    }
-
     @Override
     public IgdbTimeToBeatDto fetchTimeToBeat(long igdbGameId) {
-        RateLimiter.waitForPermission(rateLimiter);
-
         String query = String.format("""
                 fields game_id, normally, hastily, completely;
                 where game_id = %d;
@@ -314,17 +329,8 @@ public class IgdbApiClientImpl implements IgdbApiClient {
                 """, igdbGameId);
 
         try {
-            List<IgdbTimeToBeatDto> result = igdbClient.post()
-                    .uri("/game_time_to_beat")
-                    .contentType(MediaType.TEXT_PLAIN)
-                    .body(query)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<List<IgdbTimeToBeatDto>>() {});
-
-            if (result == null || result.isEmpty()) {
-                return null;
-            }
-            return result.get(0);
+            List<IgdbTimeToBeatDto> result = limited(() -> post("/game_time_to_beat", query, TIME_TO_BEAT_LIST));
+            return result.isEmpty() ? null : result.get(0);
         } catch (Exception e) {
             log.warn("Failed to fetch time-to-beat for IGDB game {}: {}", igdbGameId, e.getMessage());
             return null;
@@ -339,52 +345,46 @@ public class IgdbApiClientImpl implements IgdbApiClient {
 
     @Override
     public Map<Long, IgdbTimeToBeatDto> fetchTimeToBeatForGames(Collection<Long> igdbGameIds) {
+        return await(fetchTimeToBeatForGamesAsync(igdbGameIds));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, IgdbTimeToBeatDto>> fetchTimeToBeatForGamesAsync(Collection<Long> igdbGameIds) {
         if (igdbGameIds == null || igdbGameIds.isEmpty()) {
-            return Collections.emptyMap();
+            return CompletableFuture.completedFuture(Collections.emptyMap());
         }
 
         List<Long> ordered = new ArrayList<>(igdbGameIds);
         log.info("Fetching time-to-beat for {} games from IGDB (batched)", ordered.size());
 
-        Map<Long, IgdbTimeToBeatDto> result = new HashMap<>();
-        for (int i = 0; i < ordered.size(); i += TIME_TO_BEAT_BATCH_SIZE) {
-            List<Long> batch = ordered.subList(
-                    i, Math.min(i + TIME_TO_BEAT_BATCH_SIZE, ordered.size()));
-            for (IgdbTimeToBeatDto ttb : fetchTimeToBeatBatch(batch)) {
+        List<CompletableFuture<List<IgdbTimeToBeatDto>>> batches = new ArrayList<>();
+        for (List<Long> batch : partition(ordered, TIME_TO_BEAT_BATCH_SIZE)) {
+            String ids = batch.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            String query = String.format("""
+                    fields game_id, normally, hastily, completely;
+                    where game_id = (%s);
+                    limit %d;
+                    """, ids, TIME_TO_BEAT_BATCH_SIZE);
+            // Best-effort: a failed batch only loses its own time-to-beat rows.
+            batches.add(coalesced("/game_time_to_beat", query,
+                    () -> post("/game_time_to_beat", query, TIME_TO_BEAT_LIST))
+                    .exceptionally(e -> {
+                        log.warn("Failed to fetch time-to-beat batch of {} games: {}", batch.size(), e.getMessage());
+                        return Collections.emptyList();
+                    }));
+        }
+
+        return concat(batches).thenApply(rows -> {
+            Map<Long, IgdbTimeToBeatDto> result = new HashMap<>();
+            for (IgdbTimeToBeatDto ttb : rows) {
                 if (ttb.gameId() != null) {
                     result.put(ttb.gameId(), ttb);
                 }
             }
-        }
-        return result;
-    }
-
-    private List<IgdbTimeToBeatDto> fetchTimeToBeatBatch(List<Long> batch) {
-        RateLimiter.waitForPermission(rateLimiter);
-
-        String ids = batch.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
-
-        String query = String.format("""
-                fields game_id, normally, hastily, completely;
-                where game_id = (%s);
-                limit %d;
-                """, ids, TIME_TO_BEAT_BATCH_SIZE);
-
-        try {
-            List<IgdbTimeToBeatDto> result = igdbClient.post()
-                    .uri("/game_time_to_beat")
-                    .contentType(MediaType.TEXT_PLAIN)
-                    .body(query)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<List<IgdbTimeToBeatDto>>() {});
-
-            return result != null ? result : Collections.emptyList();
-        } catch (Exception e) {
-            log.warn("Failed to fetch time-to-beat batch of {} games: {}", batch.size(), e.getMessage());
-            return Collections.emptyList();
-        }
+            return result;
+        });
     }
 
     /**
@@ -395,25 +395,108 @@ public class IgdbApiClientImpl implements IgdbApiClient {
      * @return list of games from the response
      */
     private List<IgdbGameDto> executeQuery(String endpoint, String query) {
-        // Wait for rate limiter permission
-        RateLimiter.waitForPermission(rateLimiter);
-
         log.debug("Executing IGDB query on {}: {}", endpoint, query.replace("\n", " "));
+        List<IgdbGameDto> result = limited(() -> post(endpoint, query, GAME_LIST));
+        log.debug("IGDB returned {} games", result.size());
+        return result;
+    }
+
+    /**
+     * Runs {@code query} on a virtual thread under the rate and concurrency limits, or
+     * joins the identical query if one is already in flight. The shared result is read-only.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> coalesced(String endpoint, String query, Supplier<T> call) {
+        String key = endpoint + '\n' + query;
+        CompletableFuture<T> request = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlight.putIfAbsent(key, request);
+        if (existing != null) {
+            log.debug("Joining in-flight IGDB query on {}", endpoint);
+            return (CompletableFuture<T>) existing;
+        }
 
+        requestExecutor.execute(() -> {
+            try {
+                T result = limited(call);
+                inFlight.remove(key, request);
+                request.complete(result);
+            } catch (Throwable e) {
+                inFlight.remove(key, request);
+                request.completeExceptionally(e);
+            }
+        });
+        return request;
+    }
+
+    /**
+     * Runs {@code call} once an in-flight slot and a rate-limiter permit are both available.
+     */
+    private <T> T limited(Supplier<T> call) {
+        try {
+            inFlightPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IgdbApiException("Interrupted while waiting for an IGDB request slot", e);
+        }
         try {
-            List<IgdbGameDto> result = igdbClient.post()
+            RateLimiter.waitForPermission(rateLimiter);
+            return call.get();
+        } finally {
+            inFlightPermits.release();
+        }
+    }
+
+    /**
+     * Posts an Apicalypse query and returns the (read-only, never null) result list.
+     */
+    private <T> List<T> post(String endpoint, String query, ParameterizedTypeReference<List<T>> type) {
+        try {
+            List<T> result = igdbClient.post()
                     .uri(endpoint)
                     .contentType(MediaType.TEXT_PLAIN)
                     .body(query)
                     .retrieve()
-                    .body(new ParameterizedTypeReference<List<IgdbGameDto>>() {});
-
-            log.debug("IGDB returned {} games", result != null ? result.size() : 0);
-            return result != null ? result : Collections.emptyList();
+                    .body(type);
 
+            return result != null ? Collections.unmodifiableList(result) : Collections.emptyList();
         } catch (Exception e) {
-            log.error("Error executing IGDB query: {}", e.getMessage(), e);
+            log.error("Error executing IGDB query on {}: {}", endpoint, e.getMessage(), e);
             throw new IgdbApiException("Failed to fetch data from IGDB", e);
         }
     }
+
+    /**
+     * Concatenates the batch results in submission order once every batch has completed.
+     */
+    private static <T> CompletableFuture<List<T>> concat(List<CompletableFuture<List<T>>> batches) {
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    List<T> all = new ArrayList<>();
+                    batches.forEach(batch -> all.addAll(batch.join()));
+                    return all;
+                });
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            batches.add(items.subList(i, Math.min(i + size, items.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Blocks for an async result, rethrowing the original failure rather than the
+     * {@link CompletionException} wrapper.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IgdbApiException("IGDB request failed", e.getCause());
+        }
+    }
 }
@@ -2,9 +2,11 @@ package com.checkpoint.api.client.impl;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.URLConnection;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
@@ -18,7 +20,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.xml.sax.InputSource;
 
+import com.checkpoint.api.client.ConditionalResponse;
+import com.checkpoint.api.client.HttpValidators;
 import com.checkpoint.api.client.RssFeedClient;
+import com.checkpoint.api.exceptions.RssFeedException;
 import com.rometools.modules.mediarss.MediaEntryModule;
 import com.rometools.modules.mediarss.MediaModule;
 import com.rometools.modules.mediarss.types.MediaContent;
@@ -35,53 +40,101 @@ import com.rometools.rome.io.SyndFeedInput;
 /**
  * ROME-backed implementation of {@link RssFeedClient}.
  *
- * <p>Each fetch opens the URL with a 10s connect/read timeout, parses the body with
- * ROME's {@link SyndFeedInput}, strips all HTML from the description (we store plain
+ * <p>Each fetch downloads the feed with a 10s connect/request timeout, parses the body
+ * with ROME's {@link SyndFeedInput}, strips all HTML from the description (we store plain
  * text — eliminates stored-XSS risk), and tries several sources to recover a usable
- * thumbnail URL. Any failure returns an empty list — callers decide how to react.</p>
+ * thumbnail URL.</p>
+ *
+ * <p>http(s) feeds go through a shared {@link HttpClient}, which blocks cheaply on the
+ * importer's virtual threads and sends the previous response's validators so an
+ * unchanged feed answers {@code 304} with no body. Other schemes ({@code file:} in
+ * tests) are read through {@link java.net.URL} without validators.</p>
  */
 @Component
 public class RssFeedClientImpl implements RssFeedClient {
 
     private static final Logger log = LoggerFactory.getLogger(RssFeedClientImpl.class);
 
-    private static final int TIMEOUT_MS = 10_000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
     private static final String USER_AGENT = "CheckPoint/1.0 (+https://checkpoint.local)";
+    private static final String ACCEPT = "application/rss+xml, application/atom+xml, application/xml;q=0.9, */*;q=0.8";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
 
     @Override
     public List<RssItem> fetch(String name, String url) {
+        try {
+            return fetchIfModified(name, url, HttpValidators.NONE).body();
+        } catch (RssFeedException e) {
+            log.warn("Failed to fetch/parse RSS feed '{}' ({}): {}", name, url, e.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public ConditionalResponse<List<RssItem>> fetchIfModified(String name, String url, HttpValidators validators) {
         log.debug("Fetching RSS feed '{}' from {}", name, url);
 
         try {
-            SyndFeed feed = readFeed(url);
-            List<RssItem> items = new ArrayList<>();
-            for (SyndEntry entry : feed.getEntries()) {
-                RssItem item = toRssItem(entry);
-                if (item != null) {
-                    items.add(item);
+            URI uri = URI.create(url);
+            String scheme = uri.getScheme();
+            if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+                try (InputStream in = uri.toURL().openStream()) {
+                    return ConditionalResponse.modified(parse(name, in), HttpValidators.NONE);
                 }
             }
-            log.debug("RSS feed '{}' returned {} item(s)", name, items.size());
-            return items;
+            return fetchOverHttp(name, uri, validators);
         } catch (IOException | FeedException | IllegalArgumentException e) {
-            log.warn("Failed to fetch/parse RSS feed '{}' ({}): {}", name, url, e.getMessage());
-            return List.of();
+            throw new RssFeedException("Failed to fetch/parse RSS feed '" + name + "': " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RssFeedException("Interrupted while fetching RSS feed '" + name + "'", e);
         }
     }
 
-    private SyndFeed readFeed(String url) throws IOException, FeedException {
-        URLConnection connection = URI.create(url).toURL().openConnection();
-        connection.setConnectTimeout(TIMEOUT_MS);
-        connection.setReadTimeout(TIMEOUT_MS);
-        connection.setRequestProperty("User-Agent", USER_AGENT);
-        connection.setRequestProperty("Accept", "application/rss+xml, application/atom+xml, application/xml;q=0.9, */*;q=0.8");
-        if (connection instanceof HttpURLConnection http) {
-            http.setInstanceFollowRedirects(true);
+    private ConditionalResponse<List<RssItem>> fetchOverHttp(String name, URI uri, HttpValidators validators)
+            throws IOException, FeedException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", ACCEPT);
+        if (validators.etag() != null) {
+            request.header("If-None-Match", validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            request.header("If-Modified-Since", validators.lastModified());
         }
-        try (InputStream in = connection.getInputStream()) {
-            SyndFeedInput input = new SyndFeedInput();
-            return input.build(new InputSource(in));
+
+        HttpResponse<InputStream> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream in = response.body()) {
+            String etag = response.headers().firstValue("ETag").orElse(null);
+            String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+            int status = response.statusCode();
+            if (status == 304) {
+                log.debug("RSS feed '{}' not modified", name);
+                return ConditionalResponse.notModified(validators.updatedWith(etag, lastModified));
+            }
+            if (status < 200 || status >= 300) {
+                throw new IOException("HTTP " + status);
+            }
+            return ConditionalResponse.modified(parse(name, in), new HttpValidators(etag, lastModified));
+        }
+    }
+
+    private List<RssItem> parse(String name, InputStream in) throws FeedException {
+        SyndFeed feed = new SyndFeedInput().build(new InputSource(in));
+        List<RssItem> items = new ArrayList<>();
+        for (SyndEntry entry : feed.getEntries()) {
+            RssItem item = toRssItem(entry);
+            if (item != null) {
+                items.add(item);
+            }
         }
+        log.debug("RSS feed '{}' returned {} item(s)", name, items.size());
+        return items;
     }
 
     private RssItem toRssItem(SyndEntry entry) {
@@ -6,9 +6,14 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import com.checkpoint.api.client.ConditionalResponse;
+import com.checkpoint.api.client.HttpValidators;
 import com.checkpoint.api.client.SteamNewsApiClient;
 import com.checkpoint.api.dto.steam.SteamNewsResponseDto;
 import com.checkpoint.api.exceptions.SteamApiException;
@@ -22,7 +27,8 @@ import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
  *
  * <p>Mirrors {@link SteamApiClientImpl}: same {@code steamClient} {@code RestClient}
  * bean, separate Resilience4j {@link RateLimiter} (1 req/s) so the news pass cannot
- * starve the profile-refresh pass.</p>
+ * starve the profile-refresh pass. The limiter is thread-safe, so the importer's
+ * parallel workers simply queue on it.</p>
  */
 @Component
 public class SteamNewsApiClientImpl implements SteamNewsApiClient {
@@ -50,26 +56,47 @@ public class SteamNewsApiClientImpl implements SteamNewsApiClient {
 
     @Override
     public List<SteamNewsResponseDto.NewsItem> fetchNewsForApp(long steamAppId, int count) {
+        return fetchNewsForAppIfModified(steamAppId, count, HttpValidators.NONE).body();
+    }
+
+    @Override
+    public ConditionalResponse<List<SteamNewsResponseDto.NewsItem>> fetchNewsForAppIfModified(
+            long steamAppId, int count, HttpValidators validators) {
         RateLimiter.waitForPermission(rateLimiter);
 
         log.debug("Fetching Steam news for appId {} (count={})", steamAppId, count);
 
         try {
-            SteamNewsResponseDto response = steamClient.get()
+            ResponseEntity<SteamNewsResponseDto> response = steamClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/ISteamNews/GetNewsForApp/v0002/")
                             .queryParam("appid", steamAppId)
                             .queryParam("count", count)
                             .queryParam("format", "json")
                             .build())
+                    .headers(headers -> {
+                        if (validators.etag() != null) {
+                            headers.set(HttpHeaders.IF_NONE_MATCH, validators.etag());
+                        }
+                        if (validators.lastModified() != null) {
+                            headers.set(HttpHeaders.IF_MODIFIED_SINCE, validators.lastModified());
+                        }
+                    })
                     .retrieve()
-                    .body(SteamNewsResponseDto.class);
+                    .toEntity(SteamNewsResponseDto.class);
 
-            if (response == null || response.appnews() == null
-                    || response.appnews().newsitems() == null) {
-                return List.of();
+            String etag = response.getHeaders().getFirst(HttpHeaders.ETAG);
+            String lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return ConditionalResponse.notModified(validators.updatedWith(etag, lastModified));
             }
-            return response.appnews().newsitems();
+
+            SteamNewsResponseDto body = response.getBody();
+            List<SteamNewsResponseDto.NewsItem> items = body == null || body.appnews() == null
+                    || body.appnews().newsitems() == null
+                    ? List.of()
+                    : body.appnews().newsitems();
+            return ConditionalResponse.modified(items, new HttpValidators(etag, lastModified));
         } catch (Exception e) {
             log.error("Error calling Steam GetNewsForApp for appId {}: {}", steamAppId, e.getMessage());
             throw new SteamApiException("Failed to fetch news from Steam", e);
@@ -17,7 +17,10 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class AsyncConfig {
 
     /**
-     * Creates a thread pool task executor for async event listeners.
+     * Creates a thread pool task executor for the remaining {@code @Async} work (catalog
+     * and trending listeners, scheduled index rebuilds). Gamification, badge, streak and
+     * notification handlers no longer run here: they go through the durable outbox
+     * ({@link com.checkpoint.api.services.OutboxService}).
      *
      * @return the configured executor
      */
@@ -27,15 +30,14 @@ public class AsyncConfig {
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("gamification-");
+        executor.setThreadNamePrefix("async-");
         executor.initialize();
         return executor;
     }
 
     /**
      * Dedicated single-thread executor for bulk-import jobs. Kept separate from
-     * {@link #taskExecutor()} (which serves gamification events) so a long import
-     * cannot starve event processing. The single thread also serializes imports:
+     * {@link #taskExecutor()} so a long import cannot starve event processing. The single thread also serializes imports:
      * only one runs at a time.
      *
      * @return the configured executor
@@ -51,6 +53,43 @@ public class AsyncConfig {
         return executor;
     }
 
+    /**
+     * Single-thread executor that fetches IGDB pages ahead of a running top-rated
+     * import, so the import thread persists one page while the next one is being
+     * downloaded. Separate from {@link #importExecutor()}, whose only thread is the
+     * one consuming the pages.
+     *
+     * @return the configured executor
+     */
+    @Bean(name = "igdbFetchExecutor")
+    public Executor igdbFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(3);
+        executor.setThreadNamePrefix("igdb-fetch-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for GDPR data exports. Kept apart from {@link #taskExecutor()} because an
+     * export holds a database connection for as long as it streams, and capped at two
+     * threads so concurrent exports cannot drain the connection pool.
+     *
+     * @return the configured executor
+     */
+    @Bean(name = "exportExecutor")
+    public Executor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("data-export-");
+        executor.initialize();
+        return executor;
+    }
+
     /**
      * Exposes the system UTC clock as a bean so time-dependent services can be
      * tested deterministically by replacing it with a fixed clock.
@@ -0,0 +1,114 @@
+package com.checkpoint.api.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.checkpoint.api.dto.catalog.RecommendedGameDto;
+import com.checkpoint.api.dto.catalog.VersionedGameDetailDto;
+import com.checkpoint.api.security.AuthenticatedUser;
+import com.checkpoint.api.utils.BoundedCache;
+
+/**
+ * Declares the in-process result caches. Each one is a {@link BoundedCache} bean so the
+ * admin analytics endpoint can report its hit / miss / eviction counters.
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Per-user personalised recommendation lists, invalidated by the user's own taste
+     * events; the TTL bounds staleness from catalog and rating drift.
+     *
+     * @param maxSize maximum number of users cached
+     * @param ttl     maximum age of a cached list
+     * @param clock   time source for the TTL
+     * @return the recommendation cache
+     */
+    @Bean
+    public BoundedCache<UUID, List<RecommendedGameDto>> recommendationCache(
+            @Value("${app.cache.recommendations.max-size:10000}") int maxSize,
+            @Value("${app.cache.recommendations.ttl:PT30M}") Duration ttl,
+            Clock clock) {
+        return new BoundedCache<>("recommendations", maxSize, ttl, clock);
+    }
+
+    /**
+     * Per-user sets of games excluded from recommendations (library, wishlist, favorites,
+     * backlog, ratings, game-likes), so rebuilding an expired recommendation list does not
+     * re-run the union over those tables. Evicted together with the user's
+     * recommendations; the TTL bounds staleness from writes on other instances.
+     *
+     * @param maxSize maximum number of users cached
+     * @param ttl     maximum age of a cached set
+     * @param clock   time source for the TTL
+     * @return the exclusion cache
+     */
+    @Bean
+    public BoundedCache<UUID, Set<UUID>> recommendationExclusionCache(
+            @Value("${app.cache.recommendation-exclusions.max-size:10000}") int maxSize,
+            @Value("${app.cache.recommendation-exclusions.ttl:PT1H}") Duration ttl,
+            Clock clock) {
+        return new BoundedCache<>("recommendation-exclusions", maxSize, ttl, clock);
+    }
+
+    /**
+     * JWT principals by email, so authenticated requests skip the {@code users} lookup.
+     * Evicted when an admin edits or bans a user and when an account is deleted; the
+     * TTL bounds staleness from any other change to the role.
+     *
+     * @param maxSize maximum number of users cached
+     * @param ttl     maximum age of a cached principal
+     * @param clock   time source for the TTL
+     * @return the principal cache
+     */
+    @Bean
+    public BoundedCache<String, AuthenticatedUser> principalCache(
+            @Value("${app.cache.principals.max-size:20000}") int maxSize,
+            @Value("${app.cache.principals.ttl:PT10M}") Duration ttl,
+            Clock clock) {
+        return new BoundedCache<>("principals", maxSize, ttl, clock);
+    }
+
+    /**
+     * Badges each user owns, as a bitmask of {@link com.checkpoint.api.enums.BadgeCode}
+     * ordinals, so badge rules can skip users who already have the badge. Bits are only
+     * set after the grant commits; badges are never revoked.
+     *
+     * @param maxSize maximum number of users cached
+     * @param ttl     maximum age of a cached mask
+     * @param clock   time source for the TTL
+     * @return the badge ownership cache
+     */
+    @Bean
+    public BoundedCache<UUID, Long> badgeOwnershipCache(
+            @Value("${app.cache.badge-ownership.max-size:20000}") int maxSize,
+            @Value("${app.cache.badge-ownership.ttl:PT1H}") Duration ttl,
+            Clock clock) {
+        return new BoundedCache<>("badge-ownership", maxSize, ttl, clock);
+    }
+
+    /**
+     * Game detail pages with their ETag, by game id. Evicted by imports, admin edits and
+     * deletes, and rating changes; the TTL bounds staleness from anything else (e.g.
+     * ratings removed with a deleted account).
+     *
+     * @param maxSize maximum number of games cached
+     * @param ttl     maximum age of a cached page
+     * @param clock   time source for the TTL
+     * @return the game detail cache
+     */
+    @Bean
+    public BoundedCache<UUID, VersionedGameDetailDto> gameDetailCache(
+            @Value("${app.cache.game-details.max-size:5000}") int maxSize,
+            @Value("${app.cache.game-details.ttl:PT1H}") Duration ttl,
+            Clock clock) {
+        return new BoundedCache<>("game-details", maxSize, ttl, clock);
+    }
+}
@@ -0,0 +1,36 @@
+package com.checkpoint.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.EngagementCounterService;
+
+/**
+ * Brings the like / comment / entry counters in line with the source tables at startup.
+ * The first run after the counter columns were added fills them in (they are created
+ * as zero); later runs only touch rows that drifted, and re-index the corrected lists.
+ */
+@Component
+@Order(3)
+public class EngagementCounterBackfill implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(EngagementCounterBackfill.class);
+
+    private final EngagementCounterService engagementCounterService;
+
+    public EngagementCounterBackfill(EngagementCounterService engagementCounterService) {
+        this.engagementCounterService = engagementCounterService;
+    }
+
+    @Override
+    public void run(String... args) {
+        try {
+            engagementCounterService.reconcileCounters();
+        } catch (Exception e) {
+            log.error("EngagementCounterBackfill: failed to reconcile engagement counters", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.checkpoint.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.FeedFanOutService;
+
+/**
+ * Seeds the materialized activity feed from the source tables on the first
+ * startup after it was introduced, so existing users do not see an empty feed
+ * until their follows become active again. Every later startup is a no-op.
+ */
+@Component
+@Order(1)
+public class FeedStoreBackfill implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedStoreBackfill.class);
+
+    private final FeedFanOutService feedFanOutService;
+
+    public FeedStoreBackfill(FeedFanOutService feedFanOutService) {
+        this.feedFanOutService = feedFanOutService;
+    }
+
+    @Override
+    public void run(String... args) {
+        try {
+            feedFanOutService.backfillIfEmpty();
+        } catch (Exception e) {
+            log.error("FeedStoreBackfill: failed to seed the feed store", e);
+        }
+    }
+}
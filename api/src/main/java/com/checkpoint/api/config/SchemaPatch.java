@@ -31,6 +31,7 @@ public class SchemaPatch implements CommandLineRunner {
     public void run(String... args) {
         createShedlockTable();
         dropNotNullOnNewsUserId();
+        backfillRatingCounts();
     }
 
     /**
@@ -65,4 +66,22 @@ public class SchemaPatch implements CommandLineRunner {
             log.debug("SchemaPatch: skipping news.user_id NOT NULL drop ({})", e.getMessage());
         }
     }
+
+    /**
+     * {@code video_games.rating_count} is maintained by the rating service; rows that
+     * predate the column come in as NULL and are counted once here. Only NULL rows are
+     * touched, so later startups are a no-op.
+     */
+    private void backfillRatingCounts() {
+        try {
+            int updated = jdbcTemplate.update("UPDATE video_games SET rating_count = " +
+                    "(SELECT COUNT(*) FROM rates r WHERE r.video_game_id = video_games.id) " +
+                    "WHERE rating_count IS NULL");
+            if (updated > 0) {
+                log.info("SchemaPatch: backfilled rating_count for {} games", updated);
+            }
+        } catch (Exception e) {
+            log.debug("SchemaPatch: skipping rating_count backfill ({})", e.getMessage());
+        }
+    }
 }
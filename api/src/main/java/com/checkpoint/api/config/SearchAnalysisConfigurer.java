@@ -0,0 +1,49 @@
+package com.checkpoint.api.config;
+
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.ngram.EdgeNGramFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * Custom Lucene analyzers, registered through
+ * {@code hibernate.search.backend.analysis.configurer}.
+ *
+ * <p>{@link #AUTOCOMPLETE} indexes every prefix of every word (2 to
+ * {@value #MAX_PREFIX_LENGTH} characters), so typeahead queries are plain term lookups
+ * instead of prefix or fuzzy scans. Queries go through {@link #AUTOCOMPLETE_QUERY},
+ * which tokenizes and folds the same way without expanding the typed words.</p>
+ *
+ * <p>{@link #LOWERCASE} normalizes keyword fields that are filtered case-insensitively,
+ * such as genre and platform names in the catalog.</p>
+ */
+public class SearchAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    public static final String AUTOCOMPLETE = "autocomplete";
+    public static final String AUTOCOMPLETE_QUERY = "autocomplete_query";
+    public static final String LOWERCASE = "lowercase";
+
+    public static final int MIN_PREFIX_LENGTH = 2;
+    public static final int MAX_PREFIX_LENGTH = 20;
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.analyzer(AUTOCOMPLETE).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class)
+                .tokenFilter(EdgeNGramFilterFactory.class)
+                        .param("minGramSize", String.valueOf(MIN_PREFIX_LENGTH))
+                        .param("maxGramSize", String.valueOf(MAX_PREFIX_LENGTH));
+
+        context.analyzer(AUTOCOMPLETE_QUERY).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class);
+
+        context.normalizer(LOWERCASE).custom()
+                .tokenFilter(LowerCaseFilterFactory.class);
+    }
+}
@@ -129,6 +129,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/lists/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/leaderboard/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/news/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/search/**").permitAll()
                         .requestMatchers("/uploads/**").permitAll()
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
@@ -0,0 +1,37 @@
+package com.checkpoint.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.TrendingScoreService;
+
+/**
+ * Seeds the hourly trending counters from the activity tables on the first startup
+ * after they were introduced, and builds the trending snapshot if none exists yet, so
+ * the homepage does not wait for the first scheduled refresh. Every later startup is
+ * a no-op.
+ */
+@Component
+@Order(2)
+public class TrendingStoreBackfill implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingStoreBackfill.class);
+
+    private final TrendingScoreService trendingScoreService;
+
+    public TrendingStoreBackfill(TrendingScoreService trendingScoreService) {
+        this.trendingScoreService = trendingScoreService;
+    }
+
+    @Override
+    public void run(String... args) {
+        try {
+            trendingScoreService.seedIfEmpty();
+        } catch (Exception e) {
+            log.error("TrendingStoreBackfill: failed to seed the trending store", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.checkpoint.api.controllers;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +12,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.checkpoint.api.dto.admin.AdminAnalyticsDto;
+import com.checkpoint.api.dto.admin.CacheStatsDto;
+import com.checkpoint.api.dto.admin.OutboxStatsDto;
+import com.checkpoint.api.dto.admin.SearchIndexStatusDto;
 import com.checkpoint.api.services.AdminAnalyticsService;
 
 /**
@@ -43,4 +48,41 @@ public class AdminAnalyticsController {
 
         return ResponseEntity.ok(analytics);
     }
+
+    /**
+     * Returns hit / miss / eviction counters for the in-process result caches.
+     *
+     * @return one entry per cache
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        log.info("Admin request: fetching cache statistics");
+
+        return ResponseEntity.ok(adminAnalyticsService.getCacheStats());
+    }
+
+    /**
+     * Returns backlog, lag and throughput of the domain-event outbox.
+     *
+     * @return the outbox statistics
+     */
+    @GetMapping("/outbox")
+    public ResponseEntity<OutboxStatsDto> getOutboxStats() {
+        log.info("Admin request: fetching outbox statistics");
+
+        return ResponseEntity.ok(adminAnalyticsService.getOutboxStats());
+    }
+
+    /**
+     * Returns whether the full-text search index has caught up with the database, with
+     * per-entity progress while it is catching up.
+     *
+     * @return the search index status
+     */
+    @GetMapping("/search-index")
+    public ResponseEntity<SearchIndexStatusDto> getSearchIndexStatus() {
+        log.info("Admin request: fetching search index status");
+
+        return ResponseEntity.ok(adminAnalyticsService.getSearchIndexStatus());
+    }
 }
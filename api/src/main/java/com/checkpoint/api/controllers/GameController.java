@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,8 +21,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.checkpoint.api.dto.catalog.GameCardDto;
+import com.checkpoint.api.dto.catalog.GameCatalogPageDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto;
 import com.checkpoint.api.dto.catalog.PagedResponseDto;
+import com.checkpoint.api.dto.catalog.VersionedGameDetailDto;
 import com.checkpoint.api.dto.list.GameListCardDto;
 import com.checkpoint.api.services.GameCatalogService;
 import com.checkpoint.api.services.GameListService;
@@ -72,7 +75,8 @@ public class GameController {
     }
 
     /**
-     * Retrieves a paginated list of games with optional filters.
+     * Retrieves a paginated list of games with optional filters, along with genre,
+     * platform and release year facet counts for those filters.
      *
      * @param page      the page number (0-based, default 0)
      * @param size      the page size (default 20, max 100)
@@ -83,10 +87,10 @@ public class GameController {
      * @param yearMax   optional maximum release year (inclusive)
      * @param ratingMin optional minimum average rating (inclusive)
      * @param ratingMax optional maximum average rating (inclusive)
-     * @return paginated list of game cards matching the filters
+     * @return paginated list of game cards matching the filters, with facet counts
      */
     @GetMapping
-    public ResponseEntity<PagedResponseDto<GameCardDto>> getGames(
+    public ResponseEntity<GameCatalogPageDto> getGames(
             @RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
             @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
             @RequestParam(defaultValue = DEFAULT_SORT) String sort,
@@ -106,10 +110,10 @@ public class GameController {
         int validatedPage = Math.max(0, page);
 
         Pageable pageable = createPageable(validatedPage, validatedSize, sort);
-        Page<GameCardDto> gamePage = gameCatalogService.getGameCatalog(
+        GameCatalogPageDto catalog = gameCatalogService.getGameCatalog(
                 pageable, genre, platform, yearMin, yearMax, ratingMin, ratingMax);
 
-        return ResponseEntity.ok(PagedResponseDto.from(gamePage));
+        return ResponseEntity.ok(catalog);
     }
 
     /**
@@ -187,6 +191,10 @@ public class GameController {
     /**
      * Retrieves detailed information about a specific game.
      *
+     * <p>The response carries a strong {@code ETag} and {@code Last-Modified}; Spring
+     * answers a matching {@code If-None-Match} with {@code 304 Not Modified}, which a
+     * cached game serves without a database query.</p>
+     *
      * @param id the game ID
      * @return game details
      */
@@ -194,8 +202,12 @@ public class GameController {
     public ResponseEntity<GameDetailDto> getGameById(@PathVariable UUID id) {
         log.info("GET /api/v1/games/{}", id);
 
-        GameDetailDto game = gameCatalogService.getGameDetails(id);
-        return ResponseEntity.ok(game);
+        VersionedGameDetailDto game = gameCatalogService.getGameDetails(id);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(game.eTag())
+                .lastModified(game.lastModified())
+                .body(game.detail());
     }
 
     /**
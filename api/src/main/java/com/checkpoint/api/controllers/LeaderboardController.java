@@ -5,6 +5,7 @@ import java.util.Locale;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,14 +16,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.checkpoint.api.dto.leaderboard.LeaderboardEntryDto;
+import com.checkpoint.api.dto.leaderboard.LeaderboardPositionDto;
 import com.checkpoint.api.services.LeaderboardService;
 import com.checkpoint.api.services.LeaderboardSortBy;
 
 /**
  * REST controller for the public XP / level leaderboard.
  *
- * <p>The endpoint is publicly accessible (no auth required). Banned users
- * are filtered out at the repository layer.</p>
+ * <p>The top-N endpoint is publicly accessible (no auth required); the viewer's own
+ * position requires authentication. Banned users are never ranked.</p>
  */
 @Tag(name = "Gamification", description = "Leaderboards")
 @RestController
@@ -35,6 +37,9 @@ public class LeaderboardController {
     private static final int MIN_LIMIT = 1;
     private static final int MAX_LIMIT = 100;
 
+    private static final int DEFAULT_RADIUS = 5;
+    private static final int MAX_RADIUS = 25;
+
     private final LeaderboardService leaderboardService;
 
     public LeaderboardController(LeaderboardService leaderboardService) {
@@ -83,6 +88,39 @@ public class LeaderboardController {
         return ResponseEntity.ok(leaderboardService.getLeaderboard(parsed, limit));
     }
 
+    /**
+     * Returns the authenticated viewer's rank and the users ranked just above and
+     * below them.
+     *
+     * @param sortBy      ranking criterion: {@code xp} (default) or {@code level}
+     * @param radius      users to include on each side of the viewer, 0..25 (default 5)
+     * @param following   when {@code true}, rank the viewer among the users they follow
+     * @param userDetails the authenticated user
+     * @return the viewer's position, or 401 when anonymous
+     */
+    @GetMapping("/me")
+    public ResponseEntity<LeaderboardPositionDto> getMyPosition(
+            @RequestParam(defaultValue = "xp") String sortBy,
+            @RequestParam(defaultValue = "" + DEFAULT_RADIUS) int radius,
+            @RequestParam(defaultValue = "false") boolean following,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        log.info("GET /api/v1/leaderboard/me - sortBy: {}, radius: {}, following: {}, viewer: {}",
+                sortBy, radius, following, userDetails.getUsername());
+
+        LeaderboardSortBy parsed = parseSortBy(sortBy);
+        if (radius < 0 || radius > MAX_RADIUS) {
+            throw new IllegalArgumentException("radius must be between 0 and " + MAX_RADIUS);
+        }
+
+        return ResponseEntity.ok(leaderboardService.getMyPosition(
+                userDetails.getUsername(), parsed, radius, following));
+    }
+
     private LeaderboardSortBy parseSortBy(String raw) {
         return switch (raw.toLowerCase(Locale.ROOT)) {
             case "xp" -> LeaderboardSortBy.XP;
@@ -1,11 +1,19 @@
 package com.checkpoint.api.controllers;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +23,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -24,9 +33,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.checkpoint.api.dto.catalog.CursorPagedResponseDto;
 import com.checkpoint.api.dto.catalog.GameCardDto;
 import com.checkpoint.api.dto.catalog.PagedResponseDto;
-import com.checkpoint.api.dto.export.UserDataExportDto;
+import com.checkpoint.api.dto.export.DataExportJobDto;
 import com.checkpoint.api.dto.profile.ProfileUpdatedDto;
 import com.checkpoint.api.dto.profile.UpdateProfileDto;
 import com.checkpoint.api.dto.social.FeedItemDto;
@@ -37,6 +47,7 @@ import com.checkpoint.api.services.DataExportService;
 import com.checkpoint.api.services.FeedService;
 import com.checkpoint.api.services.ProfileService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
@@ -52,6 +63,14 @@ public class MeController {
 
     private static final Logger log = LoggerFactory.getLogger(MeController.class);
 
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    // Request attributes of Tomcat's sendfile support (see Tomcat's Globals).
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final AccountService accountService;
     private final AuthService authService;
     private final DataExportService dataExportService;
@@ -101,31 +120,109 @@ public class MeController {
     }
 
     /**
-     * Returns the authenticated user's personal data in a single
-     * machine-readable JSON file (GDPR Article 20 — right to data portability).
+     * Starts preparing an export of the authenticated user's personal data as a
+     * single machine-readable JSON file (GDPR Article 20 — right to data
+     * portability), replacing their previous export.
      *
-     * <p>The response body is the export payload itself. The
-     * {@code Content-Disposition} header instructs the browser to save it as
-     * {@code checkpoint-export-YYYY-MM-DD.json} rather than render it inline.</p>
+     * <p>The export is written in the background; poll the URL in the
+     * {@code Location} header until its state is {@code COMPLETED}, then fetch
+     * its {@code downloadUrl}.</p>
      *
      * @param userDetails the authenticated user principal
-     * @return 200 OK with the export payload, served as a JSON download
+     * @return 202 Accepted with the initial job status; 409 if an export is
+     *         already being prepared
+     */
+    @PostMapping("/export")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<DataExportJobDto> requestExport(
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("POST /api/v1/me/export - user: {}", userDetails.getUsername());
+
+        DataExportJobDto job = dataExportService.requestExport(userDetails.getUsername());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/me/export/" + job.jobId()))
+                .body(job);
+    }
+
+    /**
+     * Returns the status of the authenticated user's latest data export.
+     *
+     * @param userDetails the authenticated user principal
+     * @return 200 with the job status, or 404 if the user has no unexpired export
      */
     @GetMapping("/export")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<UserDataExportDto> exportData(
+    public ResponseEntity<DataExportJobDto> getLatestExport(
             @AuthenticationPrincipal UserDetails userDetails) {
+        return dataExportService.findLatestExport(userDetails.getUsername())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Returns the status of one of the authenticated user's data exports.
+     *
+     * @param userDetails the authenticated user principal
+     * @param jobId       the job identifier
+     * @return 200 with the job status, or 404 if unknown, expired or not the user's
+     */
+    @GetMapping("/export/{jobId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<DataExportJobDto> getExport(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable UUID jobId) {
+        return dataExportService.findExport(userDetails.getUsername(), jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 
-        log.info("GET /api/v1/me/export - user: {}", userDetails.getUsername());
+    /**
+     * Downloads a completed data export as
+     * {@code checkpoint-export-YYYY-MM-DD.json.gz}.
+     *
+     * <p>When the servlet container supports it (Tomcat's NIO connector does by
+     * default), the file is handed to the container's sendfile support and copied
+     * to the socket by the kernel without passing through the JVM heap. Otherwise
+     * it is streamed from disk.</p>
+     *
+     * @param userDetails the authenticated user principal
+     * @param jobId       the job identifier
+     * @param request     the HTTP request, used to detect sendfile support
+     * @return 200 with the gzipped JSON file, or 404 if the export is not the
+     *         user's, not completed yet, or expired
+     * @throws IOException if the file cannot be resolved on disk
+     */
+    @GetMapping("/export/{jobId}/download")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Resource> downloadExport(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable UUID jobId,
+            HttpServletRequest request) throws IOException {
+
+        log.info("GET /api/v1/me/export/{}/download - user: {}", jobId, userDetails.getUsername());
 
-        UserDataExportDto export = dataExportService.exportForUser(userDetails.getUsername());
-        String filename = "checkpoint-export-" + LocalDate.now() + ".json";
+        Optional<Path> file = dataExportService.findExportFile(userDetails.getUsername(), jobId);
+        if (file.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
 
-        return ResponseEntity.ok()
+        Path path = file.get().toRealPath();
+        long size = Files.size(path);
+        String filename = "checkpoint-export-" + LocalDate.now() + ".json.gz";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "attachment; filename=\"" + filename + "\"")
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(export);
+                .contentType(GZIP)
+                .contentLength(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return response.build();
+        }
+        return response.body(new FileSystemResource(path));
     }
 
     /**
@@ -204,6 +301,31 @@ public class MeController {
         return ResponseEntity.ok(feed);
     }
 
+    /**
+     * Returns the activity feed with keyset (cursor) pagination, for infinite scrolling.
+     * Pass the {@code nextCursor} of a response to get the following page.
+     *
+     * @param userDetails the authenticated user
+     * @param cursor      the cursor returned by the previous page (omit for the first page)
+     * @param size        the page size (default 20, max 50)
+     * @param type        optional activity type filter (null = all types)
+     * @return the feed items and the cursor of the next page
+     */
+    @GetMapping("/feed/scroll")
+    public ResponseEntity<CursorPagedResponseDto<FeedItemDto>> scrollFeed(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) FeedItemType type) {
+
+        log.info("GET /api/v1/me/feed/scroll - user: {}, size: {}, type: {}",
+                userDetails.getUsername(), size, type);
+
+        CursorPagedResponseDto<FeedItemDto> feed = feedService.scrollFeed(
+                userDetails.getUsername(), cursor, size, type);
+        return ResponseEntity.ok(feed);
+    }
+
     /**
      * Returns trending games among the authenticated user's followed users.
      * Uses the same weighted scoring as global trending but filtered to the follow graph.
@@ -0,0 +1,52 @@
+package com.checkpoint.api.controllers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.checkpoint.api.dto.search.SearchSuggestionsDto;
+import com.checkpoint.api.services.SearchSuggestionService;
+
+/**
+ * REST controller for the global search box. Publicly accessible.
+ */
+@Tag(name = "Search", description = "Typeahead suggestions across games, lists and members")
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchController.class);
+
+    private static final int DEFAULT_LIMIT = 5;
+    private static final int MAX_LIMIT = 10;
+
+    private final SearchSuggestionService searchSuggestionService;
+
+    public SearchController(SearchSuggestionService searchSuggestionService) {
+        this.searchSuggestionService = searchSuggestionService;
+    }
+
+    /**
+     * Suggests games, public lists and members as the user types. Called on every
+     * keystroke, so it is logged at debug level only.
+     *
+     * @param q     the text typed so far
+     * @param limit the number of suggestions per group (default 5, clamped to 1..10)
+     * @return the suggestions grouped by kind
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<SearchSuggestionsDto> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+
+        log.debug("GET /api/v1/search/suggest - q: '{}', limit: {}", q, limit);
+
+        int clampedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok(searchSuggestionService.suggest(q, clampedLimit));
+    }
+}
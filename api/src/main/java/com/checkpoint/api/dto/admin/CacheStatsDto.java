@@ -0,0 +1,22 @@
+package com.checkpoint.api.dto.admin;
+
+/**
+ * DTO exposing the counters of one in-process cache on the admin dashboard.
+ *
+ * @param name          the cache's name
+ * @param size          number of entries currently held
+ * @param maxSize       capacity before least-recently-used entries are evicted
+ * @param hits          lookups served from the cache
+ * @param misses        lookups that had to be computed
+ * @param evictions     entries dropped for capacity or age
+ * @param invalidations entries dropped because their source data changed
+ */
+public record CacheStatsDto(
+        String name,
+        int size,
+        int maxSize,
+        long hits,
+        long misses,
+        long evictions,
+        long invalidations
+) {}
@@ -0,0 +1,22 @@
+package com.checkpoint.api.dto.admin;
+
+/**
+ * DTO exposing the state of the domain-event outbox on the admin dashboard.
+ *
+ * @param pending             deliveries waiting to be handled, retries included
+ * @param deadLettered        deliveries that exhausted their retries
+ * @param lagMillis           age of the oldest pending delivery, 0 when the outbox is empty
+ * @param handledLastMinute   deliveries handled by this instance in the last minute
+ * @param handledTotal        deliveries handled by this instance since startup
+ * @param failedTotal         failed delivery attempts on this instance since startup
+ * @param workers             size of the partitioned worker pool
+ */
+public record OutboxStatsDto(
+        long pending,
+        long deadLettered,
+        long lagMillis,
+        long handledLastMinute,
+        long handledTotal,
+        long failedTotal,
+        int workers
+) {}
@@ -0,0 +1,19 @@
+package com.checkpoint.api.dto.admin;
+
+/**
+ * DTO exposing the catch-up progress of one indexed entity.
+ *
+ * @param entity    the entity name
+ * @param mode      {@code INCREMENTAL} when only changed rows are re-indexed, {@code FULL}
+ *                  when the entity is mass-indexed from scratch, {@code null} until it starts
+ * @param total     documents to write in this catch-up
+ * @param indexed   documents written so far
+ * @param completed whether the entity has caught up
+ */
+public record SearchIndexEntityStatusDto(
+        String entity,
+        String mode,
+        long total,
+        long indexed,
+        boolean completed
+) {}
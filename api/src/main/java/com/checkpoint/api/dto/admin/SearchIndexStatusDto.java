@@ -0,0 +1,23 @@
+package com.checkpoint.api.dto.admin;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO exposing the state of the full-text search index on the admin dashboard.
+ *
+ * @param state        {@code CATCHING_UP}, {@code READY} or {@code FAILED}
+ * @param degraded     whether search may currently return stale or incomplete results
+ * @param startedAt    when the last catch-up started, {@code null} before the first one
+ * @param finishedAt   when the last catch-up finished, {@code null} while it is running
+ * @param errorMessage why the last catch-up failed, {@code null} otherwise
+ * @param entities     progress of each indexed entity during the last catch-up
+ */
+public record SearchIndexStatusDto(
+        String state,
+        boolean degraded,
+        Instant startedAt,
+        Instant finishedAt,
+        String errorMessage,
+        List<SearchIndexEntityStatusDto> entities
+) {}
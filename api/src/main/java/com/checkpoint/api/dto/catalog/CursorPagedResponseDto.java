@@ -0,0 +1,20 @@
+package com.checkpoint.api.dto.catalog;
+
+import java.util.List;
+
+/**
+ * Generic DTO for keyset-paginated responses. Unlike {@link PagedResponseDto}
+ * there is no total count: the client passes {@code nextCursor} back to get
+ * the following page until {@code hasNext} is false.
+ *
+ * @param content    the items of this page
+ * @param nextCursor opaque cursor for the next page (null when there is none)
+ * @param hasNext    whether another page exists
+ * @param <T> the type of content in the page
+ */
+public record CursorPagedResponseDto<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,12 @@
+package com.checkpoint.api.dto.catalog;
+
+/**
+ * One value of a catalog facet with the number of games that have it.
+ *
+ * @param value the facet value: a genre or platform name, or a release year
+ * @param count the number of matching games with that value
+ */
+public record FacetCountDto(
+        String value,
+        long count
+) {}
@@ -0,0 +1,19 @@
+package com.checkpoint.api.dto.catalog;
+
+import java.util.List;
+
+/**
+ * Facet counts returned alongside a catalog page.
+ *
+ * <p>Each facet counts the games matching every filter except its own, so selecting
+ * a genre still shows how many games the other genres would add.</p>
+ *
+ * @param genres    genre names, most games first
+ * @param platforms platform names, most games first
+ * @param years     release years, most recent first
+ */
+public record GameCatalogFacetsDto(
+        List<FacetCountDto> genres,
+        List<FacetCountDto> platforms,
+        List<FacetCountDto> years
+) {}
@@ -0,0 +1,33 @@
+package com.checkpoint.api.dto.catalog;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import com.checkpoint.api.dto.catalog.PagedResponseDto.PageMetadata;
+
+/**
+ * A page of the game catalog with its facet counts. Same shape as
+ * {@link PagedResponseDto} plus {@code facets}.
+ *
+ * @param content  the game cards of this page
+ * @param metadata pagination metadata
+ * @param facets   genre, platform and release year counts for the current filters
+ */
+public record GameCatalogPageDto(
+        List<GameCardDto> content,
+        PageMetadata metadata,
+        GameCatalogFacetsDto facets
+) {
+    /**
+     * Creates a GameCatalogPageDto from a Spring Page and its facets.
+     *
+     * @param page   the Spring Page
+     * @param facets the facet counts
+     * @return a GameCatalogPageDto
+     */
+    public static GameCatalogPageDto from(Page<GameCardDto> page, GameCatalogFacetsDto facets) {
+        PagedResponseDto<GameCardDto> paged = PagedResponseDto.from(page);
+        return new GameCatalogPageDto(paged.content(), paged.metadata(), facets);
+    }
+}
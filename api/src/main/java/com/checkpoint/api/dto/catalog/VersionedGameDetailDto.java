@@ -0,0 +1,17 @@
+package com.checkpoint.api.dto.catalog;
+
+import java.time.Instant;
+
+/**
+ * A {@link GameDetailDto} with the validators sent as {@code ETag} / {@code Last-Modified}
+ * headers, so conditional requests can be answered from the cache.
+ *
+ * @param detail       the game details
+ * @param eTag         strong, quoted entity tag derived from the details' content
+ * @param lastModified the game's last update, ratings included
+ */
+public record VersionedGameDetailDto(
+        GameDetailDto detail,
+        String eTag,
+        Instant lastModified
+) {}
@@ -0,0 +1,34 @@
+package com.checkpoint.api.dto.export;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of an asynchronous GDPR data export, returned by
+ * {@code POST /api/v1/me/export} (202 Accepted) and polled via
+ * {@code GET /api/v1/me/export/{jobId}}.
+ *
+ * @param jobId             the job identifier (UUID string)
+ * @param state             the job state ({@code PENDING}, {@code RUNNING}, {@code COMPLETED}, {@code FAILED})
+ * @param sectionsCompleted the number of data categories written so far
+ * @param totalSections     the number of data categories in an export
+ * @param recordsWritten    the number of rows written so far, across all categories
+ * @param sizeBytes         the size of the compressed file once completed, else {@code null}
+ * @param downloadUrl       where to download the file once completed, else {@code null}
+ * @param errorMessage      a fatal error message when the job failed, else {@code null}
+ * @param startedAt         when the job was created
+ * @param finishedAt        when the job reached a terminal state, or {@code null} while running
+ * @param expiresAt         when the file is deleted, or {@code null} while running
+ */
+public record DataExportJobDto(
+        String jobId,
+        String state,
+        int sectionsCompleted,
+        int totalSections,
+        long recordsWritten,
+        Long sizeBytes,
+        String downloadUrl,
+        String errorMessage,
+        Instant startedAt,
+        Instant finishedAt,
+        Instant expiresAt
+) {}
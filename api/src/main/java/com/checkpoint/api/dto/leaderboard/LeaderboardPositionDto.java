@@ -0,0 +1,19 @@
+package com.checkpoint.api.dto.leaderboard;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO describing where the viewer stands on a leaderboard.
+ *
+ * @param rank    the viewer's 1-based rank, or {@code null} when they are not ranked
+ * @param total   the number of ranked users, when known
+ * @param entries the viewer and the users ranked just above and below them
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LeaderboardPositionDto(
+        Integer rank,
+        Integer total,
+        List<LeaderboardEntryDto> entries
+) {}
@@ -0,0 +1,19 @@
+package com.checkpoint.api.dto.search;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A game suggested while the user types in the search box.
+ *
+ * @param id          the game's UUID
+ * @param title       the game's title
+ * @param coverUrl    the cover image URL (nullable)
+ * @param releaseDate the release date (nullable)
+ */
+public record GameSuggestionDto(
+        UUID id,
+        String title,
+        String coverUrl,
+        LocalDate releaseDate
+) {}
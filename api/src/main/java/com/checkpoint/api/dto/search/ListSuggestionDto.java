@@ -0,0 +1,18 @@
+package com.checkpoint.api.dto.search;
+
+import java.util.UUID;
+
+/**
+ * A public game list suggested while the user types in the search box.
+ *
+ * @param id           the list's UUID
+ * @param title        the list's title
+ * @param authorPseudo the pseudo of the list's author
+ * @param likesCount   the number of likes on the list
+ */
+public record ListSuggestionDto(
+        UUID id,
+        String title,
+        String authorPseudo,
+        Integer likesCount
+) {}
@@ -0,0 +1,18 @@
+package com.checkpoint.api.dto.search;
+
+import java.util.UUID;
+
+/**
+ * A member suggested while the user types in the search box.
+ *
+ * @param id      the user's UUID
+ * @param pseudo  the user's display name
+ * @param picture the user's profile picture URL (nullable)
+ * @param level   the user's level
+ */
+public record MemberSuggestionDto(
+        UUID id,
+        String pseudo,
+        String picture,
+        Integer level
+) {}
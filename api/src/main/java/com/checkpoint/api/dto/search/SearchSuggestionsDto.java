@@ -0,0 +1,17 @@
+package com.checkpoint.api.dto.search;
+
+import java.util.List;
+
+/**
+ * Typeahead suggestions for the global search box, grouped by kind. Each group is
+ * ordered best match first.
+ *
+ * @param games   matching games
+ * @param lists   matching public lists
+ * @param members matching members
+ */
+public record SearchSuggestionsDto(
+        List<GameSuggestionDto> games,
+        List<ListSuggestionDto> lists,
+        List<MemberSuggestionDto> members
+) {}
@@ -14,6 +14,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
  * @param followerCount the number of followers
  * @param reviewCount   the number of reviews written
  * @param isFollowing   whether the authenticated viewer follows this user (null if not authenticated)
+ * @param affinityScore estimated 0–100 overlap of the viewer's games with this user's (suggestions only)
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record MemberCardDto(
@@ -23,5 +24,6 @@ public record MemberCardDto(
         Integer level,
         Long followerCount,
         Long reviewCount,
-        Boolean isFollowing
+        Boolean isFollowing,
+        Integer affinityScore
 ) {}
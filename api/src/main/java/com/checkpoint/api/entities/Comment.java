@@ -43,6 +43,16 @@ public class Comment {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Counter columns are written only through EngagementCounterService's bulk updates,
+    // never from the entity, so a stale copy can't overwrite a concurrent increment.
+    @Column(name = "likes_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private int likesCount;
+
+    @Column(name = "replies_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private int repliesCount;
+
     // Relationship: Comment is posted by one user
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -215,4 +225,20 @@ public class Comment {
     public void setReports(Set<Report> reports) {
         this.reports = reports;
     }
+
+    public int getLikesCount() {
+        return likesCount;
+    }
+
+    public void setLikesCount(int likesCount) {
+        this.likesCount = likesCount;
+    }
+
+    public int getRepliesCount() {
+        return repliesCount;
+    }
+
+    public void setRepliesCount(int repliesCount) {
+        this.repliesCount = repliesCount;
+    }
 }
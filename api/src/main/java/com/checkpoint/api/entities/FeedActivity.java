@@ -0,0 +1,136 @@
+package com.checkpoint.api.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.checkpoint.api.enums.FeedItemType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One feed-visible activity performed by a user (a play, a rating, a review,
+ * a public list or a game like), stored once regardless of how many followers
+ * will see it.
+ *
+ * <p>The primary key is the ID of the source row ({@code user_game_plays.id},
+ * {@code rates.id}, ...), so re-recording the same activity (e.g. a re-rate)
+ * updates the row in place instead of duplicating it. Per-follower visibility
+ * lives in {@link FeedEntry}.</p>
+ */
+@Entity
+@Table(
+        name = "feed_activities",
+        indexes = {
+                @Index(name = "idx_feed_activities_user_created", columnList = "user_id, created_at"),
+                @Index(name = "idx_feed_activities_created", columnList = "created_at")
+        }
+)
+public class FeedActivity {
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FeedItemType type;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "video_game_id")
+    private UUID videoGameId;
+
+    // Type-specific text: play status, raw score, review excerpt or list title.
+    @Column(length = 255)
+    private String detail;
+
+    // REVIEW only.
+    @Column(name = "have_spoilers")
+    private Boolean haveSpoilers;
+
+    // REVIEW only — the play log the review is attached to.
+    @Column(name = "play_log_id")
+    private UUID playLogId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public FeedActivity() {}
+
+    public FeedActivity(UUID id, FeedItemType type, UUID userId, LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.userId = userId;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public FeedItemType getType() {
+        return type;
+    }
+
+    public void setType(FeedItemType type) {
+        this.type = type;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public void setVideoGameId(UUID videoGameId) {
+        this.videoGameId = videoGameId;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    public Boolean getHaveSpoilers() {
+        return haveSpoilers;
+    }
+
+    public void setHaveSpoilers(Boolean haveSpoilers) {
+        this.haveSpoilers = haveSpoilers;
+    }
+
+    public UUID getPlayLogId() {
+        return playLogId;
+    }
+
+    public void setPlayLogId(UUID playLogId) {
+        this.playLogId = playLogId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
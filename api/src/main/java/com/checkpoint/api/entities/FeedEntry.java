@@ -0,0 +1,132 @@
+package com.checkpoint.api.entities;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.checkpoint.api.enums.FeedItemType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Materialized feed inbox row: "{@code ownerId} should see {@code activityId}".
+ *
+ * <p>Rows are fanned out on write — one per follower of the actor — so that
+ * reading a feed page is a single range scan over
+ * {@code (owner_id, created_at, activity_id)}. {@code type} and {@code createdAt}
+ * are copied from the {@link FeedActivity} so the type filter and the keyset
+ * cursor are both answered from the index; {@code actorId} is copied so an
+ * unfollow can drop the followee's rows without touching {@code feed_activities}.</p>
+ */
+@Entity
+@IdClass(FeedEntry.Key.class)
+@Table(
+        name = "feed_entries",
+        indexes = {
+                @Index(name = "idx_feed_entries_owner_created", columnList = "owner_id, created_at, activity_id"),
+                @Index(name = "idx_feed_entries_owner_type_created", columnList = "owner_id, type, created_at, activity_id"),
+                @Index(name = "idx_feed_entries_activity", columnList = "activity_id")
+        }
+)
+public class FeedEntry {
+
+    @Id
+    @Column(name = "owner_id", nullable = false)
+    private UUID ownerId;
+
+    @Id
+    @Column(name = "activity_id", nullable = false)
+    private UUID activityId;
+
+    @Column(name = "actor_id", nullable = false)
+    private UUID actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FeedItemType type;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public FeedEntry() {}
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(UUID ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public UUID getActivityId() {
+        return activityId;
+    }
+
+    public void setActivityId(UUID activityId) {
+        this.activityId = activityId;
+    }
+
+    public UUID getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(UUID actorId) {
+        this.actorId = actorId;
+    }
+
+    public FeedItemType getType() {
+        return type;
+    }
+
+    public void setType(FeedItemType type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Composite primary key of {@link FeedEntry}.
+     */
+    public static class Key implements Serializable {
+
+        private UUID ownerId;
+        private UUID activityId;
+
+        public Key() {}
+
+        public Key(UUID ownerId, UUID activityId) {
+            this.ownerId = ownerId;
+            this.activityId = activityId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return Objects.equals(ownerId, other.ownerId) && Objects.equals(activityId, other.activityId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ownerId, activityId);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.checkpoint.api.entities;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Hourly trending counter: the weighted activity points a game collected during the
+ * hour starting at {@code bucketStart}.
+ *
+ * <p>Incremented in place as activity happens, so the trending snapshot is computed
+ * from at most {@code 7 * 24} small rows per active game instead of re-counting every
+ * activity table. Buckets older than the trending window are purged on refresh.</p>
+ */
+@Entity
+@IdClass(GameActivityBucket.Key.class)
+@Table(
+        name = "game_activity_buckets",
+        indexes = {
+                @Index(name = "idx_game_activity_buckets_start", columnList = "bucket_start")
+        }
+)
+public class GameActivityBucket {
+
+    @Id
+    @Column(name = "video_game_id", nullable = false)
+    private UUID videoGameId;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long points;
+
+    public GameActivityBucket() {}
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public void setVideoGameId(UUID videoGameId) {
+        this.videoGameId = videoGameId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getPoints() {
+        return points;
+    }
+
+    public void setPoints(long points) {
+        this.points = points;
+    }
+
+    /**
+     * Composite primary key of {@link GameActivityBucket}.
+     */
+    public static class Key implements Serializable {
+
+        private UUID videoGameId;
+        private LocalDateTime bucketStart;
+
+        public Key() {}
+
+        public Key(UUID videoGameId, LocalDateTime bucketStart) {
+            this.videoGameId = videoGameId;
+            this.bucketStart = bucketStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return Objects.equals(videoGameId, other.videoGameId) && Objects.equals(bucketStart, other.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(videoGameId, bucketStart);
+        }
+    }
+}
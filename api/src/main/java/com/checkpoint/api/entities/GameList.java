@@ -7,7 +7,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
-import org.hibernate.annotations.Formula;
+import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
@@ -17,6 +17,8 @@ import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmb
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
+import com.checkpoint.api.config.SearchAnalysisConfigurer;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -41,7 +43,9 @@ public class GameList {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @FullTextField
+    @FullTextField(projectable = Projectable.YES)
+    @FullTextField(name = "titleSuggest", analyzer = SearchAnalysisConfigurer.AUTOCOMPLETE,
+            searchAnalyzer = SearchAnalysisConfigurer.AUTOCOMPLETE_QUERY)
     @KeywordField(name = "titleSort", sortable = Sortable.YES)
     @Column(nullable = false)
     private String title;
@@ -61,21 +65,26 @@ public class GameList {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    // @Formula values are recomputed on entity load; @IndexingDependency(reindexOnUpdate = NO)
-    // tells Hibernate Search not to auto-reindex on field change (it cannot detect formula
-    // changes anyway). The index is refreshed by the startup mass-indexer and by explicit
-    // addOrUpdate calls from GameListServiceImpl after add/remove/reorder operations.
+    // Counter columns are written only through EngagementCounterService's bulk updates
+    // (never from the entity, so a stale copy can't overwrite a concurrent increment).
+    // @IndexingDependency(reindexOnUpdate = NO) because Hibernate Search cannot see bulk
+    // updates: the index is refreshed by explicit addOrUpdate calls from GameListServiceImpl /
+    // LikeServiceImpl after each change, and by EngagementCounterServiceImpl after a recount.
     @GenericField(sortable = Sortable.YES)
     @IndexingDependency(reindexOnUpdate = ReindexOnUpdate.NO)
-    @Formula("(SELECT COUNT(*) FROM game_list_entries gle WHERE gle.list_id = id)")
-    private Integer videoGamesCount;
+    @Column(name = "video_games_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private Integer videoGamesCount = 0;
 
-    // Refreshed from LikeServiceImpl after every toggle on a list. Same indexing strategy
-    // as videoGamesCount: mass-index on startup, explicit addOrUpdate on change.
-    @GenericField(sortable = Sortable.YES)
+    @GenericField(projectable = Projectable.YES, sortable = Sortable.YES)
     @IndexingDependency(reindexOnUpdate = ReindexOnUpdate.NO)
-    @Formula("(SELECT COUNT(*) FROM likes l WHERE l.list_id = id)")
-    private Integer likesCount;
+    @Column(name = "likes_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private Integer likesCount = 0;
+
+    @Column(name = "comments_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private Integer commentsCount = 0;
 
     // Relationship: List is created by one user.
     // includeEmbeddedObjectId exposes the user's @Id as "user.id" (used for visibility=mine),
@@ -201,7 +210,23 @@ public class GameList {
         return videoGamesCount != null ? videoGamesCount : 0;
     }
 
+    public void setVideoGamesCount(Integer videoGamesCount) {
+        this.videoGamesCount = videoGamesCount;
+    }
+
     public Integer getLikesCount() {
         return likesCount != null ? likesCount : 0;
     }
+
+    public void setLikesCount(Integer likesCount) {
+        this.likesCount = likesCount;
+    }
+
+    public Integer getCommentsCount() {
+        return commentsCount != null ? commentsCount : 0;
+    }
+
+    public void setCommentsCount(Integer commentsCount) {
+        this.commentsCount = commentsCount;
+    }
 }
@@ -0,0 +1,82 @@
+package com.checkpoint.api.entities;
+
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Running rating aggregate of a video game: how many ratings it has, the sum of their
+ * raw scores and how many ratings were given for each score.
+ *
+ * <p>Shifted in place by the rating service, in the same statement that refreshes
+ * {@code video_games.average_rating} and {@code rating_count}, so a rating write or a
+ * game page never aggregates the game's rates. A missing row means "not built yet": it
+ * is computed from the {@code rates} table on the game's next rating, or by the
+ * backfill job.</p>
+ */
+@Entity
+@Table(name = "game_rating_stats")
+public class GameRatingStats {
+
+    /** Number of distinct raw scores (1-10, half-star steps). */
+    public static final int SCORES = 10;
+
+    @Id
+    @Column(name = "video_game_id", nullable = false)
+    private UUID videoGameId;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    // histogram[i] = number of ratings with raw score i + 1
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "histogram", nullable = false)
+    private long[] histogram = new long[SCORES];
+
+    public GameRatingStats() {}
+
+    public GameRatingStats(UUID videoGameId) {
+        this.videoGameId = videoGameId;
+    }
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public void setVideoGameId(UUID videoGameId) {
+        this.videoGameId = videoGameId;
+    }
+
+    public long getRatingCount() {
+        return ratingCount;
+    }
+
+    public void setRatingCount(long ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+
+    public long getScoreSum() {
+        return scoreSum;
+    }
+
+    public void setScoreSum(long scoreSum) {
+        this.scoreSum = scoreSum;
+    }
+
+    public long[] getHistogram() {
+        return histogram;
+    }
+
+    public void setHistogram(long[] histogram) {
+        this.histogram = histogram;
+    }
+}
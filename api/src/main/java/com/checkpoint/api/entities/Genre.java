@@ -7,8 +7,11 @@ import java.util.UUID;
 
 import org.hibernate.annotations.Formula;
 
+import org.hibernate.search.engine.backend.types.Aggregable;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
+import com.checkpoint.api.config.SearchAnalysisConfigurer;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -27,7 +30,10 @@ public class Genre {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @KeywordField
+    // Embedded in the VideoGame index: "name" feeds the catalog facet counts,
+    // "nameNormalized" the case-insensitive catalog filter.
+    @KeywordField(aggregable = Aggregable.YES)
+    @KeywordField(name = "nameNormalized", normalizer = SearchAnalysisConfigurer.LOWERCASE)
     @Column(nullable = false, unique = true)
     private String name;
 
@@ -0,0 +1,121 @@
+package com.checkpoint.api.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.checkpoint.api.client.HttpValidators;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * HTTP cache validators of one news source — an RSS feed (keyed by URL) or a Steam app
+ * (keyed by appId) — as returned by its last full download.
+ *
+ * <p>The importer replays them as {@code If-None-Match} / {@code If-Modified-Since}, so a
+ * source that has not changed since answers {@code 304} and is skipped without parsing
+ * or dedup lookups. A missing row means the next request is unconditional.</p>
+ */
+@Entity
+@Table(name = "news_fetch_states", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_news_fetch_states_source_key", columnNames = {"source", "source_key"})
+})
+public class NewsFetchState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    private NewsSource source;
+
+    @Column(name = "source_key", nullable = false, length = 2048)
+    private String sourceKey;
+
+    @Column(name = "etag", length = 512)
+    private String etag;
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    public NewsFetchState() {}
+
+    public NewsFetchState(NewsSource source, String sourceKey) {
+        this.source = source;
+        this.sourceKey = sourceKey;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public NewsSource getSource() {
+        return source;
+    }
+
+    public void setSource(NewsSource source) {
+        this.source = source;
+    }
+
+    public String getSourceKey() {
+        return sourceKey;
+    }
+
+    public void setSourceKey(String sourceKey) {
+        this.sourceKey = sourceKey;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(String lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public void setFetchedAt(LocalDateTime fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * @return the stored validators
+     */
+    public HttpValidators getValidators() {
+        return new HttpValidators(etag, lastModified);
+    }
+
+    /**
+     * @param validators the validators to store
+     */
+    public void setValidators(HttpValidators validators) {
+        this.etag = validators.etag();
+        this.lastModified = validators.lastModified();
+    }
+}
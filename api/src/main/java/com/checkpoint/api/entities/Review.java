@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -23,6 +24,10 @@ import jakarta.persistence.UniqueConstraint;
 @Entity
 @Table(name = "reviews", uniqueConstraints = {
     @UniqueConstraint(columnNames = "user_game_play_id")
+}, indexes = {
+    @Index(name = "idx_reviews_hot_score", columnList = "hot_score DESC, created_at DESC"),
+    @Index(name = "idx_reviews_game_hot_score", columnList = "video_game_id, hot_score DESC, created_at DESC"),
+    @Index(name = "idx_reviews_created_at", columnList = "created_at")
 })
 public class Review {
 
@@ -42,6 +47,22 @@ public class Review {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Counter columns are written only through EngagementCounterService's bulk updates,
+    // never from the entity, so a stale copy can't overwrite a concurrent increment.
+    @Column(name = "likes_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private int likesCount;
+
+    @Column(name = "comments_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private int commentsCount;
+
+    // Gravity-1.5 "hot" ranking, likes / (age in days + 2)^1.5. Rewritten with every like
+    // change and periodically decayed for recent reviews (ReviewRepository), never from here.
+    @Column(name = "hot_score", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "DOUBLE PRECISION NOT NULL DEFAULT 0")
+    private double hotScore;
+
     // Relationship: Review is written by one user
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -184,4 +205,28 @@ public class Review {
     public void setLikes(Set<Like> likes) {
         this.likes = likes;
     }
+
+    public int getLikesCount() {
+        return likesCount;
+    }
+
+    public void setLikesCount(int likesCount) {
+        this.likesCount = likesCount;
+    }
+
+    public int getCommentsCount() {
+        return commentsCount;
+    }
+
+    public void setCommentsCount(int commentsCount) {
+        this.commentsCount = commentsCount;
+    }
+
+    public double getHotScore() {
+        return hotScore;
+    }
+
+    public void setHotScore(double hotScore) {
+        this.hotScore = hotScore;
+    }
 }
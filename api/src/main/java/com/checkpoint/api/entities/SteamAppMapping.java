@@ -0,0 +1,86 @@
+package com.checkpoint.api.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Cached answer of IGDB {@code /external_games} for one Steam appId.
+ *
+ * <p>A row with an {@code igdbId} is a positive match and never expires. A row without
+ * one records that IGDB knew no game for the app at {@code resolvedAt}; it is trusted
+ * only for the configured negative TTL, after which the app is looked up again.</p>
+ */
+@Entity
+@Table(name = "steam_app_mappings", indexes = {
+        @Index(name = "idx_steam_app_mappings_igdb_id", columnList = "igdb_id")
+})
+public class SteamAppMapping {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "steam_app_id", nullable = false, unique = true)
+    private Long steamAppId;
+
+    @Column(name = "igdb_id")
+    private Long igdbId;
+
+    @Column(name = "resolved_at", nullable = false)
+    private LocalDateTime resolvedAt;
+
+    public SteamAppMapping() {}
+
+    public SteamAppMapping(Long steamAppId, Long igdbId, LocalDateTime resolvedAt) {
+        this.steamAppId = steamAppId;
+        this.igdbId = igdbId;
+        this.resolvedAt = resolvedAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Long getSteamAppId() {
+        return steamAppId;
+    }
+
+    public void setSteamAppId(Long steamAppId) {
+        this.steamAppId = steamAppId;
+    }
+
+    public Long getIgdbId() {
+        return igdbId;
+    }
+
+    public void setIgdbId(Long igdbId) {
+        this.igdbId = igdbId;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+
+    /**
+     * @return whether IGDB had no game for this app when it was resolved
+     */
+    public boolean isUnmatched() {
+        return igdbId == null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.checkpoint.api.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * One row of the precomputed trending snapshot, keyed by its 1-based rank.
+ *
+ * <p>The whole table is replaced by the scheduled refresh; the trending endpoint only
+ * joins it to {@code video_games}. {@code ratingCount} is copied at refresh time so the
+ * read path never touches {@code rates}.</p>
+ */
+@Entity
+@Table(name = "trending_games")
+public class TrendingGame {
+
+    @Id
+    private Integer position;
+
+    @Column(name = "video_game_id", nullable = false)
+    private UUID videoGameId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "rating_count", nullable = false)
+    private Long ratingCount;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    public TrendingGame() {}
+
+    public TrendingGame(Integer position, UUID videoGameId, double score, Long ratingCount,
+                        LocalDateTime refreshedAt) {
+        this.position = position;
+        this.videoGameId = videoGameId;
+        this.score = score;
+        this.ratingCount = ratingCount;
+        this.refreshedAt = refreshedAt;
+    }
+
+    public Integer getPosition() {
+        return position;
+    }
+
+    public void setPosition(Integer position) {
+        this.position = position;
+    }
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public void setVideoGameId(UUID videoGameId) {
+        this.videoGameId = videoGameId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public Long getRatingCount() {
+        return ratingCount;
+    }
+
+    public void setRatingCount(Long ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public void setRefreshedAt(LocalDateTime refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+}
@@ -9,9 +9,17 @@ import java.util.UUID;
 
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 import org.hibernate.type.SqlTypes;
 
+import com.checkpoint.api.config.SearchAnalysisConfigurer;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -31,6 +39,7 @@ import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
+@Indexed
 @Table(name = "users")
 public class User {
 
@@ -38,7 +47,10 @@ public class User {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @KeywordField
+    @KeywordField(projectable = Projectable.YES)
+    @FullTextField(name = "pseudoWords")
+    @FullTextField(name = "pseudoSuggest", analyzer = SearchAnalysisConfigurer.AUTOCOMPLETE,
+            searchAnalyzer = SearchAnalysisConfigurer.AUTOCOMPLETE_QUERY)
     @Column(nullable = false, unique = true)
     private String pseudo;
 
@@ -59,17 +71,24 @@ public class User {
     @Column(columnDefinition = "TEXT")
     private String bio;
 
+    @GenericField(projectable = Projectable.YES, searchable = Searchable.NO)
     private String picture;
 
     @Column(name = "is_private", nullable = false)
     private Boolean isPrivate = false;
 
+    @GenericField
     @Column(nullable = false)
     private Boolean banned = false;
 
+    // XP and level are credited by native updates (XpGrantRepositoryCustomImpl) that
+    // Hibernate Search cannot see; those bump updated_at so the periodic search index
+    // catch-up re-indexes the credited users.
+    @GenericField(sortable = Sortable.YES)
     @Column(name = "xp_point", nullable = false)
     private Integer xpPoint = 0;
 
+    @GenericField(projectable = Projectable.YES, searchable = Searchable.NO)
     @Column(nullable = false)
     private Integer level = 1;
 
@@ -0,0 +1,113 @@
+package com.checkpoint.api.entities;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.checkpoint.api.enums.UserStatDimension;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * A keyed per-user counter, e.g. completed games in one genre or plays on one platform.
+ *
+ * <p>Platform counters let {@link UserStats#getPlatformCount()} stay exact when a play log
+ * is deleted: the distinct count only drops when a platform's counter reaches zero.</p>
+ */
+@Entity
+@IdClass(UserStatCounter.Key.class)
+@Table(name = "user_stat_counters")
+public class UserStatCounter {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private UserStatDimension dimension;
+
+    @Id
+    @Column(name = "key_id", nullable = false)
+    private UUID keyId;
+
+    @Column(nullable = false)
+    private long total;
+
+    public UserStatCounter() {}
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UserStatDimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(UserStatDimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public UUID getKeyId() {
+        return keyId;
+    }
+
+    public void setKeyId(UUID keyId) {
+        this.keyId = keyId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Composite primary key of {@link UserStatCounter}.
+     */
+    public static class Key implements Serializable {
+
+        private UUID userId;
+        private UserStatDimension dimension;
+        private UUID keyId;
+
+        public Key() {}
+
+        public Key(UUID userId, UserStatDimension dimension, UUID keyId) {
+            this.userId = userId;
+            this.dimension = dimension;
+            this.keyId = keyId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return Objects.equals(userId, other.userId)
+                    && dimension == other.dimension
+                    && Objects.equals(keyId, other.keyId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, dimension, keyId);
+        }
+    }
+}
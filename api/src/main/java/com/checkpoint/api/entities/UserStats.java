@@ -0,0 +1,106 @@
+package com.checkpoint.api.entities;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Per-user activity counters that the badge rules are evaluated against.
+ *
+ * <p>Adjusted in place by the services that write reviews, library entries, play logs and
+ * ratings, in the same transaction as the write, so a badge check is a primary-key read
+ * instead of a count over the user's history. A missing row means "not built yet": it is
+ * computed from the source tables on first use, or by the backfill job. Per-genre and
+ * per-platform counts live in {@link UserStatCounter}.</p>
+ */
+@Entity
+@Table(name = "user_stats")
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "library_count", nullable = false)
+    private long libraryCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "play_count", nullable = false)
+    private long playCount;
+
+    @Column(name = "platform_count", nullable = false)
+    private long platformCount;
+
+    @Column(name = "one_star_rate_count", nullable = false)
+    private long oneStarRateCount;
+
+    public UserStats() {}
+
+    public UserStats(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public long getLibraryCount() {
+        return libraryCount;
+    }
+
+    public void setLibraryCount(long libraryCount) {
+        this.libraryCount = libraryCount;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public void setCompletedCount(long completedCount) {
+        this.completedCount = completedCount;
+    }
+
+    public long getPlayCount() {
+        return playCount;
+    }
+
+    public void setPlayCount(long playCount) {
+        this.playCount = playCount;
+    }
+
+    public long getPlatformCount() {
+        return platformCount;
+    }
+
+    public void setPlatformCount(long platformCount) {
+        this.platformCount = platformCount;
+    }
+
+    public long getOneStarRateCount() {
+        return oneStarRateCount;
+    }
+
+    public void setOneStarRateCount(long oneStarRateCount) {
+        this.oneStarRateCount = oneStarRateCount;
+    }
+}
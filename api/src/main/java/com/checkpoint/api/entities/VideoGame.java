@@ -6,9 +6,20 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ObjectPath;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.PropertyValue;
+
+import com.checkpoint.api.config.SearchAnalysisConfigurer;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -25,6 +36,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 @Entity
 @Indexed
@@ -49,7 +61,10 @@ public class VideoGame {
     @Column(name = "steam_app_id", unique = true)
     private Long steamAppId;
 
-    @FullTextField
+    @FullTextField(projectable = Projectable.YES)
+    @FullTextField(name = "titleSuggest", analyzer = SearchAnalysisConfigurer.AUTOCOMPLETE,
+            searchAnalyzer = SearchAnalysisConfigurer.AUTOCOMPLETE_QUERY)
+    @KeywordField(name = "titleSort", sortable = Sortable.YES, normalizer = SearchAnalysisConfigurer.LOWERCASE)
     @Column(nullable = false)
     private String title;
 
@@ -60,6 +75,7 @@ public class VideoGame {
     /**
      * URL of the cover image from IGDB.
      */
+    @GenericField(projectable = Projectable.YES, searchable = Searchable.NO)
     @Column(name = "cover_url")
     private String coverUrl;
 
@@ -84,12 +100,23 @@ public class VideoGame {
     @Column(name = "time_to_beat_completely")
     private Long timeToBeatCompletely;
 
+    @GenericField(projectable = Projectable.YES, sortable = Sortable.YES)
     @Column(name = "release_date")
     private LocalDate releaseDate;
 
+    @GenericField(projectable = Projectable.YES, sortable = Sortable.YES)
     @Column(name = "average_rating", nullable = true)
     private Double averageRating = 0.0;
 
+    /**
+     * Number of ratings behind {@code averageRating}, kept in step with it by the
+     * rating service so catalog cards and search hits don't have to count rates.
+     */
+    @GenericField(projectable = Projectable.YES, sortable = Sortable.YES)
+    @Column(name = "rating_count")
+    private Long ratingCount = 0L;
+
+    @GenericField(sortable = Sortable.YES)
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -338,6 +365,16 @@ public class VideoGame {
         this.releaseDate = releaseDate;
     }
 
+    /**
+     * Release year, indexed for the catalog's year filter and facet counts.
+     */
+    @Transient
+    @GenericField(aggregable = Aggregable.YES)
+    @IndexingDependency(derivedFrom = @ObjectPath(@PropertyValue(propertyName = "releaseDate")))
+    public Integer getReleaseYear() {
+        return releaseDate != null ? releaseDate.getYear() : null;
+    }
+
     public Double getAverageRating() {
         return averageRating;
     }
@@ -346,6 +383,14 @@ public class VideoGame {
         this.averageRating = averageRating;
     }
 
+    public Long getRatingCount() {
+        return ratingCount;
+    }
+
+    public void setRatingCount(Long ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
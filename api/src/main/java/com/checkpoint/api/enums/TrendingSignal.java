@@ -0,0 +1,26 @@
+package com.checkpoint.api.enums;
+
+/**
+ * A user action that counts towards a game's trending score, with its weight.
+ *
+ * <p>Weights match the original 7-day scan: library additions and play sessions
+ * count 3, ratings and reviews 2, likes and wishlist additions 1.</p>
+ */
+public enum TrendingSignal {
+    LIBRARY_ADD(3),
+    PLAY(3),
+    RATING(2),
+    REVIEW(2),
+    LIKE(1),
+    WISH(1);
+
+    private final int weight;
+
+    TrendingSignal(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
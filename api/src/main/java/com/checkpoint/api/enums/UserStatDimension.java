@@ -0,0 +1,11 @@
+package com.checkpoint.api.enums;
+
+/**
+ * The keyed counters kept next to {@link com.checkpoint.api.entities.UserStats}.
+ */
+public enum UserStatDimension {
+    /** Completed library entries per genre; the key is the genre id. */
+    GENRE_COMPLETED,
+    /** Play logs per platform; the key is the platform id. */
+    PLATFORM_PLAYS
+}
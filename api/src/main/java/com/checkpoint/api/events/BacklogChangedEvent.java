@@ -0,0 +1,20 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published after games are added to or removed from a user's backlog.
+ * Invalidates the user's cached recommendations.
+ */
+public class BacklogChangedEvent {
+
+    private final UUID userId;
+
+    public BacklogChangedEvent(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
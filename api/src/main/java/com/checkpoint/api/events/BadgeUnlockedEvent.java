@@ -8,7 +8,7 @@ import com.checkpoint.api.enums.BadgeCode;
  * Event published when a badge has been freshly awarded to a user.
  * Downstream consumers (e.g. notifications) can react to it.
  */
-public class BadgeUnlockedEvent {
+public class BadgeUnlockedEvent implements DurableEvent {
 
     private final UUID userId;
     private final BadgeCode code;
@@ -41,4 +41,9 @@ public class BadgeUnlockedEvent {
     public BadgeCode getCode() {
         return code;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
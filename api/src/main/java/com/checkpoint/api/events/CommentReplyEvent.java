@@ -7,7 +7,7 @@ import java.util.UUID;
  * The replier is awarded XP at most once per parent comment
  * (enforced by the unique constraint on {@code xp_grants}).
  */
-public class CommentReplyEvent {
+public class CommentReplyEvent implements DurableEvent {
 
     private final UUID replierId;
     private final UUID parentCommentAuthorId;
@@ -30,4 +30,9 @@ public class CommentReplyEvent {
     public UUID getParentCommentId() {
         return parentCommentId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return replierId;
+    }
 }
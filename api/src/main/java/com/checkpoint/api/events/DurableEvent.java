@@ -0,0 +1,26 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Domain event delivered through the transactional outbox to
+ * {@link DurableEventListener} methods.
+ *
+ * <p>Publishing one with {@code ApplicationEventPublisher} writes an {@code outbox_messages}
+ * row per handler inside the publishing transaction, so the handlers run only once that
+ * transaction has committed, survive restarts, and are retried when they fail. Plain
+ * {@code @EventListener}s still receive the event as before.</p>
+ *
+ * <p>Implementations must be serializable to JSON through their getters and rebuilt
+ * through their single constructor, whose parameter names match those getters.</p>
+ */
+public interface DurableEvent {
+
+    /**
+     * Returns the user whose events must be handled in publication order. Events with
+     * the same key are never handled concurrently nor out of order.
+     *
+     * @return the partition key
+     */
+    UUID partitionKey();
+}
@@ -0,0 +1,21 @@
+package com.checkpoint.api.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean method as a handler of the {@link DurableEvent} type it takes as its single
+ * parameter. Handlers are invoked by the outbox workers, each delivery in its own
+ * transaction, rather than by Spring's event multicaster.
+ *
+ * <p>A handler may be run again after a failure or a crash, so it should tolerate seeing
+ * the same event twice.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DurableEventListener {
+}
@@ -0,0 +1,20 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published after a user replaces their favorite games.
+ * Invalidates the user's cached recommendations.
+ */
+public class FavoritesChangedEvent {
+
+    private final UUID userId;
+
+    public FavoritesChangedEvent(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
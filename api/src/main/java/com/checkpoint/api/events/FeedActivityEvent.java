@@ -0,0 +1,157 @@
+package com.checkpoint.api.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.checkpoint.api.enums.FeedItemType;
+
+/**
+ * Event published when an activity that should appear in followers' feeds is
+ * created or changes in a way the feed displays (a new play, a re-rate, an
+ * edited review, a list turned public, ...).
+ *
+ * <p>Consumed synchronously by {@link com.checkpoint.api.listeners.FeedFanOutListener}
+ * so the feed rows are written in the same transaction as the activity itself.
+ * Re-publishing for the same {@code activityId} updates the stored activity.</p>
+ */
+public class FeedActivityEvent {
+
+    private static final int REVIEW_EXCERPT_LENGTH = 200;
+
+    private final FeedItemType type;
+    private final UUID activityId;
+    private final UUID userId;
+    private final UUID videoGameId;
+    private final String detail;
+    private final Boolean haveSpoilers;
+    private final UUID playLogId;
+    private final LocalDateTime createdAt;
+
+    private FeedActivityEvent(FeedItemType type, UUID activityId, UUID userId, UUID videoGameId,
+                              String detail, Boolean haveSpoilers, UUID playLogId,
+                              LocalDateTime createdAt) {
+        this.type = type;
+        this.activityId = activityId;
+        this.userId = userId;
+        this.videoGameId = videoGameId;
+        this.detail = detail;
+        this.haveSpoilers = haveSpoilers;
+        this.playLogId = playLogId;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Creates the event for a logged play session.
+     *
+     * @param playId      the play log ID
+     * @param userId      the player's ID
+     * @param videoGameId the played game's ID
+     * @param status      the play status name
+     * @param createdAt   when the play was logged
+     * @return the event
+     */
+    public static FeedActivityEvent play(UUID playId, UUID userId, UUID videoGameId,
+                                         String status, LocalDateTime createdAt) {
+        return new FeedActivityEvent(FeedItemType.PLAY, playId, userId, videoGameId,
+                status, null, null, createdAt);
+    }
+
+    /**
+     * Creates the event for a rating (first-time or updated).
+     *
+     * @param rateId      the rate ID
+     * @param userId      the rater's ID
+     * @param videoGameId the rated game's ID
+     * @param score       the raw 1-10 score
+     * @param createdAt   when the rating was first recorded
+     * @return the event
+     */
+    public static FeedActivityEvent rating(UUID rateId, UUID userId, UUID videoGameId,
+                                           Integer score, LocalDateTime createdAt) {
+        return new FeedActivityEvent(FeedItemType.RATING, rateId, userId, videoGameId,
+                score != null ? score.toString() : null, null, null, createdAt);
+    }
+
+    /**
+     * Creates the event for a review. The content is truncated to the excerpt
+     * length the feed displays.
+     *
+     * @param reviewId     the review ID
+     * @param userId       the author's ID
+     * @param videoGameId  the reviewed game's ID
+     * @param content      the full review content
+     * @param haveSpoilers whether the review is flagged as containing spoilers
+     * @param playLogId    the play log the review belongs to (may be null)
+     * @param createdAt    when the review was created
+     * @return the event
+     */
+    public static FeedActivityEvent review(UUID reviewId, UUID userId, UUID videoGameId,
+                                           String content, Boolean haveSpoilers, UUID playLogId,
+                                           LocalDateTime createdAt) {
+        String excerpt = content != null && content.length() > REVIEW_EXCERPT_LENGTH
+                ? content.substring(0, REVIEW_EXCERPT_LENGTH)
+                : content;
+        return new FeedActivityEvent(FeedItemType.REVIEW, reviewId, userId, videoGameId,
+                excerpt, haveSpoilers, playLogId, createdAt);
+    }
+
+    /**
+     * Creates the event for a public list.
+     *
+     * @param listId    the list ID
+     * @param userId    the owner's ID
+     * @param title     the list title
+     * @param createdAt when the list was created
+     * @return the event
+     */
+    public static FeedActivityEvent list(UUID listId, UUID userId, String title, LocalDateTime createdAt) {
+        return new FeedActivityEvent(FeedItemType.LIST, listId, userId, null,
+                title, null, null, createdAt);
+    }
+
+    /**
+     * Creates the event for a game like.
+     *
+     * @param likeId      the like ID
+     * @param userId      the liker's ID
+     * @param videoGameId the liked game's ID
+     * @param createdAt   when the like was created
+     * @return the event
+     */
+    public static FeedActivityEvent gameLike(UUID likeId, UUID userId, UUID videoGameId, LocalDateTime createdAt) {
+        return new FeedActivityEvent(FeedItemType.LIKE_GAME, likeId, userId, videoGameId,
+                null, null, null, createdAt);
+    }
+
+    public FeedItemType getType() {
+        return type;
+    }
+
+    public UUID getActivityId() {
+        return activityId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public Boolean getHaveSpoilers() {
+        return haveSpoilers;
+    }
+
+    public UUID getPlayLogId() {
+        return playLogId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
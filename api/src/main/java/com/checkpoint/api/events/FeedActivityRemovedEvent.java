@@ -0,0 +1,21 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published when a feed-visible activity disappears (play log, rating,
+ * review or list deleted, list made private, game unliked). Its materialized
+ * feed rows are dropped in the publishing transaction.
+ */
+public class FeedActivityRemovedEvent {
+
+    private final UUID activityId;
+
+    public FeedActivityRemovedEvent(UUID activityId) {
+        this.activityId = activityId;
+    }
+
+    public UUID getActivityId() {
+        return activityId;
+    }
+}
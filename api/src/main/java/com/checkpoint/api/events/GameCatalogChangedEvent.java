@@ -0,0 +1,27 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published when a catalog game is created, updated (including its genres,
+ * platforms and companies) or deleted — by an IGDB import or a manual admin edit.
+ * Lets derived in-memory structures such as the similarity index catch up.
+ */
+public class GameCatalogChangedEvent {
+
+    private final UUID videoGameId;
+    private final boolean removed;
+
+    public GameCatalogChangedEvent(UUID videoGameId, boolean removed) {
+        this.videoGameId = videoGameId;
+        this.removed = removed;
+    }
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+}
@@ -6,7 +6,7 @@ import java.util.UUID;
  * Event published when a user marks a game as completed.
  * Used by the gamification system to award XP.
  */
-public class GameFinishedEvent {
+public class GameFinishedEvent implements DurableEvent {
 
     private final UUID userId;
 
@@ -27,4 +27,9 @@ public class GameFinishedEvent {
     public UUID getUserId() {
         return userId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
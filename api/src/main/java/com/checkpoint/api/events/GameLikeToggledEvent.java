@@ -0,0 +1,32 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published after a user likes or unlikes a game.
+ * Invalidates the user's cached recommendations.
+ */
+public class GameLikeToggledEvent {
+
+    private final UUID userId;
+    private final UUID videoGameId;
+    private final boolean liked;
+
+    public GameLikeToggledEvent(UUID userId, UUID videoGameId, boolean liked) {
+        this.userId = userId;
+        this.videoGameId = videoGameId;
+        this.liked = liked;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public boolean isLiked() {
+        return liked;
+    }
+}
@@ -7,7 +7,7 @@ import java.util.UUID;
  * The publisher must filter re-rates: this event only fires on the
  * initial rating creation for a (user, game) pair.
  */
-public class GameRatedEvent {
+public class GameRatedEvent implements DurableEvent {
 
     private final UUID userId;
     private final UUID videoGameId;
@@ -24,4 +24,9 @@ public class GameRatedEvent {
     public UUID getVideoGameId() {
         return videoGameId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
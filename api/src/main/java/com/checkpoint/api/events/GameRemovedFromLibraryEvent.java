@@ -6,7 +6,7 @@ import java.util.UUID;
  * Event published after a user removes a game from their personal library.
  * Powers the {@code YOU_DIED} easter-egg badge.
  */
-public class GameRemovedFromLibraryEvent {
+public class GameRemovedFromLibraryEvent implements DurableEvent {
 
     private final UUID userId;
     private final UUID videoGameId;
@@ -23,4 +23,9 @@ public class GameRemovedFromLibraryEvent {
     public UUID getVideoGameId() {
         return videoGameId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
@@ -8,7 +8,7 @@ import java.util.UUID;
  * PLAYING. Powers the {@code LEEROY} easter-egg badge (jumping into a new game
  * while the backlog is huge).
  */
-public class GameStartedPlayingEvent {
+public class GameStartedPlayingEvent implements DurableEvent {
 
     private final UUID userId;
     private final UUID videoGameId;
@@ -25,4 +25,9 @@ public class GameStartedPlayingEvent {
     public UUID getVideoGameId() {
         return videoGameId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
@@ -0,0 +1,47 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published when something that affects a user's leaderboard position changes:
+ * an XP credit, a ban or unban, or an account deletion. Lets the in-memory leaderboard
+ * index catch up once the change is committed.
+ *
+ * <p>When the change is an XP credit the new totals are carried along so the index can
+ * be patched without a read; otherwise they are {@code null} and the user is re-read.</p>
+ */
+public class LeaderboardStandingChangedEvent {
+
+    private final UUID userId;
+    private final Integer xpPoint;
+    private final Integer level;
+
+    public LeaderboardStandingChangedEvent(UUID userId) {
+        this(userId, null, null);
+    }
+
+    public LeaderboardStandingChangedEvent(UUID userId, Integer xpPoint, Integer level) {
+        this.userId = userId;
+        this.xpPoint = xpPoint;
+        this.level = level;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Integer getXpPoint() {
+        return xpPoint;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    /**
+     * @return whether the event carries the user's new XP and level
+     */
+    public boolean hasScore() {
+        return xpPoint != null && level != null;
+    }
+}
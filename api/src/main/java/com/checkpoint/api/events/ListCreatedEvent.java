@@ -7,7 +7,7 @@ import java.util.UUID;
  * The publisher is responsible for filtering: the event must only
  * fire on the user's very first list AND only when it is public.
  */
-public class ListCreatedEvent {
+public class ListCreatedEvent implements DurableEvent {
 
     private final UUID userId;
     private final UUID listId;
@@ -24,4 +24,9 @@ public class ListCreatedEvent {
     public UUID getListId() {
         return listId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
@@ -8,7 +8,7 @@ import com.checkpoint.api.enums.NotificationType;
  * Event published when a notification should be created and delivered.
  * Consumed by the {@link com.checkpoint.api.listeners.NotificationListener}.
  */
-public class NotificationEvent {
+public class NotificationEvent implements DurableEvent {
 
     private final UUID recipientId;
     private final UUID senderId;
@@ -78,4 +78,9 @@ public class NotificationEvent {
     public String getMessage() {
         return message;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return recipientId;
+    }
 }
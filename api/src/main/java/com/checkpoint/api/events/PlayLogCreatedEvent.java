@@ -7,7 +7,7 @@ import java.util.UUID;
  * Used by the gamification system to award badges that depend on play counts,
  * library size, and platform diversity.
  */
-public class PlayLogCreatedEvent {
+public class PlayLogCreatedEvent implements DurableEvent {
 
     private final UUID userId;
 
@@ -28,4 +28,9 @@ public class PlayLogCreatedEvent {
     public UUID getUserId() {
         return userId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
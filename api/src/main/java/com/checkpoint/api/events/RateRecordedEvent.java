@@ -9,7 +9,7 @@ import java.util.UUID;
  * badge system needs this broader signal to evaluate threshold + change-count
  * triggers like {@code THE_CAKE_IS_A_LIE} and {@code INDECISIVE}.
  */
-public class RateRecordedEvent {
+public class RateRecordedEvent implements DurableEvent {
 
     private final UUID userId;
     private final UUID videoGameId;
@@ -26,4 +26,9 @@ public class RateRecordedEvent {
     public UUID getVideoGameId() {
         return videoGameId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
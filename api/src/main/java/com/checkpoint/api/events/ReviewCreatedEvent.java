@@ -6,7 +6,7 @@ import java.util.UUID;
  * Event published when a user creates a new review.
  * Used by the gamification system to award XP.
  */
-public class ReviewCreatedEvent {
+public class ReviewCreatedEvent implements DurableEvent {
 
     private final UUID userId;
 
@@ -27,4 +27,9 @@ public class ReviewCreatedEvent {
     public UUID getUserId() {
         return userId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
@@ -10,7 +10,7 @@ import java.util.UUID;
  * (notably the {@code MISSION_FAILED} easter-egg badge) can compute how long the
  * review lived before being deleted.</p>
  */
-public class ReviewDeletedEvent {
+public class ReviewDeletedEvent implements DurableEvent {
 
     private final UUID userId;
     private final UUID reviewId;
@@ -33,4 +33,9 @@ public class ReviewDeletedEvent {
     public LocalDateTime getReviewCreatedAt() {
         return reviewCreatedAt;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
@@ -7,7 +7,7 @@ import java.util.UUID;
  * The review's author is awarded XP, subject to a per-author daily cap
  * enforced by the gamification listener.
  */
-public class ReviewLikedEvent {
+public class ReviewLikedEvent implements DurableEvent {
 
     private final UUID likerId;
     private final UUID reviewAuthorId;
@@ -36,4 +36,9 @@ public class ReviewLikedEvent {
     public UUID getLikeId() {
         return likeId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return reviewAuthorId;
+    }
 }
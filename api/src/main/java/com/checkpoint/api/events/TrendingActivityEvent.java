@@ -0,0 +1,31 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+import com.checkpoint.api.enums.TrendingSignal;
+
+/**
+ * Event published when a user creates an activity row that counts towards a game's
+ * trending score (library addition, play session, first rating, review).
+ * Game likes and wishlist additions are picked up from {@link GameLikeToggledEvent}
+ * and {@link WishlistChangedEvent} instead. Deleting any of these rows publishes a
+ * {@link TrendingActivityRemovedEvent}.
+ */
+public class TrendingActivityEvent {
+
+    private final UUID videoGameId;
+    private final TrendingSignal signal;
+
+    public TrendingActivityEvent(UUID videoGameId, TrendingSignal signal) {
+        this.videoGameId = videoGameId;
+        this.signal = signal;
+    }
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public TrendingSignal getSignal() {
+        return signal;
+    }
+}
@@ -0,0 +1,37 @@
+package com.checkpoint.api.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.checkpoint.api.enums.TrendingSignal;
+
+/**
+ * Event published when a user deletes an activity row that counted towards a game's
+ * trending score (library entry, play session, rating, review, like, wish). Takes the
+ * row's points back out of the hourly counter it was added to, so a game only ever
+ * counts the rows that still exist.
+ */
+public class TrendingActivityRemovedEvent {
+
+    private final UUID videoGameId;
+    private final TrendingSignal signal;
+    private final LocalDateTime createdAt;
+
+    public TrendingActivityRemovedEvent(UUID videoGameId, TrendingSignal signal, LocalDateTime createdAt) {
+        this.videoGameId = videoGameId;
+        this.signal = signal;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public TrendingSignal getSignal() {
+        return signal;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
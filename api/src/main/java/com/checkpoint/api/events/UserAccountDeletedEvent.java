@@ -0,0 +1,21 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published when a user erases their account. Lets in-memory structures keyed
+ * by user drop the user once the deletion commits, and synchronous listeners delete
+ * rows that reference the user without a foreign key.
+ */
+public class UserAccountDeletedEvent {
+
+    private final UUID userId;
+
+    public UserAccountDeletedEvent(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
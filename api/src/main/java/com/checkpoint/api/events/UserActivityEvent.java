@@ -7,7 +7,7 @@ import java.util.UUID;
  * (review create, play log, rating, list edit, ...). Consumed by the
  * login-streak system to update the user's consecutive-day counter.
  */
-public class UserActivityEvent {
+public class UserActivityEvent implements DurableEvent {
 
     private final UUID userId;
 
@@ -18,4 +18,9 @@ public class UserActivityEvent {
     public UUID getUserId() {
         return userId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
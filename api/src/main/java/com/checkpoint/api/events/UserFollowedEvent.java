@@ -6,7 +6,7 @@ import java.util.UUID;
  * Event published when a user follows another user.
  * The follower is awarded XP via the gamification system.
  */
-public class UserFollowedEvent {
+public class UserFollowedEvent implements DurableEvent {
 
     private final UUID followerId;
     private final UUID followedUserId;
@@ -23,4 +23,9 @@ public class UserFollowedEvent {
     public UUID getFollowedUserId() {
         return followedUserId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return followerId;
+    }
 }
@@ -6,7 +6,7 @@ import java.util.UUID;
  * Event published when a user is followed by another user.
  * The followed user is awarded XP via the gamification system.
  */
-public class UserGainedFollowerEvent {
+public class UserGainedFollowerEvent implements DurableEvent {
 
     private final UUID followedUserId;
     private final UUID followerId;
@@ -23,4 +23,9 @@ public class UserGainedFollowerEvent {
     public UUID getFollowerId() {
         return followerId;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return followedUserId;
+    }
 }
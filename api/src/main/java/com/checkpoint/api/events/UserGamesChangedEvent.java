@@ -0,0 +1,20 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published after a game enters or leaves the set of games a user has in their
+ * library or has rated. Refreshes the user's member similarity signature.
+ */
+public class UserGamesChangedEvent {
+
+    private final UUID userId;
+
+    public UserGamesChangedEvent(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
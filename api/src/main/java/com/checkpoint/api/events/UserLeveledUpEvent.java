@@ -6,7 +6,7 @@ import java.util.UUID;
  * Event published when a user's level increases.
  * Used by the badge system to evaluate level-based badge criteria.
  */
-public class UserLeveledUpEvent {
+public class UserLeveledUpEvent implements DurableEvent {
 
     private final UUID userId;
     private final int newLevel;
@@ -39,4 +39,9 @@ public class UserLeveledUpEvent {
     public int getNewLevel() {
         return newLevel;
     }
+
+    @Override
+    public UUID partitionKey() {
+        return userId;
+    }
 }
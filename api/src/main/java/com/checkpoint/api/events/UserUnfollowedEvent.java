@@ -0,0 +1,26 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published when a follow relationship is removed — either the follower
+ * unfollowed, or the followed user removed the follower.
+ */
+public class UserUnfollowedEvent {
+
+    private final UUID followerId;
+    private final UUID followedUserId;
+
+    public UserUnfollowedEvent(UUID followerId, UUID followedUserId) {
+        this.followerId = followerId;
+        this.followedUserId = followedUserId;
+    }
+
+    public UUID getFollowerId() {
+        return followerId;
+    }
+
+    public UUID getFollowedUserId() {
+        return followedUserId;
+    }
+}
@@ -0,0 +1,32 @@
+package com.checkpoint.api.events;
+
+import java.util.UUID;
+
+/**
+ * Event published after a user adds a game to or removes a game from their wishlist.
+ * Invalidates the user's cached recommendations.
+ */
+public class WishlistChangedEvent {
+
+    private final UUID userId;
+    private final UUID videoGameId;
+    private final boolean added;
+
+    public WishlistChangedEvent(UUID userId, UUID videoGameId, boolean added) {
+        this.userId = userId;
+        this.videoGameId = videoGameId;
+        this.added = added;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getVideoGameId() {
+        return videoGameId;
+    }
+
+    public boolean isAdded() {
+        return added;
+    }
+}
@@ -0,0 +1,12 @@
+package com.checkpoint.api.exceptions;
+
+/**
+ * Thrown when a user requests a data export while their previous one is still
+ * pending or running. Mapped to HTTP 409 Conflict.
+ */
+public class ExportAlreadyRunningException extends RuntimeException {
+
+    public ExportAlreadyRunningException() {
+        super("A data export is already being prepared. Wait for it to finish before requesting another.");
+    }
+}
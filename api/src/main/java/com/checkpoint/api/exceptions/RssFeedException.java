@@ -0,0 +1,15 @@
+package com.checkpoint.api.exceptions;
+
+/**
+ * Thrown when an RSS or Atom feed cannot be downloaded or parsed.
+ */
+public class RssFeedException extends RuntimeException {
+
+    public RssFeedException(String message) {
+        super(message);
+    }
+
+    public RssFeedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
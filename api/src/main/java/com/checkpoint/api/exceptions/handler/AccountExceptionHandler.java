@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.checkpoint.api.dto.error.ErrorResponse;
+import com.checkpoint.api.exceptions.ExportAlreadyRunningException;
 import com.checkpoint.api.exceptions.InvalidRefreshTokenException;
 import com.checkpoint.api.exceptions.InvalidTokenException;
 import com.checkpoint.api.exceptions.InvalidTotpCodeException;
@@ -64,6 +65,13 @@ public class AccountExceptionHandler extends AbstractExceptionHandler {
         return error(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    /** Handles {@link ExportAlreadyRunningException} when a data export is already being prepared. */
+    @ExceptionHandler(ExportAlreadyRunningException.class)
+    public ResponseEntity<ErrorResponse> handleExportAlreadyRunning(ExportAlreadyRunningException ex) {
+        log.warn("Data export already running: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
     /** Handles {@link InvalidRefreshTokenException} when a refresh token is missing, revoked, or expired. */
     @ExceptionHandler(InvalidRefreshTokenException.class)
     public ResponseEntity<ErrorResponse> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
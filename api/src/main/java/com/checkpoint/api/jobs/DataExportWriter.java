@@ -0,0 +1,154 @@
+package com.checkpoint.api.jobs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.dto.export.GameListEntryExport;
+import com.checkpoint.api.dto.export.GameListExport;
+import com.checkpoint.api.dto.export.PlayLogExport;
+import com.checkpoint.api.dto.export.UserExportProfile;
+import com.checkpoint.api.exceptions.UserNotFoundException;
+import com.checkpoint.api.repositories.DataExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes a user's GDPR export as one JSON document, a data category at a time.
+ *
+ * <p>Each category is streamed from {@link DataExportRepository} straight into the
+ * {@link JsonGenerator}, so only one batch of rows is held in memory. Play log tags and
+ * game list entries are fetched for a whole batch at once instead of per row. The
+ * document has one field per category, in this order: {@code profile}, {@code library},
+ * {@code playLogs}, {@code reviews}, {@code comments}, {@code wishlist}, {@code backlogs},
+ * {@code favorites}, {@code gameLists}, {@code tags}, {@code ratings},
+ * {@code socialLinks}, followed by {@code exportedAt}.</p>
+ */
+@Component
+public class DataExportWriter {
+
+    /** Number of data categories in an export, for progress reporting. */
+    public static final int SECTIONS = 12;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final DataExportRepository dataExportRepository;
+    private final ObjectWriter objectWriter;
+
+    public DataExportWriter(DataExportRepository dataExportRepository, ObjectMapper objectMapper) {
+        this.dataExportRepository = dataExportRepository;
+        // The generator is flushed once at the end, not after every row.
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes the export of a user. The output stream is not closed.
+     *
+     * <p>Runs in one read-only transaction: the PostgreSQL driver only reads through a
+     * cursor inside a transaction.</p>
+     *
+     * @param userId   the user whose data is exported
+     * @param out      where the JSON document is written
+     * @param progress receives a callback per category and per batch of rows written
+     * @throws UserNotFoundException if the user no longer exists
+     * @throws CancellationException if the job is cancelled while it runs
+     */
+    @Transactional(readOnly = true)
+    public void write(UUID userId, OutputStream out, ExportJobStatus progress) throws IOException {
+        UserExportProfile profile = dataExportRepository.findProfile(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        JsonGenerator gen = objectWriter.createGenerator(out);
+        gen.writeStartObject();
+
+        gen.writeFieldName("profile");
+        objectWriter.writeValue(gen, profile);
+        progress.sectionCompleted();
+
+        writeSection(gen, "library", dataExportRepository.streamLibrary(userId), progress);
+        writeSection(gen, "playLogs", dataExportRepository.streamPlayLogs(userId), this::withTags, progress);
+        writeSection(gen, "reviews", dataExportRepository.streamReviews(userId), progress);
+        writeSection(gen, "comments", dataExportRepository.streamComments(userId), progress);
+        writeSection(gen, "wishlist", dataExportRepository.streamWishlist(userId), progress);
+        writeSection(gen, "backlogs", dataExportRepository.streamBacklog(userId), progress);
+        writeSection(gen, "favorites", dataExportRepository.streamFavorites(userId), progress);
+        writeSection(gen, "gameLists", dataExportRepository.streamGameLists(userId), this::withEntries, progress);
+        writeSection(gen, "tags", dataExportRepository.streamTags(userId), progress);
+        writeSection(gen, "ratings", dataExportRepository.streamRatings(userId), progress);
+        writeSection(gen, "socialLinks", dataExportRepository.streamSocialLinks(userId), progress);
+
+        gen.writeFieldName("exportedAt");
+        objectWriter.writeValue(gen, LocalDateTime.now());
+        gen.writeEndObject();
+        gen.flush();
+    }
+
+    private <T> void writeSection(JsonGenerator gen, String name, Stream<T> rows,
+                                  ExportJobStatus progress) throws IOException {
+        writeSection(gen, name, rows, UnaryOperator.identity(), progress);
+    }
+
+    /**
+     * Writes a category as a JSON array, completing each batch of rows with
+     * {@code enrich} before it is written.
+     */
+    private <T> void writeSection(JsonGenerator gen, String name, Stream<T> rows,
+                                  UnaryOperator<List<T>> enrich, ExportJobStatus progress) throws IOException {
+        gen.writeArrayFieldStart(name);
+        try (rows) {
+            Iterator<T> iterator = rows.iterator();
+            List<T> batch = new ArrayList<>(BATCH_SIZE);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE || !iterator.hasNext()) {
+                    if (progress.isCancelled()) {
+                        throw new CancellationException("Export cancelled");
+                    }
+                    for (T row : enrich.apply(batch)) {
+                        objectWriter.writeValue(gen, row);
+                    }
+                    progress.recordsWritten(batch.size());
+                    batch.clear();
+                }
+            }
+        }
+        gen.writeEndArray();
+        progress.sectionCompleted();
+    }
+
+    private List<PlayLogExport> withTags(List<PlayLogExport> playLogs) {
+        Map<UUID, List<String>> tags = dataExportRepository.findPlayLogTagNames(
+                playLogs.stream().map(PlayLogExport::id).toList());
+        return playLogs.stream()
+                .map(p -> new PlayLogExport(
+                        p.id(), p.gameId(), p.gameTitle(), p.status(), p.isReplay(), p.timePlayed(),
+                        p.startDate(), p.endDate(), p.ownership(), p.score(), p.platform(),
+                        tags.getOrDefault(p.id(), List.of()),
+                        p.createdAt(), p.updatedAt()))
+                .toList();
+    }
+
+    private List<GameListExport> withEntries(List<GameListExport> lists) {
+        Map<UUID, List<GameListEntryExport>> entries = dataExportRepository.findGameListEntries(
+                lists.stream().map(GameListExport::id).toList());
+        return lists.stream()
+                .map(l -> new GameListExport(
+                        l.id(), l.title(), l.description(), l.isPrivate(),
+                        entries.getOrDefault(l.id(), List.of()),
+                        l.createdAt(), l.updatedAt()))
+                .toList();
+    }
+}
@@ -0,0 +1,151 @@
+package com.checkpoint.api.jobs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.exceptions.ExportAlreadyRunningException;
+
+/**
+ * In-memory registry of asynchronous data exports, holding at most one job per user,
+ * and owner of the directory the export files are written to.
+ *
+ * <p>Like {@link ImportJobRegistry}, jobs are lost on restart; their files are then
+ * orphaned and removed by the same sweep that expires finished jobs. Starting a new
+ * export replaces the user's previous one and deletes its file; deleting the account
+ * drops the job, cancels it if it is still running, and deletes its file.</p>
+ */
+@Component
+public class ExportJobRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportJobRegistry.class);
+
+    private final ConcurrentHashMap<UUID, ExportJobStatus> jobsByUser = new ConcurrentHashMap<>();
+
+    private final Path exportDir;
+    private final Duration retention;
+
+    /**
+     * @param exportDir the directory export files are written to (default: "data/exports")
+     * @param retention how long a finished export stays downloadable (default: 24 hours)
+     */
+    public ExportJobRegistry(@Value("${app.export.dir:data/exports}") String exportDir,
+                             @Value("${app.export.retention:PT24H}") Duration retention) {
+        this.exportDir = Paths.get(exportDir).toAbsolutePath().normalize();
+        this.retention = retention;
+        try {
+            Files.createDirectories(this.exportDir);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not create export directory: " + this.exportDir, ex);
+        }
+    }
+
+    /**
+     * Atomically creates a new export job for a user, replacing their previous one.
+     *
+     * @param userId        the user whose data is exported
+     * @param totalSections the number of data categories the export will write
+     * @throws ExportAlreadyRunningException if the user's previous export is still in progress
+     */
+    public synchronized ExportJobStatus startJob(UUID userId, int totalSections) {
+        ExportJobStatus previous = jobsByUser.get(userId);
+        if (previous != null && previous.isActive()) {
+            throw new ExportAlreadyRunningException();
+        }
+        if (previous != null) {
+            deleteFile(previous.getFile());
+        }
+        ExportJobStatus job = new ExportJobStatus(UUID.randomUUID(), userId, totalSections, retention);
+        jobsByUser.put(userId, job);
+        log.info("Created data export job {} for user {}", job.getJobId(), userId);
+        return job;
+    }
+
+    /**
+     * Forgets a deleted user's export: the job is dropped, cancelled if it is still
+     * running, and its finished or partial file is deleted.
+     *
+     * @param userId the deleted user's ID
+     */
+    public synchronized void removeUser(UUID userId) {
+        ExportJobStatus job = jobsByUser.remove(userId);
+        if (job == null) {
+            return;
+        }
+        job.cancel();
+        deleteFile(fileFor(job.getJobId()));
+        deleteFile(partialFileFor(job.getJobId()));
+        log.info("Removed data export job {} of deleted user {}", job.getJobId(), userId);
+    }
+
+    /**
+     * @return the user's latest export job, if it has not expired yet
+     */
+    public Optional<ExportJobStatus> findByUser(UUID userId) {
+        return Optional.ofNullable(jobsByUser.get(userId));
+    }
+
+    /**
+     * @return the path the given job writes its finished file to
+     */
+    public Path fileFor(UUID jobId) {
+        return exportDir.resolve(jobId + ".json.gz");
+    }
+
+    /**
+     * @return the path the given job writes to while it is running
+     */
+    public Path partialFileFor(UUID jobId) {
+        return exportDir.resolve(jobId + ".json.gz.part");
+    }
+
+    /**
+     * Periodically evicts jobs whose file has expired and deletes every file in the
+     * export directory older than the retention, including files orphaned by a restart.
+     */
+    @Scheduled(fixedDelay = 3_600_000L)
+    public void evictExpiredJobs() {
+        Instant now = Instant.now();
+        jobsByUser.values().removeIf(j -> j.getExpiresAt() != null && j.getExpiresAt().isBefore(now));
+
+        Instant cutoff = now.minus(retention);
+        try (Stream<Path> files = Files.list(exportDir)) {
+            files.filter(file -> isOlderThan(file, cutoff)).forEach(this::deleteFile);
+        } catch (IOException ex) {
+            log.warn("Could not sweep export directory {}: {}", exportDir, ex.getMessage());
+        }
+    }
+
+    private static boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private void deleteFile(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete export file {}: {}", file, ex.getMessage());
+        }
+    }
+}
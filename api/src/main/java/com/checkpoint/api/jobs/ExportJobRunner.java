@@ -0,0 +1,84 @@
+package com.checkpoint.api.jobs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Executes a data export on a background thread (the {@code exportExecutor}).
+ * The document is gzipped into a partial file that is renamed once complete, so a
+ * download never sees a truncated export. Errors are captured into the job status
+ * rather than propagated, since there is no HTTP caller to receive them.
+ *
+ * <p>A job {@link ExportJobStatus#cancel() cancelled} by {@link ExportJobRegistry#removeUser(UUID)}
+ * stops at its next batch; a file it finishes anyway is deleted once it sees the flag.</p>
+ */
+@Service
+public class ExportJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportJobRunner.class);
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final DataExportWriter dataExportWriter;
+    private final ExportJobRegistry exportJobRegistry;
+
+    public ExportJobRunner(DataExportWriter dataExportWriter, ExportJobRegistry exportJobRegistry) {
+        this.dataExportWriter = dataExportWriter;
+        this.exportJobRegistry = exportJobRegistry;
+    }
+
+    @Async("exportExecutor")
+    public void run(ExportJobStatus job) {
+        log.info("Starting data export job {} (user={})", job.getJobId(), job.getUserId());
+        job.setState(JobState.RUNNING);
+
+        Path partial = exportJobRegistry.partialFileFor(job.getJobId());
+        Path file = exportJobRegistry.fileFor(job.getJobId());
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(partial), GZIP_BUFFER_SIZE)) {
+                dataExportWriter.write(job.getUserId(), out, job);
+            }
+            Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            if (job.isCancelled()) {
+                // Cancelled after the last batch, possibly after the registry deleted the files
+                Files.deleteIfExists(file);
+                throw new CancellationException("Export cancelled");
+            }
+            job.setFile(file, Files.size(file));
+            job.setState(JobState.COMPLETED);
+            log.info("Data export job {} completed ({} bytes)", job.getJobId(), job.getSizeBytes());
+        } catch (CancellationException e) {
+            log.info("Data export job {} cancelled", job.getJobId());
+            deleteQuietly(partial);
+            job.setState(JobState.FAILED);
+        } catch (Exception e) {
+            log.error("Data export job {} failed: {}", job.getJobId(), e.getMessage(), e);
+            deleteQuietly(partial);
+            job.setErrorMessage(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            job.setState(JobState.FAILED);
+        } finally {
+            job.setFinishedAt(Instant.now());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.checkpoint.api.jobs;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.checkpoint.api.dto.export.DataExportJobDto;
+
+/**
+ * Mutable, thread-safe status of a single asynchronous data export.
+ *
+ * <p>The worker thread advances the counters while HTTP request threads read a
+ * {@link #toDto() snapshot}; counters are therefore atomics and lifecycle fields
+ * are {@code volatile}. The file is set before the state moves to
+ * {@link JobState#COMPLETED}, so a reader that sees the terminal state also sees it.</p>
+ */
+public class ExportJobStatus {
+
+    private final UUID jobId;
+    private final UUID userId;
+    private final int totalSections;
+    private final Duration retention;
+
+    private volatile JobState state = JobState.PENDING;
+    private final AtomicInteger sectionsCompleted = new AtomicInteger();
+    private final AtomicLong recordsWritten = new AtomicLong();
+    private volatile Path file;
+    private volatile Long sizeBytes;
+    private volatile String errorMessage;
+    private volatile boolean cancelled;
+
+    private final Instant startedAt = Instant.now();
+    private volatile Instant finishedAt;
+
+    public ExportJobStatus(UUID jobId, UUID userId, int totalSections, Duration retention) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.totalSections = totalSections;
+        this.retention = retention;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public JobState getState() {
+        return state;
+    }
+
+    public void setState(JobState state) {
+        this.state = state;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * Records the finished file. Must be called before the state is set to
+     * {@link JobState#COMPLETED}.
+     */
+    public void setFile(Path file, long sizeBytes) {
+        this.file = file;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    /**
+     * @return when the file is due for deletion, or {@code null} while the job runs
+     */
+    public Instant getExpiresAt() {
+        return finishedAt != null ? finishedAt.plus(retention) : null;
+    }
+
+    public boolean isActive() {
+        return state == JobState.PENDING || state == JobState.RUNNING;
+    }
+
+    /**
+     * Asks the worker to stop; it checks between batches of rows and discards its output.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    // ── Progress ────────────────────────────────────────────────────────
+
+    public void sectionCompleted() {
+        sectionsCompleted.incrementAndGet();
+    }
+
+    public void recordsWritten(int count) {
+        recordsWritten.addAndGet(count);
+    }
+
+    /**
+     * Takes a consistent-enough snapshot of the current counters for serialization.
+     *
+     * @param downloadUrl the download link to expose once the job has completed
+     */
+    public DataExportJobDto toDto(String downloadUrl) {
+        JobState current = state;
+        return new DataExportJobDto(
+                jobId.toString(),
+                current.name(),
+                sectionsCompleted.get(),
+                totalSections,
+                recordsWritten.get(),
+                current == JobState.COMPLETED ? sizeBytes : null,
+                current == JobState.COMPLETED ? downloadUrl : null,
+                errorMessage,
+                startedAt,
+                finishedAt,
+                getExpiresAt()
+        );
+    }
+}
@@ -14,8 +14,8 @@ import com.checkpoint.api.services.GameImportService;
 
 /**
  * Executes a bulk-import job on a background thread (the dedicated single-thread
- * {@code importExecutor}). Runs OUTSIDE any transaction — each game is committed
- * independently by {@code GamePersistenceService}. Errors are captured into the
+ * {@code importExecutor}). Runs OUTSIDE any transaction — games are committed in
+ * small chunks by {@code GamePersistenceService}. Errors are captured into the
  * job status rather than propagated, since there is no HTTP caller to receive them.
  */
 @Service
@@ -36,13 +36,15 @@ public class ImportJobRunner {
         log.info("Starting import job {} (type={})", job.getJobId(), job.getType());
         job.setState(JobState.RUNNING);
         try {
-            List<IgdbGameDto> games = switch (job.getType()) {
-                case TOP_RATED -> igdbApiClient.fetchTopRatedGames(job.getRequestedLimit(), job.getMinRatingCount());
-                case RECENT -> igdbApiClient.fetchRecentlyReleasedGames(job.getRequestedLimit());
-            };
-            job.setTotalFetched(games.size());
-
-            gameImportService.bulkImport(games, job);
+            switch (job.getType()) {
+                case TOP_RATED -> gameImportService.bulkImportTopRated(
+                        job.getRequestedLimit(), job.getMinRatingCount(), job);
+                case RECENT -> {
+                    List<IgdbGameDto> games = igdbApiClient.fetchRecentlyReleasedGames(job.getRequestedLimit());
+                    job.setTotalFetched(games.size());
+                    gameImportService.bulkImport(games, job);
+                }
+            }
 
             job.setState(JobState.COMPLETED);
             log.info("Import job {} completed", job.getJobId());
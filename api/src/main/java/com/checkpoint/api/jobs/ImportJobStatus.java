@@ -88,6 +88,11 @@ public class ImportJobStatus implements ImportProgressListener {
 
     // ── ImportProgressListener ──────────────────────────────────────────
 
+    @Override
+    public void fetched(int count) {
+        totalFetched.addAndGet(count);
+    }
+
     @Override
     public void processed() {
         processed.incrementAndGet();
@@ -1,12 +1,12 @@
 package com.checkpoint.api.jobs;
 
 /**
- * Lifecycle state of an asynchronous bulk-import job.
+ * Lifecycle state of an asynchronous job (bulk import or data export).
  */
 public enum JobState {
     /** Created but the worker has not started yet. */
     PENDING,
-    /** The worker is actively importing games. */
+    /** The worker is actively importing games or writing the export. */
     RUNNING,
     /** Finished successfully. */
     COMPLETED,
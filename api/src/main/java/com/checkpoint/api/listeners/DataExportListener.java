@@ -0,0 +1,40 @@
+package com.checkpoint.api.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.checkpoint.api.events.UserAccountDeletedEvent;
+import com.checkpoint.api.jobs.ExportJobRegistry;
+
+/**
+ * Discards a deleted user's data export, so neither the job nor its file outlives the
+ * account.
+ *
+ * <p>Runs {@link TransactionPhase#AFTER_COMMIT} so a rolled-back deletion keeps the
+ * export. Failures are logged; a file left behind is still removed by the retention
+ * sweep.</p>
+ */
+@Component
+public class DataExportListener {
+
+    private static final Logger log = LoggerFactory.getLogger(DataExportListener.class);
+
+    private final ExportJobRegistry exportJobRegistry;
+
+    public DataExportListener(ExportJobRegistry exportJobRegistry) {
+        this.exportJobRegistry = exportJobRegistry;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserAccountDeleted(UserAccountDeletedEvent event) {
+        try {
+            exportJobRegistry.removeUser(event.getUserId());
+        } catch (Exception e) {
+            log.warn("Failed to remove the data export of deleted user {}: {}",
+                    event.getUserId(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.checkpoint.api.listeners;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import com.checkpoint.api.events.DurableEvent;
+import com.checkpoint.api.events.DurableEventListener;
+
+/**
+ * Collects every {@link DurableEventListener} method at startup so the outbox can tell
+ * which handlers an event needs a delivery for, and invoke them later by key.
+ */
+@Component
+public class DurableEventHandlerRegistry implements BeanPostProcessor {
+
+    private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        Map<Method, DurableEventListener> annotated = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<DurableEventListener>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, DurableEventListener.class));
+
+        for (Method method : annotated.keySet()) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            if (parameterTypes.length != 1 || !DurableEvent.class.isAssignableFrom(parameterTypes[0])) {
+                throw new IllegalStateException("@DurableEventListener method " + method
+                        + " must take a single DurableEvent parameter");
+            }
+            Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+            ReflectionUtils.makeAccessible(invocable);
+            String key = beanName + "#" + method.getName();
+            if (handlers.putIfAbsent(key, new Handler(key, bean, invocable, parameterTypes[0])) != null) {
+                throw new IllegalStateException("Duplicate @DurableEventListener " + key
+                        + "; overloaded handler names are not supported");
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Returns every handler accepting the given event type, ordered by key.
+     *
+     * @param eventType the concrete event class
+     * @return the handlers, possibly empty
+     */
+    public List<Handler> handlersFor(Class<?> eventType) {
+        return handlers.values().stream()
+                .filter(handler -> handler.eventType().isAssignableFrom(eventType))
+                .sorted((a, b) -> a.key().compareTo(b.key()))
+                .toList();
+    }
+
+    /**
+     * Returns the handler registered under the given key.
+     *
+     * @param key the {@code beanName#methodName} key stored with the delivery
+     * @return the handler, or empty if it no longer exists
+     */
+    public Optional<Handler> handler(String key) {
+        return Optional.ofNullable(handlers.get(key));
+    }
+
+    /**
+     * A registered handler method.
+     *
+     * @param key       {@code beanName#methodName}
+     * @param bean      the bean declaring the method
+     * @param method    the method to call on {@code bean}
+     * @param eventType the event type it accepts
+     */
+    public record Handler(String key, Object bean, Method method, Class<?> eventType) {
+
+        /**
+         * Calls the handler, rethrowing whatever it threw.
+         *
+         * @param event the event to handle
+         */
+        public void invoke(Object event) {
+            try {
+                method.invoke(bean, event);
+            } catch (InvocationTargetException e) {
+                ReflectionUtils.rethrowRuntimeException(e.getTargetException());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot invoke " + key, e);
+            }
+        }
+    }
+}
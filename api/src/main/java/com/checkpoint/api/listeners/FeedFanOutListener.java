@@ -0,0 +1,62 @@
+package com.checkpoint.api.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.events.FeedActivityEvent;
+import com.checkpoint.api.events.FeedActivityRemovedEvent;
+import com.checkpoint.api.events.UserAccountDeletedEvent;
+import com.checkpoint.api.events.UserFollowedEvent;
+import com.checkpoint.api.events.UserUnfollowedEvent;
+import com.checkpoint.api.services.FeedFanOutService;
+
+/**
+ * Keeps the materialized activity feed in sync with activities and the follow graph.
+ *
+ * <p>Unlike the gamification listeners, these handlers are deliberately
+ * <strong>synchronous</strong>: they run in the publisher's transaction, so the
+ * feed rows commit or roll back together with the activity that produced them
+ * and are never lost to a full async queue.</p>
+ */
+@Component
+public class FeedFanOutListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedFanOutListener.class);
+
+    private final FeedFanOutService feedFanOutService;
+
+    public FeedFanOutListener(FeedFanOutService feedFanOutService) {
+        this.feedFanOutService = feedFanOutService;
+    }
+
+    @EventListener
+    public void onFeedActivity(FeedActivityEvent event) {
+        log.debug("Recording {} feed activity {} for user {}",
+                event.getType(), event.getActivityId(), event.getUserId());
+        feedFanOutService.recordActivity(event);
+    }
+
+    @EventListener
+    public void onFeedActivityRemoved(FeedActivityRemovedEvent event) {
+        log.debug("Removing feed activity {}", event.getActivityId());
+        feedFanOutService.removeActivity(event.getActivityId());
+    }
+
+    @EventListener
+    public void onUserFollowed(UserFollowedEvent event) {
+        feedFanOutService.onFollow(event.getFollowerId(), event.getFollowedUserId());
+    }
+
+    @EventListener
+    public void onUserUnfollowed(UserUnfollowedEvent event) {
+        feedFanOutService.onUnfollow(event.getFollowerId(), event.getFollowedUserId());
+    }
+
+    @EventListener
+    public void onUserAccountDeleted(UserAccountDeletedEvent event) {
+        log.debug("Removing feed data of erased user {}", event.getUserId());
+        feedFanOutService.removeUser(event.getUserId());
+    }
+}
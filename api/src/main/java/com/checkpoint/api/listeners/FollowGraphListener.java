@@ -0,0 +1,62 @@
+package com.checkpoint.api.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.checkpoint.api.events.UserAccountDeletedEvent;
+import com.checkpoint.api.events.UserFollowedEvent;
+import com.checkpoint.api.events.UserUnfollowedEvent;
+import com.checkpoint.api.services.FollowGraphService;
+
+/**
+ * Keeps the in-memory follow graph in step with follows, unfollows and account
+ * deletions.
+ *
+ * <p>Runs {@link TransactionPhase#AFTER_COMMIT} so a rolled-back follow never shows up.
+ * Not {@code @Async}: a patch copies two adjacency rows. Failures are logged and left
+ * to the periodic resync.</p>
+ */
+@Component
+public class FollowGraphListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowGraphListener.class);
+
+    private final FollowGraphService followGraph;
+
+    public FollowGraphListener(FollowGraphService followGraph) {
+        this.followGraph = followGraph;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserFollowed(UserFollowedEvent event) {
+        try {
+            followGraph.followed(event.getFollowerId(), event.getFollowedUserId());
+        } catch (Exception e) {
+            log.warn("Failed to record follow {} -> {} in the follow graph: {}",
+                    event.getFollowerId(), event.getFollowedUserId(), e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserUnfollowed(UserUnfollowedEvent event) {
+        try {
+            followGraph.unfollowed(event.getFollowerId(), event.getFollowedUserId());
+        } catch (Exception e) {
+            log.warn("Failed to record unfollow {} -> {} in the follow graph: {}",
+                    event.getFollowerId(), event.getFollowedUserId(), e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserAccountDeleted(UserAccountDeletedEvent event) {
+        try {
+            followGraph.removeUser(event.getUserId());
+        } catch (Exception e) {
+            log.warn("Failed to drop user {} from the follow graph: {}",
+                    event.getUserId(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.checkpoint.api.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.checkpoint.api.events.GameCatalogChangedEvent;
+import com.checkpoint.api.services.CatalogTagIndexService;
+import com.checkpoint.api.services.GameSimilarityIndexService;
+
+/**
+ * Keeps catalog-derived in-memory structures in step with game imports and admin edits.
+ *
+ * <p>Runs {@link TransactionPhase#AFTER_COMMIT} so the refreshed game is read back in
+ * its committed state. Deliberately not {@code @Async}: a bulk import publishes one
+ * event per game and would overflow the shared event pool, while the per-game patch
+ * itself is cheap. Failures are logged and left to the nightly rebuild.</p>
+ */
+@Component
+public class GameCatalogListener {
+
+    private static final Logger log = LoggerFactory.getLogger(GameCatalogListener.class);
+
+    private final CatalogTagIndexService catalogTagIndex;
+    private final GameSimilarityIndexService similarityIndex;
+
+    public GameCatalogListener(CatalogTagIndexService catalogTagIndex,
+                               GameSimilarityIndexService similarityIndex) {
+        this.catalogTagIndex = catalogTagIndex;
+        this.similarityIndex = similarityIndex;
+    }
+
+    /**
+     * Handles a {@link GameCatalogChangedEvent} by patching the recommendation tag
+     * index and the similarity index.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGameCatalogChanged(GameCatalogChangedEvent event) {
+        if (event.getVideoGameId() == null) {
+            return;
+        }
+        try {
+            if (event.isRemoved()) {
+                catalogTagIndex.removeGame(event.getVideoGameId());
+            } else {
+                catalogTagIndex.refreshGame(event.getVideoGameId());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update catalog tag index for game {}: {}",
+                    event.getVideoGameId(), e.getMessage(), e);
+        }
+        try {
+            if (event.isRemoved()) {
+                similarityIndex.removeGame(event.getVideoGameId());
+            } else {
+                similarityIndex.refreshGame(event.getVideoGameId());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update similarity index for game {}: {}",
+                    event.getVideoGameId(), e.getMessage(), e);
+        }
+    }
+}
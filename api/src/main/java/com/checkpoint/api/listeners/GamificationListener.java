@@ -4,12 +4,11 @@ import java.time.LocalDateTime;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.checkpoint.api.enums.XpEventType;
 import com.checkpoint.api.events.CommentReplyEvent;
+import com.checkpoint.api.events.DurableEventListener;
 import com.checkpoint.api.events.GameFinishedEvent;
 import com.checkpoint.api.events.GameRatedEvent;
 import com.checkpoint.api.events.ListCreatedEvent;
@@ -24,9 +23,10 @@ import com.checkpoint.api.services.GamificationService;
  * Listens for gamification-related events and delegates XP awards
  * to the {@link GamificationService}.
  *
- * <p>All handlers are asynchronous to avoid blocking the publishing thread.
- * Dedup-keyed events go through {@link GamificationService#awardXp} so that
- * retried or reversed actions cannot farm XP.</p>
+ * <p>Handlers are {@link DurableEventListener}s: they run on the outbox workers once
+ * the publishing transaction has committed, in order per user. Dedup-keyed events go
+ * through {@link GamificationService#awardXp} so that retried or reversed actions
+ * cannot farm XP.</p>
  */
 @Component
 public class GamificationListener {
@@ -61,8 +61,7 @@ public class GamificationListener {
     /**
      * Handles a {@link ReviewCreatedEvent} by awarding XP to the user.
      */
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onReviewCreated(ReviewCreatedEvent event) {
         log.info("Handling ReviewCreatedEvent for user {}", event.getUserId());
         gamificationService.addXp(event.getUserId(), REVIEW_XP);
@@ -71,8 +70,7 @@ public class GamificationListener {
     /**
      * Handles a {@link GameFinishedEvent} by awarding XP to the user.
      */
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onGameFinished(GameFinishedEvent event) {
         log.info("Handling GameFinishedEvent for user {}", event.getUserId());
         gamificationService.addXp(event.getUserId(), GAME_FINISHED_XP);
@@ -83,8 +81,7 @@ public class GamificationListener {
      * Dedup key: {@code (followerId, USER_FOLLOWED, followedUserId)} — unfollow
      * + refollow does not grant a second time.
      */
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onUserFollowed(UserFollowedEvent event) {
         log.info("Handling UserFollowedEvent: follower={}, followed={}",
                 event.getFollowerId(), event.getFollowedUserId());
@@ -96,8 +93,7 @@ public class GamificationListener {
      * Handles a {@link UserGainedFollowerEvent} by awarding XP to the followed user.
      * Dedup key: {@code (followedUserId, USER_GAINED_FOLLOWER, followerId)}.
      */
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onUserGainedFollower(UserGainedFollowerEvent event) {
         log.info("Handling UserGainedFollowerEvent: followed={}, follower={}",
                 event.getFollowedUserId(), event.getFollowerId());
@@ -110,8 +106,7 @@ public class GamificationListener {
      * The publisher already filters: this event only fires for the user's first
      * list AND only when that list is public. We still dedup by listId.
      */
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onListCreated(ListCreatedEvent event) {
         log.info("Handling ListCreatedEvent: user={}, list={}",
                 event.getUserId(), event.getListId());
@@ -124,8 +119,7 @@ public class GamificationListener {
      * Enforces a 24h rolling cap: an author can earn at most
      * {@value #REVIEW_LIKED_DAILY_CAP} grants of this type in any 24h window.
      */
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onReviewLiked(ReviewLikedEvent event) {
         log.info("Handling ReviewLikedEvent: author={}, liker={}, review={}",
                 event.getReviewAuthorId(), event.getLikerId(), event.getReviewId());
@@ -150,8 +144,7 @@ public class GamificationListener {
      * Dedup key: {@code (userId, GAME_RATED, videoGameId)} — re-rating the same
      * game never grants twice, even though the publisher already filters re-rates.
      */
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onGameRated(GameRatedEvent event) {
         log.info("Handling GameRatedEvent: user={}, game={}",
                 event.getUserId(), event.getVideoGameId());
@@ -164,8 +157,7 @@ public class GamificationListener {
      * Dedup key: {@code (replierId, COMMENT_REPLY, parentCommentId)} — only the
      * first reply to a given parent earns XP.
      */
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onCommentReply(CommentReplyEvent event) {
         log.info("Handling CommentReplyEvent: replier={}, parent={}",
                 event.getReplierId(), event.getParentCommentId());
@@ -0,0 +1,52 @@
+package com.checkpoint.api.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.checkpoint.api.events.LeaderboardStandingChangedEvent;
+import com.checkpoint.api.services.LeaderboardIndexService;
+
+/**
+ * Keeps the in-memory leaderboard index in step with XP credits, bans and account
+ * deletions.
+ *
+ * <p>Runs {@link TransactionPhase#AFTER_COMMIT} so a rolled-back credit is never ranked.
+ * Not {@code @Async}: patching the index is a few skip-list operations, cheaper than
+ * handing the event to another thread. Failures are logged and left to the periodic
+ * resync.</p>
+ */
+@Component
+public class LeaderboardListener {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardListener.class);
+
+    private final LeaderboardIndexService leaderboardIndex;
+
+    public LeaderboardListener(LeaderboardIndexService leaderboardIndex) {
+        this.leaderboardIndex = leaderboardIndex;
+    }
+
+    /**
+     * Handles a {@link LeaderboardStandingChangedEvent} by patching the user's standing,
+     * or re-reading it when the event carries no score.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStandingChanged(LeaderboardStandingChangedEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        try {
+            if (event.hasScore()) {
+                leaderboardIndex.updateScore(event.getUserId(), event.getXpPoint(), event.getLevel());
+            } else {
+                leaderboardIndex.refreshUser(event.getUserId());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update leaderboard index for user {}: {}",
+                    event.getUserId(), e.getMessage(), e);
+        }
+    }
+}
@@ -2,10 +2,9 @@ package com.checkpoint.api.listeners;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import com.checkpoint.api.events.DurableEventListener;
 import com.checkpoint.api.events.UserActivityEvent;
 import com.checkpoint.api.services.LoginStreakService;
 
@@ -25,8 +24,7 @@ public class LoginStreakListener {
         this.loginStreakService = loginStreakService;
     }
 
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onUserActivity(UserActivityEvent event) {
         log.debug("Handling UserActivityEvent for user {}", event.getUserId());
         loginStreakService.recordActivity(event.getUserId());
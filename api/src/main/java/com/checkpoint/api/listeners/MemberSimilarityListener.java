@@ -0,0 +1,51 @@
+package com.checkpoint.api.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.checkpoint.api.events.UserAccountDeletedEvent;
+import com.checkpoint.api.events.UserGamesChangedEvent;
+import com.checkpoint.api.services.MemberSimilarityIndexService;
+
+/**
+ * Keeps the in-memory member similarity index in step with library and rating changes
+ * and account deletions.
+ *
+ * <p>Runs {@link TransactionPhase#AFTER_COMMIT} so the member's games are read back in
+ * their committed state. Not {@code @Async}: a refresh reads one member's game IDs and
+ * rehashes them. Failures are logged and left to the periodic resync.</p>
+ */
+@Component
+public class MemberSimilarityListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberSimilarityListener.class);
+
+    private final MemberSimilarityIndexService memberSimilarityIndex;
+
+    public MemberSimilarityListener(MemberSimilarityIndexService memberSimilarityIndex) {
+        this.memberSimilarityIndex = memberSimilarityIndex;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserGamesChanged(UserGamesChangedEvent event) {
+        try {
+            memberSimilarityIndex.refreshUser(event.getUserId());
+        } catch (Exception e) {
+            log.warn("Failed to refresh user {} in the member similarity index: {}",
+                    event.getUserId(), e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserAccountDeleted(UserAccountDeletedEvent event) {
+        try {
+            memberSimilarityIndex.removeUser(event.getUserId());
+        } catch (Exception e) {
+            log.warn("Failed to drop user {} from the member similarity index: {}",
+                    event.getUserId(), e.getMessage(), e);
+        }
+    }
+}
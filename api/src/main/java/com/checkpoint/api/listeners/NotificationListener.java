@@ -2,10 +2,9 @@ package com.checkpoint.api.listeners;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import com.checkpoint.api.events.DurableEventListener;
 import com.checkpoint.api.events.NotificationEvent;
 import com.checkpoint.api.services.NotificationService;
 
@@ -13,7 +12,8 @@ import com.checkpoint.api.services.NotificationService;
  * Listens for {@link NotificationEvent} and delegates notification creation
  * to the {@link NotificationService}.
  *
- * <p>All handlers are asynchronous to avoid blocking the publishing thread.</p>
+ * <p>The handler is a {@link DurableEventListener}, run by the outbox workers after
+ * the publishing transaction has committed.</p>
  */
 @Component
 public class NotificationListener {
@@ -37,8 +37,7 @@ public class NotificationListener {
      *
      * @param event the notification event
      */
-    @Async
-    @EventListener
+    @DurableEventListener
     public void onNotificationEvent(NotificationEvent event) {
         log.info("Received notification event — type: {}, recipient: {}", event.getType(), event.getRecipientId());
 
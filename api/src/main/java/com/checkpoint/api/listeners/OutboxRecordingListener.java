@@ -0,0 +1,28 @@
+package com.checkpoint.api.listeners;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.checkpoint.api.events.DurableEvent;
+import com.checkpoint.api.services.OutboxService;
+
+/**
+ * Writes every published {@link DurableEvent} to the outbox just before the publishing
+ * transaction commits, so the deliveries commit or roll back together with the change
+ * that caused them. An event published outside any transaction is stored right away.
+ */
+@Component
+public class OutboxRecordingListener {
+
+    private final OutboxService outboxService;
+
+    public OutboxRecordingListener(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onDurableEvent(DurableEvent event) {
+        outboxService.record(event);
+    }
+}
@@ -3,14 +3,12 @@ package com.checkpoint.api.listeners;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.checkpoint.api.entities.Badge;
 import com.checkpoint.api.enums.NotificationType;
 import com.checkpoint.api.events.BadgeUnlockedEvent;
+import com.checkpoint.api.events.DurableEventListener;
 import com.checkpoint.api.events.NotificationEvent;
 import com.checkpoint.api.events.UserLeveledUpEvent;
 import com.checkpoint.api.repositories.BadgeRepository;
@@ -21,8 +19,9 @@ import com.checkpoint.api.repositories.BadgeRepository;
  * publishing {@link NotificationEvent}s. Keeps {@code GamificationServiceImpl}
  * and {@code BadgeAwardingServiceImpl} decoupled from {@code NotificationService}.
  *
- * <p>Handlers fire {@link TransactionPhase#AFTER_COMMIT} so that the upstream
- * persistence (level update / badge award) is already visible when we query for it.</p>
+ * <p>Handlers are {@link DurableEventListener}s, run after the upstream persistence
+ * (level update / badge award) has committed, so it is visible when we query for it.
+ * The {@link NotificationEvent}s they publish go through the outbox in turn.</p>
  */
 @Component
 public class ProgressionNotificationListener {
@@ -38,8 +37,7 @@ public class ProgressionNotificationListener {
         this.badgeRepository = badgeRepository;
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @DurableEventListener
     public void onUserLeveledUp(UserLeveledUpEvent event) {
         log.info("Creating LEVEL_UP notification for user {} (new level {})",
                 event.getUserId(), event.getNewLevel());
@@ -53,8 +51,7 @@ public class ProgressionNotificationListener {
         ));
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @DurableEventListener
     public void onBadgeUnlocked(BadgeUnlockedEvent event) {
         Badge badge = badgeRepository.findByCode(event.getCode().name()).orElse(null);
         if (badge == null) {
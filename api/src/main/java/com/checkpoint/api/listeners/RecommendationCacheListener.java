@@ -0,0 +1,89 @@
+package com.checkpoint.api.listeners;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.checkpoint.api.events.BacklogChangedEvent;
+import com.checkpoint.api.events.FavoritesChangedEvent;
+import com.checkpoint.api.events.GameFinishedEvent;
+import com.checkpoint.api.events.GameLikeToggledEvent;
+import com.checkpoint.api.events.GameRemovedFromLibraryEvent;
+import com.checkpoint.api.events.GameStartedPlayingEvent;
+import com.checkpoint.api.events.RateRecordedEvent;
+import com.checkpoint.api.events.UserGamesChangedEvent;
+import com.checkpoint.api.events.WishlistChangedEvent;
+import com.checkpoint.api.services.GameRecommendationService;
+
+/**
+ * Evicts a user's cached recommendations whenever one of their affinity inputs changes
+ * (rates, library statuses, game-likes, wishes) or a game enters or leaves one of the
+ * collections excluded from their recommendations (library, ratings, favorites, backlog).
+ *
+ * <p>Runs {@link TransactionPhase#AFTER_COMMIT} so a request racing the write cannot
+ * re-cache the old list after the eviction. Deliberately synchronous: the eviction is a
+ * map removal, and doing it inline means the user's next request already sees the
+ * change.</p>
+ */
+@Component
+public class RecommendationCacheListener {
+
+    private final GameRecommendationService gameRecommendationService;
+
+    public RecommendationCacheListener(GameRecommendationService gameRecommendationService) {
+        this.gameRecommendationService = gameRecommendationService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRateRecorded(RateRecordedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGameStartedPlaying(GameStartedPlayingEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGameFinished(GameFinishedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGameRemovedFromLibrary(GameRemovedFromLibraryEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGameLikeToggled(GameLikeToggledEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserGamesChanged(UserGamesChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFavoritesChanged(FavoritesChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBacklogChanged(BacklogChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    private void evict(UUID userId) {
+        if (userId != null) {
+            gameRecommendationService.evictRecommendations(userId);
+        }
+    }
+}
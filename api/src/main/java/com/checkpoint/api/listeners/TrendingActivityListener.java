@@ -0,0 +1,89 @@
+package com.checkpoint.api.listeners;
+
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.checkpoint.api.enums.TrendingSignal;
+import com.checkpoint.api.events.GameLikeToggledEvent;
+import com.checkpoint.api.events.TrendingActivityEvent;
+import com.checkpoint.api.events.TrendingActivityRemovedEvent;
+import com.checkpoint.api.events.WishlistChangedEvent;
+import com.checkpoint.api.services.TrendingScoreService;
+
+/**
+ * Feeds the hourly trending counters from activity events.
+ *
+ * <p>Runs {@link TransactionPhase#AFTER_COMMIT} so rolled-back actions never count.
+ * Deliberately not {@code @Async}: the increment is one single-row update and the
+ * shared event pool is small. When two requests create the same hour's counter at once
+ * the loser hits a key violation and retries as an update. Other failures are logged
+ * and dropped; the ranking tolerates a lost point.</p>
+ *
+ * <p>Deleting the row behind a signal takes its points back out of the bucket it was
+ * added to, so toggling an action cannot inflate a game's score.</p>
+ */
+@Component
+public class TrendingActivityListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingActivityListener.class);
+
+    private final TrendingScoreService trendingScoreService;
+
+    public TrendingActivityListener(TrendingScoreService trendingScoreService) {
+        this.trendingScoreService = trendingScoreService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTrendingActivity(TrendingActivityEvent event) {
+        record(event.getVideoGameId(), event.getSignal());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGameLikeToggled(GameLikeToggledEvent event) {
+        if (event.isLiked()) {
+            record(event.getVideoGameId(), TrendingSignal.LIKE);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        if (event.isAdded()) {
+            record(event.getVideoGameId(), TrendingSignal.WISH);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTrendingActivityRemoved(TrendingActivityRemovedEvent event) {
+        if (event.getVideoGameId() == null || event.getCreatedAt() == null) {
+            return;
+        }
+        try {
+            trendingScoreService.removeActivity(event.getVideoGameId(), event.getSignal(), event.getCreatedAt());
+        } catch (Exception e) {
+            log.warn("Failed to remove {} trending activity for game {}: {}",
+                    event.getSignal(), event.getVideoGameId(), e.getMessage(), e);
+        }
+    }
+
+    private void record(UUID videoGameId, TrendingSignal signal) {
+        if (videoGameId == null) {
+            return;
+        }
+        try {
+            try {
+                trendingScoreService.recordActivity(videoGameId, signal);
+            } catch (DataIntegrityViolationException e) {
+                trendingScoreService.recordActivity(videoGameId, signal);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to record {} trending activity for game {}: {}",
+                    signal, videoGameId, e.getMessage(), e);
+        }
+    }
+}
@@ -18,4 +18,17 @@ public interface MemberMapper {
      * @return the member card DTO
      */
     MemberCardDto toMemberCardDto(User user, Long followerCount, Long reviewCount, Boolean isFollowing);
+
+    /**
+     * Converts a User entity to a MemberCardDto carrying the viewer's affinity with the user.
+     *
+     * @param user          the user entity
+     * @param followerCount the number of followers
+     * @param reviewCount   the number of reviews
+     * @param isFollowing   whether the viewer follows this user (null if not authenticated)
+     * @param affinityScore the viewer's estimated affinity with the user (null if unknown)
+     * @return the member card DTO
+     */
+    MemberCardDto toMemberCardDto(User user, Long followerCount, Long reviewCount, Boolean isFollowing,
+                                  Integer affinityScore);
 }
@@ -17,6 +17,15 @@ public class MemberMapperImpl implements MemberMapper {
      */
     @Override
     public MemberCardDto toMemberCardDto(User user, Long followerCount, Long reviewCount, Boolean isFollowing) {
+        return toMemberCardDto(user, followerCount, reviewCount, isFollowing, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemberCardDto toMemberCardDto(User user, Long followerCount, Long reviewCount, Boolean isFollowing,
+                                         Integer affinityScore) {
         if (user == null) {
             return null;
         }
@@ -27,7 +36,8 @@ public class MemberMapperImpl implements MemberMapper {
                 user.getLevel(),
                 followerCount != null ? followerCount : 0L,
                 reviewCount != null ? reviewCount : 0L,
-                isFollowing
+                isFollowing,
+                affinityScore
         );
     }
 }
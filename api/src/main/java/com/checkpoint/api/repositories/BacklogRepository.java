@@ -116,8 +116,8 @@ public interface BacklogRepository extends JpaRepository<Backlog, UUID> {
 
     /**
      * Returns the games appearing in the most users' backlogs, ranked by descending count.
-     * Joins through to the rates table so the {@link GameCardDto} projection includes
-     * the average rating and rating count in a single query (avoids N+1).
+     * The {@link GameCardDto} projection reads the game's stored average rating and
+     * rating count, so no rates are joined.
      *
      * @param pageable pagination parameters (used to cap the result size; sort is ignored)
      * @return a page of game cards ordered by backlog count (descending)
@@ -129,13 +129,12 @@ public interface BacklogRepository extends JpaRepository<Backlog, UUID> {
                 vg.coverUrl,
                 vg.releaseDate,
                 vg.averageRating,
-                COUNT(DISTINCT r.id)
+                vg.ratingCount
             )
             FROM Backlog b
             JOIN b.videoGame vg
-            LEFT JOIN vg.rates r
-            GROUP BY vg.id, vg.title, vg.coverUrl, vg.releaseDate, vg.averageRating
-            ORDER BY COUNT(DISTINCT b.id) DESC
+            GROUP BY vg.id, vg.title, vg.coverUrl, vg.releaseDate, vg.averageRating, vg.ratingCount
+            ORDER BY COUNT(b.id) DESC
             """)
     Page<GameCardDto> findMostBackloggedGames(Pageable pageable);
 
@@ -1,9 +1,13 @@
 package com.checkpoint.api.repositories;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.checkpoint.api.entities.Badge;
 
@@ -19,4 +23,28 @@ public interface BadgeRepository extends JpaRepository<Badge, UUID> {
      * @return an optional containing the badge if found
      */
     Optional<Badge> findByCode(String code);
+
+    /**
+     * Returns the codes of the badges a user has earned.
+     *
+     * @param userId the user
+     * @return badge codes
+     */
+    @Query("SELECT b.code FROM User u JOIN u.badges b WHERE u.id = :userId")
+    List<String> findCodesByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Gives a badge to a user unless they already have it, without loading their badges.
+     *
+     * @param userId  the user
+     * @param badgeId the badge
+     * @return 1 if the badge was granted, 0 if the user already had it or does not exist
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_badges (user_id, badge_id)
+            SELECT u.id, :badgeId FROM users u WHERE u.id = :userId
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int grantToUser(@Param("userId") UUID userId, @Param("badgeId") UUID badgeId);
 }
@@ -5,6 +5,9 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.checkpoint.api.entities.Comment;
@@ -83,4 +86,50 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
      * @return the comment count
      */
     long countByGameListId(UUID gameListId);
+
+    /**
+     * Atomically shifts a comment's like counter, never below zero.
+     *
+     * @param commentId the comment ID
+     * @param delta     +1 / -1
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("""
+            UPDATE Comment c
+            SET c.likesCount = CASE WHEN c.likesCount + :delta < 0 THEN 0 ELSE c.likesCount + :delta END
+            WHERE c.id = :commentId
+            """)
+    int adjustLikesCount(@Param("commentId") UUID commentId, @Param("delta") int delta);
+
+    /**
+     * Atomically shifts a comment's reply counter, never below zero.
+     *
+     * @param commentId the parent comment ID
+     * @param delta     +1 / -1
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("""
+            UPDATE Comment c
+            SET c.repliesCount = CASE WHEN c.repliesCount + :delta < 0 THEN 0 ELSE c.repliesCount + :delta END
+            WHERE c.id = :commentId
+            """)
+    int adjustRepliesCount(@Param("commentId") UUID commentId, @Param("delta") int delta);
+
+    /**
+     * Recomputes the like / reply counters of every comment whose stored value no longer
+     * matches the source rows.
+     *
+     * @return the number of comments corrected
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE comments SET
+                likes_count = (SELECT COUNT(*) FROM likes l WHERE l.comment_id = comments.id),
+                replies_count = (SELECT COUNT(*) FROM comments r WHERE r.parent_comment_id = comments.id)
+            WHERE likes_count <> (SELECT COUNT(*) FROM likes l WHERE l.comment_id = comments.id)
+               OR replies_count <> (SELECT COUNT(*) FROM comments r WHERE r.parent_comment_id = comments.id)
+            """, nativeQuery = true)
+    int recountEngagement();
 }
@@ -1,9 +1,13 @@
 package com.checkpoint.api.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.checkpoint.api.entities.Company;
@@ -21,4 +25,14 @@ public interface CompanyRepository extends JpaRepository<Company, UUID> {
      * @return Optional containing the company if found
      */
     Optional<Company> findByNameIgnoreCase(String name);
+
+    /**
+     * Finds every company whose lower-cased name is in the given collection.
+     * Used by the bulk import to resolve a whole chunk's companies in one query.
+     *
+     * @param lowerNames the lower-cased names to look up
+     * @return the matching companies (may be empty)
+     */
+    @Query("SELECT c FROM Company c WHERE LOWER(c.name) IN :lowerNames")
+    List<Company> findAllByLowerNameIn(@Param("lowerNames") Collection<String> lowerNames);
 }
@@ -0,0 +1,109 @@
+package com.checkpoint.api.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.checkpoint.api.dto.export.BacklogEntryExport;
+import com.checkpoint.api.dto.export.CommentExport;
+import com.checkpoint.api.dto.export.FavoriteExport;
+import com.checkpoint.api.dto.export.GameLibraryEntryExport;
+import com.checkpoint.api.dto.export.GameListEntryExport;
+import com.checkpoint.api.dto.export.GameListExport;
+import com.checkpoint.api.dto.export.PlayLogExport;
+import com.checkpoint.api.dto.export.RatingExport;
+import com.checkpoint.api.dto.export.ReviewExport;
+import com.checkpoint.api.dto.export.SocialLinkExport;
+import com.checkpoint.api.dto.export.TagExport;
+import com.checkpoint.api.dto.export.UserExportProfile;
+import com.checkpoint.api.dto.export.WishlistEntryExport;
+
+/**
+ * Custom repository reading a user's personal data for the GDPR export, one data
+ * category at a time.
+ *
+ * <p>Every {@code stream*} method selects the export rows directly (game titles and
+ * platform names are joined in the query, no entity is loaded) and is read through a
+ * server-side cursor, so memory stays flat however much data the user has. Streams
+ * must be closed and consumed inside a transaction.</p>
+ */
+public interface DataExportRepository {
+
+    /**
+     * @param userId the user's ID
+     * @return the user's profile, or empty if the user does not exist
+     */
+    Optional<UserExportProfile> findProfile(UUID userId);
+
+    /**
+     * @return the user's library entries, oldest first
+     */
+    Stream<GameLibraryEntryExport> streamLibrary(UUID userId);
+
+    /**
+     * @return the user's play logs, oldest first, with empty {@code tags}
+     *         (see {@link #findPlayLogTagNames})
+     */
+    Stream<PlayLogExport> streamPlayLogs(UUID userId);
+
+    /**
+     * @param playLogIds a batch of play log IDs
+     * @return the tag names of each play log that has tags, sorted by name
+     */
+    Map<UUID, List<String>> findPlayLogTagNames(Collection<UUID> playLogIds);
+
+    /**
+     * @return the user's reviews, oldest first
+     */
+    Stream<ReviewExport> streamReviews(UUID userId);
+
+    /**
+     * @return the user's comments, oldest first
+     */
+    Stream<CommentExport> streamComments(UUID userId);
+
+    /**
+     * @return the user's wishlist, oldest first
+     */
+    Stream<WishlistEntryExport> streamWishlist(UUID userId);
+
+    /**
+     * @return the user's backlog, oldest first
+     */
+    Stream<BacklogEntryExport> streamBacklog(UUID userId);
+
+    /**
+     * @return the user's favorites, in display order
+     */
+    Stream<FavoriteExport> streamFavorites(UUID userId);
+
+    /**
+     * @return the user's game lists, oldest first, with empty {@code entries}
+     *         (see {@link #findGameListEntries})
+     */
+    Stream<GameListExport> streamGameLists(UUID userId);
+
+    /**
+     * @param listIds a batch of game list IDs
+     * @return the entries of each non-empty list, in list order
+     */
+    Map<UUID, List<GameListEntryExport>> findGameListEntries(Collection<UUID> listIds);
+
+    /**
+     * @return the user's tags, sorted by name
+     */
+    Stream<TagExport> streamTags(UUID userId);
+
+    /**
+     * @return the user's ratings, oldest first
+     */
+    Stream<RatingExport> streamRatings(UUID userId);
+
+    /**
+     * @return the user's social links, oldest first
+     */
+    Stream<SocialLinkExport> streamSocialLinks(UUID userId);
+}
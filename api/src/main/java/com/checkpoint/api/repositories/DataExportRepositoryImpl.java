@@ -0,0 +1,247 @@
+package com.checkpoint.api.repositories;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.dto.export.BacklogEntryExport;
+import com.checkpoint.api.dto.export.CommentExport;
+import com.checkpoint.api.dto.export.FavoriteExport;
+import com.checkpoint.api.dto.export.GameLibraryEntryExport;
+import com.checkpoint.api.dto.export.GameListEntryExport;
+import com.checkpoint.api.dto.export.GameListExport;
+import com.checkpoint.api.dto.export.PlayLogExport;
+import com.checkpoint.api.dto.export.RatingExport;
+import com.checkpoint.api.dto.export.ReviewExport;
+import com.checkpoint.api.dto.export.SocialLinkExport;
+import com.checkpoint.api.dto.export.TagExport;
+import com.checkpoint.api.dto.export.UserExportProfile;
+import com.checkpoint.api.dto.export.WishlistEntryExport;
+import com.checkpoint.api.enums.PlayStatus;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementation of {@link DataExportRepository}.
+ * Each category is a single JPQL constructor-expression query; the fetch size makes the
+ * PostgreSQL driver read the result through a cursor instead of buffering all of it.
+ */
+@Repository
+public class DataExportRepositoryImpl implements DataExportRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String DTO = "com.checkpoint.api.dto.export.";
+
+    private final EntityManager entityManager;
+
+    public DataExportRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<UserExportProfile> findProfile(UUID userId) {
+        return entityManager.createQuery("""
+                        SELECT NEW %sUserExportProfile(u.id, u.pseudo, u.email, u.bio, u.picture,
+                               u.isPrivate, u.level, u.xpPoint, u.createdAt)
+                        FROM User u WHERE u.id = :userId
+                        """.formatted(DTO), UserExportProfile.class)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public Stream<GameLibraryEntryExport> streamLibrary(UUID userId) {
+        return stream("""
+                SELECT NEW %sGameLibraryEntryExport(g.id, g.title, ug.status, ug.createdAt, ug.updatedAt)
+                FROM UserGame ug JOIN ug.videoGame g
+                WHERE ug.user.id = :userId
+                ORDER BY ug.createdAt, ug.id
+                """, GameLibraryEntryExport.class, userId);
+    }
+
+    @Override
+    public Stream<PlayLogExport> streamPlayLogs(UUID userId) {
+        // Constructor expressions cannot fill the tags list, so rows are mapped by hand.
+        return stream("""
+                SELECT p.id, g.id, g.title, p.status, p.isReplay, p.timePlayed, p.startDate,
+                       p.endDate, p.ownership, p.score, pl.name, p.createdAt, p.updatedAt
+                FROM UserGamePlay p JOIN p.videoGame g JOIN p.platform pl
+                WHERE p.user.id = :userId
+                ORDER BY p.createdAt, p.id
+                """, Object[].class, userId)
+                .map(row -> new PlayLogExport(
+                        (UUID) row[0],
+                        (UUID) row[1],
+                        (String) row[2],
+                        (PlayStatus) row[3],
+                        (Boolean) row[4],
+                        (Integer) row[5],
+                        (LocalDate) row[6],
+                        (LocalDate) row[7],
+                        (String) row[8],
+                        (Integer) row[9],
+                        (String) row[10],
+                        List.of(),
+                        (LocalDateTime) row[11],
+                        (LocalDateTime) row[12]));
+    }
+
+    @Override
+    public Map<UUID, List<String>> findPlayLogTagNames(Collection<UUID> playLogIds) {
+        if (playLogIds.isEmpty()) {
+            return Map.of();
+        }
+        return entityManager.createQuery("""
+                        SELECT p.id, t.name
+                        FROM UserGamePlay p JOIN p.tags t
+                        WHERE p.id IN :ids
+                        ORDER BY t.name
+                        """, Object[].class)
+                .setParameter("ids", playLogIds)
+                .getResultList()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        row -> (UUID) row[0],
+                        Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+    }
+
+    @Override
+    public Stream<ReviewExport> streamReviews(UUID userId) {
+        return stream("""
+                SELECT NEW %sReviewExport(r.id, g.id, g.title, r.content, r.haveSpoilers,
+                       r.createdAt, r.updatedAt)
+                FROM Review r JOIN r.videoGame g
+                WHERE r.user.id = :userId
+                ORDER BY r.createdAt, r.id
+                """, ReviewExport.class, userId);
+    }
+
+    @Override
+    public Stream<CommentExport> streamComments(UUID userId) {
+        return stream("""
+                SELECT NEW %sCommentExport(c.id, c.content, r.id, gl.id, c.createdAt, c.updatedAt)
+                FROM Comment c LEFT JOIN c.review r LEFT JOIN c.gameList gl
+                WHERE c.user.id = :userId
+                ORDER BY c.createdAt, c.id
+                """, CommentExport.class, userId);
+    }
+
+    @Override
+    public Stream<WishlistEntryExport> streamWishlist(UUID userId) {
+        return stream("""
+                SELECT NEW %sWishlistEntryExport(g.id, g.title, w.priority, w.createdAt, w.updatedAt)
+                FROM Wish w JOIN w.videoGame g
+                WHERE w.user.id = :userId
+                ORDER BY w.createdAt, w.id
+                """, WishlistEntryExport.class, userId);
+    }
+
+    @Override
+    public Stream<BacklogEntryExport> streamBacklog(UUID userId) {
+        return stream("""
+                SELECT NEW %sBacklogEntryExport(g.id, g.title, b.priority, b.createdAt, b.updatedAt)
+                FROM Backlog b JOIN b.videoGame g
+                WHERE b.user.id = :userId
+                ORDER BY b.createdAt, b.id
+                """, BacklogEntryExport.class, userId);
+    }
+
+    @Override
+    public Stream<FavoriteExport> streamFavorites(UUID userId) {
+        return stream("""
+                SELECT NEW %sFavoriteExport(g.id, g.title, f.displayOrder, f.createdAt)
+                FROM Favorite f JOIN f.videoGame g
+                WHERE f.user.id = :userId
+                ORDER BY f.displayOrder NULLS LAST, f.id
+                """, FavoriteExport.class, userId);
+    }
+
+    @Override
+    public Stream<GameListExport> streamGameLists(UUID userId) {
+        return stream("""
+                SELECT gl.id, gl.title, gl.description, gl.isPrivate, gl.createdAt, gl.updatedAt
+                FROM GameList gl
+                WHERE gl.user.id = :userId
+                ORDER BY gl.createdAt, gl.id
+                """, Object[].class, userId)
+                .map(row -> new GameListExport(
+                        (UUID) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (Boolean) row[3],
+                        List.of(),
+                        (LocalDateTime) row[4],
+                        (LocalDateTime) row[5]));
+    }
+
+    @Override
+    public Map<UUID, List<GameListEntryExport>> findGameListEntries(Collection<UUID> listIds) {
+        if (listIds.isEmpty()) {
+            return Map.of();
+        }
+        return entityManager.createQuery("""
+                        SELECT e.gameList.id, g.id, g.title, e.position
+                        FROM GameListEntry e JOIN e.videoGame g
+                        WHERE e.gameList.id IN :ids
+                        ORDER BY e.position NULLS LAST, e.id
+                        """, Object[].class)
+                .setParameter("ids", listIds)
+                .getResultList()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        row -> (UUID) row[0],
+                        LinkedHashMap::new,
+                        Collectors.mapping(
+                                row -> new GameListEntryExport((UUID) row[1], (String) row[2], (Integer) row[3]),
+                                Collectors.toList())));
+    }
+
+    @Override
+    public Stream<TagExport> streamTags(UUID userId) {
+        return stream("""
+                SELECT NEW %sTagExport(t.id, t.name, t.createdAt)
+                FROM Tag t
+                WHERE t.user.id = :userId
+                ORDER BY t.name, t.id
+                """, TagExport.class, userId);
+    }
+
+    @Override
+    public Stream<RatingExport> streamRatings(UUID userId) {
+        return stream("""
+                SELECT NEW %sRatingExport(g.id, g.title, r.score, r.createdAt)
+                FROM Rate r JOIN r.videoGame g
+                WHERE r.user.id = :userId
+                ORDER BY r.createdAt, r.id
+                """, RatingExport.class, userId);
+    }
+
+    @Override
+    public Stream<SocialLinkExport> streamSocialLinks(UUID userId) {
+        return stream("""
+                SELECT NEW %sSocialLinkExport(s.url, s.createdAt)
+                FROM SocialLink s
+                WHERE s.user.id = :userId
+                ORDER BY s.createdAt, s.id
+                """, SocialLinkExport.class, userId);
+    }
+
+    private <T> Stream<T> stream(String jpql, Class<T> type, UUID userId) {
+        return entityManager.createQuery(jpql.formatted(DTO), type)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,76 @@
+package com.checkpoint.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.FeedActivity;
+
+/**
+ * Repository for {@link FeedActivity} entities — the per-actor log the
+ * materialized feed is fanned out from.
+ */
+@Repository
+public interface FeedActivityRepository extends JpaRepository<FeedActivity, UUID> {
+
+    /**
+     * Deletes activities older than the given cutoff. Their feed entries must
+     * be purged separately (see {@link FeedEntryRepository#deleteOlderThan}).
+     *
+     * @param cutoff the retention cutoff
+     * @return the number of deleted activities
+     */
+    @Modifying
+    @Query(value = "DELETE FROM feed_activities WHERE created_at < :cutoff", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Deletes every activity performed by a user (account erasure). Their feed
+     * entries must be purged separately (see {@link FeedEntryRepository#deleteByUserId}).
+     *
+     * @param userId the erased user
+     * @return the number of deleted activities
+     */
+    @Modifying
+    @Query(value = "DELETE FROM feed_activities WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Seeds the activity log from the source tables for everything created
+     * since the given timestamp. Mirrors the projection of the former
+     * UNION ALL feed query; only used to bootstrap an empty store.
+     *
+     * @param since the start of the feed window
+     * @return the number of inserted activities
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO feed_activities (id, type, user_id, video_game_id, detail, have_spoilers, play_log_id, created_at)
+            SELECT ugp.id, 'PLAY', ugp.user_id, ugp.video_game_id, ugp.status, NULL, NULL, ugp.created_at
+            FROM user_game_plays ugp
+            WHERE ugp.created_at >= :since
+            UNION ALL
+            SELECT r.id, 'RATING', r.user_id, r.video_game_id, CAST(r.score AS VARCHAR), NULL, NULL, r.created_at
+            FROM rates r
+            WHERE r.created_at >= :since
+            UNION ALL
+            SELECT rv.id, 'REVIEW', rv.user_id, rv.video_game_id, LEFT(rv.content, 200), rv.have_spoilers,
+                   rv.user_game_play_id, rv.created_at
+            FROM reviews rv
+            WHERE rv.created_at >= :since
+            UNION ALL
+            SELECT l.id, 'LIST', l.user_id, NULL, l.title, NULL, NULL, l.created_at
+            FROM lists l
+            WHERE l.created_at >= :since AND l.is_private = false
+            UNION ALL
+            SELECT lk.id, 'LIKE_GAME', lk.user_id, lk.video_game_id, NULL, NULL, NULL, lk.created_at
+            FROM likes lk
+            WHERE lk.created_at >= :since AND lk.video_game_id IS NOT NULL
+            """, nativeQuery = true)
+    int backfillSince(@Param("since") LocalDateTime since);
+}
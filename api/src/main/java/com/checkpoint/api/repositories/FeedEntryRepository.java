@@ -0,0 +1,125 @@
+package com.checkpoint.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.FeedEntry;
+
+/**
+ * Write-side repository for the materialized feed inbox ({@link FeedEntry}).
+ * Every fan-out is a single set-based statement joined against
+ * {@code user_follows} or {@code feed_activities}, so its cost does not
+ * depend on Hibernate flushing one entity per follower.
+ * The read side lives in {@link FeedRepository}.
+ */
+@Repository
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, FeedEntry.Key> {
+
+    /**
+     * Copies an activity into the inbox of every current follower of its actor.
+     *
+     * @param activityId the activity ID
+     * @param actorId    the user who performed the activity
+     * @param type       the activity type name
+     * @param createdAt  the activity timestamp
+     * @return the number of inbox rows written
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO feed_entries (owner_id, activity_id, actor_id, type, created_at)
+            SELECT uf.follower_id, :activityId, :actorId, :type, :createdAt
+            FROM user_follows uf
+            WHERE uf.following_id = :actorId
+            """, nativeQuery = true)
+    int fanOutToFollowers(@Param("activityId") UUID activityId,
+                          @Param("actorId") UUID actorId,
+                          @Param("type") String type,
+                          @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Copies the recent activities of a newly followed user into the
+     * follower's inbox so the feed is complete immediately after following.
+     *
+     * @param followerId the new follower
+     * @param followedId the followed user
+     * @param since      the start of the feed window
+     * @return the number of inbox rows written
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO feed_entries (owner_id, activity_id, actor_id, type, created_at)
+            SELECT :followerId, a.id, a.user_id, a.type, a.created_at
+            FROM feed_activities a
+            WHERE a.user_id = :followedId
+              AND a.created_at >= :since
+              AND NOT EXISTS (
+                  SELECT 1 FROM feed_entries fe
+                  WHERE fe.owner_id = :followerId AND fe.activity_id = a.id
+              )
+            """, nativeQuery = true)
+    int backfillFollower(@Param("followerId") UUID followerId,
+                         @Param("followedId") UUID followedId,
+                         @Param("since") LocalDateTime since);
+
+    /**
+     * Fans out every stored activity to every current follower. Only used to
+     * bootstrap an empty store, right after {@link FeedActivityRepository#backfillSince}.
+     *
+     * @return the number of inbox rows written
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO feed_entries (owner_id, activity_id, actor_id, type, created_at)
+            SELECT uf.follower_id, a.id, a.user_id, a.type, a.created_at
+            FROM feed_activities a
+            JOIN user_follows uf ON uf.following_id = a.user_id
+            """, nativeQuery = true)
+    int fanOutAll();
+
+    /**
+     * Removes an activity from every inbox it was fanned out to.
+     *
+     * @param activityId the activity ID
+     */
+    @Modifying
+    @Query(value = "DELETE FROM feed_entries WHERE activity_id = :activityId", nativeQuery = true)
+    void deleteByActivityId(@Param("activityId") UUID activityId);
+
+    /**
+     * Removes every activity of {@code actorId} from {@code ownerId}'s inbox.
+     * Used on unfollow.
+     *
+     * @param ownerId the inbox owner (the former follower)
+     * @param actorId the unfollowed user
+     */
+    @Modifying
+    @Query(value = "DELETE FROM feed_entries WHERE owner_id = :ownerId AND actor_id = :actorId", nativeQuery = true)
+    void deleteByOwnerIdAndActorId(@Param("ownerId") UUID ownerId, @Param("actorId") UUID actorId);
+
+    /**
+     * Removes a user's own inbox and every activity of theirs from other inboxes
+     * (account erasure).
+     *
+     * @param userId the erased user
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query(value = "DELETE FROM feed_entries WHERE owner_id = :userId OR actor_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Deletes inbox rows older than the given cutoff.
+     *
+     * @param cutoff the retention cutoff
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query(value = "DELETE FROM feed_entries WHERE created_at < :cutoff", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -4,26 +4,46 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.checkpoint.api.enums.FeedItemType;
 
 /**
- * Custom repository for querying the activity feed across multiple tables.
+ * Custom repository reading the materialized activity feed
+ * ({@code feed_entries} joined to {@code feed_activities}).
+ *
+ * <p>Both read paths are a single range scan over the owner's inbox index and
+ * never count the full feed. Result rows keep the shape
+ * {@code (id, type, created_at, user_id, video_game_id, extra1, extra2, extra3)}
+ * expected by {@link com.checkpoint.api.mapper.FeedMapper}.</p>
  */
 public interface FeedRepository {
 
     /**
-     * Finds recent activity items from the given followed users.
-     * Aggregates play sessions, ratings, reviews, and list creations
-     * using a UNION ALL native query.
+     * Finds a page of the owner's feed by offset. One extra row is fetched to
+     * tell whether a next page exists, instead of counting the whole feed.
      *
-     * @param followingIds the IDs of users being followed
-     * @param since        the start of the time window
-     * @param type         optional activity type filter (null = all types)
-     * @param pageable     pagination parameters
-     * @return a page of raw result rows (id, type, created_at, user_id, video_game_id, extra1, extra2)
+     * @param ownerId  the ID of the user whose feed is read
+     * @param since    the start of the time window
+     * @param type     optional activity type filter (null = all types)
+     * @param pageable pagination parameters
+     * @return a slice of raw result rows, newest first
      */
-    Page<Object[]> findFeedItems(List<UUID> followingIds, LocalDateTime since, FeedItemType type, Pageable pageable);
+    Slice<Object[]> findFeedItems(UUID ownerId, LocalDateTime since, FeedItemType type, Pageable pageable);
+
+    /**
+     * Finds the next rows of the owner's feed strictly older than the given
+     * keyset position {@code (cursorCreatedAt, cursorId)}.
+     *
+     * @param ownerId         the ID of the user whose feed is read
+     * @param since           the start of the time window
+     * @param type            optional activity type filter (null = all types)
+     * @param cursorCreatedAt the creation time of the last row already served (null = first page)
+     * @param cursorId        the ID of the last row already served (null = first page)
+     * @param limit           the maximum number of rows to return
+     * @return the raw result rows, newest first
+     */
+    List<Object[]> findFeedItemsBefore(UUID ownerId, LocalDateTime since, FeedItemType type,
+                                       LocalDateTime cursorCreatedAt, UUID cursorId, int limit);
 }
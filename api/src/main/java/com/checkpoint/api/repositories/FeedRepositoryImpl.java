@@ -1,13 +1,12 @@
 package com.checkpoint.api.repositories;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import com.checkpoint.api.enums.FeedItemType;
@@ -17,66 +16,36 @@ import jakarta.persistence.Query;
 
 /**
  * Implementation of {@link FeedRepository}.
- * Uses native SQL UNION ALL queries across multiple activity tables.
+ * Reads the owner's inbox from {@code feed_entries} in index order and joins
+ * each row to its {@code feed_activities} payload by primary key.
  */
 @Repository
 public class FeedRepositoryImpl implements FeedRepository {
 
-    private static final String FEED_QUERY = """
-            SELECT id, type, created_at, user_id, video_game_id, extra1, extra2, extra3
-            FROM (
-                SELECT ugp.id, 'PLAY' AS type, ugp.created_at, ugp.user_id, ugp.video_game_id,
-                       ugp.status AS extra1, NULL AS extra2, NULL AS extra3
-                FROM user_game_plays ugp
-                WHERE ugp.user_id IN (:followingIds) AND ugp.created_at >= :since
-                UNION ALL
-                SELECT r.id, 'RATING', r.created_at, r.user_id, r.video_game_id,
-                       CAST(r.score AS VARCHAR), NULL, NULL
-                FROM rates r
-                WHERE r.user_id IN (:followingIds) AND r.created_at >= :since
-                UNION ALL
-                SELECT rv.id, 'REVIEW', rv.created_at, rv.user_id, rv.video_game_id,
-                       LEFT(rv.content, 200), CAST(rv.have_spoilers AS VARCHAR),
-                       CAST(rv.user_game_play_id AS VARCHAR)
-                FROM reviews rv
-                WHERE rv.user_id IN (:followingIds) AND rv.created_at >= :since
-                UNION ALL
-                SELECT l.id, 'LIST', l.created_at, l.user_id, NULL,
-                       l.title, CAST((SELECT COUNT(*) FROM game_list_entries gle WHERE gle.list_id = l.id) AS VARCHAR), NULL
-                FROM lists l
-                WHERE l.user_id IN (:followingIds) AND l.created_at >= :since AND l.is_private = false
-                UNION ALL
-                SELECT lk.id, 'LIKE_GAME', lk.created_at, lk.user_id, lk.video_game_id,
-                       NULL, NULL, NULL
-                FROM likes lk
-                WHERE lk.user_id IN (:followingIds) AND lk.created_at >= :since
-                  AND lk.video_game_id IS NOT NULL
-            ) AS feed
-            WHERE (CAST(:type AS VARCHAR) IS NULL OR feed.type = CAST(:type AS VARCHAR))
-            ORDER BY created_at DESC
+    private static final String FEED_SELECT = """
+            SELECT a.id, a.type, a.created_at, a.user_id, a.video_game_id,
+                   a.detail AS extra1,
+                   CASE WHEN a.type = 'LIST'
+                        THEN CAST((SELECT COUNT(*) FROM game_list_entries gle WHERE gle.list_id = a.id) AS VARCHAR)
+                        ELSE CAST(a.have_spoilers AS VARCHAR)
+                   END AS extra2,
+                   CAST(a.play_log_id AS VARCHAR) AS extra3
+            FROM feed_entries fe
+            JOIN feed_activities a ON a.id = fe.activity_id
+            WHERE fe.owner_id = :ownerId AND fe.created_at >= :since
             """;
 
-    private static final String COUNT_QUERY = """
-            SELECT COUNT(*) FROM (
-                SELECT ugp.id, 'PLAY' AS type FROM user_game_plays ugp
-                WHERE ugp.user_id IN (:followingIds) AND ugp.created_at >= :since
-                UNION ALL
-                SELECT r.id, 'RATING' FROM rates r
-                WHERE r.user_id IN (:followingIds) AND r.created_at >= :since
-                UNION ALL
-                SELECT rv.id, 'REVIEW' FROM reviews rv
-                WHERE rv.user_id IN (:followingIds) AND rv.created_at >= :since
-                UNION ALL
-                SELECT l.id, 'LIST' FROM lists l
-                WHERE l.user_id IN (:followingIds) AND l.created_at >= :since AND l.is_private = false
-                UNION ALL
-                SELECT lk.id, 'LIKE_GAME' FROM likes lk
-                WHERE lk.user_id IN (:followingIds) AND lk.created_at >= :since
-                  AND lk.video_game_id IS NOT NULL
-            ) AS feed_count
-            WHERE (CAST(:type AS VARCHAR) IS NULL OR feed_count.type = CAST(:type AS VARCHAR))
+    // The type predicate is only appended when a filter is requested, so that each
+    // variant gets a plan on its own index instead of a generic "(:type IS NULL OR ...)".
+    private static final String TYPE_FILTER = " AND fe.type = :type";
+
+    private static final String KEYSET_FILTER = """
+             AND (fe.created_at < :cursorCreatedAt
+                  OR (fe.created_at = :cursorCreatedAt AND fe.activity_id < :cursorId))
             """;
 
+    private static final String FEED_ORDER = " ORDER BY fe.created_at DESC, fe.activity_id DESC";
+
     private final EntityManager entityManager;
 
     public FeedRepositoryImpl(EntityManager entityManager) {
@@ -84,34 +53,52 @@ public class FeedRepositoryImpl implements FeedRepository {
     }
 
     @Override
-    public Page<Object[]> findFeedItems(List<UUID> followingIds, LocalDateTime since, FeedItemType type, Pageable pageable) {
-        if (followingIds == null || followingIds.isEmpty()) {
-            return new PageImpl<>(Collections.emptyList(), pageable, 0);
-        }
+    public Slice<Object[]> findFeedItems(UUID ownerId, LocalDateTime since, FeedItemType type, Pageable pageable) {
+        Query query = createFeedQuery(ownerId, since, type, false);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
 
-        // Bind the enum as its name (String) so the nullable native parameter resolves cleanly.
-        String typeParam = (type != null) ? type.name() : null;
+        @SuppressWarnings("unchecked")
+        List<Object[]> results = query.getResultList();
 
-        Query countNativeQuery = entityManager.createNativeQuery(COUNT_QUERY);
-        countNativeQuery.setParameter("followingIds", followingIds);
-        countNativeQuery.setParameter("since", since);
-        countNativeQuery.setParameter("type", typeParam);
-        long total = ((Number) countNativeQuery.getSingleResult()).longValue();
+        boolean hasNext = results.size() > pageable.getPageSize();
+        List<Object[]> content = hasNext ? results.subList(0, pageable.getPageSize()) : results;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
 
-        if (total == 0) {
-            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+    @Override
+    public List<Object[]> findFeedItemsBefore(UUID ownerId, LocalDateTime since, FeedItemType type,
+                                              LocalDateTime cursorCreatedAt, UUID cursorId, int limit) {
+        boolean keyset = cursorCreatedAt != null && cursorId != null;
+        Query query = createFeedQuery(ownerId, since, type, keyset);
+        if (keyset) {
+            query.setParameter("cursorCreatedAt", cursorCreatedAt);
+            query.setParameter("cursorId", cursorId);
         }
-
-        Query feedNativeQuery = entityManager.createNativeQuery(FEED_QUERY);
-        feedNativeQuery.setParameter("followingIds", followingIds);
-        feedNativeQuery.setParameter("since", since);
-        feedNativeQuery.setParameter("type", typeParam);
-        feedNativeQuery.setFirstResult((int) pageable.getOffset());
-        feedNativeQuery.setMaxResults(pageable.getPageSize());
+        query.setMaxResults(limit);
 
         @SuppressWarnings("unchecked")
-        List<Object[]> results = feedNativeQuery.getResultList();
+        List<Object[]> results = query.getResultList();
+        return results;
+    }
 
-        return new PageImpl<>(results, pageable, total);
+    private Query createFeedQuery(UUID ownerId, LocalDateTime since, FeedItemType type, boolean keyset) {
+        StringBuilder sql = new StringBuilder(FEED_SELECT);
+        if (type != null) {
+            sql.append(TYPE_FILTER);
+        }
+        if (keyset) {
+            sql.append(KEYSET_FILTER);
+        }
+        sql.append(FEED_ORDER);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        query.setParameter("ownerId", ownerId);
+        query.setParameter("since", since);
+        if (type != null) {
+            // Bind the enum as its name (String) to match the VARCHAR column.
+            query.setParameter("type", type.name());
+        }
+        return query;
     }
 }
@@ -0,0 +1,120 @@
+package com.checkpoint.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.GameActivityBucket;
+
+/**
+ * Repository for the hourly trending counters ({@link GameActivityBucket}).
+ */
+@Repository
+public interface GameActivityBucketRepository extends JpaRepository<GameActivityBucket, GameActivityBucket.Key> {
+
+    /**
+     * Adds points to an existing bucket.
+     *
+     * @param videoGameId the game
+     * @param bucketStart the start of the hour
+     * @param points      the points to add
+     * @return the number of updated rows (0 when the bucket does not exist yet)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE game_activity_buckets SET points = points + :points
+            WHERE video_game_id = :videoGameId AND bucket_start = :bucketStart
+            """, nativeQuery = true)
+    int addPoints(@Param("videoGameId") UUID videoGameId,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("points") long points);
+
+    /**
+     * Takes points back out of a bucket, never below zero.
+     *
+     * @param videoGameId the game
+     * @param bucketStart the start of the hour
+     * @param points      the points to remove
+     * @return the number of updated rows (0 when the bucket was already purged)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE game_activity_buckets SET points = GREATEST(points - :points, 0)
+            WHERE video_game_id = :videoGameId AND bucket_start = :bucketStart
+            """, nativeQuery = true)
+    int removePoints(@Param("videoGameId") UUID videoGameId,
+                     @Param("bucketStart") LocalDateTime bucketStart,
+                     @Param("points") long points);
+
+    /**
+     * Creates a bucket. Fails with a key violation if another request created it
+     * concurrently; callers then retry {@link #addPoints}.
+     *
+     * @param videoGameId the game
+     * @param bucketStart the start of the hour
+     * @param points      the initial points
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO game_activity_buckets (video_game_id, bucket_start, points)
+            VALUES (:videoGameId, :bucketStart, :points)
+            """, nativeQuery = true)
+    void insertBucket(@Param("videoGameId") UUID videoGameId,
+                      @Param("bucketStart") LocalDateTime bucketStart,
+                      @Param("points") long points);
+
+    /**
+     * Returns the buckets of standalone games (DLCs excluded) since the given time.
+     *
+     * @param since the start of the trending window
+     * @return rows of (videoGameId, bucketStart, points)
+     */
+    @Query("""
+            SELECT b.videoGameId, b.bucketStart, b.points
+            FROM GameActivityBucket b, VideoGame vg
+            WHERE vg.id = b.videoGameId
+              AND vg.parentGame IS NULL
+              AND b.bucketStart >= :since
+            """)
+    List<Object[]> findStandaloneBucketsSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Deletes buckets that fell out of the trending window.
+     *
+     * @param cutoff the start of the trending window
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query(value = "DELETE FROM game_activity_buckets WHERE bucket_start < :cutoff", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Lists every trending-relevant activity row created since the given time, tagged
+     * with its {@link com.checkpoint.api.enums.TrendingSignal} name. Only used to seed
+     * empty counters on the first startup after they were introduced.
+     *
+     * @param since the start of the trending window
+     * @return rows of (videoGameId, createdAt, signal name)
+     */
+    @Query(value = """
+            SELECT ug.video_game_id, ug.created_at, 'LIBRARY_ADD' FROM user_games ug WHERE ug.created_at >= :since
+            UNION ALL
+            SELECT gp.video_game_id, gp.created_at, 'PLAY' FROM user_game_plays gp WHERE gp.created_at >= :since
+            UNION ALL
+            SELECT r.video_game_id, r.created_at, 'RATING' FROM rates r WHERE r.created_at >= :since
+            UNION ALL
+            SELECT rv.video_game_id, rv.created_at, 'REVIEW' FROM reviews rv WHERE rv.created_at >= :since
+            UNION ALL
+            SELECT lk.video_game_id, lk.created_at, 'LIKE' FROM likes lk
+            WHERE lk.video_game_id IS NOT NULL AND lk.created_at >= :since
+            UNION ALL
+            SELECT ws.video_game_id, ws.created_at, 'WISH' FROM wishes ws WHERE ws.created_at >= :since
+            """, nativeQuery = true)
+    List<Object[]> findActivitySince(@Param("since") LocalDateTime since);
+}
@@ -1,5 +1,6 @@
 package com.checkpoint.api.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -54,4 +55,22 @@ public interface GameListEntryRepository extends JpaRepository<GameListEntry, UU
      * Used by the admin delete-game integrity check.
      */
     long countByVideoGameId(UUID videoGameId);
+
+    /**
+     * Returns {@code [listId, coverUrl]} rows for the first {@code perList} entries (by
+     * position) of each given list, ordered by list then position. Lets a page of list
+     * cards load its cover strips in one query instead of one entry fetch per list.
+     *
+     * @param listIds the list IDs (must be non-empty)
+     * @param perList how many leading entries to return per list
+     */
+    @Query("""
+            SELECT e.gameList.id, e.videoGame.coverUrl FROM GameListEntry e
+            WHERE e.gameList.id IN :listIds
+              AND (SELECT COUNT(e2) FROM GameListEntry e2
+                   WHERE e2.gameList = e.gameList AND e2.position < e.position) < :perList
+            ORDER BY e.gameList.id, e.position
+            """)
+    List<Object[]> findLeadingCoverUrls(@Param("listIds") Collection<UUID> listIds,
+                                        @Param("perList") long perList);
 }
@@ -1,10 +1,12 @@
 package com.checkpoint.api.repositories;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -44,7 +46,7 @@ public interface GameListRepository extends JpaRepository<GameList, UUID> {
             SELECT gl FROM GameList gl
             JOIN FETCH gl.user
             WHERE gl.isPrivate = false
-            ORDER BY (SELECT COUNT(l) FROM Like l WHERE l.gameList.id = gl.id) DESC
+            ORDER BY gl.likesCount DESC
             """)
     Page<GameList> findPopularPublic(Pageable pageable);
 
@@ -68,7 +70,7 @@ public interface GameListRepository extends JpaRepository<GameList, UUID> {
             JOIN gl.entries e
             WHERE e.videoGame.id = :gameId
               AND (gl.isPrivate = false OR (:viewerId IS NOT NULL AND gl.user.id = :viewerId))
-            ORDER BY (SELECT COUNT(l) FROM Like l WHERE l.gameList.id = gl.id) DESC, e.addedAt DESC
+            ORDER BY gl.likesCount DESC, e.addedAt DESC
             """,
             countQuery = """
             SELECT COUNT(DISTINCT gl) FROM GameList gl
@@ -80,4 +82,81 @@ public interface GameListRepository extends JpaRepository<GameList, UUID> {
             @Param("gameId") UUID gameId,
             @Param("viewerId") UUID viewerId,
             Pageable pageable);
+
+    /**
+     * Atomically shifts a list's like counter, never below zero.
+     *
+     * @param listId the list ID
+     * @param delta  +1 / -1
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("""
+            UPDATE GameList gl
+            SET gl.likesCount = CASE WHEN gl.likesCount + :delta < 0 THEN 0 ELSE gl.likesCount + :delta END
+            WHERE gl.id = :listId
+            """)
+    int adjustLikesCount(@Param("listId") UUID listId, @Param("delta") int delta);
+
+    /**
+     * Atomically shifts a list's comment counter (replies included), never below zero.
+     *
+     * @param listId the list ID
+     * @param delta  number of comments added (positive) or removed (negative)
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("""
+            UPDATE GameList gl
+            SET gl.commentsCount = CASE WHEN gl.commentsCount + :delta < 0 THEN 0 ELSE gl.commentsCount + :delta END
+            WHERE gl.id = :listId
+            """)
+    int adjustCommentsCount(@Param("listId") UUID listId, @Param("delta") int delta);
+
+    /**
+     * Atomically shifts a list's entry counter, never below zero.
+     *
+     * @param listId the list ID
+     * @param delta  +1 / -1
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("""
+            UPDATE GameList gl
+            SET gl.videoGamesCount = CASE WHEN gl.videoGamesCount + :delta < 0 THEN 0 ELSE gl.videoGamesCount + :delta END
+            WHERE gl.id = :listId
+            """)
+    int adjustVideoGamesCount(@Param("listId") UUID listId, @Param("delta") int delta);
+
+    /**
+     * Finds the lists whose like / comment / entry counters no longer match the source
+     * rows, i.e. the ones {@link #recountEngagement()} would correct.
+     *
+     * @return the IDs of the drifted lists
+     */
+    @Query(value = """
+            SELECT lists.id FROM lists
+            WHERE likes_count <> (SELECT COUNT(*) FROM likes l WHERE l.list_id = lists.id)
+               OR comments_count <> (SELECT COUNT(*) FROM comments c WHERE c.list_id = lists.id)
+               OR video_games_count <> (SELECT COUNT(*) FROM game_list_entries e WHERE e.list_id = lists.id)
+            """, nativeQuery = true)
+    List<UUID> findIdsWithDriftedEngagement();
+
+    /**
+     * Recomputes the like / comment / entry counters of every list whose stored value no
+     * longer matches the source rows.
+     *
+     * @return the number of lists corrected
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE lists SET
+                likes_count = (SELECT COUNT(*) FROM likes l WHERE l.list_id = lists.id),
+                comments_count = (SELECT COUNT(*) FROM comments c WHERE c.list_id = lists.id),
+                video_games_count = (SELECT COUNT(*) FROM game_list_entries e WHERE e.list_id = lists.id)
+            WHERE likes_count <> (SELECT COUNT(*) FROM likes l WHERE l.list_id = lists.id)
+               OR comments_count <> (SELECT COUNT(*) FROM comments c WHERE c.list_id = lists.id)
+               OR video_games_count <> (SELECT COUNT(*) FROM game_list_entries e WHERE e.list_id = lists.id)
+            """, nativeQuery = true)
+    int recountEngagement();
 }
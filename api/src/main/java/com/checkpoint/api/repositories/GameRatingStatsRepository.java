@@ -0,0 +1,32 @@
+package com.checkpoint.api.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.GameRatingStats;
+
+/**
+ * Repository for {@link GameRatingStats}.
+ */
+@Repository
+public interface GameRatingStatsRepository extends JpaRepository<GameRatingStats, UUID>,
+        GameRatingStatsRepositoryCustom {
+
+    /**
+     * Returns rated games that have no stats row yet.
+     *
+     * @param pageable the batch size
+     * @return game ids
+     */
+    @Query("""
+            SELECT vg.id FROM VideoGame vg
+            WHERE EXISTS (SELECT 1 FROM Rate r WHERE r.videoGame = vg)
+              AND NOT EXISTS (SELECT 1 FROM GameRatingStats s WHERE s.videoGameId = vg.id)
+            """)
+    List<UUID> findRatedGameIdsWithoutStats(Pageable pageable);
+}
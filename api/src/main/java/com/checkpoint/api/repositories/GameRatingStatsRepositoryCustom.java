@@ -0,0 +1,45 @@
+package com.checkpoint.api.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom repository interface for the {@link com.checkpoint.api.entities.GameRatingStats}
+ * writes, each done in a single statement.
+ *
+ * <p>Every statement also copies the resulting count and average (raw sum / count / 2,
+ * rounded to 0.1) onto the game's {@code rating_count} and {@code average_rating}
+ * columns, which the catalog and search read. Games whose stats row does not exist yet
+ * are left untouched by the adjustments.</p>
+ */
+public interface GameRatingStatsRepositoryCustom {
+
+    /**
+     * Moves one rating of a game from {@code removedScore} to {@code addedScore}.
+     *
+     * @param videoGameId  the rated game
+     * @param addedScore   the new raw score, or 0 when a rating was removed
+     * @param removedScore the previous raw score, or 0 when a rating was added
+     * @return the game's ID if its stats were adjusted, or an empty list if they are not built
+     */
+    List<UUID> adjust(UUID videoGameId, int addedScore, int removedScore);
+
+    /**
+     * Subtracts every rating of a user from the stats of the games they rated. Must be
+     * called before the rates are deleted.
+     *
+     * @param userId the user whose ratings are being removed
+     * @return the IDs of the games whose stats were adjusted
+     */
+    List<UUID> removeRatingsOf(UUID userId);
+
+    /**
+     * Builds the stats of the given games from the {@code rates} table, flushing pending
+     * rate changes first. Games that already have stats are skipped.
+     *
+     * @param videoGameIds the games to build
+     * @return the IDs of the games whose stats were built
+     */
+    List<UUID> build(Collection<UUID> videoGameIds);
+}
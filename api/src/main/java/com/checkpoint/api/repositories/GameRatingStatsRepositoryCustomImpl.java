@@ -0,0 +1,147 @@
+package com.checkpoint.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.VideoGame;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Implementation of {@link GameRatingStatsRepositoryCustom}.
+ *
+ * <p>The adjustments update the stats row in place, so concurrent ratings of the same
+ * game queue on its row lock instead of overwriting each other's average. The histogram
+ * is a {@code bigint[10]} indexed by raw score.</p>
+ */
+@Repository
+public class GameRatingStatsRepositoryCustomImpl implements GameRatingStatsRepositoryCustom {
+
+    /** Copies the totals of a {@code stats(video_game_id, rating_count, score_sum)} CTE onto the games. */
+    private static final String SYNC_GAMES = """
+            UPDATE video_games vg
+            SET rating_count = stats.rating_count,
+                average_rating = CASE WHEN stats.rating_count > 0
+                    THEN ROUND(stats.score_sum / 2.0 / stats.rating_count, 1)
+                    ELSE 0 END,
+                updated_at = :updatedAt
+            FROM stats
+            WHERE vg.id = stats.video_game_id
+            RETURNING vg.id
+            """;
+
+    /** Applies the rows of the {@code %s} query, {@code (video_game_id, added, removed)}, to the stats. */
+    private static final String ADJUST = """
+            WITH changes (video_game_id, added, removed) AS (
+                %s
+            ),
+            stats AS (
+                UPDATE game_rating_stats s
+                SET rating_count = s.rating_count
+                        + CASE WHEN c.added > 0 THEN 1 ELSE 0 END
+                        - CASE WHEN c.removed > 0 THEN 1 ELSE 0 END,
+                    score_sum = s.score_sum + c.added - c.removed,
+                    histogram = ARRAY(
+                        SELECT b.n
+                            + CASE WHEN b.score = c.added THEN 1 ELSE 0 END
+                            - CASE WHEN b.score = c.removed THEN 1 ELSE 0 END
+                        FROM unnest(s.histogram) WITH ORDINALITY AS b(n, score)
+                        ORDER BY b.score)
+                FROM changes c
+                WHERE s.video_game_id = c.video_game_id
+                RETURNING s.video_game_id, s.rating_count, s.score_sum
+            )
+            """ + SYNC_GAMES;
+
+    private static final String SINGLE_CHANGE =
+            "SELECT CAST(:videoGameId AS uuid), CAST(:added AS integer), CAST(:removed AS integer)";
+
+    private static final String USER_RATINGS =
+            "SELECT r.video_game_id, 0, r.score FROM rates r WHERE r.user_id = :userId";
+
+    private static final String BUILD = """
+            WITH stats AS (
+                INSERT INTO game_rating_stats (video_game_id, rating_count, score_sum, histogram)
+                SELECT vg.id, h.rating_count, h.score_sum, h.histogram
+                FROM video_games vg
+                CROSS JOIN LATERAL (
+                    SELECT SUM(b.n) AS rating_count,
+                           SUM(b.n * b.score) AS score_sum,
+                           ARRAY_AGG(b.n ORDER BY b.score) AS histogram
+                    FROM (
+                        SELECT s.score, COUNT(r.id) AS n
+                        FROM generate_series(1, 10) AS s(score)
+                        LEFT JOIN rates r ON r.video_game_id = vg.id AND r.score = s.score
+                        GROUP BY s.score
+                    ) b
+                ) h
+                WHERE vg.id IN (:videoGameIds)
+                ON CONFLICT (video_game_id) DO NOTHING
+                RETURNING video_game_id, rating_count, score_sum
+            )
+            """ + SYNC_GAMES;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UUID> adjust(UUID videoGameId, int addedScore, int removedScore) {
+        Query query = entityManager.createNativeQuery(ADJUST.formatted(SINGLE_CHANGE));
+        query.setParameter("videoGameId", videoGameId);
+        query.setParameter("added", addedScore);
+        query.setParameter("removed", removedScore);
+        return execute(query);
+    }
+
+    @Override
+    public List<UUID> removeRatingsOf(UUID userId) {
+        Query query = entityManager.createNativeQuery(ADJUST.formatted(USER_RATINGS));
+        query.setParameter("userId", userId);
+        return execute(query);
+    }
+
+    @Override
+    public List<UUID> build(Collection<UUID> videoGameIds) {
+        if (videoGameIds.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+        Query query = entityManager.createNativeQuery(BUILD);
+        query.setParameter("videoGameIds", videoGameIds);
+        return execute(query);
+    }
+
+    private List<UUID> execute(Query query) {
+        query.setParameter("updatedAt", LocalDateTime.now());
+
+        @SuppressWarnings("unchecked")
+        List<Object> rows = query.getResultList();
+
+        List<UUID> videoGameIds = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            UUID videoGameId = (UUID) row;
+            syncLoadedGame(videoGameId);
+            videoGameIds.add(videoGameId);
+        }
+        return videoGameIds;
+    }
+
+    /**
+     * The statements bypass the persistence context: a game already loaded in this
+     * transaction is refreshed so that a later flush does not write its old average back.
+     */
+    private void syncLoadedGame(UUID videoGameId) {
+        VideoGame game = entityManager.getReference(VideoGame.class, videoGameId);
+        if (Hibernate.isInitialized(game)) {
+            entityManager.refresh(game);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.checkpoint.api.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.checkpoint.api.entities.Genre;
@@ -21,4 +25,14 @@ public interface GenreRepository extends JpaRepository<Genre, UUID> {
      * @return Optional containing the genre if found
      */
     Optional<Genre> findByNameIgnoreCase(String name);
+
+    /**
+     * Finds every genre whose lower-cased name is in the given collection.
+     * Used by the bulk import to resolve a whole chunk's genres in one query.
+     *
+     * @param lowerNames the lower-cased names to look up
+     * @return the matching genres (may be empty)
+     */
+    @Query("SELECT g FROM Genre g WHERE LOWER(g.name) IN :lowerNames")
+    List<Genre> findAllByLowerNameIn(@Param("lowerNames") Collection<String> lowerNames);
 }
@@ -0,0 +1,31 @@
+package com.checkpoint.api.repositories;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Email-to-id hints that let {@link UserRepositoryCustom#findByEmail} fetch a user by
+ * primary key instead of querying by email.
+ *
+ * <p>Declared here so the repository layer does not depend on where the hints come from;
+ * the web layer provides them from the authenticated principal and from lookups made
+ * earlier in the same request.</p>
+ */
+public interface KnownUserIds {
+
+    /**
+     * Returns the id of the user with the given email, if already known.
+     *
+     * @param email the user's email
+     * @return the user id, or empty if it has to be looked up
+     */
+    Optional<UUID> resolveUserId(String email);
+
+    /**
+     * Remembers a looked-up user id for later lookups.
+     *
+     * @param email  the user's email
+     * @param userId the user's id
+     */
+    void remember(String email, UUID userId);
+}
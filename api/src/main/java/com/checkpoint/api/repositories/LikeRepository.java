@@ -77,6 +77,35 @@ public interface LikeRepository extends JpaRepository<Like, UUID> {
     List<UUID> findVideoGameIdsLikedByUser(@Param("userId") UUID userId,
                                             @Param("videoGameIds") Collection<UUID> videoGameIds);
 
+    /**
+     * Returns the subset of {@code reviewIds} that the given user has liked, so a page of
+     * reviews can carry its {@code hasLiked} flags in one query.
+     *
+     * @param userId    the user ID
+     * @param reviewIds the candidate review IDs (must be non-empty)
+     */
+    @Query("""
+            SELECT l.review.id FROM Like l
+            WHERE l.user.id = :userId
+              AND l.review.id IN :reviewIds
+            """)
+    List<UUID> findReviewIdsLikedByUser(@Param("userId") UUID userId,
+                                        @Param("reviewIds") Collection<UUID> reviewIds);
+
+    /**
+     * Returns the subset of {@code commentIds} that the given user has liked.
+     *
+     * @param userId     the user ID
+     * @param commentIds the candidate comment IDs (must be non-empty)
+     */
+    @Query("""
+            SELECT l.comment.id FROM Like l
+            WHERE l.user.id = :userId
+              AND l.comment.id IN :commentIds
+            """)
+    List<UUID> findCommentIdsLikedByUser(@Param("userId") UUID userId,
+                                         @Param("commentIds") Collection<UUID> commentIds);
+
     /**
      * Returns every video game ID the given user has liked (top-level game likes only).
      * Unbounded counterpart of {@link #findVideoGameIdsLikedByUser} — used by the
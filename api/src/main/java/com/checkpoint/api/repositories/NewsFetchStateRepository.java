@@ -0,0 +1,26 @@
+package com.checkpoint.api.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.NewsFetchState;
+import com.checkpoint.api.entities.NewsSource;
+
+/**
+ * Repository for the per-feed and per-app HTTP validators of the news importer
+ * ({@link NewsFetchState}).
+ */
+@Repository
+public interface NewsFetchStateRepository extends JpaRepository<NewsFetchState, UUID> {
+
+    /**
+     * Finds the stored validators of every feed or app of one source.
+     *
+     * @param source the news source
+     * @return the known rows
+     */
+    List<NewsFetchState> findAllBySource(NewsSource source);
+}
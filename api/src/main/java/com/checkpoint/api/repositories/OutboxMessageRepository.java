@@ -0,0 +1,75 @@
+package com.checkpoint.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.OutboxMessage;
+
+/**
+ * Repository for pending outbox deliveries ({@link OutboxMessage}).
+ */
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Returns the oldest deliveries that are due, skipping every partition whose earlier
+     * delivery is still waiting for a retry so per-partition order is preserved.
+     *
+     * @param now      the current time
+     * @param pageable caps the batch size
+     * @return due deliveries in publication order
+     */
+    @Query("""
+            SELECT m FROM OutboxMessage m
+            WHERE m.dead = false
+              AND m.availableAt <= :now
+              AND NOT EXISTS (
+                  SELECT 1 FROM OutboxMessage e
+                  WHERE e.partitionKey = m.partitionKey
+                    AND e.dead = false
+                    AND e.id < m.id
+                    AND e.availableAt > :now
+              )
+            ORDER BY m.id
+            """)
+    List<OutboxMessage> findReady(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Counts the deliveries still to be handled.
+     *
+     * @return the pending count
+     */
+    long countByDeadFalse();
+
+    /**
+     * Counts the deliveries that exhausted their retries.
+     *
+     * @return the dead-letter count
+     */
+    long countByDeadTrue();
+
+    /**
+     * Returns when the oldest pending delivery was published.
+     *
+     * @return the publication time, or {@code null} when nothing is pending
+     */
+    @Query("SELECT MIN(m.createdAt) FROM OutboxMessage m WHERE m.dead = false")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    /**
+     * Removes a handled delivery.
+     *
+     * @param id the delivery id
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.id = :id")
+    int deleteHandled(@Param("id") Long id);
+}
@@ -1,9 +1,13 @@
 package com.checkpoint.api.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.checkpoint.api.entities.Platform;
@@ -21,4 +25,14 @@ public interface PlatformRepository extends JpaRepository<Platform, UUID> {
      * @return Optional containing the platform if found
      */
     Optional<Platform> findByNameIgnoreCase(String name);
+
+    /**
+     * Finds every platform whose lower-cased name is in the given collection.
+     * Used by the bulk import to resolve a whole chunk's platforms in one query.
+     *
+     * @param lowerNames the lower-cased names to look up
+     * @return the matching platforms (may be empty)
+     */
+    @Query("SELECT p FROM Platform p WHERE LOWER(p.name) IN :lowerNames")
+    List<Platform> findAllByLowerNameIn(@Param("lowerNames") Collection<String> lowerNames);
 }
@@ -1,5 +1,6 @@
 package com.checkpoint.api.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -54,15 +55,6 @@ public interface RateRepository extends JpaRepository<Rate, UUID> {
      */
     List<Rate> findByUserIdInAndVideoGameIdIn(List<UUID> userIds, List<UUID> videoGameIds);
 
-    /**
-     * Calculates the average rating for a video game.
-     *
-     * @param videoGameId the video game ID
-     * @return average rating or null if no ratings
-     */
-    @Query("SELECT AVG(CAST(r.score AS double)) FROM Rate r WHERE r.videoGame.id = :videoGameId")
-    Double calculateAverageRating(@Param("videoGameId") UUID videoGameId);
-
     /**
      * Counts how many ratings reference a given video game.
      * Used by the admin delete-game integrity check.
@@ -70,21 +62,19 @@ public interface RateRepository extends JpaRepository<Rate, UUID> {
     long countByVideoGameId(UUID videoGameId);
 
     /**
-     * Returns every rating the given user has authored.
-     * Used by the recommendation service to build the user's affinity profile.
+     * Counts ratings for each of the given games. Games without ratings are absent.
+     *
+     * @param videoGameIds the game IDs
+     * @return rows of (videoGameId, ratingCount)
      */
-    List<Rate> findAllByUserId(UUID userId);
+    @Query("SELECT r.videoGame.id, COUNT(r) FROM Rate r WHERE r.videoGame.id IN :videoGameIds GROUP BY r.videoGame.id")
+    List<Object[]> countByVideoGameIds(@Param("videoGameIds") Collection<UUID> videoGameIds);
 
     /**
-     * Counts the user's "one-star" ratings ({@code score <= 2}, i.e. 0.5 or 1
-     * star on the 5-star display). Powers the {@code THE_CAKE_IS_A_LIE} badge,
-     * which fires when the count is exactly 13.
+     * Returns every rating the given user has authored.
+     * Used by the recommendation service to build the user's affinity profile.
      */
-    @Query("""
-            SELECT COUNT(r) FROM Rate r
-            WHERE r.user.id = :userId AND r.score <= 2
-            """)
-    long countOneStarByUserId(@Param("userId") UUID userId);
+    List<Rate> findAllByUserId(UUID userId);
 
     /**
      * Returns true if the user has changed at least one rating's score the given
@@ -118,6 +108,8 @@ public interface RateRepository extends JpaRepository<Rate, UUID> {
      * Returns the distribution of a video game's ratings (across all users)
      * grouped by score. The result is sparse, like
      * {@link #findDistributionByUserId(UUID)}.
+     * Only used for games whose {@link com.checkpoint.api.entities.GameRatingStats}
+     * are not built yet.
      *
      * @param videoGameId the video game ID
      * @return one entry per used score, in ascending score order
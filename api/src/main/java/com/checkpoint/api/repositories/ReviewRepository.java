@@ -1,5 +1,6 @@
 package com.checkpoint.api.repositories;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -8,6 +9,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -70,6 +72,15 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
      */
     long countByUserPseudo(String pseudo);
 
+    /**
+     * Counts the reviews written by each of the given users, in one query.
+     *
+     * @param userIds the users' IDs
+     * @return rows of (user ID, review count); users without reviews are omitted
+     */
+    @Query("SELECT r.user.id, COUNT(r) FROM Review r WHERE r.user.id IN :userIds GROUP BY r.user.id")
+    List<Object[]> countByUserIds(@Param("userIds") Collection<UUID> userIds);
+
     /**
      * Counts the number of reviews written by a user with the given ID.
      *
@@ -142,9 +153,15 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
     boolean existsLongReviewByUserId(@Param("userId") UUID userId);
 
     /**
-     * Finds the top reviews ranked by a "hot" score combining likes count and recency.
-     * Uses a Reddit-style gravity-1.5 decay over days since creation:
-     * {@code likes_count / POWER(EXTRACT(EPOCH FROM (NOW() - created_at)) / 86400.0 + 2, 1.5)}.
+     * Reddit-style gravity-1.5 decay of a review's hot score: its likes are divided by this
+     * power of its age in days.
+     */
+    String HOT_SCORE_DECAY = "POWER(EXTRACT(EPOCH FROM (NOW() - created_at)) / 86400.0 + 2, 1.5)";
+
+    /**
+     * Finds the top reviews ranked by their stored "hot" score
+     * ({@code likes_count / POWER(days since creation + 2, 1.5)}), read off
+     * {@code idx_reviews_hot_score}.
      *
      * @param limit the maximum number of reviews to return
      * @return the top reviews ordered by hot score (descending)
@@ -153,11 +170,7 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
             SELECT r.*
             FROM reviews r
             JOIN users u ON u.id = r.user_id AND u.is_private = false
-            LEFT JOIN likes l ON l.review_id = r.id
-            GROUP BY r.id
-            ORDER BY (COUNT(l.id)::float
-                      / POWER(EXTRACT(EPOCH FROM (NOW() - r.created_at)) / 86400.0 + 2, 1.5)) DESC,
-                     r.created_at DESC
+            ORDER BY r.hot_score DESC, r.created_at DESC
             LIMIT :limit
             """, nativeQuery = true)
     List<Review> findPopularReviews(@Param("limit") int limit);
@@ -173,7 +186,7 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
 
     /**
      * Finds the top reviews for a single game ranked by the same "hot" score as
-     * {@link #findPopularReviews(int)}.
+     * {@link #findPopularReviews(int)}, read off {@code idx_reviews_game_hot_score}.
      *
      * @param videoGameId the video game ID
      * @param limit       the maximum number of reviews to return
@@ -183,12 +196,8 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
             SELECT r.*
             FROM reviews r
             JOIN users u ON u.id = r.user_id AND u.is_private = false
-            LEFT JOIN likes l ON l.review_id = r.id
             WHERE r.video_game_id = :videoGameId
-            GROUP BY r.id
-            ORDER BY (COUNT(l.id)::float
-                      / POWER(EXTRACT(EPOCH FROM (NOW() - r.created_at)) / 86400.0 + 2, 1.5)) DESC,
-                     r.created_at DESC
+            ORDER BY r.hot_score DESC, r.created_at DESC
             LIMIT :limit
             """, nativeQuery = true)
     List<Review> findPopularReviewsForGame(@Param("videoGameId") UUID videoGameId,
@@ -215,4 +224,80 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
             @Param("userIds") Collection<UUID> userIds,
             Pageable pageable);
 
+    /**
+     * Atomically shifts a review's like counter, never below zero, and rescores it from
+     * the new count in the same statement.
+     *
+     * @param reviewId the review ID
+     * @param delta    +1 / -1
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query(value = "UPDATE reviews SET "
+            + "likes_count = GREATEST(likes_count + :delta, 0), "
+            + "hot_score = GREATEST(likes_count + :delta, 0)::float / " + HOT_SCORE_DECAY + " "
+            + "WHERE id = :reviewId", nativeQuery = true)
+    int adjustLikesCount(@Param("reviewId") UUID reviewId, @Param("delta") int delta);
+
+    /**
+     * Atomically shifts a review's comment counter (replies included), never below zero.
+     *
+     * @param reviewId the review ID
+     * @param delta    number of comments added (positive) or removed (negative)
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("""
+            UPDATE Review r
+            SET r.commentsCount = CASE WHEN r.commentsCount + :delta < 0 THEN 0 ELSE r.commentsCount + :delta END
+            WHERE r.id = :reviewId
+            """)
+    int adjustCommentsCount(@Param("reviewId") UUID reviewId, @Param("delta") int delta);
+
+    /**
+     * Recomputes the like / comment counters, and the hot score, of every review whose
+     * stored value no longer matches the source rows (cascade deletes, e.g. of a user
+     * account, bypass the incremental updates).
+     *
+     * @return the number of reviews corrected
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE reviews SET
+                likes_count = (SELECT COUNT(*) FROM likes l WHERE l.review_id = reviews.id),
+                hot_score = (SELECT COUNT(*) FROM likes l WHERE l.review_id = reviews.id)::float
+                            / POWER(EXTRACT(EPOCH FROM (NOW() - created_at)) / 86400.0 + 2, 1.5),
+                comments_count = (SELECT COUNT(*) FROM comments c WHERE c.review_id = reviews.id)
+            WHERE likes_count <> (SELECT COUNT(*) FROM likes l WHERE l.review_id = reviews.id)
+               OR comments_count <> (SELECT COUNT(*) FROM comments c WHERE c.review_id = reviews.id)
+            """, nativeQuery = true)
+    int recountEngagement();
+
+    /**
+     * Re-applies the time decay to the hot score of the liked reviews created since the
+     * given instant, and of the older ones whose score is still above {@code floor}.
+     * An older review is rescored until its score drops under the floor and then keeps
+     * it; with the floor at the lowest score a liked review in the window can have, such
+     * a leftover never outranks a recent review. The older rows are found through
+     * {@code idx_reviews_hot_score}.
+     *
+     * @param since the start of the decay window
+     * @param floor the score under which reviews older than the window are left alone
+     * @return the number of reviews rescored
+     */
+    @Modifying
+    @Query(value = "UPDATE reviews SET hot_score = likes_count::float / " + HOT_SCORE_DECAY + " "
+            + "WHERE likes_count > 0 AND (created_at >= :since OR hot_score > :floor)", nativeQuery = true)
+    int decayHotScores(@Param("since") LocalDateTime since, @Param("floor") double floor);
+
+    /**
+     * Scores the liked reviews that have never been scored, i.e. that were liked before
+     * the {@code hot_score} column existed.
+     *
+     * @return the number of reviews scored
+     */
+    @Modifying
+    @Query(value = "UPDATE reviews SET hot_score = likes_count::float / " + HOT_SCORE_DECAY + " "
+            + "WHERE hot_score = 0 AND likes_count > 0", nativeQuery = true)
+    int scoreUnscoredReviews();
 }
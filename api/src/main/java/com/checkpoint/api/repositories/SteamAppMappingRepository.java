@@ -0,0 +1,34 @@
+package com.checkpoint.api.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.SteamAppMapping;
+
+/**
+ * Repository for the cached Steam appId to IGDB id mappings ({@link SteamAppMapping}).
+ */
+@Repository
+public interface SteamAppMappingRepository extends JpaRepository<SteamAppMapping, UUID>,
+        SteamAppMappingRepositoryCustom {
+
+    /**
+     * Finds the cached rows, matched or not, for the given Steam appIds.
+     *
+     * @param steamAppIds the Steam appIds
+     * @return the known rows
+     */
+    List<SteamAppMapping> findAllBySteamAppIdIn(Collection<Long> steamAppIds);
+
+    /**
+     * Finds the positive mappings pointing at the given IGDB ids.
+     *
+     * @param igdbIds the IGDB game ids
+     * @return the matching rows
+     */
+    List<SteamAppMapping> findAllByIgdbIdIn(Collection<Long> igdbIds);
+}
@@ -0,0 +1,21 @@
+package com.checkpoint.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Custom repository interface for writing IGDB answers to {@code steam_app_mappings} in a
+ * single statement.
+ */
+public interface SteamAppMappingRepositoryCustom {
+
+    /**
+     * Inserts or refreshes one row per Steam appId. Concurrent writers of the same appId
+     * never fail: the later one updates the row the earlier one inserted. A positive
+     * match is never replaced, neither by "no match" nor by another game.
+     *
+     * @param igdbIdsBySteamAppId the IGDB game id per Steam appId, {@code null} for "no match"
+     * @param resolvedAt          when IGDB was asked
+     */
+    void upsertAll(Map<Long, Long> igdbIdsBySteamAppId, LocalDateTime resolvedAt);
+}
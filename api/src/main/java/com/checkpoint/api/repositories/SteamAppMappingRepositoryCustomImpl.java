@@ -0,0 +1,63 @@
+package com.checkpoint.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Implementation of {@link SteamAppMappingRepositoryCustom}.
+ *
+ * <p>Two library syncs that meet the same unknown app both insert it; the unique
+ * {@code steam_app_id} turns the second insert into an update instead of a key
+ * violation that would fail the whole sync.</p>
+ */
+@Repository
+public class SteamAppMappingRepositoryCustomImpl implements SteamAppMappingRepositoryCustom {
+
+    private static final String UPSERT_ALL = """
+            INSERT INTO steam_app_mappings (id, steam_app_id, igdb_id, resolved_at)
+            SELECT m.id, m.steam_app_id, m.igdb_id, :resolvedAt
+            FROM unnest(CAST(:ids AS uuid[]), CAST(:steamAppIds AS bigint[]), CAST(:igdbIds AS bigint[]))
+                 AS m(id, steam_app_id, igdb_id)
+            ON CONFLICT (steam_app_id) DO UPDATE
+            SET igdb_id = COALESCE(steam_app_mappings.igdb_id, EXCLUDED.igdb_id),
+                resolved_at = EXCLUDED.resolved_at
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void upsertAll(Map<Long, Long> igdbIdsBySteamAppId, LocalDateTime resolvedAt) {
+        if (igdbIdsBySteamAppId.isEmpty()) {
+            return;
+        }
+
+        int size = igdbIdsBySteamAppId.size();
+        UUID[] ids = new UUID[size];
+        Long[] steamAppIds = new Long[size];
+        Long[] igdbIds = new Long[size];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : igdbIdsBySteamAppId.entrySet()) {
+            ids[i] = UUID.randomUUID();
+            steamAppIds[i] = entry.getKey();
+            igdbIds[i] = entry.getValue();
+            i++;
+        }
+
+        Query query = entityManager.createNativeQuery(UPSERT_ALL);
+        query.setParameter("ids", ids);
+        query.setParameter("steamAppIds", steamAppIds);
+        query.setParameter("igdbIds", igdbIds);
+        query.setParameter("resolvedAt", resolvedAt);
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,40 @@
+package com.checkpoint.api.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.dto.catalog.GameCardDto;
+import com.checkpoint.api.entities.TrendingGame;
+
+/**
+ * Repository for the precomputed trending snapshot ({@link TrendingGame}).
+ */
+@Repository
+public interface TrendingGameRepository extends JpaRepository<TrendingGame, Integer> {
+
+    /**
+     * Returns the snapshot as game cards, in rank order. Reads only
+     * {@code trending_games} and {@code video_games}.
+     *
+     * @param pageable pagination parameters (used to cap the result size)
+     * @return the trending game cards
+     */
+    @Query("""
+            SELECT new com.checkpoint.api.dto.catalog.GameCardDto(
+                vg.id,
+                vg.title,
+                vg.coverUrl,
+                vg.releaseDate,
+                vg.averageRating,
+                t.ratingCount
+            )
+            FROM TrendingGame t
+            JOIN VideoGame vg ON vg.id = t.videoGameId
+            ORDER BY t.position
+            """)
+    List<GameCardDto> findSnapshotCards(Pageable pageable);
+}
@@ -99,26 +99,12 @@ public interface UserGamePlayRepository extends JpaRepository<UserGamePlay, UUID
     Optional<UserGamePlay> findMostRecentScoredPlay(@Param("userId") UUID userId,
                                                      @Param("videoGameId") UUID videoGameId);
 
-    /**
-     * Counts the total number of play logs for a user. Used by the badge system
-     * to evaluate the play-count threshold (e.g. {@code CENTURION}).
-     */
-    long countByUserId(UUID userId);
-
     /**
      * Counts how many play logs reference a given video game.
      * Used by the admin delete-game integrity check.
      */
     long countByVideoGameId(UUID videoGameId);
 
-    /**
-     * Counts the number of distinct platforms across all of the user's play logs.
-     * Used by the badge system to evaluate platform-diversity badges
-     * (e.g. {@code MULTIPLATFORM_NOMAD}).
-     */
-    @Query("SELECT COUNT(DISTINCT p.platform.id) FROM UserGamePlay p WHERE p.user.id = :userId")
-    long countDistinctPlatformsByUserId(@Param("userId") UUID userId);
-
     /**
      * Returns the most recent play log (by {@code createdAt}) for each of the given
      * users on a specific game, eagerly fetching the linked user, review reference,
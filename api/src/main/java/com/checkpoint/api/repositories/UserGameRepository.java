@@ -89,15 +89,9 @@ public interface UserGameRepository extends JpaRepository<UserGame, UUID> {
      */
     void deleteByUserIdAndVideoGameId(UUID userId, UUID videoGameId);
 
-    /**
-     * Counts the number of games in a user's library that are in the given status.
-     * Used by the badge system to evaluate completion thresholds.
-     */
-    long countByUserIdAndStatus(UUID userId, PlayStatus status);
-
     /**
      * Counts the total number of games in a user's library, regardless of status.
-     * Used by the badge system to evaluate library-size thresholds.
+     * Used by the profile comparison.
      */
     long countByUserId(UUID userId);
 
@@ -107,20 +101,6 @@ public interface UserGameRepository extends JpaRepository<UserGame, UUID> {
      */
     long countByVideoGameId(UUID videoGameId);
 
-    /**
-     * Counts the number of COMPLETED library entries whose video game has at least
-     * one genre matching the given name (case-insensitive). Used by the badge system
-     * to evaluate genre-completion thresholds (e.g. "finish 10 RPGs").
-     */
-    @Query("""
-            SELECT COUNT(ug) FROM UserGame ug JOIN ug.videoGame.genres g
-            WHERE ug.user.id = :userId
-              AND ug.status = com.checkpoint.api.enums.PlayStatus.COMPLETED
-              AND LOWER(g.name) = LOWER(:genreName)
-            """)
-    long countCompletedByUserIdAndGenreName(@Param("userId") UUID userId,
-                                            @Param("genreName") String genreName);
-
     /**
      * Returns every library entry for the given user. Used by the recommendation service
      * to weight games by status (COMPLETED, PLAYING…) when building the affinity profile.
@@ -178,4 +158,31 @@ public interface UserGameRepository extends JpaRepository<UserGame, UUID> {
             """)
     boolean existsCompletedGameOlderThan(@Param("userId") UUID userId,
                                           @Param("cutoff") java.time.LocalDate cutoff);
+
+    /**
+     * Returns the IDs of the games in the user's library or rated by them, which make up
+     * their member similarity signature.
+     *
+     * @param userId the user's ID
+     * @return the game IDs, without duplicates
+     */
+    @Query(value = """
+            SELECT video_game_id FROM user_games WHERE user_id = :userId
+            UNION
+            SELECT video_game_id FROM rates WHERE user_id = :userId
+            """, nativeQuery = true)
+    List<UUID> findLibraryAndRatedGameIds(@Param("userId") UUID userId);
+
+    /**
+     * Returns every library entry and rating as a (user, game) pair. Used to build the
+     * in-memory member similarity index; a game both in a library and rated appears twice.
+     *
+     * @return rows of (user ID, video game ID)
+     */
+    @Query(value = """
+            SELECT user_id, video_game_id FROM user_games
+            UNION ALL
+            SELECT user_id, video_game_id FROM rates
+            """, nativeQuery = true)
+    List<Object[]> findAllLibraryAndRatedGamePairs();
 }
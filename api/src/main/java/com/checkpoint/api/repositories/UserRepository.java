@@ -17,16 +17,9 @@ import com.checkpoint.api.entities.User;
 
 /**
  * Repository for {@link User} entity.
+ * {@code findByEmail} lives in {@link UserRepositoryCustom} so it can be memoized per request.
  */
-public interface UserRepository extends JpaRepository<User, UUID> {
-
-    /**
-     * Finds a user by their email address.
-     *
-     * @param email the email address
-     * @return an optional containing the user if found
-     */
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
 
     /**
      * Checks if a user exists by their email address.
@@ -261,6 +254,46 @@ public interface UserRepository extends JpaRepository<User, UUID> {
             + "WHERE u.id = :userId AND f.banned = false ORDER BY f.level DESC, f.xpPoint DESC")
     Page<User> findFollowingLeaderboardByLevel(@Param("userId") UUID userId, Pageable pageable);
 
+    /**
+     * Returns the XP and level of every non-banned user. Used to build the in-memory
+     * leaderboard index.
+     *
+     * @return rows of (user ID, XP, level)
+     */
+    @Query("SELECT u.id, u.xpPoint, u.level FROM User u WHERE u.banned = false")
+    List<Object[]> findLeaderboardStandings();
+
+    /**
+     * Returns a single user's XP, level and ban status. Used to patch the in-memory
+     * leaderboard index.
+     *
+     * @param userId the user's ID
+     * @return a single row of (user ID, XP, level, banned), or no row if the user does not exist
+     */
+    @Query("SELECT u.id, u.xpPoint, u.level, u.banned FROM User u WHERE u.id = :userId")
+    List<Object[]> findLeaderboardStanding(@Param("userId") UUID userId);
+
+    /**
+     * Counts the non-banned users with more XP than the given amount. Used to compute a
+     * user's rank while the leaderboard index is still being built.
+     *
+     * @param xpPoint the XP to compare against
+     * @return the number of users ranked strictly above
+     */
+    long countByBannedFalseAndXpPointGreaterThan(Integer xpPoint);
+
+    /**
+     * Counts the non-banned users ranked above the given level and XP on the level
+     * leaderboard. Used while the leaderboard index is still being built.
+     *
+     * @param level   the level to compare against
+     * @param xpPoint the XP to compare against on equal levels
+     * @return the number of users ranked strictly above
+     */
+    @Query("SELECT COUNT(u) FROM User u WHERE u.banned = false "
+            + "AND (u.level > :level OR (u.level = :level AND u.xpPoint > :xpPoint))")
+    long countRankedAboveByLevel(@Param("level") Integer level, @Param("xpPoint") Integer xpPoint);
+
     /**
      * Finds the IDs of all users that the given user follows.
      *
@@ -283,4 +316,38 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query(value = "DELETE FROM user_follows WHERE follower_id = :userId OR following_id = :userId",
            nativeQuery = true)
     void deleteFollowsInvolvingUser(@Param("userId") UUID userId);
+
+    /**
+     * Inserts a follow straight into the {@code user_follows} join table, without
+     * loading either side's follow collection.
+     *
+     * @param followerId  the follower
+     * @param followingId the user being followed
+     * @return 1 when the follow was recorded, 0 when it already existed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_follows (follower_id, following_id) VALUES (:followerId, :followingId) "
+            + "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertFollow(@Param("followerId") UUID followerId, @Param("followingId") UUID followingId);
+
+    /**
+     * Deletes a follow straight from the {@code user_follows} join table.
+     *
+     * @param followerId  the follower
+     * @param followingId the followed user
+     * @return 1 when the follow existed, 0 otherwise
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_follows WHERE follower_id = :followerId AND following_id = :followingId",
+           nativeQuery = true)
+    int deleteFollow(@Param("followerId") UUID followerId, @Param("followingId") UUID followingId);
+
+    /**
+     * Returns every follow. Used to build the in-memory follow graph.
+     *
+     * @return rows of (follower ID, followed user ID)
+     */
+    @Query("SELECT u.id, f.id FROM User u JOIN u.following f")
+    List<Object[]> findAllFollowEdges();
 }
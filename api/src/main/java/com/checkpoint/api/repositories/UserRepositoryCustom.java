@@ -0,0 +1,24 @@
+package com.checkpoint.api.repositories;
+
+import java.util.Optional;
+
+import com.checkpoint.api.entities.User;
+
+/**
+ * Custom repository interface for {@link User} lookups that are memoized per request.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Finds a user by their email address.
+     *
+     * <p>Within an HTTP request, a user whose id is already known (the authenticated
+     * caller, or anyone looked up earlier in the request) is fetched by primary key
+     * through the request's persistence context, so repeated lookups do not hit the
+     * database again.</p>
+     *
+     * @param email the email address
+     * @return an optional containing the user if found
+     */
+    Optional<User> findByEmail(String email);
+}
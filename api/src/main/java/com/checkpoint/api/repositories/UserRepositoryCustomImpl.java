@@ -0,0 +1,55 @@
+package com.checkpoint.api.repositories;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementation of {@link UserRepositoryCustom}.
+ * Resolves the email to an id through {@link KnownUserIds} when it can, and falls
+ * back to the email query otherwise.
+ */
+@Repository
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final KnownUserIds knownUserIds;
+
+    public UserRepositoryCustomImpl(KnownUserIds knownUserIds) {
+        this.knownUserIds = knownUserIds;
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        Optional<UUID> knownId = knownUserIds.resolveUserId(email);
+        if (knownId.isPresent()) {
+            User user = entityManager.find(User.class, knownId.get());
+            if (user != null && email.equals(user.getEmail())) {
+                return Optional.of(user);
+            }
+        }
+
+        // A list rather than a result stream: callers such as the JWT filter run outside
+        // any transaction, where a stream's ResultSet is closed before it is read.
+        List<User> users = entityManager.createQuery(
+                        "SELECT u FROM User u WHERE u.email = :email", User.class)
+                .setParameter("email", email)
+                .setMaxResults(1)
+                .getResultList();
+        if (users.isEmpty()) {
+            return Optional.empty();
+        }
+        User user = users.get(0);
+        knownUserIds.remember(email, user.getId());
+        return Optional.of(user);
+    }
+}
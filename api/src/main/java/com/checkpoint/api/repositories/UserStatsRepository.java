@@ -0,0 +1,255 @@
+package com.checkpoint.api.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.UserStats;
+import com.checkpoint.api.enums.UserStatDimension;
+
+/**
+ * Repository for {@link UserStats} and its {@link com.checkpoint.api.entities.UserStatCounter}s.
+ *
+ * <p>Every adjustment only touches users whose stats row exists: a user without one is
+ * built from the source tables on first read, which already includes the change.</p>
+ */
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, UUID> {
+
+    /**
+     * Applies deltas to the plain counters of a user.
+     *
+     * @return the number of updated rows (0 when the user's stats are not built yet)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE user_stats SET
+                review_count = review_count + :reviews,
+                library_count = library_count + :library,
+                one_star_rate_count = one_star_rate_count + :oneStarRates
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    int adjust(@Param("userId") UUID userId,
+               @Param("reviews") int reviews,
+               @Param("library") int library,
+               @Param("oneStarRates") int oneStarRates);
+
+    /**
+     * Adds {@code delta} to the user's completed count and to their completion counter of
+     * every genre of the game.
+     *
+     * <p>Runs as plain statements rather than an upsert so it works on every database the
+     * app runs on. Updating the stats row first locks it, which serializes the counter
+     * writes of one user and lets the missing counters be inserted without a conflict
+     * clause.</p>
+     *
+     * @return the number of updated stats rows
+     */
+    default int adjustCompleted(UUID userId, UUID videoGameId, int delta) {
+        int updated = adjustCompletedCount(userId, delta);
+        if (updated == 0) {
+            return 0;
+        }
+        adjustGenreCompletions(userId, videoGameId, delta);
+        if (delta > 0) {
+            insertMissingGenreCompletions(userId, videoGameId, delta);
+        }
+        return updated;
+    }
+
+    /**
+     * Adds {@code delta} (+1 or -1) to the user's play count and to their counter for the
+     * platform, moving the distinct platform count when that counter leaves or reaches zero.
+     * Locks the stats row first, like {@link #adjustCompleted}.
+     *
+     * @return the number of updated stats rows
+     */
+    default int adjustPlays(UUID userId, UUID platformId, int delta) {
+        int updated = adjustPlayCount(userId, delta);
+        if (updated == 0) {
+            return 0;
+        }
+        long total;
+        if (adjustCounter(userId, UserStatDimension.PLATFORM_PLAYS.name(), platformId, delta) > 0) {
+            total = findCounterTotal(userId, UserStatDimension.PLATFORM_PLAYS, platformId);
+        } else if (delta > 0) {
+            insertCounter(userId, UserStatDimension.PLATFORM_PLAYS.name(), platformId, delta);
+            total = delta;
+        } else {
+            return updated;
+        }
+
+        if (delta > 0 && total == delta) {
+            adjustPlatformCount(userId, 1);
+        } else if (delta < 0 && total == 0) {
+            adjustPlatformCount(userId, -1);
+        }
+        return updated;
+    }
+
+    @Modifying
+    @Query(value = "UPDATE user_stats SET completed_count = completed_count + :delta WHERE user_id = :userId",
+            nativeQuery = true)
+    int adjustCompletedCount(@Param("userId") UUID userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE user_stats SET play_count = play_count + :delta WHERE user_id = :userId",
+            nativeQuery = true)
+    int adjustPlayCount(@Param("userId") UUID userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE user_stats SET platform_count = platform_count + :delta WHERE user_id = :userId",
+            nativeQuery = true)
+    int adjustPlatformCount(@Param("userId") UUID userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE user_stat_counters SET total = total + :delta
+            WHERE user_id = :userId AND dimension = 'GENRE_COMPLETED'
+              AND key_id IN (SELECT vgg.genre_id FROM video_game_genres vgg WHERE vgg.video_game_id = :videoGameId)
+            """, nativeQuery = true)
+    int adjustGenreCompletions(@Param("userId") UUID userId,
+                               @Param("videoGameId") UUID videoGameId,
+                               @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stat_counters (user_id, dimension, key_id, total)
+            SELECT :userId, 'GENRE_COMPLETED', vgg.genre_id, :delta
+            FROM video_game_genres vgg
+            WHERE vgg.video_game_id = :videoGameId
+              AND NOT EXISTS (
+                  SELECT 1 FROM user_stat_counters c
+                  WHERE c.user_id = :userId AND c.dimension = 'GENRE_COMPLETED' AND c.key_id = vgg.genre_id)
+            """, nativeQuery = true)
+    int insertMissingGenreCompletions(@Param("userId") UUID userId,
+                                      @Param("videoGameId") UUID videoGameId,
+                                      @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE user_stat_counters SET total = total + :delta
+            WHERE user_id = :userId AND dimension = :dimension AND key_id = :keyId
+            """, nativeQuery = true)
+    int adjustCounter(@Param("userId") UUID userId,
+                      @Param("dimension") String dimension,
+                      @Param("keyId") UUID keyId,
+                      @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stat_counters (user_id, dimension, key_id, total)
+            VALUES (:userId, :dimension, :keyId, :total)
+            """, nativeQuery = true)
+    int insertCounter(@Param("userId") UUID userId,
+                      @Param("dimension") String dimension,
+                      @Param("keyId") UUID keyId,
+                      @Param("total") long total);
+
+    @Query("""
+            SELECT c.total FROM UserStatCounter c
+            WHERE c.userId = :userId AND c.dimension = :dimension AND c.keyId = :keyId
+            """)
+    long findCounterTotal(@Param("userId") UUID userId,
+                          @Param("dimension") UserStatDimension dimension,
+                          @Param("keyId") UUID keyId);
+
+    /**
+     * Returns the completion counters of the given genres, matched case-insensitively.
+     *
+     * @param userId     the user
+     * @param genreNames lower-case genre names
+     * @return rows of (lower-case genre name, completed count)
+     */
+    @Query("""
+            SELECT LOWER(g.name), c.total FROM UserStatCounter c, Genre g
+            WHERE c.userId = :userId
+              AND c.dimension = com.checkpoint.api.enums.UserStatDimension.GENRE_COMPLETED
+              AND g.id = c.keyId
+              AND LOWER(g.name) IN :genreNames
+            """)
+    List<Object[]> findGenreCompletions(@Param("userId") UUID userId,
+                                        @Param("genreNames") Collection<String> genreNames);
+
+    /**
+     * Returns users that have no stats row yet.
+     *
+     * @param pageable the batch size
+     * @return user ids
+     */
+    @Query("""
+            SELECT u.id FROM User u
+            WHERE NOT EXISTS (SELECT 1 FROM UserStats s WHERE s.userId = u.id)
+            ORDER BY u.id
+            """)
+    List<UUID> findUserIdsWithoutStats(Pageable pageable);
+
+    /**
+     * Drops the keyed counters of the given users, before they are rebuilt.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_stat_counters WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteCounters(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Builds the genre-completion and platform-play counters of the given users, after
+     * {@link #deleteCounters} dropped their old ones.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stat_counters (user_id, dimension, key_id, total)
+            SELECT ug.user_id, 'GENRE_COMPLETED', vgg.genre_id, COUNT(*)
+            FROM user_games ug
+            JOIN video_game_genres vgg ON vgg.video_game_id = ug.video_game_id
+            WHERE ug.user_id IN (:userIds) AND ug.status = 'COMPLETED'
+            GROUP BY ug.user_id, vgg.genre_id
+            UNION ALL
+            SELECT p.user_id, 'PLATFORM_PLAYS', p.platform_id, COUNT(*)
+            FROM user_game_plays p
+            WHERE p.user_id IN (:userIds)
+            GROUP BY p.user_id, p.platform_id
+            """, nativeQuery = true)
+    int buildCounters(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Builds the stats rows of the given users from their reviews, library, plays and rates.
+     * Users that already have a row are left alone.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stats (user_id, review_count, library_count, completed_count,
+                                    play_count, platform_count, one_star_rate_count)
+            SELECT u.id,
+                   (SELECT COUNT(*) FROM reviews r WHERE r.user_id = u.id),
+                   (SELECT COUNT(*) FROM user_games ug WHERE ug.user_id = u.id),
+                   (SELECT COUNT(*) FROM user_games ug WHERE ug.user_id = u.id AND ug.status = 'COMPLETED'),
+                   (SELECT COUNT(*) FROM user_game_plays p WHERE p.user_id = u.id),
+                   (SELECT COUNT(DISTINCT p.platform_id) FROM user_game_plays p WHERE p.user_id = u.id),
+                   (SELECT COUNT(*) FROM rates r WHERE r.user_id = u.id AND r.score <= 2)
+            FROM users u
+            WHERE u.id IN (:userIds)
+              AND NOT EXISTS (SELECT 1 FROM user_stats s WHERE s.user_id = u.id)
+            """, nativeQuery = true)
+    int buildStats(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Removes a user's stats and counters (account erasure).
+     *
+     * @return the number of deleted stats rows
+     */
+    default int deleteAllForUser(UUID userId) {
+        deleteCounters(List.of(userId));
+        return deleteStats(userId);
+    }
+
+    @Modifying
+    @Query(value = "DELETE FROM user_stats WHERE user_id = :userId", nativeQuery = true)
+    int deleteStats(@Param("userId") UUID userId);
+}
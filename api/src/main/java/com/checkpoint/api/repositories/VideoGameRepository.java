@@ -20,7 +20,7 @@ import com.checkpoint.api.entities.VideoGame;
  * Repository for VideoGame entity.
  */
 @Repository
-public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, VideoGameRepositoryCustom {
+public interface VideoGameRepository extends JpaRepository<VideoGame, UUID> {
 
     /**
      * Finds a video game by its IGDB external ID.
@@ -66,6 +66,16 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, Vid
      */
     List<VideoGame> findAllByIgdbIdIn(Collection<Long> igdbIds);
 
+    /**
+     * Returns which of the given IGDB IDs are already in the catalogue, without
+     * loading the games themselves. Used by the bulk import to dedup a page in one query.
+     *
+     * @param igdbIds the IGDB game IDs to check
+     * @return the subset of {@code igdbIds} that already exist
+     */
+    @Query("SELECT vg.igdbId FROM VideoGame vg WHERE vg.igdbId IN :igdbIds")
+    List<Long> findExistingIgdbIds(@Param("igdbIds") Collection<Long> igdbIds);
+
     /**
      * Returns distinct video games that are in at least one user library. Used by the
      * news import task to limit the Steam news pass to games that someone actually
@@ -80,7 +90,7 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, Vid
 
     /**
      * Fetches a paginated list of games as GameCardDto projections.
-     * Uses a single query with aggregated rating calculation to avoid N+1 issues.
+     * Reads the stored rating count, so no rates are joined.
      *
      * @param pageable pagination and sorting parameters
      * @return page of GameCardDto
@@ -92,11 +102,9 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, Vid
                 vg.coverUrl,
                 vg.releaseDate,
                 vg.averageRating,
-                COUNT(r.id)
+                vg.ratingCount
             )
             FROM VideoGame vg
-            LEFT JOIN vg.rates r
-            GROUP BY vg.id, vg.title, vg.coverUrl, vg.releaseDate, vg.averageRating
             """)
     Page<GameCardDto> findAllAsGameCards(Pageable pageable);
 
@@ -185,6 +193,25 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, Vid
             @Param("likedCompanyIds") Collection<UUID> likedCompanyIds,
             Pageable pageable);
 
+    /**
+     * Returns every game the user already has a relationship with — library, wishlist,
+     * favorites, backlog, rating, or a top-level game-like — in one round-trip. The
+     * recommendation service turns it into the user's exclusion bitset over the
+     * in-memory catalog tag index.
+     *
+     * @param userId the user's ID
+     * @return the IDs of games to exclude from the user's recommendations
+     */
+    @Query(value = """
+            SELECT video_game_id FROM user_games WHERE user_id = :userId
+            UNION SELECT video_game_id FROM wishes WHERE user_id = :userId
+            UNION SELECT video_game_id FROM favorites WHERE user_id = :userId
+            UNION SELECT video_game_id FROM backlogs WHERE user_id = :userId
+            UNION SELECT video_game_id FROM rates WHERE user_id = :userId
+            UNION SELECT video_game_id FROM likes WHERE user_id = :userId AND video_game_id IS NOT NULL
+            """, nativeQuery = true)
+    List<UUID> findInteractedGameIds(@Param("userId") UUID userId);
+
     /**
      * Pre-filters the catalog to games sharing at least one genre or company with the
      * seed game, excluding the seed itself and DLC ({@code parentGame IS NULL}).
@@ -211,8 +238,47 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, Vid
             Pageable pageable);
 
     /**
-     * Loads {@link GameCardDto} projections (with accurate rating counts) for the given
-     * IDs in a single aggregated query. Used by the similarity service to materialise the
+     * Scalar attributes of every game, as {@code [id, title, averageRating, releaseDate,
+     * parentGameId]} rows. Together with the {@code find*Links} queries this lets the
+     * in-memory catalog indexes (similarity, recommendation tags) walk the whole catalog
+     * without hydrating entities.
+     *
+     * @return one row per game
+     */
+    @Query("""
+            SELECT vg.id, vg.title, vg.averageRating, vg.releaseDate, p.id
+            FROM VideoGame vg
+            LEFT JOIN vg.parentGame p
+            """)
+    List<Object[]> findSimilarityProfiles();
+
+    /**
+     * Every game/genre association as {@code [videoGameId, genreId]} rows.
+     *
+     * @return the contents of the genre join table
+     */
+    @Query("SELECT vg.id, g.id FROM VideoGame vg JOIN vg.genres g")
+    List<Object[]> findAllGenreLinks();
+
+    /**
+     * Every game/platform association as {@code [videoGameId, platformId]} rows.
+     *
+     * @return the contents of the platform join table
+     */
+    @Query("SELECT vg.id, p.id FROM VideoGame vg JOIN vg.platforms p")
+    List<Object[]> findAllPlatformLinks();
+
+    /**
+     * Every game/company association as {@code [videoGameId, companyId]} rows.
+     *
+     * @return the contents of the company join table
+     */
+    @Query("SELECT vg.id, c.id FROM VideoGame vg JOIN vg.companies c")
+    List<Object[]> findAllCompanyLinks();
+
+    /**
+     * Loads {@link GameCardDto} projections (with their stored rating counts) for the given
+     * IDs in a single query. Used by the similarity service to materialise the
      * final, already-ranked top-N selection; the caller restores the ranked order since
      * SQL {@code IN} does not preserve it.
      *
@@ -226,24 +292,13 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, Vid
                 vg.coverUrl,
                 vg.releaseDate,
                 vg.averageRating,
-                COUNT(r.id)
+                vg.ratingCount
             )
             FROM VideoGame vg
-            LEFT JOIN vg.rates r
             WHERE vg.id IN :ids
-            GROUP BY vg.id, vg.title, vg.coverUrl, vg.releaseDate, vg.averageRating
             """)
     List<GameCardDto> findGameCardsByIdIn(@Param("ids") Collection<UUID> ids);
 
-    /**
-     * Counts the number of ratings for a video game.
-     *
-     * @param videoGameId the video game ID
-     * @return count of ratings
-     */
-    @Query("SELECT COUNT(r) FROM Rate r WHERE r.videoGame.id = :videoGameId")
-    Long countRatings(@Param("videoGameId") UUID videoGameId);
-
     /**
      * Counts the number of parent games (DLCs and expansions excluded).
      *
@@ -253,38 +308,25 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, Vid
     long countParentGames();
 
     /**
-     * Finds trending games ranked by weighted recent activity score.
-     * Uses correlated subqueries to count recent library additions, play sessions,
-     * ratings, reviews, likes, and wishlist additions within the given time window.
-     * Falls back to all-time average rating and release date when recent activity is low.
-     * DLCs are excluded from results.
+     * Returns standalone games (DLCs excluded) by all-time average rating, then release
+     * date. Fills the trending snapshot when recent activity ranks fewer games than
+     * requested.
      *
-     * @param since the start of the trending window (typically 7 days ago)
-     * @param limit the maximum number of results to return
-     * @return a list of trending game data as Object arrays
-     *         (id, title, coverUrl, releaseDate, averageRating, ratingCount)
+     * @param pageable pagination parameters (used to cap the result size)
+     * @return the game IDs in fallback order
      */
-    @Query(value = """
-            SELECT vg.id, vg.title, vg.cover_url, vg.release_date, vg.average_rating,
-                   (SELECT COUNT(*) FROM rates r WHERE r.video_game_id = vg.id) AS rating_count,
-                   (3 * (SELECT COUNT(*) FROM user_games ug WHERE ug.video_game_id = vg.id AND ug.created_at >= :since)
-                    + 3 * (SELECT COUNT(*) FROM user_game_plays gp WHERE gp.video_game_id = vg.id AND gp.created_at >= :since)
-                    + 2 * (SELECT COUNT(*) FROM rates rr WHERE rr.video_game_id = vg.id AND rr.created_at >= :since)
-                    + 2 * (SELECT COUNT(*) FROM reviews rv WHERE rv.video_game_id = vg.id AND rv.created_at >= :since)
-                    + 1 * (SELECT COUNT(*) FROM likes lk WHERE lk.video_game_id = vg.id AND lk.created_at >= :since)
-                    + 1 * (SELECT COUNT(*) FROM wishes ws WHERE ws.video_game_id = vg.id AND ws.created_at >= :since)
-                   ) AS trending_score
-            FROM video_games vg
-            WHERE vg.parent_game_id IS NULL
-            ORDER BY trending_score DESC, COALESCE(vg.average_rating, 0) DESC, vg.release_date DESC
-            LIMIT :limit
-            """, nativeQuery = true)
-    List<Object[]> findTrendingGames(@Param("since") LocalDateTime since, @Param("limit") int limit);
+    @Query("""
+            SELECT vg.id FROM VideoGame vg
+            WHERE vg.parentGame IS NULL
+            ORDER BY COALESCE(vg.averageRating, 0) DESC, vg.releaseDate DESC
+            """)
+    List<UUID> findTrendingFallbackIds(Pageable pageable);
 
     /**
      * Finds trending games among the given set of friend user IDs.
-     * Uses the same weighted scoring as {@link #findTrendingGames} but filters
-     * all activity subqueries to only count actions from the specified friends.
+     * Scores games by weighted recent library additions, play sessions, ratings,
+     * reviews, likes and wishlist additions, counting only actions from the
+     * specified friends.
      *
      * @param friendIds the IDs of users in the follow graph
      * @param since     the start of the trending window
@@ -294,7 +336,7 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, Vid
      */
     @Query(value = """
             SELECT vg.id, vg.title, vg.cover_url, vg.release_date, vg.average_rating,
-                   (SELECT COUNT(*) FROM rates r WHERE r.video_game_id = vg.id) AS rating_count,
+                   vg.rating_count,
                    (3 * (SELECT COUNT(*) FROM user_games ug WHERE ug.video_game_id = vg.id AND ug.created_at >= :since AND ug.user_id IN (:friendIds))
                     + 3 * (SELECT COUNT(*) FROM user_game_plays gp WHERE gp.video_game_id = vg.id AND gp.created_at >= :since AND gp.user_id IN (:friendIds))
                     + 2 * (SELECT COUNT(*) FROM rates rr WHERE rr.video_game_id = vg.id AND rr.created_at >= :since AND rr.user_id IN (:friendIds))
@@ -326,7 +368,7 @@ public interface VideoGameRepository extends JpaRepository<VideoGame, UUID>, Vid
     @Query(value = """
             SELECT * FROM (
                 SELECT vg.id, vg.title, vg.cover_url, vg.release_date, vg.average_rating,
-                       (SELECT COUNT(*) FROM rates r WHERE r.video_game_id = vg.id) AS rating_count,
+                       vg.rating_count,
                        (3 * (SELECT COUNT(*) FROM user_games ug WHERE ug.video_game_id = vg.id AND ug.created_at >= :since AND ug.user_id IN (:friendIds))
                         + 3 * (SELECT COUNT(*) FROM user_game_plays gp WHERE gp.video_game_id = vg.id AND gp.created_at >= :since AND gp.user_id IN (:friendIds))
                         + 2 * (SELECT COUNT(*) FROM rates rr WHERE rr.video_game_id = vg.id AND rr.created_at >= :since AND rr.user_id IN (:friendIds))
@@ -109,8 +109,8 @@ public interface WishRepository extends JpaRepository<Wish, UUID> {
 
     /**
      * Returns the games appearing in the most users' wishlists, ranked by descending count.
-     * Joins through to the rates table so the {@link GameCardDto} projection includes
-     * the average rating and rating count in a single query (avoids N+1).
+     * The {@link GameCardDto} projection reads the game's stored average rating and
+     * rating count, so no rates are joined.
      *
      * @param pageable pagination parameters (used to cap the result size; sort is ignored)
      * @return a page of game cards ordered by wishlist count (descending)
@@ -122,13 +122,12 @@ public interface WishRepository extends JpaRepository<Wish, UUID> {
                 vg.coverUrl,
                 vg.releaseDate,
                 vg.averageRating,
-                COUNT(DISTINCT r.id)
+                vg.ratingCount
             )
             FROM Wish w
             JOIN w.videoGame vg
-            LEFT JOIN vg.rates r
-            GROUP BY vg.id, vg.title, vg.coverUrl, vg.releaseDate, vg.averageRating
-            ORDER BY COUNT(DISTINCT w.id) DESC
+            GROUP BY vg.id, vg.title, vg.coverUrl, vg.releaseDate, vg.averageRating, vg.ratingCount
+            ORDER BY COUNT(w.id) DESC
             """)
     Page<GameCardDto> findMostWishlistedGames(Pageable pageable);
 
@@ -15,7 +15,7 @@ import com.checkpoint.api.enums.XpEventType;
  * Repository for {@link XpGrant} entities.
  */
 @Repository
-public interface XpGrantRepository extends JpaRepository<XpGrant, UUID> {
+public interface XpGrantRepository extends JpaRepository<XpGrant, UUID>, XpGrantRepositoryCustom {
 
     /**
      * Counts grants of a given type awarded to a user since the given timestamp.
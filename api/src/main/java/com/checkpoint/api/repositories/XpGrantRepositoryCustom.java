@@ -0,0 +1,61 @@
+package com.checkpoint.api.repositories;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.checkpoint.api.enums.XpEventType;
+
+/**
+ * Custom repository interface for the XP ledger writes, each done in a single statement.
+ *
+ * <p>Levels are computed in SQL with the same rule as before: a user reaches level
+ * {@code n + 1} once their XP reaches {@code n * 1000}, and never loses a level.</p>
+ */
+public interface XpGrantRepositoryCustom {
+
+    /**
+     * Records the given grants in {@code xp_grants} and credits the XP of the grants that
+     * were new, all in one round-trip. Grants whose {@code (user, eventType, targetId)} key
+     * already exists, and grants to users that no longer exist, are skipped.
+     *
+     * @param awards the grants to apply
+     * @return one credit per user whose XP changed
+     */
+    List<XpCredit> grantAll(List<XpAward> awards);
+
+    /**
+     * Adds XP to a user without recording a grant.
+     *
+     * @param userId   the user to credit
+     * @param xpAmount the XP delta
+     * @return the resulting credit, or empty if the user does not exist
+     */
+    Optional<XpCredit> credit(UUID userId, int xpAmount);
+
+    /**
+     * A single XP grant, deduplicated by {@code (userId, eventType, targetId)}.
+     *
+     * @param userId    the user to credit
+     * @param xpAmount  the XP to add
+     * @param eventType the kind of action being rewarded
+     * @param targetId  a deterministic per-action key (may be {@code null})
+     */
+    record XpAward(UUID userId, int xpAmount, XpEventType eventType, UUID targetId) {
+    }
+
+    /**
+     * The outcome of crediting XP to a user.
+     *
+     * @param userId        the credited user
+     * @param previousLevel the level before the credit
+     * @param level         the level after the credit
+     * @param xpPoint       the XP total after the credit
+     */
+    record XpCredit(UUID userId, int previousLevel, int level, int xpPoint) {
+
+        public boolean leveledUp() {
+            return level > previousLevel;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.checkpoint.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Repository;
+
+import com.checkpoint.api.entities.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Implementation of {@link XpGrantRepositoryCustom}.
+ *
+ * <p>Both statements lock the credited rows in a {@code locked} CTE so that the level
+ * they return as "previous" is the one the increment was applied to, even when two
+ * grants to the same user race.</p>
+ */
+@Repository
+public class XpGrantRepositoryCustomImpl implements XpGrantRepositoryCustom {
+
+    private static final String GRANT_ALL = """
+            WITH awards AS (
+                SELECT a.id, a.user_id, a.event_type, a.target_id, a.xp_amount
+                FROM unnest(CAST(:ids AS uuid[]), CAST(:userIds AS uuid[]), CAST(:eventTypes AS varchar[]),
+                            CAST(:targetIds AS uuid[]), CAST(:amounts AS integer[]))
+                     AS a(id, user_id, event_type, target_id, xp_amount)
+                WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = a.user_id)
+            ),
+            granted AS (
+                INSERT INTO xp_grants (id, user_id, event_type, target_id, xp_amount, granted_at)
+                SELECT id, user_id, event_type, target_id, xp_amount, :grantedAt FROM awards
+                ON CONFLICT ON CONSTRAINT uk_xp_grants_user_event_target DO NOTHING
+                RETURNING user_id, xp_amount
+            ),
+            totals AS (
+                SELECT user_id, SUM(xp_amount) AS delta FROM granted GROUP BY user_id
+            ),
+            locked AS (
+                SELECT u.id, u.level FROM users u JOIN totals t ON t.user_id = u.id FOR UPDATE OF u
+            )
+            UPDATE users u
+            SET xp_point = u.xp_point + t.delta,
+                level = GREATEST(u.level, (u.xp_point + t.delta) / 1000 + 1),
+                updated_at = :grantedAt
+            FROM totals t JOIN locked l ON l.id = t.user_id
+            WHERE u.id = t.user_id
+            RETURNING u.id, l.level, u.level, u.xp_point
+            """;
+
+    private static final String CREDIT = """
+            WITH locked AS (
+                SELECT id, level FROM users WHERE id = :userId FOR UPDATE
+            )
+            UPDATE users u
+            SET xp_point = u.xp_point + :xpAmount,
+                level = GREATEST(u.level, (u.xp_point + :xpAmount) / 1000 + 1),
+                updated_at = :creditedAt
+            FROM locked l
+            WHERE u.id = l.id
+            RETURNING u.id, l.level, u.level, u.xp_point
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<XpCredit> grantAll(List<XpAward> awards) {
+        if (awards.isEmpty()) {
+            return List.of();
+        }
+
+        int size = awards.size();
+        UUID[] ids = new UUID[size];
+        UUID[] userIds = new UUID[size];
+        String[] eventTypes = new String[size];
+        UUID[] targetIds = new UUID[size];
+        Integer[] amounts = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            XpAward award = awards.get(i);
+            ids[i] = UUID.randomUUID();
+            userIds[i] = award.userId();
+            eventTypes[i] = award.eventType().name();
+            targetIds[i] = award.targetId();
+            amounts[i] = award.xpAmount();
+        }
+
+        Query query = entityManager.createNativeQuery(GRANT_ALL);
+        query.setParameter("ids", ids);
+        query.setParameter("userIds", userIds);
+        query.setParameter("eventTypes", eventTypes);
+        query.setParameter("targetIds", targetIds);
+        query.setParameter("amounts", amounts);
+        query.setParameter("grantedAt", LocalDateTime.now());
+        return toCredits(query);
+    }
+
+    @Override
+    public Optional<XpCredit> credit(UUID userId, int xpAmount) {
+        Query query = entityManager.createNativeQuery(CREDIT);
+        query.setParameter("userId", userId);
+        query.setParameter("xpAmount", xpAmount);
+        query.setParameter("creditedAt", LocalDateTime.now());
+        return toCredits(query).stream().findFirst();
+    }
+
+    private List<XpCredit> toCredits(Query query) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        List<XpCredit> credits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            XpCredit credit = new XpCredit((UUID) row[0], ((Number) row[1]).intValue(),
+                    ((Number) row[2]).intValue(), ((Number) row[3]).intValue());
+            syncLoadedUser(credit.userId());
+            credits.add(credit);
+        }
+        return credits;
+    }
+
+    /**
+     * The statements bypass the persistence context: a user already loaded in this
+     * transaction is refreshed so that a later flush does not write its old XP back.
+     */
+    private void syncLoadedUser(UUID userId) {
+        User user = entityManager.getReference(User.class, userId);
+        if (Hibernate.isInitialized(user)) {
+            entityManager.refresh(user);
+        }
+    }
+}
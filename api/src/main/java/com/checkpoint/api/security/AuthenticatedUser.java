@@ -0,0 +1,44 @@
+package com.checkpoint.api.security;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Principal of a JWT-authenticated request: the few {@link com.checkpoint.api.entities.User}
+ * fields the security layer needs, small enough to be cached between requests.
+ *
+ * <p>Controllers keep receiving it as {@link UserDetails}; {@link #getUsername()} is the
+ * email, as before. It carries no password since the JWT already proved the identity.</p>
+ *
+ * @param id     the user's id
+ * @param email  the user's email (JWT subject)
+ * @param role   the role name, without the {@code ROLE_} prefix
+ * @param banned whether the user is banned
+ */
+public record AuthenticatedUser(UUID id, String email, String role, boolean banned) implements UserDetails {
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return !banned;
+    }
+}
@@ -0,0 +1,34 @@
+package com.checkpoint.api.security;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.checkpoint.api.exceptions.UserBannedException;
+
+/**
+ * Resolves the principal of JWT-authenticated requests through a bounded cache, so an
+ * authenticated request does not need a {@code users} lookup just to be let in.
+ *
+ * <p>Cached principals must be evicted whenever a field they carry changes or the user
+ * is deleted; see {@link #evict(String)}.</p>
+ */
+public interface AuthenticatedUserService {
+
+    /**
+     * Returns the principal for the given email, from the cache when possible.
+     *
+     * @param email the JWT subject
+     * @return the principal
+     * @throws UsernameNotFoundException if no user has this email
+     * @throws UserBannedException       if the user is banned
+     */
+    AuthenticatedUser loadAuthenticatedUser(String email);
+
+    /**
+     * Drops the cached principal for the given email, now and again once the current
+     * transaction (if any) has committed, so a request racing the change cannot
+     * re-cache the old row.
+     *
+     * @param email the user's email
+     */
+    void evict(String email);
+}
@@ -0,0 +1,90 @@
+package com.checkpoint.api.security;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.checkpoint.api.repositories.KnownUserIds;
+
+/**
+ * Request-scoped knowledge of who the current user is.
+ *
+ * <p>Maps an email to a user id without a query: from the authenticated
+ * {@link AuthenticatedUser} when the email is the caller's own, otherwise from ids
+ * remembered earlier in the same HTTP request. {@code UserRepository.findByEmail} uses
+ * it (as {@link KnownUserIds}) to turn repeated lookups into primary-key hits on the request's persistence
+ * context, so one request loads a given {@code User} row at most once. Outside an HTTP
+ * request (schedulers, async listeners) nothing is remembered.</p>
+ */
+@Component
+public class CurrentUserResolver implements KnownUserIds {
+
+    private static final String USER_IDS_ATTRIBUTE = CurrentUserResolver.class.getName() + ".userIds";
+
+    /**
+     * @return the principal of the current request, if it was authenticated with a JWT
+     */
+    public Optional<AuthenticatedUser> currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the id of the user with the given email, if already known to this request.
+     *
+     * @param email the user's email
+     * @return the user id, or empty if it has to be looked up
+     */
+    @Override
+    public Optional<UUID> resolveUserId(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        Optional<UUID> own = currentPrincipal()
+                .filter(principal -> email.equals(principal.email()))
+                .map(AuthenticatedUser::id);
+        if (own.isPresent()) {
+            return own;
+        }
+        Map<String, UUID> userIds = userIds(false);
+        return userIds == null ? Optional.empty() : Optional.ofNullable(userIds.get(email));
+    }
+
+    /**
+     * Remembers a looked-up user id for the rest of the current request.
+     *
+     * @param email  the user's email
+     * @param userId the user's id
+     */
+    @Override
+    public void remember(String email, UUID userId) {
+        Map<String, UUID> userIds = userIds(true);
+        if (userIds != null) {
+            userIds.put(email, userId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, UUID> userIds(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object userIds = attributes.getAttribute(USER_IDS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (userIds == null && create) {
+            userIds = new HashMap<String, UUID>();
+            attributes.setAttribute(USER_IDS_ATTRIBUTE, userIds, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, UUID>) userIds;
+    }
+}
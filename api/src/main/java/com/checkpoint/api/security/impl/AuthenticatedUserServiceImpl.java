@@ -0,0 +1,69 @@
+package com.checkpoint.api.security.impl;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.checkpoint.api.entities.User;
+import com.checkpoint.api.exceptions.UserBannedException;
+import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.security.AuthenticatedUser;
+import com.checkpoint.api.security.AuthenticatedUserService;
+import com.checkpoint.api.utils.BoundedCache;
+
+/**
+ * Implementation of {@link AuthenticatedUserService}.
+ *
+ * <p>Banned users are cached too, so their requests are rejected without touching the
+ * database until an admin lifts the ban. A cache miss loads the user and their role in a
+ * read-only transaction of its own: the JWT filter runs before any other transaction or
+ * open-session-in-view.</p>
+ */
+@Service
+public class AuthenticatedUserServiceImpl implements AuthenticatedUserService {
+
+    private final UserRepository userRepository;
+    private final BoundedCache<String, AuthenticatedUser> principalCache;
+
+    public AuthenticatedUserServiceImpl(UserRepository userRepository,
+                                        BoundedCache<String, AuthenticatedUser> principalCache) {
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AuthenticatedUser loadAuthenticatedUser(String email) {
+        AuthenticatedUser principal = principalCache.get(email);
+        if (principal == null) {
+            long stamp = principalCache.stamp();
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException(
+                            "User not found with email: " + email));
+            String roleName = user.getRole() != null ? user.getRole().getName() : "USER";
+            principal = new AuthenticatedUser(user.getId(), user.getEmail(), roleName,
+                    Boolean.TRUE.equals(user.getBanned()));
+            principalCache.putIfUnchanged(email, principal, stamp);
+        }
+
+        if (principal.banned()) {
+            throw new UserBannedException(email);
+        }
+        return principal;
+    }
+
+    @Override
+    public void evict(String email) {
+        principalCache.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.invalidate(email);
+                }
+            });
+        }
+    }
+}
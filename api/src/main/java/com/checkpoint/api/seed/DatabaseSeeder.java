@@ -41,6 +41,7 @@ import com.checkpoint.api.repositories.BadgeRepository;
 import com.checkpoint.api.repositories.PlatformRepository;
 import com.checkpoint.api.repositories.RoleRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.EngagementCounterService;
 
 /**
  * Populates the database with realistic fake users, social activity, and
@@ -87,19 +88,22 @@ public class DatabaseSeeder implements ApplicationRunner {
     private final BadgeRepository badgeRepository;
     private final PasswordEncoder passwordEncoder;
     private final EntityManager entityManager;
+    private final EngagementCounterService engagementCounterService;
 
     public DatabaseSeeder(RoleRepository roleRepository,
                           VideoGameRepository videoGameRepository,
                           PlatformRepository platformRepository,
                           BadgeRepository badgeRepository,
                           PasswordEncoder passwordEncoder,
-                          EntityManager entityManager) {
+                          EntityManager entityManager,
+                          EngagementCounterService engagementCounterService) {
         this.roleRepository = roleRepository;
         this.videoGameRepository = videoGameRepository;
         this.platformRepository = platformRepository;
         this.badgeRepository = badgeRepository;
         this.passwordEncoder = passwordEncoder;
         this.entityManager = entityManager;
+        this.engagementCounterService = engagementCounterService;
     }
 
     @Override
@@ -164,6 +168,9 @@ public class DatabaseSeeder implements ApplicationRunner {
         entityManager.flush();
         log.info("Created {} likes", likes);
 
+        // Seeded rows bypass the services, so the counter columns are derived in one pass.
+        engagementCounterService.reconcileCounters();
+
         long elapsed = System.currentTimeMillis() - startTime;
         log.info("=== Seeder completed in {} ms ===", elapsed);
     }
@@ -1,6 +1,11 @@
 package com.checkpoint.api.services;
 
+import java.util.List;
+
 import com.checkpoint.api.dto.admin.AdminAnalyticsDto;
+import com.checkpoint.api.dto.admin.CacheStatsDto;
+import com.checkpoint.api.dto.admin.OutboxStatsDto;
+import com.checkpoint.api.dto.admin.SearchIndexStatusDto;
 
 /**
  * Service interface for the admin analytics dashboard.
@@ -13,4 +18,25 @@ public interface AdminAnalyticsService {
      * @return the analytics snapshot
      */
     AdminAnalyticsDto getAnalytics();
+
+    /**
+     * Reports the counters of every in-process result cache.
+     *
+     * @return one entry per cache, ordered by name
+     */
+    List<CacheStatsDto> getCacheStats();
+
+    /**
+     * Reports the backlog, lag and throughput of the domain-event outbox.
+     *
+     * @return the outbox statistics
+     */
+    OutboxStatsDto getOutboxStats();
+
+    /**
+     * Reports whether the full-text search index has caught up with the database.
+     *
+     * @return the search index status
+     */
+    SearchIndexStatusDto getSearchIndexStatus();
 }
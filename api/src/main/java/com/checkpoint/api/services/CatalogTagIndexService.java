@@ -0,0 +1,68 @@
+package com.checkpoint.api.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Memory-resident genre / platform / company index over the whole catalog, used to
+ * generate and score recommendation candidates without touching the database.
+ *
+ * <p>Every game gets a dense ordinal and every tag a bitset of the ordinals that carry
+ * it, so a user's taste profile can be matched against the full catalog in a single
+ * pass. The index is built once from the catalog and patched as individual games are
+ * imported, edited or deleted.</p>
+ */
+public interface CatalogTagIndexService {
+
+    /**
+     * Scores every non-DLC game sharing at least one genre or company with the given
+     * weights, using {@code GameTagScorer} semantics, and returns the best ones.
+     *
+     * @param genreScores     weight per genre id in the reference profile
+     * @param platformScores  weight per platform id in the reference profile
+     * @param companyScores   weight per company id in the reference profile
+     * @param excludedGameIds games that must never be returned
+     * @param limit           the maximum number of matches to return
+     * @return the matches, best first, or empty when the index is not built yet
+     */
+    Optional<List<TagMatch>> findTopMatches(Map<UUID, Double> genreScores,
+                                            Map<UUID, Double> platformScores,
+                                            Map<UUID, Double> companyScores,
+                                            Collection<UUID> excludedGameIds,
+                                            int limit);
+
+    /**
+     * Rebuilds the whole index from the catalog and swaps it in atomically.
+     * A no-op when a rebuild is already running.
+     */
+    void rebuild();
+
+    /**
+     * Re-reads a single game's tags, rating and release date.
+     *
+     * @param gameId the created or updated game's ID
+     */
+    void refreshGame(UUID gameId);
+
+    /**
+     * Drops a deleted game from the index.
+     *
+     * @param gameId the deleted game's ID
+     */
+    void removeGame(UUID gameId);
+
+    /**
+     * @return whether the index has been built at least once
+     */
+    boolean isReady();
+
+    /**
+     * A scored candidate: the total plus the weighted genre and company contributions
+     * (the latter two let the caller phrase a reason).
+     */
+    record TagMatch(UUID gameId, double score, double genreContribution, double companyContribution) {
+    }
+}
@@ -1,19 +1,56 @@
 package com.checkpoint.api.services;
 
-import com.checkpoint.api.dto.export.UserDataExportDto;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.checkpoint.api.dto.export.DataExportJobDto;
 
 /**
  * Service interface for the right-to-data-portability export
  * (GDPR Article 20).
+ *
+ * <p>Exports are prepared asynchronously: a request starts a job that writes every
+ * personal data category we hold for the user to a gzipped JSON file, and the file is
+ * downloadable once the job has completed, until it expires.</p>
  */
 public interface DataExportService {
 
     /**
-     * Aggregates every personal data category we hold for the user
-     * identified by the given email into a single export payload.
+     * Starts preparing an export for the user identified by the given email,
+     * replacing their previous export.
      *
      * @param email the email of the user, taken from the authenticated principal
-     * @return a populated {@link UserDataExportDto}
+     * @return the initial status of the job
+     * @throws com.checkpoint.api.exceptions.ExportAlreadyRunningException if the
+     *         user's previous export is still being prepared
+     */
+    DataExportJobDto requestExport(String email);
+
+    /**
+     * Returns the status of the user's latest export.
+     *
+     * @param email the email of the user
+     * @return the job status, or empty if the user has no unexpired export
+     */
+    Optional<DataExportJobDto> findLatestExport(String email);
+
+    /**
+     * Returns the status of one of the user's exports.
+     *
+     * @param email the email of the user
+     * @param jobId the job identifier
+     * @return the job status, or empty if the job is unknown, expired or not the user's
+     */
+    Optional<DataExportJobDto> findExport(String email, UUID jobId);
+
+    /**
+     * Returns the file of a completed export.
+     *
+     * @param email the email of the user
+     * @param jobId the job identifier
+     * @return the gzipped JSON file, or empty if the export is not the user's, not
+     *         completed yet, or expired
      */
-    UserDataExportDto exportForUser(String email);
+    Optional<Path> findExportFile(String email, UUID jobId);
 }
@@ -0,0 +1,88 @@
+package com.checkpoint.api.services;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import com.checkpoint.api.entities.Comment;
+import com.checkpoint.api.entities.Like;
+
+/**
+ * Write side of the denormalized engagement counters ({@code likes_count},
+ * {@code comments_count}, {@code replies_count}, {@code video_games_count}) stored on
+ * reviews, comments and lists.
+ *
+ * <p>Every counter is shifted with a single atomic {@code UPDATE} in the caller's
+ * transaction, so listing endpoints read the counts straight off the rows they already
+ * load. Deletes that cascade from elsewhere (e.g. removing an account) bypass these
+ * hooks; {@link #reconcileCounters()} repairs that drift.</p>
+ *
+ * <p>A review's like counter also drives its {@code hot_score}, rewritten in the same
+ * statement, so the popular-review listings are index reads. Because the score decays
+ * with age, {@link #decayHotScores(Duration)} periodically rescores the recent ones.</p>
+ */
+public interface EngagementCounterService {
+
+    /**
+     * Counts a newly saved like against its review, list or comment. Game likes carry no
+     * counter and are ignored.
+     *
+     * @param like the saved like
+     */
+    void likeAdded(Like like);
+
+    /**
+     * Reverses {@link #likeAdded(Like)} for a like that is being deleted.
+     *
+     * @param like the like being deleted
+     */
+    void likeRemoved(Like like);
+
+    /**
+     * Counts a newly saved comment or reply against its review or list, and a reply
+     * against its parent comment.
+     *
+     * @param comment the saved comment
+     */
+    void commentAdded(Comment comment);
+
+    /**
+     * Reverses {@link #commentAdded(Comment)} for a comment about to be deleted, including
+     * the replies that will be removed along with a top-level comment. Must be called
+     * before the delete so the replies can still be counted.
+     *
+     * @param comment the comment about to be deleted
+     */
+    void commentRemoved(Comment comment);
+
+    /**
+     * Shifts a list's entry counter after a game was added to or removed from it.
+     *
+     * @param listId the list ID
+     * @param delta  +1 / -1
+     */
+    void listEntriesChanged(UUID listId, int delta);
+
+    /**
+     * Recomputes every counter that no longer matches its source rows.
+     *
+     * @return the number of rows corrected
+     */
+    int reconcileCounters();
+
+    /**
+     * Re-applies the time decay to the hot score of the liked reviews created within the
+     * given window, and of the older ones still scoring above a single like at the end of
+     * the window.
+     *
+     * @param window how far back reviews are still rescored
+     * @return the number of reviews rescored
+     */
+    int decayHotScores(Duration window);
+
+    /**
+     * Scores the liked reviews that have no hot score yet (liked before scores were kept).
+     *
+     * @return the number of reviews scored
+     */
+    int scoreUnscoredReviews();
+}
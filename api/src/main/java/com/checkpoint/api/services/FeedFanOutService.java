@@ -0,0 +1,69 @@
+package com.checkpoint.api.services;
+
+import java.util.UUID;
+
+import com.checkpoint.api.events.FeedActivityEvent;
+
+/**
+ * Write side of the materialized activity feed.
+ *
+ * <p>Each activity is stored once in {@code feed_activities} and fanned out
+ * to one {@code feed_entries} row per follower of its actor, so that reading a
+ * feed page never has to aggregate the source tables.</p>
+ */
+public interface FeedFanOutService {
+
+    /**
+     * Stores an activity and fans it out to the actor's followers. If the
+     * activity is already stored, only its displayed payload is updated.
+     *
+     * @param event the activity to record
+     */
+    void recordActivity(FeedActivityEvent event);
+
+    /**
+     * Removes an activity and every feed row pointing at it. No-op if unknown.
+     *
+     * @param activityId the activity ID
+     */
+    void removeActivity(UUID activityId);
+
+    /**
+     * Copies the followed user's recent activities into the follower's feed.
+     *
+     * @param followerId the new follower
+     * @param followedId the followed user
+     */
+    void onFollow(UUID followerId, UUID followedId);
+
+    /**
+     * Drops the unfollowed user's activities from the former follower's feed.
+     *
+     * @param followerId the former follower
+     * @param followedId the unfollowed user
+     */
+    void onUnfollow(UUID followerId, UUID followedId);
+
+    /**
+     * Deletes a user's activities, their feed and their entries in other users'
+     * feeds. Used on account erasure, since the feed tables have no foreign keys.
+     *
+     * @param userId the erased user
+     */
+    void removeUser(UUID userId);
+
+    /**
+     * Deletes activities and feed rows that fell out of the feed window.
+     *
+     * @return the number of deleted feed rows
+     */
+    int purgeExpired();
+
+    /**
+     * Seeds the store from the source tables when it is empty (first start
+     * after the feed store was introduced). No-op otherwise.
+     *
+     * @return the number of activities seeded
+     */
+    int backfillIfEmpty();
+}
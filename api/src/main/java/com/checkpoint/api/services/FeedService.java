@@ -2,6 +2,7 @@ package com.checkpoint.api.services;
 
 import java.util.List;
 
+import com.checkpoint.api.dto.catalog.CursorPagedResponseDto;
 import com.checkpoint.api.dto.catalog.GameCardDto;
 import com.checkpoint.api.dto.catalog.PagedResponseDto;
 import com.checkpoint.api.dto.social.FeedItemDto;
@@ -14,7 +15,10 @@ public interface FeedService {
 
     /**
      * Returns a paginated activity feed from users the authenticated user follows.
-     * Aggregates play sessions, ratings, reviews, and list creations from the last 30 days.
+     * Serves play sessions, ratings, reviews, and list creations from the last 30 days.
+     *
+     * <p>The total count is not computed: {@code totalElements} only tells whether
+     * a next page exists. Prefer {@link #scrollFeed} for infinite scrolling.</p>
      *
      * @param userEmail the authenticated user's email
      * @param page      the page number (0-based)
@@ -24,6 +28,19 @@ public interface FeedService {
      */
     PagedResponseDto<FeedItemDto> getFeed(String userEmail, int page, int size, FeedItemType type);
 
+    /**
+     * Returns the next page of the activity feed after the given keyset cursor.
+     * Each page is a single indexed range scan, however deep the client scrolls.
+     *
+     * @param userEmail the authenticated user's email
+     * @param cursor    the {@code nextCursor} of the previous page (null = first page)
+     * @param size      the page size
+     * @param type      optional activity type filter (null = all types)
+     * @return the feed items and the cursor of the following page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    CursorPagedResponseDto<FeedItemDto> scrollFeed(String userEmail, String cursor, int size, FeedItemType type);
+
     /**
      * Returns trending games among the authenticated user's followed users.
      * Uses the same weighted scoring as global trending but filtered to the follow graph.
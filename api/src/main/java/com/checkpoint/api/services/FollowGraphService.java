@@ -0,0 +1,70 @@
+package com.checkpoint.api.services;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Memory-resident copy of the {@code user_follows} graph, used to answer follow checks,
+ * follower / following counts and following sets without touching the join table.
+ *
+ * <p>Every read of follow state goes through this service (profiles, member cards,
+ * feeds, leaderboards, friend reviews), so all of them agree with each other. The graph
+ * is built once from the database and patched after each follow, unfollow and account
+ * deletion commits; those are the only writes to the join table in this application.
+ * A periodic rebuild folds in changes made by other instances or written straight to
+ * the table, which every reader therefore sees at the same time. Until the first build
+ * completes every method falls back to SQL.</p>
+ */
+public interface FollowGraphService {
+
+    /**
+     * @param followerId  the potential follower
+     * @param followingId the potentially followed user
+     * @return whether {@code followerId} follows {@code followingId}
+     */
+    boolean isFollowing(UUID followerId, UUID followingId);
+
+    /**
+     * @param userId the user's ID
+     * @return the number of users following the user
+     */
+    long countFollowers(UUID userId);
+
+    /**
+     * @param userId the user's ID
+     * @return the number of users the user follows
+     */
+    long countFollowing(UUID userId);
+
+    /**
+     * @param userId the user's ID
+     * @return the IDs of the users the user follows, in no particular order
+     */
+    List<UUID> getFollowingIds(UUID userId);
+
+    /**
+     * Records a committed follow.
+     */
+    void followed(UUID followerId, UUID followingId);
+
+    /**
+     * Records a committed unfollow (or follower removal).
+     */
+    void unfollowed(UUID followerId, UUID followingId);
+
+    /**
+     * Drops every follow involving a deleted user.
+     */
+    void removeUser(UUID userId);
+
+    /**
+     * Rebuilds the whole graph from the database and swaps it in atomically.
+     * A no-op when a rebuild is already running.
+     */
+    void rebuild();
+
+    /**
+     * @return whether the graph has been built at least once
+     */
+    boolean isReady();
+}
@@ -3,11 +3,11 @@ package com.checkpoint.api.services;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.checkpoint.api.dto.catalog.GameCardDto;
-import com.checkpoint.api.dto.catalog.GameDetailDto;
+import com.checkpoint.api.dto.catalog.GameCatalogPageDto;
+import com.checkpoint.api.dto.catalog.VersionedGameDetailDto;
 
 /**
  * Service interface for game catalog operations.
@@ -16,7 +16,8 @@ import com.checkpoint.api.dto.catalog.GameDetailDto;
 public interface GameCatalogService {
 
     /**
-     * Retrieves a paginated list of games for the catalog with optional filters.
+     * Retrieves a paginated list of games for the catalog with optional filters, along
+     * with genre, platform and release year facet counts.
      *
      * @param pageable   pagination and sorting parameters
      * @param genres     optional genre name filters (case-insensitive; matches any)
@@ -25,9 +26,9 @@ public interface GameCatalogService {
      * @param yearMax    optional maximum release year (inclusive)
      * @param ratingMin  optional minimum average rating (inclusive)
      * @param ratingMax  optional maximum average rating (inclusive)
-     * @return page of game cards matching the filters
+     * @return page of game cards matching the filters, with facet counts
      */
-    Page<GameCardDto> getGameCatalog(Pageable pageable,
+    GameCatalogPageDto getGameCatalog(Pageable pageable,
                                       List<String> genres,
                                       List<String> platforms,
                                       Integer yearMin,
@@ -36,13 +37,22 @@ public interface GameCatalogService {
                                       Double ratingMax);
 
     /**
-     * Retrieves detailed information about a specific game.
+     * Retrieves detailed information about a specific game, from the game detail cache
+     * when possible, with the validators for conditional requests.
      *
      * @param id the game ID
-     * @return game details
+     * @return game details with their ETag and last modification time
      * @throws GameNotFoundException if the game is not found
      */
-    GameDetailDto getGameDetails(UUID id);
+    VersionedGameDetailDto getGameDetails(UUID id);
+
+    /**
+     * Drops a game's cached details, now and again once the current transaction (if
+     * any) has committed, so a request racing the change cannot re-cache the old page.
+     *
+     * @param id the game ID
+     */
+    void evictGameDetails(UUID id);
 
     /**
      * Returns the games appearing in the most users' backlogs, ranked by descending count.
@@ -58,7 +58,8 @@ public interface GameImportService {
     /**
      * Same as {@link #bulkImport(List)} but reports live progress through the
      * supplied listener after each game, so an asynchronous job can expose
-     * how far along it is. Each game is persisted in its own transaction.
+     * how far along it is. New games are persisted in chunks, each in its own
+     * transaction; a failing chunk is retried game by game.
      *
      * @param games    the IGDB game DTOs to import
      * @param progress the listener notified after every processed game
@@ -66,6 +67,20 @@ public interface GameImportService {
      */
     BulkImportStats bulkImport(List<IgdbGameDto> games, ImportProgressListener progress);
 
+    /**
+     * Fetches and imports the most popular IGDB games as a pipeline: pages are
+     * downloaded on a separate thread while the previous page is deduplicated and
+     * persisted, so the import is bounded by the IGDB rate limit rather than by the
+     * database. Each received page is reported through
+     * {@link ImportProgressListener#fetched(int)}.
+     *
+     * @param limit          maximum number of games to fetch
+     * @param minRatingCount minimum number of ratings required
+     * @param progress       the listener notified after every processed game
+     * @return statistics describing the outcome
+     */
+    BulkImportStats bulkImportTopRated(int limit, int minRatingCount, ImportProgressListener progress);
+
     /**
      * Result object containing import statistics.
      */
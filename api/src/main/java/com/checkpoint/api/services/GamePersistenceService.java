@@ -1,5 +1,8 @@
 package com.checkpoint.api.services;
 
+import java.util.List;
+import java.util.Map;
+
 import com.checkpoint.api.dto.igdb.IgdbGameDto;
 import com.checkpoint.api.dto.igdb.IgdbTimeToBeatDto;
 import com.checkpoint.api.entities.VideoGame;
@@ -28,4 +31,17 @@ public interface GamePersistenceService {
      * @return the persisted entity
      */
     VideoGame importOne(IgdbGameDto dto, IgdbTimeToBeatDto timeToBeat);
+
+    /**
+     * Inserts a chunk of games that are known not to exist yet, in one brand-new
+     * transaction. Genres, platforms and companies are resolved for the whole chunk
+     * at once (through a name cache kept across calls) and the inserts are flushed as
+     * JDBC batches. If any game in the chunk fails, the whole chunk rolls back so the
+     * caller can retry it game by game with {@link #importOne}.
+     *
+     * @param dtos       the IGDB data of games absent from the catalogue
+     * @param timeToBeat pre-fetched time-to-beat data keyed by IGDB id (may miss entries)
+     * @return the persisted entities, in input order
+     */
+    List<VideoGame> importBatch(List<IgdbGameDto> dtos, Map<Long, IgdbTimeToBeatDto> timeToBeat);
 }
@@ -0,0 +1,56 @@
+package com.checkpoint.api.services;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.checkpoint.api.dto.profile.RatingDistributionEntryDto;
+import com.checkpoint.api.entities.GameRatingStats;
+
+/**
+ * Maintains the per-game {@link GameRatingStats} row, and the {@code averageRating} /
+ * {@code ratingCount} columns of the game derived from it.
+ *
+ * <p>The write hooks shift the aggregate with single atomic statements in the caller's
+ * transaction, like {@link UserStatsService}, and re-index the game so search sees the
+ * new average at commit. A game whose stats were never built has them built from its
+ * rates on its next rating; {@link #backfill(int)} builds them ahead of time.</p>
+ */
+public interface GameRatingStatsService {
+
+    /**
+     * Updates a game's aggregate after a rating was created, changed or removed. The
+     * rate change must already be saved (or deleted) in the current transaction.
+     *
+     * @param videoGameId   the rated game
+     * @param previousScore the raw score before the change, or {@code null} if there was none
+     * @param score         the raw score after the change, or {@code null} if it was removed
+     */
+    void rateChanged(UUID videoGameId, Integer previousScore, Integer score);
+
+    /**
+     * Removes every rating of a user from the aggregates (account erasure). Must be
+     * called before the user's rates are deleted.
+     *
+     * @param userId the user
+     */
+    void userRatingsRemoved(UUID userId);
+
+    /**
+     * Returns a game's rating distribution, in the sparse form of
+     * {@link com.checkpoint.api.repositories.RateRepository#findDistributionByVideoGameId(UUID)}.
+     * Only games rated before the backfill finished fall back to that query.
+     *
+     * @param videoGameId the game
+     * @param ratingCount the game's stored rating count; a game with none is not looked up
+     * @return one entry per used score, in ascending score order
+     */
+    List<RatingDistributionEntryDto> getDistribution(UUID videoGameId, long ratingCount);
+
+    /**
+     * Builds the stats of up to {@code batchSize} rated games that have none yet.
+     *
+     * @param batchSize the maximum number of games to build
+     * @return the number of games looked at
+     */
+    int backfill(int batchSize);
+}
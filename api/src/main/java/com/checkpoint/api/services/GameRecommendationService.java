@@ -1,6 +1,7 @@
 package com.checkpoint.api.services;
 
 import java.util.List;
+import java.util.UUID;
 
 import com.checkpoint.api.dto.catalog.RecommendedGameDto;
 
@@ -25,4 +26,12 @@ public interface GameRecommendationService {
      *         user — never empty as long as the catalog has at least one trending game
      */
     List<RecommendedGameDto> getRecommendationsFor(String userEmail, int size);
+
+    /**
+     * Drops the user's cached recommendations so the next request recomputes them.
+     * Called once a change to the user's taste signal has been committed.
+     *
+     * @param userId the user whose recommendations are stale
+     */
+    void evictRecommendations(UUID userId);
 }
@@ -2,11 +2,15 @@ package com.checkpoint.api.services;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+
 import com.checkpoint.api.dto.catalog.GameCardDto;
+import com.checkpoint.api.dto.catalog.GameCatalogPageDto;
 
 /**
  * Service interface for full-text game search using Hibernate Search.
- * Provides fuzzy search on game title and description with optional genre/platform filtering.
+ * Provides fuzzy search on game title and description with optional genre/platform filtering,
+ * and the filtered, faceted catalog listing.
  */
 public interface GameSearchService {
 
@@ -19,4 +23,29 @@ public interface GameSearchService {
      * @return list of matching games sorted by relevance score
      */
     List<GameCardDto> searchGames(String query, String genre, String platform);
+
+    /**
+     * Lists the catalog from the search index with optional filters, and counts the
+     * games per genre, platform and release year for the same filters.
+     * Multiple genres / platforms are combined with OR semantics (a game matches if it has
+     * any of the requested genres), while different facets are combined with AND.
+     *
+     * @param pageable  pagination and sorting parameters; sortable properties are
+     *                  {@code releaseDate}, {@code title}, {@code averageRating} and
+     *                  {@code createdAt}
+     * @param genres    optional genre name filters (case-insensitive; matches any)
+     * @param platforms optional platform name filters (case-insensitive; matches any)
+     * @param yearMin   optional minimum release year (inclusive)
+     * @param yearMax   optional maximum release year (inclusive)
+     * @param ratingMin optional minimum average rating (inclusive)
+     * @param ratingMax optional maximum average rating (inclusive)
+     * @return the page of game cards with its facet counts
+     */
+    GameCatalogPageDto browseCatalog(Pageable pageable,
+                                     List<String> genres,
+                                     List<String> platforms,
+                                     Integer yearMin,
+                                     Integer yearMax,
+                                     Double ratingMin,
+                                     Double ratingMax);
 }
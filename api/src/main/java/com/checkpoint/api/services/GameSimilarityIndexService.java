@@ -0,0 +1,52 @@
+package com.checkpoint.api.services;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Precomputed item-to-item similarity index backing {@link GameSimilarityService}.
+ *
+ * <p>Keeps the top neighbours of every catalog game, ranked with {@code GameTagScorer}
+ * semantics, so a "similar games" request is a lookup instead of a live scoring pass.
+ * The index is built once from the whole catalog and then patched incrementally as
+ * individual games change.</p>
+ */
+public interface GameSimilarityIndexService {
+
+    /**
+     * Returns the precomputed neighbours of a game, best match first.
+     *
+     * @param gameId the seed game's ID
+     * @param limit  the maximum number of neighbours to return
+     * @return the neighbour IDs, or empty when the index is not built yet or does not
+     *         know the game (callers should then fall back to live scoring)
+     */
+    Optional<List<UUID>> findNeighbourIds(UUID gameId, int limit);
+
+    /**
+     * Rebuilds the whole index from the catalog and swaps it in atomically.
+     * A no-op when a rebuild is already running.
+     */
+    void rebuild();
+
+    /**
+     * Re-reads a single game and updates its own neighbours as well as the
+     * neighbour lists of every game it may enter or leave.
+     *
+     * @param gameId the created or updated game's ID
+     */
+    void refreshGame(UUID gameId);
+
+    /**
+     * Drops a deleted game from the index and from every neighbour list it appeared in.
+     *
+     * @param gameId the deleted game's ID
+     */
+    void removeGame(UUID gameId);
+
+    /**
+     * @return whether the index has been built at least once
+     */
+    boolean isReady();
+}
@@ -13,7 +13,8 @@ public interface GameTrendingService {
     /**
      * Returns the trending games based on recent user activity.
      * Scores games by weighted recent library additions, play sessions,
-     * ratings, reviews, likes, and wishlist additions from the last 7 days.
+     * ratings, reviews, likes, and wishlist additions from the last 7 days,
+     * decayed by age and precomputed on a schedule.
      * Falls back to all-time popularity when recent activity is insufficient.
      *
      * @param size the maximum number of games to return
@@ -1,8 +1,10 @@
 package com.checkpoint.api.services;
 
+import java.util.List;
 import java.util.UUID;
 
 import com.checkpoint.api.enums.XpEventType;
+import com.checkpoint.api.repositories.XpGrantRepositoryCustom.XpAward;
 
 /**
  * Service responsible for managing user XP and leveling.
@@ -21,7 +23,7 @@ public interface GamificationService {
     /**
      * Awards XP to a user with persistent dedup. A row is inserted into
      * {@code xp_grants} keyed by {@code (userId, eventType, targetId)}; if that
-     * key already exists, the grant is skipped silently. A null {@code targetId}
+     * key already exists, or the user no longer exists, the grant is skipped silently. A null {@code targetId}
      * disables dedup (Postgres treats nulls as distinct), so callers using a
      * null target must enforce their own dedup (e.g. the streak service's
      * same-day check).
@@ -32,4 +34,13 @@ public interface GamificationService {
      * @param targetId  a deterministic per-action key (may be {@code null})
      */
     void awardXp(UUID userId, int xpAmount, XpEventType eventType, UUID targetId);
+
+    /**
+     * Applies several grants at once, with the same dedup as
+     * {@link #awardXp(UUID, int, XpEventType, UUID)}, in a single database round-trip.
+     * A user crossing a level threshold gets one level-up event, for the final level.
+     *
+     * @param awards the grants to apply
+     */
+    void awardXp(List<XpAward> awards);
 }
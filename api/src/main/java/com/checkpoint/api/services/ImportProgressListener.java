@@ -24,6 +24,15 @@ public interface ImportProgressListener {
      */
     void failed(String label);
 
+    /**
+     * Called when the streaming import receives a page from IGDB, so the total
+     * grows while the import runs. Ignored by default.
+     *
+     * @param count number of games in the page
+     */
+    default void fetched(int count) {
+    }
+
     /** A listener that ignores every callback — used by the synchronous import path. */
     ImportProgressListener NOOP = new ImportProgressListener() {
         @Override
@@ -0,0 +1,113 @@
+package com.checkpoint.api.services;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Memory-resident ranking of every non-banned user by XP and by level, used to serve
+ * the leaderboard, a user's own rank and the users ranked around them without sorting
+ * the {@code users} table.
+ *
+ * <p>The index is built once from the database and patched as XP is credited or users
+ * are banned, unbanned or deleted. A periodic rebuild folds in changes made by other
+ * instances.</p>
+ */
+public interface LeaderboardIndexService {
+
+    /**
+     * Returns the best-ranked users.
+     *
+     * @param sortBy ranking criterion
+     * @param limit  the maximum number of users to return
+     * @return the users at ranks {@code 1..limit}, or empty when the index is not built yet
+     */
+    Optional<List<Standing>> top(LeaderboardSortBy sortBy, int limit);
+
+    /**
+     * Returns a user's rank and the users ranked just above and below them.
+     *
+     * @param userId the user
+     * @param sortBy ranking criterion
+     * @param radius how many users to include on each side
+     * @return the neighbourhood, or empty when the index is not built yet or the user
+     *         is not ranked (banned, or registered since the last rebuild)
+     */
+    Optional<Neighbourhood> around(UUID userId, LeaderboardSortBy sortBy, int radius);
+
+    /**
+     * Returns the indexed XP and level of the given users; users that are not ranked
+     * are left out.
+     *
+     * @param userIds the users to look up
+     * @return their standings, in no particular order, or empty when the index is not built yet
+     */
+    Optional<List<Standing>> standingsOf(List<UUID> userIds);
+
+    /**
+     * Records a user's new XP and level. Ignored when the index already holds a higher
+     * XP for the user, since XP only grows and credits may be reported out of order.
+     *
+     * @param userId  the credited user
+     * @param xpPoint the XP total after the credit
+     * @param level   the level after the credit
+     */
+    void updateScore(UUID userId, int xpPoint, int level);
+
+    /**
+     * Re-reads a single user's XP, level and ban status, dropping them when they no
+     * longer exist or are banned.
+     *
+     * @param userId the user's ID
+     */
+    void refreshUser(UUID userId);
+
+    /**
+     * Rebuilds the whole index from the database and swaps it in atomically.
+     * A no-op when a rebuild is already running.
+     */
+    void rebuild();
+
+    /**
+     * @return whether the index has been built at least once
+     */
+    boolean isReady();
+
+    /**
+     * A ranked user.
+     */
+    record Standing(UUID userId, int xpPoint, int level) {
+
+        private static final Comparator<Standing> BY_XP = Comparator
+                .comparingInt(Standing::xpPoint).reversed()
+                .thenComparing(Standing::userId);
+
+        private static final Comparator<Standing> BY_LEVEL = Comparator
+                .comparingInt(Standing::level).reversed()
+                .thenComparing(Comparator.comparingInt(Standing::xpPoint).reversed())
+                .thenComparing(Standing::userId);
+
+        /**
+         * The ranking order for a criterion, best first. Ties are broken on the user
+         * ID so that every user has exactly one rank.
+         */
+        public static Comparator<Standing> order(LeaderboardSortBy sortBy) {
+            return switch (sortBy) {
+                case XP -> BY_XP;
+                case LEVEL -> BY_LEVEL;
+            };
+        }
+    }
+
+    /**
+     * A user's position and the standings around it.
+     *
+     * @param rank      the user's 1-based rank
+     * @param total     the number of ranked users
+     * @param firstRank the rank of the first entry of {@code standings}
+     * @param standings the users ranked {@code firstRank, firstRank + 1, ...}
+     */
+    record Neighbourhood(int rank, int total, int firstRank, List<Standing> standings) {
+    }
+}
@@ -3,6 +3,7 @@ package com.checkpoint.api.services;
 import java.util.List;
 
 import com.checkpoint.api.dto.leaderboard.LeaderboardEntryDto;
+import com.checkpoint.api.dto.leaderboard.LeaderboardPositionDto;
 
 /**
  * Service for the public XP / level leaderboard.
@@ -27,4 +28,15 @@ public interface LeaderboardService {
      * @return an ordered list of leaderboard entries (followed users only), ranks 1..N
      */
     List<LeaderboardEntryDto> getFollowingLeaderboard(String viewerEmail, LeaderboardSortBy sortBy, int limit);
+
+    /**
+     * Returns the viewer's rank and the users ranked around them.
+     *
+     * @param viewerEmail the authenticated viewer's email
+     * @param sortBy      ranking criterion (XP or LEVEL)
+     * @param radius      how many users to include above and below the viewer
+     * @param following   when {@code true}, rank the viewer among the users they follow
+     * @return the viewer's position and neighbourhood
+     */
+    LeaderboardPositionDto getMyPosition(String viewerEmail, LeaderboardSortBy sortBy, int radius, boolean following);
 }
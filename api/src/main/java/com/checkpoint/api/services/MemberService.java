@@ -31,12 +31,14 @@ public interface MemberService {
     List<MemberCardDto> getTopReviewers(Pageable pageable, String viewerEmail);
 
     /**
-     * Returns personalized member suggestions based on shared games.
+     * Returns personalized member suggestions: the members whose library and rated games
+     * are most similar to the viewer's (estimated Jaccard similarity), excluding the
+     * members the viewer already follows. Each card carries the estimated affinity score.
      * Requires an authenticated user.
      *
      * @param pageable    pagination parameters
      * @param viewerEmail the authenticated user's email
-     * @return a list of suggested member cards sorted by shared game count descending
+     * @return a list of suggested member cards, most similar first
      */
     List<MemberCardDto> getSuggestedMembers(Pageable pageable, String viewerEmail);
 
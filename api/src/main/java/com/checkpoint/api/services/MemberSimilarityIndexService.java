@@ -0,0 +1,66 @@
+package com.checkpoint.api.services;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Memory-resident MinHash signatures of every member's games — the union of their
+ * library and their rated games — with an LSH bucket index over them, used to find
+ * members with similar tastes and to estimate how much two members' games overlap
+ * without touching {@code user_games} or {@code rates}.
+ *
+ * <p>The index is built once from the database and a member's signature is recomputed
+ * after each committed library or rating change. A periodic rebuild folds in changes
+ * made by other instances. Until the first build completes callers fall back to SQL.</p>
+ */
+public interface MemberSimilarityIndexService {
+
+    /**
+     * Returns the members whose games are most similar to the given member's, by
+     * estimated Jaccard similarity. Only members sharing an LSH bucket with the given
+     * member are considered, so weakly similar members may be missed.
+     *
+     * @param userId   the member to find look-alikes for
+     * @param limit    the maximum number of members to return
+     * @param excluded members to leave out (the member themselves is always left out)
+     * @return the similar members' IDs, most similar first; empty when the index is not
+     *         built yet (callers should then fall back to SQL)
+     */
+    Optional<List<UUID>> findSimilarUserIds(UUID userId, int limit, Set<UUID> excluded);
+
+    /**
+     * Estimates the Jaccard similarity of two members' games.
+     *
+     * @return the estimate in {@code [0, 1]} (0 when either member has no games), or empty
+     *         when the index is not built yet
+     */
+    OptionalDouble estimateSimilarity(UUID userId, UUID otherUserId);
+
+    /**
+     * Re-reads a member's library and ratings and replaces their signature.
+     *
+     * @param userId the member whose games changed
+     */
+    void refreshUser(UUID userId);
+
+    /**
+     * Drops a deleted member from the index.
+     *
+     * @param userId the deleted member's ID
+     */
+    void removeUser(UUID userId);
+
+    /**
+     * Rebuilds the whole index from the database and swaps it in atomically.
+     * A no-op when a rebuild is already running.
+     */
+    void rebuild();
+
+    /**
+     * @return whether the index has been built at least once
+     */
+    boolean isReady();
+}
@@ -0,0 +1,39 @@
+package com.checkpoint.api.services;
+
+import com.checkpoint.api.dto.admin.OutboxStatsDto;
+import com.checkpoint.api.events.DurableEvent;
+
+/**
+ * Transactional outbox for {@link DurableEvent}s.
+ *
+ * <p>{@link #record} stores one delivery per
+ * {@link com.checkpoint.api.events.DurableEventListener} handler in the caller's
+ * transaction; {@link #drain} hands due deliveries to a pool of workers partitioned by
+ * {@link DurableEvent#partitionKey()}, so one user's events are handled one at a time
+ * and in publication order while different users proceed in parallel.</p>
+ */
+public interface OutboxService {
+
+    /**
+     * Stores the deliveries of an event, joining the current transaction if there is one.
+     *
+     * @param event the published event
+     */
+    void record(DurableEvent event);
+
+    /**
+     * Handles due deliveries until none is left or the per-drain round limit is reached.
+     * Each delivery runs in its own transaction together with its removal; a failing
+     * delivery is rescheduled and holds back the rest of its partition.
+     *
+     * @return the number of deliveries handled
+     */
+    int drain();
+
+    /**
+     * Reports backlog, lag and throughput.
+     *
+     * @return the outbox statistics
+     */
+    OutboxStatsDto getStats();
+}
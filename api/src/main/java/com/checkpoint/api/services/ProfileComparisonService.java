@@ -1,5 +1,8 @@
 package com.checkpoint.api.services;
 
+import java.util.OptionalInt;
+import java.util.UUID;
+
 import org.springframework.data.domain.Pageable;
 
 import com.checkpoint.api.dto.profile.ProfileComparisonDto;
@@ -23,4 +26,17 @@ public interface ProfileComparisonService {
      * @return the profile comparison DTO
      */
     ProfileComparisonDto compare(String viewerEmail, String targetUsername, Pageable pageable);
+
+    /**
+     * Estimates the affinity score of two users from their member similarity signatures,
+     * without reading their libraries. Only the library overlap is estimated — over the
+     * games in each library or rated by each user — so the result matches what
+     * {@link #compare} reports for users without commonly rated games, give or take the
+     * estimation error. Privacy is not checked; callers decide whose scores to show.
+     *
+     * @param viewerId the first user's ID
+     * @param targetId the second user's ID
+     * @return the estimated 0–100 score, or empty while the similarity index is not built
+     */
+    OptionalInt estimateAffinity(UUID viewerId, UUID targetId);
 }
@@ -0,0 +1,63 @@
+package com.checkpoint.api.services;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import com.checkpoint.api.dto.admin.SearchIndexStatusDto;
+
+/**
+ * Keeps the local Lucene full-text index in step with the database without rebuilding it
+ * on every boot.
+ *
+ * <p>After each catch-up a watermark — the latest {@code updatedAt} seen, minus a safety
+ * margin — is stored per indexed entity next to the index. The next catch-up only
+ * re-indexes the rows updated since then, and reconciles document ids against row ids
+ * when the counts disagree (rows deleted or inserted behind the application's back).
+ * An entity without a watermark, or whose index fields changed since it was stored, is
+ * mass-indexed from scratch. Every indexed entity must therefore have a UUID {@code id}
+ * and an {@code updatedAt} timestamp.</p>
+ *
+ * <p>Search stays available throughout, but may return stale or incomplete results
+ * until the first catch-up has finished; {@link #isReady()} reports that.</p>
+ */
+public interface SearchIndexService {
+
+    /**
+     * Brings every indexed entity up to date with the database and stores the new
+     * watermarks. A no-op when a catch-up is already running. Failures are recorded in
+     * the status rather than thrown.
+     */
+    void catchUp();
+
+    /**
+     * Re-indexes specific rows whose indexed columns were changed by bulk updates, which
+     * Hibernate Search cannot see. Joins the caller's transaction if there is one, so the
+     * documents are written when it commits.
+     *
+     * @param type the indexed entity class
+     * @param ids  the IDs of the rows to re-index; rows that no longer exist are skipped
+     */
+    void reindex(Class<?> type, Collection<UUID> ids);
+
+    /**
+     * @return the state of the last catch-up, with per-entity progress
+     */
+    SearchIndexStatusDto getStatus();
+
+    /**
+     * @return whether a catch-up has completed, i.e. search is no longer degraded
+     */
+    boolean isReady();
+
+    /**
+     * State of the index as reported by {@link #getStatus()}.
+     */
+    enum State {
+        /** A catch-up is running and has not completed since startup; search is degraded. */
+        CATCHING_UP,
+        /** The last catch-up completed. */
+        READY,
+        /** The last catch-up failed; search may be stale until the next one succeeds. */
+        FAILED
+    }
+}
@@ -0,0 +1,22 @@
+package com.checkpoint.api.services;
+
+import com.checkpoint.api.dto.search.SearchSuggestionsDto;
+
+/**
+ * Typeahead for the global search box: prefix matches on game titles, public list titles
+ * and member pseudos, answered from the search index alone so it can run on every
+ * keystroke.
+ */
+public interface SearchSuggestionService {
+
+    /**
+     * Suggests games, lists and members whose words start with the words typed so far.
+     * Whole-word matches rank first; ties go to the most rated games, the most liked
+     * lists and the members with the most XP.
+     *
+     * @param query the text typed so far; words shorter than two characters are ignored
+     * @param limit the maximum number of suggestions per group
+     * @return the suggestions, with empty groups when the query has no usable word
+     */
+    SearchSuggestionsDto suggest(String query, int limit);
+}
@@ -0,0 +1,40 @@
+package com.checkpoint.api.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local cache of the Steam appId to IGDB game id mapping, backed by
+ * {@code steam_app_mappings}.
+ *
+ * <p>Only appIds with no row, or whose "no match" row has outlived the negative TTL,
+ * are sent to IGDB; every answer is written back, so re-syncing a library made of
+ * already-known apps costs no IGDB call at all.</p>
+ */
+public interface SteamAppMappingService {
+
+    /**
+     * Resolves Steam appIds to IGDB game ids, consulting IGDB only for unknown or
+     * expired apps. Apps IGDB has no game for are left out of the result.
+     *
+     * @param steamAppIds the Steam appIds to resolve
+     * @return one match per resolved appId
+     */
+    List<SteamAppMatch> resolveIgdbIds(Collection<Long> steamAppIds);
+
+    /**
+     * Resolves IGDB game ids to Steam appIds, consulting IGDB only for ids with no known
+     * mapping. Ids without a Steam app are left out of the result.
+     *
+     * @param igdbIds the IGDB game ids to resolve
+     * @return IGDB game id to Steam appId
+     */
+    Map<Long, Long> resolveSteamAppIds(Collection<Long> igdbIds);
+
+    /**
+     * A Steam appId together with the IGDB game it maps to.
+     */
+    record SteamAppMatch(long steamAppId, long igdbId) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.checkpoint.api.services;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.checkpoint.api.enums.TrendingSignal;
+
+/**
+ * Write side of the trending ranking.
+ *
+ * <p>Activity is accumulated into hourly per-game counters as it happens. A scheduled
+ * refresh turns the counters of the last 7 days into a time-decayed score per game and
+ * stores the top entries as a snapshot, which is all {@link GameTrendingService} reads.</p>
+ */
+public interface TrendingScoreService {
+
+    /**
+     * Adds the signal's weight to the game's counter for the current hour.
+     *
+     * @param videoGameId the game the activity targets
+     * @param signal      the kind of activity
+     */
+    void recordActivity(UUID videoGameId, TrendingSignal signal);
+
+    /**
+     * Takes the signal's weight back out of the counter for the hour the deleted row was
+     * created in, so that un-doing and re-doing an action never counts more than once.
+     * No-op when that hour already fell out of the window.
+     *
+     * @param videoGameId the game the activity targeted
+     * @param signal      the kind of activity
+     * @param createdAt   when the deleted row was created
+     */
+    void removeActivity(UUID videoGameId, TrendingSignal signal, LocalDateTime createdAt);
+
+    /**
+     * Recomputes decayed scores from the counters, replaces the trending snapshot and
+     * drops counters that fell out of the window.
+     *
+     * @return the number of games ranked by recent activity (the rest of the snapshot
+     *         is filled by all-time rating)
+     */
+    int refreshSnapshot();
+
+    /**
+     * Seeds the counters from the activity tables when they are empty (first start
+     * after they were introduced), then builds the snapshot if there is none yet.
+     * No-op otherwise.
+     *
+     * @return the number of activity rows seeded
+     */
+    int seedIfEmpty();
+}
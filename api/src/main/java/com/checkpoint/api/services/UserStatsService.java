@@ -0,0 +1,119 @@
+package com.checkpoint.api.services;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import com.checkpoint.api.entities.UserStats;
+import com.checkpoint.api.enums.PlayStatus;
+
+/**
+ * Maintains the per-user {@link UserStats} row that badge rules are evaluated against.
+ *
+ * <p>The write hooks shift the counters with single atomic statements in the caller's
+ * transaction, like {@link EngagementCounterService}. They are no-ops for a user whose
+ * stats were never built; {@link #getStats(UUID)} builds them from the source tables on
+ * first use, and {@link #backfill(int)} builds them ahead of time for existing users.</p>
+ */
+public interface UserStatsService {
+
+    /**
+     * Counts a newly saved review.
+     *
+     * @param userId the review's author
+     */
+    void reviewAdded(UUID userId);
+
+    /**
+     * Reverses {@link #reviewAdded(UUID)} for a deleted review.
+     *
+     * @param userId the review's author
+     */
+    void reviewRemoved(UUID userId);
+
+    /**
+     * Counts a new library entry, and its completion when added as {@code COMPLETED}.
+     *
+     * @param userId      the user
+     * @param videoGameId the game added
+     * @param status      the entry's status
+     */
+    void libraryEntryAdded(UUID userId, UUID videoGameId, PlayStatus status);
+
+    /**
+     * Moves the completion counters when a library entry enters or leaves {@code COMPLETED}.
+     *
+     * @param userId         the user
+     * @param videoGameId    the game
+     * @param previousStatus the status before the change
+     * @param status         the status after the change
+     */
+    void libraryStatusChanged(UUID userId, UUID videoGameId, PlayStatus previousStatus, PlayStatus status);
+
+    /**
+     * Reverses {@link #libraryEntryAdded} for a removed library entry.
+     *
+     * @param userId      the user
+     * @param videoGameId the game removed
+     * @param status      the entry's status at removal
+     */
+    void libraryEntryRemoved(UUID userId, UUID videoGameId, PlayStatus status);
+
+    /**
+     * Counts a new play log on the given platform.
+     *
+     * @param userId     the user
+     * @param platformId the play's platform
+     */
+    void playAdded(UUID userId, UUID platformId);
+
+    /**
+     * Reverses {@link #playAdded(UUID, UUID)} for a deleted play log, or for the old
+     * platform of a play log moved to another one.
+     *
+     * @param userId     the user
+     * @param platformId the play's platform
+     */
+    void playRemoved(UUID userId, UUID platformId);
+
+    /**
+     * Updates the one-star rating count after a rating was created, changed or removed.
+     *
+     * @param userId        the user
+     * @param previousScore the score before the change, or {@code null} if there was none
+     * @param score         the score after the change, or {@code null} if it was removed
+     */
+    void rateChanged(UUID userId, Integer previousScore, Integer score);
+
+    /**
+     * Returns the user's stats, building them from the source tables if needed.
+     *
+     * @param userId the user
+     * @return the stats (all zero for an unknown user)
+     */
+    UserStats getStats(UUID userId);
+
+    /**
+     * Returns how many completed library entries the user has in each of the given genres.
+     *
+     * @param userId     the user
+     * @param genreNames genre names, matched case-insensitively
+     * @return completed counts keyed by lower-case genre name; absent genres are omitted
+     */
+    Map<String, Long> getGenreCompletions(UUID userId, Collection<String> genreNames);
+
+    /**
+     * Builds the stats of up to {@code batchSize} users that have none yet.
+     *
+     * @param batchSize the maximum number of users to build
+     * @return the number of users built
+     */
+    int backfill(int batchSize);
+
+    /**
+     * Removes a user's stats (account erasure).
+     *
+     * @param userId the user
+     */
+    void deleteStats(UUID userId);
+}
@@ -4,18 +4,24 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.checkpoint.api.entities.User;
+import com.checkpoint.api.events.LeaderboardStandingChangedEvent;
+import com.checkpoint.api.events.UserAccountDeletedEvent;
 import com.checkpoint.api.exceptions.UserNotFoundException;
 import com.checkpoint.api.repositories.NotificationPreferencesRepository;
 import com.checkpoint.api.repositories.NotificationRepository;
 import com.checkpoint.api.repositories.PasswordResetTokenRepository;
 import com.checkpoint.api.repositories.RefreshTokenRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.security.AuthenticatedUserService;
 import com.checkpoint.api.services.AccountService;
+import com.checkpoint.api.services.GameRatingStatsService;
 import com.checkpoint.api.services.StorageService;
+import com.checkpoint.api.services.UserStatsService;
 
 /**
  * Implementation of {@link AccountService}.
@@ -25,7 +31,8 @@ import com.checkpoint.api.services.StorageService;
  * {@code User} row is removed, but a few references are not cascade-managed
  * and must be cleaned explicitly beforehand (refresh tokens, password reset
  * tokens, notification preferences, notifications where the user is sender,
- * and {@code user_follows} rows pointing at the user). Doing the cleanup
+ * {@code user_follows} rows pointing at the user, badge stats, and the user's ratings in
+ * the games' rating aggregates). Doing the cleanup
  * explicitly also makes the order assertable in unit tests.</p>
  */
 @Service
@@ -39,19 +46,31 @@ public class AccountServiceImpl implements AccountService {
     private final NotificationRepository notificationRepository;
     private final NotificationPreferencesRepository notificationPreferencesRepository;
     private final StorageService storageService;
+    private final AuthenticatedUserService authenticatedUserService;
+    private final UserStatsService userStatsService;
+    private final GameRatingStatsService gameRatingStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AccountServiceImpl(UserRepository userRepository,
                               RefreshTokenRepository refreshTokenRepository,
                               PasswordResetTokenRepository passwordResetTokenRepository,
                               NotificationRepository notificationRepository,
                               NotificationPreferencesRepository notificationPreferencesRepository,
-                              StorageService storageService) {
+                              StorageService storageService,
+                              AuthenticatedUserService authenticatedUserService,
+                              UserStatsService userStatsService,
+                              GameRatingStatsService gameRatingStatsService,
+                              ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordResetTokenRepository = passwordResetTokenRepository;
         this.notificationRepository = notificationRepository;
         this.notificationPreferencesRepository = notificationPreferencesRepository;
         this.storageService = storageService;
+        this.authenticatedUserService = authenticatedUserService;
+        this.userStatsService = userStatsService;
+        this.gameRatingStatsService = gameRatingStatsService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -81,7 +100,14 @@ public class AccountServiceImpl implements AccountService {
         //    the user_follows join table. JPA only owns the follower side.
         userRepository.deleteFollowsInvolvingUser(userId);
 
-        // 5. Delete the user. JPA cascades to every collection annotated
+        // 5. Badge stats — keyed by user id without a foreign key.
+        userStatsService.deleteStats(userId);
+
+        //    Game rating aggregates — the rates go with the user below, so take
+        //    them out of their games' averages and distributions first.
+        gameRatingStatsService.userRatingsRemoved(userId);
+
+        // 6. Delete the user. JPA cascades to every collection annotated
         //    with CascadeType.ALL + orphanRemoval on the User entity:
         //    likes, comments, reports filed, reviews (and their nested
         //    comments/likes/reports), userGamePlays, userGames, wishes,
@@ -89,6 +115,15 @@ public class AccountServiceImpl implements AccountService {
         //    news, socialLinks.
         userRepository.delete(user);
 
+        // 7. Stop serving the cached principal to tokens issued before the deletion.
+        authenticatedUserService.evict(email);
+
+        // 8. Drop the user from the in-memory leaderboard and follow graph once the
+        //    deletion commits. The feed tables have no foreign keys: their rows are
+        //    deleted by a synchronous listener, in this transaction.
+        eventPublisher.publishEvent(new LeaderboardStandingChangedEvent(userId));
+        eventPublisher.publishEvent(new UserAccountDeletedEvent(userId));
+
         log.info("Account erasure complete for user {}", userId);
     }
 
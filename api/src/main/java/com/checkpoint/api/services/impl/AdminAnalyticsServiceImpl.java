@@ -1,5 +1,6 @@
 package com.checkpoint.api.services.impl;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,12 +12,18 @@ import org.springframework.transaction.annotation.Transactional;
 import com.checkpoint.api.dto.admin.AdminAnalyticsDto;
 import com.checkpoint.api.dto.admin.AdminAnalyticsDto.TopGame;
 import com.checkpoint.api.dto.admin.AdminAnalyticsDto.TopReviewer;
+import com.checkpoint.api.dto.admin.CacheStatsDto;
+import com.checkpoint.api.dto.admin.OutboxStatsDto;
+import com.checkpoint.api.dto.admin.SearchIndexStatusDto;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.repositories.ReportRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.services.AdminAnalyticsService;
+import com.checkpoint.api.services.OutboxService;
+import com.checkpoint.api.services.SearchIndexService;
+import com.checkpoint.api.utils.BoundedCache;
 
 /**
  * Implementation of {@link AdminAnalyticsService}.
@@ -31,15 +38,24 @@ public class AdminAnalyticsServiceImpl implements AdminAnalyticsService {
     private final ReviewRepository reviewRepository;
     private final ReportRepository reportRepository;
     private final VideoGameRepository videoGameRepository;
+    private final List<BoundedCache<?, ?>> caches;
+    private final OutboxService outboxService;
+    private final SearchIndexService searchIndexService;
 
     public AdminAnalyticsServiceImpl(UserRepository userRepository,
                                      ReviewRepository reviewRepository,
                                      ReportRepository reportRepository,
-                                     VideoGameRepository videoGameRepository) {
+                                     VideoGameRepository videoGameRepository,
+                                     List<BoundedCache<?, ?>> caches,
+                                     OutboxService outboxService,
+                                     SearchIndexService searchIndexService) {
         this.userRepository = userRepository;
         this.reviewRepository = reviewRepository;
         this.reportRepository = reportRepository;
         this.videoGameRepository = videoGameRepository;
+        this.caches = caches;
+        this.outboxService = outboxService;
+        this.searchIndexService = searchIndexService;
     }
 
     @Override
@@ -81,4 +97,22 @@ public class AdminAnalyticsServiceImpl implements AdminAnalyticsService {
                 topReviewers
         );
     }
+
+    @Override
+    public List<CacheStatsDto> getCacheStats() {
+        return caches.stream()
+                .map(BoundedCache::stats)
+                .sorted(Comparator.comparing(CacheStatsDto::name))
+                .toList();
+    }
+
+    @Override
+    public OutboxStatsDto getOutboxStats() {
+        return outboxService.getStats();
+    }
+
+    @Override
+    public SearchIndexStatusDto getSearchIndexStatus() {
+        return searchIndexService.getStatus();
+    }
 }
@@ -7,9 +7,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.checkpoint.api.entities.Comment;
 import com.checkpoint.api.exceptions.CommentNotFoundException;
 import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.services.AdminCommentService;
+import com.checkpoint.api.services.EngagementCounterService;
 
 /**
  * Implementation of {@link AdminCommentService} for admin comment management operations.
@@ -21,9 +23,12 @@ public class AdminCommentServiceImpl implements AdminCommentService {
     private static final Logger log = LoggerFactory.getLogger(AdminCommentServiceImpl.class);
 
     private final CommentRepository commentRepository;
+    private final EngagementCounterService engagementCounterService;
 
-    public AdminCommentServiceImpl(CommentRepository commentRepository) {
+    public AdminCommentServiceImpl(CommentRepository commentRepository,
+                                   EngagementCounterService engagementCounterService) {
         this.commentRepository = commentRepository;
+        this.engagementCounterService = engagementCounterService;
     }
 
     /**
@@ -33,10 +38,10 @@ public class AdminCommentServiceImpl implements AdminCommentService {
     public void deleteComment(UUID commentId) {
         log.info("Admin deleting comment with id: {}", commentId);
 
-        if (!commentRepository.existsById(commentId)) {
-            throw new CommentNotFoundException(commentId);
-        }
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new CommentNotFoundException(commentId));
 
-        commentRepository.deleteById(commentId);
+        engagementCounterService.commentRemoved(comment);
+        commentRepository.delete(comment);
     }
 }
@@ -10,6 +10,7 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,7 @@ import com.checkpoint.api.entities.Company;
 import com.checkpoint.api.entities.Genre;
 import com.checkpoint.api.entities.Platform;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.events.GameCatalogChangedEvent;
 import com.checkpoint.api.exceptions.ExternalApiUnavailableException;
 import com.checkpoint.api.exceptions.ExternalGameNotFoundException;
 import com.checkpoint.api.exceptions.GameNotFoundException;
@@ -46,6 +48,7 @@ import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.repositories.WishRepository;
 import com.checkpoint.api.services.AdminGameService;
+import com.checkpoint.api.services.GameCatalogService;
 import com.checkpoint.api.services.GameImportService;
 
 /**
@@ -75,6 +78,8 @@ public class AdminGameServiceImpl implements AdminGameService {
     private final RateRepository rateRepository;
     private final LikeRepository likeRepository;
     private final GameListEntryRepository gameListEntryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameCatalogService gameCatalogService;
 
     public AdminGameServiceImpl(IgdbApiClient igdbApiClient,
                                 GameImportService gameImportService,
@@ -92,7 +97,9 @@ public class AdminGameServiceImpl implements AdminGameService {
                                 FavoriteRepository favoriteRepository,
                                 RateRepository rateRepository,
                                 LikeRepository likeRepository,
-                                GameListEntryRepository gameListEntryRepository) {
+                                GameListEntryRepository gameListEntryRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                GameCatalogService gameCatalogService) {
         this.igdbApiClient = igdbApiClient;
         this.gameImportService = gameImportService;
         this.importJobRegistry = importJobRegistry;
@@ -110,6 +117,8 @@ public class AdminGameServiceImpl implements AdminGameService {
         this.rateRepository = rateRepository;
         this.likeRepository = likeRepository;
         this.gameListEntryRepository = gameListEntryRepository;
+        this.eventPublisher = eventPublisher;
+        this.gameCatalogService = gameCatalogService;
     }
 
     @Override
@@ -226,6 +235,7 @@ public class AdminGameServiceImpl implements AdminGameService {
 
         VideoGame saved = videoGameRepository.save(game);
         log.info("Created game '{}' with ID {}", saved.getTitle(), saved.getId());
+        eventPublisher.publishEvent(new GameCatalogChangedEvent(saved.getId(), false));
         return saved;
     }
 
@@ -252,6 +262,8 @@ public class AdminGameServiceImpl implements AdminGameService {
 
         VideoGame saved = videoGameRepository.save(game);
         log.info("Updated game '{}' (ID {})", saved.getTitle(), saved.getId());
+        gameCatalogService.evictGameDetails(saved.getId());
+        eventPublisher.publishEvent(new GameCatalogChangedEvent(saved.getId(), false));
         return saved;
     }
 
@@ -271,6 +283,8 @@ public class AdminGameServiceImpl implements AdminGameService {
 
         videoGameRepository.delete(game);
         log.info("Deleted game {} ('{}')", gameId, game.getTitle());
+        gameCatalogService.evictGameDetails(gameId);
+        eventPublisher.publishEvent(new GameCatalogChangedEvent(gameId, true));
     }
 
     private Map<String, Long> collectBlockingReferences(VideoGame game) {
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,10 +16,12 @@ import com.checkpoint.api.dto.admin.AdminReviewReportDto;
 import com.checkpoint.api.dto.catalog.PagedResponseDto;
 import com.checkpoint.api.entities.Report;
 import com.checkpoint.api.entities.Review;
+import com.checkpoint.api.events.FeedActivityRemovedEvent;
 import com.checkpoint.api.exceptions.ReviewNotFoundException;
 import com.checkpoint.api.repositories.ReportRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.services.AdminReviewService;
+import com.checkpoint.api.services.UserStatsService;
 
 @Service
 @Transactional
@@ -28,10 +31,15 @@ public class AdminReviewServiceImpl implements AdminReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ReportRepository reportRepository;
+    private final UserStatsService userStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AdminReviewServiceImpl(ReviewRepository reviewRepository, ReportRepository reportRepository) {
+    public AdminReviewServiceImpl(ReviewRepository reviewRepository, ReportRepository reportRepository,
+                                  UserStatsService userStatsService, ApplicationEventPublisher eventPublisher) {
         this.reviewRepository = reviewRepository;
         this.reportRepository = reportRepository;
+        this.userStatsService = userStatsService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -98,10 +106,11 @@ public class AdminReviewServiceImpl implements AdminReviewService {
     public void deleteReview(UUID reviewId) {
         log.info("Deleting review with id: {}", reviewId);
 
-        if (!reviewRepository.existsById(reviewId)) {
-            throw new IllegalArgumentException("Review not found with id: " + reviewId);
-        }
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("Review not found with id: " + reviewId));
 
-        reviewRepository.deleteById(reviewId);
+        reviewRepository.delete(review);
+        userStatsService.reviewRemoved(review.getUser().getId());
+        eventPublisher.publishEvent(new FeedActivityRemovedEvent(reviewId));
     }
 }
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,10 +13,12 @@ import com.checkpoint.api.dto.admin.AdminUserDetailDto;
 import com.checkpoint.api.dto.admin.AdminUserDto;
 import com.checkpoint.api.dto.admin.AdminUserEditDto;
 import com.checkpoint.api.entities.User;
+import com.checkpoint.api.events.LeaderboardStandingChangedEvent;
 import com.checkpoint.api.exceptions.UserNotFoundException;
 import com.checkpoint.api.repositories.ReportRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.security.AuthenticatedUserService;
 import com.checkpoint.api.services.AdminUserService;
 
 /**
@@ -30,13 +33,19 @@ public class AdminUserServiceImpl implements AdminUserService {
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
     private final ReportRepository reportRepository;
+    private final AuthenticatedUserService authenticatedUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdminUserServiceImpl(UserRepository userRepository,
                                 ReviewRepository reviewRepository,
-                                ReportRepository reportRepository) {
+                                ReportRepository reportRepository,
+                                AuthenticatedUserService authenticatedUserService,
+                                ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.reviewRepository = reviewRepository;
         this.reportRepository = reportRepository;
+        this.authenticatedUserService = authenticatedUserService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -85,6 +94,7 @@ public class AdminUserServiceImpl implements AdminUserService {
         }
 
         User savedUser = userRepository.save(user);
+        authenticatedUserService.evict(user.getEmail());
 
         Long reviewCount = reviewRepository.countByUserId(id);
         Long reportCount = reportRepository.countReportsAgainstUser(id);
@@ -101,6 +111,8 @@ public class AdminUserServiceImpl implements AdminUserService {
         log.info("Admin banning user {} ({})", user.getPseudo(), id);
         user.setBanned(true);
         userRepository.save(user);
+        authenticatedUserService.evict(user.getEmail());
+        eventPublisher.publishEvent(new LeaderboardStandingChangedEvent(id));
     }
 
     @Override
@@ -112,6 +124,8 @@ public class AdminUserServiceImpl implements AdminUserService {
         log.info("Admin unbanning user {} ({})", user.getPseudo(), id);
         user.setBanned(false);
         userRepository.save(user);
+        authenticatedUserService.evict(user.getEmail());
+        eventPublisher.publishEvent(new LeaderboardStandingChangedEvent(id));
     }
 
     private AdminUserDetailDto toDetailDto(User user, Long reviewCount, Long reportCount) {
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +17,7 @@ import com.checkpoint.api.entities.Backlog;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.enums.Priority;
+import com.checkpoint.api.events.BacklogChangedEvent;
 import com.checkpoint.api.exceptions.GameAlreadyInBacklogException;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.GameNotInBacklogException;
@@ -39,15 +41,18 @@ public class BacklogServiceImpl implements BacklogService {
     private final UserRepository userRepository;
     private final VideoGameRepository videoGameRepository;
     private final BacklogMapper backlogMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public BacklogServiceImpl(BacklogRepository backlogRepository,
                               UserRepository userRepository,
                               VideoGameRepository videoGameRepository,
-                              BacklogMapper backlogMapper) {
+                              BacklogMapper backlogMapper,
+                              ApplicationEventPublisher eventPublisher) {
         this.backlogRepository = backlogRepository;
         this.userRepository = userRepository;
         this.videoGameRepository = videoGameRepository;
         this.backlogMapper = backlogMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -67,6 +72,7 @@ public class BacklogServiceImpl implements BacklogService {
         Backlog saved = backlogRepository.save(backlog);
 
         log.info("Game {} added to backlog for user {}", videoGame.getTitle(), userEmail);
+        eventPublisher.publishEvent(new BacklogChangedEvent(user.getId()));
         return backlogMapper.toResponseDto(saved);
     }
 
@@ -82,6 +88,7 @@ public class BacklogServiceImpl implements BacklogService {
 
         backlogRepository.deleteByUserIdAndVideoGameId(user.getId(), videoGameId);
         log.info("Game {} removed from backlog for user {}", videoGameId, userEmail);
+        eventPublisher.publishEvent(new BacklogChangedEvent(user.getId()));
     }
 
     @Override
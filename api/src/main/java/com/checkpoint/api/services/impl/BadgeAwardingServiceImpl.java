@@ -5,7 +5,10 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.checkpoint.api.repositories.BacklogRepository;
 import com.checkpoint.api.repositories.RateRepository;
@@ -17,13 +20,15 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.checkpoint.api.entities.Badge;
 import com.checkpoint.api.entities.Review;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.UserGamePlay;
+import com.checkpoint.api.entities.UserStats;
 import com.checkpoint.api.enums.BadgeCode;
-import com.checkpoint.api.enums.PlayStatus;
 import com.checkpoint.api.events.BadgeUnlockedEvent;
 import com.checkpoint.api.repositories.BadgeRepository;
 import com.checkpoint.api.repositories.LikeRepository;
@@ -32,9 +37,16 @@ import com.checkpoint.api.repositories.UserGamePlayRepository;
 import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.services.BadgeAwardingService;
+import com.checkpoint.api.services.UserStatsService;
+import com.checkpoint.api.utils.BoundedCache;
 
 /**
  * Implementation of {@link BadgeAwardingService}.
+ *
+ * <p>Count-based rules read the user's {@link UserStats} row instead of counting their
+ * history. Badges a user already owns are known from a cached bitmask, so rules backed
+ * by a query skip it for users who already have the badge, and a grant is a single
+ * {@code INSERT} rather than a load of the user's badge collection.</p>
  */
 @Service
 @Transactional
@@ -69,6 +81,11 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
     private final BacklogRepository backlogRepository;
     private final ReviewViewRepository reviewViewRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
+    private final BoundedCache<UUID, Long> badgeOwnershipCache;
+
+    /** Badge ids by code; the catalog is seeded once, so a found id never changes. */
+    private final Map<BadgeCode, UUID> badgeIds = new ConcurrentHashMap<>();
 
     public BadgeAwardingServiceImpl(UserRepository userRepository,
                                     BadgeRepository badgeRepository,
@@ -79,7 +96,9 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
                                     RateRepository rateRepository,
                                     BacklogRepository backlogRepository,
                                     ReviewViewRepository reviewViewRepository,
-                                    ApplicationEventPublisher eventPublisher) {
+                                    ApplicationEventPublisher eventPublisher,
+                                    UserStatsService userStatsService,
+                                    BoundedCache<UUID, Long> badgeOwnershipCache) {
         this.userRepository = userRepository;
         this.badgeRepository = badgeRepository;
         this.reviewRepository = reviewRepository;
@@ -90,33 +109,36 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
         this.backlogRepository = backlogRepository;
         this.reviewViewRepository = reviewViewRepository;
         this.eventPublisher = eventPublisher;
+        this.userStatsService = userStatsService;
+        this.badgeOwnershipCache = badgeOwnershipCache;
     }
 
     @Override
     public void awardIfEligible(UUID userId, BadgeCode code) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
+        if (owns(userId, code)) {
+            return;
+        }
 
-        Badge badge = badgeRepository.findByCode(code.name()).orElse(null);
-        if (badge == null) {
+        UUID badgeId = findBadgeId(code);
+        if (badgeId == null) {
             log.warn("Badge code {} not found in DB — skipping award for user {}. Seed the badge catalog.",
                     code, userId);
             return;
         }
 
-        if (user.getBadges().contains(badge)) {
+        boolean granted = badgeRepository.grantToUser(userId, badgeId) == 1;
+        markOwnedAfterCommit(userId, code);
+        if (!granted) {
             return;
         }
 
-        user.addBadge(badge);
-        userRepository.save(user);
         log.info("Awarded badge {} to user {}", code, userId);
         eventPublisher.publishEvent(new BadgeUnlockedEvent(userId, code));
     }
 
     @Override
     public void checkReviewBadges(UUID userId) {
-        long count = reviewRepository.countByUserId(userId);
+        long count = userStatsService.getStats(userId).getReviewCount();
         if (count >= 1) {
             awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
         }
@@ -130,7 +152,7 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
 
     @Override
     public void checkGameFinishedBadges(UUID userId) {
-        long count = userGameRepository.countByUserIdAndStatus(userId, PlayStatus.COMPLETED);
+        long count = userStatsService.getStats(userId).getCompletedCount();
         if (count >= 1) {
             awardIfEligible(userId, BadgeCode.FIRST_GAME_FINISHED);
         }
@@ -146,7 +168,7 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
 
         // TIME_TRAVELER: finishing a game released ≥ 30 years ago.
         LocalDate cutoff = LocalDate.now(ZoneOffset.UTC).minusYears(TIME_TRAVELER_YEARS);
-        if (userGameRepository.existsCompletedGameOlderThan(userId, cutoff)) {
+        if (!owns(userId, BadgeCode.TIME_TRAVELER) && userGameRepository.existsCompletedGameOlderThan(userId, cutoff)) {
             awardIfEligible(userId, BadgeCode.TIME_TRAVELER);
         }
     }
@@ -166,7 +188,8 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
 
     @Override
     public void checkPlayLogBadges(UUID userId) {
-        long playCount = userGamePlayRepository.countByUserId(userId);
+        UserStats stats = userStatsService.getStats(userId);
+        long playCount = stats.getPlayCount();
         if (playCount >= 100) {
             awardIfEligible(userId, BadgeCode.CENTURION);
         }
@@ -174,20 +197,19 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
             awardIfEligible(userId, BadgeCode.ALL_YOUR_BASE);
         }
 
-        long platformCount = userGamePlayRepository.countDistinctPlatformsByUserId(userId);
-        if (platformCount >= 5) {
+        if (stats.getPlatformCount() >= 5) {
             awardIfEligible(userId, BadgeCode.MULTIPLATFORM_NOMAD);
         }
 
         // NIGHT_OWL: any play logged between 02:00 and 04:59 server time.
-        if (userGamePlayRepository.existsNightOwlPlayByUserId(userId)) {
+        if (!owns(userId, BadgeCode.NIGHT_OWL) && userGamePlayRepository.existsNightOwlPlayByUserId(userId)) {
             awardIfEligible(userId, BadgeCode.NIGHT_OWL);
         }
     }
 
     @Override
     public void checkLibrarySizeBadges(UUID userId) {
-        long count = userGameRepository.countByUserId(userId);
+        long count = userStatsService.getStats(userId).getLibraryCount();
         if (count >= 50) {
             awardIfEligible(userId, BadgeCode.LIBRARY_50);
         }
@@ -198,16 +220,18 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
 
     @Override
     public void checkGenreBadges(UUID userId) {
-        if (userGameRepository.countCompletedByUserIdAndGenreName(userId, GENRE_RPG) >= 10) {
+        Map<String, Long> completions = userStatsService.getGenreCompletions(
+                userId, List.of(GENRE_RPG, GENRE_SHOOTER, GENRE_PLATFORM, GENRE_INDIE));
+        if (completedInGenre(completions, GENRE_RPG) >= 10) {
             awardIfEligible(userId, BadgeCode.RPG_DISCIPLE);
         }
-        if (userGameRepository.countCompletedByUserIdAndGenreName(userId, GENRE_SHOOTER) >= 10) {
+        if (completedInGenre(completions, GENRE_SHOOTER) >= 10) {
             awardIfEligible(userId, BadgeCode.SHOOTER_TRIGGER_HAPPY);
         }
-        if (userGameRepository.countCompletedByUserIdAndGenreName(userId, GENRE_PLATFORM) >= 10) {
+        if (completedInGenre(completions, GENRE_PLATFORM) >= 10) {
             awardIfEligible(userId, BadgeCode.PLATFORMER_HERO);
         }
-        if (userGameRepository.countCompletedByUserIdAndGenreName(userId, GENRE_INDIE) >= 20) {
+        if (completedInGenre(completions, GENRE_INDIE) >= 20) {
             awardIfEligible(userId, BadgeCode.INDIE_GEM_HUNTER);
         }
     }
@@ -215,18 +239,20 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
     @Override
     public void checkReviewQualityBadges(UUID userId) {
         // FIVE_STAR_STREAK: three most recent reviews all linked to a play log with score == 10.
-        List<Review> recent = reviewRepository.findTop3ByUserIdOrderByCreatedAtDesc(userId);
-        if (recent.size() == 3 && recent.stream().allMatch(BadgeAwardingServiceImpl::isFiveStar)) {
-            awardIfEligible(userId, BadgeCode.FIVE_STAR_STREAK);
+        if (!owns(userId, BadgeCode.FIVE_STAR_STREAK)) {
+            List<Review> recent = reviewRepository.findTop3ByUserIdOrderByCreatedAtDesc(userId);
+            if (recent.size() == 3 && recent.stream().allMatch(BadgeAwardingServiceImpl::isFiveStar)) {
+                awardIfEligible(userId, BadgeCode.FIVE_STAR_STREAK);
+            }
         }
 
         // BRUTAL_CRITIC: ten reviews with linked play log score <= 2.
-        if (reviewRepository.countOneStarReviewsByUserId(userId) >= 10) {
+        if (!owns(userId, BadgeCode.BRUTAL_CRITIC) && reviewRepository.countOneStarReviewsByUserId(userId) >= 10) {
             awardIfEligible(userId, BadgeCode.BRUTAL_CRITIC);
         }
 
         // WORDSMITH: any review with content length >= 1000.
-        if (reviewRepository.existsLongReviewByUserId(userId)) {
+        if (!owns(userId, BadgeCode.WORDSMITH) && reviewRepository.existsLongReviewByUserId(userId)) {
             awardIfEligible(userId, BadgeCode.WORDSMITH);
         }
     }
@@ -238,26 +264,28 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
 
     @Override
     public void checkSocialBadges(UUID userId) {
-        if (userRepository.countFollowingByUserId(userId) >= 10) {
+        if (!owns(userId, BadgeCode.NETWORKER) && userRepository.countFollowingByUserId(userId) >= 10) {
             awardIfEligible(userId, BadgeCode.NETWORKER);
         }
-        if (userRepository.countFollowersByUserId(userId) >= 10) {
+        if (!owns(userId, BadgeCode.CHARISMATIC) && userRepository.countFollowersByUserId(userId) >= 10) {
             awardIfEligible(userId, BadgeCode.CHARISMATIC);
         }
-        if (likeRepository.countByUserId(userId) >= 100) {
+        if (!owns(userId, BadgeCode.PRAISE_THE_SUN) && likeRepository.countByUserId(userId) >= 100) {
             awardIfEligible(userId, BadgeCode.PRAISE_THE_SUN);
         }
-        if (likeRepository.countLikesReceivedOnReviewsByUserId(userId) >= 50) {
+        if (!owns(userId, BadgeCode.BELOVED_REVIEWER)
+                && likeRepository.countLikesReceivedOnReviewsByUserId(userId) >= 50) {
             awardIfEligible(userId, BadgeCode.BELOVED_REVIEWER);
         }
     }
 
     @Override
     public void checkRatingBadges(UUID userId) {
-        if (rateRepository.countOneStarByUserId(userId) == CAKE_IS_A_LIE_ONE_STAR_COUNT) {
+        if (userStatsService.getStats(userId).getOneStarRateCount() == CAKE_IS_A_LIE_ONE_STAR_COUNT) {
             awardIfEligible(userId, BadgeCode.THE_CAKE_IS_A_LIE);
         }
-        if (rateRepository.existsRateChangedAtLeastByUserId(userId, INDECISIVE_CHANGE_THRESHOLD)) {
+        if (!owns(userId, BadgeCode.INDECISIVE)
+                && rateRepository.existsRateChangedAtLeastByUserId(userId, INDECISIVE_CHANGE_THRESHOLD)) {
             awardIfEligible(userId, BadgeCode.INDECISIVE);
         }
     }
@@ -280,7 +308,7 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
 
     @Override
     public void checkGameStartedBadges(UUID userId) {
-        if (backlogRepository.countByUserId(userId) >= LEEROY_BACKLOG_THRESHOLD) {
+        if (!owns(userId, BadgeCode.LEEROY) && backlogRepository.countByUserId(userId) >= LEEROY_BACKLOG_THRESHOLD) {
             awardIfEligible(userId, BadgeCode.LEEROY);
         }
     }
@@ -305,13 +333,17 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
 
     @Override
     public void checkReaderBadges(UUID userId) {
-        if (reviewViewRepository.countByUserId(userId) >= STAY_AWHILE_REVIEWS_THRESHOLD) {
+        if (!owns(userId, BadgeCode.STAY_AWHILE_REVIEWS)
+                && reviewViewRepository.countByUserId(userId) >= STAY_AWHILE_REVIEWS_THRESHOLD) {
             awardIfEligible(userId, BadgeCode.STAY_AWHILE_REVIEWS);
         }
     }
 
     @Override
     public void checkLongevityBadges(UUID userId) {
+        if (owns(userId, BadgeCode.VETERAN_30) && owns(userId, BadgeCode.LIFER)) {
+            return;
+        }
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
 
@@ -325,4 +357,76 @@ public class BadgeAwardingServiceImpl implements BadgeAwardingService {
             awardIfEligible(userId, BadgeCode.LIFER);
         }
     }
+
+    private static long completedInGenre(Map<String, Long> completions, String genreName) {
+        return completions.getOrDefault(genreName.toLowerCase(Locale.ROOT), 0L);
+    }
+
+    /**
+     * Whether the user is known to own the badge, from the cached ownership mask.
+     */
+    private boolean owns(UUID userId, BadgeCode code) {
+        Long mask = badgeOwnershipCache.get(userId);
+        if (mask == null) {
+            long stamp = badgeOwnershipCache.stamp();
+            long loaded = 0L;
+            for (String owned : badgeRepository.findCodesByUserId(userId)) {
+                BadgeCode ownedCode = parseCode(owned);
+                if (ownedCode != null) {
+                    loaded |= bit(ownedCode);
+                }
+            }
+            badgeOwnershipCache.putIfUnchanged(userId, loaded, stamp);
+            mask = loaded;
+        }
+        return (mask & bit(code)) != 0;
+    }
+
+    /**
+     * Records the badge in the user's cached mask once the grant is committed, so a
+     * rolled-back grant is not remembered as owned.
+     */
+    private void markOwnedAfterCommit(UUID userId, BadgeCode code) {
+        Runnable markOwned = () -> {
+            Long mask = badgeOwnershipCache.get(userId);
+            if (mask != null) {
+                badgeOwnershipCache.put(userId, mask | bit(code));
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markOwned.run();
+                }
+            });
+        } else {
+            markOwned.run();
+        }
+    }
+
+    private UUID findBadgeId(BadgeCode code) {
+        UUID cached = badgeIds.get(code);
+        if (cached != null) {
+            return cached;
+        }
+        UUID id = badgeRepository.findByCode(code.name()).map(Badge::getId).orElse(null);
+        if (id != null) {
+            badgeIds.put(code, id);
+        }
+        return id;
+    }
+
+    // The mask holds one bit per BadgeCode, which is fine while there are fewer than 64.
+    private static long bit(BadgeCode code) {
+        return 1L << code.ordinal();
+    }
+
+    private static BadgeCode parseCode(String code) {
+        try {
+            return BadgeCode.valueOf(code);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.checkpoint.api.services.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.entities.Company;
+import com.checkpoint.api.entities.Genre;
+import com.checkpoint.api.entities.Platform;
+import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.repositories.VideoGameRepository;
+
+/**
+ * Loads the per-game tag data the in-memory catalog indexes are built from
+ * ({@link GameSimilarityIndexServiceImpl}, {@link CatalogTagIndexServiceImpl}), either for
+ * the whole catalog or for a single refreshed game.
+ *
+ * <p>A full load runs four scalar queries and never hydrates entities; a single game is
+ * read with its tags fetch-joined. Both must run inside a transaction.</p>
+ */
+@Component
+public class CatalogGameLoader {
+
+    private final VideoGameRepository videoGameRepository;
+
+    public CatalogGameLoader(VideoGameRepository videoGameRepository) {
+        this.videoGameRepository = videoGameRepository;
+    }
+
+    /**
+     * Passes every game of the catalog to {@code consumer}, in no particular order.
+     *
+     * @param consumer receives one {@link GameTags} per game
+     */
+    public void forEachGame(Consumer<GameTags> consumer) {
+        Map<UUID, List<UUID>> genres = groupLinks(videoGameRepository.findAllGenreLinks());
+        Map<UUID, List<UUID>> platforms = groupLinks(videoGameRepository.findAllPlatformLinks());
+        Map<UUID, List<UUID>> companies = groupLinks(videoGameRepository.findAllCompanyLinks());
+
+        for (Object[] row : videoGameRepository.findSimilarityProfiles()) {
+            UUID id = (UUID) row[0];
+            consumer.accept(new GameTags(
+                    id,
+                    (String) row[1],
+                    (Double) row[2],
+                    (LocalDate) row[3],
+                    row[4] != null,
+                    genres.getOrDefault(id, List.of()),
+                    platforms.getOrDefault(id, List.of()),
+                    companies.getOrDefault(id, List.of())));
+        }
+    }
+
+    /**
+     * @param gameId the game's ID
+     * @return the game's tag data, or empty when the game no longer exists
+     */
+    public Optional<GameTags> loadGame(UUID gameId) {
+        return videoGameRepository.findByIdWithRelationships(gameId).map(CatalogGameLoader::toTags);
+    }
+
+    private static GameTags toTags(VideoGame game) {
+        return new GameTags(
+                game.getId(),
+                game.getTitle(),
+                game.getAverageRating(),
+                game.getReleaseDate(),
+                game.getParentGame() != null,
+                game.getGenres().stream().map(Genre::getId).toList(),
+                game.getPlatforms().stream().map(Platform::getId).toList(),
+                game.getCompanies().stream().map(Company::getId).toList());
+    }
+
+    private static Map<UUID, List<UUID>> groupLinks(List<Object[]> rows) {
+        Map<UUID, List<UUID>> byGame = new HashMap<>();
+        for (Object[] row : rows) {
+            byGame.computeIfAbsent((UUID) row[0], k -> new ArrayList<>()).add((UUID) row[1]);
+        }
+        return byGame;
+    }
+
+    /**
+     * The indexed attributes of one game.
+     *
+     * @param id            the game's ID
+     * @param title         the title, used as the ranking tiebreaker
+     * @param averageRating the average rating, or {@code null} when unrated
+     * @param releaseDate   the release date, or {@code null} when unknown
+     * @param dlc           whether the game has a parent game
+     * @param genreIds      the IDs of the game's genres
+     * @param platformIds   the IDs of the game's platforms
+     * @param companyIds    the IDs of the game's companies
+     */
+    public record GameTags(UUID id, String title, Double averageRating, LocalDate releaseDate, boolean dlc,
+                           List<UUID> genreIds, List<UUID> platformIds, List<UUID> companyIds) {
+    }
+}
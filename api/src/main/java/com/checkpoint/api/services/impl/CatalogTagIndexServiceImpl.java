@@ -0,0 +1,342 @@
+package com.checkpoint.api.services.impl;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.services.CatalogTagIndexService;
+import com.checkpoint.api.services.impl.CatalogGameLoader.GameTags;
+import com.checkpoint.api.utils.RebuildTracker;
+
+/**
+ * In-memory implementation of {@link CatalogTagIndexService}.
+ *
+ * <p>Games are numbered with dense ordinals so each tag's posting list is a plain
+ * {@link BitSet} of a few kilobytes even on a large catalog. A query ORs the postings
+ * of the profile's genres and companies into the candidate set, removes DLC, deleted
+ * games and the caller's exclusions, accumulates the tag weights into per-ordinal
+ * arrays and keeps the best matches in a bounded heap.</p>
+ *
+ * <p>Queries run under the read lock so they proceed in parallel; incremental updates
+ * take the write lock. Full rebuilds are computed outside the lock and swapped in, and
+ * games refreshed while a rebuild was loading are re-applied afterwards.</p>
+ */
+@Service
+public class CatalogTagIndexServiceImpl implements CatalogTagIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogTagIndexServiceImpl.class);
+
+    private static final long NO_RELEASE_DATE = Long.MIN_VALUE;
+
+    private final CatalogGameLoader catalogGameLoader;
+    private final Clock clock;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RebuildTracker<UUID> rebuildTracker = new RebuildTracker<>();
+
+    /** Guarded by {@link #lock}; {@code null} until the first rebuild completes. */
+    private Index index;
+
+    public CatalogTagIndexServiceImpl(CatalogGameLoader catalogGameLoader, Clock clock) {
+        this.catalogGameLoader = catalogGameLoader;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<List<TagMatch>> findTopMatches(Map<UUID, Double> genreScores,
+                                                   Map<UUID, Double> platformScores,
+                                                   Map<UUID, Double> companyScores,
+                                                   Collection<UUID> excludedGameIds,
+                                                   int limit) {
+        long recentSince = LocalDate.now(clock).minusYears(GameTagScorer.RECENCY_BOOST_YEARS).toEpochDay();
+
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                return Optional.empty();
+            }
+            Index idx = index;
+
+            BitSet candidates = new BitSet(idx.size);
+            double[] genreSums = new double[idx.size];
+            double[] platformSums = new double[idx.size];
+            double[] companySums = new double[idx.size];
+
+            accumulate(genreScores, idx.genreIds, idx.genrePostings, genreSums, candidates);
+            accumulate(companyScores, idx.companyIds, idx.companyPostings, companySums, candidates);
+            accumulate(platformScores, idx.platformIds, idx.platformPostings, platformSums, null);
+
+            candidates.and(idx.live);
+            candidates.andNot(idx.dlc);
+            for (UUID excluded : excludedGameIds) {
+                Integer ordinal = idx.ordinals.get(excluded);
+                if (ordinal != null) {
+                    candidates.clear(ordinal);
+                }
+            }
+
+            Comparator<Scored> ranking = Comparator
+                    .comparingDouble(Scored::score).reversed()
+                    .thenComparing(s -> idx.titles[s.ordinal()], Comparator.nullsLast(String::compareTo));
+            PriorityQueue<Scored> top = new PriorityQueue<>(limit + 1, ranking.reversed());
+
+            for (int g = candidates.nextSetBit(0); g >= 0; g = candidates.nextSetBit(g + 1)) {
+                double genre = genreSums[g] * GameTagScorer.GENRE_SCORE_WEIGHT;
+                double company = companySums[g] * GameTagScorer.COMPANY_SCORE_WEIGHT;
+                double total = genre
+                        + platformSums[g] * GameTagScorer.PLATFORM_SCORE_WEIGHT
+                        + company
+                        + idx.ratings[g] * GameTagScorer.AVERAGE_RATING_TIEBREAKER_WEIGHT
+                        + (idx.releaseEpochDays[g] >= recentSince ? GameTagScorer.RECENCY_BOOST : 0.0);
+                if (total <= 0) {
+                    continue;
+                }
+                top.offer(new Scored(g, total, genre, company));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Scored> ranked = new ArrayList<>(top);
+            ranked.sort(ranking);
+            List<TagMatch> matches = new ArrayList<>(ranked.size());
+            for (Scored s : ranked) {
+                matches.add(new TagMatch(idx.ids[s.ordinal()], s.score(),
+                        s.genreContribution(), s.companyContribution()));
+            }
+            return Optional.of(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!rebuildTracker.tryStart()) {
+            log.debug("Catalog tag index rebuild already running — skipping");
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            Index fresh = loadIndex();
+
+            Set<UUID> changed;
+            lock.writeLock().lock();
+            try {
+                index = fresh;
+                changed = rebuildTracker.drainChanges();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Built catalog tag index for {} games in {} ms",
+                    fresh.ordinals.size(), System.currentTimeMillis() - started);
+
+            for (UUID gameId : changed) {
+                refreshGame(gameId);
+            }
+        } finally {
+            rebuildTracker.finish();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void refreshGame(UUID gameId) {
+        Optional<GameTags> loaded = catalogGameLoader.loadGame(gameId);
+        if (loaded.isEmpty()) {
+            removeGame(gameId);
+            return;
+        }
+        GameTags game = loaded.get();
+
+        withWriteLock(() -> {
+            rebuildTracker.recordChange(gameId);
+            if (index == null) {
+                return;
+            }
+            Integer existing = index.ordinals.get(gameId);
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                index.unindexTags(ordinal);
+            } else {
+                ordinal = index.add(gameId);
+            }
+            index.set(ordinal, game);
+        });
+    }
+
+    @Override
+    public void removeGame(UUID gameId) {
+        withWriteLock(() -> {
+            rebuildTracker.recordChange(gameId);
+            if (index == null) {
+                return;
+            }
+            Integer ordinal = index.ordinals.remove(gameId);
+            if (ordinal != null) {
+                index.unindexTags(ordinal);
+                index.live.clear(ordinal);
+            }
+        });
+    }
+
+    @Override
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return index != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Index loadIndex() {
+        Index fresh = new Index();
+        catalogGameLoader.forEachGame(game -> fresh.set(fresh.add(game.id()), game));
+        return fresh;
+    }
+
+    /**
+     * Adds each tag's weight to every game carrying it, and optionally ORs the tag's
+     * posting into {@code candidates}.
+     */
+    private static void accumulate(Map<UUID, Double> weights,
+                                   Map<UUID, Integer> dictionary,
+                                   List<BitSet> postings,
+                                   double[] sums,
+                                   BitSet candidates) {
+        for (Map.Entry<UUID, Double> entry : weights.entrySet()) {
+            Integer tag = dictionary.get(entry.getKey());
+            if (tag == null) {
+                continue;
+            }
+            BitSet posting = postings.get(tag);
+            double weight = entry.getValue();
+            for (int g = posting.nextSetBit(0); g >= 0; g = posting.nextSetBit(g + 1)) {
+                sums[g] += weight;
+            }
+            if (candidates != null) {
+                candidates.or(posting);
+            }
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Scored(int ordinal, double score, double genreContribution, double companyContribution) {
+    }
+
+    /**
+     * Column-oriented catalog snapshot. Ordinals are never reused; deleted games are
+     * only cleared from {@link #live} until the next rebuild compacts them away.
+     */
+    private static final class Index {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private int size;
+
+        private UUID[] ids = new UUID[INITIAL_CAPACITY];
+        private String[] titles = new String[INITIAL_CAPACITY];
+        private double[] ratings = new double[INITIAL_CAPACITY];
+        private long[] releaseEpochDays = new long[INITIAL_CAPACITY];
+        private int[][] genres = new int[INITIAL_CAPACITY][];
+        private int[][] platforms = new int[INITIAL_CAPACITY][];
+        private int[][] companies = new int[INITIAL_CAPACITY][];
+
+        private final BitSet live = new BitSet();
+        private final BitSet dlc = new BitSet();
+
+        private final Map<UUID, Integer> genreIds = new HashMap<>();
+        private final Map<UUID, Integer> platformIds = new HashMap<>();
+        private final Map<UUID, Integer> companyIds = new HashMap<>();
+        private final List<BitSet> genrePostings = new ArrayList<>();
+        private final List<BitSet> platformPostings = new ArrayList<>();
+        private final List<BitSet> companyPostings = new ArrayList<>();
+
+        private int add(UUID gameId) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                titles = Arrays.copyOf(titles, capacity);
+                ratings = Arrays.copyOf(ratings, capacity);
+                releaseEpochDays = Arrays.copyOf(releaseEpochDays, capacity);
+                genres = Arrays.copyOf(genres, capacity);
+                platforms = Arrays.copyOf(platforms, capacity);
+                companies = Arrays.copyOf(companies, capacity);
+            }
+            int ordinal = size++;
+            ids[ordinal] = gameId;
+            ordinals.put(gameId, ordinal);
+            return ordinal;
+        }
+
+        private void set(int ordinal, GameTags game) {
+            titles[ordinal] = game.title();
+            ratings[ordinal] = game.averageRating() != null ? game.averageRating() : 0.0;
+            releaseEpochDays[ordinal] = game.releaseDate() != null ? game.releaseDate().toEpochDay() : NO_RELEASE_DATE;
+            genres[ordinal] = indexTags(ordinal, game.genreIds(), genreIds, genrePostings);
+            platforms[ordinal] = indexTags(ordinal, game.platformIds(), platformIds, platformPostings);
+            companies[ordinal] = indexTags(ordinal, game.companyIds(), companyIds, companyPostings);
+            dlc.set(ordinal, game.dlc());
+            live.set(ordinal);
+        }
+
+        private void unindexTags(int ordinal) {
+            clearTags(ordinal, genres[ordinal], genrePostings);
+            clearTags(ordinal, platforms[ordinal], platformPostings);
+            clearTags(ordinal, companies[ordinal], companyPostings);
+        }
+
+        private static int[] indexTags(int ordinal, List<UUID> tagIds,
+                                       Map<UUID, Integer> dictionary, List<BitSet> postings) {
+            int[] tags = new int[tagIds.size()];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = dictionary.computeIfAbsent(tagIds.get(i), k -> {
+                    postings.add(new BitSet());
+                    return postings.size() - 1;
+                });
+                postings.get(tags[i]).set(ordinal);
+            }
+            return tags;
+        }
+
+        private static void clearTags(int ordinal, int[] tags, List<BitSet> postings) {
+            if (tags == null) {
+                return;
+            }
+            for (int tag : tags) {
+                postings.get(tag).clear(ordinal);
+            }
+        }
+    }
+}
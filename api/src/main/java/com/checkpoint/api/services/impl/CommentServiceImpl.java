@@ -1,5 +1,7 @@
 package com.checkpoint.api.services.impl;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
@@ -30,6 +32,7 @@ import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.services.CommentService;
+import com.checkpoint.api.services.EngagementCounterService;
 import com.checkpoint.api.utils.MentionParser;
 
 /**
@@ -50,6 +53,7 @@ public class CommentServiceImpl implements CommentService {
     private final LikeRepository likeRepository;
     private final CommentMapper commentMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final EngagementCounterService engagementCounterService;
 
     /**
      * Constructs a new CommentServiceImpl.
@@ -60,7 +64,8 @@ public class CommentServiceImpl implements CommentService {
      * @param userRepository     the user repository
      * @param likeRepository     the like repository
      * @param commentMapper      the comment mapper
-     * @param eventPublisher     the application event publisher
+     * @param eventPublisher           the application event publisher
+     * @param engagementCounterService the service maintaining the denormalized comment counters
      */
     public CommentServiceImpl(CommentRepository commentRepository,
                               ReviewRepository reviewRepository,
@@ -68,7 +73,8 @@ public class CommentServiceImpl implements CommentService {
                               UserRepository userRepository,
                               LikeRepository likeRepository,
                               CommentMapper commentMapper,
-                              ApplicationEventPublisher eventPublisher) {
+                              ApplicationEventPublisher eventPublisher,
+                              EngagementCounterService engagementCounterService) {
         this.commentRepository = commentRepository;
         this.reviewRepository = reviewRepository;
         this.gameListRepository = gameListRepository;
@@ -76,6 +82,7 @@ public class CommentServiceImpl implements CommentService {
         this.likeRepository = likeRepository;
         this.commentMapper = commentMapper;
         this.eventPublisher = eventPublisher;
+        this.engagementCounterService = engagementCounterService;
     }
 
     /**
@@ -90,6 +97,7 @@ public class CommentServiceImpl implements CommentService {
 
         Comment comment = Comment.onReview(content, user, review);
         Comment savedComment = commentRepository.save(comment);
+        engagementCounterService.commentAdded(savedComment);
 
         log.info("User {} commented on review {}", user.getPseudo(), reviewId);
 
@@ -110,6 +118,7 @@ public class CommentServiceImpl implements CommentService {
 
         Comment comment = Comment.onList(content, user, gameList);
         Comment savedComment = commentRepository.save(comment);
+        engagementCounterService.commentAdded(savedComment);
 
         log.info("User {} commented on list {}", user.getPseudo(), listId);
 
@@ -126,7 +135,8 @@ public class CommentServiceImpl implements CommentService {
     public Page<CommentResponseDto> getReviewComments(UUID reviewId, String viewerEmail, Pageable pageable) {
         User viewer = resolveViewer(viewerEmail);
         Page<Comment> comments = commentRepository.findByReviewIdAndParentCommentIsNull(reviewId, pageable);
-        return comments.map(comment -> enrichComment(comment, viewer));
+        Set<UUID> likedIds = likedCommentIds(comments, viewer);
+        return comments.map(comment -> enrichComment(comment, likedIds));
     }
 
     /**
@@ -137,7 +147,8 @@ public class CommentServiceImpl implements CommentService {
     public Page<CommentResponseDto> getListComments(UUID listId, String viewerEmail, Pageable pageable) {
         User viewer = resolveViewer(viewerEmail);
         Page<Comment> comments = commentRepository.findByGameListIdAndParentCommentIsNull(listId, pageable);
-        return comments.map(comment -> enrichComment(comment, viewer));
+        Set<UUID> likedIds = likedCommentIds(comments, viewer);
+        return comments.map(comment -> enrichComment(comment, likedIds));
     }
 
     /**
@@ -152,6 +163,7 @@ public class CommentServiceImpl implements CommentService {
 
         Comment reply = Comment.asReply(content, user, parentComment);
         Comment savedReply = commentRepository.save(reply);
+        engagementCounterService.commentAdded(savedReply);
 
         log.info("User {} replied to comment {}", user.getPseudo(), parentCommentId);
 
@@ -182,7 +194,8 @@ public class CommentServiceImpl implements CommentService {
     public Page<CommentResponseDto> getReplies(UUID parentCommentId, String viewerEmail, Pageable pageable) {
         User viewer = resolveViewer(viewerEmail);
         Page<Comment> replies = commentRepository.findByParentCommentId(parentCommentId, pageable);
-        return replies.map(reply -> enrichComment(reply, viewer));
+        Set<UUID> likedIds = likedCommentIds(replies, viewer);
+        return replies.map(reply -> enrichComment(reply, likedIds));
     }
 
     /**
@@ -223,6 +236,7 @@ public class CommentServiceImpl implements CommentService {
             throw new UnauthorizedCommentAccessException(commentId);
         }
 
+        engagementCounterService.commentRemoved(comment);
         commentRepository.delete(comment);
 
         log.info("User {} deleted comment {}", user.getPseudo(), commentId);
@@ -253,18 +267,31 @@ public class CommentServiceImpl implements CommentService {
     }
 
     /**
-     * Enriches a comment entity with like count, reply count, and viewer's like status.
+     * Enriches a comment entity with its like / reply counters and the viewer's like status.
      *
-     * @param comment the comment entity
-     * @param viewer  the current viewer (nullable)
+     * @param comment  the comment entity
+     * @param likedIds IDs of the page's comments the viewer has liked
      * @return the enriched comment response DTO
      */
-    private CommentResponseDto enrichComment(Comment comment, User viewer) {
-        long likesCount = likeRepository.countByCommentId(comment.getId());
-        long repliesCount = commentRepository.countByParentCommentId(comment.getId());
-        boolean hasLiked = viewer != null
-                && likeRepository.existsByUserIdAndCommentId(viewer.getId(), comment.getId());
-        return commentMapper.toDto(comment, likesCount, hasLiked, repliesCount);
+    private CommentResponseDto enrichComment(Comment comment, Set<UUID> likedIds) {
+        return commentMapper.toDto(comment, comment.getLikesCount(),
+                likedIds.contains(comment.getId()), comment.getRepliesCount());
+    }
+
+    /**
+     * Looks up, in one query, which comments of the page the viewer has liked.
+     *
+     * @param comments the page of comments
+     * @param viewer   the current viewer (nullable)
+     * @return the liked comment IDs, empty for anonymous viewers
+     */
+    private Set<UUID> likedCommentIds(Page<Comment> comments, User viewer) {
+        if (viewer == null || comments.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<UUID> commentIds = new HashSet<>();
+        comments.forEach(comment -> commentIds.add(comment.getId()));
+        return new HashSet<>(likeRepository.findCommentIdsLikedByUser(viewer.getId(), commentIds));
     }
 
     /**
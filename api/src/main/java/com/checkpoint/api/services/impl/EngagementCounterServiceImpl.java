@@ -0,0 +1,132 @@
+package com.checkpoint.api.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.entities.Comment;
+import com.checkpoint.api.entities.GameList;
+import com.checkpoint.api.entities.Like;
+import com.checkpoint.api.repositories.CommentRepository;
+import com.checkpoint.api.repositories.GameListRepository;
+import com.checkpoint.api.repositories.ReviewRepository;
+import com.checkpoint.api.services.EngagementCounterService;
+import com.checkpoint.api.services.SearchIndexService;
+
+/**
+ * Implementation of {@link EngagementCounterService}.
+ */
+@Service
+@Transactional
+public class EngagementCounterServiceImpl implements EngagementCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(EngagementCounterServiceImpl.class);
+
+    private final ReviewRepository reviewRepository;
+    private final GameListRepository gameListRepository;
+    private final CommentRepository commentRepository;
+    private final SearchIndexService searchIndexService;
+
+    public EngagementCounterServiceImpl(ReviewRepository reviewRepository,
+                                        GameListRepository gameListRepository,
+                                        CommentRepository commentRepository,
+                                        SearchIndexService searchIndexService) {
+        this.reviewRepository = reviewRepository;
+        this.gameListRepository = gameListRepository;
+        this.commentRepository = commentRepository;
+        this.searchIndexService = searchIndexService;
+    }
+
+    @Override
+    public void likeAdded(Like like) {
+        adjustLikes(like, 1);
+    }
+
+    @Override
+    public void likeRemoved(Like like) {
+        adjustLikes(like, -1);
+    }
+
+    @Override
+    public void commentAdded(Comment comment) {
+        if (comment.getParentComment() != null) {
+            commentRepository.adjustRepliesCount(comment.getParentComment().getId(), 1);
+        }
+        adjustComments(comment, 1);
+    }
+
+    @Override
+    public void commentRemoved(Comment comment) {
+        int removed = 1;
+        if (comment.getParentComment() != null) {
+            commentRepository.adjustRepliesCount(comment.getParentComment().getId(), -1);
+        } else {
+            // Replies inherit the root's review / list and are cascade-deleted with it.
+            removed += (int) commentRepository.countByParentCommentId(comment.getId());
+        }
+        adjustComments(comment, -removed);
+    }
+
+    @Override
+    public void listEntriesChanged(UUID listId, int delta) {
+        gameListRepository.adjustVideoGamesCount(listId, delta);
+    }
+
+    @Override
+    public int reconcileCounters() {
+        int reviews = reviewRepository.recountEngagement();
+        List<UUID> driftedLists = gameListRepository.findIdsWithDriftedEngagement();
+        int lists = gameListRepository.recountEngagement();
+        int comments = commentRepository.recountEngagement();
+        if (!driftedLists.isEmpty()) {
+            // List counters are indexed but the recount is a bulk update Hibernate Search can't see.
+            searchIndexService.reindex(GameList.class, driftedLists);
+        }
+        int corrected = reviews + lists + comments;
+        if (corrected > 0) {
+            log.info("Reconciled engagement counters: {} reviews, {} lists, {} comments corrected",
+                    reviews, lists, comments);
+        }
+        return corrected;
+    }
+
+    @Override
+    public int decayHotScores(Duration window) {
+        // One like at the end of the window: the least a liked review in the window scores
+        double floor = 1.0 / Math.pow(window.toSeconds() / 86400.0 + 2, 1.5);
+        return reviewRepository.decayHotScores(LocalDateTime.now().minus(window), floor);
+    }
+
+    @Override
+    public int scoreUnscoredReviews() {
+        int scored = reviewRepository.scoreUnscoredReviews();
+        if (scored > 0) {
+            log.info("Scored {} liked reviews without a hot score", scored);
+        }
+        return scored;
+    }
+
+    private void adjustLikes(Like like, int delta) {
+        if (like.getReview() != null) {
+            reviewRepository.adjustLikesCount(like.getReview().getId(), delta);
+        } else if (like.getGameList() != null) {
+            gameListRepository.adjustLikesCount(like.getGameList().getId(), delta);
+        } else if (like.getComment() != null) {
+            commentRepository.adjustLikesCount(like.getComment().getId(), delta);
+        }
+    }
+
+    private void adjustComments(Comment comment, int delta) {
+        if (comment.getReview() != null) {
+            reviewRepository.adjustCommentsCount(comment.getReview().getId(), delta);
+        } else if (comment.getGameList() != null) {
+            gameListRepository.adjustCommentsCount(comment.getGameList().getId(), delta);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +18,7 @@ import com.checkpoint.api.dto.profile.FavoriteDto;
 import com.checkpoint.api.entities.Favorite;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.events.FavoritesChangedEvent;
 import com.checkpoint.api.exceptions.InvalidFavoritesException;
 import com.checkpoint.api.exceptions.UserNotFoundException;
 import com.checkpoint.api.mapper.ProfileMapper;
@@ -42,6 +44,7 @@ public class FavoriteServiceImpl implements FavoriteService {
     private final VideoGameRepository videoGameRepository;
     private final ProfileMapper profileMapper;
     private final OnboardingService onboardingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs a new FavoriteServiceImpl.
@@ -51,17 +54,20 @@ public class FavoriteServiceImpl implements FavoriteService {
      * @param videoGameRepository the video game repository
      * @param profileMapper       the profile mapper
      * @param onboardingService   the onboarding service
+     * @param eventPublisher      the event publisher
      */
     public FavoriteServiceImpl(FavoriteRepository favoriteRepository,
                                 UserRepository userRepository,
                                 VideoGameRepository videoGameRepository,
                                 ProfileMapper profileMapper,
-                                OnboardingService onboardingService) {
+                                OnboardingService onboardingService,
+                                ApplicationEventPublisher eventPublisher) {
         this.favoriteRepository = favoriteRepository;
         this.userRepository = userRepository;
         this.videoGameRepository = videoGameRepository;
         this.profileMapper = profileMapper;
         this.onboardingService = onboardingService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -119,6 +125,7 @@ public class FavoriteServiceImpl implements FavoriteService {
         if (!orderedGameIds.isEmpty()) {
             onboardingService.markStepDone(email, OnboardingSteps.FAVORITES);
         }
+        eventPublisher.publishEvent(new FavoritesChangedEvent(user.getId()));
 
         return favoriteRepository.findByUserOrderByDisplayOrderAsc(user).stream()
                 .sorted(Comparator.comparing(Favorite::getDisplayOrder))
@@ -0,0 +1,124 @@
+package com.checkpoint.api.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.entities.FeedActivity;
+import com.checkpoint.api.events.FeedActivityEvent;
+import com.checkpoint.api.repositories.FeedActivityRepository;
+import com.checkpoint.api.repositories.FeedEntryRepository;
+import com.checkpoint.api.services.FeedFanOutService;
+
+/**
+ * Implementation of {@link FeedFanOutService}.
+ *
+ * <p>Runs inside the caller's transaction (the listener is synchronous), so a
+ * feed row exists if and only if the activity that produced it was committed.</p>
+ */
+@Service
+@Transactional
+public class FeedFanOutServiceImpl implements FeedFanOutService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedFanOutServiceImpl.class);
+
+    /** Same window as the feed read path; older rows are never served. */
+    static final int FEED_WINDOW_DAYS = 30;
+
+    private final FeedActivityRepository feedActivityRepository;
+    private final FeedEntryRepository feedEntryRepository;
+
+    public FeedFanOutServiceImpl(FeedActivityRepository feedActivityRepository,
+                                 FeedEntryRepository feedEntryRepository) {
+        this.feedActivityRepository = feedActivityRepository;
+        this.feedEntryRepository = feedEntryRepository;
+    }
+
+    @Override
+    public void recordActivity(FeedActivityEvent event) {
+        Optional<FeedActivity> existing = feedActivityRepository.findById(event.getActivityId());
+        if (existing.isPresent()) {
+            // Type, actor and timestamp never change for a given source row, so the
+            // fanned-out entries stay valid — only the displayed payload is refreshed.
+            applyPayload(existing.get(), event);
+            return;
+        }
+
+        if (event.getCreatedAt().isBefore(windowStart())) {
+            log.debug("Skipping feed activity {} older than the feed window", event.getActivityId());
+            return;
+        }
+
+        FeedActivity activity = new FeedActivity(
+                event.getActivityId(), event.getType(), event.getUserId(), event.getCreatedAt());
+        applyPayload(activity, event);
+        feedActivityRepository.save(activity);
+
+        int fannedOut = feedEntryRepository.fanOutToFollowers(
+                activity.getId(), activity.getUserId(), activity.getType().name(), activity.getCreatedAt());
+        log.debug("Fanned out {} activity {} to {} followers", activity.getType(), activity.getId(), fannedOut);
+    }
+
+    @Override
+    public void removeActivity(UUID activityId) {
+        feedEntryRepository.deleteByActivityId(activityId);
+        feedActivityRepository.findById(activityId).ifPresent(feedActivityRepository::delete);
+    }
+
+    @Override
+    public void onFollow(UUID followerId, UUID followedId) {
+        int copied = feedEntryRepository.backfillFollower(followerId, followedId, windowStart());
+        log.debug("Backfilled {} feed entries for {} after following {}", copied, followerId, followedId);
+    }
+
+    @Override
+    public void onUnfollow(UUID followerId, UUID followedId) {
+        feedEntryRepository.deleteByOwnerIdAndActorId(followerId, followedId);
+    }
+
+    @Override
+    public void removeUser(UUID userId) {
+        int entries = feedEntryRepository.deleteByUserId(userId);
+        int activities = feedActivityRepository.deleteByUserId(userId);
+        log.debug("Removed {} feed entries and {} feed activities of erased user {}", entries, activities, userId);
+    }
+
+    @Override
+    public int purgeExpired() {
+        LocalDateTime cutoff = windowStart();
+        int entries = feedEntryRepository.deleteOlderThan(cutoff);
+        int activities = feedActivityRepository.deleteOlderThan(cutoff);
+        log.info("Purged {} feed entries and {} feed activities older than {}", entries, activities, cutoff);
+        return entries;
+    }
+
+    @Override
+    public int backfillIfEmpty() {
+        if (feedActivityRepository.count() > 0) {
+            return 0;
+        }
+        int activities = feedActivityRepository.backfillSince(windowStart());
+        if (activities == 0) {
+            return 0;
+        }
+        int entries = feedEntryRepository.fanOutAll();
+        log.info("Seeded feed store with {} activities and {} feed entries", activities, entries);
+        return activities;
+    }
+
+    private void applyPayload(FeedActivity activity, FeedActivityEvent event) {
+        activity.setVideoGameId(event.getVideoGameId());
+        activity.setDetail(event.getDetail());
+        activity.setHaveSpoilers(event.getHaveSpoilers());
+        activity.setPlayLogId(event.getPlayLogId());
+    }
+
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now().minusDays(FEED_WINDOW_DAYS);
+    }
+}
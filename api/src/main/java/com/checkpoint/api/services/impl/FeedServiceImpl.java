@@ -1,7 +1,11 @@
 package com.checkpoint.api.services.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -13,11 +17,14 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.checkpoint.api.dto.catalog.CursorPagedResponseDto;
 import com.checkpoint.api.dto.catalog.GameCardDto;
 import com.checkpoint.api.dto.catalog.PagedResponseDto;
 import com.checkpoint.api.dto.social.FeedItemDto;
@@ -29,11 +36,13 @@ import com.checkpoint.api.repositories.FeedRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.services.FeedService;
+import com.checkpoint.api.services.FollowGraphService;
 
 /**
  * Implementation of {@link FeedService}.
- * Provides activity feed and friends trending data by querying across
- * multiple activity tables filtered to the authenticated user's follow graph.
+ * Serves the activity feed from the materialized per-user inbox maintained by
+ * {@link com.checkpoint.api.services.FeedFanOutService}, and friends trending
+ * data by querying the activity tables filtered to the follow graph.
  */
 @Service
 @Transactional(readOnly = true)
@@ -42,6 +51,7 @@ public class FeedServiceImpl implements FeedService {
     private static final Logger log = LoggerFactory.getLogger(FeedServiceImpl.class);
 
     private static final int FEED_WINDOW_DAYS = 30;
+    private static final String CURSOR_SEPARATOR = "|";
     private static final int DEFAULT_FEED_SIZE = 20;
     private static final int MAX_FEED_SIZE = 50;
 
@@ -55,15 +65,18 @@ public class FeedServiceImpl implements FeedService {
     private final FeedRepository feedRepository;
     private final VideoGameRepository videoGameRepository;
     private final FeedMapper feedMapper;
+    private final FollowGraphService followGraph;
 
     public FeedServiceImpl(UserRepository userRepository,
                            FeedRepository feedRepository,
                            VideoGameRepository videoGameRepository,
-                           FeedMapper feedMapper) {
+                           FeedMapper feedMapper,
+                           FollowGraphService followGraph) {
         this.userRepository = userRepository;
         this.feedRepository = feedRepository;
         this.videoGameRepository = videoGameRepository;
         this.feedMapper = feedMapper;
+        this.followGraph = followGraph;
     }
 
     @Override
@@ -76,21 +89,58 @@ public class FeedServiceImpl implements FeedService {
         User currentUser = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Authenticated user not found"));
 
-        List<UUID> followingIds = userRepository.findFollowingIdsByUserId(currentUser.getId());
-        if (followingIds.isEmpty()) {
-            log.debug("User {} follows nobody, returning empty feed", userEmail);
-            Pageable pageable = PageRequest.of(validatedPage, validatedSize);
-            return PagedResponseDto.from(Page.empty(pageable));
+        LocalDateTime since = LocalDateTime.now().minusDays(FEED_WINDOW_DAYS);
+        Pageable pageable = PageRequest.of(validatedPage, validatedSize);
+
+        Slice<Object[]> rawSlice = feedRepository.findFeedItems(currentUser.getId(), since, type, pageable);
+        List<FeedItemDto> feedItems = toFeedItems(rawSlice.getContent());
+
+        // No exact count: report just enough elements for hasNext/last to be accurate.
+        long knownTotal = pageable.getOffset() + rawSlice.getNumberOfElements() + (rawSlice.hasNext() ? 1 : 0);
+        return PagedResponseDto.from(new PageImpl<>(feedItems, pageable, knownTotal));
+    }
+
+    @Override
+    public CursorPagedResponseDto<FeedItemDto> scrollFeed(String userEmail, String cursor, int size, FeedItemType type) {
+        int validatedSize = Math.min(Math.max(1, size), MAX_FEED_SIZE);
+
+        log.debug("Scrolling feed for user {} - cursor: {}, size: {}, type: {}", userEmail, cursor, validatedSize, type);
+
+        User currentUser = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new IllegalArgumentException("Authenticated user not found"));
+
+        LocalDateTime cursorCreatedAt = null;
+        UUID cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(position[0]);
+            cursorId = UUID.fromString(position[1]);
         }
 
         LocalDateTime since = LocalDateTime.now().minusDays(FEED_WINDOW_DAYS);
-        Pageable pageable = PageRequest.of(validatedPage, validatedSize);
+        List<Object[]> rows = feedRepository.findFeedItemsBefore(
+                currentUser.getId(), since, type, cursorCreatedAt, cursorId, validatedSize + 1);
 
-        Page<Object[]> rawPage = feedRepository.findFeedItems(followingIds, since, type, pageable);
+        boolean hasNext = rows.size() > validatedSize;
+        List<Object[]> pageRows = hasNext ? rows.subList(0, validatedSize) : rows;
 
-        List<Object[]> rows = rawPage.getContent();
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = pageRows.get(pageRows.size() - 1);
+            nextCursor = encodeCursor(((Timestamp) last[2]).toLocalDateTime(), (UUID) last[0]);
+        }
+
+        return new CursorPagedResponseDto<>(toFeedItems(pageRows), nextCursor, hasNext);
+    }
+
+    /**
+     * Maps raw feed rows to DTOs, batch-fetching users and games to avoid N+1.
+     */
+    private List<FeedItemDto> toFeedItems(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        // Batch-fetch users and games to avoid N+1
         List<UUID> userIds = rows.stream()
                 .map(row -> (UUID) row[3])
                 .distinct()
@@ -108,14 +158,40 @@ public class FeedServiceImpl implements FeedService {
                 : videoGameRepository.findAllById(gameIds).stream()
                         .collect(Collectors.toMap(VideoGame::getId, Function.identity()));
 
-        List<FeedItemDto> feedItems = rows.stream()
+        return rows.stream()
                 .map(row -> feedMapper.toFeedItemDto(row, userCache, gameCache))
                 .filter(Objects::nonNull)
                 .toList();
+    }
 
-        return PagedResponseDto.from(
-                new org.springframework.data.domain.PageImpl<>(feedItems, pageable, rawPage.getTotalElements())
-        );
+    /**
+     * Encodes a keyset position as an opaque URL-safe token.
+     */
+    private String encodeCursor(LocalDateTime createdAt, UUID id) {
+        String raw = createdAt + CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encodeCursor} into {@code [createdAt, id]}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid feed cursor");
+            }
+            String[] parts = {raw.substring(0, separator), raw.substring(separator + 1)};
+            // Validate both halves eagerly so a tampered cursor is a 400, not a 500.
+            LocalDateTime.parse(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid feed cursor");
+        }
     }
 
     @Override
@@ -127,7 +203,7 @@ public class FeedServiceImpl implements FeedService {
         User currentUser = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Authenticated user not found"));
 
-        List<UUID> followingIds = userRepository.findFollowingIdsByUserId(currentUser.getId());
+        List<UUID> followingIds = followGraph.getFollowingIds(currentUser.getId());
         if (followingIds.isEmpty()) {
             log.debug("User {} follows nobody, returning empty friends trending", userEmail);
             return Collections.emptyList();
@@ -153,7 +229,7 @@ public class FeedServiceImpl implements FeedService {
 
         Pageable pageable = PageRequest.of(validatedPage, validatedSize);
 
-        List<UUID> followingIds = userRepository.findFollowingIdsByUserId(currentUser.getId());
+        List<UUID> followingIds = followGraph.getFollowingIds(currentUser.getId());
         if (followingIds.isEmpty()) {
             log.debug("User {} follows nobody, returning empty popular games page", userEmail);
             return PagedResponseDto.from(Page.empty(pageable));
@@ -167,7 +243,7 @@ public class FeedServiceImpl implements FeedService {
                 .toList();
 
         return PagedResponseDto.from(
-                new org.springframework.data.domain.PageImpl<>(cards, pageable, rawPage.getTotalElements())
+                new PageImpl<>(cards, pageable, rawPage.getTotalElements())
         );
     }
 
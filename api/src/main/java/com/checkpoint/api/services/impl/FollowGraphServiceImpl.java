@@ -0,0 +1,178 @@
+package com.checkpoint.api.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.FollowGraphService;
+import com.checkpoint.api.utils.CompactDigraph;
+
+/**
+ * In-memory implementation of {@link FollowGraphService}, backed by a
+ * {@link CompactDigraph} whose edges point from follower to followed user.
+ *
+ * <p>Queries run under the read lock; patches take the write lock. Full rebuilds are
+ * loaded outside the lock and swapped in, and patches applied while a rebuild was
+ * loading are replayed on the new graph. Every patch is idempotent, so replaying one
+ * the rebuild already saw is harmless.</p>
+ */
+@Service
+public class FollowGraphServiceImpl implements FollowGraphService {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowGraphServiceImpl.class);
+
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    /** Guarded by {@link #lock}; {@code null} until the first rebuild completes. */
+    private CompactDigraph graph;
+
+    /** Guarded by {@link #lock}; non-null only while a rebuild is in progress. */
+    private List<Consumer<CompactDigraph>> patchedDuringRebuild;
+
+    public FollowGraphServiceImpl(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public boolean isFollowing(UUID followerId, UUID followingId) {
+        lock.readLock().lock();
+        try {
+            if (graph != null) {
+                return graph.hasEdge(followerId, followingId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return userRepository.isFollowing(followerId, followingId);
+    }
+
+    @Override
+    public long countFollowers(UUID userId) {
+        lock.readLock().lock();
+        try {
+            if (graph != null) {
+                return graph.inDegree(userId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return userRepository.countFollowersByUserId(userId);
+    }
+
+    @Override
+    public long countFollowing(UUID userId) {
+        lock.readLock().lock();
+        try {
+            if (graph != null) {
+                return graph.outDegree(userId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return userRepository.countFollowingByUserId(userId);
+    }
+
+    @Override
+    public List<UUID> getFollowingIds(UUID userId) {
+        lock.readLock().lock();
+        try {
+            if (graph != null) {
+                return graph.successors(userId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return userRepository.findFollowingIdsByUserId(userId);
+    }
+
+    @Override
+    public void followed(UUID followerId, UUID followingId) {
+        patch(g -> g.addEdge(followerId, followingId));
+    }
+
+    @Override
+    public void unfollowed(UUID followerId, UUID followingId) {
+        patch(g -> g.removeEdge(followerId, followingId));
+    }
+
+    @Override
+    public void removeUser(UUID userId) {
+        patch(g -> g.removeVertex(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.debug("Follow graph rebuild already running — skipping");
+            return;
+        }
+        try {
+            withWriteLock(() -> patchedDuringRebuild = new ArrayList<>());
+
+            long started = System.currentTimeMillis();
+            List<Object[]> rows = userRepository.findAllFollowEdges();
+            List<UUID> followers = new ArrayList<>(rows.size());
+            List<UUID> followed = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                followers.add((UUID) row[0]);
+                followed.add((UUID) row[1]);
+            }
+            CompactDigraph fresh = CompactDigraph.build(followers, followed);
+
+            withWriteLock(() -> {
+                patchedDuringRebuild.forEach(p -> p.accept(fresh));
+                patchedDuringRebuild = null;
+                graph = fresh;
+            });
+            log.info("Built follow graph with {} follows in {} ms",
+                    fresh.edgeCount(), System.currentTimeMillis() - started);
+        } finally {
+            withWriteLock(() -> patchedDuringRebuild = null);
+            rebuilding.set(false);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return graph != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void patch(Consumer<CompactDigraph> patch) {
+        withWriteLock(() -> {
+            if (patchedDuringRebuild != null) {
+                patchedDuringRebuild.add(patch);
+            }
+            if (graph != null) {
+                patch.accept(graph);
+            }
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -17,6 +17,7 @@ import com.checkpoint.api.enums.NotificationType;
 import com.checkpoint.api.events.NotificationEvent;
 import com.checkpoint.api.events.UserFollowedEvent;
 import com.checkpoint.api.events.UserGainedFollowerEvent;
+import com.checkpoint.api.events.UserUnfollowedEvent;
 import com.checkpoint.api.exceptions.SelfFollowException;
 import com.checkpoint.api.exceptions.UserNotFoundException;
 import com.checkpoint.api.dto.onboarding.OnboardingSteps;
@@ -64,14 +65,17 @@ public class FollowServiceImpl implements FollowService {
         User targetUser = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new UserNotFoundException(targetUserId));
 
-        boolean alreadyFollowing = userRepository.isFollowing(currentUser.getId(), targetUserId);
-
-        if (alreadyFollowing) {
-            currentUser.unfollow(targetUser);
+        // Written straight to the join table: going through User#follow would load the
+        // viewer's whole following collection. The delete doubles as the existence check.
+        if (userRepository.deleteFollow(currentUser.getId(), targetUserId) > 0) {
             log.info("User {} unfollowed user {}", currentUser.getPseudo(), targetUser.getPseudo());
+            eventPublisher.publishEvent(new UserUnfollowedEvent(currentUser.getId(), targetUser.getId()));
             return new FollowResponseDto(false, "Successfully unfollowed " + targetUser.getPseudo());
         } else {
-            currentUser.follow(targetUser);
+            if (userRepository.insertFollow(currentUser.getId(), targetUserId) == 0) {
+                // A concurrent request recorded the same follow and published its events.
+                return new FollowResponseDto(true, "Successfully followed " + targetUser.getPseudo());
+            }
             log.info("User {} followed user {}", currentUser.getPseudo(), targetUser.getPseudo());
 
             eventPublisher.publishEvent(new UserFollowedEvent(currentUser.getId(), targetUser.getId()));
@@ -127,9 +131,9 @@ public class FollowServiceImpl implements FollowService {
         User follower = userRepository.findById(followerId)
                 .orElseThrow(() -> new UserNotFoundException(followerId));
 
-        if (userRepository.isFollowing(followerId, currentUser.getId())) {
-            follower.unfollow(currentUser);
+        if (userRepository.deleteFollow(followerId, currentUser.getId()) > 0) {
             log.info("User {} removed follower {}", currentUser.getPseudo(), follower.getPseudo());
+            eventPublisher.publishEvent(new UserUnfollowedEvent(follower.getId(), currentUser.getId()));
         }
     }
 }
@@ -1,33 +1,49 @@
 package com.checkpoint.api.services.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.StringJoiner;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.checkpoint.api.dto.catalog.GameCardDto;
+import com.checkpoint.api.dto.catalog.GameCatalogPageDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto.CompanyDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto.GenreDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto.PlatformDto;
+import com.checkpoint.api.dto.catalog.VersionedGameDetailDto;
 import com.checkpoint.api.dto.profile.RatingDistributionEntryDto;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.repositories.BacklogRepository;
-import com.checkpoint.api.repositories.RateRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.repositories.WishRepository;
 import com.checkpoint.api.services.GameCatalogService;
+import com.checkpoint.api.services.GameRatingStatsService;
+import com.checkpoint.api.services.GameSearchService;
+import com.checkpoint.api.utils.BoundedCache;
 
 /**
  * Implementation of {@link GameCatalogService}.
- * Provides optimized queries for game catalog operations.
+ * Provides optimized queries for game catalog operations; the filtered catalog listing
+ * is served from the search index by {@link GameSearchService}.
+ *
+ * <p>Game details are cached with an ETag derived from their content; a cache hit, and
+ * so a {@code 304} on a matching {@code If-None-Match}, does not touch the database and
+ * runs without a transaction; a miss loads the game in one read-only transaction.</p>
  */
 @Service
 @Transactional(readOnly = true)
@@ -38,20 +54,30 @@ public class GameCatalogServiceImpl implements GameCatalogService {
     private final VideoGameRepository videoGameRepository;
     private final BacklogRepository backlogRepository;
     private final WishRepository wishRepository;
-    private final RateRepository rateRepository;
+    private final GameRatingStatsService gameRatingStatsService;
+    private final GameSearchService gameSearchService;
+    private final BoundedCache<UUID, VersionedGameDetailDto> gameDetailCache;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     public GameCatalogServiceImpl(VideoGameRepository videoGameRepository,
                                   BacklogRepository backlogRepository,
                                   WishRepository wishRepository,
-                                  RateRepository rateRepository) {
+                                  GameRatingStatsService gameRatingStatsService,
+                                  GameSearchService gameSearchService,
+                                  BoundedCache<UUID, VersionedGameDetailDto> gameDetailCache,
+                                  PlatformTransactionManager transactionManager) {
         this.videoGameRepository = videoGameRepository;
         this.backlogRepository = backlogRepository;
         this.wishRepository = wishRepository;
-        this.rateRepository = rateRepository;
+        this.gameRatingStatsService = gameRatingStatsService;
+        this.gameSearchService = gameSearchService;
+        this.gameDetailCache = gameDetailCache;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     @Override
-    public Page<GameCardDto> getGameCatalog(Pageable pageable,
+    public GameCatalogPageDto getGameCatalog(Pageable pageable,
                                              List<String> genres,
                                              List<String> platforms,
                                              Integer yearMin,
@@ -63,7 +89,7 @@ public class GameCatalogServiceImpl implements GameCatalogService {
                 pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(),
                 genres, platforms, yearMin, yearMax, ratingMin, ratingMax);
 
-        return videoGameRepository.findAllAsGameCardsWithFilters(
+        return gameSearchService.browseCatalog(
                 pageable, genres, platforms, yearMin, yearMax, ratingMin, ratingMax);
     }
 
@@ -80,19 +106,75 @@ public class GameCatalogServiceImpl implements GameCatalogService {
     }
 
     @Override
-    public GameDetailDto getGameDetails(UUID id) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public VersionedGameDetailDto getGameDetails(UUID id) {
+        VersionedGameDetailDto cached = gameDetailCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
         log.debug("Fetching game details for ID: {}", id);
 
+        long stamp = gameDetailCache.stamp();
+        VersionedGameDetailDto versioned = readOnlyTransactionTemplate.execute(status -> loadGameDetails(id));
+        gameDetailCache.putIfUnchanged(id, versioned, stamp);
+        return versioned;
+    }
+
+    /**
+     * Loads and versions the details of a game; runs inside the read-only transaction.
+     */
+    private VersionedGameDetailDto loadGameDetails(UUID id) {
         VideoGame game = videoGameRepository.findByIdWithRelationships(id)
                 .orElseThrow(() -> new GameNotFoundException(id));
 
-        // Get rating statistics
+        // Rating statistics are maintained incrementally on the game and its rating stats
         Double averageRating = game.getAverageRating();
-        Long ratingCount = videoGameRepository.countRatings(id);
-        List<RatingDistributionEntryDto> ratingDistribution =
-                rateRepository.findDistributionByVideoGameId(id);
+        Long ratingCount = game.getRatingCount();
+        List<RatingDistributionEntryDto> ratingDistribution = gameRatingStatsService.getDistribution(
+                id, ratingCount != null ? ratingCount : 0L);
+
+        GameDetailDto detail = mapToGameDetailDto(game, averageRating, ratingCount, ratingDistribution);
+        // SYNC_GAMES bumps updated_at along with the rating totals, so it covers rating changes too
+        return new VersionedGameDetailDto(
+                detail, eTagOf(detail), game.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant());
+    }
 
-        return mapToGameDetailDto(game, averageRating, ratingCount, ratingDistribution);
+    @Override
+    public void evictGameDetails(UUID id) {
+        gameDetailCache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    gameDetailCache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Strong ETag: a name-based UUID of every field the page renders, so every instance
+     * derives the same tag for the same page and any visible change yields a new one.
+     */
+    private static String eTagOf(GameDetailDto detail) {
+        StringJoiner content = new StringJoiner("\u001f");
+        content.add(String.valueOf(detail.id()))
+                .add(String.valueOf(detail.title()))
+                .add(String.valueOf(detail.description()))
+                .add(String.valueOf(detail.coverUrl()))
+                .add(String.valueOf(detail.artworkUrl()))
+                .add(String.valueOf(detail.trailerYoutubeId()))
+                .add(String.valueOf(detail.timeToBeatNormally()))
+                .add(String.valueOf(detail.timeToBeatHastily()))
+                .add(String.valueOf(detail.timeToBeatCompletely()))
+                .add(String.valueOf(detail.releaseDate()))
+                .add(String.valueOf(detail.averageRating()))
+                .add(String.valueOf(detail.ratingCount()));
+        detail.ratingDistribution().forEach(entry -> content.add(entry.score() + ":" + entry.count()));
+        detail.genres().forEach(genre -> content.add("g:" + genre.id() + ":" + genre.name()));
+        detail.platforms().forEach(platform -> content.add("p:" + platform.id() + ":" + platform.name()));
+        detail.companies().forEach(company -> content.add("c:" + company.id() + ":" + company.name()));
+        return "\"" + UUID.nameUUIDFromBytes(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 
     /**
@@ -1,12 +1,23 @@
 package com.checkpoint.api.services.impl;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.checkpoint.api.client.IgdbApiClient;
@@ -21,27 +32,39 @@ import com.checkpoint.api.services.ImportProgressListener;
 /**
  * Implementation of {@link GameImportService}.
  * Orchestrates imports from IGDB: it fetches data and time-to-beat statistics,
- * then delegates the per-game write to {@link GamePersistenceService} (which runs
- * each game in its own transaction). This class is intentionally NOT
- * {@code @Transactional} — a bulk import of thousands of games must not run in a
- * single giant transaction.
+ * then delegates the writes to {@link GamePersistenceService} (which runs each
+ * game, or each bulk-import chunk, in its own transaction). This class is
+ * intentionally NOT {@code @Transactional} — a bulk import of thousands of games
+ * must not run in a single giant transaction.
  */
 @Service
 public class GameImportServiceImpl implements GameImportService {
 
     private static final Logger log = LoggerFactory.getLogger(GameImportServiceImpl.class);
 
+    /** Pages the fetch thread may download ahead of the one being persisted. */
+    private static final int PAGES_FETCHED_AHEAD = 2;
+
+    /** Sentinel the fetch thread enqueues once it has no more pages (compared by identity). */
+    private static final List<IgdbGameDto> END_OF_PAGES = new ArrayList<>(0);
+
     private final IgdbApiClient igdbApiClient;
     private final GamePersistenceService gamePersistenceService;
     private final VideoGameRepository videoGameRepository;
+    private final Executor fetchExecutor;
+    private final int chunkSize;
 
     public GameImportServiceImpl(
             IgdbApiClient igdbApiClient,
             GamePersistenceService gamePersistenceService,
-            VideoGameRepository videoGameRepository) {
+            VideoGameRepository videoGameRepository,
+            @Qualifier("igdbFetchExecutor") Executor fetchExecutor,
+            @Value("${igdb.import.chunk-size:100}") int chunkSize) {
         this.igdbApiClient = igdbApiClient;
         this.gamePersistenceService = gamePersistenceService;
         this.videoGameRepository = videoGameRepository;
+        this.fetchExecutor = fetchExecutor;
+        this.chunkSize = Math.max(1, chunkSize);
     }
 
     @Override
@@ -75,30 +98,121 @@ public class GameImportServiceImpl implements GameImportService {
 
     @Override
     public BulkImportStats bulkImport(List<IgdbGameDto> games, ImportProgressListener progress) {
-        int totalFetched = games.size();
-        int imported = 0;
-        int skipped = 0;
-        int failed = 0;
-        List<String> errors = new ArrayList<>();
+        BulkImportTally tally = new BulkImportTally();
+        importPage(games, progress, tally);
+        return tally.finish();
+    }
 
-        Map<Long, IgdbTimeToBeatDto> timeToBeat = prefetchTimeToBeat(games);
+    @Override
+    public BulkImportStats bulkImportTopRated(int limit, int minRatingCount, ImportProgressListener progress) {
+        BlockingQueue<List<IgdbGameDto>> pages = new ArrayBlockingQueue<>(PAGES_FETCHED_AHEAD);
+        AtomicBoolean aborted = new AtomicBoolean();
 
-        for (IgdbGameDto dto : games) {
+        CompletableFuture<Void> fetch = CompletableFuture.runAsync(() -> {
             try {
-                if (videoGameRepository.existsByIgdbId(dto.id())) {
-                    skipped++;
-                    progress.skipped();
-                    continue;
+                igdbApiClient.fetchTopRatedGames(limit, minRatingCount, page -> {
+                    if (aborted.get()) {
+                        throw new CancellationException("Import aborted");
+                    }
+                    putUninterruptibly(pages, page);
+                });
+            } finally {
+                if (aborted.get()) {
+                    pages.offer(END_OF_PAGES);
+                } else {
+                    putUninterruptibly(pages, END_OF_PAGES);
                 }
+            }
+        }, fetchExecutor);
+
+        BulkImportTally tally = new BulkImportTally();
+        try {
+            List<IgdbGameDto> page;
+            while ((page = takeUninterruptibly(pages)) != END_OF_PAGES) {
+                progress.fetched(page.size());
+                importPage(page, progress, tally);
+            }
+        } finally {
+            // Unblocks the fetch thread if persistence failed mid-import.
+            aborted.set(true);
+            pages.clear();
+        }
+
+        try {
+            fetch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return tally.finish();
+    }
+
+    /**
+     * Runs the dedup, time-to-beat and persistence stages over one page of games:
+     * one query finds the IDs already in the catalogue, time-to-beat is fetched only
+     * for the new games, and the new games are inserted in chunks of {@code chunkSize}.
+     */
+    private void importPage(List<IgdbGameDto> page, ImportProgressListener progress, BulkImportTally tally) {
+        tally.totalFetched += page.size();
+
+        List<Long> ids = page.stream()
+                .map(IgdbGameDto::id)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<Long> known = ids.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(videoGameRepository.findExistingIgdbIds(ids));
+
+        List<IgdbGameDto> fresh = new ArrayList<>();
+        for (IgdbGameDto dto : page) {
+            if (dto.id() != null && !known.add(dto.id())) {
+                tally.skipped++;
+                progress.skipped();
+                progress.processed();
+            } else {
+                fresh.add(dto);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        Map<Long, IgdbTimeToBeatDto> timeToBeat = prefetchTimeToBeat(fresh);
+        for (int i = 0; i < fresh.size(); i += chunkSize) {
+            persistChunk(fresh.subList(i, Math.min(i + chunkSize, fresh.size())), timeToBeat, progress, tally);
+        }
+    }
+
+    /**
+     * Inserts a chunk in one transaction. If the chunk fails, it is replayed game by
+     * game so a single bad record costs one failure instead of the whole chunk.
+     */
+    private void persistChunk(List<IgdbGameDto> chunk, Map<Long, IgdbTimeToBeatDto> timeToBeat,
+                              ImportProgressListener progress, BulkImportTally tally) {
+        try {
+            gamePersistenceService.importBatch(chunk, timeToBeat);
+            for (int i = 0; i < chunk.size(); i++) {
+                tally.imported++;
+                progress.imported();
+                progress.processed();
+            }
+            return;
+        } catch (Exception e) {
+            log.warn("Batch insert of {} games failed, retrying one by one: {}", chunk.size(), e.getMessage());
+        }
+
+        for (IgdbGameDto dto : chunk) {
+            try {
                 gamePersistenceService.importOne(dto, timeToBeat.get(dto.id()));
-                imported++;
+                tally.imported++;
                 progress.imported();
             } catch (Exception e) {
-                failed++;
                 String label = dto.name() != null && !dto.name().isBlank()
                         ? dto.name()
                         : "IGDB#" + dto.id();
-                errors.add(label);
+                tally.failed(label);
                 progress.failed(label);
                 log.error("Bulk import failed for '{}' (IGDB ID: {}): {}",
                         dto.name(), dto.id(), e.getMessage(), e);
@@ -106,11 +220,6 @@ public class GameImportServiceImpl implements GameImportService {
                 progress.processed();
             }
         }
-
-        log.info("Bulk import completed: {} imported, {} skipped, {} failed out of {} fetched",
-                imported, skipped, failed, totalFetched);
-
-        return new BulkImportStats(totalFetched, imported, skipped, failed, errors);
     }
 
     /**
@@ -152,4 +261,44 @@ public class GameImportServiceImpl implements GameImportService {
                 .toList();
         return igdbApiClient.fetchTimeToBeatForGames(ids);
     }
+
+    private static void putUninterruptibly(BlockingQueue<List<IgdbGameDto>> queue, List<IgdbGameDto> page) {
+        try {
+            queue.put(page);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while handing over an IGDB page");
+        }
+    }
+
+    private static List<IgdbGameDto> takeUninterruptibly(BlockingQueue<List<IgdbGameDto>> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for an IGDB page");
+        }
+    }
+
+    /**
+     * Running counts of a bulk import, accumulated across pages on the import thread.
+     */
+    private static final class BulkImportTally {
+        int totalFetched;
+        int imported;
+        int skipped;
+        int failed;
+        final List<String> errors = new ArrayList<>();
+
+        void failed(String label) {
+            failed++;
+            errors.add(label);
+        }
+
+        BulkImportStats finish() {
+            log.info("Bulk import completed: {} imported, {} skipped, {} failed out of {} fetched",
+                    imported, skipped, failed, totalFetched);
+            return new BulkImportStats(totalFetched, imported, skipped, failed, errors);
+        }
+    }
 }
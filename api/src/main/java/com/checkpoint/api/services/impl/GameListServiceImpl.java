@@ -1,6 +1,9 @@
 package com.checkpoint.api.services.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.hibernate.search.mapper.orm.Search;
@@ -25,6 +28,8 @@ import com.checkpoint.api.entities.GameList;
 import com.checkpoint.api.entities.GameListEntry;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.events.FeedActivityEvent;
+import com.checkpoint.api.events.FeedActivityRemovedEvent;
 import com.checkpoint.api.events.ListCreatedEvent;
 import com.checkpoint.api.events.UserActivityEvent;
 import com.checkpoint.api.exceptions.GameAlreadyInListException;
@@ -33,12 +38,12 @@ import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.GameNotInListException;
 import com.checkpoint.api.exceptions.UnauthorizedListAccessException;
 import com.checkpoint.api.mapper.GameListMapper;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.GameListEntryRepository;
 import com.checkpoint.api.repositories.GameListRepository;
 import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.EngagementCounterService;
 import com.checkpoint.api.services.GameListService;
 
 /**
@@ -50,41 +55,43 @@ public class GameListServiceImpl implements GameListService {
 
     private static final Logger log = LoggerFactory.getLogger(GameListServiceImpl.class);
 
+    private static final int CARD_COVER_COUNT = 4;
+
     private final GameListRepository gameListRepository;
     private final GameListEntryRepository gameListEntryRepository;
     private final UserRepository userRepository;
     private final VideoGameRepository videoGameRepository;
     private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
     private final GameListMapper gameListMapper;
     private final ApplicationEventPublisher eventPublisher;
     private final EntityManager entityManager;
+    private final EngagementCounterService engagementCounterService;
 
     public GameListServiceImpl(GameListRepository gameListRepository,
                                GameListEntryRepository gameListEntryRepository,
                                UserRepository userRepository,
                                VideoGameRepository videoGameRepository,
                                LikeRepository likeRepository,
-                               CommentRepository commentRepository,
                                GameListMapper gameListMapper,
                                ApplicationEventPublisher eventPublisher,
-                               EntityManager entityManager) {
+                               EntityManager entityManager,
+                               EngagementCounterService engagementCounterService) {
         this.gameListRepository = gameListRepository;
         this.gameListEntryRepository = gameListEntryRepository;
         this.userRepository = userRepository;
         this.videoGameRepository = videoGameRepository;
         this.likeRepository = likeRepository;
-        this.commentRepository = commentRepository;
         this.gameListMapper = gameListMapper;
         this.eventPublisher = eventPublisher;
         this.entityManager = entityManager;
+        this.engagementCounterService = engagementCounterService;
     }
 
     /**
      * Refreshes the Hibernate Search index for the given list. The {@code videoGamesCount}
-     * and {@code likesCount} fields are {@code @Formula} values with
-     * {@code reindexOnUpdate = NO}, so they must be re-indexed manually when entries or
-     * likes change. {@code refresh()} forces the formulas to recompute before indexing.
+     * and {@code likesCount} fields are counter columns written by bulk updates and indexed
+     * with {@code reindexOnUpdate = NO}, so they must be re-indexed manually when entries or
+     * likes change. {@code refresh()} reloads the updated counters before indexing.
      */
     private void refreshSearchIndex(GameList gameList) {
         entityManager.refresh(gameList);
@@ -110,6 +117,10 @@ public class GameListServiceImpl implements GameListService {
             eventPublisher.publishEvent(new ListCreatedEvent(user.getId(), saved.getId()));
         }
         eventPublisher.publishEvent(new UserActivityEvent(user.getId()));
+        if (!saved.getIsPrivate()) {
+            eventPublisher.publishEvent(FeedActivityEvent.list(
+                    saved.getId(), user.getId(), saved.getTitle(), saved.getCreatedAt()));
+        }
 
         log.info("List '{}' created with ID {} for user {}", saved.getTitle(), saved.getId(), userEmail);
         return gameListMapper.toDetailDto(saved, List.of(), 0L, 0L, true, false);
@@ -135,14 +146,19 @@ public class GameListServiceImpl implements GameListService {
 
         GameList updated = gameListRepository.save(gameList);
         List<GameListEntry> entries = gameListEntryRepository.findByGameListIdOrderByPositionAsc(listId);
-        long likesCount = likeRepository.countByGameListId(listId);
-
-        long commentsCount = commentRepository.countByGameListId(listId);
 
         eventPublisher.publishEvent(new UserActivityEvent(user.getId()));
+        // Private lists never appear in followers' feeds.
+        if (updated.getIsPrivate()) {
+            eventPublisher.publishEvent(new FeedActivityRemovedEvent(listId));
+        } else {
+            eventPublisher.publishEvent(FeedActivityEvent.list(
+                    listId, user.getId(), updated.getTitle(), updated.getCreatedAt()));
+        }
 
         log.info("List '{}' updated for user {}", updated.getTitle(), userEmail);
-        return gameListMapper.toDetailDto(updated, entries, likesCount, commentsCount, true, false);
+        return gameListMapper.toDetailDto(updated, entries,
+                updated.getLikesCount(), updated.getCommentsCount(), true, false);
     }
 
     @Override
@@ -154,6 +170,7 @@ public class GameListServiceImpl implements GameListService {
         enforceOwnership(gameList, user);
 
         gameListRepository.delete(gameList);
+        eventPublisher.publishEvent(new FeedActivityRemovedEvent(listId));
         log.info("List {} deleted for user {}", listId, userEmail);
     }
 
@@ -164,8 +181,7 @@ public class GameListServiceImpl implements GameListService {
                 userEmail, pageable.getPageNumber(), pageable.getPageSize());
 
         User user = findUserByEmail(userEmail);
-        return gameListRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), pageable)
-                .map(this::toCardDtoWithLikes);
+        return toCardDtos(gameListRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), pageable));
     }
 
     @Override
@@ -186,17 +202,16 @@ public class GameListServiceImpl implements GameListService {
         Integer maxPosition = gameListEntryRepository.findMaxPositionByGameListId(listId).orElse(-1);
         GameListEntry entry = new GameListEntry(gameList, videoGame, maxPosition + 1);
         gameListEntryRepository.save(entry);
+        engagementCounterService.listEntriesChanged(listId, 1);
 
         List<GameListEntry> entries = gameListEntryRepository.findByGameListIdOrderByPositionAsc(listId);
-        long likesCount = likeRepository.countByGameListId(listId);
-
-        long commentsCount = commentRepository.countByGameListId(listId);
 
         eventPublisher.publishEvent(new UserActivityEvent(user.getId()));
         refreshSearchIndex(gameList);
 
         log.info("Game '{}' added to list '{}' at position {}", videoGame.getTitle(), gameList.getTitle(), entry.getPosition());
-        return gameListMapper.toDetailDto(gameList, entries, likesCount, commentsCount, true, false);
+        return gameListMapper.toDetailDto(gameList, entries,
+                gameList.getLikesCount(), gameList.getCommentsCount(), true, false);
     }
 
     @Override
@@ -212,6 +227,7 @@ public class GameListServiceImpl implements GameListService {
         }
 
         gameListEntryRepository.deleteByGameListIdAndVideoGameId(listId, videoGameId);
+        engagementCounterService.listEntriesChanged(listId, -1);
 
         // Re-index positions after removal
         List<GameListEntry> remaining = gameListEntryRepository.findByGameListIdOrderByPositionAsc(listId);
@@ -245,14 +261,12 @@ public class GameListServiceImpl implements GameListService {
         }
 
         List<GameListEntry> entries = gameListEntryRepository.findByGameListIdOrderByPositionAsc(listId);
-        long likesCount = likeRepository.countByGameListId(listId);
-
-        long commentsCount = commentRepository.countByGameListId(listId);
 
         eventPublisher.publishEvent(new UserActivityEvent(user.getId()));
 
         log.info("Games reordered in list '{}'", gameList.getTitle());
-        return gameListMapper.toDetailDto(gameList, entries, likesCount, commentsCount, true, false);
+        return gameListMapper.toDetailDto(gameList, entries,
+                gameList.getLikesCount(), gameList.getCommentsCount(), true, false);
     }
 
     @Override
@@ -261,8 +275,7 @@ public class GameListServiceImpl implements GameListService {
         log.debug("Fetching popular public lists - page: {}, size: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        return gameListRepository.findPopularPublic(pageable)
-                .map(this::toCardDtoWithLikes);
+        return toCardDtos(gameListRepository.findPopularPublic(pageable));
     }
 
     @Override
@@ -290,10 +303,9 @@ public class GameListServiceImpl implements GameListService {
         }
 
         List<GameListEntry> entries = gameListEntryRepository.findByGameListIdOrderByPositionAsc(listId);
-        long likesCount = likeRepository.countByGameListId(listId);
-        long commentsCount = commentRepository.countByGameListId(listId);
 
-        return gameListMapper.toDetailDto(gameList, entries, likesCount, commentsCount, isOwner, hasLiked);
+        return gameListMapper.toDetailDto(gameList, entries,
+                gameList.getLikesCount(), gameList.getCommentsCount(), isOwner, hasLiked);
     }
 
     @Override
@@ -302,8 +314,7 @@ public class GameListServiceImpl implements GameListService {
         log.debug("Fetching public lists for user {} - page: {}, size: {}",
                 username, pageable.getPageNumber(), pageable.getPageSize());
 
-        return gameListRepository.findPublicByUserPseudo(username, pageable)
-                .map(this::toCardDtoWithLikes);
+        return toCardDtos(gameListRepository.findPublicByUserPseudo(username, pageable));
     }
 
     @Override
@@ -320,8 +331,7 @@ public class GameListServiceImpl implements GameListService {
                     .orElse(null);
         }
 
-        return gameListRepository.findVisibleListsContainingGame(videoGameId, viewerId, pageable)
-                .map(this::toCardDtoWithLikes);
+        return toCardDtos(gameListRepository.findVisibleListsContainingGame(videoGameId, viewerId, pageable));
     }
 
     // ---- Helper methods ----
@@ -342,14 +352,29 @@ public class GameListServiceImpl implements GameListService {
         }
     }
 
-    private GameListCardDto toCardDtoWithLikes(GameList gameList) {
-        long likesCount = likeRepository.countByGameListId(gameList.getId());
-        long commentsCount = commentRepository.countByGameListId(gameList.getId());
-        List<GameListEntry> entries = gameListEntryRepository.findByGameListIdOrderByPositionAsc(gameList.getId());
-        List<String> coverUrls = entries.stream()
-                .limit(4)
-                .map(entry -> entry.getVideoGame().getCoverUrl())
-                .toList();
-        return gameListMapper.toCardDto(gameList, likesCount, commentsCount, coverUrls);
+    /**
+     * Maps a page of lists to cards. Counters come from the list rows themselves and the
+     * cover strips of the whole page are loaded in a single query.
+     */
+    private Page<GameListCardDto> toCardDtos(Page<GameList> lists) {
+        Map<UUID, List<String>> coverUrls = leadingCoverUrls(lists.getContent());
+        return lists.map(gameList -> gameListMapper.toCardDto(gameList,
+                gameList.getLikesCount(), gameList.getCommentsCount(),
+                coverUrls.getOrDefault(gameList.getId(), List.of())));
+    }
+
+    /**
+     * Loads the first cover URLs of every given list in one query, keyed by list ID.
+     */
+    private Map<UUID, List<String>> leadingCoverUrls(List<GameList> lists) {
+        if (lists.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> listIds = lists.stream().map(GameList::getId).toList();
+        Map<UUID, List<String>> coverUrls = new HashMap<>();
+        for (Object[] row : gameListEntryRepository.findLeadingCoverUrls(listIds, CARD_COVER_COUNT)) {
+            coverUrls.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return coverUrls;
     }
 }
@@ -1,14 +1,29 @@
 package com.checkpoint.api.services.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.checkpoint.api.dto.igdb.IgdbCompanyDto;
 import com.checkpoint.api.dto.igdb.IgdbGameDto;
@@ -20,17 +35,20 @@ import com.checkpoint.api.entities.Company;
 import com.checkpoint.api.entities.Genre;
 import com.checkpoint.api.entities.Platform;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.events.GameCatalogChangedEvent;
 import com.checkpoint.api.mapper.GameMapper;
 import com.checkpoint.api.repositories.CompanyRepository;
 import com.checkpoint.api.repositories.GenreRepository;
 import com.checkpoint.api.repositories.PlatformRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.GameCatalogService;
 import com.checkpoint.api.services.GamePersistenceService;
 
 /**
  * Implementation of {@link GamePersistenceService}.
- * Each call to {@link #importOne(IgdbGameDto, IgdbTimeToBeatDto)} runs in its own
- * new transaction ({@link Propagation#REQUIRES_NEW}).
+ * Each call to {@link #importOne(IgdbGameDto, IgdbTimeToBeatDto)} and
+ * {@link #importBatch(List, Map)} runs in its own new transaction
+ * ({@link Propagation#REQUIRES_NEW}).
  */
 @Service
 public class GamePersistenceServiceImpl implements GamePersistenceService {
@@ -42,18 +60,34 @@ public class GamePersistenceServiceImpl implements GamePersistenceService {
     private final GenreRepository genreRepository;
     private final PlatformRepository platformRepository;
     private final CompanyRepository companyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameCatalogService gameCatalogService;
+
+    private final TagResolver<Genre> genreResolver;
+    private final TagResolver<Platform> platformResolver;
+    private final TagResolver<Company> companyResolver;
 
     public GamePersistenceServiceImpl(
             GameMapper gameMapper,
             VideoGameRepository videoGameRepository,
             GenreRepository genreRepository,
             PlatformRepository platformRepository,
-            CompanyRepository companyRepository) {
+            CompanyRepository companyRepository,
+            ApplicationEventPublisher eventPublisher,
+            GameCatalogService gameCatalogService) {
         this.gameMapper = gameMapper;
         this.videoGameRepository = videoGameRepository;
         this.genreRepository = genreRepository;
         this.platformRepository = platformRepository;
         this.companyRepository = companyRepository;
+        this.eventPublisher = eventPublisher;
+        this.gameCatalogService = gameCatalogService;
+        this.genreResolver = new TagResolver<>(genreRepository,
+                genreRepository::findAllByLowerNameIn, Genre::getName, Genre::getId);
+        this.platformResolver = new TagResolver<>(platformRepository,
+                platformRepository::findAllByLowerNameIn, Platform::getName, Platform::getId);
+        this.companyResolver = new TagResolver<>(companyRepository,
+                companyRepository::findAllByLowerNameIn, Company::getName, Company::getId);
     }
 
     @Override
@@ -81,7 +115,83 @@ public class GamePersistenceServiceImpl implements GamePersistenceService {
         resolveAndSetCompanies(dto, videoGame);
         applyTimeToBeat(videoGame, timeToBeat);
 
-        return videoGameRepository.save(videoGame);
+        VideoGame saved = videoGameRepository.save(videoGame);
+        if (existingGame.isPresent()) {
+            gameCatalogService.evictGameDetails(saved.getId());
+        }
+        eventPublisher.publishEvent(new GameCatalogChangedEvent(saved.getId(), false));
+        return saved;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<VideoGame> importBatch(List<IgdbGameDto> dtos, Map<Long, IgdbTimeToBeatDto> timeToBeat) {
+        Map<String, Supplier<Genre>> wantedGenres = new HashMap<>();
+        Map<String, Supplier<Platform>> wantedPlatforms = new HashMap<>();
+        Map<String, Supplier<Company>> wantedCompanies = new HashMap<>();
+        for (IgdbGameDto dto : dtos) {
+            genreNames(dto).forEach(name -> wantedGenres.putIfAbsent(tagKey(name), () -> new Genre(name)));
+            platformNames(dto).forEach(name -> wantedPlatforms.putIfAbsent(tagKey(name), () -> new Platform(name)));
+            for (IgdbCompanyDto company : creditedCompanies(dto)) {
+                wantedCompanies.putIfAbsent(tagKey(company.name()),
+                        () -> new Company(company.name(), company.description()));
+            }
+        }
+        Map<String, Genre> genres = genreResolver.resolve(wantedGenres);
+        Map<String, Platform> platforms = platformResolver.resolve(wantedPlatforms);
+        Map<String, Company> companies = companyResolver.resolve(wantedCompanies);
+
+        List<VideoGame> games = new ArrayList<>(dtos.size());
+        for (IgdbGameDto dto : dtos) {
+            VideoGame videoGame = gameMapper.toEntity(dto);
+            // Owning side only: the inverse collections are lazy and would load every
+            // game already linked to the tag.
+            genreNames(dto).forEach(name -> videoGame.getGenres().add(genres.get(tagKey(name))));
+            platformNames(dto).forEach(name -> videoGame.getPlatforms().add(platforms.get(tagKey(name))));
+            creditedCompanies(dto).forEach(company ->
+                    videoGame.getCompanies().add(companies.get(tagKey(company.name()))));
+            applyTimeToBeat(videoGame, timeToBeat.get(dto.id()));
+            games.add(videoGame);
+        }
+
+        List<VideoGame> saved = videoGameRepository.saveAll(games);
+        for (VideoGame game : saved) {
+            eventPublisher.publishEvent(new GameCatalogChangedEvent(game.getId(), false));
+        }
+        log.debug("Inserted a batch of {} games", saved.size());
+        return saved;
+    }
+
+    private static String tagKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> genreNames(IgdbGameDto dto) {
+        if (dto.genres() == null) {
+            return List.of();
+        }
+        return dto.genres().stream().map(IgdbGenreDto::name).filter(name -> name != null).toList();
+    }
+
+    private static List<String> platformNames(IgdbGameDto dto) {
+        if (dto.platforms() == null) {
+            return List.of();
+        }
+        return dto.platforms().stream().map(IgdbPlatformDto::name).filter(name -> name != null).toList();
+    }
+
+    /**
+     * Developers and publishers only, mirroring {@link #resolveAndSetCompanies}.
+     */
+    private static List<IgdbCompanyDto> creditedCompanies(IgdbGameDto dto) {
+        if (dto.involvedCompanies() == null) {
+            return List.of();
+        }
+        return dto.involvedCompanies().stream()
+                .filter(involvement -> involvement.developer() || involvement.publisher())
+                .map(IgdbInvolvedCompanyDto::company)
+                .filter(company -> company != null && company.name() != null)
+                .toList();
     }
 
     /**
@@ -191,4 +301,75 @@ public class GamePersistenceServiceImpl implements GamePersistenceService {
                     return companyRepository.save(new Company(name, description));
                 });
     }
+
+    /**
+     * Resolves tag names (lower-cased) to entities for a whole import chunk: cached IDs
+     * become lazy references, the rest are looked up in one query and whatever is still
+     * missing is created. The name → ID cache outlives the transaction, so it is only
+     * extended once the transaction that read or created the rows has committed.
+     */
+    private static final class TagResolver<T> {
+
+        private final Map<String, UUID> ids = new ConcurrentHashMap<>();
+        private final JpaRepository<T, UUID> repository;
+        private final Function<Collection<String>, List<T>> findByLowerNames;
+        private final Function<T, String> nameOf;
+        private final Function<T, UUID> idOf;
+
+        TagResolver(JpaRepository<T, UUID> repository,
+                    Function<Collection<String>, List<T>> findByLowerNames,
+                    Function<T, String> nameOf,
+                    Function<T, UUID> idOf) {
+            this.repository = repository;
+            this.findByLowerNames = findByLowerNames;
+            this.nameOf = nameOf;
+            this.idOf = idOf;
+        }
+
+        Map<String, T> resolve(Map<String, Supplier<T>> wanted) {
+            Map<String, T> resolved = new HashMap<>();
+            List<String> misses = new ArrayList<>();
+            for (String key : wanted.keySet()) {
+                UUID id = ids.get(key);
+                if (id != null) {
+                    resolved.put(key, repository.getReferenceById(id));
+                } else {
+                    misses.add(key);
+                }
+            }
+            if (misses.isEmpty()) {
+                return resolved;
+            }
+
+            Map<String, UUID> learned = new LinkedHashMap<>();
+            for (T existing : findByLowerNames.apply(misses)) {
+                String key = tagKey(nameOf.apply(existing));
+                if (resolved.putIfAbsent(key, existing) == null) {
+                    learned.put(key, idOf.apply(existing));
+                }
+            }
+            for (String key : misses) {
+                if (!resolved.containsKey(key)) {
+                    T created = repository.save(wanted.get(key).get());
+                    resolved.put(key, created);
+                    learned.put(key, idOf.apply(created));
+                }
+            }
+            rememberAfterCommit(learned);
+            return resolved;
+        }
+
+        private void rememberAfterCommit(Map<String, UUID> learned) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                ids.putAll(learned);
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.putAll(learned);
+                }
+            });
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.checkpoint.api.services.impl;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -24,9 +25,15 @@ import com.checkpoint.api.entities.UserGame;
 import com.checkpoint.api.entities.UserGamePlay;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.enums.PlayStatus;
+import com.checkpoint.api.enums.TrendingSignal;
+import com.checkpoint.api.events.FeedActivityEvent;
+import com.checkpoint.api.events.FeedActivityRemovedEvent;
 import com.checkpoint.api.events.GameFinishedEvent;
 import com.checkpoint.api.events.PlayLogCreatedEvent;
+import com.checkpoint.api.events.TrendingActivityEvent;
+import com.checkpoint.api.events.TrendingActivityRemovedEvent;
 import com.checkpoint.api.events.UserActivityEvent;
+import com.checkpoint.api.events.UserGamesChangedEvent;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.PlayLogNotFoundException;
 import com.checkpoint.api.mapper.GamePlayLogMapper;
@@ -40,6 +47,7 @@ import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.repositories.WishRepository;
 import com.checkpoint.api.services.GamePlayLogService;
 import com.checkpoint.api.services.RateService;
+import com.checkpoint.api.services.UserStatsService;
 
 /**
  * Implementation of {@link GamePlayLogService}.
@@ -62,6 +70,7 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
     private final GamePlayLogMapper gamePlayLogMapper;
     private final RateService rateService;
     private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
 
     public GamePlayLogServiceImpl(
             UserGamePlayRepository userGamePlayRepository,
@@ -74,7 +83,8 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
             UserGameRepository userGameRepository,
             GamePlayLogMapper gamePlayLogMapper,
             RateService rateService,
-            ApplicationEventPublisher eventPublisher
+            ApplicationEventPublisher eventPublisher,
+            UserStatsService userStatsService
     ) {
         this.userGamePlayRepository = userGamePlayRepository;
         this.userRepository = userRepository;
@@ -87,6 +97,7 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
         this.gamePlayLogMapper = gamePlayLogMapper;
         this.rateService = rateService;
         this.eventPublisher = eventPublisher;
+        this.userStatsService = userStatsService;
     }
 
     /**
@@ -116,6 +127,7 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
         associateTags(playLog, request.tagIds(), user.getId());
 
         UserGamePlay savedPlayLog = userGamePlayRepository.save(playLog);
+        userStatsService.playAdded(user.getId(), platform.getId());
 
         reconcileUserCollections(user, videoGame, request.status());
 
@@ -129,6 +141,8 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
         }
         eventPublisher.publishEvent(new UserActivityEvent(user.getId()));
         eventPublisher.publishEvent(new PlayLogCreatedEvent(user.getId()));
+        eventPublisher.publishEvent(new TrendingActivityEvent(videoGame.getId(), TrendingSignal.PLAY));
+        eventPublisher.publishEvent(toFeedActivity(savedPlayLog, user.getId()));
 
         return gamePlayLogMapper.toDto(savedPlayLog);
     }
@@ -155,6 +169,8 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
         if (request.platformId() != null && !request.platformId().equals(playLog.getPlatform().getId())) {
             Platform platform = platformRepository.findById(request.platformId())
                     .orElseThrow(() -> new IllegalArgumentException("Platform not found with ID: " + request.platformId()));
+            userStatsService.playRemoved(user.getId(), playLog.getPlatform().getId());
+            userStatsService.playAdded(user.getId(), platform.getId());
             playLog.setPlatform(platform);
         }
 
@@ -178,6 +194,7 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
             eventPublisher.publishEvent(new GameFinishedEvent(user.getId()));
         }
         eventPublisher.publishEvent(new UserActivityEvent(user.getId()));
+        eventPublisher.publishEvent(toFeedActivity(updatedPlayLog, user.getId()));
 
         return gamePlayLogMapper.toDto(updatedPlayLog);
     }
@@ -202,8 +219,24 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
 
         Integer deletedScore = playLog.getScore();
         UUID videoGameId = playLog.getVideoGame().getId();
+        UUID reviewId = playLog.getReview() != null ? playLog.getReview().getId() : null;
+        LocalDateTime reviewCreatedAt = playLog.getReview() != null ? playLog.getReview().getCreatedAt() : null;
+        LocalDateTime playCreatedAt = playLog.getCreatedAt();
+
+        UUID platformId = playLog.getPlatform().getId();
 
         userGamePlayRepository.delete(playLog);
+        userStatsService.playRemoved(user.getId(), platformId);
+
+        eventPublisher.publishEvent(new FeedActivityRemovedEvent(playId));
+        eventPublisher.publishEvent(new TrendingActivityRemovedEvent(videoGameId, TrendingSignal.PLAY, playCreatedAt));
+        if (reviewId != null) {
+            // The review is cascade-deleted with its play log.
+            userStatsService.reviewRemoved(user.getId());
+            eventPublisher.publishEvent(new FeedActivityRemovedEvent(reviewId));
+            eventPublisher.publishEvent(new TrendingActivityRemovedEvent(
+                    videoGameId, TrendingSignal.REVIEW, reviewCreatedAt));
+        }
 
         if (deletedScore != null) {
             syncGlobalRatingAfterRemoval(userEmail, user.getId(), videoGameId);
@@ -240,6 +273,20 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Builds the feed activity describing a play log in its current state.
+     *
+     * @param playLog the saved play log
+     * @param userId  the owner's ID
+     * @return the feed activity event
+     */
+    private FeedActivityEvent toFeedActivity(UserGamePlay playLog, UUID userId) {
+        return FeedActivityEvent.play(
+                playLog.getId(), userId, playLog.getVideoGame().getId(),
+                playLog.getStatus() != null ? playLog.getStatus().name() : null,
+                playLog.getCreatedAt());
+    }
+
     /**
      * Synchronizes the global rating after a play log update.
      * Only acts when the updated entry is the most recent scored log and the score changed.
@@ -339,10 +386,19 @@ public class GamePlayLogServiceImpl implements GamePlayLogService {
         userGameRepository.findByUserIdAndVideoGameId(user.getId(), videoGame.getId())
                 .ifPresentOrElse(
                         existing -> {
+                            PlayStatus previousStatus = existing.getStatus();
                             existing.setStatus(newStatus);
                             userGameRepository.save(existing);
+                            userStatsService.libraryStatusChanged(
+                                    user.getId(), videoGame.getId(), previousStatus, newStatus);
                         },
-                        () -> userGameRepository.save(new UserGame(user, videoGame, newStatus))
+                        () -> {
+                            userGameRepository.save(new UserGame(user, videoGame, newStatus));
+                            userStatsService.libraryEntryAdded(user.getId(), videoGame.getId(), newStatus);
+                            eventPublisher.publishEvent(
+                                    new TrendingActivityEvent(videoGame.getId(), TrendingSignal.LIBRARY_ADD));
+                            eventPublisher.publishEvent(new UserGamesChangedEvent(user.getId()));
+                        }
                 );
     }
 
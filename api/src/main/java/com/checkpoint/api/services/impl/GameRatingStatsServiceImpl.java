@@ -0,0 +1,103 @@
+package com.checkpoint.api.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.dto.profile.RatingDistributionEntryDto;
+import com.checkpoint.api.entities.GameRatingStats;
+import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.repositories.GameRatingStatsRepository;
+import com.checkpoint.api.repositories.RateRepository;
+import com.checkpoint.api.services.GameRatingStatsService;
+import com.checkpoint.api.services.SearchIndexService;
+
+/**
+ * Implementation of {@link GameRatingStatsService}.
+ */
+@Service
+@Transactional
+public class GameRatingStatsServiceImpl implements GameRatingStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(GameRatingStatsServiceImpl.class);
+
+    private final GameRatingStatsRepository gameRatingStatsRepository;
+    private final RateRepository rateRepository;
+    private final SearchIndexService searchIndexService;
+
+    public GameRatingStatsServiceImpl(GameRatingStatsRepository gameRatingStatsRepository,
+                                      RateRepository rateRepository,
+                                      SearchIndexService searchIndexService) {
+        this.gameRatingStatsRepository = gameRatingStatsRepository;
+        this.rateRepository = rateRepository;
+        this.searchIndexService = searchIndexService;
+    }
+
+    @Override
+    public void rateChanged(UUID videoGameId, Integer previousScore, Integer score) {
+        if (Objects.equals(previousScore, score)) {
+            return;
+        }
+        int added = score != null ? score : 0;
+        int removed = previousScore != null ? previousScore : 0;
+
+        List<UUID> updated = gameRatingStatsRepository.adjust(videoGameId, added, removed);
+        if (updated.isEmpty()) {
+            // Not built yet: build from the rates, which include this change. If a
+            // concurrent rating built the row first, its snapshot missed this one.
+            updated = gameRatingStatsRepository.build(List.of(videoGameId));
+            if (updated.isEmpty()) {
+                updated = gameRatingStatsRepository.adjust(videoGameId, added, removed);
+            }
+        }
+        // Bulk statements are invisible to Hibernate Search.
+        searchIndexService.reindex(VideoGame.class, updated);
+    }
+
+    @Override
+    public void userRatingsRemoved(UUID userId) {
+        List<UUID> updated = gameRatingStatsRepository.removeRatingsOf(userId);
+        searchIndexService.reindex(VideoGame.class, updated);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RatingDistributionEntryDto> getDistribution(UUID videoGameId, long ratingCount) {
+        if (ratingCount == 0) {
+            return List.of();
+        }
+        Optional<GameRatingStats> stats = gameRatingStatsRepository.findById(videoGameId);
+        if (stats.isEmpty()) {
+            return rateRepository.findDistributionByVideoGameId(videoGameId);
+        }
+
+        long[] histogram = stats.get().getHistogram();
+        List<RatingDistributionEntryDto> distribution = new ArrayList<>(histogram.length);
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] > 0) {
+                distribution.add(new RatingDistributionEntryDto(i + 1, histogram[i]));
+            }
+        }
+        return distribution;
+    }
+
+    @Override
+    public int backfill(int batchSize) {
+        List<UUID> videoGameIds = gameRatingStatsRepository.findRatedGameIdsWithoutStats(PageRequest.of(0, batchSize));
+        if (videoGameIds.isEmpty()) {
+            return 0;
+        }
+        List<UUID> built = gameRatingStatsRepository.build(videoGameIds);
+        searchIndexService.reindex(VideoGame.class, built);
+        log.debug("Built rating stats for {} games", built.size());
+        return videoGameIds.size();
+    }
+}
@@ -2,6 +2,7 @@ package com.checkpoint.api.services.impl;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -31,17 +32,29 @@ import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.repositories.WishRepository;
+import com.checkpoint.api.services.CatalogTagIndexService;
 import com.checkpoint.api.services.GameRecommendationService;
 import com.checkpoint.api.services.GameTrendingService;
+import com.checkpoint.api.utils.BoundedCache;
 
 /**
- * v1 SQL-based tag-overlap implementation of {@link GameRecommendationService}.
+ * Tag-overlap implementation of {@link GameRecommendationService}.
  *
  * <p>Builds a per-user affinity profile from rates, library statuses, game-likes, and
  * wishes, then scores candidate games by the sum of shared genre / platform / company
  * weights plus a small average-rating tiebreaker and a recency boost. The profile also
  * remembers whether each source game was <em>loved</em> (rated/owned/liked) or only
  * <em>wishlisted</em>, so the per-recommendation reason can be phrased accordingly.</p>
+ *
+ * <p>Candidates are generated and scored over the whole catalog by the in-memory
+ * {@link CatalogTagIndexService}, minus the user's exclusion set (every game they already
+ * interacted with). Only the final page is loaded from the database. Until the index has
+ * been built, a capped SQL candidate pool is scored instead.</p>
+ *
+ * <p>Index-backed results are cached per user at full length and sliced to the requested
+ * size. {@link com.checkpoint.api.listeners.RecommendationCacheListener} evicts a user's
+ * entry when their rates, library, likes or wishlist change; the cache TTL bounds drift
+ * from everything else (catalog edits, other users' ratings).</p>
  */
 @Service
 @Transactional(readOnly = true)
@@ -69,6 +82,9 @@ public class GameRecommendationServiceImpl implements GameRecommendationService
     private final LikeRepository likeRepository;
     private final VideoGameRepository videoGameRepository;
     private final GameTrendingService gameTrendingService;
+    private final CatalogTagIndexService catalogTagIndex;
+    private final BoundedCache<UUID, List<RecommendedGameDto>> recommendationCache;
+    private final BoundedCache<UUID, Set<UUID>> exclusionCache;
 
     public GameRecommendationServiceImpl(UserRepository userRepository,
                                          RateRepository rateRepository,
@@ -76,7 +92,10 @@ public class GameRecommendationServiceImpl implements GameRecommendationService
                                          WishRepository wishRepository,
                                          LikeRepository likeRepository,
                                          VideoGameRepository videoGameRepository,
-                                         GameTrendingService gameTrendingService) {
+                                         GameTrendingService gameTrendingService,
+                                         CatalogTagIndexService catalogTagIndex,
+                                         BoundedCache<UUID, List<RecommendedGameDto>> recommendationCache,
+                                         BoundedCache<UUID, Set<UUID>> exclusionCache) {
         this.userRepository = userRepository;
         this.rateRepository = rateRepository;
         this.userGameRepository = userGameRepository;
@@ -84,6 +103,9 @@ public class GameRecommendationServiceImpl implements GameRecommendationService
         this.likeRepository = likeRepository;
         this.videoGameRepository = videoGameRepository;
         this.gameTrendingService = gameTrendingService;
+        this.catalogTagIndex = catalogTagIndex;
+        this.recommendationCache = recommendationCache;
+        this.exclusionCache = exclusionCache;
     }
 
     @Override
@@ -94,13 +116,46 @@ public class GameRecommendationServiceImpl implements GameRecommendationService
                 .orElseThrow(() -> new IllegalArgumentException("User not found with email: " + userEmail));
         UUID userId = user.getId();
 
+        List<RecommendedGameDto> cached = recommendationCache.get(userId);
+        if (cached != null) {
+            log.debug("Serving cached recommendations for user {} (size={})", userEmail, validatedSize);
+            return head(cached, validatedSize);
+        }
+
         log.debug("Building recommendations for user {} (size={})", userEmail, validatedSize);
 
+        long stamp = recommendationCache.stamp();
+        boolean indexReady = catalogTagIndex.isReady();
+        List<RecommendedGameDto> personalised = buildPersonalisedRecommendations(userId, userEmail, indexReady);
+        if (personalised.isEmpty()) {
+            return mapTrendingToRecommendations(gameTrendingService.getTrendingGames(validatedSize));
+        }
+
+        // The capped SQL fallback ranks a partial pool; only index-backed lists are kept.
+        if (indexReady) {
+            recommendationCache.putIfUnchanged(userId, personalised, stamp);
+        }
+        return head(personalised, validatedSize);
+    }
+
+    @Override
+    public void evictRecommendations(UUID userId) {
+        recommendationCache.invalidate(userId);
+        exclusionCache.invalidate(userId);
+    }
+
+    /**
+     * Computes the full {@link #MAX_SIZE} personalised list, so any requested size can be
+     * served from the cached result. Returns an empty list when the user has no usable
+     * affinity signal or no candidate matched, leaving the trending fallback to the caller.
+     */
+    private List<RecommendedGameDto> buildPersonalisedRecommendations(UUID userId, String userEmail,
+                                                                      boolean indexReady) {
         AffinityProfile profile = buildAffinityProfile(userId);
         Map<UUID, Double> affinityByGameId = profile.weightByGameId();
         if (affinityByGameId.isEmpty()) {
             log.debug("Cold-start path for user {} — no affinity signal, falling back to trending", userEmail);
-            return mapTrendingToRecommendations(gameTrendingService.getTrendingGames(validatedSize));
+            return List.of();
         }
 
         List<VideoGame> affinityGames = videoGameRepository.findAllByIdInWithRelationships(affinityByGameId.keySet());
@@ -126,32 +181,16 @@ public class GameRecommendationServiceImpl implements GameRecommendationService
 
         if (genreScores.isEmpty() && companyScores.isEmpty()) {
             log.debug("Profile resolved to no genre/company signal for user {} — falling back to trending", userEmail);
-            return mapTrendingToRecommendations(gameTrendingService.getTrendingGames(validatedSize));
+            return List.of();
         }
 
-        List<UUID> candidateIds = videoGameRepository.findCandidateIdsForRecommendation(
-                userId,
-                GameTagScorer.ensureNonEmpty(genreScores.keySet()),
-                GameTagScorer.ensureNonEmpty(companyScores.keySet()),
-                PageRequest.of(0, CANDIDATE_POOL_CAP));
+        List<ScoredCandidate> scored = indexReady
+                ? scoreCandidatesFromIndex(userId, genreScores, platformScores, companyScores, MAX_SIZE)
+                : scoreCandidatesFromDatabase(userId, genreScores, platformScores, companyScores);
 
-        if (candidateIds.isEmpty()) {
+        if (scored.isEmpty()) {
             log.debug("No candidate games for user {} — falling back to trending", userEmail);
-            return mapTrendingToRecommendations(gameTrendingService.getTrendingGames(validatedSize));
-        }
-
-        List<VideoGame> candidates = videoGameRepository.findAllByIdInWithRelationships(candidateIds);
-        LocalDate today = LocalDate.now();
-
-        List<ScoredCandidate> scored = new ArrayList<>(candidates.size());
-        for (VideoGame candidate : candidates) {
-            GameTagScorer.TagScore tagScore =
-                    GameTagScorer.score(candidate, genreScores, platformScores, companyScores, today);
-            if (tagScore.total() <= 0) {
-                continue;
-            }
-            scored.add(new ScoredCandidate(candidate, tagScore.total(),
-                    tagScore.genreContribution(), tagScore.companyContribution()));
+            return List.of();
         }
 
         Comparator<ScoredCandidate> byTitle =
@@ -160,9 +199,9 @@ public class GameRecommendationServiceImpl implements GameRecommendationService
                 .comparingDouble((ScoredCandidate s) -> s.score).reversed()
                 .thenComparing(byTitle));
 
-        List<RecommendedGameDto> top = new ArrayList<>(validatedSize);
+        List<RecommendedGameDto> top = new ArrayList<>(MAX_SIZE);
         for (ScoredCandidate s : scored) {
-            if (top.size() >= validatedSize) {
+            if (top.size() >= MAX_SIZE) {
                 break;
             }
             String reason = buildReason(s, affinityGames,
@@ -176,7 +215,91 @@ public class GameRecommendationServiceImpl implements GameRecommendationService
                     s.game.getAverageRating(),
                     reason));
         }
-        return top;
+        return List.copyOf(top);
+    }
+
+    /**
+     * Scores the whole catalog in memory, then loads the entities of the final page only
+     * (the reason builder needs tag names), keeping the index's ranking.
+     */
+    private List<ScoredCandidate> scoreCandidatesFromIndex(UUID userId,
+                                                           Map<UUID, Double> genreScores,
+                                                           Map<UUID, Double> platformScores,
+                                                           Map<UUID, Double> companyScores,
+                                                           int size) {
+        Set<UUID> excludedGameIds = findExcludedGameIds(userId);
+        List<CatalogTagIndexService.TagMatch> matches = catalogTagIndex.findTopMatches(
+                        genreScores, platformScores, companyScores, excludedGameIds, size)
+                .orElse(List.of());
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, VideoGame> gamesById = new HashMap<>();
+        for (VideoGame game : videoGameRepository.findAllByIdInWithRelationships(
+                matches.stream().map(CatalogTagIndexService.TagMatch::gameId).toList())) {
+            gamesById.put(game.getId(), game);
+        }
+
+        List<ScoredCandidate> scored = new ArrayList<>(matches.size());
+        for (CatalogTagIndexService.TagMatch match : matches) {
+            VideoGame game = gamesById.get(match.gameId());
+            if (game != null) {
+                scored.add(new ScoredCandidate(game, match.score(),
+                        match.genreContribution(), match.companyContribution()));
+            }
+        }
+        return scored;
+    }
+
+    /**
+     * Returns the games the user already interacted with, from the exclusion cache when
+     * possible; the cached set is dropped by the same events that evict the user's
+     * recommendations.
+     */
+    private Set<UUID> findExcludedGameIds(UUID userId) {
+        Set<UUID> cached = exclusionCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = exclusionCache.stamp();
+        Set<UUID> excluded = Collections.unmodifiableSet(
+                new HashSet<>(videoGameRepository.findInteractedGameIds(userId)));
+        exclusionCache.putIfUnchanged(userId, excluded, stamp);
+        return excluded;
+    }
+
+    /**
+     * Fallback used until the catalog tag index has been built: pre-filters a capped
+     * candidate pool in SQL and scores it with {@link GameTagScorer}.
+     */
+    private List<ScoredCandidate> scoreCandidatesFromDatabase(UUID userId,
+                                                              Map<UUID, Double> genreScores,
+                                                              Map<UUID, Double> platformScores,
+                                                              Map<UUID, Double> companyScores) {
+        List<UUID> candidateIds = videoGameRepository.findCandidateIdsForRecommendation(
+                userId,
+                GameTagScorer.ensureNonEmpty(genreScores.keySet()),
+                GameTagScorer.ensureNonEmpty(companyScores.keySet()),
+                PageRequest.of(0, CANDIDATE_POOL_CAP));
+
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<VideoGame> candidates = videoGameRepository.findAllByIdInWithRelationships(candidateIds);
+        LocalDate today = LocalDate.now();
+
+        List<ScoredCandidate> scored = new ArrayList<>(candidates.size());
+        for (VideoGame candidate : candidates) {
+            GameTagScorer.TagScore tagScore =
+                    GameTagScorer.score(candidate, genreScores, platformScores, companyScores, today);
+            if (tagScore.total() <= 0) {
+                continue;
+            }
+            scored.add(new ScoredCandidate(candidate, tagScore.total(),
+                    tagScore.genreContribution(), tagScore.companyContribution()));
+        }
+        return scored;
     }
 
     /**
@@ -336,6 +459,10 @@ public class GameRecommendationServiceImpl implements GameRecommendationService
         return new HashSet<>(ids);
     }
 
+    private static List<RecommendedGameDto> head(List<RecommendedGameDto> recommendations, int size) {
+        return recommendations.size() <= size ? recommendations : recommendations.subList(0, size);
+    }
+
     private static int clampSize(int size) {
         if (size <= 0) {
             return DEFAULT_SIZE;
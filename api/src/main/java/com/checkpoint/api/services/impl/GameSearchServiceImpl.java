@@ -1,19 +1,39 @@
 package com.checkpoint.api.services.impl;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.dsl.AggregationFinalStep;
+import org.hibernate.search.engine.search.aggregation.dsl.SearchAggregationFactory;
 import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.projection.dsl.ProjectionFinalStep;
+import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.sort.dsl.CompositeSortComponentsStep;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.checkpoint.api.dto.catalog.FacetCountDto;
 import com.checkpoint.api.dto.catalog.GameCardDto;
+import com.checkpoint.api.dto.catalog.GameCatalogFacetsDto;
+import com.checkpoint.api.dto.catalog.GameCatalogPageDto;
 import com.checkpoint.api.entities.VideoGame;
-import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.services.GameSearchService;
 
 import jakarta.persistence.EntityManager;
@@ -21,6 +41,16 @@ import jakarta.persistence.EntityManager;
 /**
  * Implementation of {@link GameSearchService} using Hibernate Search with Lucene backend.
  * Provides fuzzy full-text search on game title and description with optional filtering.
+ *
+ * <p>Cards are projected straight from the index (title, cover, release date, average
+ * rating and rating count are all stored fields on {@link VideoGame}), so a search never
+ * loads entities or runs per-hit count queries.</p>
+ *
+ * <p>The catalog listing is served from the same index: genre and platform names are
+ * filtered through lower-cased keyword fields, year and rating through numeric ranges,
+ * and facet counts are terms aggregations. A facet whose own filter is set is counted
+ * by a second, hit-less query without that filter, so its other values still show how
+ * many games selecting them would add.</p>
  */
 @Service
 @Transactional(readOnly = true)
@@ -30,13 +60,27 @@ public class GameSearchServiceImpl implements GameSearchService {
 
     private static final int MAX_RESULTS = 50;
     private static final int FUZZY_MAX_EDIT_DISTANCE = 2;
+    private static final int MAX_FACET_VALUES = 100;
+
+    private static final AggregationKey<Map<String, Long>> GENRES = AggregationKey.of("genres");
+    private static final AggregationKey<Map<String, Long>> PLATFORMS = AggregationKey.of("platforms");
+    private static final AggregationKey<Map<Integer, Long>> YEARS = AggregationKey.of("years");
+
+    /** A catalog facet, left out of the filters when counting its own values. */
+    private enum Facet { GENRE, PLATFORM, YEAR }
+
+    /** Catalog filters, with genre and platform names lower-cased. */
+    private record CatalogFilters(List<String> genres,
+                                  List<String> platforms,
+                                  Integer yearMin,
+                                  Integer yearMax,
+                                  Double ratingMin,
+                                  Double ratingMax) {}
 
     private final EntityManager entityManager;
-    private final VideoGameRepository videoGameRepository;
 
-    public GameSearchServiceImpl(EntityManager entityManager, VideoGameRepository videoGameRepository) {
+    public GameSearchServiceImpl(EntityManager entityManager) {
         this.entityManager = entityManager;
-        this.videoGameRepository = videoGameRepository;
     }
 
     @Override
@@ -45,7 +89,8 @@ public class GameSearchServiceImpl implements GameSearchService {
 
         SearchSession searchSession = Search.session(entityManager);
 
-        List<VideoGame> results = searchSession.search(VideoGame.class)
+        List<GameCardDto> results = searchSession.search(VideoGame.class)
+                .select((SearchProjectionFactory<?, ?> f) -> cardProjection(f))
                 .where((SearchPredicateFactory f) -> {
                     BooleanPredicateClausesStep<?> bool = f.bool()
                             .must(f.match()
@@ -71,23 +116,177 @@ public class GameSearchServiceImpl implements GameSearchService {
 
         log.debug("Search returned {} results", results.size());
 
-        return results.stream()
-                .map(this::mapToGameCardDto)
+        return results;
+    }
+
+    @Override
+    public GameCatalogPageDto browseCatalog(Pageable pageable,
+                                            List<String> genres,
+                                            List<String> platforms,
+                                            Integer yearMin,
+                                            Integer yearMax,
+                                            Double ratingMin,
+                                            Double ratingMax) {
+        CatalogFilters filters = new CatalogFilters(normalizeNames(genres), normalizeNames(platforms),
+                yearMin, yearMax, ratingMin, ratingMax);
+        log.debug("Browsing catalog - filters: {}, pageable: {}", filters, pageable);
+
+        SearchSession searchSession = Search.session(entityManager);
+
+        SearchResult<GameCardDto> result = searchSession.search(VideoGame.class)
+                .select((SearchProjectionFactory<?, ?> f) -> cardProjection(f))
+                .where((SearchPredicateFactory f) -> catalogPredicate(f, filters, null))
+                .sort((SearchSortFactory f) -> catalogSort(f, pageable.getSort()))
+                .aggregation(GENRES, GameSearchServiceImpl::genreFacet)
+                .aggregation(PLATFORMS, GameSearchServiceImpl::platformFacet)
+                .aggregation(YEARS, GameSearchServiceImpl::yearFacet)
+                .fetch((int) pageable.getOffset(), pageable.getPageSize());
+
+        Map<String, Long> genreCounts = filters.genres().isEmpty()
+                ? result.aggregation(GENRES)
+                : facetCounts(searchSession, filters, Facet.GENRE, GENRES, GameSearchServiceImpl::genreFacet);
+        Map<String, Long> platformCounts = filters.platforms().isEmpty()
+                ? result.aggregation(PLATFORMS)
+                : facetCounts(searchSession, filters, Facet.PLATFORM, PLATFORMS, GameSearchServiceImpl::platformFacet);
+        Map<Integer, Long> yearCounts = yearMin == null && yearMax == null
+                ? result.aggregation(YEARS)
+                : facetCounts(searchSession, filters, Facet.YEAR, YEARS, GameSearchServiceImpl::yearFacet);
+
+        long total = result.total().hitCount();
+        log.debug("Catalog returned {}/{} games", result.hits().size(), total);
+
+        return GameCatalogPageDto.from(
+                new PageImpl<>(result.hits(), pageable, total),
+                new GameCatalogFacetsDto(toFacetCounts(genreCounts), toFacetCounts(platformCounts),
+                        toFacetCounts(yearCounts)));
+    }
+
+    /**
+     * Counts one facet's values with every filter except its own; fetches no hits.
+     */
+    private <K> Map<K, Long> facetCounts(SearchSession searchSession,
+                                         CatalogFilters filters,
+                                         Facet facet,
+                                         AggregationKey<Map<K, Long>> key,
+                                         Function<SearchAggregationFactory, AggregationFinalStep<Map<K, Long>>> aggregation) {
+        return searchSession.search(VideoGame.class)
+                .where((SearchPredicateFactory f) -> catalogPredicate(f, filters, facet))
+                .aggregation(key, aggregation)
+                .fetch(0)
+                .aggregation(key);
+    }
+
+    /**
+     * Combines the catalog filters, leaving out the one of {@code excluded} (if any).
+     */
+    private static BooleanPredicateClausesStep<?> catalogPredicate(SearchPredicateFactory f,
+                                                                   CatalogFilters filters,
+                                                                   Facet excluded) {
+        BooleanPredicateClausesStep<?> bool = f.bool().must(f.matchAll());
+
+        if (excluded != Facet.GENRE && !filters.genres().isEmpty()) {
+            bool.filter(f.terms().field("genres.nameNormalized").matchingAny(filters.genres()));
+        }
+
+        if (excluded != Facet.PLATFORM && !filters.platforms().isEmpty()) {
+            bool.filter(f.terms().field("platforms.nameNormalized").matchingAny(filters.platforms()));
+        }
+
+        if (excluded != Facet.YEAR && (filters.yearMin() != null || filters.yearMax() != null)) {
+            bool.filter(f.range().field("releaseYear").between(filters.yearMin(), filters.yearMax()));
+        }
+
+        if (filters.ratingMin() != null || filters.ratingMax() != null) {
+            bool.filter(f.range().field("averageRating").between(filters.ratingMin(), filters.ratingMax()));
+        }
+
+        return bool;
+    }
+
+    /**
+     * Maps the requested sort to index fields. Games without a release date or rating
+     * sort last in either direction.
+     */
+    private static SortFinalStep catalogSort(SearchSortFactory f, Sort sort) {
+        if (sort.isUnsorted()) {
+            return f.indexOrder();
+        }
+
+        CompositeSortComponentsStep<?> composite = f.composite();
+        for (Sort.Order order : sort) {
+            String field = switch (order.getProperty()) {
+                case "title" -> "titleSort";
+                case "averageRating" -> "averageRating";
+                case "createdAt" -> "createdAt";
+                default -> "releaseDate";
+            };
+            composite.add(f.field(field)
+                    .order(order.isAscending() ? SortOrder.ASC : SortOrder.DESC)
+                    .missing().last());
+        }
+        return composite;
+    }
+
+    private static AggregationFinalStep<Map<String, Long>> genreFacet(SearchAggregationFactory f) {
+        return f.terms().field("genres.name", String.class).maxTermCount(MAX_FACET_VALUES);
+    }
+
+    private static AggregationFinalStep<Map<String, Long>> platformFacet(SearchAggregationFactory f) {
+        return f.terms().field("platforms.name", String.class).maxTermCount(MAX_FACET_VALUES);
+    }
+
+    private static AggregationFinalStep<Map<Integer, Long>> yearFacet(SearchAggregationFactory f) {
+        return f.terms().field("releaseYear", Integer.class).orderByTermDescending().maxTermCount(MAX_FACET_VALUES);
+    }
+
+    private static List<FacetCountDto> toFacetCounts(Map<?, Long> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> new FacetCountDto(String.valueOf(entry.getKey()), entry.getValue()))
                 .toList();
     }
 
     /**
-     * Maps a VideoGame entity to a GameCardDto.
+     * Normalizes a list of filter names: drops null/blank entries and lower-cases
+     * each value to match the {@code nameNormalized} keyword fields.
+     *
+     * @param names the raw filter values (may be null)
+     * @return a non-null list of trimmed, lower-cased names (possibly empty)
+     */
+    private static List<String> normalizeNames(List<String> names) {
+        if (names == null) {
+            return List.of();
+        }
+        return names.stream()
+                .filter(n -> n != null && !n.isBlank())
+                .map(n -> n.trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    /**
+     * Projects the fields of a {@link GameCardDto}.
+     */
+    private static ProjectionFinalStep<GameCardDto> cardProjection(SearchProjectionFactory<?, ?> f) {
+        return f.composite()
+                .from(f.id(UUID.class),
+                        f.field("title", String.class),
+                        f.field("coverUrl", String.class),
+                        f.field("releaseDate", LocalDate.class),
+                        f.field("averageRating", Double.class),
+                        f.field("ratingCount", Long.class))
+                .asArray(GameSearchServiceImpl::toGameCardDto);
+    }
+
+    /**
+     * Builds a card from the projected fields, in the order declared in {@link #cardProjection}.
      */
-    private GameCardDto mapToGameCardDto(VideoGame game) {
-        Long ratingCount = videoGameRepository.countRatings(game.getId());
+    private static GameCardDto toGameCardDto(Object[] fields) {
         return new GameCardDto(
-                game.getId(),
-                game.getTitle(),
-                game.getCoverUrl(),
-                game.getReleaseDate(),
-                game.getAverageRating(),
-                ratingCount
+                (UUID) fields[0],
+                (String) fields[1],
+                (String) fields[2],
+                (LocalDate) fields[3],
+                (Double) fields[4],
+                (Long) fields[5]
         );
     }
 }
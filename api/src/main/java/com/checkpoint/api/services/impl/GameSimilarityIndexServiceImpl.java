@@ -0,0 +1,534 @@
+package com.checkpoint.api.services.impl;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.services.GameSimilarityIndexService;
+import com.checkpoint.api.services.impl.CatalogGameLoader.GameTags;
+import com.checkpoint.api.utils.RebuildTracker;
+
+/**
+ * In-memory implementation of {@link GameSimilarityIndexService}.
+ *
+ * <p>Every game gets an integer slot; genres, platforms and companies are interned to
+ * integer ids too. Genre and company postings are {@link BitSet}s over game slots, so
+ * scoring a seed only visits games that share at least one genre or company with it —
+ * the same pre-filter the live query applies. Each game keeps its top
+ * {@link #NEIGHBOURS_PER_GAME} neighbours as parallel primitive arrays.</p>
+ *
+ * <p>Scores mirror {@link GameTagScorer} with the seed's tags weighted 1.0: shared genres,
+ * companies and platforms times their weights, plus the candidate's rating tiebreaker and
+ * recency boost. DLC can be a seed but never a neighbour.</p>
+ *
+ * <p>All mutations and lookups happen under a single monitor. Full rebuilds compute into
+ * a fresh structure outside the monitor and only swap it in at the end; games refreshed
+ * while a rebuild was loading are re-applied after the swap.</p>
+ */
+@Service
+public class GameSimilarityIndexServiceImpl implements GameSimilarityIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(GameSimilarityIndexServiceImpl.class);
+
+    /** Matches the maximum page size of the similar-games endpoint. */
+    static final int NEIGHBOURS_PER_GAME = 30;
+
+    private static final double SEED_TAG_WEIGHT = 1.0;
+
+    private final CatalogGameLoader catalogGameLoader;
+    private final Clock clock;
+
+    private final Object lock = new Object();
+    private final RebuildTracker<UUID> rebuildTracker = new RebuildTracker<>();
+
+    /** Guarded by {@link #lock}; {@code null} until the first rebuild completes. */
+    private Index index;
+
+    public GameSimilarityIndexServiceImpl(CatalogGameLoader catalogGameLoader, Clock clock) {
+        this.catalogGameLoader = catalogGameLoader;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<List<UUID>> findNeighbourIds(UUID gameId, int limit) {
+        synchronized (lock) {
+            if (index == null) {
+                return Optional.empty();
+            }
+            Integer slot = index.slots.get(gameId);
+            if (slot == null) {
+                return Optional.empty();
+            }
+            Profile profile = index.profiles.get(slot);
+            int count = Math.min(limit, profile.neighbours.length);
+            List<UUID> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(index.profiles.get(profile.neighbours[i]).id);
+            }
+            return Optional.of(ids);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!rebuildTracker.tryStart()) {
+            log.debug("Similarity index rebuild already running — skipping");
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            Index fresh = loadIndex(LocalDate.now(clock));
+            Scratch scratch = new Scratch(fresh.profiles.size());
+            for (int slot = 0; slot < fresh.profiles.size(); slot++) {
+                computeNeighbours(fresh, slot, scratch);
+            }
+
+            Set<UUID> changed;
+            synchronized (lock) {
+                index = fresh;
+                changed = rebuildTracker.drainChanges();
+            }
+            log.info("Built similarity index for {} games in {} ms",
+                    fresh.slots.size(), System.currentTimeMillis() - started);
+
+            for (UUID gameId : changed) {
+                refreshGame(gameId);
+            }
+        } finally {
+            rebuildTracker.finish();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void refreshGame(UUID gameId) {
+        Optional<GameTags> game = catalogGameLoader.loadGame(gameId);
+        if (game.isEmpty()) {
+            removeGame(gameId);
+            return;
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        synchronized (lock) {
+            rebuildTracker.recordChange(gameId);
+            if (index == null) {
+                return;
+            }
+
+            Set<Integer> affected = new HashSet<>();
+            Integer slot = index.slots.get(gameId);
+            if (slot != null) {
+                Profile previous = index.profiles.get(slot);
+                collectTagNeighbours(index, previous, affected);
+                unindex(index, slot, previous);
+            } else {
+                slot = index.addSlot(gameId);
+            }
+
+            Profile profile = toProfile(index, game.get(), today);
+            index.profiles.set(slot, profile);
+            indexTags(index, slot, profile);
+            collectTagNeighbours(index, profile, affected);
+            affected.remove(slot);
+
+            Scratch scratch = new Scratch(index.profiles.size());
+            computeNeighbours(index, slot, scratch);
+            for (int seed : affected) {
+                reconcile(index, seed, slot, scratch);
+            }
+            log.debug("Refreshed similarity neighbours of game {} ({} affected seeds)", gameId, affected.size());
+        }
+    }
+
+    @Override
+    public void removeGame(UUID gameId) {
+        synchronized (lock) {
+            rebuildTracker.recordChange(gameId);
+            if (index == null) {
+                return;
+            }
+            Integer slot = index.slots.remove(gameId);
+            if (slot == null) {
+                return;
+            }
+
+            Profile previous = index.profiles.get(slot);
+            Set<Integer> affected = new HashSet<>();
+            collectTagNeighbours(index, previous, affected);
+            unindex(index, slot, previous);
+            index.profiles.set(slot, null);
+
+            Scratch scratch = new Scratch(index.profiles.size());
+            for (int seed : affected) {
+                Profile seedProfile = index.profiles.get(seed);
+                if (seedProfile != null && indexOf(seedProfile.neighbours, slot) >= 0) {
+                    computeNeighbours(index, seed, scratch);
+                }
+            }
+            log.debug("Removed game {} from the similarity index", gameId);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        synchronized (lock) {
+            return index != null;
+        }
+    }
+
+    // ---- building -------------------------------------------------------------
+
+    private Index loadIndex(LocalDate today) {
+        Index fresh = new Index();
+        catalogGameLoader.forEachGame(game -> {
+            int slot = fresh.addSlot(game.id());
+            Profile profile = toProfile(fresh, game, today);
+            fresh.profiles.set(slot, profile);
+            indexTags(fresh, slot, profile);
+        });
+        return fresh;
+    }
+
+    private static Profile toProfile(Index index, GameTags game, LocalDate today) {
+        return new Profile(
+                game.id(),
+                game.title(),
+                internAll(game.genreIds(), index.genreIds, index.genrePostings),
+                internAll(game.platformIds(), index.platformIds, null),
+                internAll(game.companyIds(), index.companyIds, index.companyPostings),
+                baseScore(game.averageRating(), game.releaseDate(), today),
+                game.dlc());
+    }
+
+    /**
+     * Maps tag UUIDs to dense integer ids (allocating a posting list for new tags when
+     * {@code postings} is given) and returns them sorted for merge-based intersection.
+     */
+    private static int[] internAll(List<UUID> tagIds, Map<UUID, Integer> dictionary, List<BitSet> postings) {
+        int[] interned = new int[tagIds.size()];
+        for (int i = 0; i < interned.length; i++) {
+            interned[i] = dictionary.computeIfAbsent(tagIds.get(i), k -> {
+                if (postings != null) {
+                    postings.add(new BitSet());
+                }
+                return dictionary.size();
+            });
+        }
+        Arrays.sort(interned);
+        return interned;
+    }
+
+    private static double baseScore(Double averageRating, LocalDate releaseDate, LocalDate today) {
+        double rating = averageRating != null ? averageRating : 0.0;
+        double recency = GameTagScorer.isRecent(releaseDate, today) ? GameTagScorer.RECENCY_BOOST : 0.0;
+        return rating * GameTagScorer.AVERAGE_RATING_TIEBREAKER_WEIGHT + recency;
+    }
+
+    private static void indexTags(Index index, int slot, Profile profile) {
+        for (int genre : profile.genres) {
+            index.genrePostings.get(genre).set(slot);
+        }
+        for (int company : profile.companies) {
+            index.companyPostings.get(company).set(slot);
+        }
+    }
+
+    private static void unindex(Index index, int slot, Profile profile) {
+        for (int genre : profile.genres) {
+            index.genrePostings.get(genre).clear(slot);
+        }
+        for (int company : profile.companies) {
+            index.companyPostings.get(company).clear(slot);
+        }
+    }
+
+    /** Adds every game sharing a genre or company with {@code profile} to {@code out}. */
+    private static void collectTagNeighbours(Index index, Profile profile, Set<Integer> out) {
+        for (int genre : profile.genres) {
+            index.genrePostings.get(genre).stream().forEach(out::add);
+        }
+        for (int company : profile.companies) {
+            index.companyPostings.get(company).stream().forEach(out::add);
+        }
+    }
+
+    // ---- scoring --------------------------------------------------------------
+
+    /**
+     * Recomputes the full neighbour list of {@code seed} by accumulating genre and
+     * company overlap over the postings, then adding the platform overlap and the
+     * candidate's base score for every touched game.
+     */
+    private static void computeNeighbours(Index index, int seed, Scratch scratch) {
+        Profile profile = index.profiles.get(seed);
+        if (profile == null) {
+            return;
+        }
+        scratch.ensureCapacity(index.profiles.size());
+
+        for (int genre : profile.genres) {
+            accumulate(index.genrePostings.get(genre), seed,
+                    SEED_TAG_WEIGHT * GameTagScorer.GENRE_SCORE_WEIGHT, scratch);
+        }
+        for (int company : profile.companies) {
+            accumulate(index.companyPostings.get(company), seed,
+                    SEED_TAG_WEIGHT * GameTagScorer.COMPANY_SCORE_WEIGHT, scratch);
+        }
+
+        TopNeighbours top = new TopNeighbours(index);
+        for (int i = 0; i < scratch.touchedCount; i++) {
+            int candidate = scratch.touched[i];
+            double overlap = scratch.accumulated[candidate];
+            scratch.accumulated[candidate] = 0.0;
+
+            Profile candidateProfile = index.profiles.get(candidate);
+            if (candidateProfile == null || candidateProfile.dlc) {
+                continue;
+            }
+            top.offer(candidate, overlap
+                    + platformOverlap(profile, candidateProfile)
+                    + candidateProfile.baseScore);
+        }
+        scratch.touchedCount = 0;
+
+        profile.neighbours = top.ids();
+        profile.scores = top.scores();
+    }
+
+    private static void accumulate(BitSet posting, int seed, double weight, Scratch scratch) {
+        for (int candidate = posting.nextSetBit(0); candidate >= 0; candidate = posting.nextSetBit(candidate + 1)) {
+            if (candidate == seed) {
+                continue;
+            }
+            if (scratch.accumulated[candidate] == 0.0) {
+                scratch.touched[scratch.touchedCount++] = candidate;
+            }
+            scratch.accumulated[candidate] += weight;
+        }
+    }
+
+    /**
+     * Scores a single seed/candidate pair, or returns a negative value when the
+     * candidate does not qualify (DLC, or no shared genre or company).
+     */
+    private static double pairScore(Profile seed, Profile candidate) {
+        if (candidate.dlc) {
+            return -1.0;
+        }
+        double overlap = intersectionSize(seed.genres, candidate.genres)
+                * SEED_TAG_WEIGHT * GameTagScorer.GENRE_SCORE_WEIGHT
+                + intersectionSize(seed.companies, candidate.companies)
+                * SEED_TAG_WEIGHT * GameTagScorer.COMPANY_SCORE_WEIGHT;
+        if (overlap <= 0.0) {
+            return -1.0;
+        }
+        return overlap + platformOverlap(seed, candidate) + candidate.baseScore;
+    }
+
+    private static double platformOverlap(Profile seed, Profile candidate) {
+        return intersectionSize(seed.platforms, candidate.platforms)
+                * SEED_TAG_WEIGHT * GameTagScorer.PLATFORM_SCORE_WEIGHT;
+    }
+
+    private static int intersectionSize(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int shared = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Brings the neighbour list of {@code seed} up to date after {@code changed} was
+     * modified, falling back to a full recompute only when the list may now be missing
+     * a better candidate it never kept.
+     */
+    private static void reconcile(Index index, int seed, int changed, Scratch scratch) {
+        Profile seedProfile = index.profiles.get(seed);
+        if (seedProfile == null) {
+            return;
+        }
+        double score = pairScore(seedProfile, index.profiles.get(changed));
+        int position = indexOf(seedProfile.neighbours, changed);
+        boolean full = seedProfile.neighbours.length >= NEIGHBOURS_PER_GAME;
+
+        if (position >= 0) {
+            if (score < 0.0 || (full && score < seedProfile.scores[position])) {
+                computeNeighbours(index, seed, scratch);
+                return;
+            }
+            TopNeighbours top = new TopNeighbours(index);
+            for (int i = 0; i < seedProfile.neighbours.length; i++) {
+                if (i != position) {
+                    top.offer(seedProfile.neighbours[i], seedProfile.scores[i]);
+                }
+            }
+            top.offer(changed, score);
+            seedProfile.neighbours = top.ids();
+            seedProfile.scores = top.scores();
+        } else if (score >= 0.0) {
+            TopNeighbours top = new TopNeighbours(index);
+            for (int i = 0; i < seedProfile.neighbours.length; i++) {
+                top.offer(seedProfile.neighbours[i], seedProfile.scores[i]);
+            }
+            top.offer(changed, score);
+            seedProfile.neighbours = top.ids();
+            seedProfile.scores = top.scores();
+        }
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ---- structures -----------------------------------------------------------
+
+    private static final class Index {
+
+        private final Map<UUID, Integer> slots = new HashMap<>();
+        private final List<Profile> profiles = new ArrayList<>();
+
+        private final Map<UUID, Integer> genreIds = new HashMap<>();
+        private final Map<UUID, Integer> platformIds = new HashMap<>();
+        private final Map<UUID, Integer> companyIds = new HashMap<>();
+
+        private final List<BitSet> genrePostings = new ArrayList<>();
+        private final List<BitSet> companyPostings = new ArrayList<>();
+
+        private int addSlot(UUID gameId) {
+            int slot = profiles.size();
+            profiles.add(null);
+            slots.put(gameId, slot);
+            return slot;
+        }
+    }
+
+    private static final class Profile {
+
+        private static final int[] NO_NEIGHBOURS = new int[0];
+        private static final double[] NO_SCORES = new double[0];
+
+        private final UUID id;
+        private final String title;
+        private final int[] genres;
+        private final int[] platforms;
+        private final int[] companies;
+        private final double baseScore;
+        private final boolean dlc;
+
+        private int[] neighbours = NO_NEIGHBOURS;
+        private double[] scores = NO_SCORES;
+
+        private Profile(UUID id, String title, int[] genres, int[] platforms, int[] companies,
+                        double baseScore, boolean dlc) {
+            this.id = id;
+            this.title = title;
+            this.genres = genres;
+            this.platforms = platforms;
+            this.companies = companies;
+            this.baseScore = baseScore;
+            this.dlc = dlc;
+        }
+    }
+
+    /** Reusable accumulator so a rebuild does not allocate per seed. */
+    private static final class Scratch {
+
+        private double[] accumulated;
+        private int[] touched;
+        private int touchedCount;
+
+        private Scratch(int capacity) {
+            this.accumulated = new double[capacity];
+            this.touched = new int[capacity];
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (accumulated.length < capacity) {
+                accumulated = Arrays.copyOf(accumulated, capacity);
+                touched = Arrays.copyOf(touched, capacity);
+            }
+        }
+    }
+
+    /**
+     * Bounded ranked list: score descending, then title ascending (nulls last), the
+     * same ordering the live scorer uses.
+     */
+    private static final class TopNeighbours {
+
+        private final Index index;
+        private final int[] ids = new int[NEIGHBOURS_PER_GAME];
+        private final double[] scores = new double[NEIGHBOURS_PER_GAME];
+        private int size;
+
+        private TopNeighbours(Index index) {
+            this.index = index;
+        }
+
+        private void offer(int candidate, double score) {
+            if (size == NEIGHBOURS_PER_GAME && !ranksBefore(candidate, score, ids[size - 1], scores[size - 1])) {
+                return;
+            }
+            int position = size == NEIGHBOURS_PER_GAME ? size - 1 : size++;
+            while (position > 0 && ranksBefore(candidate, score, ids[position - 1], scores[position - 1])) {
+                ids[position] = ids[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            ids[position] = candidate;
+            scores[position] = score;
+        }
+
+        private boolean ranksBefore(int a, double scoreA, int b, double scoreB) {
+            if (scoreA != scoreB) {
+                return scoreA > scoreB;
+            }
+            String titleA = index.profiles.get(a).title;
+            String titleB = index.profiles.get(b).title;
+            if (titleA == null) {
+                return false;
+            }
+            return titleB == null || titleA.compareTo(titleB) < 0;
+        }
+
+        private int[] ids() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private double[] scores() {
+            return Arrays.copyOf(scores, size);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -23,15 +24,19 @@ import com.checkpoint.api.entities.Platform;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.GameSimilarityIndexService;
 import com.checkpoint.api.services.GameSimilarityService;
 
 /**
- * SQL-based item-to-item implementation of {@link GameSimilarityService}.
+ * Item-to-item implementation of {@link GameSimilarityService}.
  *
- * <p>Seeds {@link GameTagScorer} from a single game's genres / platforms / companies,
- * pre-filters the catalog to games sharing at least one genre or company, scores the
- * pool by tag overlap (plus the rating tiebreaker and recency boost), and returns the
- * top matches.</p>
+ * <p>Normally answered from the precomputed {@link GameSimilarityIndexService}: one
+ * neighbour lookup followed by a single {@code findGameCardsByIdIn} projection query.
+ * Until the index has been built (or for a game it does not know yet) it falls back to
+ * live scoring: seeds {@link GameTagScorer} from the game's genres / platforms /
+ * companies, pre-filters the catalog to games sharing at least one genre or company,
+ * scores the pool by tag overlap (plus the rating tiebreaker and recency boost), and
+ * returns the top matches.</p>
  */
 @Service
 @Transactional(readOnly = true)
@@ -46,15 +51,28 @@ public class GameSimilarityServiceImpl implements GameSimilarityService {
     private static final double SEED_TAG_WEIGHT = 1.0;
 
     private final VideoGameRepository videoGameRepository;
+    private final GameSimilarityIndexService similarityIndex;
 
-    public GameSimilarityServiceImpl(VideoGameRepository videoGameRepository) {
+    public GameSimilarityServiceImpl(VideoGameRepository videoGameRepository,
+                                     GameSimilarityIndexService similarityIndex) {
         this.videoGameRepository = videoGameRepository;
+        this.similarityIndex = similarityIndex;
     }
 
     @Override
     public List<GameCardDto> getSimilarGames(UUID gameId, int size) {
         int validatedSize = clampSize(size);
 
+        Optional<List<UUID>> indexed = similarityIndex.findNeighbourIds(gameId, validatedSize);
+        if (indexed.isPresent()) {
+            return loadCardsInOrder(indexed.get());
+        }
+
+        log.debug("Similarity index has no entry for game {} — scoring live", gameId);
+        return scoreLive(gameId, validatedSize);
+    }
+
+    private List<GameCardDto> scoreLive(UUID gameId, int validatedSize) {
         VideoGame seed = videoGameRepository.findByIdWithRelationships(gameId)
                 .orElseThrow(() -> new GameNotFoundException(gameId));
 
@@ -102,6 +120,17 @@ public class GameSimilarityServiceImpl implements GameSimilarityService {
             }
             topIds.add(s.id());
         }
+        return loadCardsInOrder(topIds);
+    }
+
+    /**
+     * Loads the card projections of the given games and restores the ranked order,
+     * which SQL {@code IN} does not preserve.
+     */
+    private List<GameCardDto> loadCardsInOrder(List<UUID> topIds) {
+        if (topIds.isEmpty()) {
+            return List.of();
+        }
 
         Map<UUID, GameCardDto> cardsById = videoGameRepository.findGameCardsByIdIn(topIds).stream()
                 .collect(Collectors.toMap(GameCardDto::id, Function.identity()));
@@ -7,7 +7,6 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -34,13 +33,13 @@ import com.checkpoint.api.repositories.UserGamePlayRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.repositories.WishRepository;
+import com.checkpoint.api.services.FollowGraphService;
 import com.checkpoint.api.services.GameSocialService;
 
 /**
  * Default implementation of {@link GameSocialService}. Reads the viewer's
- * following set directly off the {@link User} entity (the {@code user_follows}
- * join table) and joins per-game plays/rates/wishlists/backlogs with one query
- * each to avoid N+1.
+ * following set from the in-memory {@link FollowGraphService} and joins per-game
+ * plays/rates/wishlists/backlogs with one query each to avoid N+1.
  */
 @Service
 @Transactional(readOnly = true)
@@ -54,19 +53,22 @@ public class GameSocialServiceImpl implements GameSocialService {
     private final RateRepository rateRepository;
     private final WishRepository wishRepository;
     private final BacklogRepository backlogRepository;
+    private final FollowGraphService followGraph;
 
     public GameSocialServiceImpl(UserRepository userRepository,
                                  VideoGameRepository videoGameRepository,
                                  UserGamePlayRepository userGamePlayRepository,
                                  RateRepository rateRepository,
                                  WishRepository wishRepository,
-                                 BacklogRepository backlogRepository) {
+                                 BacklogRepository backlogRepository,
+                                 FollowGraphService followGraph) {
         this.userRepository = userRepository;
         this.videoGameRepository = videoGameRepository;
         this.userGamePlayRepository = userGamePlayRepository;
         this.rateRepository = rateRepository;
         this.wishRepository = wishRepository;
         this.backlogRepository = backlogRepository;
+        this.followGraph = followGraph;
     }
 
     /**
@@ -220,10 +222,6 @@ public class GameSocialServiceImpl implements GameSocialService {
             log.debug("Unknown viewer email '{}' — returning empty friend payload", viewerEmail);
             return Collections.emptyList();
         }
-        Set<User> following = viewer.getFollowing();
-        if (following == null || following.isEmpty()) {
-            return Collections.emptyList();
-        }
-        return following.stream().map(User::getId).toList();
+        return followGraph.getFollowingIds(viewer.getId());
     }
 }
@@ -1,26 +1,30 @@
 package com.checkpoint.api.services.impl;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.checkpoint.api.entities.User;
-import com.checkpoint.api.entities.XpGrant;
 import com.checkpoint.api.enums.XpEventType;
+import com.checkpoint.api.events.LeaderboardStandingChangedEvent;
 import com.checkpoint.api.events.UserLeveledUpEvent;
-import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.XpGrantRepository;
+import com.checkpoint.api.repositories.XpGrantRepositoryCustom.XpAward;
+import com.checkpoint.api.repositories.XpGrantRepositoryCustom.XpCredit;
 import com.checkpoint.api.services.GamificationService;
 
 /**
  * Implementation of {@link GamificationService}.
  * Manages XP awards and automatic level progression.
+ *
+ * <p>XP and level are updated by the database in the same statement that records the
+ * grant (see {@link com.checkpoint.api.repositories.XpGrantRepositoryCustom}), so
+ * concurrent grants to one user cannot lose an update.</p>
  */
 @Service
 @Transactional
@@ -28,21 +32,17 @@ public class GamificationServiceImpl implements GamificationService {
 
     private static final Logger log = LoggerFactory.getLogger(GamificationServiceImpl.class);
 
-    private final UserRepository userRepository;
     private final XpGrantRepository xpGrantRepository;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructs a new GamificationServiceImpl.
      *
-     * @param userRepository    the user repository
-     * @param xpGrantRepository the XP grant audit repository
-     * @param eventPublisher    Spring's application event publisher, used to broadcast level-ups
+     * @param xpGrantRepository the XP grant ledger repository
+     * @param eventPublisher    Spring's application event publisher, used to broadcast level-ups and leaderboard updates
      */
-    public GamificationServiceImpl(UserRepository userRepository,
-                                   XpGrantRepository xpGrantRepository,
+    public GamificationServiceImpl(XpGrantRepository xpGrantRepository,
                                    ApplicationEventPublisher eventPublisher) {
-        this.userRepository = userRepository;
         this.xpGrantRepository = xpGrantRepository;
         this.eventPublisher = eventPublisher;
     }
@@ -52,7 +52,9 @@ public class GamificationServiceImpl implements GamificationService {
      */
     @Override
     public void addXp(UUID userId, int xpAmount) {
-        applyXp(userId, xpAmount);
+        XpCredit credit = xpGrantRepository.credit(userId, xpAmount)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
+        onCredited(credit, xpAmount);
     }
 
     /**
@@ -60,53 +62,51 @@ public class GamificationServiceImpl implements GamificationService {
      */
     @Override
     public void awardXp(UUID userId, int xpAmount, XpEventType eventType, UUID targetId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
-
-        try {
-            xpGrantRepository.saveAndFlush(new XpGrant(user, eventType, targetId, xpAmount));
-        } catch (DataIntegrityViolationException ex) {
-            // Unique constraint hit (user_id, event_type, target_id) -> already granted, skip.
+        List<XpCredit> credits = xpGrantRepository.grantAll(List.of(new XpAward(userId, xpAmount, eventType, targetId)));
+        if (credits.isEmpty()) {
             log.debug("Skipping duplicate XP grant: user={}, type={}, target={}", userId, eventType, targetId);
             return;
         }
-
-        applyXp(userId, xpAmount);
+        onCredited(credits.get(0), xpAmount);
     }
 
     /**
-     * Applies a flat XP delta to a user and handles level-up. Shared by both
-     * the dedup-aware and legacy code paths.
-     *
-     * @param userId   the user to credit
-     * @param xpAmount the XP delta
+     * {@inheritDoc}
      */
-    private void applyXp(UUID userId, int xpAmount) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
-
-        Integer currentXp = user.getXpPoint();
-        Integer newXp = currentXp + xpAmount;
-        user.setXpPoint(newXp);
-
-        Integer currentLevel = user.getLevel();
-        Integer newLevel = currentLevel;
-
-        while (newXp >= newLevel * 1000) {
-            newLevel++;
+    @Override
+    public void awardXp(List<XpAward> awards) {
+        if (awards.isEmpty()) {
+            return;
+        }
+        List<XpCredit> credits = xpGrantRepository.grantAll(awards);
+        log.debug("Applied {} XP grants to {} users ({} skipped as duplicates)",
+                awards.size(), credits.size(), awards.size() - credits.size());
+        for (XpCredit credit : credits) {
+            onCredited(credit, null);
         }
+    }
 
-        boolean leveledUp = newLevel > currentLevel;
-        if (leveledUp) {
-            user.setLevel(newLevel);
-            log.info("User {} leveled up from {} to {} (XP: {})", userId, currentLevel, newLevel, newXp);
+    /**
+     * Logs the credit, reports the new totals to the leaderboard and broadcasts a
+     * level-up when a threshold was crossed.
+     *
+     * @param credit   the credit returned by the ledger
+     * @param xpAmount the XP delta, when a single grant was applied
+     */
+    private void onCredited(XpCredit credit, Integer xpAmount) {
+        if (xpAmount != null) {
+            log.info("Awarded {} XP to user {} (total: {})", xpAmount, credit.userId(), credit.xpPoint());
+        } else {
+            log.info("Credited XP to user {} (total: {})", credit.userId(), credit.xpPoint());
         }
 
-        userRepository.save(user);
-        log.info("Awarded {} XP to user {} (total: {})", xpAmount, userId, newXp);
+        eventPublisher.publishEvent(new LeaderboardStandingChangedEvent(
+                credit.userId(), credit.xpPoint(), credit.level()));
 
-        if (leveledUp) {
-            eventPublisher.publishEvent(new UserLeveledUpEvent(userId, newLevel));
+        if (credit.leveledUp()) {
+            log.info("User {} leveled up from {} to {} (XP: {})",
+                    credit.userId(), credit.previousLevel(), credit.level(), credit.xpPoint());
+            eventPublisher.publishEvent(new UserLeveledUpEvent(credit.userId(), credit.level()));
         }
     }
 }
@@ -0,0 +1,255 @@
+package com.checkpoint.api.services.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.LeaderboardIndexService;
+import com.checkpoint.api.services.LeaderboardSortBy;
+import com.checkpoint.api.utils.RankedSkipList;
+
+/**
+ * In-memory implementation of {@link LeaderboardIndexService}.
+ *
+ * <p>Each ranking is a {@link RankedSkipList} of {@link Standing}s, so top-N, a user's
+ * rank and the users around them all cost {@code O(log n)} plus the size of the answer.
+ * A user map keeps the standing currently indexed for each user, which is what has to
+ * be removed from both lists before the new one is inserted.</p>
+ *
+ * <p>Queries run under the read lock; updates take the write lock. Full rebuilds are
+ * loaded outside the lock and swapped in, and users updated while a rebuild was loading
+ * are re-read afterwards.</p>
+ */
+@Service
+public class LeaderboardIndexServiceImpl implements LeaderboardIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardIndexServiceImpl.class);
+
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    /** Guarded by {@link #lock}; {@code null} until the first rebuild completes. */
+    private Rankings rankings;
+
+    /** Guarded by {@link #lock}; non-null only while a rebuild is in progress. */
+    private Set<UUID> changedDuringRebuild;
+
+    public LeaderboardIndexServiceImpl(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Optional<List<Standing>> top(LeaderboardSortBy sortBy, int limit) {
+        lock.readLock().lock();
+        try {
+            if (rankings == null) {
+                return Optional.empty();
+            }
+            return Optional.of(rankings.list(sortBy).range(1, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Neighbourhood> around(UUID userId, LeaderboardSortBy sortBy, int radius) {
+        lock.readLock().lock();
+        try {
+            if (rankings == null) {
+                return Optional.empty();
+            }
+            Standing standing = rankings.byUser.get(userId);
+            if (standing == null) {
+                return Optional.empty();
+            }
+            RankedSkipList<Standing> list = rankings.list(sortBy);
+            int rank = list.rankOf(standing);
+            int firstRank = Math.max(1, rank - radius);
+            List<Standing> window = list.range(firstRank, rank - firstRank + radius + 1);
+            return Optional.of(new Neighbourhood(rank, list.size(), firstRank, window));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<List<Standing>> standingsOf(List<UUID> userIds) {
+        lock.readLock().lock();
+        try {
+            if (rankings == null) {
+                return Optional.empty();
+            }
+            List<Standing> standings = new ArrayList<>(userIds.size());
+            for (UUID userId : userIds) {
+                Standing standing = rankings.byUser.get(userId);
+                if (standing != null) {
+                    standings.add(standing);
+                }
+            }
+            return Optional.of(standings);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateScore(UUID userId, int xpPoint, int level) {
+        boolean unknown;
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(userId);
+            }
+            if (rankings == null) {
+                return;
+            }
+            Standing current = rankings.byUser.get(userId);
+            unknown = current == null;
+            if (current != null && current.xpPoint() <= xpPoint) {
+                rankings.remove(userId);
+                rankings.put(new Standing(userId, xpPoint, Math.max(level, current.level())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // Not indexed yet: either new since the last rebuild, or banned. Only the
+        // database can tell which.
+        if (unknown) {
+            refreshUser(userId);
+        }
+    }
+
+    // No transaction of its own: a single scalar query, which the repository runs in its
+    // own read-only transaction, or in the caller's when reached from rebuild().
+    @Override
+    public void refreshUser(UUID userId) {
+        List<Object[]> rows = userRepository.findLeaderboardStanding(userId);
+        Standing standing = rows.isEmpty() || Boolean.TRUE.equals(rows.get(0)[3])
+                ? null
+                : toStanding(rows.get(0));
+
+        withWriteLock(() -> {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(userId);
+            }
+            if (rankings == null) {
+                return;
+            }
+            rankings.remove(userId);
+            if (standing != null) {
+                rankings.put(standing);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.debug("Leaderboard index rebuild already running — skipping");
+            return;
+        }
+        try {
+            withWriteLock(() -> changedDuringRebuild = new HashSet<>());
+
+            long started = System.currentTimeMillis();
+            Rankings fresh = new Rankings();
+            for (Object[] row : userRepository.findLeaderboardStandings()) {
+                fresh.put(toStanding(row));
+            }
+
+            Set<UUID> changed = new HashSet<>();
+            withWriteLock(() -> {
+                rankings = fresh;
+                changed.addAll(changedDuringRebuild);
+                changedDuringRebuild = null;
+            });
+            log.info("Built leaderboard index for {} users in {} ms",
+                    fresh.byUser.size(), System.currentTimeMillis() - started);
+
+            for (UUID userId : changed) {
+                refreshUser(userId);
+            }
+        } finally {
+            withWriteLock(() -> changedDuringRebuild = null);
+            rebuilding.set(false);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return rankings != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Standing toStanding(Object[] row) {
+        return new Standing((UUID) row[0], intValue(row[1]), intValue(row[2]));
+    }
+
+    private static int intValue(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The two rankings plus the standing each user is currently indexed under.
+     */
+    private static final class Rankings {
+
+        private final Map<UUID, Standing> byUser = new HashMap<>();
+        private final RankedSkipList<Standing> byXp =
+                new RankedSkipList<>(Standing.order(LeaderboardSortBy.XP));
+        private final RankedSkipList<Standing> byLevel =
+                new RankedSkipList<>(Standing.order(LeaderboardSortBy.LEVEL));
+
+        private RankedSkipList<Standing> list(LeaderboardSortBy sortBy) {
+            return switch (sortBy) {
+                case XP -> byXp;
+                case LEVEL -> byLevel;
+            };
+        }
+
+        private void put(Standing standing) {
+            byUser.put(standing.userId(), standing);
+            byXp.add(standing);
+            byLevel.add(standing);
+        }
+
+        private void remove(UUID userId) {
+            Standing previous = byUser.remove(userId);
+            if (previous != null) {
+                byXp.remove(previous);
+                byLevel.remove(previous);
+            }
+        }
+    }
+}
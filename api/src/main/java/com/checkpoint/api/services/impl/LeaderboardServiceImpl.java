@@ -1,7 +1,12 @@
 package com.checkpoint.api.services.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
@@ -13,13 +18,22 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.checkpoint.api.dto.leaderboard.LeaderboardEntryDto;
+import com.checkpoint.api.dto.leaderboard.LeaderboardPositionDto;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.FollowGraphService;
+import com.checkpoint.api.services.LeaderboardIndexService;
+import com.checkpoint.api.services.LeaderboardIndexService.Neighbourhood;
+import com.checkpoint.api.services.LeaderboardIndexService.Standing;
 import com.checkpoint.api.services.LeaderboardService;
 import com.checkpoint.api.services.LeaderboardSortBy;
 
 /**
  * Implementation of {@link LeaderboardService}.
+ *
+ * <p>Ranks come from the in-memory {@link LeaderboardIndexService}; only the page of
+ * users being returned is loaded from the database. Until the index has been built
+ * the leaderboard is sorted by SQL instead.</p>
  */
 @Service
 @Transactional(readOnly = true)
@@ -28,15 +42,26 @@ public class LeaderboardServiceImpl implements LeaderboardService {
     private static final Logger log = LoggerFactory.getLogger(LeaderboardServiceImpl.class);
 
     private final UserRepository userRepository;
+    private final LeaderboardIndexService leaderboardIndex;
+    private final FollowGraphService followGraph;
 
-    public LeaderboardServiceImpl(UserRepository userRepository) {
+    public LeaderboardServiceImpl(UserRepository userRepository,
+                                  LeaderboardIndexService leaderboardIndex,
+                                  FollowGraphService followGraph) {
         this.userRepository = userRepository;
+        this.leaderboardIndex = leaderboardIndex;
+        this.followGraph = followGraph;
     }
 
     @Override
     public List<LeaderboardEntryDto> getLeaderboard(LeaderboardSortBy sortBy, int limit) {
         log.info("Fetching leaderboard (sortBy={}, limit={})", sortBy, limit);
 
+        Optional<List<Standing>> top = leaderboardIndex.top(sortBy, limit);
+        if (top.isPresent()) {
+            return rankedDtos(top.get(), 1);
+        }
+
         Pageable pageable = PageRequest.of(0, limit);
         Page<User> page = switch (sortBy) {
             case XP -> userRepository.findLeaderboardByXp(pageable);
@@ -52,10 +77,17 @@ public class LeaderboardServiceImpl implements LeaderboardService {
         log.info("Fetching following leaderboard (viewer={}, sortBy={}, limit={})",
                 viewerEmail, sortBy, limit);
 
-        UUID viewerId = userRepository.findByEmail(viewerEmail)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "User not found with email: " + viewerEmail))
-                .getId();
+        UUID viewerId = findViewer(viewerEmail).getId();
+
+        Optional<List<Standing>> standings =
+                leaderboardIndex.standingsOf(followGraph.getFollowingIds(viewerId));
+        if (standings.isPresent()) {
+            List<Standing> ranked = standings.get().stream()
+                    .sorted(Standing.order(sortBy))
+                    .limit(limit)
+                    .toList();
+            return rankedDtos(ranked, 1);
+        }
 
         Pageable pageable = PageRequest.of(0, limit);
         Page<User> page = switch (sortBy) {
@@ -66,12 +98,135 @@ public class LeaderboardServiceImpl implements LeaderboardService {
         return rankedDtos(page.getContent());
     }
 
+    @Override
+    public LeaderboardPositionDto getMyPosition(
+            String viewerEmail, LeaderboardSortBy sortBy, int radius, boolean following) {
+        log.info("Fetching leaderboard position (viewer={}, sortBy={}, radius={}, following={})",
+                viewerEmail, sortBy, radius, following);
+
+        User viewer = findViewer(viewerEmail);
+        return following
+                ? followingPosition(viewer, sortBy, radius)
+                : globalPosition(viewer, sortBy, radius);
+    }
+
+    private LeaderboardPositionDto globalPosition(User viewer, LeaderboardSortBy sortBy, int radius) {
+        if (!leaderboardIndex.isReady()) {
+            return sqlPosition(viewer, sortBy);
+        }
+
+        Optional<Neighbourhood> around = leaderboardIndex.around(viewer.getId(), sortBy, radius);
+        if (around.isEmpty()) {
+            // Registered since the last rebuild and never credited: index them now.
+            leaderboardIndex.refreshUser(viewer.getId());
+            around = leaderboardIndex.around(viewer.getId(), sortBy, radius);
+        }
+        if (around.isEmpty()) {
+            return new LeaderboardPositionDto(null, null, List.of());
+        }
+
+        Neighbourhood neighbourhood = around.get();
+        return new LeaderboardPositionDto(
+                neighbourhood.rank(),
+                neighbourhood.total(),
+                rankedDtos(neighbourhood.standings(), neighbourhood.firstRank()));
+    }
+
+    /**
+     * Counts the users ranked above the viewer; used until the index is built, so only
+     * the viewer's own entry is returned.
+     */
+    private LeaderboardPositionDto sqlPosition(User viewer, LeaderboardSortBy sortBy) {
+        if (Boolean.TRUE.equals(viewer.getBanned())) {
+            return new LeaderboardPositionDto(null, null, List.of());
+        }
+        long above = switch (sortBy) {
+            case XP -> userRepository.countByBannedFalseAndXpPointGreaterThan(viewer.getXpPoint());
+            case LEVEL -> userRepository.countRankedAboveByLevel(viewer.getLevel(), viewer.getXpPoint());
+        };
+        int rank = (int) above + 1;
+        return new LeaderboardPositionDto(rank, null, List.of(toDto(rank, viewer)));
+    }
+
+    /**
+     * Ranks the viewer among the users they follow. The follow set is small, so it is
+     * sorted in memory from the indexed standings, or from the users themselves while
+     * the index is being built.
+     */
+    private LeaderboardPositionDto followingPosition(User viewer, LeaderboardSortBy sortBy, int radius) {
+        if (Boolean.TRUE.equals(viewer.getBanned())) {
+            return new LeaderboardPositionDto(null, null, List.of());
+        }
+
+        List<UUID> followingIds = followGraph.getFollowingIds(viewer.getId());
+        List<Standing> population = new ArrayList<>(leaderboardIndex.standingsOf(followingIds)
+                .orElseGet(() -> userRepository.findAllById(followingIds).stream()
+                        .filter(user -> !Boolean.TRUE.equals(user.getBanned()))
+                        .map(LeaderboardServiceImpl::toStanding)
+                        .toList()));
+        population.removeIf(standing -> standing.userId().equals(viewer.getId()));
+        population.add(toStanding(viewer));
+        population.sort(Standing.order(sortBy));
+
+        int index = IntStream.range(0, population.size())
+                .filter(i -> population.get(i).userId().equals(viewer.getId()))
+                .findFirst()
+                .orElseThrow();
+        int from = Math.max(0, index - radius);
+        int to = Math.min(population.size(), index + radius + 1);
+
+        return new LeaderboardPositionDto(
+                index + 1,
+                population.size(),
+                rankedDtos(population.subList(from, to), from + 1));
+    }
+
+    private User findViewer(String viewerEmail) {
+        return userRepository.findByEmail(viewerEmail)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "User not found with email: " + viewerEmail));
+    }
+
+    /**
+     * Loads the users of consecutively ranked standings and maps them to entries,
+     * skipping users deleted since they were indexed.
+     */
+    private List<LeaderboardEntryDto> rankedDtos(List<Standing> standings, int firstRank) {
+        Map<UUID, User> users = userRepository.findAllById(standings.stream().map(Standing::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<LeaderboardEntryDto> entries = new ArrayList<>(standings.size());
+        for (int i = 0; i < standings.size(); i++) {
+            Standing standing = standings.get(i);
+            User user = users.get(standing.userId());
+            if (user != null) {
+                entries.add(new LeaderboardEntryDto(
+                        firstRank + i,
+                        user.getId(),
+                        user.getPseudo(),
+                        user.getPicture(),
+                        standing.level(),
+                        standing.xpPoint()));
+            }
+        }
+        return entries;
+    }
+
     private List<LeaderboardEntryDto> rankedDtos(List<User> users) {
         return IntStream.range(0, users.size())
                 .mapToObj(i -> toDto(i + 1, users.get(i)))
                 .toList();
     }
 
+    private static Standing toStanding(User user) {
+        return new Standing(user.getId(), valueOrZero(user.getXpPoint()), valueOrZero(user.getLevel()));
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
     private LeaderboardEntryDto toDto(int rank, User user) {
         return new LeaderboardEntryDto(
                 rank,
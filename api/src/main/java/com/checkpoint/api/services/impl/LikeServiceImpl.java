@@ -24,8 +24,13 @@ import com.checkpoint.api.entities.Review;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.enums.NotificationType;
+import com.checkpoint.api.enums.TrendingSignal;
+import com.checkpoint.api.events.FeedActivityEvent;
+import com.checkpoint.api.events.FeedActivityRemovedEvent;
+import com.checkpoint.api.events.GameLikeToggledEvent;
 import com.checkpoint.api.events.NotificationEvent;
 import com.checkpoint.api.events.ReviewLikedEvent;
+import com.checkpoint.api.events.TrendingActivityRemovedEvent;
 import com.checkpoint.api.exceptions.CommentNotFoundException;
 import com.checkpoint.api.exceptions.GameListNotFoundException;
 import com.checkpoint.api.exceptions.GameNotFoundException;
@@ -37,6 +42,7 @@ import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.EngagementCounterService;
 import com.checkpoint.api.services.LikeService;
 
 /**
@@ -58,6 +64,7 @@ public class LikeServiceImpl implements LikeService {
     private final ApplicationEventPublisher eventPublisher;
     private final EntityManager entityManager;
     private final LikedGameMapper likedGameMapper;
+    private final EngagementCounterService engagementCounterService;
 
     /**
      * Constructs a new LikeServiceImpl.
@@ -70,7 +77,8 @@ public class LikeServiceImpl implements LikeService {
      * @param videoGameRepository the video game repository
      * @param eventPublisher      the application event publisher
      * @param entityManager       the JPA entity manager (used to refresh search index)
-     * @param likedGameMapper     the liked-game mapper
+     * @param likedGameMapper          the liked-game mapper
+     * @param engagementCounterService the service maintaining the denormalized like counters
      */
     public LikeServiceImpl(LikeRepository likeRepository,
                            ReviewRepository reviewRepository,
@@ -80,7 +88,8 @@ public class LikeServiceImpl implements LikeService {
                            VideoGameRepository videoGameRepository,
                            ApplicationEventPublisher eventPublisher,
                            EntityManager entityManager,
-                           LikedGameMapper likedGameMapper) {
+                           LikedGameMapper likedGameMapper,
+                           EngagementCounterService engagementCounterService) {
         this.likeRepository = likeRepository;
         this.reviewRepository = reviewRepository;
         this.gameListRepository = gameListRepository;
@@ -90,6 +99,7 @@ public class LikeServiceImpl implements LikeService {
         this.eventPublisher = eventPublisher;
         this.entityManager = entityManager;
         this.likedGameMapper = likedGameMapper;
+        this.engagementCounterService = engagementCounterService;
     }
 
     /**
@@ -105,14 +115,16 @@ public class LikeServiceImpl implements LikeService {
         Optional<Like> existingLike = likeRepository.findByUserIdAndReviewId(user.getId(), reviewId);
 
         if (existingLike.isPresent()) {
+            engagementCounterService.likeRemoved(existingLike.get());
             likeRepository.delete(existingLike.get());
-            long likesCount = likeRepository.countByReviewId(reviewId) - 1;
+            long likesCount = Math.max(0, review.getLikesCount() - 1);
             log.info("User {} unliked review {}", user.getPseudo(), reviewId);
-            return new LikeResponseDto(false, Math.max(0, likesCount));
+            return new LikeResponseDto(false, likesCount);
         } else {
             Like like = Like.forReview(user, review);
             Like savedLike = likeRepository.save(like);
-            long likesCount = likeRepository.countByReviewId(reviewId) + 1;
+            engagementCounterService.likeAdded(savedLike);
+            long likesCount = review.getLikesCount() + 1;
             log.info("User {} liked review {}", user.getPseudo(), reviewId);
 
             UUID reviewAuthorId = review.getUser().getId();
@@ -143,16 +155,17 @@ public class LikeServiceImpl implements LikeService {
         Optional<Like> existingLike = likeRepository.findByUserIdAndGameListId(user.getId(), listId);
 
         if (existingLike.isPresent()) {
+            engagementCounterService.likeRemoved(existingLike.get());
             likeRepository.delete(existingLike.get());
-            long likesCount = likeRepository.countByGameListId(listId) - 1;
             refreshListSearchIndex(gameList);
+            long likesCount = gameList.getLikesCount();
             log.info("User {} unliked list {}", user.getPseudo(), listId);
-            return new LikeResponseDto(false, Math.max(0, likesCount));
+            return new LikeResponseDto(false, likesCount);
         } else {
             Like like = Like.forGameList(user, gameList);
-            likeRepository.save(like);
-            long likesCount = likeRepository.countByGameListId(listId) + 1;
+            engagementCounterService.likeAdded(likeRepository.save(like));
             refreshListSearchIndex(gameList);
+            long likesCount = gameList.getLikesCount();
             log.info("User {} liked list {}", user.getPseudo(), listId);
 
             String message = user.getPseudo() + " liked your list \"" + gameList.getTitle() + "\"";
@@ -166,9 +179,9 @@ public class LikeServiceImpl implements LikeService {
 
     /**
      * Refreshes the Hibernate Search index for the given list after a like toggle.
-     * {@code GameList.likesCount} is a {@code @Formula} field indexed with
-     * {@code reindexOnUpdate = NO}, so it must be re-indexed manually. {@code refresh()}
-     * forces the formula to recompute before indexing.
+     * {@code GameList.likesCount} is a counter column written by a bulk update and indexed
+     * with {@code reindexOnUpdate = NO}, so it must be re-indexed manually. {@code refresh()}
+     * reloads the updated counter before indexing.
      */
     private void refreshListSearchIndex(GameList gameList) {
         entityManager.refresh(gameList);
@@ -189,14 +202,15 @@ public class LikeServiceImpl implements LikeService {
         Optional<Like> existingLike = likeRepository.findByUserIdAndCommentId(user.getId(), commentId);
 
         if (existingLike.isPresent()) {
+            engagementCounterService.likeRemoved(existingLike.get());
             likeRepository.delete(existingLike.get());
-            long likesCount = likeRepository.countByCommentId(commentId) - 1;
+            long likesCount = Math.max(0, comment.getLikesCount() - 1);
             log.info("User {} unliked comment {}", user.getPseudo(), commentId);
-            return new LikeResponseDto(false, Math.max(0, likesCount));
+            return new LikeResponseDto(false, likesCount);
         } else {
             Like like = Like.forComment(user, comment);
-            likeRepository.save(like);
-            long likesCount = likeRepository.countByCommentId(commentId) + 1;
+            engagementCounterService.likeAdded(likeRepository.save(like));
+            long likesCount = comment.getLikesCount() + 1;
             log.info("User {} liked comment {}", user.getPseudo(), commentId);
             return new LikeResponseDto(true, likesCount);
         }
@@ -217,12 +231,19 @@ public class LikeServiceImpl implements LikeService {
         if (existingLike.isPresent()) {
             likeRepository.delete(existingLike.get());
             long likesCount = likeRepository.countByVideoGameId(videoGameId) - 1;
+            eventPublisher.publishEvent(new FeedActivityRemovedEvent(existingLike.get().getId()));
+            eventPublisher.publishEvent(new GameLikeToggledEvent(user.getId(), videoGameId, false));
+            eventPublisher.publishEvent(new TrendingActivityRemovedEvent(
+                    videoGameId, TrendingSignal.LIKE, existingLike.get().getCreatedAt()));
             log.info("User {} unliked game {}", user.getPseudo(), videoGameId);
             return new LikeResponseDto(false, Math.max(0, likesCount));
         } else {
             Like like = Like.forVideoGame(user, videoGame);
-            likeRepository.save(like);
+            Like savedLike = likeRepository.save(like);
             long likesCount = likeRepository.countByVideoGameId(videoGameId) + 1;
+            eventPublisher.publishEvent(FeedActivityEvent.gameLike(
+                    savedLike.getId(), user.getId(), videoGameId, savedLike.getCreatedAt()));
+            eventPublisher.publishEvent(new GameLikeToggledEvent(user.getId(), videoGameId, true));
             log.info("User {} liked game {}", user.getPseudo(), videoGameId);
             return new LikeResponseDto(true, likesCount);
         }
@@ -1,6 +1,9 @@
 package com.checkpoint.api.services.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
@@ -21,12 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 import com.checkpoint.api.dto.list.GameListCardDto;
 import com.checkpoint.api.dto.list.GameListSearchCriteria;
 import com.checkpoint.api.entities.GameList;
-import com.checkpoint.api.entities.GameListEntry;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.mapper.GameListMapper;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.GameListEntryRepository;
-import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.services.ListSearchService;
 
@@ -44,24 +44,19 @@ public class ListSearchServiceImpl implements ListSearchService {
     private static final Logger log = LoggerFactory.getLogger(ListSearchServiceImpl.class);
 
     private static final int FUZZY_MAX_EDIT_DISTANCE = 2;
+    private static final int CARD_COVER_COUNT = 4;
 
     private final EntityManager entityManager;
     private final UserRepository userRepository;
-    private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
     private final GameListEntryRepository gameListEntryRepository;
     private final GameListMapper gameListMapper;
 
     public ListSearchServiceImpl(EntityManager entityManager,
                                  UserRepository userRepository,
-                                 LikeRepository likeRepository,
-                                 CommentRepository commentRepository,
                                  GameListEntryRepository gameListEntryRepository,
                                  GameListMapper gameListMapper) {
         this.entityManager = entityManager;
         this.userRepository = userRepository;
-        this.likeRepository = likeRepository;
-        this.commentRepository = commentRepository;
         this.gameListEntryRepository = gameListEntryRepository;
         this.gameListMapper = gameListMapper;
     }
@@ -80,8 +75,9 @@ public class ListSearchServiceImpl implements ListSearchService {
                 .sort(f -> buildSort(f, criteria))
                 .fetch((int) pageable.getOffset(), pageable.getPageSize());
 
+        Map<UUID, List<String>> coverUrls = leadingCoverUrls(result.hits());
         List<GameListCardDto> content = result.hits().stream()
-                .map(this::toCardDto)
+                .map(gameList -> toCardDto(gameList, coverUrls))
                 .toList();
 
         long total = result.total().hitCount();
@@ -160,17 +156,26 @@ public class ListSearchServiceImpl implements ListSearchService {
     }
 
     /**
-     * Builds a {@link GameListCardDto} from a {@link GameList} entity, fetching the like /
-     * comment counts and first cover URLs needed for the card view.
+     * Builds a {@link GameListCardDto} from a {@link GameList} entity. Like / comment counts
+     * are read from the list's counter columns.
      */
-    private GameListCardDto toCardDto(GameList gameList) {
-        long likesCount = likeRepository.countByGameListId(gameList.getId());
-        long commentsCount = commentRepository.countByGameListId(gameList.getId());
-        List<GameListEntry> entries = gameListEntryRepository.findByGameListIdOrderByPositionAsc(gameList.getId());
-        List<String> coverUrls = entries.stream()
-                .limit(4)
-                .map(entry -> entry.getVideoGame().getCoverUrl())
-                .toList();
-        return gameListMapper.toCardDto(gameList, likesCount, commentsCount, coverUrls);
+    private GameListCardDto toCardDto(GameList gameList, Map<UUID, List<String>> coverUrls) {
+        return gameListMapper.toCardDto(gameList, gameList.getLikesCount(), gameList.getCommentsCount(),
+                coverUrls.getOrDefault(gameList.getId(), List.of()));
+    }
+
+    /**
+     * Loads the first cover URLs of every list in the page in one query, keyed by list ID.
+     */
+    private Map<UUID, List<String>> leadingCoverUrls(List<GameList> lists) {
+        if (lists.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> listIds = lists.stream().map(GameList::getId).toList();
+        Map<UUID, List<String>> coverUrls = new HashMap<>();
+        for (Object[] row : gameListEntryRepository.findLeadingCoverUrls(listIds, CARD_COVER_COUNT)) {
+            coverUrls.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return coverUrls;
     }
 }
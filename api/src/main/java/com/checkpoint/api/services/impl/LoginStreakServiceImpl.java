@@ -4,6 +4,8 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -17,6 +19,7 @@ import com.checkpoint.api.entities.UserLoginStreak;
 import com.checkpoint.api.enums.XpEventType;
 import com.checkpoint.api.repositories.UserLoginStreakRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.repositories.XpGrantRepositoryCustom.XpAward;
 import com.checkpoint.api.services.BadgeAwardingService;
 import com.checkpoint.api.services.GamificationService;
 import com.checkpoint.api.services.LoginStreakService;
@@ -91,11 +94,13 @@ public class LoginStreakServiceImpl implements LoginStreakService {
         }
 
         int dailyBonus = DAILY_XP_PER_DAY * Math.min(newDay, DAILY_XP_DAY_CAP);
-        gamificationService.awardXp(userId, dailyBonus, XpEventType.STREAK_DAILY, null);
+        List<XpAward> awards = new ArrayList<>(2);
+        awards.add(new XpAward(userId, dailyBonus, XpEventType.STREAK_DAILY, null));
 
         if (newDay > 0 && newDay % 7 == 0) {
-            gamificationService.awardXp(userId, WEEKLY_MILESTONE_XP, XpEventType.STREAK_WEEKLY_MILESTONE, null);
+            awards.add(new XpAward(userId, WEEKLY_MILESTONE_XP, XpEventType.STREAK_WEEKLY_MILESTONE, null));
         }
+        gamificationService.awardXp(awards);
     }
 
     private UserLoginStreak createStreakForUser(UUID userId) {
@@ -1,13 +1,22 @@
 package com.checkpoint.api.services.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +26,10 @@ import com.checkpoint.api.entities.User;
 import com.checkpoint.api.mapper.MemberMapper;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.FollowGraphService;
 import com.checkpoint.api.services.MemberService;
+import com.checkpoint.api.services.MemberSimilarityIndexService;
+import com.checkpoint.api.services.ProfileComparisonService;
 
 /**
  * Implementation of {@link MemberService}.
@@ -32,13 +44,22 @@ public class MemberServiceImpl implements MemberService {
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
     private final MemberMapper memberMapper;
+    private final FollowGraphService followGraph;
+    private final MemberSimilarityIndexService memberSimilarityIndex;
+    private final ProfileComparisonService profileComparisonService;
 
     public MemberServiceImpl(UserRepository userRepository,
                              ReviewRepository reviewRepository,
-                             MemberMapper memberMapper) {
+                             MemberMapper memberMapper,
+                             FollowGraphService followGraph,
+                             MemberSimilarityIndexService memberSimilarityIndex,
+                             ProfileComparisonService profileComparisonService) {
         this.userRepository = userRepository;
         this.reviewRepository = reviewRepository;
         this.memberMapper = memberMapper;
+        this.followGraph = followGraph;
+        this.memberSimilarityIndex = memberSimilarityIndex;
+        this.profileComparisonService = profileComparisonService;
     }
 
     /**
@@ -76,7 +97,7 @@ public class MemberServiceImpl implements MemberService {
                 .map(row -> {
                     User user = (User) row[0];
                     Long reviewCount = (Long) row[1];
-                    long followerCount = userRepository.countFollowersByUserId(user.getId());
+                    long followerCount = followGraph.countFollowers(user.getId());
                     Boolean isFollowing = resolveIsFollowing(user.getId(), followingIds, viewerEmail);
                     return memberMapper.toMemberCardDto(user, followerCount, reviewCount, isFollowing);
                 })
@@ -93,20 +114,95 @@ public class MemberServiceImpl implements MemberService {
         User viewer = userRepository.findByEmail(viewerEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Authenticated user not found"));
 
-        Set<UUID> followingIds = new HashSet<>(userRepository.findFollowingIdsByUserId(viewer.getId()));
-        Page<Object[]> page = userRepository.findSuggestedMembers(viewer.getId(), pageable);
+        Set<UUID> followingIds = new HashSet<>(followGraph.getFollowingIds(viewer.getId()));
+        List<User> users = findSuggestedUsers(viewer.getId(), followingIds, pageable);
+        Map<UUID, Long> reviewCounts = countReviews(users);
 
-        return page.getContent().stream()
-                .map(row -> {
-                    User user = (User) row[0];
-                    long followerCount = userRepository.countFollowersByUserId(user.getId());
-                    long reviewCount = reviewRepository.countByUserPseudo(user.getPseudo());
+        return users.stream()
+                .map(user -> {
+                    long followerCount = followGraph.countFollowers(user.getId());
+                    long reviewCount = reviewCounts.getOrDefault(user.getId(), 0L);
                     Boolean isFollowing = resolveIsFollowing(user.getId(), followingIds, viewerEmail);
-                    return memberMapper.toMemberCardDto(user, followerCount, reviewCount, isFollowing);
+                    return memberMapper.toMemberCardDto(user, followerCount, reviewCount, isFollowing,
+                            estimateAffinity(viewer.getId(), user));
                 })
                 .toList();
     }
 
+    /**
+     * Ranks the members most similar to the viewer from the member similarity index, topped
+     * up with the SQL shared-games ranking when the index finds fewer than the page needs,
+     * and falls back to that ranking alone until the index is built.
+     *
+     * @param viewerId     the viewer's ID
+     * @param followingIds the users the viewer already follows, never suggested
+     * @param pageable     pagination parameters
+     * @return the page of suggested users, best match first
+     */
+    private List<User> findSuggestedUsers(UUID viewerId, Set<UUID> followingIds, Pageable pageable) {
+        int offset = (int) pageable.getOffset();
+        Optional<List<UUID>> similarIds = memberSimilarityIndex.findSimilarUserIds(
+                viewerId, offset + pageable.getPageSize(), followingIds);
+        if (similarIds.isEmpty()) {
+            return userRepository.findSuggestedMembers(viewerId, pageable).getContent().stream()
+                    .map(row -> (User) row[0])
+                    .toList();
+        }
+
+        int wanted = offset + pageable.getPageSize();
+        List<UUID> ranked = new ArrayList<>(similarIds.get());
+        Map<UUID, User> usersById = new HashMap<>();
+        if (ranked.size() < wanted) {
+            // The index only ranks members whose libraries look alike; top the page up with
+            // the shared-games ranking so small or fresh libraries still get suggestions.
+            Set<UUID> seen = new HashSet<>(ranked);
+            for (Object[] row : userRepository.findSuggestedMembers(viewerId, PageRequest.of(0, wanted))) {
+                User user = (User) row[0];
+                if (ranked.size() < wanted && seen.add(user.getId())) {
+                    ranked.add(user.getId());
+                    usersById.put(user.getId(), user);
+                }
+            }
+        }
+
+        List<UUID> pageIds = ranked.subList(Math.min(offset, ranked.size()), Math.min(wanted, ranked.size()));
+        List<UUID> missing = pageIds.stream().filter(id -> !usersById.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            userRepository.findAllById(missing).forEach(user -> usersById.put(user.getId(), user));
+        }
+        return pageIds.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Counts the reviews of the given users in a single query.
+     */
+    private Map<UUID, Long> countReviews(List<User> users) {
+        Map<UUID, Long> counts = new HashMap<>();
+        if (users.isEmpty()) {
+            return counts;
+        }
+        List<UUID> userIds = users.stream().map(User::getId).toList();
+        for (Object[] row : reviewRepository.countByUserIds(userIds)) {
+            counts.put((UUID) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * Estimates the viewer's affinity with a suggested user, withheld for private profiles
+     * (only their followers may compare with them, and followed users are never suggested).
+     */
+    private Integer estimateAffinity(UUID viewerId, User user) {
+        if (Boolean.TRUE.equals(user.getIsPrivate())) {
+            return null;
+        }
+        OptionalInt affinity = profileComparisonService.estimateAffinity(viewerId, user.getId());
+        return affinity.isPresent() ? affinity.getAsInt() : null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -125,7 +221,7 @@ public class MemberServiceImpl implements MemberService {
         }
 
         return usersPage.map(user -> {
-            long followerCount = userRepository.countFollowersByUserId(user.getId());
+            long followerCount = followGraph.countFollowers(user.getId());
             long reviewCount = reviewRepository.countByUserPseudo(user.getPseudo());
             Boolean isFollowing = resolveIsFollowing(user.getId(), followingIds, viewerEmail);
             return memberMapper.toMemberCardDto(user, followerCount, reviewCount, isFollowing);
@@ -144,7 +240,7 @@ public class MemberServiceImpl implements MemberService {
 
         return page.getContent().stream()
                 .map(user -> {
-                    long followerCount = userRepository.countFollowersByUserId(user.getId());
+                    long followerCount = followGraph.countFollowers(user.getId());
                     long reviewCount = reviewRepository.countByUserPseudo(user.getPseudo());
                     Boolean isFollowing = resolveIsFollowing(user.getId(), followingIds, viewerEmail);
                     return memberMapper.toMemberCardDto(user, followerCount, reviewCount, isFollowing);
@@ -164,7 +260,7 @@ public class MemberServiceImpl implements MemberService {
             return Set.of();
         }
         return userRepository.findByEmail(viewerEmail)
-                .map(viewer -> new HashSet<>(userRepository.findFollowingIdsByUserId(viewer.getId())))
+                .map(viewer -> new HashSet<>(followGraph.getFollowingIds(viewer.getId())))
                 .orElse(new HashSet<>());
     }
 
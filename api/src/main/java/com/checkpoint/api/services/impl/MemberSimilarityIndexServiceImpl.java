@@ -0,0 +1,285 @@
+package com.checkpoint.api.services.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.repositories.UserGameRepository;
+import com.checkpoint.api.services.MemberSimilarityIndexService;
+import com.checkpoint.api.utils.MinHash;
+
+/**
+ * In-memory implementation of {@link MemberSimilarityIndexService}.
+ *
+ * <p>Every member with at least one game gets an integer slot holding their
+ * {@link MinHash} signature. Each of the {@link MinHash#BANDS} bands maps its band keys
+ * to the slots sharing them, so a lookup only scores the members that collide with the
+ * seed in some band, rather than the whole membership. A member costs their signature
+ * (256 bytes) plus one bucket entry per band.</p>
+ *
+ * <p>All mutations and lookups happen under a single monitor. Full rebuilds compute into
+ * a fresh structure outside the monitor and only swap it in at the end; members
+ * refreshed while a rebuild was loading are re-read after the swap.</p>
+ */
+@Service
+public class MemberSimilarityIndexServiceImpl implements MemberSimilarityIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberSimilarityIndexServiceImpl.class);
+
+    private final UserGameRepository userGameRepository;
+
+    private final Object lock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    /** Guarded by {@link #lock}; {@code null} until the first rebuild completes. */
+    private Index index;
+
+    /** Guarded by {@link #lock}; non-null only while a rebuild is in progress. */
+    private Set<UUID> changedDuringRebuild;
+
+    public MemberSimilarityIndexServiceImpl(UserGameRepository userGameRepository) {
+        this.userGameRepository = userGameRepository;
+    }
+
+    @Override
+    public Optional<List<UUID>> findSimilarUserIds(UUID userId, int limit, Set<UUID> excluded) {
+        synchronized (lock) {
+            if (index == null) {
+                return Optional.empty();
+            }
+            Integer slot = index.slots.get(userId);
+            if (slot == null || limit <= 0) {
+                // Members without games are not indexed and resemble no one.
+                return Optional.of(List.of());
+            }
+
+            int[] signature = index.signatures.get(slot);
+            BitSet seen = new BitSet(index.ids.size());
+            seen.set(slot);
+            PriorityQueue<Match> best = new PriorityQueue<>(Comparator.comparingDouble(Match::similarity));
+            for (int band = 0; band < MinHash.BANDS; band++) {
+                Bucket bucket = index.bands.get(band).get(MinHash.bandKey(signature, band));
+                for (int i = 0; i < bucket.size; i++) {
+                    int candidate = bucket.slots[i];
+                    if (seen.get(candidate)) {
+                        continue;
+                    }
+                    seen.set(candidate);
+                    UUID candidateId = index.ids.get(candidate);
+                    if (excluded.contains(candidateId)) {
+                        continue;
+                    }
+                    double similarity = MinHash.similarity(signature, index.signatures.get(candidate));
+                    if (best.size() < limit) {
+                        best.add(new Match(candidateId, similarity));
+                    } else if (similarity > best.peek().similarity()) {
+                        best.poll();
+                        best.add(new Match(candidateId, similarity));
+                    }
+                }
+            }
+
+            List<Match> ranked = new ArrayList<>(best);
+            ranked.sort(Comparator.comparingDouble(Match::similarity).reversed());
+            return Optional.of(ranked.stream().map(Match::userId).toList());
+        }
+    }
+
+    @Override
+    public OptionalDouble estimateSimilarity(UUID userId, UUID otherUserId) {
+        synchronized (lock) {
+            if (index == null) {
+                return OptionalDouble.empty();
+            }
+            Integer slot = index.slots.get(userId);
+            Integer otherSlot = index.slots.get(otherUserId);
+            if (slot == null || otherSlot == null) {
+                return OptionalDouble.of(0);
+            }
+            return OptionalDouble.of(MinHash.similarity(
+                    index.signatures.get(slot), index.signatures.get(otherSlot)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void refreshUser(UUID userId) {
+        List<UUID> gameIds = userGameRepository.findLibraryAndRatedGameIds(userId);
+        int[] signature = MinHash.signature(gameIds);
+
+        synchronized (lock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(userId);
+            }
+            if (index == null) {
+                return;
+            }
+            if (gameIds.isEmpty()) {
+                index.remove(userId);
+            } else {
+                index.put(userId, signature);
+            }
+        }
+    }
+
+    @Override
+    public void removeUser(UUID userId) {
+        synchronized (lock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(userId);
+            }
+            if (index != null) {
+                index.remove(userId);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.debug("Member similarity index rebuild already running — skipping");
+            return;
+        }
+        try {
+            synchronized (lock) {
+                changedDuringRebuild = new HashSet<>();
+            }
+
+            long started = System.currentTimeMillis();
+            Map<UUID, int[]> signatures = new HashMap<>();
+            for (Object[] row : userGameRepository.findAllLibraryAndRatedGamePairs()) {
+                int[] signature = signatures.computeIfAbsent((UUID) row[0], id -> MinHash.emptySignature());
+                MinHash.add(signature, (UUID) row[1]);
+            }
+            Index fresh = new Index();
+            signatures.forEach(fresh::put);
+
+            Set<UUID> changed;
+            synchronized (lock) {
+                index = fresh;
+                changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+            }
+            log.info("Built member similarity index for {} members in {} ms",
+                    fresh.slots.size(), System.currentTimeMillis() - started);
+
+            for (UUID userId : changed) {
+                refreshUser(userId);
+            }
+        } finally {
+            synchronized (lock) {
+                changedDuringRebuild = null;
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        synchronized (lock) {
+            return index != null;
+        }
+    }
+
+    private record Match(UUID userId, double similarity) {}
+
+    /**
+     * Signatures by slot plus, per band, the slots under each band key. Slots of removed
+     * members are left empty until the next rebuild.
+     */
+    private static final class Index {
+
+        final Map<UUID, Integer> slots = new HashMap<>();
+        final List<UUID> ids = new ArrayList<>();
+        final List<int[]> signatures = new ArrayList<>();
+        final List<Map<Long, Bucket>> bands = new ArrayList<>(MinHash.BANDS);
+
+        Index() {
+            for (int band = 0; band < MinHash.BANDS; band++) {
+                bands.add(new HashMap<>());
+            }
+        }
+
+        void put(UUID userId, int[] signature) {
+            Integer slot = slots.get(userId);
+            if (slot != null) {
+                unbucket(slot, signatures.get(slot));
+                signatures.set(slot, signature);
+            } else {
+                slot = ids.size();
+                slots.put(userId, slot);
+                ids.add(userId);
+                signatures.add(signature);
+            }
+            int target = slot;
+            for (int band = 0; band < MinHash.BANDS; band++) {
+                bands.get(band).computeIfAbsent(MinHash.bandKey(signature, band), key -> new Bucket()).add(target);
+            }
+        }
+
+        void remove(UUID userId) {
+            Integer slot = slots.remove(userId);
+            if (slot == null) {
+                return;
+            }
+            unbucket(slot, signatures.get(slot));
+            signatures.set(slot, null);
+            ids.set(slot, null);
+        }
+
+        private void unbucket(int slot, int[] signature) {
+            for (int band = 0; band < MinHash.BANDS; band++) {
+                Map<Long, Bucket> buckets = bands.get(band);
+                long key = MinHash.bandKey(signature, band);
+                Bucket bucket = buckets.get(key);
+                if (bucket != null && bucket.remove(slot) && bucket.size == 0) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unordered growable set of slots.
+     */
+    private static final class Bucket {
+
+        int[] slots = new int[2];
+        int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
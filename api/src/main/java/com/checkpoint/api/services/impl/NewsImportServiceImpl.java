@@ -1,25 +1,35 @@
 package com.checkpoint.api.services.impl;
 
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.checkpoint.api.client.IgdbApiClient;
+import com.checkpoint.api.client.ConditionalResponse;
+import com.checkpoint.api.client.HttpValidators;
 import com.checkpoint.api.client.RssFeedClient;
 import com.checkpoint.api.client.SteamNewsApiClient;
 import com.checkpoint.api.config.RssFeedsProperties;
 import com.checkpoint.api.dto.steam.SteamNewsResponseDto;
 import com.checkpoint.api.entities.News;
+import com.checkpoint.api.entities.NewsFetchState;
 import com.checkpoint.api.entities.NewsSource;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.repositories.NewsFetchStateRepository;
 import com.checkpoint.api.repositories.NewsRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.services.NewsImportService;
+import com.checkpoint.api.services.SteamAppMappingService;
+import com.checkpoint.api.utils.HostFanOut;
 
 /**
  * Implementation of {@link NewsImportService}.
@@ -27,6 +37,13 @@ import com.checkpoint.api.services.NewsImportService;
  * <p>Each save is unwrapped from any service-level transaction so that a single
  * poison item — bad payload, dedup race, etc. — cannot roll back the rest of the
  * batch. Per-item and per-source error isolation are explicit in the code below.</p>
+ *
+ * <p>Within a pass the sources (one per Steam app or RSS feed) are fetched in parallel on
+ * virtual threads through a {@link HostFanOut}, bounded overall and per host. Each fetch
+ * is conditional on the validators stored in {@link NewsFetchState}: an unchanged source
+ * answers {@code 304} and costs neither parsing nor dedup lookups. New validators are only
+ * stored once every item of the response has been handled, so a failed item is fetched
+ * again on the next pass.</p>
  */
 @Service
 public class NewsImportServiceImpl implements NewsImportService {
@@ -35,26 +52,34 @@ public class NewsImportServiceImpl implements NewsImportService {
 
     private static final int STEAM_NEWS_PER_GAME = 5;
     private static final String STEAM_FEED_NAME = "Steam Community";
+    private static final String STEAM_HOST = "api.steampowered.com";
 
     private final SteamNewsApiClient steamNewsApiClient;
     private final RssFeedClient rssFeedClient;
-    private final IgdbApiClient igdbApiClient;
+    private final SteamAppMappingService steamAppMappingService;
     private final VideoGameRepository videoGameRepository;
     private final NewsRepository newsRepository;
     private final RssFeedsProperties rssFeedsProperties;
+    private final NewsFetchStateRepository newsFetchStateRepository;
+    private final HostFanOut fanOut;
 
     public NewsImportServiceImpl(SteamNewsApiClient steamNewsApiClient,
                                  RssFeedClient rssFeedClient,
-                                 IgdbApiClient igdbApiClient,
+                                 SteamAppMappingService steamAppMappingService,
                                  VideoGameRepository videoGameRepository,
                                  NewsRepository newsRepository,
-                                 RssFeedsProperties rssFeedsProperties) {
+                                 RssFeedsProperties rssFeedsProperties,
+                                 NewsFetchStateRepository newsFetchStateRepository,
+                                 @Value("${news.import.max-concurrency:8}") int maxConcurrency,
+                                 @Value("${news.import.max-concurrency-per-host:2}") int maxConcurrencyPerHost) {
         this.steamNewsApiClient = steamNewsApiClient;
         this.rssFeedClient = rssFeedClient;
-        this.igdbApiClient = igdbApiClient;
+        this.steamAppMappingService = steamAppMappingService;
         this.videoGameRepository = videoGameRepository;
         this.newsRepository = newsRepository;
         this.rssFeedsProperties = rssFeedsProperties;
+        this.newsFetchStateRepository = newsFetchStateRepository;
+        this.fanOut = new HostFanOut(Math.max(1, maxConcurrency), Math.max(1, maxConcurrencyPerHost));
     }
 
     @Override
@@ -67,20 +92,28 @@ public class NewsImportServiceImpl implements NewsImportService {
 
         backfillSteamAppIds(games);
 
-        int imported = 0;
-        for (VideoGame game : games) {
-            if (game.getSteamAppId() == null) {
-                continue;
-            }
+        List<VideoGame> linked = games.stream()
+                .filter(game -> game.getSteamAppId() != null)
+                .toList();
+        Map<String, NewsFetchState> states = loadFetchStates(NewsSource.STEAM);
+        AtomicInteger imported = new AtomicInteger();
+        AtomicInteger unchanged = new AtomicInteger();
+        fanOut.forEach(linked, game -> STEAM_HOST, game -> {
             try {
-                imported += importSteamNewsForGame(game);
+                int count = importSteamNewsForGame(game, states.get(String.valueOf(game.getSteamAppId())));
+                if (count < 0) {
+                    unchanged.incrementAndGet();
+                } else {
+                    imported.addAndGet(count);
+                }
             } catch (Exception e) {
                 log.warn("Steam news import failed for game '{}' (steamAppId={}): {}",
                         game.getTitle(), game.getSteamAppId(), e.getMessage());
             }
-        }
-        log.info("Steam news import: {} new entries across {} games", imported, games.size());
-        return imported;
+        });
+        log.info("Steam news import: {} new entries across {} games ({} unchanged)",
+                imported.get(), games.size(), unchanged.get());
+        return imported.get();
     }
 
     private void backfillSteamAppIds(List<VideoGame> games) {
@@ -97,7 +130,7 @@ public class NewsImportServiceImpl implements NewsImportService {
         }
 
         try {
-            Map<Long, Long> resolved = igdbApiClient.findSteamAppIdsForIgdbIds(missingIgdbIds);
+            Map<Long, Long> resolved = steamAppMappingService.resolveSteamAppIds(missingIgdbIds);
             for (Map.Entry<Long, Long> entry : resolved.entrySet()) {
                 VideoGame game = byIgdbId.get(entry.getKey());
                 if (game != null) {
@@ -112,12 +145,20 @@ public class NewsImportServiceImpl implements NewsImportService {
         }
     }
 
-    private int importSteamNewsForGame(VideoGame game) {
-        List<SteamNewsResponseDto.NewsItem> items =
-                steamNewsApiClient.fetchNewsForApp(game.getSteamAppId(), STEAM_NEWS_PER_GAME);
+    /**
+     * @return the number of entries inserted, or {@code -1} when the app's news is unchanged
+     */
+    private int importSteamNewsForGame(VideoGame game, NewsFetchState state) {
+        ConditionalResponse<List<SteamNewsResponseDto.NewsItem>> response =
+                steamNewsApiClient.fetchNewsForAppIfModified(
+                        game.getSteamAppId(), STEAM_NEWS_PER_GAME, validatorsOf(state));
+        if (response.isNotModified()) {
+            return -1;
+        }
 
         int imported = 0;
-        for (SteamNewsResponseDto.NewsItem item : items) {
+        boolean complete = true;
+        for (SteamNewsResponseDto.NewsItem item : response.body()) {
             try {
                 if (item.gid() == null || item.title() == null) {
                     continue;
@@ -138,9 +179,13 @@ public class NewsImportServiceImpl implements NewsImportService {
                 newsRepository.save(news);
                 imported++;
             } catch (Exception e) {
+                complete = false;
                 log.warn("Steam news item skipped (gid={}): {}", item.gid(), e.getMessage());
             }
         }
+        if (complete) {
+            rememberValidators(NewsSource.STEAM, String.valueOf(game.getSteamAppId()), state, response.validators());
+        }
         return imported;
     }
 
@@ -152,23 +197,39 @@ public class NewsImportServiceImpl implements NewsImportService {
             return 0;
         }
 
-        int imported = 0;
-        for (RssFeedsProperties.Feed feed : feeds) {
+        Map<String, NewsFetchState> states = loadFetchStates(NewsSource.RSS);
+        AtomicInteger imported = new AtomicInteger();
+        AtomicInteger unchanged = new AtomicInteger();
+        fanOut.forEach(feeds, feed -> hostOf(feed.getUrl()), feed -> {
             try {
-                imported += importOneRssFeed(feed);
+                int count = importOneRssFeed(feed, states.get(feed.getUrl()));
+                if (count < 0) {
+                    unchanged.incrementAndGet();
+                } else {
+                    imported.addAndGet(count);
+                }
             } catch (Exception e) {
                 log.warn("RSS feed '{}' failed: {}", feed.getName(), e.getMessage());
             }
-        }
-        log.info("RSS import: {} new entries across {} feed(s)", imported, feeds.size());
-        return imported;
+        });
+        log.info("RSS import: {} new entries across {} feed(s) ({} unchanged)",
+                imported.get(), feeds.size(), unchanged.get());
+        return imported.get();
     }
 
-    private int importOneRssFeed(RssFeedsProperties.Feed feed) {
-        List<RssFeedClient.RssItem> items = rssFeedClient.fetch(feed.getName(), feed.getUrl());
+    /**
+     * @return the number of entries inserted, or {@code -1} when the feed is unchanged
+     */
+    private int importOneRssFeed(RssFeedsProperties.Feed feed, NewsFetchState state) {
+        ConditionalResponse<List<RssFeedClient.RssItem>> response =
+                rssFeedClient.fetchIfModified(feed.getName(), feed.getUrl(), validatorsOf(state));
+        if (response.isNotModified()) {
+            return -1;
+        }
 
         int imported = 0;
-        for (RssFeedClient.RssItem item : items) {
+        boolean complete = true;
+        for (RssFeedClient.RssItem item : response.body()) {
             try {
                 if (item.guid() == null || item.title() == null) {
                     continue;
@@ -190,13 +251,56 @@ public class NewsImportServiceImpl implements NewsImportService {
                 newsRepository.save(news);
                 imported++;
             } catch (Exception e) {
+                complete = false;
                 log.warn("RSS item skipped (feed='{}', guid={}): {}",
                         feed.getName(), item.guid(), e.getMessage());
             }
         }
+        if (complete) {
+            rememberValidators(NewsSource.RSS, feed.getUrl(), state, response.validators());
+        }
         return imported;
     }
 
+    private Map<String, NewsFetchState> loadFetchStates(NewsSource source) {
+        return newsFetchStateRepository.findAllBySource(source).stream()
+                .collect(Collectors.toMap(NewsFetchState::getSourceKey, Function.identity()));
+    }
+
+    private static HttpValidators validatorsOf(NewsFetchState state) {
+        return state != null ? state.getValidators() : HttpValidators.NONE;
+    }
+
+    /**
+     * Stores the validators of a fully handled response. Sources that never send any
+     * get no row.
+     */
+    private void rememberValidators(NewsSource source, String key, NewsFetchState state, HttpValidators validators) {
+        if (state == null && validators.isEmpty()) {
+            return;
+        }
+        try {
+            NewsFetchState target = state != null ? state : new NewsFetchState(source, key);
+            target.setValidators(validators);
+            target.setFetchedAt(LocalDateTime.now());
+            newsFetchStateRepository.save(target);
+        } catch (Exception e) {
+            log.warn("Could not store fetch state of {} source '{}': {}", source, key, e.getMessage());
+        }
+    }
+
+    private static String hostOf(String url) {
+        if (url == null) {
+            return "";
+        }
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
     @Override
     public int importFromSource(NewsSource source) {
         return switch (source) {
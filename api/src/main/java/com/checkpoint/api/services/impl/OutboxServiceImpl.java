@@ -0,0 +1,302 @@
+package com.checkpoint.api.services.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.checkpoint.api.dto.admin.OutboxStatsDto;
+import com.checkpoint.api.entities.OutboxMessage;
+import com.checkpoint.api.events.DurableEvent;
+import com.checkpoint.api.listeners.DurableEventHandlerRegistry;
+import com.checkpoint.api.listeners.DurableEventHandlerRegistry.Handler;
+import com.checkpoint.api.repositories.OutboxMessageRepository;
+import com.checkpoint.api.services.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of {@link OutboxService}.
+ *
+ * <p>Each drain round reads one batch of due deliveries, groups it by partition and
+ * assigns every partition to one of {@code outbox.workers} lanes by hash. A lane is a
+ * virtual thread that works through its partitions one delivery at a time, so the
+ * number of concurrent database connections stays bounded by the lane count.</p>
+ */
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxServiceImpl.class);
+
+    /** Partition used for the rare event published without a user. */
+    private static final UUID NO_PARTITION = new UUID(0L, 0L);
+    private static final int MAX_ROUNDS_PER_DRAIN = 50;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(10);
+    private static final Duration THROUGHPUT_WINDOW = Duration.ofMinutes(1);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final DurableEventHandlerRegistry handlerRegistry;
+    private final ObjectMapper payloadMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+
+    private final ExecutorService laneExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong handledTotal = new AtomicLong();
+    private final AtomicLong failedTotal = new AtomicLong();
+    private final Deque<long[]> recentlyHandled = new ArrayDeque<>();
+
+    public OutboxServiceImpl(OutboxMessageRepository outboxMessageRepository,
+                             DurableEventHandlerRegistry handlerRegistry,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             Clock clock,
+                             @Value("${outbox.workers:4}") int workers,
+                             @Value("${outbox.batch-size:200}") int batchSize,
+                             @Value("${outbox.max-attempts:8}") int maxAttempts,
+                             @Value("${outbox.retry-delay:PT5S}") Duration retryDelay) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.handlerRegistry = handlerRegistry;
+        this.payloadMapper = objectMapper.copy()
+                .setConstructorDetector(ConstructorDetector.USE_PROPERTIES_BASED)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = retryDelay;
+    }
+
+    @Override
+    @Transactional
+    public void record(DurableEvent event) {
+        List<Handler> handlers = handlerRegistry.handlersFor(event.getClass());
+        if (handlers.isEmpty()) {
+            return;
+        }
+
+        String payload;
+        try {
+            payload = payloadMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+        UUID partitionKey = event.partitionKey() != null ? event.partitionKey() : NO_PARTITION;
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        List<OutboxMessage> messages = new ArrayList<>(handlers.size());
+        for (Handler handler : handlers) {
+            messages.add(new OutboxMessage(partitionKey, event.getClass().getName(), handler.key(), payload, now));
+        }
+        outboxMessageRepository.saveAll(messages);
+    }
+
+    @Override
+    public int drain() {
+        int handled = 0;
+        for (int round = 0; round < MAX_ROUNDS_PER_DRAIN; round++) {
+            List<OutboxMessage> batch = outboxMessageRepository.findReady(
+                    LocalDateTime.now(clock), PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Map<UUID, List<OutboxMessage>>> lanes = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                lanes.add(new LinkedHashMap<>());
+            }
+            for (OutboxMessage message : batch) {
+                int lane = Math.floorMod(message.getPartitionKey().hashCode(), workers);
+                lanes.get(lane).computeIfAbsent(message.getPartitionKey(), key -> new ArrayList<>()).add(message);
+            }
+
+            List<CompletableFuture<Integer>> running = new ArrayList<>(workers);
+            for (Map<UUID, List<OutboxMessage>> lane : lanes) {
+                if (!lane.isEmpty()) {
+                    running.add(CompletableFuture.supplyAsync(() -> processLane(lane), laneExecutor));
+                }
+            }
+            int roundHandled = running.stream().mapToInt(CompletableFuture::join).sum();
+            handled += roundHandled;
+            recordThroughput(roundHandled);
+
+            if (batch.size() < batchSize || roundHandled == 0) {
+                break;
+            }
+        }
+        if (handled > 0) {
+            log.debug("Outbox drain handled {} deliveries", handled);
+        }
+        return handled;
+    }
+
+    @Override
+    public OutboxStatsDto getStats() {
+        LocalDateTime oldest = outboxMessageRepository.findOldestPendingCreatedAt();
+        long lagMillis = oldest == null
+                ? 0L
+                : Math.max(0L, Duration.between(oldest, LocalDateTime.now(clock)).toMillis());
+        return new OutboxStatsDto(
+                outboxMessageRepository.countByDeadFalse(),
+                outboxMessageRepository.countByDeadTrue(),
+                lagMillis,
+                handledInWindow(),
+                handledTotal.get(),
+                failedTotal.get(),
+                workers);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        laneExecutor.shutdown();
+    }
+
+    private int processLane(Map<UUID, List<OutboxMessage>> partitions) {
+        int handled = 0;
+        for (List<OutboxMessage> partition : partitions.values()) {
+            for (OutboxMessage message : partition) {
+                if (!deliver(message)) {
+                    // Later deliveries of this partition must wait for the failed one.
+                    break;
+                }
+                handled++;
+            }
+        }
+        return handled;
+    }
+
+    /**
+     * @return whether the partition may move on to its next delivery
+     */
+    private boolean deliver(OutboxMessage message) {
+        Handler handler = handlerRegistry.handler(message.getHandler()).orElse(null);
+        if (handler == null) {
+            bury(message, "No @DurableEventListener registered as " + message.getHandler());
+            return true;
+        }
+
+        Object event;
+        try {
+            event = payloadMapper.readValue(message.getPayload(), Class.forName(message.getEventType()));
+        } catch (JsonProcessingException | ClassNotFoundException e) {
+            bury(message, "Unreadable payload: " + e.getMessage());
+            return true;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Deleting first claims the row: a concurrent drain blocks on it and then skips.
+                if (outboxMessageRepository.deleteHandled(message.getId()) == 1) {
+                    handler.invoke(event);
+                }
+            });
+            handledTotal.incrementAndGet();
+            return true;
+        } catch (RuntimeException e) {
+            failedTotal.incrementAndGet();
+            reschedule(message, e);
+            return false;
+        }
+    }
+
+    private void reschedule(OutboxMessage message, RuntimeException cause) {
+        String error = describe(cause);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxMessageRepository.findById(message.getId()).ifPresent(pending -> {
+                        int attempts = pending.getAttempts() + 1;
+                        pending.setAttempts(attempts);
+                        pending.setLastError(error);
+                        if (attempts >= maxAttempts) {
+                            pending.setDead(true);
+                            log.error("Outbox delivery {} to {} failed {} times, giving up: {}",
+                                    pending.getId(), pending.getHandler(), attempts, error);
+                        } else {
+                            pending.setAvailableAt(LocalDateTime.now(clock).plus(retryDelayFor(attempts)));
+                            log.warn("Outbox delivery {} to {} failed (attempt {}), will retry: {}",
+                                    pending.getId(), pending.getHandler(), attempts, error);
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            log.error("Could not reschedule outbox delivery {}: {}", message.getId(), e.getMessage());
+        }
+    }
+
+    private void bury(OutboxMessage message, String reason) {
+        log.error("Outbox delivery {} to {} cannot be handled: {}", message.getId(), message.getHandler(), reason);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxMessageRepository.findById(message.getId()).ifPresent(pending -> {
+                        pending.setDead(true);
+                        pending.setLastError(truncate(reason));
+                    }));
+        } catch (RuntimeException e) {
+            log.error("Could not dead-letter outbox delivery {}: {}", message.getId(), e.getMessage());
+        }
+    }
+
+    private Duration retryDelayFor(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+
+    private synchronized void recordThroughput(int handled) {
+        if (handled > 0) {
+            recentlyHandled.addLast(new long[] {clock.millis(), handled});
+        }
+        pruneThroughput();
+    }
+
+    private synchronized long handledInWindow() {
+        pruneThroughput();
+        return recentlyHandled.stream().mapToLong(sample -> sample[1]).sum();
+    }
+
+    private void pruneThroughput() {
+        long cutoff = clock.millis() - THROUGHPUT_WINDOW.toMillis();
+        while (!recentlyHandled.isEmpty() && recentlyHandled.peekFirst()[0] < cutoff) {
+            recentlyHandled.removeFirst();
+        }
+    }
+
+    private static String describe(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = root.getClass().getSimpleName() + ": " + root.getMessage();
+        return truncate(message);
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
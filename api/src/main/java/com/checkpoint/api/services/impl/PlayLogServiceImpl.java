@@ -14,7 +14,6 @@ import com.checkpoint.api.entities.UserGamePlay;
 import com.checkpoint.api.exceptions.PlayLogNotFoundException;
 import com.checkpoint.api.exceptions.ProfilePrivateException;
 import com.checkpoint.api.mapper.PlayLogDetailMapper;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.UserGamePlayRepository;
 import com.checkpoint.api.repositories.UserRepository;
@@ -29,19 +28,16 @@ public class PlayLogServiceImpl implements PlayLogService {
     private final UserGamePlayRepository userGamePlayRepository;
     private final UserRepository userRepository;
     private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
     private final PlayLogDetailMapper playLogDetailMapper;
 
     public PlayLogServiceImpl(
             UserGamePlayRepository userGamePlayRepository,
             UserRepository userRepository,
             LikeRepository likeRepository,
-            CommentRepository commentRepository,
             PlayLogDetailMapper playLogDetailMapper) {
         this.userGamePlayRepository = userGamePlayRepository;
         this.userRepository = userRepository;
         this.likeRepository = likeRepository;
-        this.commentRepository = commentRepository;
         this.playLogDetailMapper = playLogDetailMapper;
     }
 
@@ -74,8 +70,8 @@ public class PlayLogServiceImpl implements PlayLogService {
         Boolean isReviewLikedByViewer = null;
 
         if (review != null) {
-            reviewLikeCount = likeRepository.countByReviewId(review.getId());
-            reviewCommentCount = commentRepository.countByReviewId(review.getId());
+            reviewLikeCount = review.getLikesCount();
+            reviewCommentCount = review.getCommentsCount();
             if (viewerId != null) {
                 isReviewLikedByViewer = likeRepository.existsByUserIdAndReviewId(viewerId, review.getId());
             }
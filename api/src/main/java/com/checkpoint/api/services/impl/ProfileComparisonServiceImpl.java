@@ -6,6 +6,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,6 +32,7 @@ import com.checkpoint.api.exceptions.UserNotFoundException;
 import com.checkpoint.api.repositories.RateRepository;
 import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.MemberSimilarityIndexService;
 import com.checkpoint.api.services.ProfileComparisonService;
 
 /**
@@ -45,7 +48,8 @@ import com.checkpoint.api.services.ProfileComparisonService;
  * </ol>
  *
  * <p>When the two users share no rated games, the rating component carries no weight and the
- * final score equals the (rounded) library overlap score.</p>
+ * final score equals the (rounded) library overlap score. {@link #estimateAffinity} approximates
+ * that case from the users' MinHash signatures alone.</p>
  */
 @Service
 @Transactional(readOnly = true)
@@ -62,16 +66,19 @@ public class ProfileComparisonServiceImpl implements ProfileComparisonService {
     private final UserRepository userRepository;
     private final UserGameRepository userGameRepository;
     private final RateRepository rateRepository;
+    private final MemberSimilarityIndexService memberSimilarityIndex;
 
     /**
      * Constructs a new ProfileComparisonServiceImpl.
      */
     public ProfileComparisonServiceImpl(UserRepository userRepository,
                                         UserGameRepository userGameRepository,
-                                        RateRepository rateRepository) {
+                                        RateRepository rateRepository,
+                                        MemberSimilarityIndexService memberSimilarityIndex) {
         this.userRepository = userRepository;
         this.userGameRepository = userGameRepository;
         this.rateRepository = rateRepository;
+        this.memberSimilarityIndex = memberSimilarityIndex;
     }
 
     /**
@@ -121,6 +128,18 @@ public class ProfileComparisonServiceImpl implements ProfileComparisonService {
                 PagedResponseDto.from(page));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptionalInt estimateAffinity(UUID viewerId, UUID targetId) {
+        OptionalDouble similarity = memberSimilarityIndex.estimateSimilarity(viewerId, targetId);
+        if (similarity.isEmpty()) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of((int) Math.round(similarity.getAsDouble() * 100.0));
+    }
+
     /**
      * Builds a {@link CommonGameEntryDto} for each game the two users have in common,
      * resolving both users' statuses and ratings in batch (two library queries plus one
@@ -2,6 +2,7 @@ package com.checkpoint.api.services.impl;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -37,6 +38,7 @@ import com.checkpoint.api.dto.profile.RecentPlayDto;
 import com.checkpoint.api.dto.profile.UpdateProfileDto;
 import com.checkpoint.api.dto.profile.UserProfileDto;
 import com.checkpoint.api.entities.Backlog;
+import com.checkpoint.api.entities.Review;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.UserGame;
 import com.checkpoint.api.enums.Priority;
@@ -54,7 +56,6 @@ import com.checkpoint.api.mapper.UserGameMapper;
 import com.checkpoint.api.mapper.WishMapper;
 import com.checkpoint.api.repositories.BacklogRepository;
 import com.checkpoint.api.repositories.BadgeRepository;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.RateRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
@@ -62,6 +63,7 @@ import com.checkpoint.api.repositories.UserGamePlayRepository;
 import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.WishRepository;
+import com.checkpoint.api.services.FollowGraphService;
 import com.checkpoint.api.services.GameListService;
 import com.checkpoint.api.services.OnboardingService;
 import com.checkpoint.api.services.ProfileService;
@@ -85,7 +87,6 @@ public class ProfileServiceImpl implements ProfileService {
     private final WishRepository wishRepository;
     private final UserGamePlayRepository userGamePlayRepository;
     private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
     private final RateRepository rateRepository;
     private final UserGameRepository userGameRepository;
     private final BacklogRepository backlogRepository;
@@ -100,6 +101,7 @@ public class ProfileServiceImpl implements ProfileService {
     private final BacklogMapper backlogMapper;
     private final GamePlayLogMapper gamePlayLogMapper;
     private final OnboardingService onboardingService;
+    private final FollowGraphService followGraph;
 
     /**
      * Constructs a new ProfileServiceImpl.
@@ -109,7 +111,6 @@ public class ProfileServiceImpl implements ProfileService {
                                WishRepository wishRepository,
                                UserGamePlayRepository userGamePlayRepository,
                                LikeRepository likeRepository,
-                               CommentRepository commentRepository,
                                RateRepository rateRepository,
                                UserGameRepository userGameRepository,
                                BacklogRepository backlogRepository,
@@ -123,13 +124,13 @@ public class ProfileServiceImpl implements ProfileService {
                                UserGameMapper userGameMapper,
                                BacklogMapper backlogMapper,
                                GamePlayLogMapper gamePlayLogMapper,
-                               OnboardingService onboardingService) {
+                               OnboardingService onboardingService,
+                               FollowGraphService followGraph) {
         this.userRepository = userRepository;
         this.reviewRepository = reviewRepository;
         this.wishRepository = wishRepository;
         this.userGamePlayRepository = userGamePlayRepository;
         this.likeRepository = likeRepository;
-        this.commentRepository = commentRepository;
         this.rateRepository = rateRepository;
         this.userGameRepository = userGameRepository;
         this.backlogRepository = backlogRepository;
@@ -144,6 +145,7 @@ public class ProfileServiceImpl implements ProfileService {
         this.backlogMapper = backlogMapper;
         this.gamePlayLogMapper = gamePlayLogMapper;
         this.onboardingService = onboardingService;
+        this.followGraph = followGraph;
     }
 
     /**
@@ -156,8 +158,8 @@ public class ProfileServiceImpl implements ProfileService {
         User user = userRepository.findByPseudoWithBadgesAndFavorites(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
 
-        Long followerCount = userRepository.countFollowersByUserId(user.getId());
-        Long followingCount = userRepository.countFollowingByUserId(user.getId());
+        Long followerCount = followGraph.countFollowers(user.getId());
+        Long followingCount = followGraph.countFollowing(user.getId());
         Long reviewCount = reviewRepository.countByUserPseudo(username);
         Long wishlistCount = wishRepository.countByUserPseudo(username);
 
@@ -168,7 +170,7 @@ public class ProfileServiceImpl implements ProfileService {
             User viewer = userRepository.findByEmail(viewerEmail).orElse(null);
             if (viewer != null) {
                 isOwner = viewer.getId().equals(user.getId());
-                isFollowing = userRepository.isFollowing(viewer.getId(), user.getId());
+                isFollowing = followGraph.isFollowing(viewer.getId(), user.getId());
             }
         }
 
@@ -232,14 +234,14 @@ public class ProfileServiceImpl implements ProfileService {
                 ? userRepository.findByEmail(viewerEmail).orElse(null)
                 : null;
 
-        return reviewRepository.findByUserPseudo(username, pageable)
-                .map(review -> {
-                    long likesCount = likeRepository.countByReviewId(review.getId());
-                    boolean hasLiked = viewer != null
-                            && likeRepository.existsByUserIdAndReviewId(viewer.getId(), review.getId());
-                    long commentsCount = commentRepository.countByReviewId(review.getId());
-                    return reviewMapper.toCardDto(review, likesCount, hasLiked, commentsCount);
-                });
+        Page<Review> reviews = reviewRepository.findByUserPseudo(username, pageable);
+        Set<UUID> likedIds = viewer == null || reviews.isEmpty()
+                ? Collections.emptySet()
+                : new HashSet<>(likeRepository.findReviewIdsLikedByUser(viewer.getId(),
+                        reviews.getContent().stream().map(Review::getId).toList()));
+
+        return reviews.map(review -> reviewMapper.toCardDto(review, review.getLikesCount(),
+                likedIds.contains(review.getId()), review.getCommentsCount()));
     }
 
     /**
@@ -13,20 +13,31 @@ import com.checkpoint.api.dto.catalog.RateResponseDto;
 import com.checkpoint.api.entities.Rate;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.enums.TrendingSignal;
+import com.checkpoint.api.events.FeedActivityEvent;
+import com.checkpoint.api.events.FeedActivityRemovedEvent;
 import com.checkpoint.api.events.GameRatedEvent;
 import com.checkpoint.api.events.RateRecordedEvent;
+import com.checkpoint.api.events.TrendingActivityEvent;
+import com.checkpoint.api.events.TrendingActivityRemovedEvent;
 import com.checkpoint.api.events.UserActivityEvent;
+import com.checkpoint.api.events.UserGamesChangedEvent;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.RateNotFoundException;
 import com.checkpoint.api.mapper.RateMapper;
 import com.checkpoint.api.repositories.RateRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.GameCatalogService;
+import com.checkpoint.api.services.GameRatingStatsService;
 import com.checkpoint.api.services.RateService;
+import com.checkpoint.api.services.UserStatsService;
 
 /**
  * Implementation of {@link RateService}.
  * Manages standalone game ratings independently from reviews.
+ * The game's average, count and distribution are shifted by {@link GameRatingStatsService}
+ * rather than recomputed from all of its rates.
  */
 @Service
 @Transactional
@@ -39,17 +50,26 @@ public class RateServiceImpl implements RateService {
     private final UserRepository userRepository;
     private final RateMapper rateMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
+    private final GameRatingStatsService gameRatingStatsService;
+    private final GameCatalogService gameCatalogService;
 
     public RateServiceImpl(RateRepository rateRepository,
                            VideoGameRepository videoGameRepository,
                            UserRepository userRepository,
                            RateMapper rateMapper,
-                           ApplicationEventPublisher eventPublisher) {
+                           ApplicationEventPublisher eventPublisher,
+                           UserStatsService userStatsService,
+                           GameRatingStatsService gameRatingStatsService,
+                           GameCatalogService gameCatalogService) {
         this.rateRepository = rateRepository;
         this.videoGameRepository = videoGameRepository;
         this.userRepository = userRepository;
         this.rateMapper = rateMapper;
         this.eventPublisher = eventPublisher;
+        this.userStatsService = userStatsService;
+        this.gameRatingStatsService = gameRatingStatsService;
+        this.gameCatalogService = gameCatalogService;
     }
 
     /**
@@ -67,6 +87,7 @@ public class RateServiceImpl implements RateService {
 
         Optional<Rate> existing = rateRepository.findByUserEmailAndVideoGameId(userEmail, videoGameId);
         boolean firstTime = existing.isEmpty();
+        Integer previousScore = existing.map(Rate::getScore).orElse(null);
 
         Rate rate = existing.orElseGet(() -> new Rate(user, videoGame, score));
         if (!firstTime) {
@@ -74,14 +95,19 @@ public class RateServiceImpl implements RateService {
         }
         rate.setScore(score);
         Rate savedRate = rateRepository.save(rate);
-
-        updateGameAverageRating(videoGame);
+        userStatsService.rateChanged(user.getId(), previousScore, score);
+        gameRatingStatsService.rateChanged(videoGameId, previousScore, score);
+        gameCatalogService.evictGameDetails(videoGameId);
 
         if (firstTime) {
             eventPublisher.publishEvent(new GameRatedEvent(user.getId(), videoGameId));
+            eventPublisher.publishEvent(new TrendingActivityEvent(videoGameId, TrendingSignal.RATING));
+            eventPublisher.publishEvent(new UserGamesChangedEvent(user.getId()));
         }
         eventPublisher.publishEvent(new RateRecordedEvent(user.getId(), videoGameId));
         eventPublisher.publishEvent(new UserActivityEvent(user.getId()));
+        eventPublisher.publishEvent(FeedActivityEvent.rating(
+                savedRate.getId(), user.getId(), videoGameId, savedRate.getScore(), savedRate.getCreatedAt()));
 
         return rateMapper.toDto(savedRate);
     }
@@ -96,10 +122,16 @@ public class RateServiceImpl implements RateService {
         Rate rate = rateRepository.findByUserEmailAndVideoGameId(userEmail, videoGameId)
                 .orElseThrow(() -> new RateNotFoundException(videoGameId));
 
-        VideoGame videoGame = rate.getVideoGame();
+        UUID rateId = rate.getId();
         rateRepository.delete(rate);
-
-        updateGameAverageRating(videoGame);
+        userStatsService.rateChanged(rate.getUser().getId(), rate.getScore(), null);
+        gameRatingStatsService.rateChanged(videoGameId, rate.getScore(), null);
+        gameCatalogService.evictGameDetails(videoGameId);
+
+        eventPublisher.publishEvent(new FeedActivityRemovedEvent(rateId));
+        eventPublisher.publishEvent(new TrendingActivityRemovedEvent(
+                videoGameId, TrendingSignal.RATING, rate.getCreatedAt()));
+        eventPublisher.publishEvent(new UserGamesChangedEvent(rate.getUser().getId()));
     }
 
     /**
@@ -115,24 +147,4 @@ public class RateServiceImpl implements RateService {
 
         return rateMapper.toDto(rate);
     }
-
-    /**
-     * Recalculates and persists the average rating for a video game.
-     *
-     * <p>Raw scores are stored as 1-10 (half-star steps). The average is divided
-     * by 2 here so {@code averageRating} stays in the 0-5 display range with
-     * 0.1 precision — no conversion needed on the frontend.</p>
-     *
-     * @param videoGame the video game entity to update
-     */
-    private void updateGameAverageRating(VideoGame videoGame) {
-        rateRepository.flush();
-        Double avg = rateRepository.calculateAverageRating(videoGame.getId());
-        double averageRating = (avg != null) ? avg / 2.0 : 0.0;
-
-        averageRating = Math.round(averageRating * 10.0) / 10.0;
-
-        videoGame.setAverageRating(averageRating);
-        videoGameRepository.save(videoGame);
-    }
 }
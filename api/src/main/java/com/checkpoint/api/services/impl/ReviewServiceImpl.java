@@ -1,5 +1,8 @@
 package com.checkpoint.api.services.impl;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -21,22 +24,28 @@ import com.checkpoint.api.entities.Review;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.UserGamePlay;
 import com.checkpoint.api.enums.NotificationType;
+import com.checkpoint.api.enums.TrendingSignal;
+import com.checkpoint.api.events.FeedActivityEvent;
+import com.checkpoint.api.events.FeedActivityRemovedEvent;
 import com.checkpoint.api.events.NotificationEvent;
 import com.checkpoint.api.events.ReviewCreatedEvent;
 import com.checkpoint.api.events.ReviewDeletedEvent;
+import com.checkpoint.api.events.TrendingActivityEvent;
+import com.checkpoint.api.events.TrendingActivityRemovedEvent;
 import com.checkpoint.api.events.UserActivityEvent;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.PlayLogNotFoundException;
 import com.checkpoint.api.exceptions.ReviewAlreadyExistsException;
 import com.checkpoint.api.exceptions.ReviewNotFoundException;
 import com.checkpoint.api.mapper.ReviewMapper;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserGamePlayRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.FollowGraphService;
 import com.checkpoint.api.services.ReviewService;
+import com.checkpoint.api.services.UserStatsService;
 import com.checkpoint.api.utils.MentionParser;
 
 /**
@@ -54,9 +63,10 @@ public class ReviewServiceImpl implements ReviewService {
     private final UserRepository userRepository;
     private final UserGamePlayRepository userGamePlayRepository;
     private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
     private final ReviewMapper reviewMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
+    private final FollowGraphService followGraph;
 
     /**
      * Constructs a new ReviewServiceImpl.
@@ -66,26 +76,29 @@ public class ReviewServiceImpl implements ReviewService {
      * @param userRepository         the user repository
      * @param userGamePlayRepository the play log repository
      * @param likeRepository         the like repository
-     * @param commentRepository      the comment repository
      * @param reviewMapper           the review mapper
      * @param eventPublisher         the application event publisher
+     * @param userStatsService       the service maintaining the per-user badge stats
+     * @param followGraph            the in-memory follow graph
      */
     public ReviewServiceImpl(ReviewRepository reviewRepository,
                              VideoGameRepository videoGameRepository,
                              UserRepository userRepository,
                              UserGamePlayRepository userGamePlayRepository,
                              LikeRepository likeRepository,
-                             CommentRepository commentRepository,
                              ReviewMapper reviewMapper,
-                             ApplicationEventPublisher eventPublisher) {
+                             ApplicationEventPublisher eventPublisher,
+                             UserStatsService userStatsService,
+                             FollowGraphService followGraph) {
         this.reviewRepository = reviewRepository;
         this.videoGameRepository = videoGameRepository;
         this.userRepository = userRepository;
         this.userGamePlayRepository = userGamePlayRepository;
         this.likeRepository = likeRepository;
-        this.commentRepository = commentRepository;
         this.reviewMapper = reviewMapper;
         this.eventPublisher = eventPublisher;
+        this.userStatsService = userStatsService;
+        this.followGraph = followGraph;
     }
 
     /**
@@ -103,16 +116,11 @@ public class ReviewServiceImpl implements ReviewService {
             viewer = userRepository.findByEmail(viewerEmail).orElse(null);
         }
 
-        User resolvedViewer = viewer;
         Page<Review> reviews = reviewRepository.findByVideoGameId(videoGameId, pageable);
+        Set<UUID> likedIds = likedReviewIds(reviews.getContent(), viewer);
 
-        return reviews.map(review -> {
-            long likesCount = likeRepository.countByReviewId(review.getId());
-            boolean hasLiked = resolvedViewer != null
-                    && likeRepository.existsByUserIdAndReviewId(resolvedViewer.getId(), review.getId());
-            long commentsCount = commentRepository.countByReviewId(review.getId());
-            return reviewMapper.toDto(review, likesCount, hasLiked, commentsCount);
-        });
+        return reviews.map(review -> reviewMapper.toDto(review, review.getLikesCount(),
+                likedIds.contains(review.getId()), review.getCommentsCount()));
     }
 
     /**
@@ -136,10 +144,13 @@ public class ReviewServiceImpl implements ReviewService {
         );
 
         Review savedReview = reviewRepository.save(review);
+        userStatsService.reviewAdded(user.getId());
         log.info("Created review for play log {} by user {}", playId, user.getPseudo());
 
         eventPublisher.publishEvent(new ReviewCreatedEvent(user.getId()));
         eventPublisher.publishEvent(new UserActivityEvent(user.getId()));
+        eventPublisher.publishEvent(new TrendingActivityEvent(playLog.getVideoGame().getId(), TrendingSignal.REVIEW));
+        eventPublisher.publishEvent(toFeedActivity(savedReview, user.getId(), playId));
 
         dispatchMentionNotifications(request.content(), user.getId(), savedReview.getId());
 
@@ -163,6 +174,7 @@ public class ReviewServiceImpl implements ReviewService {
         log.info("Updated review for play log {} by user {}", playId, user.getPseudo());
 
         eventPublisher.publishEvent(new UserActivityEvent(user.getId()));
+        eventPublisher.publishEvent(toFeedActivity(savedReview, user.getId(), playId));
 
         dispatchMentionNotifications(request.content(), user.getId(), savedReview.getId());
 
@@ -183,8 +195,12 @@ public class ReviewServiceImpl implements ReviewService {
         UUID reviewId = review.getId();
         java.time.LocalDateTime reviewCreatedAt = review.getCreatedAt();
         reviewRepository.delete(review);
+        userStatsService.reviewRemoved(user.getId());
         log.info("Deleted review for play log {} by user {}", playId, user.getPseudo());
         eventPublisher.publishEvent(new ReviewDeletedEvent(user.getId(), reviewId, reviewCreatedAt));
+        eventPublisher.publishEvent(new FeedActivityRemovedEvent(reviewId));
+        eventPublisher.publishEvent(new TrendingActivityRemovedEvent(
+                review.getVideoGame().getId(), TrendingSignal.REVIEW, reviewCreatedAt));
     }
 
     /**
@@ -210,8 +226,9 @@ public class ReviewServiceImpl implements ReviewService {
     public List<ReviewCardDto> getPopularReviews(int size, String viewerEmail) {
         User viewer = resolveViewer(viewerEmail);
         List<Review> reviews = reviewRepository.findPopularReviews(size);
+        Set<UUID> likedIds = likedReviewIds(reviews, viewer);
         return reviews.stream()
-                .map(review -> toCardDto(review, viewer))
+                .map(review -> toCardDto(review, likedIds))
                 .toList();
     }
 
@@ -223,8 +240,9 @@ public class ReviewServiceImpl implements ReviewService {
     public List<ReviewCardDto> getRecentReviews(int size, String viewerEmail) {
         User viewer = resolveViewer(viewerEmail);
         Page<Review> reviews = reviewRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, size));
+        Set<UUID> likedIds = likedReviewIds(reviews.getContent(), viewer);
         return reviews.getContent().stream()
-                .map(review -> toCardDto(review, viewer))
+                .map(review -> toCardDto(review, likedIds))
                 .toList();
     }
 
@@ -239,8 +257,9 @@ public class ReviewServiceImpl implements ReviewService {
         }
         User viewer = resolveViewer(viewerEmail);
         List<Review> reviews = reviewRepository.findPopularReviewsForGame(videoGameId, size);
+        Set<UUID> likedIds = likedReviewIds(reviews, viewer);
         return reviews.stream()
-                .map(review -> toCardDto(review, viewer))
+                .map(review -> toCardDto(review, likedIds))
                 .toList();
     }
 
@@ -255,24 +274,21 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         User viewer = resolveViewer(viewerEmail);
-        if (viewer == null || viewer.getFollowing() == null || viewer.getFollowing().isEmpty()) {
+        if (viewer == null) {
             return Page.empty(pageable);
         }
 
-        List<UUID> followingIds = viewer.getFollowing().stream()
-                .map(User::getId)
-                .toList();
+        List<UUID> followingIds = followGraph.getFollowingIds(viewer.getId());
+        if (followingIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
 
         Page<Review> reviews = reviewRepository
                 .findByVideoGameIdAndUserIdInOrderByCreatedAtDesc(videoGameId, followingIds, pageable);
 
-        User resolvedViewer = viewer;
-        return reviews.map(review -> {
-            long likesCount = likeRepository.countByReviewId(review.getId());
-            boolean hasLiked = likeRepository.existsByUserIdAndReviewId(resolvedViewer.getId(), review.getId());
-            long commentsCount = commentRepository.countByReviewId(review.getId());
-            return reviewMapper.toDto(review, likesCount, hasLiked, commentsCount);
-        });
+        Set<UUID> likedIds = likedReviewIds(reviews.getContent(), viewer);
+        return reviews.map(review -> reviewMapper.toDto(review, review.getLikesCount(),
+                likedIds.contains(review.getId()), review.getCommentsCount()));
     }
 
     /**
@@ -315,16 +331,42 @@ public class ReviewServiceImpl implements ReviewService {
     /**
      * Maps a review to a card DTO with likes/comments context for the given viewer.
      *
-     * @param review the review entity
-     * @param viewer the viewer (may be null for anonymous requests)
+     * @param review   the review entity
+     * @param likedIds IDs of the listed reviews the viewer has liked
      * @return the review card DTO
      */
-    private ReviewCardDto toCardDto(Review review, User viewer) {
-        long likesCount = likeRepository.countByReviewId(review.getId());
-        boolean hasLiked = viewer != null
-                && likeRepository.existsByUserIdAndReviewId(viewer.getId(), review.getId());
-        long commentsCount = commentRepository.countByReviewId(review.getId());
-        return reviewMapper.toCardDto(review, likesCount, hasLiked, commentsCount);
+    private ReviewCardDto toCardDto(Review review, Set<UUID> likedIds) {
+        return reviewMapper.toCardDto(review, review.getLikesCount(),
+                likedIds.contains(review.getId()), review.getCommentsCount());
+    }
+
+    /**
+     * Looks up, in one query, which of the listed reviews the viewer has liked.
+     *
+     * @param reviews the reviews being rendered
+     * @param viewer  the viewer (may be null for anonymous requests)
+     * @return the liked review IDs, empty for anonymous viewers
+     */
+    private Set<UUID> likedReviewIds(Collection<Review> reviews, User viewer) {
+        if (viewer == null || reviews.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<UUID> reviewIds = reviews.stream().map(Review::getId).toList();
+        return new HashSet<>(likeRepository.findReviewIdsLikedByUser(viewer.getId(), reviewIds));
+    }
+
+    /**
+     * Builds the feed activity describing a review in its current state.
+     *
+     * @param review the saved review
+     * @param userId the author's ID
+     * @param playId the play log the review belongs to
+     * @return the feed activity event
+     */
+    private FeedActivityEvent toFeedActivity(Review review, UUID userId, UUID playId) {
+        return FeedActivityEvent.review(
+                review.getId(), userId, review.getVideoGame().getId(),
+                review.getContent(), review.getHaveSpoilers(), playId, review.getCreatedAt());
     }
 
     /**
@@ -0,0 +1,462 @@
+package com.checkpoint.api.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.engine.backend.metamodel.IndexFieldDescriptor;
+import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.entity.SearchIndexedEntity;
+import org.hibernate.search.mapper.orm.mapping.SearchMapping;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.checkpoint.api.dto.admin.SearchIndexEntityStatusDto;
+import com.checkpoint.api.dto.admin.SearchIndexStatusDto;
+import com.checkpoint.api.services.SearchIndexService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Implementation of {@link SearchIndexService}.
+ *
+ * <p>Watermarks are kept in a properties file at the root of the Lucene index directory,
+ * so deleting the index also forgets them and forces a full rebuild. Each is stored with
+ * a fingerprint of the entity's index fields; when the mapping changes, existing
+ * documents lack the new fields and the entity is rebuilt as well. Changed rows are
+ * re-indexed in batches of {@code app.search-index.batch-size}, one transaction each;
+ * entities without a watermark go through the Hibernate Search mass indexer with
+ * {@code app.search-index.threads} loader threads.</p>
+ *
+ * <p>A watermark is taken before its entity is indexed, so rows updated while a catch-up
+ * runs are picked up again by the next one. The margin covers transactions still in
+ * flight at that point and clock drift between instances.</p>
+ */
+@Service
+public class SearchIndexServiceImpl implements SearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexServiceImpl.class);
+
+    static final String WATERMARK_FILE = "watermarks.properties";
+
+    private static final String MAPPING_SUFFIX = ".mapping";
+
+    /** Watermark stored for an entity that has no rows yet. */
+    private static final LocalDateTime NO_ROWS = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Clock clock;
+    private final Path watermarkFile;
+    private final int threads;
+    private final int batchSize;
+    private final Duration margin;
+
+    private final AtomicBoolean catchingUp = new AtomicBoolean(false);
+    private final Map<String, EntityProgress> progress = new ConcurrentSkipListMap<>();
+
+    private volatile boolean fullReindex;
+    private volatile State state = State.CATCHING_UP;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    public SearchIndexServiceImpl(EntityManagerFactory entityManagerFactory,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  Clock clock,
+                                  @Value("${spring.jpa.properties.hibernate.search.backend.directory.root:data/search-index}") String indexRoot,
+                                  @Value("${app.search-index.threads:2}") int threads,
+                                  @Value("${app.search-index.batch-size:100}") int batchSize,
+                                  @Value("${app.search-index.watermark-margin:PT5M}") Duration margin,
+                                  @Value("${app.search-index.full-reindex:false}") boolean fullReindex) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.clock = clock;
+        this.watermarkFile = Path.of(indexRoot).resolve(WATERMARK_FILE);
+        this.threads = Math.max(1, threads);
+        this.batchSize = Math.max(1, batchSize);
+        this.margin = margin;
+        this.fullReindex = fullReindex;
+    }
+
+    @Override
+    public void catchUp() {
+        if (!catchingUp.compareAndSet(false, true)) {
+            log.debug("Search index catch-up already running — skipping");
+            return;
+        }
+        try {
+            if (state != State.READY) {
+                state = State.CATCHING_UP;
+            }
+            startedAt = clock.instant();
+            finishedAt = null;
+            errorMessage = null;
+
+            long started = System.currentTimeMillis();
+            SearchMapping mapping = Search.mapping(entityManagerFactory);
+            List<SearchIndexedEntity<?>> entities = new ArrayList<>(mapping.allIndexedEntities());
+            entities.sort(Comparator.comparing(SearchIndexedEntity::jpaName));
+
+            progress.clear();
+            entities.forEach(entity -> progress.put(entity.jpaName(), new EntityProgress(entity.jpaName())));
+
+            Properties watermarks = fullReindex ? new Properties() : readWatermarks();
+            for (SearchIndexedEntity<?> entity : entities) {
+                String name = entity.jpaName();
+                String fingerprint = mappingFingerprint(entity);
+                LocalDateTime watermark = null;
+                if (fingerprint.equals(watermarks.getProperty(name + MAPPING_SUFFIX))) {
+                    watermark = parseWatermark(name, watermarks.getProperty(name));
+                } else if (watermarks.containsKey(name)) {
+                    log.info("Index fields of {} changed since the last catch-up", name);
+                }
+
+                LocalDateTime next = nextWatermark(entity);
+                catchUp(mapping, entity, watermark, progress.get(name));
+                watermarks.setProperty(name, next.toString());
+                watermarks.setProperty(name + MAPPING_SUFFIX, fingerprint);
+                writeWatermarks(watermarks);
+            }
+
+            fullReindex = false;
+            state = State.READY;
+            log.info("Search index caught up in {} ms", System.currentTimeMillis() - started);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        } catch (Exception e) {
+            fail(e);
+        } finally {
+            finishedAt = clock.instant();
+            catchingUp.set(false);
+        }
+    }
+
+    @Override
+    public void reindex(Class<?> type, Collection<UUID> ids) {
+        SearchIndexedEntity<?> entity = Search.mapping(entityManagerFactory).indexedEntity(type);
+        List<UUID> rows = List.copyOf(ids);
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            reindexBatch(entity, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+    }
+
+    @Override
+    public SearchIndexStatusDto getStatus() {
+        State current = state;
+        return new SearchIndexStatusDto(
+                current.name(),
+                current != State.READY,
+                startedAt,
+                finishedAt,
+                errorMessage,
+                progress.values().stream().map(EntityProgress::toDto).toList());
+    }
+
+    @Override
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    private void catchUp(SearchMapping mapping, SearchIndexedEntity<?> entity,
+                         LocalDateTime watermark, EntityProgress progress) throws InterruptedException {
+        if (watermark == null) {
+            log.info("No search index watermark for {} — mass-indexing it", entity.jpaName());
+            progress.start(Mode.FULL, 0);
+            // Keep the existing documents searchable while the rows are re-read; the
+            // reconcile below purges the ones whose rows are gone.
+            mapping.scope(entity.javaClass()).massIndexer()
+                    .purgeAllOnStart(false)
+                    .threadsToLoadObjects(threads)
+                    .batchSizeToLoadObjects(batchSize)
+                    .monitor(progress)
+                    .startAndWait();
+            mapping.scope(entity.javaClass()).workspace().refresh();
+            reconcile(entity, progress);
+            progress.complete();
+            log.info("Mass-indexed {} {} rows", progress.indexed.get(), entity.jpaName());
+            return;
+        }
+
+        List<UUID> changed = findIdsUpdatedSince(entity, watermark);
+        progress.start(Mode.INCREMENTAL, changed.size());
+        for (int from = 0; from < changed.size(); from += batchSize) {
+            List<UUID> batch = changed.subList(from, Math.min(changed.size(), from + batchSize));
+            reindexBatch(entity, batch);
+            progress.documentsAdded(batch.size());
+        }
+        mapping.scope(entity.javaClass()).workspace().refresh();
+        reconcile(entity, progress);
+        progress.complete();
+        log.info("Re-indexed {} {} rows updated since {}", changed.size(), entity.jpaName(), watermark);
+    }
+
+    /**
+     * Compares the indexed document ids with the row ids when their counts differ, then
+     * indexes the missing rows and purges the orphaned documents.
+     */
+    private void reconcile(SearchIndexedEntity<?> entity, EntityProgress progress) {
+        long rows = countRows(entity);
+        long documents = countDocuments(entity);
+        if (rows == documents) {
+            return;
+        }
+        log.warn("{} index holds {} documents for {} rows — reconciling ids", entity.jpaName(), documents, rows);
+
+        Set<UUID> orphans = new HashSet<>(findIndexedIds(entity));
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : findIds(entity)) {
+            if (!orphans.remove(id)) {
+                missing.add(id);
+            }
+        }
+        progress.addToTotalCount(missing.size() + orphans.size());
+
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<UUID> batch = missing.subList(from, Math.min(missing.size(), from + batchSize));
+            reindexBatch(entity, batch);
+            progress.documentsAdded(batch.size());
+        }
+        List<UUID> purged = List.copyOf(orphans);
+        for (int from = 0; from < purged.size(); from += batchSize) {
+            List<UUID> batch = purged.subList(from, Math.min(purged.size(), from + batchSize));
+            purgeBatch(entity, batch);
+            progress.documentsAdded(batch.size());
+        }
+        log.info("Reconciled {} index: {} missing rows indexed, {} orphaned documents purged",
+                entity.jpaName(), missing.size(), purged.size());
+    }
+
+    private void reindexBatch(SearchIndexedEntity<?> entity, List<UUID> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            SearchIndexingPlan plan = Search.session(entityManager).indexingPlan();
+            entityManager.createQuery(
+                            "SELECT e FROM " + entity.jpaName() + " e WHERE e.id IN :ids", entity.javaClass())
+                    .setParameter("ids", ids)
+                    .getResultList()
+                    .forEach(plan::addOrUpdate);
+        });
+    }
+
+    private void purgeBatch(SearchIndexedEntity<?> entity, List<UUID> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            SearchIndexingPlan plan = Search.session(entityManager).indexingPlan();
+            ids.forEach(id -> plan.purge(entity.javaClass(), id, null));
+        });
+    }
+
+    private List<UUID> findIdsUpdatedSince(SearchIndexedEntity<?> entity, LocalDateTime watermark) {
+        return readOnlyTransactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT e.id FROM " + entity.jpaName() + " e WHERE e.updatedAt >= :since ORDER BY e.id",
+                        UUID.class)
+                .setParameter("since", watermark)
+                .getResultList());
+    }
+
+    private List<UUID> findIds(SearchIndexedEntity<?> entity) {
+        return readOnlyTransactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT e.id FROM " + entity.jpaName() + " e", UUID.class)
+                .getResultList());
+    }
+
+    private long countRows(SearchIndexedEntity<?> entity) {
+        return readOnlyTransactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT COUNT(e) FROM " + entity.jpaName() + " e", Long.class)
+                .getSingleResult());
+    }
+
+    private List<UUID> findIndexedIds(SearchIndexedEntity<?> entity) {
+        return readOnlyTransactionTemplate.execute(status -> Search.session(entityManager)
+                .search(entity.javaClass())
+                .select((SearchProjectionFactory<?, ?> f) -> f.id(UUID.class))
+                .where((SearchPredicateFactory f) -> f.matchAll())
+                .fetchAllHits());
+    }
+
+    private long countDocuments(SearchIndexedEntity<?> entity) {
+        return readOnlyTransactionTemplate.execute(status -> Search.session(entityManager)
+                .search(entity.javaClass())
+                .where((SearchPredicateFactory f) -> f.matchAll())
+                .fetchTotalHitCount());
+    }
+
+    /**
+     * @return the watermark to store once the entity has caught up: its latest
+     *         {@code updatedAt} minus the safety margin
+     */
+    private LocalDateTime nextWatermark(SearchIndexedEntity<?> entity) {
+        LocalDateTime latest = readOnlyTransactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT MAX(e.updatedAt) FROM " + entity.jpaName() + " e", LocalDateTime.class)
+                .getSingleResult());
+        return latest == null ? NO_ROWS : latest.minus(margin);
+    }
+
+    /**
+     * @return a digest of the entity's index fields: paths, value types, capabilities
+     *         and analyzers
+     */
+    static String mappingFingerprint(SearchIndexedEntity<?> entity) {
+        String fields = entity.indexManager().descriptor().staticFields().stream()
+                .filter(IndexFieldDescriptor::isValueField)
+                .map(field -> {
+                    IndexValueFieldTypeDescriptor type = field.toValueField().type();
+                    return String.join(":",
+                            field.absolutePath(),
+                            type.valueClass().getName(),
+                            String.valueOf(type.searchable()),
+                            String.valueOf(type.sortable()),
+                            String.valueOf(type.projectable()),
+                            String.valueOf(type.aggregable()),
+                            type.analyzerName().orElse(""),
+                            type.searchAnalyzerName().orElse(""),
+                            type.normalizerName().orElse(""));
+                })
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        return UUID.nameUUIDFromBytes(fields.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private LocalDateTime parseWatermark(String entity, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            log.warn("Ignoring unreadable search index watermark for {}: '{}'", entity, value);
+            return null;
+        }
+    }
+
+    private Properties readWatermarks() {
+        Properties watermarks = new Properties();
+        if (!Files.exists(watermarkFile)) {
+            return watermarks;
+        }
+        try (InputStream in = Files.newInputStream(watermarkFile)) {
+            watermarks.load(in);
+        } catch (IOException e) {
+            log.warn("Could not read search index watermarks from {} — rebuilding the index: {}",
+                    watermarkFile, e.getMessage());
+            return new Properties();
+        }
+        return watermarks;
+    }
+
+    private void writeWatermarks(Properties watermarks) throws IOException {
+        Files.createDirectories(watermarkFile.getParent());
+        Path partial = watermarkFile.resolveSibling(WATERMARK_FILE + ".part");
+        try (OutputStream out = Files.newOutputStream(partial)) {
+            watermarks.store(out, "Latest updatedAt indexed per entity, minus a safety margin");
+        }
+        Files.move(partial, watermarkFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void fail(Exception e) {
+        state = State.FAILED;
+        errorMessage = e.getMessage();
+        log.error("Search index catch-up failed: {}", e.getMessage(), e);
+    }
+
+    private enum Mode {
+        INCREMENTAL,
+        FULL
+    }
+
+    /**
+     * Catch-up progress of one entity; doubles as the mass indexer's monitor.
+     */
+    private static final class EntityProgress implements MassIndexingMonitor {
+
+        private final String entity;
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong indexed = new AtomicLong();
+        private volatile Mode mode;
+        private volatile boolean completed;
+
+        private EntityProgress(String entity) {
+            this.entity = entity;
+        }
+
+        private void start(Mode mode, long total) {
+            this.mode = mode;
+            this.total.set(total);
+            this.indexed.set(0);
+        }
+
+        private void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void documentsAdded(long increment) {
+            indexed.addAndGet(increment);
+        }
+
+        @Override
+        public void documentsBuilt(long increment) {
+        }
+
+        @Override
+        public void entitiesLoaded(long increment) {
+        }
+
+        @Override
+        public void addToTotalCount(long count) {
+            total.addAndGet(count);
+        }
+
+        @Override
+        public void indexingCompleted() {
+        }
+
+        private SearchIndexEntityStatusDto toDto() {
+            Mode current = mode;
+            return new SearchIndexEntityStatusDto(
+                    entity,
+                    current == null ? null : current.name(),
+                    total.get(),
+                    indexed.get(),
+                    completed);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.checkpoint.api.services.impl;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.config.SearchAnalysisConfigurer;
+import com.checkpoint.api.dto.search.GameSuggestionDto;
+import com.checkpoint.api.dto.search.ListSuggestionDto;
+import com.checkpoint.api.dto.search.MemberSuggestionDto;
+import com.checkpoint.api.dto.search.SearchSuggestionsDto;
+import com.checkpoint.api.entities.GameList;
+import com.checkpoint.api.entities.User;
+import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.services.SearchSuggestionService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementation of {@link SearchSuggestionService} using the edge n-gram fields
+ * declared with {@link SearchAnalysisConfigurer#AUTOCOMPLETE}.
+ *
+ * <p>Every typed word must be a prefix of some word of the suggested title or pseudo.
+ * The prefix clauses score a constant, and a word typed in full adds a boosted clause on
+ * the regular field, so ordering is: most whole words matched, then popularity. There is
+ * no fuzzy matching or per-term scoring to compute, and suggestions are projected from
+ * stored fields, so a lookup never touches the database.</p>
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchSuggestionServiceImpl implements SearchSuggestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchSuggestionServiceImpl.class);
+
+    /** Words beyond this are ignored; they rarely narrow suggestions further. */
+    private static final int MAX_TERMS = 5;
+    private static final float WHOLE_WORD_BOOST = 2f;
+
+    private final EntityManager entityManager;
+
+    public SearchSuggestionServiceImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public SearchSuggestionsDto suggest(String query, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return new SearchSuggestionsDto(List.of(), List.of(), List.of());
+        }
+        log.debug("Suggesting for terms {} (limit={})", terms, limit);
+
+        SearchSession searchSession = Search.session(entityManager);
+        return new SearchSuggestionsDto(
+                suggestGames(searchSession, terms, limit),
+                suggestLists(searchSession, terms, limit),
+                suggestMembers(searchSession, terms, limit));
+    }
+
+    private List<GameSuggestionDto> suggestGames(SearchSession searchSession, List<String> terms, int limit) {
+        return searchSession.search(VideoGame.class)
+                .select((SearchProjectionFactory<?, ?> f) -> f.composite()
+                        .from(f.id(UUID.class),
+                                f.field("title", String.class),
+                                f.field("coverUrl", String.class),
+                                f.field("releaseDate", LocalDate.class))
+                        .asArray(fields -> new GameSuggestionDto(
+                                (UUID) fields[0],
+                                (String) fields[1],
+                                (String) fields[2],
+                                (LocalDate) fields[3])))
+                .where((SearchPredicateFactory f) -> prefixPredicate(f, "titleSuggest", "title", terms))
+                .sort((SearchSortFactory f) -> f.score().then().field("ratingCount").desc())
+                .fetchHits(limit);
+    }
+
+    private List<ListSuggestionDto> suggestLists(SearchSession searchSession, List<String> terms, int limit) {
+        return searchSession.search(GameList.class)
+                .select((SearchProjectionFactory<?, ?> f) -> f.composite()
+                        .from(f.id(UUID.class),
+                                f.field("title", String.class),
+                                f.field("user.pseudo", String.class),
+                                f.field("likesCount", Integer.class))
+                        .asArray(fields -> new ListSuggestionDto(
+                                (UUID) fields[0],
+                                (String) fields[1],
+                                (String) fields[2],
+                                (Integer) fields[3])))
+                .where((SearchPredicateFactory f) -> prefixPredicate(f, "titleSuggest", "title", terms)
+                        .filter(f.match().field("isPrivate").matching(false)))
+                .sort((SearchSortFactory f) -> f.score().then().field("likesCount").desc())
+                .fetchHits(limit);
+    }
+
+    private List<MemberSuggestionDto> suggestMembers(SearchSession searchSession, List<String> terms, int limit) {
+        return searchSession.search(User.class)
+                .select((SearchProjectionFactory<?, ?> f) -> f.composite()
+                        .from(f.id(UUID.class),
+                                f.field("pseudo", String.class),
+                                f.field("picture", String.class),
+                                f.field("level", Integer.class))
+                        .asArray(fields -> new MemberSuggestionDto(
+                                (UUID) fields[0],
+                                (String) fields[1],
+                                (String) fields[2],
+                                (Integer) fields[3])))
+                .where((SearchPredicateFactory f) -> prefixPredicate(f, "pseudoSuggest", "pseudoWords", terms)
+                        .filter(f.match().field("banned").matching(false)))
+                .sort((SearchSortFactory f) -> f.score().then().field("xpPoint").desc())
+                .fetchHits(limit);
+    }
+
+    /**
+     * Requires every term as a prefix on {@code suggestField} and boosts the terms that
+     * also match {@code wholeField} as typed.
+     */
+    private static BooleanPredicateClausesStep<?> prefixPredicate(
+            SearchPredicateFactory f, String suggestField, String wholeField, List<String> terms) {
+        BooleanPredicateClausesStep<?> bool = f.bool();
+        for (String term : terms) {
+            bool.must(f.match().field(suggestField).matching(term).constantScore());
+            bool.should(f.match().field(wholeField).matching(term).constantScore().boost(WHOLE_WORD_BOOST));
+        }
+        return bool;
+    }
+
+    /**
+     * Splits the query into lower-cased words, truncated to the longest indexed prefix;
+     * words shorter than the shortest indexed prefix cannot match and are dropped.
+     */
+    static List<String> terms(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(query.trim().toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(term -> term.length() >= SearchAnalysisConfigurer.MIN_PREFIX_LENGTH)
+                .map(term -> term.length() > SearchAnalysisConfigurer.MAX_PREFIX_LENGTH
+                        ? term.substring(0, SearchAnalysisConfigurer.MAX_PREFIX_LENGTH)
+                        : term)
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+}
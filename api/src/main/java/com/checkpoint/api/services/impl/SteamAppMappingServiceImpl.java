@@ -0,0 +1,157 @@
+package com.checkpoint.api.services.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.checkpoint.api.client.IgdbApiClient;
+import com.checkpoint.api.dto.igdb.IgdbExternalGameDto;
+import com.checkpoint.api.entities.SteamAppMapping;
+import com.checkpoint.api.repositories.SteamAppMappingRepository;
+import com.checkpoint.api.services.SteamAppMappingService;
+
+/**
+ * Implementation of {@link SteamAppMappingService}.
+ *
+ * <p>Deliberately not transactional: the rate-limited IGDB lookups must not hold a
+ * connection, so the cache is read and written in short statements of their own (or
+ * the caller's transaction). Answers are upserted, so two syncs resolving the same
+ * unknown app at once both succeed.</p>
+ */
+@Service
+public class SteamAppMappingServiceImpl implements SteamAppMappingService {
+
+    private static final Logger log = LoggerFactory.getLogger(SteamAppMappingServiceImpl.class);
+
+    private final SteamAppMappingRepository steamAppMappingRepository;
+    private final IgdbApiClient igdbApiClient;
+    private final Clock clock;
+    private final Duration negativeTtl;
+
+    public SteamAppMappingServiceImpl(SteamAppMappingRepository steamAppMappingRepository,
+                                      IgdbApiClient igdbApiClient,
+                                      Clock clock,
+                                      @Value("${steam.app-mapping.negative-ttl:P7D}") Duration negativeTtl) {
+        this.steamAppMappingRepository = steamAppMappingRepository;
+        this.igdbApiClient = igdbApiClient;
+        this.clock = clock;
+        this.negativeTtl = negativeTtl;
+    }
+
+    @Override
+    public List<SteamAppMatch> resolveIgdbIds(Collection<Long> steamAppIds) {
+        Set<Long> requested = new LinkedHashSet<>(steamAppIds);
+        requested.remove(null);
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime negativeCutoff = now.minus(negativeTtl);
+
+        Map<Long, SteamAppMapping> known = new HashMap<>();
+        for (SteamAppMapping mapping : steamAppMappingRepository.findAllBySteamAppIdIn(requested)) {
+            known.put(mapping.getSteamAppId(), mapping);
+        }
+
+        List<SteamAppMatch> matches = new ArrayList<>();
+        List<Long> toLookup = new ArrayList<>();
+        for (Long appId : requested) {
+            SteamAppMapping mapping = known.get(appId);
+            if (mapping == null || (mapping.isUnmatched() && mapping.getResolvedAt().isBefore(negativeCutoff))) {
+                toLookup.add(appId);
+            } else if (!mapping.isUnmatched()) {
+                matches.add(new SteamAppMatch(appId, mapping.getIgdbId()));
+            }
+        }
+        if (toLookup.isEmpty()) {
+            return matches;
+        }
+
+        Map<Long, Long> found = new LinkedHashMap<>();
+        for (IgdbExternalGameDto row : igdbApiClient.findIgdbIdsForSteamAppIds(toLookup)) {
+            Long appId = parseAppId(row.uid());
+            if (appId != null && row.game() != null && requested.contains(appId)) {
+                found.putIfAbsent(appId, row.game());
+            }
+        }
+
+        Map<Long, Long> answers = new LinkedHashMap<>();
+        for (Long appId : toLookup) {
+            Long igdbId = found.get(appId);
+            answers.put(appId, igdbId);
+            if (igdbId != null) {
+                matches.add(new SteamAppMatch(appId, igdbId));
+            }
+        }
+        steamAppMappingRepository.upsertAll(answers, now);
+
+        log.info("Steam appId mapping: {} cached, {} looked up on IGDB ({} matched)",
+                requested.size() - toLookup.size(), toLookup.size(), found.size());
+        return matches;
+    }
+
+    @Override
+    public Map<Long, Long> resolveSteamAppIds(Collection<Long> igdbIds) {
+        Set<Long> requested = new LinkedHashSet<>(igdbIds);
+        requested.remove(null);
+        if (requested.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> resolved = new HashMap<>();
+        for (SteamAppMapping mapping : steamAppMappingRepository.findAllByIgdbIdIn(requested)) {
+            resolved.putIfAbsent(mapping.getIgdbId(), mapping.getSteamAppId());
+        }
+        List<Long> toLookup = requested.stream()
+                .filter(id -> !resolved.containsKey(id))
+                .toList();
+        if (toLookup.isEmpty()) {
+            return resolved;
+        }
+
+        Map<Long, Long> found = igdbApiClient.findSteamAppIdsForIgdbIds(toLookup);
+        if (found.isEmpty()) {
+            return resolved;
+        }
+
+        // An app already cached as a stale "no match" is upgraded in place; one already
+        // matched to another game keeps its match.
+        Map<Long, Long> answers = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : found.entrySet()) {
+            Long igdbId = entry.getKey();
+            Long appId = entry.getValue();
+            if (igdbId == null || appId == null) {
+                continue;
+            }
+            resolved.put(igdbId, appId);
+            answers.putIfAbsent(appId, igdbId);
+        }
+        steamAppMappingRepository.upsertAll(answers, LocalDateTime.now(clock));
+        return resolved;
+    }
+
+    private Long parseAppId(String uid) {
+        if (uid == null || uid.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(uid.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
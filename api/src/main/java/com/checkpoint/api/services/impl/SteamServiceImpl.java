@@ -14,12 +14,12 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.checkpoint.api.client.IgdbApiClient;
 import com.checkpoint.api.client.SteamApiClient;
-import com.checkpoint.api.dto.igdb.IgdbExternalGameDto;
 import com.checkpoint.api.dto.onboarding.OnboardingSteps;
 import com.checkpoint.api.dto.steam.SteamAccountDto;
 import com.checkpoint.api.dto.steam.SteamOwnedGameDto;
@@ -29,6 +29,7 @@ import com.checkpoint.api.entities.Backlog;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.enums.Priority;
+import com.checkpoint.api.events.BacklogChangedEvent;
 import com.checkpoint.api.exceptions.InvalidSteamIdException;
 import com.checkpoint.api.exceptions.SteamAccountNotLinkedException;
 import com.checkpoint.api.exceptions.SteamApiException;
@@ -39,6 +40,8 @@ import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.services.GameImportService;
 import com.checkpoint.api.services.OnboardingService;
+import com.checkpoint.api.services.SteamAppMappingService;
+import com.checkpoint.api.services.SteamAppMappingService.SteamAppMatch;
 import com.checkpoint.api.services.SteamService;
 
 /**
@@ -65,26 +68,29 @@ public class SteamServiceImpl implements SteamService {
 
     private final UserRepository userRepository;
     private final SteamApiClient steamApiClient;
-    private final IgdbApiClient igdbApiClient;
+    private final SteamAppMappingService steamAppMappingService;
     private final VideoGameRepository videoGameRepository;
     private final BacklogRepository backlogRepository;
     private final GameImportService gameImportService;
     private final OnboardingService onboardingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SteamServiceImpl(UserRepository userRepository,
                             SteamApiClient steamApiClient,
-                            IgdbApiClient igdbApiClient,
+                            SteamAppMappingService steamAppMappingService,
                             VideoGameRepository videoGameRepository,
                             BacklogRepository backlogRepository,
                             GameImportService gameImportService,
-                            OnboardingService onboardingService) {
+                            OnboardingService onboardingService,
+                            ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.steamApiClient = steamApiClient;
-        this.igdbApiClient = igdbApiClient;
+        this.steamAppMappingService = steamAppMappingService;
         this.videoGameRepository = videoGameRepository;
         this.backlogRepository = backlogRepository;
         this.gameImportService = gameImportService;
         this.onboardingService = onboardingService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -207,8 +213,15 @@ public class SteamServiceImpl implements SteamService {
                         "Steam does not recognize vanity name: " + vanity));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs outside a transaction: the Steam and IGDB calls are slow and rate-limited,
+     * and holding a connection across them starves the pool. Every read and the final
+     * backlog insert run in short transactions of their own.</p>
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SteamSyncSummaryDto syncSteamLibrary(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UserNotFoundException(userEmail));
@@ -240,17 +253,13 @@ public class SteamServiceImpl implements SteamService {
                 .filter(Objects::nonNull)
                 .toList();
 
-        List<IgdbExternalGameDto> externalGames = igdbApiClient.findIgdbIdsForSteamAppIds(appIds);
+        List<SteamAppMatch> matches = steamAppMappingService.resolveIgdbIds(appIds);
 
         Set<Long> matchedIgdbIds = new HashSet<>();
         Set<Long> matchedAppIds = new HashSet<>();
-        for (IgdbExternalGameDto row : externalGames) {
-            Long appId = parseAppId(row.uid());
-            if (appId == null) {
-                continue;
-            }
-            matchedAppIds.add(appId);
-            matchedIgdbIds.add(row.game());
+        for (SteamAppMatch match : matches) {
+            matchedAppIds.add(match.steamAppId());
+            matchedIgdbIds.add(match.igdbId());
         }
         int unmatched = total - matchedAppIds.size();
 
@@ -290,6 +299,7 @@ public class SteamServiceImpl implements SteamService {
         }
         if (!toAdd.isEmpty()) {
             backlogRepository.saveAll(toAdd);
+            eventPublisher.publishEvent(new BacklogChangedEvent(user.getId()));
         }
 
         int imported = toAdd.size();
@@ -300,17 +310,6 @@ public class SteamServiceImpl implements SteamService {
         return new SteamSyncSummaryDto(total, imported, skipped, unmatched);
     }
 
-    private Long parseAppId(String uid) {
-        if (uid == null || uid.isBlank()) {
-            return null;
-        }
-        try {
-            return Long.parseLong(uid.trim());
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
-
     private SteamAccountDto persistLink(User user, SteamPlayerSummaryDto summary) {
         user.setSteamId(summary.steamId());
         user.setSteamDisplayName(summary.personaName());
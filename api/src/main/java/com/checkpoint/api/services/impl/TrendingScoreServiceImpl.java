@@ -0,0 +1,224 @@
+package com.checkpoint.api.services.impl;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.entities.TrendingGame;
+import com.checkpoint.api.enums.TrendingSignal;
+import com.checkpoint.api.repositories.GameActivityBucketRepository;
+import com.checkpoint.api.repositories.RateRepository;
+import com.checkpoint.api.repositories.TrendingGameRepository;
+import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.TrendingScoreService;
+
+/**
+ * Implementation of {@link TrendingScoreService}.
+ *
+ * <p>A game's score is the sum of its hourly bucket points, each halved for every
+ * {@value #HALF_LIFE_HOURS} hours of age, over a {@value #WINDOW_DAYS}-day window. The
+ * top {@value #SNAPSHOT_SIZE} games are picked with a bounded min-heap, and the snapshot
+ * is padded with the best-rated standalone games when fewer have recent activity.</p>
+ */
+@Service
+@Transactional
+public class TrendingScoreServiceImpl implements TrendingScoreService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingScoreServiceImpl.class);
+
+    static final int WINDOW_DAYS = 7;
+    static final int HALF_LIFE_HOURS = 48;
+    static final int SNAPSHOT_SIZE = 20;
+
+    private final GameActivityBucketRepository bucketRepository;
+    private final TrendingGameRepository trendingGameRepository;
+    private final VideoGameRepository videoGameRepository;
+    private final RateRepository rateRepository;
+    private final Clock clock;
+
+    public TrendingScoreServiceImpl(GameActivityBucketRepository bucketRepository,
+                                    TrendingGameRepository trendingGameRepository,
+                                    VideoGameRepository videoGameRepository,
+                                    RateRepository rateRepository,
+                                    Clock clock) {
+        this.bucketRepository = bucketRepository;
+        this.trendingGameRepository = trendingGameRepository;
+        this.videoGameRepository = videoGameRepository;
+        this.rateRepository = rateRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs in its own transaction: callers invoke it after the activity's own
+     * transaction has committed.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordActivity(UUID videoGameId, TrendingSignal signal) {
+        LocalDateTime bucketStart = now().truncatedTo(ChronoUnit.HOURS);
+        if (bucketRepository.addPoints(videoGameId, bucketStart, signal.getWeight()) == 0) {
+            bucketRepository.insertBucket(videoGameId, bucketStart, signal.getWeight());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs in its own transaction, like {@link #recordActivity}.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void removeActivity(UUID videoGameId, TrendingSignal signal, LocalDateTime createdAt) {
+        bucketRepository.removePoints(videoGameId, createdAt.truncatedTo(ChronoUnit.HOURS), signal.getWeight());
+    }
+
+    @Override
+    public int refreshSnapshot() {
+        LocalDateTime now = now();
+        LocalDateTime windowStart = now.minusDays(WINDOW_DAYS).truncatedTo(ChronoUnit.HOURS);
+
+        int purged = bucketRepository.deleteOlderThan(windowStart);
+
+        Map<UUID, Double> scores = new HashMap<>();
+        for (Object[] row : bucketRepository.findStandaloneBucketsSince(windowStart)) {
+            UUID videoGameId = (UUID) row[0];
+            LocalDateTime bucketStart = (LocalDateTime) row[1];
+            long points = ((Number) row[2]).longValue();
+            scores.merge(videoGameId, decayed(points, bucketStart, now), Double::sum);
+        }
+
+        List<Map.Entry<UUID, Double>> ranked = topScores(scores);
+        List<UUID> gameIds = new ArrayList<>(SNAPSHOT_SIZE);
+        List<Double> gameScores = new ArrayList<>(SNAPSHOT_SIZE);
+        for (Map.Entry<UUID, Double> entry : ranked) {
+            gameIds.add(entry.getKey());
+            gameScores.add(entry.getValue());
+        }
+        if (gameIds.size() < SNAPSHOT_SIZE) {
+            Set<UUID> taken = new HashSet<>(gameIds);
+            for (UUID id : videoGameRepository.findTrendingFallbackIds(PageRequest.of(0, SNAPSHOT_SIZE + taken.size()))) {
+                if (gameIds.size() >= SNAPSHOT_SIZE) {
+                    break;
+                }
+                if (taken.add(id)) {
+                    gameIds.add(id);
+                    gameScores.add(0.0);
+                }
+            }
+        }
+
+        Map<UUID, Long> ratingCounts = new HashMap<>();
+        if (!gameIds.isEmpty()) {
+            for (Object[] row : rateRepository.countByVideoGameIds(gameIds)) {
+                ratingCounts.put((UUID) row[0], ((Number) row[1]).longValue());
+            }
+        }
+
+        List<TrendingGame> snapshot = new ArrayList<>(gameIds.size());
+        for (int i = 0; i < gameIds.size(); i++) {
+            UUID id = gameIds.get(i);
+            snapshot.add(new TrendingGame(i + 1, id, gameScores.get(i), ratingCounts.getOrDefault(id, 0L), now));
+        }
+        trendingGameRepository.deleteAllInBatch();
+        trendingGameRepository.saveAll(snapshot);
+
+        log.info("Refreshed trending snapshot: {} games ranked by activity, {} total, {} expired buckets purged",
+                ranked.size(), snapshot.size(), purged);
+        return ranked.size();
+    }
+
+    @Override
+    public int seedIfEmpty() {
+        int seeded = 0;
+        if (bucketRepository.count() == 0) {
+            LocalDateTime windowStart = now().minusDays(WINDOW_DAYS).truncatedTo(ChronoUnit.HOURS);
+            Map<UUID, Map<LocalDateTime, Long>> pointsByGame = new HashMap<>();
+            for (Object[] row : bucketRepository.findActivitySince(windowStart)) {
+                UUID videoGameId = (UUID) row[0];
+                LocalDateTime bucketStart = toLocalDateTime(row[1]).truncatedTo(ChronoUnit.HOURS);
+                TrendingSignal signal = TrendingSignal.valueOf(row[2].toString().trim());
+                pointsByGame.computeIfAbsent(videoGameId, id -> new HashMap<>())
+                        .merge(bucketStart, (long) signal.getWeight(), Long::sum);
+                seeded++;
+            }
+            int buckets = 0;
+            for (Map.Entry<UUID, Map<LocalDateTime, Long>> game : pointsByGame.entrySet()) {
+                for (Map.Entry<LocalDateTime, Long> bucket : game.getValue().entrySet()) {
+                    bucketRepository.insertBucket(game.getKey(), bucket.getKey(), bucket.getValue());
+                    buckets++;
+                }
+            }
+            if (seeded > 0) {
+                log.info("Seeded {} trending buckets from {} recent activity rows", buckets, seeded);
+            }
+        }
+        if (trendingGameRepository.count() == 0) {
+            refreshSnapshot();
+        }
+        return seeded;
+    }
+
+    /**
+     * Keeps the {@value #SNAPSHOT_SIZE} highest scores with a bounded min-heap and
+     * returns them best first. Ties are broken by game ID for a stable order.
+     */
+    private static List<Map.Entry<UUID, Double>> topScores(Map<UUID, Double> scores) {
+        Comparator<Map.Entry<UUID, Double>> ascending = Map.Entry.<UUID, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+        PriorityQueue<Map.Entry<UUID, Double>> heap = new PriorityQueue<>(SNAPSHOT_SIZE + 1, ascending);
+        for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            heap.offer(entry);
+            if (heap.size() > SNAPSHOT_SIZE) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<UUID, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(ascending.reversed());
+        return ranked;
+    }
+
+    /**
+     * Decays bucket points by their age, measured from the middle of the bucket's hour.
+     */
+    static double decayed(long points, LocalDateTime bucketStart, LocalDateTime now) {
+        double ageHours = Math.max(0.0,
+                Duration.between(bucketStart.plusMinutes(30), now).toMinutes() / 60.0);
+        return points * Math.pow(0.5, ageHours / HALF_LIFE_HOURS);
+    }
+
+    // Activity timestamps are written with the JVM default zone; stay consistent with them.
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), ZoneId.systemDefault());
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -18,9 +18,13 @@ import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.UserGame;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.enums.PlayStatus;
+import com.checkpoint.api.enums.TrendingSignal;
 import com.checkpoint.api.events.GameFinishedEvent;
 import com.checkpoint.api.events.GameRemovedFromLibraryEvent;
 import com.checkpoint.api.events.GameStartedPlayingEvent;
+import com.checkpoint.api.events.TrendingActivityEvent;
+import com.checkpoint.api.events.TrendingActivityRemovedEvent;
+import com.checkpoint.api.events.UserGamesChangedEvent;
 import com.checkpoint.api.exceptions.GameAlreadyInLibraryException;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.GameNotInLibraryException;
@@ -29,6 +33,7 @@ import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.services.UserGameCollectionService;
+import com.checkpoint.api.services.UserStatsService;
 
 /**
  * Implementation of {@link UserGameCollectionService}.
@@ -45,17 +50,20 @@ public class UserGameCollectionServiceImpl implements UserGameCollectionService
     private final VideoGameRepository videoGameRepository;
     private final UserGameMapper userGameMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
 
     public UserGameCollectionServiceImpl(UserGameRepository userGameRepository,
                                          UserRepository userRepository,
                                          VideoGameRepository videoGameRepository,
                                          UserGameMapper userGameMapper,
-                                         ApplicationEventPublisher eventPublisher) {
+                                         ApplicationEventPublisher eventPublisher,
+                                         UserStatsService userStatsService) {
         this.userGameRepository = userGameRepository;
         this.userRepository = userRepository;
         this.videoGameRepository = videoGameRepository;
         this.userGameMapper = userGameMapper;
         this.eventPublisher = eventPublisher;
+        this.userStatsService = userStatsService;
     }
 
     @Override
@@ -72,6 +80,9 @@ public class UserGameCollectionServiceImpl implements UserGameCollectionService
         UserGame userGame = new UserGame(user, videoGame, request.status());
         userGame.setNotes(request.notes());
         UserGame saved = userGameRepository.save(userGame);
+        userStatsService.libraryEntryAdded(user.getId(), videoGame.getId(), request.status());
+        eventPublisher.publishEvent(new TrendingActivityEvent(videoGame.getId(), TrendingSignal.LIBRARY_ADD));
+        eventPublisher.publishEvent(new UserGamesChangedEvent(user.getId()));
 
         log.info("Game {} added to library for user {} with status {}", videoGame.getTitle(), userEmail, request.status());
         if (request.status() == PlayStatus.ARE_PLAYING) {
@@ -96,6 +107,7 @@ public class UserGameCollectionServiceImpl implements UserGameCollectionService
         userGame.setStatus(request.status());
         userGame.setNotes(request.notes());
         UserGame updated = userGameRepository.save(userGame);
+        userStatsService.libraryStatusChanged(user.getId(), videoGameId, previousStatus, request.status());
 
         log.info("Game {} status updated to {} for user {}", videoGameId, request.status(), userEmail);
         if (request.status() == PlayStatus.ARE_PLAYING && previousStatus != PlayStatus.ARE_PLAYING) {
@@ -135,13 +147,16 @@ public class UserGameCollectionServiceImpl implements UserGameCollectionService
 
         User user = findUserByEmail(userEmail);
 
-        if (!userGameRepository.existsByUserIdAndVideoGameId(user.getId(), videoGameId)) {
-            throw new GameNotInLibraryException(videoGameId);
-        }
+        UserGame userGame = userGameRepository.findByUserIdAndVideoGameId(user.getId(), videoGameId)
+                .orElseThrow(() -> new GameNotInLibraryException(videoGameId));
 
         userGameRepository.deleteByUserIdAndVideoGameId(user.getId(), videoGameId);
+        userStatsService.libraryEntryRemoved(user.getId(), videoGameId, userGame.getStatus());
         log.info("Game {} removed from library for user {}", videoGameId, userEmail);
         eventPublisher.publishEvent(new GameRemovedFromLibraryEvent(user.getId(), videoGameId));
+        eventPublisher.publishEvent(new TrendingActivityRemovedEvent(
+                videoGameId, TrendingSignal.LIBRARY_ADD, userGame.getCreatedAt()));
+        eventPublisher.publishEvent(new UserGamesChangedEvent(user.getId()));
     }
 
     private User findUserByEmail(String email) {
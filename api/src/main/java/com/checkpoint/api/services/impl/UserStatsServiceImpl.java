@@ -0,0 +1,139 @@
+package com.checkpoint.api.services.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.checkpoint.api.entities.UserStats;
+import com.checkpoint.api.enums.PlayStatus;
+import com.checkpoint.api.repositories.UserStatsRepository;
+import com.checkpoint.api.services.UserStatsService;
+
+/**
+ * Implementation of {@link UserStatsService}.
+ */
+@Service
+@Transactional
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatsServiceImpl.class);
+
+    /** Ratings at or below this score count as one star (0.5 or 1 on the 5-star display). */
+    private static final int ONE_STAR_MAX_SCORE = 2;
+
+    private final UserStatsRepository userStatsRepository;
+
+    public UserStatsServiceImpl(UserStatsRepository userStatsRepository) {
+        this.userStatsRepository = userStatsRepository;
+    }
+
+    @Override
+    public void reviewAdded(UUID userId) {
+        userStatsRepository.adjust(userId, 1, 0, 0);
+    }
+
+    @Override
+    public void reviewRemoved(UUID userId) {
+        userStatsRepository.adjust(userId, -1, 0, 0);
+    }
+
+    @Override
+    public void libraryEntryAdded(UUID userId, UUID videoGameId, PlayStatus status) {
+        userStatsRepository.adjust(userId, 0, 1, 0);
+        if (status == PlayStatus.COMPLETED) {
+            userStatsRepository.adjustCompleted(userId, videoGameId, 1);
+        }
+    }
+
+    @Override
+    public void libraryStatusChanged(UUID userId, UUID videoGameId, PlayStatus previousStatus, PlayStatus status) {
+        boolean wasCompleted = previousStatus == PlayStatus.COMPLETED;
+        boolean isCompleted = status == PlayStatus.COMPLETED;
+        if (wasCompleted != isCompleted) {
+            userStatsRepository.adjustCompleted(userId, videoGameId, isCompleted ? 1 : -1);
+        }
+    }
+
+    @Override
+    public void libraryEntryRemoved(UUID userId, UUID videoGameId, PlayStatus status) {
+        userStatsRepository.adjust(userId, 0, -1, 0);
+        if (status == PlayStatus.COMPLETED) {
+            userStatsRepository.adjustCompleted(userId, videoGameId, -1);
+        }
+    }
+
+    @Override
+    public void playAdded(UUID userId, UUID platformId) {
+        userStatsRepository.adjustPlays(userId, platformId, 1);
+    }
+
+    @Override
+    public void playRemoved(UUID userId, UUID platformId) {
+        userStatsRepository.adjustPlays(userId, platformId, -1);
+    }
+
+    @Override
+    public void rateChanged(UUID userId, Integer previousScore, Integer score) {
+        int delta = (isOneStar(score) ? 1 : 0) - (isOneStar(previousScore) ? 1 : 0);
+        if (delta != 0) {
+            userStatsRepository.adjust(userId, 0, 0, delta);
+        }
+    }
+
+    @Override
+    public UserStats getStats(UUID userId) {
+        return userStatsRepository.findById(userId).orElseGet(() -> {
+            build(List.of(userId));
+            return userStatsRepository.findById(userId).orElseGet(() -> new UserStats(userId));
+        });
+    }
+
+    @Override
+    public Map<String, Long> getGenreCompletions(UUID userId, Collection<String> genreNames) {
+        getStats(userId);
+
+        List<String> lowerCaseNames = genreNames.stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .toList();
+        Map<String, Long> completions = new HashMap<>();
+        for (Object[] row : userStatsRepository.findGenreCompletions(userId, lowerCaseNames)) {
+            completions.merge((String) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        return completions;
+    }
+
+    @Override
+    public int backfill(int batchSize) {
+        List<UUID> userIds = userStatsRepository.findUserIdsWithoutStats(PageRequest.of(0, batchSize));
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        build(userIds);
+        log.debug("Built stats for {} users", userIds.size());
+        return userIds.size();
+    }
+
+    @Override
+    public void deleteStats(UUID userId) {
+        userStatsRepository.deleteAllForUser(userId);
+    }
+
+    private void build(List<UUID> userIds) {
+        userStatsRepository.deleteCounters(userIds);
+        userStatsRepository.buildCounters(userIds);
+        userStatsRepository.buildStats(userIds);
+    }
+
+    private static boolean isOneStar(Integer score) {
+        return score != null && score <= ONE_STAR_MAX_SCORE;
+    }
+}
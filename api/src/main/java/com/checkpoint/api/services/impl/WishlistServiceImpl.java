@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +17,9 @@ import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.entities.Wish;
 import com.checkpoint.api.enums.Priority;
+import com.checkpoint.api.enums.TrendingSignal;
+import com.checkpoint.api.events.TrendingActivityRemovedEvent;
+import com.checkpoint.api.events.WishlistChangedEvent;
 import com.checkpoint.api.exceptions.GameAlreadyInWishlistException;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.GameNotInWishlistException;
@@ -39,15 +43,18 @@ public class WishlistServiceImpl implements WishlistService {
     private final UserRepository userRepository;
     private final VideoGameRepository videoGameRepository;
     private final WishMapper wishMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public WishlistServiceImpl(WishRepository wishRepository,
                                UserRepository userRepository,
                                VideoGameRepository videoGameRepository,
-                               WishMapper wishMapper) {
+                               WishMapper wishMapper,
+                               ApplicationEventPublisher eventPublisher) {
         this.wishRepository = wishRepository;
         this.userRepository = userRepository;
         this.videoGameRepository = videoGameRepository;
         this.wishMapper = wishMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -65,6 +72,7 @@ public class WishlistServiceImpl implements WishlistService {
         Wish wish = new Wish(user, videoGame);
         wish.setPriority(priority);
         Wish saved = wishRepository.save(wish);
+        eventPublisher.publishEvent(new WishlistChangedEvent(user.getId(), videoGame.getId(), true));
 
         log.info("Game {} added to wishlist for user {}", videoGame.getTitle(), userEmail);
         return wishMapper.toResponseDto(saved);
@@ -76,11 +84,13 @@ public class WishlistServiceImpl implements WishlistService {
 
         User user = findUserByEmail(userEmail);
 
-        if (!wishRepository.existsByUserIdAndVideoGameId(user.getId(), videoGameId)) {
-            throw new GameNotInWishlistException(videoGameId);
-        }
+        Wish wish = wishRepository.findByUserIdAndVideoGameId(user.getId(), videoGameId)
+                .orElseThrow(() -> new GameNotInWishlistException(videoGameId));
 
         wishRepository.deleteByUserIdAndVideoGameId(user.getId(), videoGameId);
+        eventPublisher.publishEvent(new WishlistChangedEvent(user.getId(), videoGameId, false));
+        eventPublisher.publishEvent(new TrendingActivityRemovedEvent(
+                videoGameId, TrendingSignal.WISH, wish.getCreatedAt()));
         log.info("Game {} removed from wishlist for user {}", videoGameId, userEmail);
     }
 
@@ -0,0 +1,66 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.CatalogTagIndexService;
+import com.checkpoint.api.services.GameSimilarityIndexService;
+
+/**
+ * Builds the in-memory catalog indexes (recommendation tag bitsets, similarity
+ * neighbours) in the background once the application is ready, and rebuilds them
+ * nightly so rating and recency drift is folded back in.
+ *
+ * <p>Not guarded by ShedLock: the indexes live in each instance's memory, so every
+ * instance has to rebuild its own copy.</p>
+ */
+@Component
+public class CatalogIndexTask {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogIndexTask.class);
+
+    private final CatalogTagIndexService catalogTagIndex;
+    private final GameSimilarityIndexService similarityIndex;
+
+    public CatalogIndexTask(CatalogTagIndexService catalogTagIndex,
+                            GameSimilarityIndexService similarityIndex) {
+        this.catalogTagIndex = catalogTagIndex;
+        this.similarityIndex = similarityIndex;
+    }
+
+    /**
+     * Initial build. Runs off the startup thread; recommendation and similar-games
+     * requests fall back to their SQL paths until it completes.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Runs daily at 04:15, after the other nightly jobs.
+     */
+    @Scheduled(cron = "0 15 4 * * ?")
+    public void rebuildNightly() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            catalogTagIndex.rebuild();
+        } catch (Exception e) {
+            log.error("Catalog tag index rebuild failed: {}", e.getMessage(), e);
+        }
+        try {
+            similarityIndex.rebuild();
+        } catch (Exception e) {
+            log.error("Similarity index rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.EngagementCounterService;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * Nightly pass that recomputes the like / comment / entry counters whose stored value
+ * drifted from the source rows. Incremental updates cover every user-facing write; this
+ * only catches rows removed by cascades (account deletion, review or list deletion).
+ */
+@Component
+public class EngagementCounterReconcileTask {
+
+    private static final Logger log = LoggerFactory.getLogger(EngagementCounterReconcileTask.class);
+
+    private final EngagementCounterService engagementCounterService;
+
+    public EngagementCounterReconcileTask(EngagementCounterService engagementCounterService) {
+        this.engagementCounterService = engagementCounterService;
+    }
+
+    /**
+     * Runs daily at 04:45, after the catalog index rebuild.
+     */
+    @Scheduled(cron = "0 45 4 * * ?")
+    @SchedulerLock(name = "engagementCounterReconcile", lockAtLeastFor = "5m", lockAtMostFor = "30m")
+    public void reconcileCounters() {
+        try {
+            engagementCounterService.reconcileCounters();
+        } catch (Exception e) {
+            log.error("Engagement counter reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+}
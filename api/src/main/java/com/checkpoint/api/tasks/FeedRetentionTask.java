@@ -0,0 +1,40 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.FeedFanOutService;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * Nightly sweep that drops materialized feed rows older than the 30-day feed
+ * window. The read path already ignores them; this only keeps the inbox table
+ * (and its indexes) bounded.
+ */
+@Component
+public class FeedRetentionTask {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedRetentionTask.class);
+
+    private final FeedFanOutService feedFanOutService;
+
+    public FeedRetentionTask(FeedFanOutService feedFanOutService) {
+        this.feedFanOutService = feedFanOutService;
+    }
+
+    /**
+     * Runs daily at 03:30, after the refresh-token cleanup.
+     */
+    @Scheduled(cron = "0 30 3 * * ?")
+    @SchedulerLock(name = "feedRetention", lockAtLeastFor = "5m", lockAtMostFor = "30m")
+    public void purgeExpiredFeedRows() {
+        try {
+            feedFanOutService.purgeExpired();
+        } catch (Exception e) {
+            log.error("Feed retention sweep failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.FollowGraphService;
+
+/**
+ * Builds the in-memory follow graph in the background once the application is ready,
+ * and rebuilds it periodically so follows recorded by other instances and missed
+ * events are folded back in.
+ *
+ * <p>Not guarded by ShedLock: the graph lives in each instance's memory, so every
+ * instance has to rebuild its own copy.</p>
+ */
+@Component
+public class FollowGraphTask {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowGraphTask.class);
+
+    private final FollowGraphService followGraph;
+
+    public FollowGraphTask(FollowGraphService followGraph) {
+        this.followGraph = followGraph;
+    }
+
+    /**
+     * Initial build. Runs off the startup thread; follow lookups fall back to SQL
+     * until it completes.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Runs every 15 minutes by default ({@code app.follow-graph.resync-cron}).
+     */
+    @Scheduled(cron = "${app.follow-graph.resync-cron:0 */15 * * * *}")
+    public void resync() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            followGraph.rebuild();
+        } catch (Exception e) {
+            log.error("Follow graph rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
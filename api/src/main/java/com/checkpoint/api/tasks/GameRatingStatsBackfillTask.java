@@ -0,0 +1,55 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.GameRatingStatsService;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * One-shot backfill of the per-game rating stats, run in the background once the
+ * application is ready. Only rated games without a stats row are built, so after the
+ * first complete pass this finds nothing to do; to rebuild a game, delete its row.
+ *
+ * <p>Game pages do not wait for it: until a game is built its distribution is counted
+ * from its rates, and its next rating builds it.</p>
+ */
+@Component
+public class GameRatingStatsBackfillTask {
+
+    private static final Logger log = LoggerFactory.getLogger(GameRatingStatsBackfillTask.class);
+
+    private final GameRatingStatsService gameRatingStatsService;
+    private final int batchSize;
+
+    public GameRatingStatsBackfillTask(GameRatingStatsService gameRatingStatsService,
+                                       @Value("${app.game-rating-stats.backfill-batch-size:500}") int batchSize) {
+        this.gameRatingStatsService = gameRatingStatsService;
+        this.batchSize = batchSize;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @SchedulerLock(name = "gameRatingStatsBackfill", lockAtMostFor = "2h")
+    public void backfill() {
+        try {
+            int total = 0;
+            int built;
+            do {
+                built = gameRatingStatsService.backfill(batchSize);
+                total += built;
+            } while (built == batchSize);
+            if (total > 0) {
+                log.info("Game rating stats backfill built {} games", total);
+            }
+        } catch (Exception e) {
+            log.error("Game rating stats backfill failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.LeaderboardIndexService;
+
+/**
+ * Builds the in-memory leaderboard index in the background once the application is
+ * ready, and rebuilds it periodically so credits applied by other instances, new users
+ * and missed events are folded back in.
+ *
+ * <p>Not guarded by ShedLock: the index lives in each instance's memory, so every
+ * instance has to rebuild its own copy.</p>
+ */
+@Component
+public class LeaderboardIndexTask {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardIndexTask.class);
+
+    private final LeaderboardIndexService leaderboardIndex;
+
+    public LeaderboardIndexTask(LeaderboardIndexService leaderboardIndex) {
+        this.leaderboardIndex = leaderboardIndex;
+    }
+
+    /**
+     * Initial build. Runs off the startup thread; leaderboard requests fall back to
+     * their SQL paths until it completes.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Runs every 15 minutes by default ({@code app.leaderboard.resync-cron}).
+     */
+    @Scheduled(cron = "${app.leaderboard.resync-cron:0 */15 * * * *}")
+    public void resync() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            leaderboardIndex.rebuild();
+        } catch (Exception e) {
+            log.error("Leaderboard index rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.MemberSimilarityIndexService;
+
+/**
+ * Builds the in-memory member similarity index in the background once the application
+ * is ready, and rebuilds it periodically so library changes recorded by other instances
+ * and missed events are folded back in.
+ *
+ * <p>Not guarded by ShedLock: the index lives in each instance's memory, so every
+ * instance has to rebuild its own copy.</p>
+ */
+@Component
+public class MemberSimilarityIndexTask {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberSimilarityIndexTask.class);
+
+    private final MemberSimilarityIndexService memberSimilarityIndex;
+
+    public MemberSimilarityIndexTask(MemberSimilarityIndexService memberSimilarityIndex) {
+        this.memberSimilarityIndex = memberSimilarityIndex;
+    }
+
+    /**
+     * Initial build. Runs off the startup thread; member suggestions fall back to SQL
+     * until it completes.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Runs hourly by default ({@code app.member-similarity.resync-cron}).
+     */
+    @Scheduled(cron = "${app.member-similarity.resync-cron:0 20 * * * *}")
+    public void resync() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            memberSimilarityIndex.rebuild();
+        } catch (Exception e) {
+            log.error("Member similarity index rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.OutboxService;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * Polls the domain-event outbox. The lock keeps a single instance draining at a time,
+ * which is what guarantees per-user ordering across a cluster; within that instance
+ * the work is spread over the partitioned worker pool.
+ */
+@Component
+public class OutboxDrainTask {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDrainTask.class);
+
+    private final OutboxService outboxService;
+
+    public OutboxDrainTask(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    /**
+     * Runs {@code outbox.poll-interval-ms} after the previous drain finished.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    @SchedulerLock(name = "outboxDrain", lockAtMostFor = "10m")
+    public void drain() {
+        try {
+            outboxService.drain();
+        } catch (Exception e) {
+            log.error("Outbox drain failed: {}", e.getMessage(), e);
+        }
+    }
+}
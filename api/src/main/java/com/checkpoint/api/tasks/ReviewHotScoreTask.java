@@ -0,0 +1,62 @@
+package com.checkpoint.api.tasks;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.EngagementCounterService;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * Keeps the stored review hot scores in step with time. Likes rescore their review as
+ * they happen; this decays the recent reviews between likes, along with the older ones
+ * until their score is too small to outrank a recent one, and once at startup scores
+ * the reviews liked before the scores were stored.
+ */
+@Component
+public class ReviewHotScoreTask {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewHotScoreTask.class);
+
+    private final EngagementCounterService engagementCounterService;
+    private final Duration decayWindow;
+
+    public ReviewHotScoreTask(EngagementCounterService engagementCounterService,
+                              @Value("${app.reviews.hot-score.decay-window:P30D}") Duration decayWindow) {
+        this.engagementCounterService = engagementCounterService;
+        this.decayWindow = decayWindow;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @SchedulerLock(name = "reviewHotScoreBackfill", lockAtMostFor = "30m")
+    public void scoreUnscoredReviews() {
+        try {
+            engagementCounterService.scoreUnscoredReviews();
+        } catch (Exception e) {
+            log.error("Review hot score backfill failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs every 15 minutes; a review's rank among its peers barely moves in that time.
+     */
+    @Scheduled(cron = "0 */15 * * * ?")
+    @SchedulerLock(name = "reviewHotScoreDecay", lockAtLeastFor = "1m", lockAtMostFor = "10m")
+    public void decayHotScores() {
+        try {
+            int rescored = engagementCounterService.decayHotScores(decayWindow);
+            log.debug("Decayed the hot score of {} reviews", rescored);
+        } catch (Exception e) {
+            log.error("Review hot score decay failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.SearchIndexService;
+
+/**
+ * Catches the full-text search index up with the database in the background once the
+ * application is ready, and again periodically so rows changed by other instances (or
+ * behind the application's back) are folded in.
+ *
+ * <p>Not guarded by ShedLock: the Lucene index lives on each instance's local disk, so
+ * every instance has to catch up its own copy.</p>
+ */
+@Component
+public class SearchIndexTask {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexTask.class);
+
+    private final SearchIndexService searchIndex;
+
+    public SearchIndexTask(SearchIndexService searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Initial catch-up. Runs off the startup thread; search serves the index as it was
+     * at shutdown, and is reported as degraded, until it completes.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpOnStartup() {
+        catchUp();
+    }
+
+    /**
+     * Runs every 15 minutes by default ({@code app.search-index.resync-cron}).
+     */
+    @Scheduled(cron = "${app.search-index.resync-cron:0 */15 * * * *}")
+    public void resync() {
+        catchUp();
+    }
+
+    private void catchUp() {
+        try {
+            searchIndex.catchUp();
+        } catch (Exception e) {
+            log.error("Search index catch-up failed: {}", e.getMessage(), e);
+        }
+    }
+}
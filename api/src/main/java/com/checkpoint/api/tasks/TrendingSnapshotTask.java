@@ -0,0 +1,40 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.TrendingScoreService;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * Rebuilds the trending snapshot from the hourly activity counters. The snapshot is
+ * shared through the database, so only one instance refreshes it per run.
+ */
+@Component
+public class TrendingSnapshotTask {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingSnapshotTask.class);
+
+    private final TrendingScoreService trendingScoreService;
+
+    public TrendingSnapshotTask(TrendingScoreService trendingScoreService) {
+        this.trendingScoreService = trendingScoreService;
+    }
+
+    /**
+     * Runs every 10 minutes on the wall clock, so every instance fires at the same
+     * moment and the lock keeps a single refresh.
+     */
+    @Scheduled(cron = "0 */10 * * * *")
+    @SchedulerLock(name = "trendingSnapshot", lockAtLeastFor = "1m", lockAtMostFor = "9m")
+    public void refreshSnapshot() {
+        try {
+            trendingScoreService.refreshSnapshot();
+        } catch (Exception e) {
+            log.error("Trending snapshot refresh failed: {}", e.getMessage(), e);
+        }
+    }
+}
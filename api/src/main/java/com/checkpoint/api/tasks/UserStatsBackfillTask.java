@@ -0,0 +1,55 @@
+package com.checkpoint.api.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.checkpoint.api.services.UserStatsService;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * One-shot backfill of the per-user badge stats, run in the background once the
+ * application is ready. Only users without a stats row are built, so after the first
+ * complete pass this finds nothing to do; to rebuild a user, delete their row.
+ *
+ * <p>Badge checks do not wait for it: a user whose stats are missing gets them built on
+ * their next check.</p>
+ */
+@Component
+public class UserStatsBackfillTask {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatsBackfillTask.class);
+
+    private final UserStatsService userStatsService;
+    private final int batchSize;
+
+    public UserStatsBackfillTask(UserStatsService userStatsService,
+                                 @Value("${app.user-stats.backfill-batch-size:500}") int batchSize) {
+        this.userStatsService = userStatsService;
+        this.batchSize = batchSize;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @SchedulerLock(name = "userStatsBackfill", lockAtMostFor = "2h")
+    public void backfill() {
+        try {
+            int total = 0;
+            int built;
+            do {
+                built = userStatsService.backfill(batchSize);
+                total += built;
+            } while (built == batchSize);
+            if (total > 0) {
+                log.info("User stats backfill built {} users", total);
+            }
+        } catch (Exception e) {
+            log.error("User stats backfill failed: {}", e.getMessage(), e);
+        }
+    }
+}
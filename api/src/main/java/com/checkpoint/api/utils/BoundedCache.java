@@ -0,0 +1,148 @@
+package com.checkpoint.api.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.checkpoint.api.dto.admin.CacheStatsDto;
+
+/**
+ * Small thread-safe LRU cache with an optional time-to-live and hit / miss / eviction
+ * counters.
+ *
+ * <p>Entries are evicted least-recently-used first once {@code maxSize} is reached, and
+ * treated as absent once older than the TTL. Callers that compute a value from the
+ * database and then cache it should take a {@link #stamp()} before reading and store
+ * with {@link #putIfUnchanged}: if the same key was invalidated in between (e.g. a commit
+ * that landed while the value was being computed) the possibly stale value is dropped.
+ * Recent invalidations are remembered per key in a tombstone map bounded like the cache
+ * itself; once a tombstone is pushed out, every older stamp is rejected.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final LinkedHashMap<K, Long> tombstones;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private long invalidationSequence;
+    private long tombstoneFloor;
+
+    /**
+     * @param name    label reported in {@link #stats()}
+     * @param maxSize maximum number of entries kept
+     * @param ttl     maximum age of an entry, or {@code null} / zero for no expiry
+     * @param clock   time source for the TTL
+     */
+    public BoundedCache(String name, int maxSize, Duration ttl, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl == null ? 0 : ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.tombstones = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Long> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    tombstoneFloor = eldest.getValue();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value, or {@code null} on a miss (absent or expired).
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && isExpired(entry)) {
+            entries.remove(key);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.millis()));
+    }
+
+    /**
+     * Stores the value only if {@code key} was not invalidated since {@code stamp} was taken.
+     *
+     * @return whether the value was stored
+     */
+    public synchronized boolean putIfUnchanged(K key, V value, long stamp) {
+        Long invalidatedAt = tombstones.get(key);
+        if (stamp < tombstoneFloor || (invalidatedAt != null && invalidatedAt > stamp)) {
+            return false;
+        }
+        put(key, value);
+        return true;
+    }
+
+    /**
+     * @return a token to pass to {@link #putIfUnchanged}
+     */
+    public synchronized long stamp() {
+        return invalidationSequence;
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidationSequence++;
+        tombstones.remove(key);
+        tombstones.put(key, invalidationSequence);
+        if (entries.remove(key) != null) {
+            invalidations++;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidationSequence++;
+        tombstones.clear();
+        tombstoneFloor = invalidationSequence;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized CacheStatsDto stats() {
+        return new CacheStatsDto(name, entries.size(), maxSize, hits, misses, evictions, invalidations);
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return ttlMillis > 0 && clock.millis() - entry.storedAt() > ttlMillis;
+    }
+
+    private record Entry<V>(V value, long storedAt) {
+    }
+}
@@ -0,0 +1,289 @@
+package com.checkpoint.api.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Directed graph over UUID vertices stored in compressed sparse row (CSR) form, in both
+ * directions.
+ *
+ * <p>Every vertex is mapped to a dense {@code int} ordinal. The bulk-loaded edges live in
+ * two pairs of flat arrays — {@code offsets[v]..offsets[v + 1]} delimits the sorted
+ * neighbours of {@code v} in {@code edges} — so the whole graph costs about eight bytes
+ * per edge plus the ordinal map. Edges added or removed after the load are applied by
+ * copying the affected row into a small overlay, which the next bulk load folds back.</p>
+ *
+ * <p>Degree lookups are {@code O(1)}, edge lookups {@code O(log degree)}, and a mutation
+ * copies one row per direction. Not thread-safe; callers guard it with their own lock.</p>
+ */
+public final class CompactDigraph {
+
+    private static final int[] NO_EDGES = new int[0];
+
+    private final Map<UUID, Integer> ordinals;
+    private final List<UUID> vertices;
+
+    private final Csr out;
+    private final Csr in;
+
+    private long edgeCount;
+
+    private CompactDigraph(Map<UUID, Integer> ordinals, List<UUID> vertices, Csr out, Csr in, long edgeCount) {
+        this.ordinals = ordinals;
+        this.vertices = vertices;
+        this.out = out;
+        this.in = in;
+        this.edgeCount = edgeCount;
+    }
+
+    /**
+     * Bulk-loads a graph. Duplicate edges are ignored.
+     *
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge, at the same index
+     */
+    public static CompactDigraph build(List<UUID> sources, List<UUID> targets) {
+        if (sources.size() != targets.size()) {
+            throw new IllegalArgumentException("sources and targets must have the same size");
+        }
+        Map<UUID, Integer> ordinals = new HashMap<>();
+        List<UUID> vertices = new ArrayList<>();
+        int edges = sources.size();
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            from[i] = ordinal(ordinals, vertices, sources.get(i));
+            to[i] = ordinal(ordinals, vertices, targets.get(i));
+        }
+
+        Csr out = Csr.of(vertices.size(), from, to);
+        Csr in = Csr.of(vertices.size(), to, from);
+        return new CompactDigraph(ordinals, vertices, out, in, out.edges.length);
+    }
+
+    /**
+     * @return an empty graph
+     */
+    public static CompactDigraph empty() {
+        return build(List.of(), List.of());
+    }
+
+    public long edgeCount() {
+        return edgeCount;
+    }
+
+    public int outDegree(UUID vertex) {
+        Integer v = ordinals.get(vertex);
+        return v == null ? 0 : out.degree(v);
+    }
+
+    public int inDegree(UUID vertex) {
+        Integer v = ordinals.get(vertex);
+        return v == null ? 0 : in.degree(v);
+    }
+
+    public boolean hasEdge(UUID source, UUID target) {
+        Integer s = ordinals.get(source);
+        Integer t = ordinals.get(target);
+        return s != null && t != null && out.contains(s, t);
+    }
+
+    /**
+     * @return the targets of the edges leaving {@code vertex}
+     */
+    public List<UUID> successors(UUID vertex) {
+        Integer v = ordinals.get(vertex);
+        return v == null ? List.of() : toIds(out.row(v));
+    }
+
+    /**
+     * @return the sources of the edges entering {@code vertex}
+     */
+    public List<UUID> predecessors(UUID vertex) {
+        Integer v = ordinals.get(vertex);
+        return v == null ? List.of() : toIds(in.row(v));
+    }
+
+    /**
+     * Adds an edge.
+     *
+     * @return whether the edge was absent
+     */
+    public boolean addEdge(UUID source, UUID target) {
+        int s = ordinal(ordinals, vertices, source);
+        int t = ordinal(ordinals, vertices, target);
+        if (!out.insert(s, t)) {
+            return false;
+        }
+        in.insert(t, s);
+        edgeCount++;
+        return true;
+    }
+
+    /**
+     * Removes an edge.
+     *
+     * @return whether the edge was present
+     */
+    public boolean removeEdge(UUID source, UUID target) {
+        Integer s = ordinals.get(source);
+        Integer t = ordinals.get(target);
+        if (s == null || t == null || !out.delete(s, t)) {
+            return false;
+        }
+        in.delete(t, s);
+        edgeCount--;
+        return true;
+    }
+
+    /**
+     * Removes every edge entering or leaving a vertex. Its ordinal is kept until the
+     * next bulk load.
+     */
+    public void removeVertex(UUID vertex) {
+        Integer v = ordinals.get(vertex);
+        if (v == null) {
+            return;
+        }
+        for (int target : out.row(v)) {
+            in.delete(target, v);
+            edgeCount--;
+        }
+        for (int source : in.row(v)) {
+            out.delete(source, v);
+            edgeCount--;
+        }
+        out.clear(v);
+        in.clear(v);
+    }
+
+    private List<UUID> toIds(int[] row) {
+        List<UUID> ids = new ArrayList<>(row.length);
+        for (int v : row) {
+            ids.add(vertices.get(v));
+        }
+        return ids;
+    }
+
+    private static int ordinal(Map<UUID, Integer> ordinals, List<UUID> vertices, UUID vertex) {
+        return ordinals.computeIfAbsent(vertex, id -> {
+            vertices.add(id);
+            return vertices.size() - 1;
+        });
+    }
+
+    /**
+     * One direction of the graph: the bulk-loaded rows plus the rows rewritten since.
+     */
+    private static final class Csr {
+
+        private final int[] offsets;
+        private final int[] edges;
+        private final Map<Integer, int[]> overlay = new HashMap<>();
+
+        private Csr(int[] offsets, int[] edges) {
+            this.offsets = offsets;
+            this.edges = edges;
+        }
+
+        private static Csr of(int vertexCount, int[] from, int[] to) {
+            int[] offsets = new int[vertexCount + 1];
+            for (int v : from) {
+                offsets[v + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            int[] cursor = Arrays.copyOf(offsets, vertexCount);
+            int[] edges = new int[from.length];
+            for (int i = 0; i < from.length; i++) {
+                edges[cursor[from[i]]++] = to[i];
+            }
+
+            // Sort each row and squeeze out duplicates in place.
+            int[] compactOffsets = new int[vertexCount + 1];
+            int write = 0;
+            for (int v = 0; v < vertexCount; v++) {
+                int start = offsets[v];
+                int end = offsets[v + 1];
+                Arrays.sort(edges, start, end);
+                compactOffsets[v] = write;
+                for (int i = start; i < end; i++) {
+                    if (i == start || edges[i] != edges[i - 1]) {
+                        edges[write++] = edges[i];
+                    }
+                }
+            }
+            compactOffsets[vertexCount] = write;
+            return new Csr(compactOffsets, write == edges.length ? edges : Arrays.copyOf(edges, write));
+        }
+
+        private int degree(int v) {
+            int[] rewritten = overlay.get(v);
+            if (rewritten != null) {
+                return rewritten.length;
+            }
+            return v + 1 < offsets.length ? offsets[v + 1] - offsets[v] : 0;
+        }
+
+        private boolean contains(int v, int neighbour) {
+            int[] rewritten = overlay.get(v);
+            if (rewritten != null) {
+                return Arrays.binarySearch(rewritten, neighbour) >= 0;
+            }
+            return v + 1 < offsets.length
+                    && Arrays.binarySearch(edges, offsets[v], offsets[v + 1], neighbour) >= 0;
+        }
+
+        /**
+         * @return the sorted neighbours of {@code v}; callers must not modify the array
+         */
+        private int[] row(int v) {
+            int[] rewritten = overlay.get(v);
+            if (rewritten != null) {
+                return rewritten;
+            }
+            if (v + 1 >= offsets.length) {
+                return NO_EDGES;
+            }
+            return Arrays.copyOfRange(edges, offsets[v], offsets[v + 1]);
+        }
+
+        private boolean insert(int v, int neighbour) {
+            int[] row = row(v);
+            int at = Arrays.binarySearch(row, neighbour);
+            if (at >= 0) {
+                return false;
+            }
+            int index = -at - 1;
+            int[] updated = new int[row.length + 1];
+            System.arraycopy(row, 0, updated, 0, index);
+            updated[index] = neighbour;
+            System.arraycopy(row, index, updated, index + 1, row.length - index);
+            overlay.put(v, updated);
+            return true;
+        }
+
+        private boolean delete(int v, int neighbour) {
+            int[] row = row(v);
+            int at = Arrays.binarySearch(row, neighbour);
+            if (at < 0) {
+                return false;
+            }
+            int[] updated = new int[row.length - 1];
+            System.arraycopy(row, 0, updated, 0, at);
+            System.arraycopy(row, at + 1, updated, at, row.length - at - 1);
+            overlay.put(v, updated);
+            return true;
+        }
+
+        private void clear(int v) {
+            overlay.put(v, NO_EDGES);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.checkpoint.api.utils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs one blocking task per item on virtual threads, with at most {@code maxConcurrency}
+ * tasks running at once overall and at most {@code maxPerHost} against the same host.
+ *
+ * <p>Every item gets its own virtual thread up front; a thread first waits for a slot of
+ * its host and only then for a global slot, so items queued behind a busy host never
+ * hold back items for other hosts. {@link #forEach} returns once every task has
+ * finished.</p>
+ */
+public final class HostFanOut {
+
+    private static final Logger log = LoggerFactory.getLogger(HostFanOut.class);
+
+    private final int maxConcurrency;
+    private final int maxPerHost;
+
+    /**
+     * @param maxConcurrency maximum number of tasks running at once
+     * @param maxPerHost     maximum number of tasks running at once for the same host
+     */
+    public HostFanOut(int maxConcurrency, int maxPerHost) {
+        if (maxConcurrency <= 0 || maxPerHost <= 0) {
+            throw new IllegalArgumentException("Concurrency limits must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.maxPerHost = maxPerHost;
+    }
+
+    /**
+     * Runs {@code task} for every item and waits for all of them. A task that throws is
+     * logged and does not affect the others, so tasks should handle their own errors.
+     *
+     * @param items  the items to process
+     * @param hostOf the host an item's task talks to
+     * @param task   the blocking work for one item
+     * @param <T>    item type
+     */
+    public <T> void forEach(Collection<? extends T> items, Function<? super T, String> hostOf,
+                            Consumer<? super T> task) {
+        Semaphore slots = new Semaphore(maxConcurrency);
+        Map<String, Semaphore> hostSlots = new ConcurrentHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T item : items) {
+                Semaphore host = hostSlots.computeIfAbsent(hostOf.apply(item), key -> new Semaphore(maxPerHost));
+                executor.execute(() -> run(item, host, slots, task));
+            }
+        }
+    }
+
+    private static <T> void run(T item, Semaphore host, Semaphore slots, Consumer<? super T> task) {
+        try {
+            host.acquire();
+            try {
+                slots.acquire();
+                try {
+                    task.accept(item);
+                } finally {
+                    slots.release();
+                }
+            } finally {
+                host.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Fan-out task failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.checkpoint.api.utils;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bookkeeping for an in-memory index that is rebuilt in full while single entries keep
+ * being refreshed: lets one rebuild run at a time and remembers the keys refreshed while
+ * it was loading, so they can be re-applied once the fresh snapshot is swapped in.
+ *
+ * <p>Call {@link #recordChange} and {@link #drainChanges} while holding the lock that
+ * guards the index, so no refresh can land between the swap and the drain.</p>
+ *
+ * @param <K> key type
+ */
+public final class RebuildTracker<K> {
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    /** Guarded by {@code this}; non-null only while a rebuild is in progress. */
+    private Set<K> changedDuringRebuild;
+
+    /**
+     * Claims the rebuild. Every successful call must be paired with {@link #finish()}.
+     *
+     * @return {@code false} when another rebuild is already running
+     */
+    public boolean tryStart() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        synchronized (this) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        return true;
+    }
+
+    /**
+     * Remembers a refreshed key if a rebuild is loading; a no-op otherwise.
+     */
+    public synchronized void recordChange(K key) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(key);
+        }
+    }
+
+    /**
+     * Returns the keys refreshed since {@link #tryStart()} and stops recording.
+     */
+    public synchronized Set<K> drainChanges() {
+        Set<K> changed = changedDuringRebuild != null ? changedDuringRebuild : Set.of();
+        changedDuringRebuild = null;
+        return changed;
+    }
+
+    /**
+     * Releases the rebuild, whether it succeeded or not.
+     */
+    public void finish() {
+        synchronized (this) {
+            changedDuringRebuild = null;
+        }
+        rebuilding.set(false);
+    }
+}
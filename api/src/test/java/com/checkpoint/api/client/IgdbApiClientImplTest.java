@@ -9,6 +9,10 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +24,7 @@ import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
 import com.checkpoint.api.client.impl.IgdbApiClientImpl;
+import com.checkpoint.api.dto.igdb.IgdbExternalGameDto;
 import com.checkpoint.api.dto.igdb.IgdbGameDto;
 import com.checkpoint.api.dto.igdb.IgdbTimeToBeatDto;
 
@@ -36,7 +41,7 @@ class IgdbApiClientImplTest {
     void setUp() {
         RestClient.Builder builder = RestClient.builder();
         server = MockRestServiceServer.bindTo(builder).build();
-        client = new IgdbApiClientImpl(builder.build());
+        client = new IgdbApiClientImpl(builder.build(), 100, 8);
     }
 
     @Test
@@ -98,6 +103,23 @@ class IgdbApiClientImplTest {
         server.verify();
     }
 
+    @Test
+    @DisplayName("streaming fetchTopRatedGames hands over each page as it arrives")
+    void fetchTopRatedGames_streamsPages() {
+        server.expect(ExpectedCount.once(), requestTo("/games"))
+                .andExpect(content().string(containsString("offset 0")))
+                .andRespond(withSuccess(gamesJson(1, 200), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/games"))
+                .andExpect(content().string(containsString("offset 200")))
+                .andRespond(withSuccess(gamesJson(201, 30), MediaType.APPLICATION_JSON));
+
+        List<Integer> pageSizes = new java.util.ArrayList<>();
+        client.fetchTopRatedGames(300, 50, page -> pageSizes.add(page.size()));
+
+        assertThat(pageSizes).containsExactly(200, 30);
+        server.verify();
+    }
+
     @Test
     @DisplayName("fetchTimeToBeatForGames chunks ids into batches of 500 and merges the results")
     void fetchTimeToBeatForGames_batches() {
@@ -123,6 +145,97 @@ class IgdbApiClientImplTest {
         server.verify();
     }
 
+    @Test
+    @DisplayName("identical in-flight external_games queries share a single request")
+    void findIgdbIdsForSteamAppIdsAsync_coalescesInFlightQueries() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer gatedServer = MockRestServiceServer.bindTo(builder).build();
+        builder.requestInterceptor((request, body, execution) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return execution.execute(request, body);
+        });
+        IgdbApiClientImpl gatedClient = new IgdbApiClientImpl(builder.build(), 100, 8);
+
+        gatedServer.expect(ExpectedCount.once(), requestTo("/external_games"))
+                .andRespond(withSuccess("[{\"id\":1,\"uid\":\"10\",\"game\":100}]",
+                        MediaType.APPLICATION_JSON));
+
+        CompletableFuture<List<IgdbExternalGameDto>> first = gatedClient.findIgdbIdsForSteamAppIdsAsync(List.of(10L));
+        CompletableFuture<List<IgdbExternalGameDto>> second = gatedClient.findIgdbIdsForSteamAppIdsAsync(List.of(10L));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).extracting(IgdbExternalGameDto::game).containsExactly(100L);
+        assertThat(second.get(5, TimeUnit.SECONDS)).extracting(IgdbExternalGameDto::game).containsExactly(100L);
+        gatedServer.verify();
+    }
+
+    @Test
+    @DisplayName("no more than max-concurrent-requests queries are in flight at once")
+    void asyncQueries_respectMaxConcurrentRequests() throws Exception {
+        int maxConcurrentRequests = 2;
+        CountDownLatch entered = new CountDownLatch(maxConcurrentRequests);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer gatedServer = MockRestServiceServer.bindTo(builder).ignoreExpectOrder(true).build();
+        builder.requestInterceptor((request, body, execution) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            try {
+                return execution.execute(request, body);
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+        IgdbApiClientImpl gatedClient = new IgdbApiClientImpl(builder.build(), 100, maxConcurrentRequests);
+
+        gatedServer.expect(ExpectedCount.times(maxConcurrentRequests + 1), requestTo("/external_games"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        // Distinct app IDs, so the queries are not coalesced
+        List<CompletableFuture<List<IgdbExternalGameDto>>> requests = List.of(
+                gatedClient.findIgdbIdsForSteamAppIdsAsync(List.of(10L)),
+                gatedClient.findIgdbIdsForSteamAppIdsAsync(List.of(20L)),
+                gatedClient.findIgdbIdsForSteamAppIdsAsync(List.of(30L)));
+
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        assertThat(running.get()).isEqualTo(maxConcurrentRequests);
+        release.countDown();
+
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(maxRunning.get()).isEqualTo(maxConcurrentRequests);
+        gatedServer.verify();
+    }
+
+    @Test
+    @DisplayName("fetchGamesByIds splits large ID lists into page-sized batches")
+    void fetchGamesByIds_batches() {
+        List<Long> ids = new java.util.ArrayList<>();
+        for (long i = 1; i <= 250; i++) {
+            ids.add(i);
+        }
+        server.expect(ExpectedCount.twice(), requestTo("/games"))
+                .andExpect(content().string(containsString("where id = (")))
+                .andRespond(withSuccess(gamesJson(1, 1), MediaType.APPLICATION_JSON));
+
+        List<IgdbGameDto> result = client.fetchGamesByIds(ids);
+
+        assertThat(result).hasSize(2);
+        server.verify();
+    }
+
     private static String gamesJson(long startId, int count) {
         StringBuilder sb = new StringBuilder("[");
         for (int i = 0; i < count; i++) {
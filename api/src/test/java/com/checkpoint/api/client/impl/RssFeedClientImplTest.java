@@ -1,21 +1,86 @@
 package com.checkpoint.api.client.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.checkpoint.api.client.ConditionalResponse;
+import com.checkpoint.api.client.HttpValidators;
 import com.checkpoint.api.client.RssFeedClient.RssItem;
+import com.checkpoint.api.exceptions.RssFeedException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 
 class RssFeedClientImplTest {
 
+    private static final String ETAG = "\"feed-v1\"";
+    private static final String LAST_MODIFIED = "Tue, 01 Sep 2026 10:00:00 GMT";
+
     private final RssFeedClientImpl client = new RssFeedClientImpl();
 
+    // Local HTTP stub: serves one feed with validators and honours conditional requests.
+    private HttpServer server;
+    private final List<String> ifNoneMatchHeaders = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/feed", this::serveFeed);
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetchIfModifiedReturnsItemsAndValidators() {
+        ConditionalResponse<List<RssItem>> response =
+                client.fetchIfModified("stub", serverUrl("/feed"), HttpValidators.NONE);
+
+        assertThat(response.isNotModified()).isFalse();
+        assertThat(response.body()).singleElement().extracting(RssItem::guid).isEqualTo("guid-http");
+        assertThat(response.validators()).isEqualTo(new HttpValidators(ETAG, LAST_MODIFIED));
+        assertThat(ifNoneMatchHeaders).containsExactly("");
+    }
+
+    @Test
+    void fetchIfModifiedSendsValidatorsAndHandlesNotModified() {
+        HttpValidators stored = client.fetchIfModified("stub", serverUrl("/feed"), HttpValidators.NONE).validators();
+
+        ConditionalResponse<List<RssItem>> response = client.fetchIfModified("stub", serverUrl("/feed"), stored);
+
+        assertThat(response.isNotModified()).isTrue();
+        assertThat(response.validators()).isEqualTo(stored);
+        assertThat(ifNoneMatchHeaders).containsExactly("", ETAG);
+    }
+
+    @Test
+    void fetchIfModifiedThrowsOnHttpError() {
+        assertThatThrownBy(() -> client.fetchIfModified("stub", serverUrl("/missing"), HttpValidators.NONE))
+                .isInstanceOf(RssFeedException.class)
+                .hasMessageContaining("404");
+        assertThat(client.fetch("stub", serverUrl("/missing"))).isEmpty();
+    }
+
     @Test
     void extractsImageFromEnclosure(@TempDir Path tempDir) throws IOException {
         String xml = rssWithItem("""
@@ -176,6 +241,35 @@ class RssFeedClientImplTest {
         assertThat(items).isEmpty();
     }
 
+    private void serveFeed(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        ifNoneMatchHeaders.add(ifNoneMatch != null ? ifNoneMatch : "");
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        exchange.getResponseHeaders().set("Last-Modified", LAST_MODIFIED);
+        if (ETAG.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] body = rssWithItem("""
+                <item>
+                  <guid>guid-http</guid>
+                  <title>Over HTTP</title>
+                  <description>Body</description>
+                  <link>https://example.com/h</link>
+                </item>
+                """).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/rss+xml");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private String serverUrl(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
     private static String rssWithItem(String itemXml) {
         return """
                 <?xml version="1.0" encoding="UTF-8"?>
@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +21,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.checkpoint.api.dto.admin.AdminAnalyticsDto;
 import com.checkpoint.api.dto.admin.AdminAnalyticsDto.TopGame;
 import com.checkpoint.api.dto.admin.AdminAnalyticsDto.TopReviewer;
+import com.checkpoint.api.dto.admin.SearchIndexEntityStatusDto;
+import com.checkpoint.api.dto.admin.SearchIndexStatusDto;
 import com.checkpoint.api.security.ApiAuthenticationEntryPoint;
 import com.checkpoint.api.security.JwtAuthenticationFilter;
 import com.checkpoint.api.services.AdminAnalyticsService;
@@ -98,4 +101,33 @@ class AdminAnalyticsControllerTest {
 
         verify(adminAnalyticsService).getAnalytics();
     }
+
+    @Test
+    @DisplayName("Should return the search index status with per-entity progress")
+    void shouldReturnSearchIndexStatus() throws Exception {
+        // Given
+        SearchIndexStatusDto status = new SearchIndexStatusDto(
+                "CATCHING_UP",
+                true,
+                Instant.parse("2026-03-01T12:00:00Z"),
+                null,
+                null,
+                List.of(new SearchIndexEntityStatusDto("VideoGame", "INCREMENTAL", 120L, 80L, false))
+        );
+        when(adminAnalyticsService.getSearchIndexStatus()).thenReturn(status);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/admin/analytics/search-index"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("CATCHING_UP"))
+                .andExpect(jsonPath("$.degraded").value(true))
+                .andExpect(jsonPath("$.entities.length()").value(1))
+                .andExpect(jsonPath("$.entities[0].entity").value("VideoGame"))
+                .andExpect(jsonPath("$.entities[0].mode").value("INCREMENTAL"))
+                .andExpect(jsonPath("$.entities[0].total").value(120))
+                .andExpect(jsonPath("$.entities[0].indexed").value(80))
+                .andExpect(jsonPath("$.entities[0].completed").value(false));
+
+        verify(adminAnalyticsService).getSearchIndexStatus();
+    }
 }
@@ -8,9 +8,12 @@ import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,11 +32,15 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.checkpoint.api.dto.catalog.FacetCountDto;
 import com.checkpoint.api.dto.catalog.GameCardDto;
+import com.checkpoint.api.dto.catalog.GameCatalogFacetsDto;
+import com.checkpoint.api.dto.catalog.GameCatalogPageDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto.CompanyDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto.GenreDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto.PlatformDto;
+import com.checkpoint.api.dto.catalog.VersionedGameDetailDto;
 import com.checkpoint.api.dto.profile.RatingDistributionEntryDto;
 import com.checkpoint.api.dto.list.GameListCardDto;
 import com.checkpoint.api.exceptions.GameNotFoundException;
@@ -76,6 +83,11 @@ class GameControllerTest {
     @MockitoBean
     private ApiAuthenticationEntryPoint apiAuthenticationEntryPoint;
 
+    private static GameCatalogPageDto catalogPage(List<GameCardDto> cards) {
+        return GameCatalogPageDto.from(new PageImpl<>(cards),
+                new GameCatalogFacetsDto(List.of(), List.of(), List.of()));
+    }
+
     @Test
     @DisplayName("GET /api/v1/games should return paginated games")
     void getGames_shouldReturnPaginatedGames() throws Exception {
@@ -84,7 +96,7 @@ class GameControllerTest {
         List<GameCardDto> cards = List.of(
                 new GameCardDto(gameId, "The Witcher 3", "cover.jpg", LocalDate.of(2015, 5, 19), 4.8, 1500L)
         );
-        Page<GameCardDto> page = new PageImpl<>(cards);
+        GameCatalogPageDto page = catalogPage(cards);
 
         when(gameCatalogService.getGameCatalog(any(Pageable.class),
                 isNull(), isNull(), isNull(), isNull(), isNull(), isNull()))
@@ -104,7 +116,7 @@ class GameControllerTest {
     @DisplayName("GET /api/v1/games should accept pagination parameters")
     void getGames_shouldAcceptPaginationParameters() throws Exception {
         // Given
-        Page<GameCardDto> emptyPage = new PageImpl<>(List.of());
+        GameCatalogPageDto emptyPage = catalogPage(List.of());
         when(gameCatalogService.getGameCatalog(any(Pageable.class),
                 isNull(), isNull(), isNull(), isNull(), isNull(), isNull()))
                 .thenReturn(emptyPage);
@@ -142,11 +154,15 @@ class GameControllerTest {
                 List.of(new CompanyDto(UUID.randomUUID(), "CD Projekt RED"))
         );
 
-        when(gameCatalogService.getGameDetails(gameId)).thenReturn(detail);
+        when(gameCatalogService.getGameDetails(gameId)).thenReturn(
+                new VersionedGameDetailDto(detail, "\"v1\"", Instant.parse("2024-03-01T12:00:00Z")));
 
         // When / Then
         mockMvc.perform(get("/api/v1/games/{id}", gameId))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$.id").value(gameId.toString()))
                 .andExpect(jsonPath("$.title").value("The Witcher 3"))
                 .andExpect(jsonPath("$.description").value("An epic RPG"))
@@ -159,6 +175,24 @@ class GameControllerTest {
                 .andExpect(jsonPath("$.ratingDistribution[0].count").value(800));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/games/{id} should return 304 when If-None-Match matches the ETag")
+    void getGameById_shouldReturn304WhenETagMatches() throws Exception {
+        // Given
+        UUID gameId = UUID.randomUUID();
+        GameDetailDto detail = new GameDetailDto(
+                gameId, "The Witcher 3", null, null, null, null, null, null, null, null,
+                null, 0L, List.of(), List.of(), List.of(), List.of());
+        when(gameCatalogService.getGameDetails(gameId)).thenReturn(
+                new VersionedGameDetailDto(detail, "\"v1\"", Instant.parse("2024-03-01T12:00:00Z")));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/games/{id}", gameId).header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("GET /api/v1/games/{id} should return 404 when game not found")
     void getGameById_shouldReturn404WhenNotFound() throws Exception {
@@ -178,7 +212,7 @@ class GameControllerTest {
     @DisplayName("GET /api/v1/games should limit page size to max 100")
     void getGames_shouldLimitPageSizeToMax() throws Exception {
         // Given
-        Page<GameCardDto> emptyPage = new PageImpl<>(List.of());
+        GameCatalogPageDto emptyPage = catalogPage(List.of());
         when(gameCatalogService.getGameCatalog(any(Pageable.class),
                 isNull(), isNull(), isNull(), isNull(), isNull(), isNull()))
                 .thenReturn(emptyPage);
@@ -193,7 +227,7 @@ class GameControllerTest {
     @DisplayName("GET /api/v1/games?genre=RPG should pass genre filter to service")
     void getGames_shouldPassGenreFilter() throws Exception {
         // Given
-        Page<GameCardDto> emptyPage = new PageImpl<>(List.of());
+        GameCatalogPageDto emptyPage = catalogPage(List.of());
         when(gameCatalogService.getGameCatalog(any(Pageable.class),
                 eq(List.of("RPG")), isNull(), isNull(), isNull(), isNull(), isNull()))
                 .thenReturn(emptyPage);
@@ -211,7 +245,7 @@ class GameControllerTest {
     @DisplayName("GET /api/v1/games?genre=RPG&genre=Action should pass multiple genre filters to service")
     void getGames_shouldPassMultipleGenreFilters() throws Exception {
         // Given
-        Page<GameCardDto> emptyPage = new PageImpl<>(List.of());
+        GameCatalogPageDto emptyPage = catalogPage(List.of());
         when(gameCatalogService.getGameCatalog(any(Pageable.class),
                 eq(List.of("RPG", "Action")), isNull(), isNull(), isNull(), isNull(), isNull()))
                 .thenReturn(emptyPage);
@@ -230,7 +264,7 @@ class GameControllerTest {
     @DisplayName("GET /api/v1/games?platform=PC should pass platform filter to service")
     void getGames_shouldPassPlatformFilter() throws Exception {
         // Given
-        Page<GameCardDto> emptyPage = new PageImpl<>(List.of());
+        GameCatalogPageDto emptyPage = catalogPage(List.of());
         when(gameCatalogService.getGameCatalog(any(Pageable.class),
                 isNull(), eq(List.of("PC")), isNull(), isNull(), isNull(), isNull()))
                 .thenReturn(emptyPage);
@@ -248,7 +282,7 @@ class GameControllerTest {
     @DisplayName("GET /api/v1/games?yearMin=2020&yearMax=2023 should pass year range filters to service")
     void getGames_shouldPassYearRangeFilters() throws Exception {
         // Given
-        Page<GameCardDto> emptyPage = new PageImpl<>(List.of());
+        GameCatalogPageDto emptyPage = catalogPage(List.of());
         when(gameCatalogService.getGameCatalog(any(Pageable.class),
                 isNull(), isNull(), eq(2020), eq(2023), isNull(), isNull()))
                 .thenReturn(emptyPage);
@@ -267,7 +301,7 @@ class GameControllerTest {
     @DisplayName("GET /api/v1/games?ratingMin=4.0&ratingMax=5.0 should pass rating range filters to service")
     void getGames_shouldPassRatingRangeFilters() throws Exception {
         // Given
-        Page<GameCardDto> emptyPage = new PageImpl<>(List.of());
+        GameCatalogPageDto emptyPage = catalogPage(List.of());
         when(gameCatalogService.getGameCatalog(any(Pageable.class),
                 isNull(), isNull(), isNull(), isNull(), eq(4.0), eq(5.0)))
                 .thenReturn(emptyPage);
@@ -282,6 +316,28 @@ class GameControllerTest {
                 isNull(), isNull(), isNull(), isNull(), eq(4.0), eq(5.0));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/games should return facet counts alongside the page")
+    void getGames_shouldReturnFacets() throws Exception {
+        // Given
+        GameCatalogPageDto catalog = GameCatalogPageDto.from(new PageImpl<>(List.<GameCardDto>of()),
+                new GameCatalogFacetsDto(
+                        List.of(new FacetCountDto("RPG", 120L), new FacetCountDto("Action", 80L)),
+                        List.of(new FacetCountDto("PC", 150L)),
+                        List.of(new FacetCountDto("2024", 30L))));
+        when(gameCatalogService.getGameCatalog(any(Pageable.class),
+                isNull(), isNull(), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(catalog);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/games"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facets.genres[0].value").value("RPG"))
+                .andExpect(jsonPath("$.facets.genres[0].count").value(120))
+                .andExpect(jsonPath("$.facets.platforms[0].value").value("PC"))
+                .andExpect(jsonPath("$.facets.years[0].value").value("2024"));
+    }
+
     @Test
     @DisplayName("GET /api/v1/games should support combining multiple filters")
     void getGames_shouldSupportCombinedFilters() throws Exception {
@@ -290,7 +346,7 @@ class GameControllerTest {
         List<GameCardDto> cards = List.of(
                 new GameCardDto(gameId, "Elden Ring", "cover.jpg", LocalDate.of(2022, 2, 25), 4.9, 2000L)
         );
-        Page<GameCardDto> page = new PageImpl<>(cards);
+        GameCatalogPageDto page = catalogPage(cards);
 
         when(gameCatalogService.getGameCatalog(any(Pageable.class),
                 eq(List.of("RPG")), eq(List.of("PC")), eq(2020), isNull(), eq(4.0), isNull()))
@@ -23,6 +23,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.checkpoint.api.dto.leaderboard.LeaderboardEntryDto;
+import com.checkpoint.api.dto.leaderboard.LeaderboardPositionDto;
 import com.checkpoint.api.security.ApiAuthenticationEntryPoint;
 import com.checkpoint.api.security.JwtAuthenticationFilter;
 import com.checkpoint.api.services.LeaderboardService;
@@ -163,4 +164,62 @@ class LeaderboardControllerTest {
             verifyNoInteractions(leaderboardService);
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/v1/leaderboard/me")
+    class GetMyPosition {
+
+        @Test
+        @DisplayName("returns the viewer's rank and neighbours with a default radius of 5")
+        @WithMockUser(username = "viewer@example.com")
+        void defaultsToRadiusFive() throws Exception {
+            when(leaderboardService.getMyPosition("viewer@example.com", LeaderboardSortBy.XP, 5, false))
+                    .thenReturn(new LeaderboardPositionDto(42, 1000, List.of(
+                            entry(41, "above", 6, 5200),
+                            entry(42, "viewer", 6, 5100),
+                            entry(43, "below", 5, 4900))));
+
+            mockMvc.perform(get("/api/v1/leaderboard/me"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.rank").value(42))
+                    .andExpect(jsonPath("$.total").value(1000))
+                    .andExpect(jsonPath("$.entries.length()").value(3))
+                    .andExpect(jsonPath("$.entries[1].pseudo").value("viewer"));
+        }
+
+        @Test
+        @DisplayName("passes sortBy, radius and following to the service")
+        @WithMockUser(username = "viewer@example.com")
+        void passesParameters() throws Exception {
+            when(leaderboardService.getMyPosition("viewer@example.com", LeaderboardSortBy.LEVEL, 2, true))
+                    .thenReturn(new LeaderboardPositionDto(1, 3, List.of()));
+
+            mockMvc.perform(get("/api/v1/leaderboard/me")
+                            .param("sortBy", "level")
+                            .param("radius", "2")
+                            .param("following", "true"))
+                    .andExpect(status().isOk());
+
+            verify(leaderboardService).getMyPosition("viewer@example.com", LeaderboardSortBy.LEVEL, 2, true);
+        }
+
+        @Test
+        @DisplayName("returns 400 when radius is above 25")
+        @WithMockUser(username = "viewer@example.com")
+        void rejectsRadiusAboveMax() throws Exception {
+            mockMvc.perform(get("/api/v1/leaderboard/me").param("radius", "26"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(leaderboardService);
+        }
+
+        @Test
+        @DisplayName("returns 401 when anonymous")
+        void anonymous_returnsUnauthorized() throws Exception {
+            mockMvc.perform(get("/api/v1/leaderboard/me"))
+                    .andExpect(status().isUnauthorized());
+
+            verifyNoInteractions(leaderboardService);
+        }
+    }
 }
@@ -9,16 +9,21 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,6 +32,7 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -41,14 +47,14 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.checkpoint.api.dto.catalog.GameCardDto;
 import com.checkpoint.api.dto.catalog.PagedResponseDto;
-import com.checkpoint.api.dto.export.UserDataExportDto;
-import com.checkpoint.api.dto.export.UserExportProfile;
+import com.checkpoint.api.dto.export.DataExportJobDto;
 import com.checkpoint.api.dto.profile.ProfileUpdatedDto;
 import com.checkpoint.api.dto.profile.UpdateProfileDto;
 import com.checkpoint.api.dto.social.FeedGameDto;
 import com.checkpoint.api.dto.social.FeedItemDto;
 import com.checkpoint.api.dto.social.FeedUserDto;
 import com.checkpoint.api.enums.FeedItemType;
+import com.checkpoint.api.exceptions.ExportAlreadyRunningException;
 import com.checkpoint.api.exceptions.PseudoAlreadyExistsException;
 import com.checkpoint.api.security.ApiAuthenticationEntryPoint;
 import com.checkpoint.api.security.JwtAuthenticationFilter;
@@ -119,28 +125,92 @@ class MeControllerTest {
     }
 
     @Test
-    @DisplayName("GET /api/v1/me/export - returns the export as a JSON attachment")
+    @DisplayName("POST /api/v1/me/export - starts an export and points to its status")
     @WithMockUser(username = "alice@test.com")
-    void exportData_returnsJsonAttachment() throws Exception {
-        UserDataExportDto export = new UserDataExportDto(
-                new UserExportProfile(null, "alice", "alice@test.com", null, null,
-                        false, 1, 0, LocalDateTime.now()),
-                List.of(), List.of(), List.of(), List.of(), List.of(),
-                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
-                LocalDateTime.now());
-        when(dataExportService.exportForUser("alice@test.com")).thenReturn(export);
+    void requestExport_returns202WithLocation() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(dataExportService.requestExport("alice@test.com")).thenReturn(exportJob(jobId, "PENDING", null));
+
+        mockMvc.perform(post("/api/v1/me/export"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/me/export/" + jobId))
+                .andExpect(jsonPath("$.jobId").value(jobId.toString()))
+                .andExpect(jsonPath("$.state").value("PENDING"))
+                .andExpect(jsonPath("$.totalSections").value(12));
+
+        verify(dataExportService).requestExport("alice@test.com");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/me/export - returns 409 while the previous export is running")
+    @WithMockUser(username = "alice@test.com")
+    void requestExport_returns409WhenAlreadyRunning() throws Exception {
+        when(dataExportService.requestExport("alice@test.com"))
+                .thenThrow(new ExportAlreadyRunningException());
+
+        mockMvc.perform(post("/api/v1/me/export"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/me/export/{jobId} - returns the job status")
+    @WithMockUser(username = "alice@test.com")
+    void getExport_returnsStatus() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        String downloadUrl = "/api/v1/me/export/" + jobId + "/download";
+        when(dataExportService.findExport("alice@test.com", jobId))
+                .thenReturn(Optional.of(exportJob(jobId, "COMPLETED", downloadUrl)));
+
+        mockMvc.perform(get("/api/v1/me/export/" + jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.downloadUrl").value(downloadUrl));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/me/export - returns 404 when the user has no export")
+    @WithMockUser(username = "alice@test.com")
+    void getLatestExport_returns404WhenNone() throws Exception {
+        when(dataExportService.findLatestExport("alice@test.com")).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/api/v1/me/export"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/me/export/{jobId}/download - serves the file as a gzip attachment")
+    @WithMockUser(username = "alice@test.com")
+    void downloadExport_servesGzipAttachment(@TempDir Path tempDir) throws Exception {
+        UUID jobId = UUID.randomUUID();
+        Path file = Files.write(tempDir.resolve(jobId + ".json.gz"), new byte[] {31, -117, 8, 0});
+        when(dataExportService.findExportFile("alice@test.com", jobId)).thenReturn(Optional.of(file));
+
+        mockMvc.perform(get("/api/v1/me/export/" + jobId + "/download"))
                 .andExpect(status().isOk())
-                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().longValue("Content-Length", 4))
                 .andExpect(header().string("Content-Disposition",
                         Matchers.allOf(
                                 Matchers.startsWith("attachment; filename=\"checkpoint-export-"),
-                                Matchers.endsWith(".json\""))))
-                .andExpect(jsonPath("$.profile.username").value("alice"))
-                .andExpect(jsonPath("$.exportedAt").exists());
+                                Matchers.endsWith(".json.gz\""))))
+                .andExpect(content().bytes(new byte[] {31, -117, 8, 0}));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/me/export/{jobId}/download - returns 404 when the file is not ready")
+    @WithMockUser(username = "alice@test.com")
+    void downloadExport_returns404WhenNotReady() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(dataExportService.findExportFile("alice@test.com", jobId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/me/export/" + jobId + "/download"))
+                .andExpect(status().isNotFound());
+    }
 
-        verify(dataExportService).exportForUser("alice@test.com");
+    private static DataExportJobDto exportJob(UUID jobId, String state, String downloadUrl) {
+        return new DataExportJobDto(jobId.toString(), state, 0, 12, 0L,
+                downloadUrl != null ? 1024L : null, downloadUrl, null,
+                Instant.now(), null, null);
     }
 
     @Nested
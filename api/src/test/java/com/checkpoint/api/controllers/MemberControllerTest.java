@@ -48,7 +48,7 @@ class MemberControllerTest {
     private ApiAuthenticationEntryPoint apiAuthenticationEntryPoint;
 
     private MemberCardDto createMemberCard(String pseudo, Long followerCount, Long reviewCount, Boolean isFollowing) {
-        return new MemberCardDto(UUID.randomUUID(), pseudo, null, 1, followerCount, reviewCount, isFollowing);
+        return new MemberCardDto(UUID.randomUUID(), pseudo, null, 1, followerCount, reviewCount, isFollowing, null);
     }
 
     @Nested
@@ -0,0 +1,71 @@
+package com.checkpoint.api.controllers;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.checkpoint.api.dto.search.GameSuggestionDto;
+import com.checkpoint.api.dto.search.SearchSuggestionsDto;
+import com.checkpoint.api.security.ApiAuthenticationEntryPoint;
+import com.checkpoint.api.security.JwtAuthenticationFilter;
+import com.checkpoint.api.services.SearchSuggestionService;
+
+/**
+ * Unit tests for {@link SearchController}.
+ */
+@WebMvcTest(SearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SearchSuggestionService searchSuggestionService;
+
+    @MockitoBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @MockitoBean
+    private ApiAuthenticationEntryPoint apiAuthenticationEntryPoint;
+
+    @Test
+    @DisplayName("GET /api/v1/search/suggest returns grouped suggestions with the default limit")
+    void suggest_shouldReturnSuggestions() throws Exception {
+        UUID gameId = UUID.randomUUID();
+        when(searchSuggestionService.suggest("zel", 5)).thenReturn(new SearchSuggestionsDto(
+                List.of(new GameSuggestionDto(gameId, "Zelda", null, null)), List.of(), List.of()));
+
+        mockMvc.perform(get("/api/v1/search/suggest").param("q", "zel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games[0].id").value(gameId.toString()))
+                .andExpect(jsonPath("$.games[0].title").value("Zelda"))
+                .andExpect(jsonPath("$.lists.length()").value(0))
+                .andExpect(jsonPath("$.members.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/search/suggest clamps the limit to 10")
+    void suggest_shouldClampLimit() throws Exception {
+        when(searchSuggestionService.suggest("zel", 10))
+                .thenReturn(new SearchSuggestionsDto(List.of(), List.of(), List.of()));
+
+        mockMvc.perform(get("/api/v1/search/suggest").param("q", "zel").param("limit", "500"))
+                .andExpect(status().isOk());
+
+        verify(searchSuggestionService).suggest("zel", 10);
+    }
+}
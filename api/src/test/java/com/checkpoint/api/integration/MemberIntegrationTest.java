@@ -27,6 +27,7 @@ import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.FollowGraphService;
 
 /**
  * Integration tests for the Member discovery feature.
@@ -63,6 +64,9 @@ class MemberIntegrationTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private FollowGraphService followGraph;
+
     private User popularUser;
     private User reviewerUser;
     private User viewer;
@@ -120,6 +124,10 @@ class MemberIntegrationTest {
 
         entityManager.flush();
         entityManager.clear();
+
+        // The follows above bypass FollowService, so no event patches the in-memory
+        // graph that member cards read follow state from; reload it like the resync does.
+        followGraph.rebuild();
     }
 
     private User createUser(String email, String pseudo, int level) {
@@ -42,6 +42,7 @@ import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.repositories.WishRepository;
+import com.checkpoint.api.services.FollowGraphService;
 
 /**
  * Integration tests for the Profile feature.
@@ -96,6 +97,9 @@ class ProfileIntegrationTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private FollowGraphService followGraph;
+
     private User testUser;
     private User otherUser;
     private VideoGame likedGame;
@@ -163,6 +167,10 @@ class ProfileIntegrationTest {
         // Refresh entities after native query
         testUser = userRepository.findById(testUser.getId()).orElseThrow();
         otherUser = userRepository.findById(otherUser.getId()).orElseThrow();
+
+        // The follow above bypasses FollowService, so no event patches the in-memory
+        // graph that profiles read follow state from; reload it like the resync does.
+        followGraph.rebuild();
     }
 
     private VideoGame makeGame(String title, String coverUrl) {
@@ -0,0 +1,126 @@
+package com.checkpoint.api.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+import com.checkpoint.api.entities.Review;
+import com.checkpoint.api.entities.User;
+import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.repositories.ReviewRepository;
+import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.repositories.VideoGameRepository;
+
+/**
+ * Integration tests for the review hot score decay in {@link ReviewRepository}.
+ * Uses H2 in-memory database with full Spring context.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hotscoretest;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.search.backend.type=lucene",
+        "spring.jpa.properties.hibernate.search.backend.directory.type=local-heap"
+})
+class ReviewHotScoreIntegrationTest {
+
+    /** The lowest score of a liked review inside a 30-day window. */
+    private static final double FLOOR = 1.0 / Math.pow(32, 1.5);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoGameRepository videoGameRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User author;
+    private VideoGame game;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository.deleteAll();
+        videoGameRepository.deleteAll();
+        userRepository.deleteAll();
+
+        author = new User();
+        author.setEmail("author@example.com");
+        author.setPassword("password");
+        author.setPseudo("author");
+        author.setIsPrivate(false);
+        author = userRepository.save(author);
+
+        game = new VideoGame();
+        game.setTitle("Hot Game");
+        game = videoGameRepository.save(game);
+    }
+
+    private Review createReview(String content, int ageInDays, int likes, double hotScore) {
+        Review review = new Review();
+        review.setUser(author);
+        review.setVideoGame(game);
+        review.setContent(content);
+        review.setHaveSpoilers(false);
+        review = reviewRepository.saveAndFlush(review);
+
+        // The counters and the creation date are not writable through the entity
+        entityManager.createNativeQuery(
+                        "UPDATE reviews SET created_at = :createdAt, likes_count = :likes, hot_score = :hotScore "
+                                + "WHERE id = :id")
+                .setParameter("createdAt", LocalDateTime.now().minusDays(ageInDays))
+                .setParameter("likes", likes)
+                .setParameter("hotScore", hotScore)
+                .setParameter("id", review.getId())
+                .executeUpdate();
+        return review;
+    }
+
+    private double hotScoreOf(Review review) {
+        return reviewRepository.findById(review.getId()).orElseThrow().getHotScore();
+    }
+
+    @Test
+    @DisplayName("decayHotScores should keep decaying an old review until it drops below recent ones")
+    void decayHotScores_shouldDropOldReviewBelowRecentOnes() {
+        // Given - a heavily liked review still holding the score it left the window with
+        Review old = createReview("Old favourite", 60, 50, 50 / Math.pow(32, 1.5));
+        Review recent = createReview("Fresh take", 5, 3, 3 / Math.pow(7, 1.5));
+        Review faded = createReview("Long forgotten", 90, 1, FLOOR / 2);
+        entityManager.clear();
+
+        assertThat(reviewRepository.findPopularReviews(3))
+                .extracting(Review::getContent)
+                .containsExactly("Old favourite", "Fresh take", "Long forgotten");
+
+        // When
+        int rescored = reviewRepository.decayHotScores(LocalDateTime.now().minusDays(30), FLOOR);
+        entityManager.clear();
+
+        // Then - the old review is rescored and ranks under the recent one
+        assertThat(rescored).isEqualTo(2);
+        List<Review> ranked = reviewRepository.findPopularReviews(3);
+        assertThat(ranked).extracting(Review::getContent)
+                .containsExactly("Fresh take", "Old favourite", "Long forgotten");
+        assertThat(hotScoreOf(old)).isLessThan(hotScoreOf(recent));
+        assertThat(hotScoreOf(faded)).isEqualTo(FLOOR / 2);
+    }
+}
@@ -0,0 +1,162 @@
+package com.checkpoint.api.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.dto.export.GameLibraryEntryExport;
+import com.checkpoint.api.dto.export.GameListEntryExport;
+import com.checkpoint.api.dto.export.GameListExport;
+import com.checkpoint.api.dto.export.PlayLogExport;
+import com.checkpoint.api.dto.export.TagExport;
+import com.checkpoint.api.dto.export.UserExportProfile;
+import com.checkpoint.api.enums.PlayStatus;
+import com.checkpoint.api.exceptions.UserNotFoundException;
+import com.checkpoint.api.repositories.DataExportRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Unit tests for {@link DataExportWriter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class DataExportWriterTest {
+
+    @Mock
+    private DataExportRepository dataExportRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private DataExportWriter writer;
+
+    private UUID userId;
+    private ExportJobStatus progress;
+
+    @BeforeEach
+    void setUp() {
+        writer = new DataExportWriter(dataExportRepository, objectMapper);
+
+        userId = UUID.randomUUID();
+        progress = new ExportJobStatus(UUID.randomUUID(), userId, DataExportWriter.SECTIONS, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Throws UserNotFoundException when the user no longer exists")
+    void write_throwsWhenUserMissing() {
+        when(dataExportRepository.findProfile(userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> writer.write(userId, new ByteArrayOutputStream(), progress))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Writes every category in order, with play log tags and list entries filled in")
+    void write_writesEveryCategory() throws Exception {
+        UUID gameId = UUID.randomUUID();
+        UUID playLogId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        when(dataExportRepository.findProfile(userId)).thenReturn(Optional.of(
+                new UserExportProfile(userId, "alice", "alice@test.com", "bio", null, false, 7, 420, now)));
+        when(dataExportRepository.streamLibrary(userId)).thenReturn(Stream.of(
+                new GameLibraryEntryExport(gameId, "Tears of the Kingdom", PlayStatus.COMPLETED, now, now)));
+        when(dataExportRepository.streamPlayLogs(userId)).thenReturn(Stream.of(
+                playLog(playLogId, gameId, now)));
+        when(dataExportRepository.findPlayLogTagNames(List.of(playLogId)))
+                .thenReturn(Map.of(playLogId, List.of("chill", "fun")));
+        when(dataExportRepository.streamGameLists(userId)).thenReturn(Stream.of(
+                new GameListExport(listId, "My GOTYs", "best of the year", false, List.of(), now, now)));
+        when(dataExportRepository.findGameListEntries(List.of(listId))).thenReturn(Map.of(
+                listId, List.of(new GameListEntryExport(gameId, "Tears of the Kingdom", 1))));
+        when(dataExportRepository.streamTags(userId)).thenReturn(Stream.of(
+                new TagExport(UUID.randomUUID(), "chill", now),
+                new TagExport(UUID.randomUUID(), "fun", now)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(userId, out, progress);
+
+        JsonNode export = objectMapper.readTree(out.toByteArray());
+        List<String> fields = new ArrayList<>();
+        export.fieldNames().forEachRemaining(fields::add);
+        assertThat(fields).containsExactly(
+                "profile", "library", "playLogs", "reviews", "comments", "wishlist", "backlogs",
+                "favorites", "gameLists", "tags", "ratings", "socialLinks", "exportedAt");
+
+        assertThat(export.at("/profile/username").asText()).isEqualTo("alice");
+        assertThat(export.at("/library/0/gameTitle").asText()).isEqualTo("Tears of the Kingdom");
+        assertThat(export.at("/playLogs/0/platform").asText()).isEqualTo("Switch");
+        assertThat(export.at("/playLogs/0/tags").toString()).isEqualTo("[\"chill\",\"fun\"]");
+        assertThat(export.at("/gameLists/0/entries/0/position").asInt()).isEqualTo(1);
+        assertThat(export.get("tags")).hasSize(2);
+        assertThat(export.get("reviews")).isEmpty();
+
+        assertThat(progress.toDto(null).sectionsCompleted()).isEqualTo(DataExportWriter.SECTIONS);
+        assertThat(progress.toDto(null).recordsWritten()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Stops at the next batch once the job is cancelled")
+    void write_stopsWhenCancelled() {
+        UUID gameId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(dataExportRepository.findProfile(userId)).thenReturn(Optional.of(
+                new UserExportProfile(userId, "alice", "alice@test.com", null, null, false, 1, 0, now)));
+        when(dataExportRepository.streamLibrary(userId)).thenReturn(Stream.of(
+                new GameLibraryEntryExport(gameId, "Tears of the Kingdom", PlayStatus.COMPLETED, now, now)));
+        progress.cancel();
+
+        assertThatThrownBy(() -> writer.write(userId, new ByteArrayOutputStream(), progress))
+                .isInstanceOf(CancellationException.class);
+        assertThat(progress.toDto(null).recordsWritten()).isZero();
+    }
+
+    @Test
+    @DisplayName("Looks up play log tags once per batch rather than once per play log")
+    void write_batchesTagLookups() throws Exception {
+        UUID gameId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(dataExportRepository.findProfile(userId)).thenReturn(Optional.of(
+                new UserExportProfile(userId, "alice", "alice@test.com", null, null, false, 1, 0, now)));
+        when(dataExportRepository.streamPlayLogs(userId)).thenReturn(IntStream.range(0, 501)
+                .mapToObj(i -> playLog(UUID.randomUUID(), gameId, now)));
+        when(dataExportRepository.findPlayLogTagNames(anyCollection())).thenReturn(Map.of());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(userId, out, progress);
+
+        verify(dataExportRepository, times(2)).findPlayLogTagNames(anyCollection());
+        assertThat(objectMapper.readTree(out.toByteArray()).get("playLogs")).hasSize(501);
+        assertThat(progress.toDto(null).recordsWritten()).isEqualTo(501);
+    }
+
+    private static PlayLogExport playLog(UUID id, UUID gameId, LocalDateTime now) {
+        return new PlayLogExport(id, gameId, "Tears of the Kingdom", PlayStatus.PLAYED, false, 1200,
+                null, null, "owned", 8, "Switch", List.of(), now, now);
+    }
+}
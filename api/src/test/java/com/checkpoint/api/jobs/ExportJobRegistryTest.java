@@ -0,0 +1,122 @@
+package com.checkpoint.api.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.checkpoint.api.exceptions.ExportAlreadyRunningException;
+
+/**
+ * Unit tests for {@link ExportJobRegistry}: one job per user, replacement, expiry and
+ * account deletion.
+ */
+class ExportJobRegistryTest {
+
+    @TempDir
+    Path exportDir;
+
+    private ExportJobRegistry registry;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        registry = new ExportJobRegistry(exportDir.toString(), Duration.ofHours(1));
+    }
+
+    @Test
+    void startJob_thenFindByUser_returnsSameJob() {
+        ExportJobStatus job = registry.startJob(userId, DataExportWriter.SECTIONS);
+
+        assertThat(registry.findByUser(userId)).containsSame(job);
+    }
+
+    @Test
+    void startJob_rejectsSecondWhileFirstActive() {
+        registry.startJob(userId, DataExportWriter.SECTIONS);
+
+        assertThatThrownBy(() -> registry.startJob(userId, DataExportWriter.SECTIONS))
+                .isInstanceOf(ExportAlreadyRunningException.class);
+    }
+
+    @Test
+    void startJob_allowsOtherUsersConcurrently() {
+        registry.startJob(userId, DataExportWriter.SECTIONS);
+
+        ExportJobStatus other = registry.startJob(UUID.randomUUID(), DataExportWriter.SECTIONS);
+        assertThat(other.getState()).isEqualTo(JobState.PENDING);
+    }
+
+    @Test
+    void startJob_replacesTerminalJobAndDeletesItsFile() throws Exception {
+        ExportJobStatus first = registry.startJob(userId, DataExportWriter.SECTIONS);
+        Path file = Files.write(registry.fileFor(first.getJobId()), new byte[] {1});
+        first.setFile(file, 1);
+        first.setState(JobState.COMPLETED);
+
+        ExportJobStatus second = registry.startJob(userId, DataExportWriter.SECTIONS);
+
+        assertThat(registry.findByUser(userId)).containsSame(second);
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void evictExpiredJobs_dropsExpiredJobsAndStaleFiles() throws Exception {
+        ExportJobStatus job = registry.startJob(userId, DataExportWriter.SECTIONS);
+        job.setState(JobState.COMPLETED);
+        job.setFinishedAt(Instant.now().minus(Duration.ofHours(2)));
+
+        Path stale = Files.write(exportDir.resolve("orphan.json.gz"), new byte[] {1});
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        Path fresh = Files.write(exportDir.resolve("fresh.json.gz"), new byte[] {1});
+
+        registry.evictExpiredJobs();
+
+        assertThat(registry.findByUser(userId)).isEmpty();
+        assertThat(stale).doesNotExist();
+        assertThat(fresh).exists();
+    }
+
+    @Test
+    void removeUser_cancelsRunningJobAndDeletesItsFiles() throws Exception {
+        ExportJobStatus job = registry.startJob(userId, DataExportWriter.SECTIONS);
+        job.setState(JobState.RUNNING);
+        Path partial = Files.write(registry.partialFileFor(job.getJobId()), new byte[] {1});
+
+        registry.removeUser(userId);
+
+        assertThat(registry.findByUser(userId)).isEmpty();
+        assertThat(job.isCancelled()).isTrue();
+        assertThat(partial).doesNotExist();
+    }
+
+    @Test
+    void removeUser_deletesFinishedFile() throws Exception {
+        ExportJobStatus job = registry.startJob(userId, DataExportWriter.SECTIONS);
+        Path file = Files.write(registry.fileFor(job.getJobId()), new byte[] {1});
+        job.setFile(file, 1);
+        job.setState(JobState.COMPLETED);
+
+        registry.removeUser(userId);
+
+        assertThat(registry.findByUser(userId)).isEmpty();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void removeUser_ignoresUserWithoutExport() {
+        registry.removeUser(userId);
+
+        assertThat(registry.findByUser(userId)).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.checkpoint.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.entities.Role;
+import com.checkpoint.api.entities.User;
+import com.checkpoint.api.exceptions.UserBannedException;
+import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.security.impl.AuthenticatedUserServiceImpl;
+import com.checkpoint.api.utils.BoundedCache;
+
+/**
+ * Unit tests for {@link AuthenticatedUserServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedUserServiceImplTest {
+
+    private static final String EMAIL = "alice@test.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private AuthenticatedUserServiceImpl service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        BoundedCache<String, AuthenticatedUser> cache =
+                new BoundedCache<>("principals", 10, Duration.ofMinutes(10), Clock.systemUTC());
+        service = new AuthenticatedUserServiceImpl(userRepository, cache);
+
+        user = new User("alice", EMAIL, "encoded");
+        user.setId(UUID.randomUUID());
+        user.setRole(new Role("ADMIN"));
+        user.setBanned(false);
+    }
+
+    @Test
+    @DisplayName("the principal is loaded once and then served from the cache")
+    void loadAuthenticatedUser_shouldCachePrincipal() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        AuthenticatedUser first = service.loadAuthenticatedUser(EMAIL);
+        AuthenticatedUser second = service.loadAuthenticatedUser(EMAIL);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.id()).isEqualTo(user.getId());
+        assertThat(first.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("evict makes the next request see a ban")
+    void evict_shouldReloadBannedUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        service.loadAuthenticatedUser(EMAIL);
+
+        user.setBanned(true);
+        service.evict(EMAIL);
+
+        assertThatThrownBy(() -> service.loadAuthenticatedUser(EMAIL))
+                .isInstanceOf(UserBannedException.class);
+        assertThatThrownBy(() -> service.loadAuthenticatedUser(EMAIL))
+                .isInstanceOf(UserBannedException.class);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+}
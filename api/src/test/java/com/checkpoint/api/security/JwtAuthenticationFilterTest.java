@@ -5,7 +5,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,11 +17,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.checkpoint.api.exceptions.UserBannedException;
 
 /**
  * Unit tests for {@link JwtAuthenticationFilter}.
@@ -33,7 +31,7 @@ class JwtAuthenticationFilterTest {
     private JwtService jwtService;
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private AuthenticatedUserService authenticatedUserService;
 
     private JwtAuthenticationFilter filter;
     private MockHttpServletRequest request;
@@ -42,7 +40,7 @@ class JwtAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
-        filter = new JwtAuthenticationFilter(jwtService, userDetailsService);
+        filter = new JwtAuthenticationFilter(jwtService, authenticatedUserService);
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         filterChain = new MockFilterChain();
@@ -86,12 +84,11 @@ class JwtAuthenticationFilterTest {
         String token = "valid.jwt.token";
         request.addHeader("Authorization", "Bearer " + token);
 
-        UserDetails userDetails = new User("user@test.com", "password",
-                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        AuthenticatedUser principal = new AuthenticatedUser(UUID.randomUUID(), "user@test.com", "USER", false);
 
         when(jwtService.extractUsername(token)).thenReturn("user@test.com");
-        when(userDetailsService.loadUserByUsername("user@test.com")).thenReturn(userDetails);
-        when(jwtService.isTokenValid(token, userDetails)).thenReturn(true);
+        when(authenticatedUserService.loadAuthenticatedUser("user@test.com")).thenReturn(principal);
+        when(jwtService.isTokenValid(token, principal)).thenReturn(true);
 
         // When
         filter.doFilterInternal(request, response, filterChain);
@@ -99,6 +96,7 @@ class JwtAuthenticationFilterTest {
         // Then
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
         assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("user@test.com");
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(principal);
     }
 
     @Test
@@ -108,12 +106,11 @@ class JwtAuthenticationFilterTest {
         String token = "invalid.jwt.token";
         request.addHeader("Authorization", "Bearer " + token);
 
-        UserDetails userDetails = new User("user@test.com", "password",
-                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        AuthenticatedUser principal = new AuthenticatedUser(UUID.randomUUID(), "user@test.com", "USER", false);
 
         when(jwtService.extractUsername(token)).thenReturn("user@test.com");
-        when(userDetailsService.loadUserByUsername("user@test.com")).thenReturn(userDetails);
-        when(jwtService.isTokenValid(token, userDetails)).thenReturn(false);
+        when(authenticatedUserService.loadAuthenticatedUser("user@test.com")).thenReturn(principal);
+        when(jwtService.isTokenValid(token, principal)).thenReturn(false);
 
         // When
         filter.doFilterInternal(request, response, filterChain);
@@ -137,4 +134,22 @@ class JwtAuthenticationFilterTest {
         // Then
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
+
+    @Test
+    @DisplayName("Should not set authentication when the user is banned")
+    void shouldNotSetAuthenticationWhenUserBanned() throws Exception {
+        // Given
+        String token = "banned.jwt.token";
+        request.addHeader("Authorization", "Bearer " + token);
+
+        when(jwtService.extractUsername(token)).thenReturn("user@test.com");
+        when(authenticatedUserService.loadAuthenticatedUser("user@test.com"))
+                .thenThrow(new UserBannedException("user@test.com"));
+
+        // When
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
 }
@@ -1,6 +1,7 @@
 package com.checkpoint.api.services;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,14 +17,17 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.checkpoint.api.entities.User;
+import com.checkpoint.api.events.LeaderboardStandingChangedEvent;
 import com.checkpoint.api.exceptions.UserNotFoundException;
 import com.checkpoint.api.repositories.NotificationPreferencesRepository;
 import com.checkpoint.api.repositories.NotificationRepository;
 import com.checkpoint.api.repositories.PasswordResetTokenRepository;
 import com.checkpoint.api.repositories.RefreshTokenRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.security.AuthenticatedUserService;
 import com.checkpoint.api.services.impl.AccountServiceImpl;
 
 /**
@@ -50,6 +54,18 @@ class AccountServiceImplTest {
     @Mock
     private StorageService storageService;
 
+    @Mock
+    private AuthenticatedUserService authenticatedUserService;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private GameRatingStatsService gameRatingStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private AccountServiceImpl service;
 
     private User testUser;
@@ -62,7 +78,11 @@ class AccountServiceImplTest {
                 passwordResetTokenRepository,
                 notificationRepository,
                 notificationPreferencesRepository,
-                storageService);
+                storageService,
+                authenticatedUserService,
+                userStatsService,
+                gameRatingStatsService,
+                eventPublisher);
 
         testUser = new User("alice", "alice@test.com", "encoded-password");
         testUser.setId(UUID.randomUUID());
@@ -93,13 +113,23 @@ class AccountServiceImplTest {
                 refreshTokenRepository,
                 passwordResetTokenRepository,
                 notificationPreferencesRepository,
-                userRepository);
+                userRepository,
+                userStatsService,
+                gameRatingStatsService,
+                authenticatedUserService,
+                eventPublisher);
         inOrder.verify(notificationRepository).deleteAllForUser(userId);
         inOrder.verify(refreshTokenRepository).deleteByUserId(userId);
         inOrder.verify(passwordResetTokenRepository).deleteByUserId(userId);
         inOrder.verify(notificationPreferencesRepository).deleteByUserId(userId);
         inOrder.verify(userRepository).deleteFollowsInvolvingUser(userId);
+        inOrder.verify(userStatsService).deleteStats(userId);
+        inOrder.verify(gameRatingStatsService).userRatingsRemoved(userId);
         inOrder.verify(userRepository).delete(testUser);
+        inOrder.verify(authenticatedUserService).evict("alice@test.com");
+        inOrder.verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof LeaderboardStandingChangedEvent changed
+                        && changed.getUserId().equals(userId)));
     }
 
     @Test
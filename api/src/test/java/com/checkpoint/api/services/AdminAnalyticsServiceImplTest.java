@@ -5,6 +5,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,7 +28,11 @@ import com.checkpoint.api.repositories.ReportRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.dto.admin.CacheStatsDto;
+import com.checkpoint.api.dto.admin.OutboxStatsDto;
+import com.checkpoint.api.dto.admin.SearchIndexStatusDto;
 import com.checkpoint.api.services.impl.AdminAnalyticsServiceImpl;
+import com.checkpoint.api.utils.BoundedCache;
 
 /**
  * Unit tests for {@link AdminAnalyticsServiceImpl}.
@@ -45,12 +52,22 @@ class AdminAnalyticsServiceImplTest {
     @Mock
     private VideoGameRepository videoGameRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    private final BoundedCache<UUID, String> recommendationCache =
+            new BoundedCache<>("recommendations", 2, Duration.ofMinutes(30), Clock.systemUTC());
+
     private AdminAnalyticsServiceImpl adminAnalyticsService;
 
     @BeforeEach
     void setUp() {
         adminAnalyticsService = new AdminAnalyticsServiceImpl(
-                userRepository, reviewRepository, reportRepository, videoGameRepository);
+                userRepository, reviewRepository, reportRepository, videoGameRepository,
+                List.of(recommendationCache), outboxService, searchIndexService);
     }
 
     private User createUser(UUID id, String pseudo) {
@@ -153,4 +170,45 @@ class AdminAnalyticsServiceImplTest {
         assertThat(result.topReviewedGames()).isEmpty();
         assertThat(result.topReviewers()).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should report hit, miss and eviction counters of every cache")
+    void shouldReportCacheStats() {
+        // Given
+        UUID first = UUID.randomUUID();
+        recommendationCache.put(first, "a");
+        recommendationCache.get(first);
+        recommendationCache.get(UUID.randomUUID());
+        recommendationCache.put(UUID.randomUUID(), "b");
+        recommendationCache.put(UUID.randomUUID(), "c");
+
+        // When
+        List<CacheStatsDto> stats = adminAnalyticsService.getCacheStats();
+
+        // Then
+        assertThat(stats).containsExactly(new CacheStatsDto("recommendations", 2, 2, 1, 1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should delegate outbox statistics to the outbox service")
+    void shouldReturnOutboxStats() {
+        // Given
+        OutboxStatsDto expected = new OutboxStatsDto(3, 1, 1500, 12, 40, 2, 4);
+        when(outboxService.getStats()).thenReturn(expected);
+
+        // When / Then
+        assertThat(adminAnalyticsService.getOutboxStats()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should delegate search index status to the search index service")
+    void shouldReturnSearchIndexStatus() {
+        // Given
+        SearchIndexStatusDto expected = new SearchIndexStatusDto(
+                "CATCHING_UP", true, Instant.now(), null, null, List.of());
+        when(searchIndexService.getStatus()).thenReturn(expected);
+
+        // When / Then
+        assertThat(adminAnalyticsService.getSearchIndexStatus()).isEqualTo(expected);
+    }
 }
@@ -1,19 +1,24 @@
 package com.checkpoint.api.services;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.checkpoint.api.entities.Comment;
 import com.checkpoint.api.exceptions.CommentNotFoundException;
 import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.services.impl.AdminCommentServiceImpl;
@@ -24,26 +29,32 @@ class AdminCommentServiceImplTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private EngagementCounterService engagementCounterService;
+
     private AdminCommentServiceImpl adminCommentService;
 
     @BeforeEach
     void setUp() {
-        adminCommentService = new AdminCommentServiceImpl(commentRepository);
+        adminCommentService = new AdminCommentServiceImpl(commentRepository, engagementCounterService);
     }
 
     @Test
-    @DisplayName("deleteComment should delete when comment exists")
+    @DisplayName("deleteComment should release the counters then delete when comment exists")
     void deleteComment_shouldDeleteWhenCommentExists() {
         // Given
         UUID commentId = UUID.randomUUID();
-        when(commentRepository.existsById(commentId)).thenReturn(true);
+        Comment comment = new Comment();
+        comment.setId(commentId);
+        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
 
         // When
         adminCommentService.deleteComment(commentId);
 
         // Then
-        verify(commentRepository).existsById(commentId);
-        verify(commentRepository).deleteById(commentId);
+        InOrder order = inOrder(engagementCounterService, commentRepository);
+        order.verify(engagementCounterService).commentRemoved(comment);
+        order.verify(commentRepository).delete(comment);
     }
 
     @Test
@@ -51,14 +62,14 @@ class AdminCommentServiceImplTest {
     void deleteComment_shouldThrowCommentNotFoundExceptionWhenNotFound() {
         // Given
         UUID commentId = UUID.randomUUID();
-        when(commentRepository.existsById(commentId)).thenReturn(false);
+        when(commentRepository.findById(commentId)).thenReturn(Optional.empty());
 
         // When / Then
         assertThatThrownBy(() -> adminCommentService.deleteComment(commentId))
                 .isInstanceOf(CommentNotFoundException.class)
                 .hasMessageContaining(commentId.toString());
 
-        verify(commentRepository).existsById(commentId);
-        verify(commentRepository, never()).deleteById(commentId);
+        verify(commentRepository, never()).delete(any());
+        verify(engagementCounterService, never()).commentRemoved(any());
     }
 }
@@ -20,8 +20,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.checkpoint.api.client.IgdbApiClient;
 import com.checkpoint.api.dto.admin.CreateGameRequestDto;
@@ -31,6 +33,7 @@ import com.checkpoint.api.entities.Company;
 import com.checkpoint.api.entities.Genre;
 import com.checkpoint.api.entities.Platform;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.events.GameCatalogChangedEvent;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.GameReferencedException;
 import com.checkpoint.api.exceptions.ImportAlreadyRunningException;
@@ -77,6 +80,8 @@ class AdminGameServiceImplTest {
     @Mock private RateRepository rateRepository;
     @Mock private LikeRepository likeRepository;
     @Mock private GameListEntryRepository gameListEntryRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private GameCatalogService gameCatalogService;
 
     private AdminGameServiceImpl service;
 
@@ -87,7 +92,8 @@ class AdminGameServiceImplTest {
                 videoGameRepository, genreRepository, platformRepository, companyRepository,
                 userGameRepository, userGamePlayRepository, reviewRepository,
                 backlogRepository, wishRepository, favoriteRepository,
-                rateRepository, likeRepository, gameListEntryRepository
+                rateRepository, likeRepository, gameListEntryRepository,
+                eventPublisher, gameCatalogService
         );
     }
 
@@ -274,6 +280,12 @@ class AdminGameServiceImplTest {
             assertThat(updated.getPlatforms()).hasSize(1);
             assertThat(updated.getCompanies()).hasSize(1);
             assertThat(updated.getGenres()).isEmpty();
+
+            ArgumentCaptor<GameCatalogChangedEvent> eventCaptor = ArgumentCaptor.forClass(GameCatalogChangedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getVideoGameId()).isEqualTo(id);
+            assertThat(eventCaptor.getValue().isRemoved()).isFalse();
+            verify(gameCatalogService).evictGameDetails(id);
         }
 
         @Test
@@ -326,6 +338,11 @@ class AdminGameServiceImplTest {
             service.deleteGame(id);
 
             verify(videoGameRepository).delete(game);
+            verify(gameCatalogService).evictGameDetails(id);
+
+            ArgumentCaptor<GameCatalogChangedEvent> eventCaptor = ArgumentCaptor.forClass(GameCatalogChangedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().isRemoved()).isTrue();
         }
 
         @Test
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -17,8 +18,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -32,6 +35,7 @@ import com.checkpoint.api.entities.Report;
 import com.checkpoint.api.entities.Review;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.events.FeedActivityRemovedEvent;
 import com.checkpoint.api.exceptions.ReviewNotFoundException;
 import com.checkpoint.api.repositories.ReportRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
@@ -46,11 +50,18 @@ class AdminReviewServiceImplTest {
     @Mock
     private ReportRepository reportRepository;
 
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private AdminReviewServiceImpl adminReviewService;
 
     @BeforeEach
     void setUp() {
-        adminReviewService = new AdminReviewServiceImpl(reviewRepository, reportRepository);
+        adminReviewService = new AdminReviewServiceImpl(reviewRepository, reportRepository, userStatsService,
+                eventPublisher);
     }
 
     private User createUser(String pseudo) {
@@ -209,14 +220,21 @@ class AdminReviewServiceImplTest {
     void deleteReview_shouldDeleteWhenReviewExists() {
         // Given
         UUID reviewId = UUID.randomUUID();
-        when(reviewRepository.existsById(reviewId)).thenReturn(true);
+        User author = createUser("author");
+        Review review = new Review();
+        review.setId(reviewId);
+        review.setUser(author);
+        when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
 
         // When
         adminReviewService.deleteReview(reviewId);
 
         // Then
-        verify(reviewRepository).existsById(reviewId);
-        verify(reviewRepository).deleteById(reviewId);
+        verify(reviewRepository).delete(review);
+        verify(userStatsService).reviewRemoved(author.getId());
+        ArgumentCaptor<FeedActivityRemovedEvent> event = ArgumentCaptor.forClass(FeedActivityRemovedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getActivityId()).isEqualTo(reviewId);
     }
 
     @Test
@@ -224,10 +242,10 @@ class AdminReviewServiceImplTest {
     void deleteReview_shouldThrowExceptionWhenNotFound() {
         // Given
         UUID reviewId = UUID.randomUUID();
-        when(reviewRepository.existsById(reviewId)).thenReturn(false);
+        when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
 
         // When / Then
         assertThrows(IllegalArgumentException.class, () -> adminReviewService.deleteReview(reviewId));
-        verify(reviewRepository).existsById(reviewId);
+        verifyNoInteractions(userStatsService, eventPublisher);
     }
 }
@@ -3,6 +3,7 @@ package com.checkpoint.api.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,15 +19,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.checkpoint.api.dto.admin.AdminUserDetailDto;
 import com.checkpoint.api.dto.admin.AdminUserDto;
 import com.checkpoint.api.dto.admin.AdminUserEditDto;
 import com.checkpoint.api.entities.User;
+import com.checkpoint.api.events.LeaderboardStandingChangedEvent;
 import com.checkpoint.api.exceptions.UserNotFoundException;
 import com.checkpoint.api.repositories.ReportRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.security.AuthenticatedUserService;
 import com.checkpoint.api.services.impl.AdminUserServiceImpl;
 
 /**
@@ -44,11 +48,18 @@ class AdminUserServiceImplTest {
     @Mock
     private ReportRepository reportRepository;
 
+    @Mock
+    private AuthenticatedUserService authenticatedUserService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private AdminUserServiceImpl adminUserService;
 
     @BeforeEach
     void setUp() {
-        adminUserService = new AdminUserServiceImpl(userRepository, reviewRepository, reportRepository);
+        adminUserService = new AdminUserServiceImpl(userRepository, reviewRepository, reportRepository,
+                authenticatedUserService, eventPublisher);
     }
 
     private User createUser(UUID id, String pseudo, String email) {
@@ -277,6 +288,10 @@ class AdminUserServiceImplTest {
             // Then
             assertThat(user.getBanned()).isTrue();
             verify(userRepository).save(user);
+            verify(authenticatedUserService).evict("alice@example.com");
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof LeaderboardStandingChangedEvent changed
+                            && changed.getUserId().equals(id) && !changed.hasScore()));
         }
 
         @Test
@@ -313,6 +328,9 @@ class AdminUserServiceImplTest {
             // Then
             assertThat(user.getBanned()).isFalse();
             verify(userRepository).save(user);
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof LeaderboardStandingChangedEvent changed
+                            && changed.getUserId().equals(id)));
         }
 
         @Test
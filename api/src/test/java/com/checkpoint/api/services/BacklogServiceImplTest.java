@@ -22,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -33,6 +34,7 @@ import com.checkpoint.api.entities.Backlog;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.enums.Priority;
+import com.checkpoint.api.events.BacklogChangedEvent;
 import com.checkpoint.api.exceptions.GameAlreadyInBacklogException;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.GameNotInBacklogException;
@@ -60,6 +62,9 @@ class BacklogServiceImplTest {
     @Mock
     private BacklogMapper backlogMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private BacklogServiceImpl service;
 
     private User testUser;
@@ -70,7 +75,7 @@ class BacklogServiceImplTest {
     @BeforeEach
     void setUp() {
         service = new BacklogServiceImpl(
-                backlogRepository, userRepository, videoGameRepository, backlogMapper);
+                backlogRepository, userRepository, videoGameRepository, backlogMapper, eventPublisher);
 
         testUser = new User("testuser", "user@example.com", "password");
         testUser.setId(UUID.randomUUID());
@@ -115,6 +120,7 @@ class BacklogServiceImplTest {
             verify(backlogRepository).save(captor.capture());
             assertThat(captor.getValue().getUser()).isEqualTo(testUser);
             assertThat(captor.getValue().getVideoGame()).isEqualTo(testGame);
+            verify(eventPublisher).publishEvent(any(BacklogChangedEvent.class));
         }
 
         @Test
@@ -197,6 +203,7 @@ class BacklogServiceImplTest {
 
             // Then
             verify(backlogRepository).deleteByUserIdAndVideoGameId(testUser.getId(), testGame.getId());
+            verify(eventPublisher).publishEvent(any(BacklogChangedEvent.class));
         }
 
         @Test
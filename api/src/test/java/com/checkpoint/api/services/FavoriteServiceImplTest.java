@@ -21,11 +21,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.checkpoint.api.dto.profile.FavoriteDto;
 import com.checkpoint.api.entities.Favorite;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.events.FavoritesChangedEvent;
 import com.checkpoint.api.exceptions.InvalidFavoritesException;
 import com.checkpoint.api.exceptions.UserNotFoundException;
 import com.checkpoint.api.mapper.ProfileMapper;
@@ -55,6 +57,9 @@ class FavoriteServiceImplTest {
     @Mock
     private com.checkpoint.api.services.OnboardingService onboardingService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private FavoriteServiceImpl service;
 
     private User testUser;
@@ -63,7 +68,7 @@ class FavoriteServiceImplTest {
     void setUp() {
         service = new FavoriteServiceImpl(
                 favoriteRepository, userRepository, videoGameRepository, profileMapper,
-                onboardingService);
+                onboardingService, eventPublisher);
         testUser = new User("alice", "alice@test.com", "encoded-pwd");
         testUser.setId(UUID.randomUUID());
     }
@@ -104,6 +109,7 @@ class FavoriteServiceImplTest {
         assertThat(saved.get(0).getVideoGame().getId()).isEqualTo(g1);
         assertThat(saved.get(1).getVideoGame().getId()).isEqualTo(g2);
         assertThat(saved.get(2).getVideoGame().getId()).isEqualTo(g3);
+        verify(eventPublisher).publishEvent(any(FavoritesChangedEvent.class));
     }
 
     @Test
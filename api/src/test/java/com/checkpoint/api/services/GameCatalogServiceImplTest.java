@@ -2,10 +2,15 @@ package com.checkpoint.api.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -17,14 +22,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.checkpoint.api.dto.catalog.GameCardDto;
+import com.checkpoint.api.dto.catalog.GameCatalogFacetsDto;
+import com.checkpoint.api.dto.catalog.GameCatalogPageDto;
 import com.checkpoint.api.dto.catalog.GameDetailDto;
+import com.checkpoint.api.dto.catalog.VersionedGameDetailDto;
 import com.checkpoint.api.entities.Company;
 import com.checkpoint.api.entities.Genre;
 import com.checkpoint.api.entities.Platform;
@@ -34,6 +42,7 @@ import com.checkpoint.api.repositories.BacklogRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.repositories.WishRepository;
 import com.checkpoint.api.services.impl.GameCatalogServiceImpl;
+import com.checkpoint.api.utils.BoundedCache;
 
 /**
  * Unit tests for {@link GameCatalogServiceImpl}.
@@ -51,14 +60,25 @@ class GameCatalogServiceImplTest {
     private WishRepository wishRepository;
 
     @Mock
-    private com.checkpoint.api.repositories.RateRepository rateRepository;
+    private GameRatingStatsService gameRatingStatsService;
+
+    @Mock
+    private GameSearchService gameSearchService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private GameCatalogServiceImpl gameCatalogService;
 
     @BeforeEach
     void setUp() {
         gameCatalogService = new GameCatalogServiceImpl(
-                videoGameRepository, backlogRepository, wishRepository, rateRepository);
+                videoGameRepository, backlogRepository, wishRepository, gameRatingStatsService, gameSearchService,
+                new BoundedCache<>("game-details", 100, null, Clock.systemUTC()), transactionManager);
+    }
+
+    private static GameCatalogFacetsDto noFacets() {
+        return new GameCatalogFacetsDto(List.of(), List.of(), List.of());
     }
 
     @Test
@@ -71,42 +91,44 @@ class GameCatalogServiceImplTest {
                 new GameCardDto(UUID.randomUUID(), "Game 1", "cover1.jpg", LocalDate.of(2025, 1, 15), 4.5, 100L),
                 new GameCardDto(UUID.randomUUID(), "Game 2", "cover2.jpg", LocalDate.of(2025, 1, 10), 4.0, 50L)
         );
-        Page<GameCardDto> expectedPage = new PageImpl<>(cards, pageable, 2);
+        GameCatalogPageDto expected = GameCatalogPageDto.from(
+                new PageImpl<>(cards, pageable, 2), noFacets());
 
-        when(videoGameRepository.findAllAsGameCardsWithFilters(pageable,
+        when(gameSearchService.browseCatalog(pageable,
                 null, null, null, null, null, null))
-                .thenReturn(expectedPage);
+                .thenReturn(expected);
 
         // When
-        Page<GameCardDto> result = gameCatalogService.getGameCatalog(
+        GameCatalogPageDto result = gameCatalogService.getGameCatalog(
                 pageable, null, null, null, null, null, null);
 
         // Then
-        assertThat(result.getContent()).hasSize(2);
-        assertThat(result.getContent().get(0).title()).isEqualTo("Game 1");
-        assertThat(result.getTotalElements()).isEqualTo(2);
-        verify(videoGameRepository).findAllAsGameCardsWithFilters(pageable,
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.content().get(0).title()).isEqualTo("Game 1");
+        assertThat(result.metadata().totalElements()).isEqualTo(2);
+        verify(gameSearchService).browseCatalog(pageable,
                 null, null, null, null, null, null);
     }
 
     @Test
-    @DisplayName("getGameCatalog should pass filter parameters to repository")
-    void getGameCatalog_shouldPassFiltersToRepository() {
+    @DisplayName("getGameCatalog should pass filter parameters to the catalog search")
+    void getGameCatalog_shouldPassFiltersToSearch() {
         // Given
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "releaseDate"));
-        Page<GameCardDto> expectedPage = new PageImpl<>(List.of(), pageable, 0);
+        GameCatalogPageDto expected = GameCatalogPageDto.from(
+                new PageImpl<>(List.<GameCardDto>of(), pageable, 0), noFacets());
 
-        when(videoGameRepository.findAllAsGameCardsWithFilters(pageable,
+        when(gameSearchService.browseCatalog(pageable,
                 List.of("RPG"), List.of("PC"), 2020, 2023, 4.0, 5.0))
-                .thenReturn(expectedPage);
+                .thenReturn(expected);
 
         // When
-        Page<GameCardDto> result = gameCatalogService.getGameCatalog(
+        GameCatalogPageDto result = gameCatalogService.getGameCatalog(
                 pageable, List.of("RPG"), List.of("PC"), 2020, 2023, 4.0, 5.0);
 
         // Then
-        assertThat(result.getContent()).isEmpty();
-        verify(videoGameRepository).findAllAsGameCardsWithFilters(pageable,
+        assertThat(result.content()).isEmpty();
+        verify(gameSearchService).browseCatalog(pageable,
                 List.of("RPG"), List.of("PC"), 2020, 2023, 4.0, 5.0);
     }
 
@@ -122,6 +144,7 @@ class GameCatalogServiceImplTest {
         game.setDescription("An epic RPG adventure");
         game.setCoverUrl("witcher3-cover.jpg");
         game.setReleaseDate(LocalDate.of(2015, 5, 19));
+        game.setUpdatedAt(LocalDateTime.of(2024, 3, 1, 12, 0));
 
         Genre genre = new Genre("RPG");
         genre.setId(UUID.randomUUID());
@@ -137,15 +160,19 @@ class GameCatalogServiceImplTest {
 
         when(videoGameRepository.findByIdWithRelationships(gameId)).thenReturn(Optional.of(game));
         game.setAverageRating(4.8);
-        when(videoGameRepository.countRatings(gameId)).thenReturn(1500L);
-        when(rateRepository.findDistributionByVideoGameId(gameId)).thenReturn(
+        game.setRatingCount(1500L);
+        when(gameRatingStatsService.getDistribution(gameId, 1500L)).thenReturn(
                 List.of(new com.checkpoint.api.dto.profile.RatingDistributionEntryDto(10, 800L),
                         new com.checkpoint.api.dto.profile.RatingDistributionEntryDto(9, 700L)));
 
         // When
-        GameDetailDto result = gameCatalogService.getGameDetails(gameId);
+        VersionedGameDetailDto versioned = gameCatalogService.getGameDetails(gameId);
+        GameDetailDto result = versioned.detail();
 
         // Then
+        assertThat(versioned.eTag()).startsWith("\"").endsWith("\"");
+        assertThat(versioned.lastModified())
+                .isEqualTo(LocalDateTime.of(2024, 3, 1, 12, 0).atZone(ZoneId.systemDefault()).toInstant());
         assertThat(result.id()).isEqualTo(gameId);
         assertThat(result.title()).isEqualTo("The Witcher 3");
         assertThat(result.description()).isEqualTo("An epic RPG adventure");
@@ -182,19 +209,83 @@ class GameCatalogServiceImplTest {
         VideoGame game = new VideoGame();
         game.setId(gameId);
         game.setTitle("New Game");
+        game.setUpdatedAt(LocalDateTime.now());
         game.setGenres(Set.of());
         game.setPlatforms(Set.of());
         game.setCompanies(Set.of());
 
         when(videoGameRepository.findByIdWithRelationships(gameId)).thenReturn(Optional.of(game));
         game.setAverageRating(null);
-        when(videoGameRepository.countRatings(gameId)).thenReturn(0L);
 
         // When
-        GameDetailDto result = gameCatalogService.getGameDetails(gameId);
+        GameDetailDto result = gameCatalogService.getGameDetails(gameId).detail();
 
         // Then
         assertThat(result.averageRating()).isNull();
         assertThat(result.ratingCount()).isEqualTo(0L);
     }
+
+    @Test
+    @DisplayName("getGameDetails should serve repeated reads from the cache until evicted")
+    void getGameDetails_shouldCacheUntilEvicted() {
+        // Given
+        UUID gameId = UUID.randomUUID();
+        VideoGame game = new VideoGame();
+        game.setId(gameId);
+        game.setTitle("Cached Game");
+        game.setGenres(Set.of());
+        game.setPlatforms(Set.of());
+        game.setCompanies(Set.of());
+        game.setUpdatedAt(LocalDateTime.now());
+        when(videoGameRepository.findByIdWithRelationships(gameId)).thenReturn(Optional.of(game));
+
+        // When
+        VersionedGameDetailDto first = gameCatalogService.getGameDetails(gameId);
+        VersionedGameDetailDto second = gameCatalogService.getGameDetails(gameId);
+
+        // Then - only the miss opened a transaction
+        assertThat(second).isSameAs(first);
+        verify(videoGameRepository, times(1)).findByIdWithRelationships(gameId);
+        verify(transactionManager, times(1)).getTransaction(any());
+
+        // When
+        game.setTitle("Renamed Game");
+        gameCatalogService.evictGameDetails(gameId);
+        VersionedGameDetailDto reloaded = gameCatalogService.getGameDetails(gameId);
+
+        // Then
+        assertThat(reloaded.detail().title()).isEqualTo("Renamed Game");
+        assertThat(reloaded.eTag()).isNotEqualTo(first.eTag());
+        verify(videoGameRepository, times(2)).findByIdWithRelationships(gameId);
+    }
+
+    @Test
+    @DisplayName("getGameDetails should derive a stable ETag that follows rating changes")
+    void getGameDetails_shouldDeriveETagFromContent() {
+        // Given
+        UUID gameId = UUID.randomUUID();
+        VideoGame game = new VideoGame();
+        game.setId(gameId);
+        game.setTitle("Rated Game");
+        game.setGenres(Set.of());
+        game.setPlatforms(Set.of());
+        game.setCompanies(Set.of());
+        game.setUpdatedAt(LocalDateTime.now());
+        game.setAverageRating(4.0);
+        game.setRatingCount(1L);
+        when(videoGameRepository.findByIdWithRelationships(gameId)).thenReturn(Optional.of(game));
+
+        // When
+        String first = gameCatalogService.getGameDetails(gameId).eTag();
+        gameCatalogService.evictGameDetails(gameId);
+        String unchanged = gameCatalogService.getGameDetails(gameId).eTag();
+        game.setAverageRating(3.0);
+        game.setRatingCount(2L);
+        gameCatalogService.evictGameDetails(gameId);
+        String rerated = gameCatalogService.getGameDetails(gameId).eTag();
+
+        // Then
+        assertThat(unchanged).isEqualTo(first);
+        assertThat(rerated).isNotEqualTo(first);
+    }
 }
@@ -1,9 +1,12 @@
 package com.checkpoint.api.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -11,7 +14,11 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +30,7 @@ import com.checkpoint.api.client.IgdbApiClient;
 import com.checkpoint.api.dto.igdb.IgdbGameDto;
 import com.checkpoint.api.dto.igdb.IgdbTimeToBeatDto;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.exceptions.IgdbApiException;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.services.GameImportService.BulkImportStats;
 import com.checkpoint.api.services.impl.GameImportServiceImpl;
@@ -30,8 +38,8 @@ import com.checkpoint.api.services.impl.GameImportServiceImpl;
 /**
  * Unit tests for {@link GameImportServiceImpl}. The actual persistence is mocked
  * out via {@link GamePersistenceService}; these tests focus on orchestration:
- * fetching, prefetching time-to-beat once, delegation, skip/failure handling and
- * progress reporting.
+ * fetching, prefetching time-to-beat once, dedup, chunking, skip/failure handling
+ * and progress reporting.
  */
 @ExtendWith(MockitoExtension.class)
 class GameImportServiceImplTest {
@@ -45,12 +53,20 @@ class GameImportServiceImplTest {
     @Mock
     private VideoGameRepository videoGameRepository;
 
+    private ExecutorService fetchExecutor;
+
     private GameImportServiceImpl gameImportService;
 
     @BeforeEach
     void setUp() {
+        fetchExecutor = Executors.newSingleThreadExecutor();
         gameImportService = new GameImportServiceImpl(
-                igdbApiClient, gamePersistenceService, videoGameRepository);
+                igdbApiClient, gamePersistenceService, videoGameRepository, fetchExecutor, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetchExecutor.shutdownNow();
     }
 
     @Test
@@ -75,15 +91,14 @@ class GameImportServiceImplTest {
     }
 
     @Test
-    @DisplayName("bulkImport skips games that already exist and reports them as skipped")
+    @DisplayName("bulkImport dedups the page in one query and inserts only the new games")
     void bulkImport_skipsExisting() {
         IgdbGameDto existing = game(1L, "Existing");
         IgdbGameDto fresh = game(2L, "Fresh");
 
-        when(igdbApiClient.fetchTimeToBeatForGames(anyCollection())).thenReturn(Map.of());
-        when(videoGameRepository.existsByIgdbId(1L)).thenReturn(true);
-        when(videoGameRepository.existsByIgdbId(2L)).thenReturn(false);
-        when(gamePersistenceService.importOne(eq(fresh), any())).thenReturn(new VideoGame());
+        when(videoGameRepository.findExistingIgdbIds(List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(igdbApiClient.fetchTimeToBeatForGames(List.of(2L))).thenReturn(Map.of());
+        when(gamePersistenceService.importBatch(List.of(fresh), Map.of())).thenReturn(List.of(new VideoGame()));
 
         BulkImportStats stats = gameImportService.bulkImport(List.of(existing, fresh));
 
@@ -91,19 +106,54 @@ class GameImportServiceImplTest {
         assertThat(stats.imported()).isEqualTo(1);
         assertThat(stats.skipped()).isEqualTo(1);
         assertThat(stats.failed()).isZero();
-        verify(gamePersistenceService).importOne(eq(fresh), any());
-        verify(gamePersistenceService, never()).importOne(eq(existing), any());
+        verify(videoGameRepository, never()).existsByIgdbId(any());
+        verify(gamePersistenceService, never()).importOne(any(), any());
     }
 
     @Test
-    @DisplayName("bulkImport counts a failing game without aborting the batch")
+    @DisplayName("bulkImport treats a repeated IGDB id within the page as already imported")
+    void bulkImport_skipsDuplicatesWithinPage() {
+        IgdbGameDto original = game(1L, "Original");
+        IgdbGameDto repeat = game(1L, "Original");
+
+        when(videoGameRepository.findExistingIgdbIds(anyCollection())).thenReturn(List.of());
+        when(igdbApiClient.fetchTimeToBeatForGames(anyCollection())).thenReturn(Map.of());
+        when(gamePersistenceService.importBatch(eq(List.of(original)), any())).thenReturn(List.of(new VideoGame()));
+
+        BulkImportStats stats = gameImportService.bulkImport(List.of(original, repeat));
+
+        assertThat(stats.imported()).isEqualTo(1);
+        assertThat(stats.skipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("bulkImport splits new games into chunks of the configured size")
+    void bulkImport_insertsInChunks() {
+        IgdbGameDto g1 = game(1L, "Game 1");
+        IgdbGameDto g2 = game(2L, "Game 2");
+        IgdbGameDto g3 = game(3L, "Game 3");
+
+        when(videoGameRepository.findExistingIgdbIds(anyCollection())).thenReturn(List.of());
+        when(igdbApiClient.fetchTimeToBeatForGames(anyCollection())).thenReturn(Map.of());
+        when(gamePersistenceService.importBatch(any(), any())).thenReturn(List.of());
+
+        BulkImportStats stats = gameImportService.bulkImport(List.of(g1, g2, g3));
+
+        assertThat(stats.imported()).isEqualTo(3);
+        verify(gamePersistenceService).importBatch(eq(List.of(g1, g2)), any());
+        verify(gamePersistenceService).importBatch(eq(List.of(g3)), any());
+    }
+
+    @Test
+    @DisplayName("bulkImport retries a failed chunk game by game and counts only the bad one")
     void bulkImport_continuesOnFailure() {
         IgdbGameDto good1 = game(1L, "Good 1");
         IgdbGameDto bad = game(2L, "Bad");
         IgdbGameDto good2 = game(3L, "Good 2");
 
+        when(videoGameRepository.findExistingIgdbIds(anyCollection())).thenReturn(List.of());
         when(igdbApiClient.fetchTimeToBeatForGames(anyCollection())).thenReturn(Map.of());
-        when(videoGameRepository.existsByIgdbId(any())).thenReturn(false);
+        when(gamePersistenceService.importBatch(any(), any())).thenThrow(new RuntimeException("batch boom"));
         when(gamePersistenceService.importOne(eq(good1), any())).thenReturn(new VideoGame());
         when(gamePersistenceService.importOne(eq(bad), any())).thenThrow(new RuntimeException("boom"));
         when(gamePersistenceService.importOne(eq(good2), any())).thenReturn(new VideoGame());
@@ -121,10 +171,9 @@ class GameImportServiceImplTest {
         IgdbGameDto fresh = game(1L, "Fresh");
         IgdbGameDto dup = game(2L, "Dup");
 
+        when(videoGameRepository.findExistingIgdbIds(anyCollection())).thenReturn(List.of(2L));
         when(igdbApiClient.fetchTimeToBeatForGames(anyCollection())).thenReturn(Map.of());
-        when(videoGameRepository.existsByIgdbId(1L)).thenReturn(false);
-        when(videoGameRepository.existsByIgdbId(2L)).thenReturn(true);
-        when(gamePersistenceService.importOne(eq(fresh), any())).thenReturn(new VideoGame());
+        when(gamePersistenceService.importBatch(eq(List.of(fresh)), any())).thenReturn(List.of(new VideoGame()));
 
         CountingListener listener = new CountingListener();
         gameImportService.bulkImport(List.of(fresh, dup), listener);
@@ -135,6 +184,45 @@ class GameImportServiceImplTest {
         assertThat(listener.failed).isZero();
     }
 
+    @Test
+    @DisplayName("bulkImportTopRated imports every page streamed by the fetch thread")
+    @SuppressWarnings("unchecked")
+    void bulkImportTopRated_importsStreamedPages() {
+        IgdbGameDto g1 = game(1L, "Game 1");
+        IgdbGameDto g2 = game(2L, "Game 2");
+        IgdbGameDto g3 = game(3L, "Game 3");
+
+        doAnswer(inv -> {
+            Consumer<List<IgdbGameDto>> pages = inv.getArgument(2);
+            pages.accept(List.of(g1, g2));
+            pages.accept(List.of(g3));
+            return null;
+        }).when(igdbApiClient).fetchTopRatedGames(eq(3), eq(100), any(Consumer.class));
+        when(videoGameRepository.findExistingIgdbIds(anyCollection())).thenReturn(List.of());
+        when(igdbApiClient.fetchTimeToBeatForGames(anyCollection())).thenReturn(Map.of());
+        when(gamePersistenceService.importBatch(any(), any())).thenReturn(List.of());
+
+        CountingListener listener = new CountingListener();
+        BulkImportStats stats = gameImportService.bulkImportTopRated(3, 100, listener);
+
+        assertThat(stats.totalFetched()).isEqualTo(3);
+        assertThat(stats.imported()).isEqualTo(3);
+        assertThat(listener.fetched).isEqualTo(3);
+        assertThat(listener.processed).isEqualTo(3);
+        verify(videoGameRepository, times(2)).findExistingIgdbIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("bulkImportTopRated surfaces a failure of the fetch thread")
+    @SuppressWarnings("unchecked")
+    void bulkImportTopRated_propagatesFetchFailure() {
+        doThrow(new IgdbApiException("down"))
+                .when(igdbApiClient).fetchTopRatedGames(eq(10), eq(100), any(Consumer.class));
+
+        assertThatThrownBy(() -> gameImportService.bulkImportTopRated(10, 100, ImportProgressListener.NOOP))
+                .isInstanceOf(IgdbApiException.class);
+    }
+
     /** Minimal IGDB game DTO with only id and name populated. */
     private IgdbGameDto game(Long id, String name) {
         return new IgdbGameDto(
@@ -146,11 +234,17 @@ class GameImportServiceImplTest {
     }
 
     private static final class CountingListener implements ImportProgressListener {
+        int fetched;
         int processed;
         int imported;
         int skipped;
         int failed;
 
+        @Override
+        public void fetched(int count) {
+            fetched += count;
+        }
+
         @Override
         public void processed() {
             processed++;
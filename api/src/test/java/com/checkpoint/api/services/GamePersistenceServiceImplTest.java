@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.checkpoint.api.dto.igdb.IgdbCompanyDto;
 import com.checkpoint.api.dto.igdb.IgdbCoverDto;
@@ -31,6 +33,7 @@ import com.checkpoint.api.entities.Company;
 import com.checkpoint.api.entities.Genre;
 import com.checkpoint.api.entities.Platform;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.events.GameCatalogChangedEvent;
 import com.checkpoint.api.mapper.GameMapper;
 import com.checkpoint.api.repositories.CompanyRepository;
 import com.checkpoint.api.repositories.GenreRepository;
@@ -60,12 +63,19 @@ class GamePersistenceServiceImplTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private GameCatalogService gameCatalogService;
+
     private GamePersistenceServiceImpl service;
 
     @BeforeEach
     void setUp() {
         service = new GamePersistenceServiceImpl(
-                gameMapper, videoGameRepository, genreRepository, platformRepository, companyRepository);
+                gameMapper, videoGameRepository, genreRepository, platformRepository, companyRepository,
+                eventPublisher, gameCatalogService);
     }
 
     @Test
@@ -84,6 +94,7 @@ class GamePersistenceServiceImplTest {
         service.importOne(dto, null);
 
         verify(gameMapper).toEntity(dto);
+        verify(eventPublisher).publishEvent(any(GameCatalogChangedEvent.class));
         verify(gameMapper, never()).updateEntity(any(), any());
         // saved once to generate the id, once after relationships are wired
         verify(videoGameRepository, times(2)).save(any(VideoGame.class));
@@ -107,6 +118,7 @@ class GamePersistenceServiceImplTest {
 
         verify(gameMapper, never()).toEntity(any());
         verify(gameMapper).updateEntity(dto, existing);
+        verify(gameCatalogService).evictGameDetails(existing.getId());
     }
 
     @Test
@@ -170,6 +182,77 @@ class GamePersistenceServiceImplTest {
         assertThat(entity.getTimeToBeatCompletely()).isNull();
     }
 
+    @Test
+    @DisplayName("importBatch resolves the chunk's tags in one query per type and creates missing ones")
+    void importBatch_resolvesTagsOncePerChunk() {
+        IgdbGameDto first = sampleGameDto(1L, "First");
+        IgdbGameDto second = sampleGameDto(2L, "Second");
+        VideoGame firstEntity = new VideoGame();
+        VideoGame secondEntity = new VideoGame();
+        Genre rpg = tag(new Genre("RPG"));
+        Company studio = tag(new Company("CD Projekt RED"));
+
+        when(gameMapper.toEntity(first)).thenReturn(firstEntity);
+        when(gameMapper.toEntity(second)).thenReturn(secondEntity);
+        when(genreRepository.findAllByLowerNameIn(List.of("rpg"))).thenReturn(List.of(rpg));
+        when(platformRepository.findAllByLowerNameIn(List.of("pc"))).thenReturn(List.of());
+        when(platformRepository.save(any(Platform.class))).thenAnswer(inv -> tag(inv.getArgument(0)));
+        when(companyRepository.findAllByLowerNameIn(List.of("cd projekt red"))).thenReturn(List.of(studio));
+        when(videoGameRepository.saveAll(List.of(firstEntity, secondEntity)))
+                .thenReturn(List.of(firstEntity, secondEntity));
+
+        List<VideoGame> saved = service.importBatch(List.of(first, second),
+                Map.of(1L, new IgdbTimeToBeatDto(1L, 3600L, 1800L, 7200L)));
+
+        assertThat(saved).containsExactly(firstEntity, secondEntity);
+        assertThat(firstEntity.getGenres()).containsExactly(rpg);
+        assertThat(secondEntity.getCompanies()).containsExactly(studio);
+        assertThat(firstEntity.getTimeToBeatNormally()).isEqualTo(3600L);
+        assertThat(secondEntity.getTimeToBeatNormally()).isNull();
+        verify(platformRepository, times(1)).save(any(Platform.class));
+        verify(videoGameRepository, never()).save(any(VideoGame.class));
+        verify(eventPublisher, times(2)).publishEvent(any(GameCatalogChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("importBatch reuses tag IDs learned by an earlier chunk instead of querying again")
+    void importBatch_reusesCachedTags() {
+        IgdbGameDto first = sampleGameDto(1L, "First");
+        IgdbGameDto second = sampleGameDto(2L, "Second");
+        Genre rpg = tag(new Genre("RPG"));
+        Platform pc = tag(new Platform("PC"));
+        Company studio = tag(new Company("CD Projekt RED"));
+
+        when(gameMapper.toEntity(any())).thenAnswer(inv -> new VideoGame());
+        when(genreRepository.findAllByLowerNameIn(any())).thenReturn(List.of(rpg));
+        when(platformRepository.findAllByLowerNameIn(any())).thenReturn(List.of(pc));
+        when(companyRepository.findAllByLowerNameIn(any())).thenReturn(List.of(studio));
+        when(genreRepository.getReferenceById(rpg.getId())).thenReturn(rpg);
+        when(platformRepository.getReferenceById(pc.getId())).thenReturn(pc);
+        when(companyRepository.getReferenceById(studio.getId())).thenReturn(studio);
+        when(videoGameRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        service.importBatch(List.of(first), Map.of());
+        service.importBatch(List.of(second), Map.of());
+
+        verify(genreRepository, times(1)).findAllByLowerNameIn(any());
+        verify(platformRepository, times(1)).findAllByLowerNameIn(any());
+        verify(companyRepository, times(1)).findAllByLowerNameIn(any());
+        verify(genreRepository).getReferenceById(rpg.getId());
+    }
+
+    private static <T> T tag(T entity) {
+        UUID id = UUID.randomUUID();
+        if (entity instanceof Genre genre) {
+            genre.setId(id);
+        } else if (entity instanceof Platform platform) {
+            platform.setId(id);
+        } else if (entity instanceof Company company) {
+            company.setId(id);
+        }
+        return entity;
+    }
+
     private IgdbGameDto sampleGameDto(Long id, String name) {
         IgdbCoverDto cover = new IgdbCoverDto(
                 1L, "co1wyy", "//images.igdb.com/igdb/image/upload/t_thumb/co1wyy.jpg",
@@ -3,13 +3,26 @@ package com.checkpoint.api.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryWhereStep;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,10 +32,14 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.checkpoint.api.dto.catalog.FacetCountDto;
 import com.checkpoint.api.dto.catalog.GameCardDto;
+import com.checkpoint.api.dto.catalog.GameCatalogPageDto;
 import com.checkpoint.api.entities.VideoGame;
-import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.services.impl.GameSearchServiceImpl;
 
 import jakarta.persistence.EntityManager;
@@ -36,14 +53,11 @@ class GameSearchServiceImplTest {
     @Mock
     private EntityManager entityManager;
 
-    @Mock
-    private VideoGameRepository videoGameRepository;
-
     private GameSearchServiceImpl gameSearchService;
 
     @BeforeEach
     void setUp() {
-        gameSearchService = new GameSearchServiceImpl(entityManager, videoGameRepository);
+        gameSearchService = new GameSearchServiceImpl(entityManager);
     }
 
     /**
@@ -51,14 +65,18 @@ class GameSearchServiceImplTest {
      * Uses raw types and doReturn to bypass Hibernate Search's complex generic fluent API.
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private SearchSession mockSearchSession(List<VideoGame> results) {
+    private SearchSession mockSearchSession(List<GameCardDto> results) {
         SearchSession searchSession = mock(SearchSession.class);
         Object selectStep = mock(org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep.class);
+        Object whereStep = mock(org.hibernate.search.engine.search.query.dsl.SearchQueryWhereStep.class);
         Object optionsStep = mock(org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep.class);
 
         Mockito.doReturn(selectStep).when(searchSession).search(any(Class.class));
-        Mockito.doReturn(optionsStep)
+        Mockito.doReturn(whereStep)
                 .when((org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep) selectStep)
+                .select(any(java.util.function.Function.class));
+        Mockito.doReturn(optionsStep)
+                .when((org.hibernate.search.engine.search.query.dsl.SearchQueryWhereStep) whereStep)
                 .where(any(java.util.function.Function.class));
         Mockito.doReturn(results)
                 .when((org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep) optionsStep)
@@ -68,18 +86,14 @@ class GameSearchServiceImplTest {
     }
 
     @Test
-    @DisplayName("searchGames should return mapped GameCardDto list")
-    void searchGames_shouldReturnMappedResults() {
+    @DisplayName("searchGames should return the cards projected from the index")
+    void searchGames_shouldReturnProjectedResults() {
         // Given
         UUID gameId = UUID.randomUUID();
-        VideoGame game = new VideoGame("The Witcher 3", "An epic RPG", LocalDate.of(2015, 5, 19));
-        game.setId(gameId);
-        game.setCoverUrl("cover.jpg");
-        game.setAverageRating(4.8);
-
-        when(videoGameRepository.countRatings(gameId)).thenReturn(1500L);
+        GameCardDto card = new GameCardDto(gameId, "The Witcher 3", "cover.jpg",
+                LocalDate.of(2015, 5, 19), 4.8, 1500L);
 
-        SearchSession searchSession = mockSearchSession(List.of(game));
+        SearchSession searchSession = mockSearchSession(List.of(card));
 
         try (MockedStatic<org.hibernate.search.mapper.orm.Search> searchStatic =
                      Mockito.mockStatic(org.hibernate.search.mapper.orm.Search.class)) {
@@ -97,6 +111,7 @@ class GameSearchServiceImplTest {
             assertThat(results.get(0).coverUrl()).isEqualTo("cover.jpg");
             assertThat(results.get(0).averageRating()).isEqualTo(4.8);
             assertThat(results.get(0).ratingCount()).isEqualTo(1500L);
+            verifyNoInteractions(entityManager);
         }
     }
 
@@ -119,4 +134,109 @@ class GameSearchServiceImplTest {
             assertThat(results).isEmpty();
         }
     }
+
+    /**
+     * Mocks a catalog page query (select / where / sort / aggregations / fetch) on the
+     * given session, returning the hits, total and aggregations by key name.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private SearchQuerySelectStep mockCatalogQuery(SearchSession searchSession, List<GameCardDto> hits,
+                                                   long total, Map<String, Map<?, Long>> aggregations) {
+        SearchQuerySelectStep selectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryWhereStep whereStep = mock(SearchQueryWhereStep.class);
+        SearchQueryOptionsStep optionsStep = mock(SearchQueryOptionsStep.class);
+        SearchResult result = mock(SearchResult.class);
+        SearchResultTotal resultTotal = mock(SearchResultTotal.class);
+
+        Mockito.doReturn(selectStep).when(searchSession).search(VideoGame.class);
+        Mockito.doReturn(whereStep).when(selectStep).select(any(Function.class));
+        Mockito.doReturn(optionsStep).when(whereStep).where(any(Function.class));
+        Mockito.doReturn(optionsStep).when(optionsStep).sort(any(Function.class));
+        Mockito.doReturn(optionsStep).when(optionsStep).aggregation(any(AggregationKey.class), any(Function.class));
+        Mockito.doReturn(result).when(optionsStep).fetch(anyInt(), anyInt());
+        when(result.hits()).thenReturn(hits);
+        when(result.total()).thenReturn(resultTotal);
+        when(resultTotal.hitCount()).thenReturn(total);
+        doAnswer(invocation -> aggregations.get(((AggregationKey<?>) invocation.getArgument(0)).name()))
+                .when(result).aggregation(any(AggregationKey.class));
+
+        return selectStep;
+    }
+
+    @Test
+    @DisplayName("browseCatalog should return the projected page with facets from the same query")
+    void browseCatalog_shouldReturnPageWithFacets() {
+        // Given
+        GameCardDto card = new GameCardDto(UUID.randomUUID(), "Hades", "cover.jpg",
+                LocalDate.of(2020, 9, 17), 4.7, 900L);
+        Map<Integer, Long> years = new LinkedHashMap<>();
+        years.put(2021, 12L);
+        years.put(2020, 30L);
+
+        SearchSession searchSession = mock(SearchSession.class);
+        mockCatalogQuery(searchSession, List.of(card), 41L, Map.of(
+                "genres", Map.of("Roguelike", 41L),
+                "platforms", Map.of("PC", 40L),
+                "years", years));
+
+        try (MockedStatic<org.hibernate.search.mapper.orm.Search> searchStatic =
+                     Mockito.mockStatic(org.hibernate.search.mapper.orm.Search.class)) {
+
+            searchStatic.when(() -> org.hibernate.search.mapper.orm.Search.session(entityManager))
+                    .thenReturn(searchSession);
+
+            // When
+            Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "releaseDate"));
+            GameCatalogPageDto result = gameSearchService.browseCatalog(
+                    pageable, null, null, null, null, 4.0, null);
+
+            // Then
+            assertThat(result.content()).containsExactly(card);
+            assertThat(result.metadata().totalElements()).isEqualTo(41L);
+            assertThat(result.metadata().totalPages()).isEqualTo(3);
+            assertThat(result.facets().genres()).containsExactly(new FacetCountDto("Roguelike", 41L));
+            assertThat(result.facets().platforms()).containsExactly(new FacetCountDto("PC", 40L));
+            assertThat(result.facets().years()).containsExactly(
+                    new FacetCountDto("2021", 12L), new FacetCountDto("2020", 30L));
+            verify(searchSession, times(1)).search(VideoGame.class);
+            verifyNoInteractions(entityManager);
+        }
+    }
+
+    @Test
+    @DisplayName("browseCatalog should count a filtered facet with a separate query without its own filter")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void browseCatalog_shouldCountFilteredFacetWithoutItsFilter() {
+        // Given
+        SearchSession searchSession = mock(SearchSession.class);
+        SearchQuerySelectStep selectStep = mockCatalogQuery(searchSession, List.of(), 5L, Map.of(
+                "genres", Map.of("RPG", 5L),
+                "platforms", Map.of("PC", 5L),
+                "years", Map.of(2019, 5L)));
+
+        SearchQueryOptionsStep facetStep = mock(SearchQueryOptionsStep.class);
+        SearchResult facetResult = mock(SearchResult.class);
+        Mockito.doReturn(facetStep).when(selectStep).where(any(Function.class));
+        Mockito.doReturn(facetStep).when(facetStep).aggregation(any(AggregationKey.class), any(Function.class));
+        Mockito.doReturn(facetResult).when(facetStep).fetch(0);
+        Mockito.doReturn(Map.of("RPG", 5L, "Action", 9L)).when(facetResult).aggregation(any(AggregationKey.class));
+
+        try (MockedStatic<org.hibernate.search.mapper.orm.Search> searchStatic =
+                     Mockito.mockStatic(org.hibernate.search.mapper.orm.Search.class)) {
+
+            searchStatic.when(() -> org.hibernate.search.mapper.orm.Search.session(entityManager))
+                    .thenReturn(searchSession);
+
+            // When
+            GameCatalogPageDto result = gameSearchService.browseCatalog(
+                    PageRequest.of(0, 20), List.of(" RPG "), null, null, null, null, null);
+
+            // Then
+            assertThat(result.facets().genres()).containsExactlyInAnyOrder(
+                    new FacetCountDto("RPG", 5L), new FacetCountDto("Action", 9L));
+            assertThat(result.facets().platforms()).containsExactly(new FacetCountDto("PC", 5L));
+            verify(searchSession, times(2)).search(VideoGame.class);
+            verify(facetStep).fetch(0);
+        }
+    }
 }
@@ -33,7 +33,6 @@ import com.checkpoint.api.mapper.ReviewMapper;
 import com.checkpoint.api.mapper.UserGameMapper;
 import com.checkpoint.api.mapper.WishMapper;
 import com.checkpoint.api.repositories.BacklogRepository;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserGamePlayRepository;
@@ -64,9 +63,6 @@ class ProfileServiceImplTest {
     @Mock
     private LikeRepository likeRepository;
 
-    @Mock
-    private CommentRepository commentRepository;
-
     @Mock
     private com.checkpoint.api.repositories.RateRepository rateRepository;
 
@@ -109,18 +105,21 @@ class ProfileServiceImplTest {
     @Mock
     private OnboardingService onboardingService;
 
+    @Mock
+    private FollowGraphService followGraph;
+
     private ProfileServiceImpl profileService;
 
     @BeforeEach
     void setUp() {
         profileService = new ProfileServiceImpl(
                 userRepository, reviewRepository, wishRepository,
-                userGamePlayRepository, likeRepository, commentRepository, rateRepository,
+                userGamePlayRepository, likeRepository, rateRepository,
                 userGameRepository, backlogRepository, badgeRepository,
                 gameListService, storageService,
                 profileMapper, reviewMapper, wishMapper,
                 likedGameMapper, userGameMapper, backlogMapper, gamePlayLogMapper,
-                onboardingService);
+                onboardingService, followGraph);
     }
 
     private User createTestUser() {
@@ -3,6 +3,7 @@ package com.checkpoint.api.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,6 +23,7 @@ import com.checkpoint.api.dto.catalog.RateResponseDto;
 import com.checkpoint.api.entities.Rate;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.events.TrendingActivityEvent;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.RateNotFoundException;
 import com.checkpoint.api.mapper.RateMapper;
@@ -48,6 +50,15 @@ class RateServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private GameRatingStatsService gameRatingStatsService;
+
+    @Mock
+    private GameCatalogService gameCatalogService;
+
     private RateServiceImpl rateService;
 
     private User testUser;
@@ -56,7 +67,8 @@ class RateServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        rateService = new RateServiceImpl(rateRepository, videoGameRepository, userRepository, rateMapper, eventPublisher);
+        rateService = new RateServiceImpl(rateRepository, videoGameRepository, userRepository, rateMapper, eventPublisher,
+                userStatsService, gameRatingStatsService, gameCatalogService);
 
         gameId = UUID.randomUUID();
 
@@ -78,7 +90,7 @@ class RateServiceImplTest {
         @Test
         @DisplayName("Should create a new rating if none exists")
         void rateGame_shouldCreateNewRating() {
-            // Given — score 8 = 4.0★; raw average 8.0 / 2 = 4.0 in display range
+            // Given
             when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
             when(videoGameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
             when(rateRepository.findByUserEmailAndVideoGameId(testUser.getEmail(), gameId)).thenReturn(Optional.empty());
@@ -86,7 +98,6 @@ class RateServiceImplTest {
             Rate savedRate = new Rate(testUser, testGame, 8);
             savedRate.setId(UUID.randomUUID());
             when(rateRepository.save(any(Rate.class))).thenReturn(savedRate);
-            when(rateRepository.calculateAverageRating(gameId)).thenReturn(8.0);
 
             RateResponseDto responseDto = new RateResponseDto(savedRate.getId(), 8, gameId, null, null);
             when(rateMapper.toDto(savedRate)).thenReturn(responseDto);
@@ -99,31 +110,10 @@ class RateServiceImplTest {
             assertThat(result.score()).isEqualTo(8);
             assertThat(result.videoGameId()).isEqualTo(gameId);
             verify(rateRepository).save(any(Rate.class));
-            verify(videoGameRepository).save(testGame);
-            assertThat(testGame.getAverageRating()).isEqualTo(4.0);
-        }
-
-        @Test
-        @DisplayName("Should store half-star averageRating with 0.1 precision (raw avg / 2)")
-        void rateGame_shouldStoreHalfStarAverage() {
-            // Given — score 7 = 3.5★; raw average 7.0 / 2 = 3.5
-            when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
-            when(videoGameRepository.findById(gameId)).thenReturn(Optional.of(testGame));
-            when(rateRepository.findByUserEmailAndVideoGameId(testUser.getEmail(), gameId)).thenReturn(Optional.empty());
-
-            Rate savedRate = new Rate(testUser, testGame, 7);
-            savedRate.setId(UUID.randomUUID());
-            when(rateRepository.save(any(Rate.class))).thenReturn(savedRate);
-            when(rateRepository.calculateAverageRating(gameId)).thenReturn(7.0);
-
-            RateResponseDto responseDto = new RateResponseDto(savedRate.getId(), 7, gameId, null, null);
-            when(rateMapper.toDto(savedRate)).thenReturn(responseDto);
-
-            // When
-            rateService.rateGame(testUser.getEmail(), gameId, 7);
-
-            // Then
-            assertThat(testGame.getAverageRating()).isEqualTo(3.5);
+            verify(gameRatingStatsService).rateChanged(gameId, null, 8);
+            verify(gameCatalogService).evictGameDetails(gameId);
+            verify(videoGameRepository, never()).save(any(VideoGame.class));
+            verify(eventPublisher).publishEvent(any(TrendingActivityEvent.class));
         }
 
         @Test
@@ -138,7 +128,6 @@ class RateServiceImplTest {
             when(rateRepository.findByUserEmailAndVideoGameId(testUser.getEmail(), gameId)).thenReturn(Optional.of(existingRate));
 
             when(rateRepository.save(existingRate)).thenReturn(existingRate);
-            when(rateRepository.calculateAverageRating(gameId)).thenReturn(10.0);
 
             RateResponseDto responseDto = new RateResponseDto(existingRate.getId(), 10, gameId, null, null);
             when(rateMapper.toDto(existingRate)).thenReturn(responseDto);
@@ -151,6 +140,10 @@ class RateServiceImplTest {
             assertThat(result.score()).isEqualTo(10);
             assertThat(existingRate.getScore()).isEqualTo(10);
             verify(rateRepository).save(existingRate);
+            verify(userStatsService).rateChanged(testUser.getId(), 6, 10);
+            verify(gameRatingStatsService).rateChanged(gameId, 6, 10);
+            verify(gameCatalogService).evictGameDetails(gameId);
+            verify(eventPublisher, never()).publishEvent(any(TrendingActivityEvent.class));
         }
 
         @Test
@@ -182,7 +175,7 @@ class RateServiceImplTest {
     class RemoveRating {
 
         @Test
-        @DisplayName("Should remove an existing rating and recalculate average")
+        @DisplayName("Should remove an existing rating and take it out of the game's stats")
         void removeRating_shouldDeleteRating() {
             // Given
             Rate existingRate = new Rate(testUser, testGame, 4);
@@ -190,15 +183,15 @@ class RateServiceImplTest {
 
             when(rateRepository.findByUserEmailAndVideoGameId(testUser.getEmail(), gameId))
                     .thenReturn(Optional.of(existingRate));
-            when(rateRepository.calculateAverageRating(gameId)).thenReturn(null);
 
             // When
             rateService.removeRating(testUser.getEmail(), gameId);
 
             // Then
             verify(rateRepository).delete(existingRate);
-            verify(videoGameRepository).save(testGame);
-            assertThat(testGame.getAverageRating()).isEqualTo(0.0);
+            verify(userStatsService).rateChanged(testUser.getId(), 4, null);
+            verify(gameRatingStatsService).rateChanged(gameId, 4, null);
+            verify(gameCatalogService).evictGameDetails(gameId);
         }
 
         @Test
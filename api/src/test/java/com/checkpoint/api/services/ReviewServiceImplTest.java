@@ -44,7 +44,6 @@ import com.checkpoint.api.exceptions.ReviewAlreadyExistsException;
 import com.checkpoint.api.exceptions.ReviewNotFoundException;
 import com.checkpoint.api.events.ReviewCreatedEvent;
 import com.checkpoint.api.mapper.ReviewMapper;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserGamePlayRepository;
@@ -73,15 +72,18 @@ class ReviewServiceImplTest {
     @Mock
     private LikeRepository likeRepository;
 
-    @Mock
-    private CommentRepository commentRepository;
-
     @Mock
     private ReviewMapper reviewMapper;
 
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private FollowGraphService followGraph;
+
     private ReviewServiceImpl reviewService;
 
     private User testUser;
@@ -95,7 +97,8 @@ class ReviewServiceImplTest {
     void setUp() {
         reviewService = new ReviewServiceImpl(
                 reviewRepository, videoGameRepository, userRepository,
-                userGamePlayRepository, likeRepository, commentRepository, reviewMapper, eventPublisher);
+                userGamePlayRepository, likeRepository, reviewMapper, eventPublisher, userStatsService,
+                followGraph);
 
         gameId = UUID.randomUUID();
         playId = UUID.randomUUID();
@@ -131,8 +134,6 @@ class ReviewServiceImplTest {
 
             when(videoGameRepository.existsById(gameId)).thenReturn(true);
             when(reviewRepository.findByVideoGameId(gameId, pageable)).thenReturn(reviewPage);
-            when(likeRepository.countByReviewId(any())).thenReturn(0L);
-            when(commentRepository.countByReviewId(any())).thenReturn(0L);
 
             ReviewResponseDto responseDto = new ReviewResponseDto(
                     UUID.randomUUID(), "Good", false,
@@ -150,6 +151,34 @@ class ReviewServiceImplTest {
             assertThat(result.getContent().get(0).content()).isEqualTo("Good");
         }
 
+        @Test
+        @DisplayName("Should read counters from the reviews and resolve likes in one lookup")
+        void getGameReviews_shouldUseCountersAndBatchedLikeLookup() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            Review liked = new Review("Liked", false, testUser, testGame, testPlayLog);
+            liked.setId(UUID.randomUUID());
+            liked.setLikesCount(4);
+            liked.setCommentsCount(2);
+            Review other = new Review("Other", false, testUser, testGame, testPlayLog);
+            other.setId(UUID.randomUUID());
+
+            when(videoGameRepository.existsById(gameId)).thenReturn(true);
+            when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+            when(reviewRepository.findByVideoGameId(gameId, pageable))
+                    .thenReturn(new PageImpl<>(List.of(liked, other)));
+            when(likeRepository.findReviewIdsLikedByUser(testUser.getId(), List.of(liked.getId(), other.getId())))
+                    .thenReturn(List.of(liked.getId()));
+
+            // When
+            reviewService.getGameReviews(gameId, testUser.getEmail(), pageable);
+
+            // Then
+            verify(reviewMapper).toDto(liked, 4L, true, 2L);
+            verify(reviewMapper).toDto(other, 0L, false, 0L);
+            verify(likeRepository, never()).countByReviewId(any());
+        }
+
         @Test
         @DisplayName("Should throw GameNotFoundException when game does not exist")
         void getGameReviews_shouldThrowWhenGameNotFound() {
@@ -196,6 +225,7 @@ class ReviewServiceImplTest {
             assertThat(result.content()).isEqualTo("Great game!");
             assertThat(result.playLogId()).isEqualTo(playId);
             verify(reviewRepository).save(any(Review.class));
+            verify(userStatsService).reviewAdded(testUser.getId());
             verify(eventPublisher).publishEvent(any(ReviewCreatedEvent.class));
         }
 
@@ -320,6 +350,7 @@ class ReviewServiceImplTest {
 
             // Then
             verify(reviewRepository).delete(existingReview);
+            verify(userStatsService).reviewRemoved(testUser.getId());
         }
 
         @Test
@@ -24,10 +24,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
-import com.checkpoint.api.client.IgdbApiClient;
 import com.checkpoint.api.client.SteamApiClient;
-import com.checkpoint.api.dto.igdb.IgdbExternalGameDto;
 import com.checkpoint.api.dto.steam.SteamAccountDto;
 import com.checkpoint.api.dto.steam.SteamOwnedGameDto;
 import com.checkpoint.api.dto.steam.SteamPlayerSummaryDto;
@@ -45,6 +44,8 @@ import com.checkpoint.api.repositories.BacklogRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.services.GameImportService;
+import com.checkpoint.api.services.SteamAppMappingService;
+import com.checkpoint.api.services.SteamAppMappingService.SteamAppMatch;
 import com.checkpoint.api.services.impl.SteamServiceImpl;
 
 /**
@@ -63,7 +64,7 @@ class SteamServiceImplTest {
     private SteamApiClient steamApiClient;
 
     @Mock
-    private IgdbApiClient igdbApiClient;
+    private SteamAppMappingService steamAppMappingService;
 
     @Mock
     private VideoGameRepository videoGameRepository;
@@ -77,6 +78,9 @@ class SteamServiceImplTest {
     @Mock
     private OnboardingService onboardingService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SteamServiceImpl steamService;
 
@@ -366,7 +370,7 @@ class SteamServiceImplTest {
         SteamSyncSummaryDto result = steamService.syncSteamLibrary(EMAIL);
 
         assertThat(result).isEqualTo(new SteamSyncSummaryDto(0, 0, 0, 0));
-        verify(igdbApiClient, never()).findIgdbIdsForSteamAppIds(anyList());
+        verify(steamAppMappingService, never()).resolveIgdbIds(anyList());
         verify(backlogRepository, never()).saveAll(any());
     }
 
@@ -376,14 +380,14 @@ class SteamServiceImplTest {
         user.setSteamId(STEAM_ID);
         when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
         when(steamApiClient.fetchPlayerSummary(STEAM_ID)).thenReturn(Optional.of(summary()));
-        // 3 owned: 100, 200, 300. IGDB matches: 100->1000, 200->2000. 300 unmatched.
+        // 3 owned: 100, 200, 300. Mapped: 100->1000, 200->2000. 300 unmatched.
         when(steamApiClient.getOwnedGames(STEAM_ID)).thenReturn(List.of(
                 ownedGame(100L, "Game A"),
                 ownedGame(200L, "Game B"),
                 ownedGame(300L, "Obscure Steam tool")));
-        when(igdbApiClient.findIgdbIdsForSteamAppIds(anyList())).thenReturn(List.of(
-                new IgdbExternalGameDto(1L, "100", 1000L),
-                new IgdbExternalGameDto(2L, "200", 2000L)));
+        when(steamAppMappingService.resolveIgdbIds(anyList())).thenReturn(List.of(
+                new SteamAppMatch(100L, 1000L),
+                new SteamAppMatch(200L, 2000L)));
 
         // First lookup: only IGDB 1000 exists locally; 2000 needs import.
         VideoGame existingLocal = videoGameWith(1000L);
@@ -419,9 +423,9 @@ class SteamServiceImplTest {
         when(steamApiClient.getOwnedGames(STEAM_ID)).thenReturn(List.of(
                 ownedGame(100L, "Game A"),
                 ownedGame(200L, "Game B")));
-        when(igdbApiClient.findIgdbIdsForSteamAppIds(anyList())).thenReturn(List.of(
-                new IgdbExternalGameDto(1L, "100", 1000L),
-                new IgdbExternalGameDto(2L, "200", 2000L)));
+        when(steamAppMappingService.resolveIgdbIds(anyList())).thenReturn(List.of(
+                new SteamAppMatch(100L, 1000L),
+                new SteamAppMatch(200L, 2000L)));
 
         VideoGame g1 = videoGameWith(1000L);
         VideoGame g2 = videoGameWith(2000L);
@@ -444,7 +448,7 @@ class SteamServiceImplTest {
     }
 
     @Test
-    @DisplayName("syncSteamLibrary forwards the full appId list to IGDB for large libraries (batching is the client's job)")
+    @DisplayName("syncSteamLibrary forwards the full appId list to the mapping cache for large libraries")
     void syncSteamLibrary_handlesLargeLibraryBatching() {
         user.setSteamId(STEAM_ID);
         when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
@@ -455,7 +459,7 @@ class SteamServiceImplTest {
                 .map(i -> ownedGame(i, "Game " + i))
                 .toList();
         when(steamApiClient.getOwnedGames(STEAM_ID)).thenReturn(owned);
-        when(igdbApiClient.findIgdbIdsForSteamAppIds(anyList())).thenReturn(List.of());
+        when(steamAppMappingService.resolveIgdbIds(anyList())).thenReturn(List.of());
 
         SteamSyncSummaryDto result = steamService.syncSteamLibrary(EMAIL);
 
@@ -464,7 +468,7 @@ class SteamServiceImplTest {
         assertThat(result.unmatched()).isEqualTo(750);
 
         ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
-        verify(igdbApiClient).findIgdbIdsForSteamAppIds(captor.capture());
+        verify(steamAppMappingService).resolveIgdbIds(captor.capture());
         assertThat(captor.getValue()).hasSize(750);
     }
 
@@ -477,7 +481,7 @@ class SteamServiceImplTest {
         when(steamApiClient.getOwnedGames(STEAM_ID)).thenReturn(List.of(
                 ownedGame(100L, "Obscure Demo"),
                 ownedGame(200L, "Test Tool")));
-        when(igdbApiClient.findIgdbIdsForSteamAppIds(anyList())).thenReturn(new ArrayList<>());
+        when(steamAppMappingService.resolveIgdbIds(anyList())).thenReturn(new ArrayList<>());
 
         SteamSyncSummaryDto result = steamService.syncSteamLibrary(EMAIL);
 
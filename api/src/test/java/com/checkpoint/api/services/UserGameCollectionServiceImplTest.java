@@ -62,6 +62,9 @@ class UserGameCollectionServiceImplTest {
     @Mock
     private org.springframework.context.ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private UserStatsService userStatsService;
+
     private UserGameCollectionServiceImpl service;
 
     private User testUser;
@@ -72,7 +75,8 @@ class UserGameCollectionServiceImplTest {
     @BeforeEach
     void setUp() {
         service = new UserGameCollectionServiceImpl(
-                userGameRepository, userRepository, videoGameRepository, userGameMapper, eventPublisher);
+                userGameRepository, userRepository, videoGameRepository, userGameMapper, eventPublisher,
+                userStatsService);
 
         testUser = new User("testuser", "user@example.com", "password");
         testUser.setId(UUID.randomUUID());
@@ -122,6 +126,7 @@ class UserGameCollectionServiceImplTest {
             assertThat(captor.getValue().getVideoGame()).isEqualTo(testGame);
             assertThat(captor.getValue().getStatus()).isEqualTo(PlayStatus.ARE_PLAYING);
             assertThat(captor.getValue().getNotes()).isNull();
+            verify(userStatsService).libraryEntryAdded(testUser.getId(), testGame.getId(), PlayStatus.ARE_PLAYING);
         }
 
         @Test
@@ -224,6 +229,8 @@ class UserGameCollectionServiceImplTest {
             // Then
             assertThat(result.status()).isEqualTo(PlayStatus.COMPLETED);
             verify(userGameRepository).save(testUserGame);
+            verify(userStatsService).libraryStatusChanged(
+                    testUser.getId(), testGame.getId(), PlayStatus.ARE_PLAYING, PlayStatus.COMPLETED);
         }
 
         @Test
@@ -387,14 +394,15 @@ class UserGameCollectionServiceImplTest {
         void shouldRemoveGameSuccessfully() {
             // Given
             when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(testUser));
-            when(userGameRepository.existsByUserIdAndVideoGameId(testUser.getId(), testGame.getId()))
-                    .thenReturn(true);
+            when(userGameRepository.findByUserIdAndVideoGameId(testUser.getId(), testGame.getId()))
+                    .thenReturn(Optional.of(testUserGame));
 
             // When
             service.removeGameFromLibrary("user@example.com", testGame.getId());
 
             // Then
             verify(userGameRepository).deleteByUserIdAndVideoGameId(testUser.getId(), testGame.getId());
+            verify(userStatsService).libraryEntryRemoved(testUser.getId(), testGame.getId(), PlayStatus.ARE_PLAYING);
         }
 
         @Test
@@ -403,8 +411,8 @@ class UserGameCollectionServiceImplTest {
             // Given
             UUID videoGameId = UUID.randomUUID();
             when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(testUser));
-            when(userGameRepository.existsByUserIdAndVideoGameId(testUser.getId(), videoGameId))
-                    .thenReturn(false);
+            when(userGameRepository.findByUserIdAndVideoGameId(testUser.getId(), videoGameId))
+                    .thenReturn(Optional.empty());
 
             // When / Then
             assertThatThrownBy(() -> service.removeGameFromLibrary("user@example.com", videoGameId))
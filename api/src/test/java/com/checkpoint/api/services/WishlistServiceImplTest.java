@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -33,6 +35,9 @@ import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.entities.Wish;
 import com.checkpoint.api.enums.Priority;
+import com.checkpoint.api.enums.TrendingSignal;
+import com.checkpoint.api.events.TrendingActivityRemovedEvent;
+import com.checkpoint.api.events.WishlistChangedEvent;
 import com.checkpoint.api.exceptions.GameAlreadyInWishlistException;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.exceptions.GameNotInWishlistException;
@@ -60,6 +65,9 @@ class WishlistServiceImplTest {
     @Mock
     private WishMapper wishMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private WishlistServiceImpl service;
 
     private User testUser;
@@ -70,7 +78,7 @@ class WishlistServiceImplTest {
     @BeforeEach
     void setUp() {
         service = new WishlistServiceImpl(
-                wishRepository, userRepository, videoGameRepository, wishMapper);
+                wishRepository, userRepository, videoGameRepository, wishMapper, eventPublisher);
 
         testUser = new User("testuser", "user@example.com", "password");
         testUser.setId(UUID.randomUUID());
@@ -115,6 +123,11 @@ class WishlistServiceImplTest {
             verify(wishRepository).save(captor.capture());
             assertThat(captor.getValue().getUser()).isEqualTo(testUser);
             assertThat(captor.getValue().getVideoGame()).isEqualTo(testGame);
+
+            ArgumentCaptor<WishlistChangedEvent> eventCaptor = ArgumentCaptor.forClass(WishlistChangedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getUserId()).isEqualTo(testUser.getId());
+            assertThat(eventCaptor.getValue().isAdded()).isTrue();
         }
 
         @Test
@@ -189,14 +202,20 @@ class WishlistServiceImplTest {
         void shouldRemoveGameSuccessfully() {
             // Given
             when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(testUser));
-            when(wishRepository.existsByUserIdAndVideoGameId(testUser.getId(), testGame.getId()))
-                    .thenReturn(true);
+            when(wishRepository.findByUserIdAndVideoGameId(testUser.getId(), testGame.getId()))
+                    .thenReturn(Optional.of(testWish));
 
             // When
             service.removeFromWishlist("user@example.com", testGame.getId());
 
             // Then
             verify(wishRepository).deleteByUserIdAndVideoGameId(testUser.getId(), testGame.getId());
+            verify(eventPublisher).publishEvent(any(WishlistChangedEvent.class));
+            ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher, times(2)).publishEvent(events.capture());
+            TrendingActivityRemovedEvent removed = (TrendingActivityRemovedEvent) events.getAllValues().get(1);
+            assertThat(removed.getSignal()).isEqualTo(TrendingSignal.WISH);
+            assertThat(removed.getCreatedAt()).isEqualTo(testWish.getCreatedAt());
         }
 
         @Test
@@ -205,8 +224,8 @@ class WishlistServiceImplTest {
             // Given
             UUID videoGameId = UUID.randomUUID();
             when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(testUser));
-            when(wishRepository.existsByUserIdAndVideoGameId(testUser.getId(), videoGameId))
-                    .thenReturn(false);
+            when(wishRepository.findByUserIdAndVideoGameId(testUser.getId(), videoGameId))
+                    .thenReturn(Optional.empty());
 
             // When / Then
             assertThatThrownBy(() -> service.removeFromWishlist("user@example.com", videoGameId))
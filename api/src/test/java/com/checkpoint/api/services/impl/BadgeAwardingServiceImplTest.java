@@ -3,14 +3,17 @@ package com.checkpoint.api.services.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,13 +27,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.checkpoint.api.entities.Badge;
 import com.checkpoint.api.entities.Review;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.UserGamePlay;
+import com.checkpoint.api.entities.UserStats;
 import com.checkpoint.api.enums.BadgeCode;
-import com.checkpoint.api.enums.PlayStatus;
 import com.checkpoint.api.events.BadgeUnlockedEvent;
 import com.checkpoint.api.repositories.BadgeRepository;
 import com.checkpoint.api.repositories.LikeRepository;
@@ -38,6 +43,8 @@ import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserGamePlayRepository;
 import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.UserStatsService;
+import com.checkpoint.api.utils.BoundedCache;
 
 /**
  * Unit tests for {@link BadgeAwardingServiceImpl}.
@@ -55,22 +62,28 @@ class BadgeAwardingServiceImplTest {
     @Mock private com.checkpoint.api.repositories.BacklogRepository backlogRepository;
     @Mock private com.checkpoint.api.repositories.ReviewViewRepository reviewViewRepository;
     @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private UserStatsService userStatsService;
 
     private BadgeAwardingServiceImpl service;
 
     private UUID userId;
     private User user;
+    private UserStats stats;
 
     @BeforeEach
     void setUp() {
+        BoundedCache<UUID, Long> badgeOwnershipCache =
+                new BoundedCache<>("badge-ownership", 100, null, Clock.systemUTC());
         service = new BadgeAwardingServiceImpl(
                 userRepository, badgeRepository, reviewRepository,
                 userGameRepository, userGamePlayRepository, likeRepository,
-                rateRepository, backlogRepository, reviewViewRepository, eventPublisher);
+                rateRepository, backlogRepository, reviewViewRepository, eventPublisher,
+                userStatsService, badgeOwnershipCache);
 
         userId = UUID.randomUUID();
         user = new User();
         user.setId(userId);
+        stats = new UserStats(userId);
     }
 
     private Badge badge(BadgeCode code) {
@@ -85,6 +98,10 @@ class BadgeAwardingServiceImplTest {
                 .thenReturn(Optional.of(badge(code)));
     }
 
+    private void stubStats() {
+        when(userStatsService.getStats(userId)).thenReturn(stats);
+    }
+
     private void stubUser() {
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
     }
@@ -94,21 +111,19 @@ class BadgeAwardingServiceImplTest {
     class AwardIfEligible {
 
         @Test
-        @DisplayName("Should add the badge and publish the event when the user does not own it")
+        @DisplayName("Should grant the badge and publish the event when the user does not own it")
         void shouldAwardWhenEligible() {
             // Given
             Badge badge = badge(BadgeCode.FIRST_REVIEW);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
             when(badgeRepository.findByCode(BadgeCode.FIRST_REVIEW.name()))
                     .thenReturn(Optional.of(badge));
+            when(badgeRepository.grantToUser(userId, badge.getId())).thenReturn(1);
 
             // When
             service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
 
             // Then
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository).save(userCaptor.capture());
-            assertThat(userCaptor.getValue().getBadges()).contains(badge);
+            verify(badgeRepository).grantToUser(userId, badge.getId());
 
             ArgumentCaptor<BadgeUnlockedEvent> eventCaptor =
                     ArgumentCaptor.forClass(BadgeUnlockedEvent.class);
@@ -118,39 +133,79 @@ class BadgeAwardingServiceImplTest {
         }
 
         @Test
-        @DisplayName("Should be a no-op when the user already owns the badge")
+        @DisplayName("Should skip the grant when the ownership mask already has the badge")
         void shouldBeIdempotent() {
             // Given
-            Badge badge = badge(BadgeCode.FIRST_REVIEW);
-            user.getBadges().add(badge);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-            when(badgeRepository.findByCode(BadgeCode.FIRST_REVIEW.name()))
-                    .thenReturn(Optional.of(badge));
+            when(badgeRepository.findCodesByUserId(userId))
+                    .thenReturn(List.of(BadgeCode.FIRST_REVIEW.name()));
 
             // When
             service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
 
             // Then
-            verify(userRepository, never()).save(any());
+            verify(badgeRepository, never()).findByCode(any());
+            verify(badgeRepository, never()).grantToUser(any(), any());
             verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
-        @DisplayName("Should throw when the user does not exist")
-        void shouldThrowWhenUserMissing() {
+        @DisplayName("Should not publish when a concurrent grant already inserted the badge")
+        void shouldNotPublishWhenGrantRaced() {
             // Given
-            when(userRepository.findById(userId)).thenReturn(Optional.empty());
+            stubBadge(BadgeCode.FIRST_REVIEW);
+            when(badgeRepository.grantToUser(eq(userId), any())).thenReturn(0);
 
-            // When / Then
-            assertThatThrownBy(() -> service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW))
-                    .isInstanceOf(UsernameNotFoundException.class);
+            // When
+            service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
+
+            // Then
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Should load the ownership mask once and skip a badge granted outside a transaction")
+        void shouldCacheOwnershipAndBadgeIds() {
+            // Given
+            stubBadge(BadgeCode.FIRST_REVIEW);
+
+            // When
+            service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
+            service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
+
+            // Then
+            verify(badgeRepository).findCodesByUserId(userId);
+            verify(badgeRepository).findByCode(BadgeCode.FIRST_REVIEW.name());
+            verify(badgeRepository, times(1)).grantToUser(eq(userId), any());
+        }
+
+        @Test
+        @DisplayName("Should only cache a badge granted in a transaction once it commits")
+        void shouldMarkOwnedAfterCommit() {
+            // Given
+            stubBadge(BadgeCode.FIRST_REVIEW);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // When
+                service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
+                service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
+                verify(badgeRepository, times(2)).grantToUser(eq(userId), any());
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
+
+            // Then
+            verify(badgeRepository).findCodesByUserId(userId);
+            verify(badgeRepository, times(2)).grantToUser(eq(userId), any());
         }
 
         @Test
         @DisplayName("Should be a no-op when the badge code is missing from the catalog")
         void shouldNoOpWhenBadgeMissing() {
             // Given
-            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
             when(badgeRepository.findByCode(BadgeCode.FIRST_REVIEW.name()))
                     .thenReturn(Optional.empty());
 
@@ -158,7 +213,7 @@ class BadgeAwardingServiceImplTest {
             service.awardIfEligible(userId, BadgeCode.FIRST_REVIEW);
 
             // Then
-            verify(userRepository, never()).save(any());
+            verify(badgeRepository, never()).grantToUser(any(), any());
             verify(eventPublisher, never()).publishEvent(any());
         }
     }
@@ -171,8 +226,8 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should award only FIRST_REVIEW when review count is 1")
         void shouldAwardFirstReviewOnly() {
             // Given
-            when(reviewRepository.countByUserId(userId)).thenReturn(1L);
-            stubUser();
+            stats.setReviewCount(1);
+            stubStats();
             stubBadge(BadgeCode.FIRST_REVIEW);
 
             // When
@@ -188,8 +243,8 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should evaluate FIRST_REVIEW and REVIEW_10 when count is 10")
         void shouldEvaluateFirstReviewAndReview10AtTen() {
             // Given
-            when(reviewRepository.countByUserId(userId)).thenReturn(10L);
-            stubUser();
+            stats.setReviewCount(10);
+            stubStats();
             stubBadge(BadgeCode.FIRST_REVIEW);
             stubBadge(BadgeCode.REVIEW_10);
 
@@ -201,6 +256,24 @@ class BadgeAwardingServiceImplTest {
             verify(badgeRepository).findByCode(BadgeCode.REVIEW_10.name());
             verify(badgeRepository, never()).findByCode(BadgeCode.REVIEW_50.name());
         }
+
+        @Test
+        @DisplayName("Should not grant badges the user already owns")
+        void shouldSkipOwnedBadges() {
+            // Given
+            stats.setReviewCount(10);
+            stubStats();
+            when(badgeRepository.findCodesByUserId(userId))
+                    .thenReturn(List.of(BadgeCode.FIRST_REVIEW.name()));
+            stubBadge(BadgeCode.REVIEW_10);
+
+            // When
+            service.checkReviewBadges(userId);
+
+            // Then
+            verify(badgeRepository, never()).findByCode(BadgeCode.FIRST_REVIEW.name());
+            verify(badgeRepository).findByCode(BadgeCode.REVIEW_10.name());
+        }
     }
 
     @Nested
@@ -211,9 +284,8 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should award only FIRST_GAME_FINISHED when completed count is 1")
         void shouldAwardFirstGameFinishedOnly() {
             // Given
-            when(userGameRepository.countByUserIdAndStatus(userId, PlayStatus.COMPLETED))
-                    .thenReturn(1L);
-            stubUser();
+            stats.setCompletedCount(1);
+            stubStats();
             stubBadge(BadgeCode.FIRST_GAME_FINISHED);
 
             // When
@@ -230,9 +302,8 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should evaluate all four tiers when count is 100")
         void shouldEvaluateAllTiersAtHundred() {
             // Given
-            when(userGameRepository.countByUserIdAndStatus(userId, PlayStatus.COMPLETED))
-                    .thenReturn(100L);
-            stubUser();
+            stats.setCompletedCount(100);
+            stubStats();
             stubBadge(BadgeCode.FIRST_GAME_FINISHED);
             stubBadge(BadgeCode.GAME_FINISHED_10);
             stubBadge(BadgeCode.GAME_FINISHED_50);
@@ -247,6 +318,21 @@ class BadgeAwardingServiceImplTest {
             verify(badgeRepository).findByCode(BadgeCode.GAME_FINISHED_50.name());
             verify(badgeRepository).findByCode(BadgeCode.BACKLOG_HUNDRED.name());
         }
+
+        @Test
+        @DisplayName("Should skip the TIME_TRAVELER query once the badge is owned")
+        void shouldSkipTimeTravelerQueryWhenOwned() {
+            // Given
+            stubStats();
+            when(badgeRepository.findCodesByUserId(userId))
+                    .thenReturn(List.of(BadgeCode.TIME_TRAVELER.name()));
+
+            // When
+            service.checkGameFinishedBadges(userId);
+
+            // Then
+            verify(userGameRepository, never()).existsCompletedGameOlderThan(any(), any());
+        }
     }
 
     @Nested
@@ -257,7 +343,6 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should award LEVEL_5 only at level 5")
         void shouldAwardLevel5Only() {
             // Given
-            stubUser();
             stubBadge(BadgeCode.LEVEL_5);
 
             // When
@@ -273,7 +358,6 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should evaluate all three level badges at level 25")
         void shouldEvaluateAllLevelBadgesAt25() {
             // Given
-            stubUser();
             stubBadge(BadgeCode.LEVEL_5);
             stubBadge(BadgeCode.LEVEL_10);
             stubBadge(BadgeCode.LEVEL_25);
@@ -295,7 +379,7 @@ class BadgeAwardingServiceImplTest {
 
             // Then
             verify(badgeRepository, never()).findByCode(any());
-            verify(userRepository, never()).findById(any());
+            verify(badgeRepository, never()).findCodesByUserId(any());
         }
     }
 
@@ -307,9 +391,9 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should award CENTURION at 100 plays and MULTIPLATFORM_NOMAD at 5 platforms")
         void shouldAwardBothWhenThresholdsMet() {
             // Given
-            when(userGamePlayRepository.countByUserId(userId)).thenReturn(100L);
-            when(userGamePlayRepository.countDistinctPlatformsByUserId(userId)).thenReturn(5L);
-            stubUser();
+            stats.setPlayCount(100);
+            stats.setPlatformCount(5);
+            stubStats();
             stubBadge(BadgeCode.CENTURION);
             stubBadge(BadgeCode.MULTIPLATFORM_NOMAD);
 
@@ -325,8 +409,9 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should not award when thresholds are not met")
         void shouldNotAwardBelowThresholds() {
             // Given
-            when(userGamePlayRepository.countByUserId(userId)).thenReturn(99L);
-            when(userGamePlayRepository.countDistinctPlatformsByUserId(userId)).thenReturn(4L);
+            stats.setPlayCount(99);
+            stats.setPlatformCount(4);
+            stubStats();
 
             // When
             service.checkPlayLogBadges(userId);
@@ -345,8 +430,8 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should award LIBRARY_50 only when library size is 50")
         void shouldAwardLibrary50() {
             // Given
-            when(userGameRepository.countByUserId(userId)).thenReturn(50L);
-            stubUser();
+            stats.setLibraryCount(50);
+            stubStats();
             stubBadge(BadgeCode.LIBRARY_50);
 
             // When
@@ -361,8 +446,8 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should award both tiers when library size reaches 200")
         void shouldAwardBothTiersAt200() {
             // Given
-            when(userGameRepository.countByUserId(userId)).thenReturn(200L);
-            stubUser();
+            stats.setLibraryCount(200);
+            stubStats();
             stubBadge(BadgeCode.LIBRARY_50);
             stubBadge(BadgeCode.LIBRARY_200);
 
@@ -383,11 +468,8 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should award RPG_DISCIPLE when 10 RPGs are completed")
         void shouldAwardRpgDiscipleAt10Rpgs() {
             // Given
-            when(userGameRepository.countCompletedByUserIdAndGenreName(eq(userId), anyString()))
-                    .thenReturn(0L);
-            when(userGameRepository.countCompletedByUserIdAndGenreName(userId, "Role-playing (RPG)"))
-                    .thenReturn(10L);
-            stubUser();
+            when(userStatsService.getGenreCompletions(eq(userId), anyCollection()))
+                    .thenReturn(Map.of("role-playing (rpg)", 10L));
             stubBadge(BadgeCode.RPG_DISCIPLE);
 
             // When
@@ -404,10 +486,8 @@ class BadgeAwardingServiceImplTest {
         @DisplayName("Should award INDIE_GEM_HUNTER only at 20 indies (higher threshold)")
         void shouldAwardIndieAt20() {
             // Given
-            when(userGameRepository.countCompletedByUserIdAndGenreName(eq(userId), anyString()))
-                    .thenReturn(0L);
-            when(userGameRepository.countCompletedByUserIdAndGenreName(userId, "Indie"))
-                    .thenReturn(19L);
+            when(userStatsService.getGenreCompletions(eq(userId), anyCollection()))
+                    .thenReturn(Map.of("indie", 19L));
 
             // When
             service.checkGenreBadges(userId);
@@ -430,7 +510,6 @@ class BadgeAwardingServiceImplTest {
             when(reviewRepository.findTop3ByUserIdOrderByCreatedAtDesc(userId)).thenReturn(recent);
             when(reviewRepository.countOneStarReviewsByUserId(userId)).thenReturn(0L);
             when(reviewRepository.existsLongReviewByUserId(userId)).thenReturn(false);
-            stubUser();
             stubBadge(BadgeCode.FIVE_STAR_STREAK);
 
             // When
@@ -464,7 +543,6 @@ class BadgeAwardingServiceImplTest {
             when(reviewRepository.findTop3ByUserIdOrderByCreatedAtDesc(userId)).thenReturn(List.of());
             when(reviewRepository.countOneStarReviewsByUserId(userId)).thenReturn(10L);
             when(reviewRepository.existsLongReviewByUserId(userId)).thenReturn(false);
-            stubUser();
             stubBadge(BadgeCode.BRUTAL_CRITIC);
 
             // When
@@ -481,7 +559,6 @@ class BadgeAwardingServiceImplTest {
             when(reviewRepository.findTop3ByUserIdOrderByCreatedAtDesc(userId)).thenReturn(List.of());
             when(reviewRepository.countOneStarReviewsByUserId(userId)).thenReturn(0L);
             when(reviewRepository.existsLongReviewByUserId(userId)).thenReturn(true);
-            stubUser();
             stubBadge(BadgeCode.WORDSMITH);
 
             // When
@@ -491,6 +568,24 @@ class BadgeAwardingServiceImplTest {
             verify(badgeRepository).findByCode(BadgeCode.WORDSMITH.name());
         }
 
+        @Test
+        @DisplayName("Should run no query for badges the user already owns")
+        void shouldSkipQueriesForOwnedBadges() {
+            // Given
+            when(badgeRepository.findCodesByUserId(userId)).thenReturn(List.of(
+                    BadgeCode.FIVE_STAR_STREAK.name(),
+                    BadgeCode.BRUTAL_CRITIC.name(),
+                    BadgeCode.WORDSMITH.name()));
+
+            // When
+            service.checkReviewQualityBadges(userId);
+
+            // Then
+            verify(reviewRepository, never()).findTop3ByUserIdOrderByCreatedAtDesc(any());
+            verify(reviewRepository, never()).countOneStarReviewsByUserId(any());
+            verify(reviewRepository, never()).existsLongReviewByUserId(any());
+        }
+
         private Review reviewWithScore(int score) {
             Review r = new Review();
             UserGamePlay play = new UserGamePlay();
@@ -512,7 +607,6 @@ class BadgeAwardingServiceImplTest {
             when(userRepository.countFollowersByUserId(userId)).thenReturn(10L);
             when(likeRepository.countByUserId(userId)).thenReturn(100L);
             when(likeRepository.countLikesReceivedOnReviewsByUserId(userId)).thenReturn(50L);
-            stubUser();
             stubBadge(BadgeCode.NETWORKER);
             stubBadge(BadgeCode.CHARISMATIC);
             stubBadge(BadgeCode.PRAISE_THE_SUN);
@@ -545,6 +639,26 @@ class BadgeAwardingServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("checkRatingBadges()")
+    class CheckRatingBadges {
+
+        @Test
+        @DisplayName("Should award THE_CAKE_IS_A_LIE at exactly 13 one-star rates")
+        void shouldAwardCakeAtThirteen() {
+            // Given
+            stats.setOneStarRateCount(13);
+            stubStats();
+            stubBadge(BadgeCode.THE_CAKE_IS_A_LIE);
+
+            // When
+            service.checkRatingBadges(userId);
+
+            // Then
+            verify(badgeRepository).findByCode(BadgeCode.THE_CAKE_IS_A_LIE.name());
+        }
+    }
+
     @Nested
     @DisplayName("checkLongevityBadges()")
     class CheckLongevityBadges {
@@ -595,5 +709,30 @@ class BadgeAwardingServiceImplTest {
             // Then
             verify(badgeRepository, never()).findByCode(any());
         }
+
+        @Test
+        @DisplayName("Should not load the user once both badges are owned")
+        void shouldSkipWhenBothOwned() {
+            // Given
+            when(badgeRepository.findCodesByUserId(userId)).thenReturn(List.of(
+                    BadgeCode.VETERAN_30.name(), BadgeCode.LIFER.name()));
+
+            // When
+            service.checkLongevityBadges(userId);
+
+            // Then
+            verify(userRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should throw when the user does not exist")
+        void shouldThrowWhenUserMissing() {
+            // Given
+            when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+            // When / Then
+            assertThatThrownBy(() -> service.checkLongevityBadges(userId))
+                    .isInstanceOf(UsernameNotFoundException.class);
+        }
     }
 }
@@ -0,0 +1,154 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.entities.Genre;
+import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.CatalogTagIndexService.TagMatch;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogTagIndexServiceImplTest {
+
+    private static final LocalDate OLD_RELEASE = LocalDate.of(2015, 1, 1);
+
+    @Mock private VideoGameRepository videoGameRepository;
+
+    private CatalogTagIndexServiceImpl index;
+
+    private UUID rpg;
+    private UUID puzzle;
+    private UUID studio;
+    private UUID pc;
+
+    private final List<Object[]> profiles = new ArrayList<>();
+    private final List<Object[]> genreLinks = new ArrayList<>();
+    private final List<Object[]> platformLinks = new ArrayList<>();
+    private final List<Object[]> companyLinks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-06-01T00:00:00Z"), ZoneOffset.UTC);
+        index = new CatalogTagIndexServiceImpl(new CatalogGameLoader(videoGameRepository), clock);
+
+        rpg = UUID.randomUUID();
+        puzzle = UUID.randomUUID();
+        studio = UUID.randomUUID();
+        pc = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("queries return empty until the index has been built")
+    void emptyBeforeFirstBuild() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.findTopMatches(Map.of(rpg, 1.0), Map.of(), Map.of(), Set.of(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("scores every game sharing a genre or company, weighted like GameTagScorer")
+    void scoresWholeCatalog() {
+        UUID best = catalogGame("Best", null, 0.0, List.of(rpg), List.of(pc), List.of(studio));
+        UUID genreOnly = catalogGame("Genre Only", null, 0.0, List.of(rpg), List.of(), List.of());
+        UUID companyOnly = catalogGame("Company Only", null, 0.0, List.of(puzzle), List.of(), List.of(studio));
+        catalogGame("Platform Only", null, 4.0, List.of(puzzle), List.of(pc), List.of());
+        stubCatalog();
+        index.rebuild();
+
+        List<TagMatch> matches = index.findTopMatches(
+                Map.of(rpg, 2.0), Map.of(pc, 1.0), Map.of(studio, 1.0), Set.of(), 10).orElseThrow();
+
+        assertThat(matches).extracting(TagMatch::gameId).containsExactly(best, genreOnly, companyOnly);
+        TagMatch top = matches.get(0);
+        assertThat(top.genreContribution()).isEqualTo(2.0 * GameTagScorer.GENRE_SCORE_WEIGHT);
+        assertThat(top.companyContribution()).isEqualTo(GameTagScorer.COMPANY_SCORE_WEIGHT);
+        assertThat(top.score()).isEqualTo(2.0 * GameTagScorer.GENRE_SCORE_WEIGHT
+                + GameTagScorer.PLATFORM_SCORE_WEIGHT + GameTagScorer.COMPANY_SCORE_WEIGHT);
+    }
+
+    @Test
+    @DisplayName("DLC and excluded games never come back, and the limit is honoured")
+    void excludesDlcAndUserGames() {
+        UUID parent = catalogGame("Parent", null, 0.0, List.of(rpg), List.of(), List.of());
+        catalogGame("Dlc", parent, 0.0, List.of(rpg), List.of(), List.of());
+        UUID owned = catalogGame("Owned", null, 0.0, List.of(rpg), List.of(), List.of());
+        UUID other = catalogGame("Other", null, 0.0, List.of(rpg), List.of(), List.of());
+        stubCatalog();
+        index.rebuild();
+
+        List<TagMatch> matches = index.findTopMatches(
+                Map.of(rpg, 1.0), Map.of(), Map.of(), Set.of(owned), 10).orElseThrow();
+        assertThat(matches).extracting(TagMatch::gameId).containsExactly(other, parent);
+
+        assertThat(index.findTopMatches(Map.of(rpg, 1.0), Map.of(), Map.of(), Set.of(owned), 1).orElseThrow())
+                .extracting(TagMatch::gameId).containsExactly(other);
+    }
+
+    @Test
+    @DisplayName("refreshGame and removeGame keep the postings consistent with admin edits")
+    void incrementalUpdates() {
+        UUID kept = catalogGame("Kept", null, 0.0, List.of(rpg), List.of(), List.of());
+        UUID edited = catalogGame("Edited", null, 0.0, List.of(rpg), List.of(), List.of());
+        stubCatalog();
+        index.rebuild();
+
+        VideoGame retagged = new VideoGame();
+        retagged.setId(edited);
+        retagged.setTitle("Edited");
+        retagged.setReleaseDate(OLD_RELEASE);
+        Genre puzzleGenre = new Genre("Puzzle");
+        puzzleGenre.setId(puzzle);
+        retagged.setGenres(new HashSet<>(List.of(puzzleGenre)));
+        when(videoGameRepository.findByIdWithRelationships(edited)).thenReturn(Optional.of(retagged));
+
+        index.refreshGame(edited);
+
+        assertThat(index.findTopMatches(Map.of(rpg, 1.0), Map.of(), Map.of(), Set.of(), 10).orElseThrow())
+                .extracting(TagMatch::gameId).containsExactly(kept);
+        assertThat(index.findTopMatches(Map.of(puzzle, 1.0), Map.of(), Map.of(), Set.of(), 10).orElseThrow())
+                .extracting(TagMatch::gameId).containsExactly(edited);
+
+        index.removeGame(kept);
+
+        assertThat(index.findTopMatches(Map.of(rpg, 1.0), Map.of(), Map.of(), Set.of(), 10).orElseThrow())
+                .isEmpty();
+    }
+
+    // ----- helpers -----
+
+    private UUID catalogGame(String title, UUID parentId, double rating,
+                             List<UUID> genres, List<UUID> platforms, List<UUID> companies) {
+        UUID id = UUID.randomUUID();
+        profiles.add(new Object[] {id, title, rating, OLD_RELEASE, parentId});
+        genres.forEach(tag -> genreLinks.add(new Object[] {id, tag}));
+        platforms.forEach(tag -> platformLinks.add(new Object[] {id, tag}));
+        companies.forEach(tag -> companyLinks.add(new Object[] {id, tag}));
+        return id;
+    }
+
+    private void stubCatalog() {
+        when(videoGameRepository.findSimilarityProfiles()).thenReturn(profiles);
+        when(videoGameRepository.findAllGenreLinks()).thenReturn(genreLinks);
+        when(videoGameRepository.findAllPlatformLinks()).thenReturn(platformLinks);
+        when(videoGameRepository.findAllCompanyLinks()).thenReturn(companyLinks);
+    }
+}
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +45,7 @@ import com.checkpoint.api.repositories.GameListRepository;
 import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.EngagementCounterService;
 
 /**
  * Unit tests for {@link CommentServiceImpl}.
@@ -72,6 +74,9 @@ class CommentServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private EngagementCounterService engagementCounterService;
+
     private CommentServiceImpl commentService;
 
     private User testUser;
@@ -83,7 +88,7 @@ class CommentServiceImplTest {
     void setUp() {
         commentService = new CommentServiceImpl(
                 commentRepository, reviewRepository, gameListRepository,
-                userRepository, likeRepository, commentMapper, eventPublisher);
+                userRepository, likeRepository, commentMapper, eventPublisher, engagementCounterService);
 
         testUser = new User();
         testUser.setId(UUID.randomUUID());
@@ -130,6 +135,7 @@ class CommentServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(result.content()).isEqualTo("Nice!");
             verify(commentRepository).save(any(Comment.class));
+            verify(engagementCounterService).commentAdded(savedComment);
         }
 
         @Test
@@ -174,6 +180,7 @@ class CommentServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(result.content()).isEqualTo("Cool list!");
             verify(commentRepository).save(any(Comment.class));
+            verify(engagementCounterService).commentAdded(savedComment);
         }
 
         @Test
@@ -205,8 +212,8 @@ class CommentServiceImplTest {
 
             when(commentRepository.findByReviewIdAndParentCommentIsNull(testReview.getId(), pageable))
                     .thenReturn(commentPage);
-            when(likeRepository.countByCommentId(comment.getId())).thenReturn(3L);
-            when(commentRepository.countByParentCommentId(comment.getId())).thenReturn(2L);
+            comment.setLikesCount(3);
+            comment.setRepliesCount(2);
 
             CommentResponseDto dto = new CommentResponseDto(
                     comment.getId(), "Great!",
@@ -236,9 +243,9 @@ class CommentServiceImplTest {
             when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
             when(commentRepository.findByReviewIdAndParentCommentIsNull(testReview.getId(), pageable))
                     .thenReturn(commentPage);
-            when(likeRepository.countByCommentId(comment.getId())).thenReturn(1L);
-            when(commentRepository.countByParentCommentId(comment.getId())).thenReturn(0L);
-            when(likeRepository.existsByUserIdAndCommentId(testUser.getId(), comment.getId())).thenReturn(true);
+            comment.setLikesCount(1);
+            when(likeRepository.findCommentIdsLikedByUser(testUser.getId(), Set.of(comment.getId())))
+                    .thenReturn(List.of(comment.getId()));
 
             CommentResponseDto dto = new CommentResponseDto(
                     comment.getId(), "Great!",
@@ -287,6 +294,7 @@ class CommentServiceImplTest {
             assertThat(result.content()).isEqualTo("Reply!");
             assertThat(result.parentCommentId()).isEqualTo(parentComment.getId());
             verify(commentRepository).save(any(Comment.class));
+            verify(engagementCounterService).commentAdded(savedReply);
 
             ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
             verify(eventPublisher).publishEvent(eventCaptor.capture());
@@ -328,8 +336,7 @@ class CommentServiceImplTest {
             Page<Comment> replyPage = new PageImpl<>(List.of(reply));
 
             when(commentRepository.findByParentCommentId(parentId, pageable)).thenReturn(replyPage);
-            when(likeRepository.countByCommentId(reply.getId())).thenReturn(1L);
-            when(commentRepository.countByParentCommentId(reply.getId())).thenReturn(0L);
+            reply.setLikesCount(1);
 
             CommentResponseDto dto = new CommentResponseDto(
                     reply.getId(), "Reply",
@@ -422,6 +429,7 @@ class CommentServiceImplTest {
             commentService.deleteComment("test@test.com", comment.getId());
 
             // Then
+            verify(engagementCounterService).commentRemoved(comment);
             verify(commentRepository).delete(comment);
         }
 
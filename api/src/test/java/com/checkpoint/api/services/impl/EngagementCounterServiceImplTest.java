@@ -0,0 +1,173 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.entities.Comment;
+import com.checkpoint.api.entities.GameList;
+import com.checkpoint.api.entities.Like;
+import com.checkpoint.api.entities.Review;
+import com.checkpoint.api.entities.User;
+import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.repositories.CommentRepository;
+import com.checkpoint.api.repositories.GameListRepository;
+import com.checkpoint.api.repositories.ReviewRepository;
+import com.checkpoint.api.services.SearchIndexService;
+
+/**
+ * Unit tests for {@link EngagementCounterServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class EngagementCounterServiceImplTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private GameListRepository gameListRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    private EngagementCounterServiceImpl service;
+
+    private User user;
+    private Review review;
+    private GameList gameList;
+
+    @BeforeEach
+    void setUp() {
+        service = new EngagementCounterServiceImpl(
+                reviewRepository, gameListRepository, commentRepository, searchIndexService);
+
+        user = new User("alice", "alice@example.com", "password");
+        user.setId(UUID.randomUUID());
+
+        VideoGame game = new VideoGame();
+        game.setId(UUID.randomUUID());
+        review = new Review("Great", false, user, game);
+        review.setId(UUID.randomUUID());
+
+        gameList = new GameList("Favourites", user);
+        gameList.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("likes are routed to the counter of their target")
+    void likes_shouldAdjustTargetCounter() {
+        Comment comment = Comment.onList("Nice", user, gameList);
+        comment.setId(UUID.randomUUID());
+
+        service.likeAdded(Like.forReview(user, review));
+        service.likeAdded(Like.forGameList(user, gameList));
+        service.likeRemoved(Like.forComment(user, comment));
+
+        verify(reviewRepository).adjustLikesCount(review.getId(), 1);
+        verify(gameListRepository).adjustLikesCount(gameList.getId(), 1);
+        verify(commentRepository).adjustLikesCount(comment.getId(), -1);
+    }
+
+    @Test
+    @DisplayName("game likes leave every counter untouched")
+    void gameLike_shouldBeIgnored() {
+        VideoGame game = new VideoGame();
+        game.setId(UUID.randomUUID());
+
+        service.likeAdded(Like.forVideoGame(user, game));
+
+        verifyNoInteractions(reviewRepository, gameListRepository, commentRepository);
+    }
+
+    @Test
+    @DisplayName("a reply bumps both its parent's replies and the review's comments")
+    void commentAdded_reply_shouldAdjustParentAndReview() {
+        Comment root = Comment.onReview("Root", user, review);
+        root.setId(UUID.randomUUID());
+        Comment reply = Comment.asReply("Reply", user, root);
+
+        service.commentAdded(reply);
+
+        verify(commentRepository).adjustRepliesCount(root.getId(), 1);
+        verify(reviewRepository).adjustCommentsCount(review.getId(), 1);
+    }
+
+    @Test
+    @DisplayName("removing a top-level comment also discounts its cascade-deleted replies")
+    void commentRemoved_root_shouldDiscountReplies() {
+        Comment root = Comment.onList("Root", user, gameList);
+        root.setId(UUID.randomUUID());
+        when(commentRepository.countByParentCommentId(root.getId())).thenReturn(2L);
+
+        service.commentRemoved(root);
+
+        verify(gameListRepository).adjustCommentsCount(gameList.getId(), -3);
+        verify(commentRepository, never()).adjustRepliesCount(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("reconcileCounters returns the number of corrected rows")
+    void reconcileCounters_shouldSumCorrections() {
+        when(reviewRepository.recountEngagement()).thenReturn(1);
+        when(gameListRepository.recountEngagement()).thenReturn(0);
+        when(commentRepository.recountEngagement()).thenReturn(2);
+
+        assertThat(service.reconcileCounters()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("reconcileCounters re-indexes the lists whose counters drifted")
+    void reconcileCounters_shouldReindexDriftedLists() {
+        UUID listId = UUID.randomUUID();
+        when(gameListRepository.findIdsWithDriftedEngagement()).thenReturn(List.of(listId));
+        when(gameListRepository.recountEngagement()).thenReturn(1);
+
+        assertThat(service.reconcileCounters()).isEqualTo(1);
+
+        verify(searchIndexService).reindex(GameList.class, List.of(listId));
+    }
+
+    @Test
+    @DisplayName("reconcileCounters leaves the search index alone when no list drifted")
+    void reconcileCounters_shouldNotReindexWhenNoListDrifted() {
+        service.reconcileCounters();
+
+        verify(searchIndexService, never()).reindex(any(), any());
+    }
+
+    @Test
+    @DisplayName("decayHotScores rescores the window and the older reviews above a single like's score")
+    void decayHotScores_shouldRescoreWindow() {
+        when(reviewRepository.decayHotScores(any(), anyDouble())).thenReturn(4);
+
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+        assertThat(service.decayHotScores(Duration.ofDays(30))).isEqualTo(4);
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Double> floor = ArgumentCaptor.forClass(Double.class);
+        verify(reviewRepository).decayHotScores(since.capture(), floor.capture());
+        assertThat(since.getValue()).isAfterOrEqualTo(before).isBefore(LocalDateTime.now().minusDays(29));
+        assertThat(floor.getValue()).isEqualTo(1.0 / Math.pow(32, 1.5));
+    }
+}
@@ -0,0 +1,161 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.entities.FeedActivity;
+import com.checkpoint.api.enums.FeedItemType;
+import com.checkpoint.api.events.FeedActivityEvent;
+import com.checkpoint.api.repositories.FeedActivityRepository;
+import com.checkpoint.api.repositories.FeedEntryRepository;
+
+/**
+ * Unit tests for {@link FeedFanOutServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedFanOutServiceImplTest {
+
+    @Mock
+    private FeedActivityRepository feedActivityRepository;
+
+    @Mock
+    private FeedEntryRepository feedEntryRepository;
+
+    private FeedFanOutServiceImpl feedFanOutService;
+
+    private UUID userId;
+    private UUID gameId;
+
+    @BeforeEach
+    void setUp() {
+        feedFanOutService = new FeedFanOutServiceImpl(feedActivityRepository, feedEntryRepository);
+        userId = UUID.randomUUID();
+        gameId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("recordActivity should store a new activity and fan it out to followers")
+    void recordActivity_shouldStoreAndFanOutNewActivity() {
+        // Given
+        UUID rateId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        FeedActivityEvent event = FeedActivityEvent.rating(rateId, userId, gameId, 4, createdAt);
+        when(feedActivityRepository.findById(rateId)).thenReturn(Optional.empty());
+
+        // When
+        feedFanOutService.recordActivity(event);
+
+        // Then
+        ArgumentCaptor<FeedActivity> captor = ArgumentCaptor.forClass(FeedActivity.class);
+        verify(feedActivityRepository).save(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(rateId);
+        assertThat(captor.getValue().getType()).isEqualTo(FeedItemType.RATING);
+        assertThat(captor.getValue().getDetail()).isEqualTo("4");
+        verify(feedEntryRepository).fanOutToFollowers(rateId, userId, "RATING", createdAt);
+    }
+
+    @Test
+    @DisplayName("recordActivity should only refresh the payload of an existing activity")
+    void recordActivity_shouldRefreshExistingActivityWithoutFanningOut() {
+        // Given
+        UUID rateId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(2);
+        FeedActivity existing = new FeedActivity(rateId, FeedItemType.RATING, userId, createdAt);
+        existing.setDetail("2");
+        when(feedActivityRepository.findById(rateId)).thenReturn(Optional.of(existing));
+
+        // When
+        feedFanOutService.recordActivity(FeedActivityEvent.rating(rateId, userId, gameId, 5, createdAt));
+
+        // Then
+        assertThat(existing.getDetail()).isEqualTo("5");
+        verify(feedActivityRepository, never()).save(any(FeedActivity.class));
+        verify(feedEntryRepository, never()).fanOutToFollowers(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("recordActivity should ignore activities older than the feed window")
+    void recordActivity_shouldIgnoreActivitiesOutsideWindow() {
+        // Given
+        UUID likeId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(FeedFanOutServiceImpl.FEED_WINDOW_DAYS + 1);
+        when(feedActivityRepository.findById(likeId)).thenReturn(Optional.empty());
+
+        // When
+        feedFanOutService.recordActivity(FeedActivityEvent.gameLike(likeId, userId, gameId, createdAt));
+
+        // Then
+        verify(feedActivityRepository, never()).save(any(FeedActivity.class));
+        verify(feedEntryRepository, never()).fanOutToFollowers(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("onUnfollow should drop the unfollowed user's entries from the follower's feed")
+    void onUnfollow_shouldDeleteEntriesOfUnfollowedActor() {
+        // Given
+        UUID followerId = UUID.randomUUID();
+
+        // When
+        feedFanOutService.onUnfollow(followerId, userId);
+
+        // Then
+        verify(feedEntryRepository).deleteByOwnerIdAndActorId(followerId, userId);
+    }
+
+    @Test
+    @DisplayName("removeUser should delete the user's activities, inbox and fanned-out entries")
+    void removeUser_shouldDeleteActivitiesAndEntries() {
+        // When
+        feedFanOutService.removeUser(userId);
+
+        // Then
+        verify(feedEntryRepository).deleteByUserId(userId);
+        verify(feedActivityRepository).deleteByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("backfillIfEmpty should seed the store only when it is empty")
+    void backfillIfEmpty_shouldSkipWhenStoreAlreadyPopulated() {
+        // Given
+        when(feedActivityRepository.count()).thenReturn(3L);
+
+        // When
+        int seeded = feedFanOutService.backfillIfEmpty();
+
+        // Then
+        assertThat(seeded).isZero();
+        verify(feedActivityRepository, never()).backfillSince(any());
+        verify(feedEntryRepository, never()).fanOutAll();
+    }
+
+    @Test
+    @DisplayName("backfillIfEmpty should seed activities and fan them out when empty")
+    void backfillIfEmpty_shouldSeedWhenEmpty() {
+        // Given
+        when(feedActivityRepository.count()).thenReturn(0L);
+        when(feedActivityRepository.backfillSince(any(LocalDateTime.class))).thenReturn(7);
+        when(feedEntryRepository.fanOutAll()).thenReturn(20);
+
+        // When
+        int seeded = feedFanOutService.backfillIfEmpty();
+
+        // Then
+        assertThat(seeded).isEqualTo(7);
+        verify(feedEntryRepository).fanOutAll();
+    }
+}
@@ -1,10 +1,12 @@
 package com.checkpoint.api.services.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,7 +29,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import com.checkpoint.api.dto.catalog.CursorPagedResponseDto;
 import com.checkpoint.api.dto.catalog.GameCardDto;
 import com.checkpoint.api.dto.catalog.PagedResponseDto;
 import com.checkpoint.api.dto.social.FeedGameDto;
@@ -40,6 +45,7 @@ import com.checkpoint.api.mapper.FeedMapper;
 import com.checkpoint.api.repositories.FeedRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.FollowGraphService;
 
 /**
  * Unit tests for {@link FeedServiceImpl}.
@@ -59,6 +65,9 @@ class FeedServiceImplTest {
     @Mock
     private FeedMapper feedMapper;
 
+    @Mock
+    private FollowGraphService followGraph;
+
     private FeedServiceImpl feedService;
 
     private User currentUser;
@@ -67,7 +76,8 @@ class FeedServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        feedService = new FeedServiceImpl(userRepository, feedRepository, videoGameRepository, feedMapper);
+        feedService = new FeedServiceImpl(userRepository, feedRepository, videoGameRepository, feedMapper,
+                followGraph);
 
         currentUser = new User();
         currentUser.setId(UUID.randomUUID());
@@ -87,25 +97,23 @@ class FeedServiceImplTest {
     }
 
     @Test
-    @DisplayName("getFeed should return feed items from followed users")
+    @DisplayName("getFeed should return feed items from the materialized feed")
     void getFeed_shouldReturnFeedItems() {
         // Given
         when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
-        when(userRepository.findFollowingIdsByUserId(currentUser.getId()))
-                .thenReturn(List.of(friendUser.getId()));
 
         UUID feedItemId = UUID.randomUUID();
         Object[] row = new Object[]{
                 feedItemId, "RATING", Timestamp.valueOf(LocalDateTime.now()),
-                friendUser.getId(), game.getId(), "5", null
+                friendUser.getId(), game.getId(), "5", null, null
         };
 
         Pageable pageable = PageRequest.of(0, 20);
         List<Object[]> rows = Collections.singletonList(row);
-        Page<Object[]> rawPage = new PageImpl<>(rows, pageable, 1);
+        Slice<Object[]> rawSlice = new SliceImpl<>(rows, pageable, false);
 
-        when(feedRepository.findFeedItems(anyList(), any(LocalDateTime.class), any(), any(Pageable.class)))
-                .thenReturn(rawPage);
+        when(feedRepository.findFeedItems(eq(currentUser.getId()), any(LocalDateTime.class), any(), any(Pageable.class)))
+                .thenReturn(rawSlice);
         when(userRepository.findAllById(anyList())).thenReturn(List.of(friendUser));
         when(videoGameRepository.findAllById(anyList())).thenReturn(List.of(game));
 
@@ -126,15 +134,45 @@ class FeedServiceImplTest {
         assertThat(result.content().get(0).type()).isEqualTo(FeedItemType.RATING);
         assertThat(result.content().get(0).score()).isEqualTo(5);
         assertThat(result.metadata().totalElements()).isEqualTo(1);
+        assertThat(result.metadata().hasNext()).isFalse();
     }
 
     @Test
-    @DisplayName("getFeed should return empty when user follows nobody")
-    void getFeed_shouldReturnEmptyWhenNoFollowing() {
+    @DisplayName("getFeed should report a next page without counting the whole feed")
+    void getFeed_shouldReportNextPageFromSlice() {
         // Given
         when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
-        when(userRepository.findFollowingIdsByUserId(currentUser.getId()))
-                .thenReturn(Collections.emptyList());
+
+        Object[] row = new Object[]{
+                UUID.randomUUID(), "PLAY", Timestamp.valueOf(LocalDateTime.now()),
+                friendUser.getId(), game.getId(), "COMPLETED", null, null
+        };
+        Pageable pageable = PageRequest.of(0, 1);
+        when(feedRepository.findFeedItems(eq(currentUser.getId()), any(LocalDateTime.class), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(row), pageable, true));
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(friendUser));
+        when(videoGameRepository.findAllById(anyList())).thenReturn(List.of(game));
+        when(feedMapper.toFeedItemDto(any(Object[].class), any(Map.class), any(Map.class)))
+                .thenReturn(new FeedItemDto(UUID.randomUUID(), FeedItemType.PLAY, LocalDateTime.now(),
+                        null, null, "COMPLETED", null, null, null, null, null, null));
+
+        // When
+        PagedResponseDto<FeedItemDto> result = feedService.getFeed("user@test.com", 0, 1, null);
+
+        // Then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.metadata().hasNext()).isTrue();
+        assertThat(result.metadata().last()).isFalse();
+    }
+
+    @Test
+    @DisplayName("getFeed should return empty when the materialized feed is empty")
+    void getFeed_shouldReturnEmptyWhenNoFeedEntries() {
+        // Given
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(feedRepository.findFeedItems(eq(currentUser.getId()), any(LocalDateTime.class), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
 
         // When
         PagedResponseDto<FeedItemDto> result = feedService.getFeed("user@test.com", 0, 20, null);
@@ -142,6 +180,7 @@ class FeedServiceImplTest {
         // Then
         assertThat(result.content()).isEmpty();
         assertThat(result.metadata().totalElements()).isEqualTo(0);
+        verify(userRepository, never()).findAllById(anyList());
     }
 
     @Test
@@ -149,20 +188,74 @@ class FeedServiceImplTest {
     void getFeed_shouldForwardTypeFilterToRepository() {
         // Given
         when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
-        when(userRepository.findFollowingIdsByUserId(currentUser.getId()))
-                .thenReturn(List.of(friendUser.getId()));
 
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Object[]> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(feedRepository.findFeedItems(anyList(), any(LocalDateTime.class), any(), any(Pageable.class)))
-                .thenReturn(emptyPage);
+        Slice<Object[]> emptySlice = new SliceImpl<>(Collections.emptyList(), pageable, false);
+        when(feedRepository.findFeedItems(any(UUID.class), any(LocalDateTime.class), any(), any(Pageable.class)))
+                .thenReturn(emptySlice);
 
         // When
         feedService.getFeed("user@test.com", 0, 20, FeedItemType.PLAY);
 
         // Then
         verify(feedRepository)
-                .findFeedItems(anyList(), any(LocalDateTime.class), eq(FeedItemType.PLAY), any(Pageable.class));
+                .findFeedItems(eq(currentUser.getId()), any(LocalDateTime.class), eq(FeedItemType.PLAY), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("scrollFeed should return a cursor that resumes after the last served row")
+    void scrollFeed_shouldReturnCursorResumingAfterLastRow() {
+        // Given
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
+
+        LocalDateTime newest = LocalDateTime.of(2026, 10, 1, 12, 0, 0, 123_456_000);
+        LocalDateTime older = newest.minusMinutes(5);
+        UUID newestId = UUID.randomUUID();
+        UUID olderId = UUID.randomUUID();
+        Object[] first = new Object[]{newestId, "PLAY", Timestamp.valueOf(newest),
+                friendUser.getId(), game.getId(), "COMPLETED", null, null};
+        Object[] second = new Object[]{olderId, "PLAY", Timestamp.valueOf(older),
+                friendUser.getId(), game.getId(), "COMPLETED", null, null};
+
+        when(feedRepository.findFeedItemsBefore(eq(currentUser.getId()), any(LocalDateTime.class), isNull(),
+                isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(friendUser));
+        when(videoGameRepository.findAllById(anyList())).thenReturn(List.of(game));
+        when(feedMapper.toFeedItemDto(any(Object[].class), any(Map.class), any(Map.class)))
+                .thenReturn(new FeedItemDto(newestId, FeedItemType.PLAY, newest,
+                        null, null, "COMPLETED", null, null, null, null, null, null));
+
+        // When
+        CursorPagedResponseDto<FeedItemDto> page = feedService.scrollFeed("user@test.com", null, 1, null);
+
+        // Then
+        assertThat(page.content()).hasSize(1);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isNotBlank();
+
+        // When — follow the cursor
+        when(feedRepository.findFeedItemsBefore(eq(currentUser.getId()), any(LocalDateTime.class), isNull(),
+                eq(newest), eq(newestId), eq(2)))
+                .thenReturn(List.<Object[]>of(second));
+        CursorPagedResponseDto<FeedItemDto> next = feedService.scrollFeed("user@test.com", page.nextCursor(), 1, null);
+
+        // Then
+        assertThat(next.hasNext()).isFalse();
+        assertThat(next.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("scrollFeed should reject a malformed cursor")
+    void scrollFeed_shouldRejectMalformedCursor() {
+        // Given
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
+
+        // When / Then
+        assertThatThrownBy(() -> feedService.scrollFeed("user@test.com", "not-a-cursor", 20, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid feed cursor");
+        verify(feedRepository, never()).findFeedItemsBefore(any(), any(), any(), any(), any(), anyInt());
     }
 
     @Test
@@ -170,7 +263,7 @@ class FeedServiceImplTest {
     void getFriendsTrendingGames_shouldReturnGames() {
         // Given
         when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
-        when(userRepository.findFollowingIdsByUserId(currentUser.getId()))
+        when(followGraph.getFollowingIds(currentUser.getId()))
                 .thenReturn(List.of(friendUser.getId()));
 
         Object[] row = new Object[]{
@@ -195,7 +288,7 @@ class FeedServiceImplTest {
     void getFriendsTrendingGames_shouldReturnEmptyListWhenNoFollowing() {
         // Given
         when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
-        when(userRepository.findFollowingIdsByUserId(currentUser.getId()))
+        when(followGraph.getFollowingIds(currentUser.getId()))
                 .thenReturn(Collections.emptyList());
 
         // When
@@ -210,7 +303,7 @@ class FeedServiceImplTest {
     void getFriendsPopularGames_shouldReturnPaginatedGames() {
         // Given
         when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
-        when(userRepository.findFollowingIdsByUserId(currentUser.getId()))
+        when(followGraph.getFollowingIds(currentUser.getId()))
                 .thenReturn(List.of(friendUser.getId()));
 
         Object[] row = new Object[]{
@@ -239,7 +332,7 @@ class FeedServiceImplTest {
     void getFriendsPopularGames_shouldReturnEmptyWhenNoFollowing() {
         // Given
         when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(currentUser));
-        when(userRepository.findFollowingIdsByUserId(currentUser.getId()))
+        when(followGraph.getFollowingIds(currentUser.getId()))
                 .thenReturn(Collections.emptyList());
 
         // When
@@ -0,0 +1,82 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.repositories.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FollowGraphServiceImplTest {
+
+    @Mock private UserRepository userRepository;
+
+    private FollowGraphServiceImpl followGraph;
+
+    private UUID alice;
+    private UUID bob;
+    private UUID carol;
+
+    @BeforeEach
+    void setUp() {
+        followGraph = new FollowGraphServiceImpl(userRepository);
+
+        alice = UUID.randomUUID();
+        bob = UUID.randomUUID();
+        carol = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("falls back to SQL until the graph has been built")
+    void fallsBackBeforeFirstBuild() {
+        when(userRepository.isFollowing(alice, bob)).thenReturn(true);
+        when(userRepository.countFollowersByUserId(bob)).thenReturn(3L);
+
+        assertThat(followGraph.isReady()).isFalse();
+        assertThat(followGraph.isFollowing(alice, bob)).isTrue();
+        assertThat(followGraph.countFollowers(bob)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("answers from memory once built")
+    void answersFromMemory() {
+        build(new Object[] {alice, bob}, new Object[] {carol, bob});
+
+        assertThat(followGraph.isFollowing(alice, bob)).isTrue();
+        assertThat(followGraph.isFollowing(bob, alice)).isFalse();
+        assertThat(followGraph.countFollowers(bob)).isEqualTo(2);
+        assertThat(followGraph.countFollowing(alice)).isEqualTo(1);
+        assertThat(followGraph.getFollowingIds(carol)).containsExactly(bob);
+        verify(userRepository, never()).isFollowing(alice, bob);
+    }
+
+    @Test
+    @DisplayName("applies committed follows, unfollows and account deletions")
+    void appliesPatches() {
+        build(new Object[] {alice, bob}, new Object[] {carol, bob});
+
+        followGraph.followed(bob, alice);
+        followGraph.unfollowed(alice, bob);
+        followGraph.removeUser(carol);
+
+        assertThat(followGraph.getFollowingIds(bob)).containsExactly(alice);
+        assertThat(followGraph.countFollowers(bob)).isZero();
+        assertThat(followGraph.countFollowing(carol)).isZero();
+    }
+
+    private void build(Object[]... edges) {
+        when(userRepository.findAllFollowEdges()).thenReturn(List.of(edges));
+        followGraph.rebuild();
+    }
+}
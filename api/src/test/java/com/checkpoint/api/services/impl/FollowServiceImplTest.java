@@ -30,6 +30,7 @@ import com.checkpoint.api.dto.social.FollowUserDto;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.enums.NotificationType;
 import com.checkpoint.api.events.NotificationEvent;
+import com.checkpoint.api.events.UserUnfollowedEvent;
 import com.checkpoint.api.exceptions.SelfFollowException;
 import com.checkpoint.api.exceptions.UserNotFoundException;
 import com.checkpoint.api.mapper.FollowMapper;
@@ -85,8 +86,10 @@ class FollowServiceImplTest {
                     .thenReturn(Optional.of(currentUser));
             when(userRepository.findById(targetUser.getId()))
                     .thenReturn(Optional.of(targetUser));
-            when(userRepository.isFollowing(currentUser.getId(), targetUser.getId()))
-                    .thenReturn(false);
+            when(userRepository.deleteFollow(currentUser.getId(), targetUser.getId()))
+                    .thenReturn(0);
+            when(userRepository.insertFollow(currentUser.getId(), targetUser.getId()))
+                    .thenReturn(1);
 
             // When
             FollowResponseDto result = followService.toggleFollow("user@example.com", targetUser.getId());
@@ -94,7 +97,7 @@ class FollowServiceImplTest {
             // Then
             assertThat(result.following()).isTrue();
             assertThat(result.message()).contains("targetUser");
-            assertThat(currentUser.getFollowing()).contains(targetUser);
+            verify(userRepository).insertFollow(currentUser.getId(), targetUser.getId());
 
             ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
             verify(eventPublisher).publishEvent(eventCaptor.capture());
@@ -109,13 +112,12 @@ class FollowServiceImplTest {
         @DisplayName("should unfollow when already following")
         void toggleFollow_shouldUnfollowWhenAlreadyFollowing() {
             // Given
-            currentUser.follow(targetUser);
             when(userRepository.findByEmail("user@example.com"))
                     .thenReturn(Optional.of(currentUser));
             when(userRepository.findById(targetUser.getId()))
                     .thenReturn(Optional.of(targetUser));
-            when(userRepository.isFollowing(currentUser.getId(), targetUser.getId()))
-                    .thenReturn(true);
+            when(userRepository.deleteFollow(currentUser.getId(), targetUser.getId()))
+                    .thenReturn(1);
 
             // When
             FollowResponseDto result = followService.toggleFollow("user@example.com", targetUser.getId());
@@ -123,7 +125,28 @@ class FollowServiceImplTest {
             // Then
             assertThat(result.following()).isFalse();
             assertThat(result.message()).contains("targetUser");
-            assertThat(currentUser.getFollowing()).doesNotContain(targetUser);
+            verify(userRepository, never()).insertFollow(currentUser.getId(), targetUser.getId());
+            verify(eventPublisher, never()).publishEvent(any(NotificationEvent.class));
+        }
+
+        @Test
+        @DisplayName("should not publish follow events twice when a concurrent request already followed")
+        void toggleFollow_shouldNotRepublishOnConcurrentFollow() {
+            // Given
+            when(userRepository.findByEmail("user@example.com"))
+                    .thenReturn(Optional.of(currentUser));
+            when(userRepository.findById(targetUser.getId()))
+                    .thenReturn(Optional.of(targetUser));
+            when(userRepository.deleteFollow(currentUser.getId(), targetUser.getId()))
+                    .thenReturn(0);
+            when(userRepository.insertFollow(currentUser.getId(), targetUser.getId()))
+                    .thenReturn(0);
+
+            // When
+            FollowResponseDto result = followService.toggleFollow("user@example.com", targetUser.getId());
+
+            // Then
+            assertThat(result.following()).isTrue();
             verify(eventPublisher, never()).publishEvent(any(NotificationEvent.class));
         }
 
@@ -248,20 +271,18 @@ class FollowServiceImplTest {
         @DisplayName("should remove follower when they currently follow the user")
         void removeFollower_shouldRemoveWhenFollowing() {
             // Given: targetUser follows currentUser
-            targetUser.follow(currentUser);
             when(userRepository.findByEmail("user@example.com"))
                     .thenReturn(Optional.of(currentUser));
             when(userRepository.findById(targetUser.getId()))
                     .thenReturn(Optional.of(targetUser));
-            when(userRepository.isFollowing(targetUser.getId(), currentUser.getId()))
-                    .thenReturn(true);
+            when(userRepository.deleteFollow(targetUser.getId(), currentUser.getId()))
+                    .thenReturn(1);
 
             // When
             followService.removeFollower("user@example.com", targetUser.getId());
 
             // Then
-            assertThat(targetUser.getFollowing()).doesNotContain(currentUser);
-            assertThat(currentUser.getFollowers()).doesNotContain(targetUser);
+            verify(eventPublisher).publishEvent(any(UserUnfollowedEvent.class));
         }
 
         @Test
@@ -272,14 +293,14 @@ class FollowServiceImplTest {
                     .thenReturn(Optional.of(currentUser));
             when(userRepository.findById(targetUser.getId()))
                     .thenReturn(Optional.of(targetUser));
-            when(userRepository.isFollowing(targetUser.getId(), currentUser.getId()))
-                    .thenReturn(false);
+            when(userRepository.deleteFollow(targetUser.getId(), currentUser.getId()))
+                    .thenReturn(0);
 
             // When
             followService.removeFollower("user@example.com", targetUser.getId());
 
             // Then
-            assertThat(currentUser.getFollowers()).doesNotContain(targetUser);
+            verify(eventPublisher, never()).publishEvent(any(UserUnfollowedEvent.class));
         }
 
         @Test
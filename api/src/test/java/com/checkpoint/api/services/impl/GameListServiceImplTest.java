@@ -48,12 +48,12 @@ import com.checkpoint.api.exceptions.GameListNotFoundException;
 import com.checkpoint.api.exceptions.GameNotInListException;
 import com.checkpoint.api.exceptions.UnauthorizedListAccessException;
 import com.checkpoint.api.mapper.GameListMapper;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.GameListEntryRepository;
 import com.checkpoint.api.repositories.GameListRepository;
 import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.EngagementCounterService;
 
 import jakarta.persistence.EntityManager;
 
@@ -75,9 +75,6 @@ class GameListServiceImplTest {
     @Mock
     private LikeRepository likeRepository;
 
-    @Mock
-    private CommentRepository commentRepository;
-
     @Mock
     private GameListMapper gameListMapper;
 
@@ -87,6 +84,9 @@ class GameListServiceImplTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private EngagementCounterService engagementCounterService;
+
     private GameListServiceImpl service;
 
     private User testUser;
@@ -100,8 +100,8 @@ class GameListServiceImplTest {
         service = new GameListServiceImpl(
                 gameListRepository, gameListEntryRepository,
                 userRepository, videoGameRepository,
-                likeRepository, commentRepository, gameListMapper,
-                eventPublisher, entityManager);
+                likeRepository, gameListMapper,
+                eventPublisher, entityManager, engagementCounterService);
 
         testUser = new User("testuser", "user@example.com", "password");
         testUser.setId(UUID.randomUUID());
@@ -179,7 +179,6 @@ class GameListServiceImplTest {
             when(gameListRepository.findById(testList.getId())).thenReturn(Optional.of(testList));
             when(gameListRepository.save(any(GameList.class))).thenReturn(testList);
             when(gameListEntryRepository.findByGameListIdOrderByPositionAsc(testList.getId())).thenReturn(List.of());
-            when(likeRepository.countByGameListId(testList.getId())).thenReturn(0L);
             when(gameListMapper.toDetailDto(any(GameList.class), anyList(), anyLong(), anyLong(), anyBoolean(), anyBoolean()))
                     .thenReturn(testDetailDto);
 
@@ -268,7 +267,6 @@ class GameListServiceImplTest {
             when(gameListEntryRepository.findMaxPositionByGameListId(testList.getId())).thenReturn(Optional.empty());
             when(gameListEntryRepository.save(any(GameListEntry.class))).thenAnswer(inv -> inv.getArgument(0));
             when(gameListEntryRepository.findByGameListIdOrderByPositionAsc(testList.getId())).thenReturn(List.of());
-            when(likeRepository.countByGameListId(testList.getId())).thenReturn(0L);
             when(gameListMapper.toDetailDto(any(GameList.class), anyList(), anyLong(), anyLong(), anyBoolean(), anyBoolean()))
                     .thenReturn(testDetailDto);
 
@@ -283,6 +281,7 @@ class GameListServiceImplTest {
 
                 assertThat(result).isEqualTo(testDetailDto);
                 verify(gameListEntryRepository).save(any(GameListEntry.class));
+                verify(engagementCounterService).listEntriesChanged(testList.getId(), 1);
             }
         }
 
@@ -329,6 +328,7 @@ class GameListServiceImplTest {
                 service.removeGameFromList("user@example.com", testList.getId(), testGame.getId());
 
                 verify(gameListEntryRepository).deleteByGameListIdAndVideoGameId(testList.getId(), testGame.getId());
+                verify(engagementCounterService).listEntriesChanged(testList.getId(), -1);
             }
         }
 
@@ -371,7 +371,6 @@ class GameListServiceImplTest {
             when(gameListEntryRepository.findByGameListIdAndVideoGameId(testList.getId(), game1Id))
                     .thenReturn(Optional.of(entry1));
             when(gameListEntryRepository.findByGameListIdOrderByPositionAsc(testList.getId())).thenReturn(List.of());
-            when(likeRepository.countByGameListId(testList.getId())).thenReturn(0L);
             when(gameListMapper.toDetailDto(any(GameList.class), anyList(), anyLong(), anyLong(), anyBoolean(), anyBoolean()))
                     .thenReturn(testDetailDto);
 
@@ -410,7 +409,7 @@ class GameListServiceImplTest {
             // Given
             when(gameListRepository.findById(testList.getId())).thenReturn(Optional.of(testList));
             when(gameListEntryRepository.findByGameListIdOrderByPositionAsc(testList.getId())).thenReturn(List.of());
-            when(likeRepository.countByGameListId(testList.getId())).thenReturn(5L);
+            testList.setLikesCount(5);
             when(gameListMapper.toDetailDto(testList, List.of(), 5L, 0L, false, false)).thenReturn(testDetailDto);
 
             // When
@@ -441,7 +440,6 @@ class GameListServiceImplTest {
             when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(testUser));
             when(likeRepository.existsByUserIdAndGameListId(testUser.getId(), testList.getId())).thenReturn(false);
             when(gameListEntryRepository.findByGameListIdOrderByPositionAsc(testList.getId())).thenReturn(List.of());
-            when(likeRepository.countByGameListId(testList.getId())).thenReturn(0L);
             when(gameListMapper.toDetailDto(testList, List.of(), 0L, 0L, true, false)).thenReturn(testDetailDto);
 
             // When
@@ -488,11 +486,10 @@ class GameListServiceImplTest {
             Page<GameList> page = new PageImpl<>(List.of(testList));
             when(gameListRepository.findVisibleListsContainingGame(testGame.getId(), null, pageable))
                     .thenReturn(page);
-            when(likeRepository.countByGameListId(testList.getId())).thenReturn(5L);
-            when(commentRepository.countByGameListId(testList.getId())).thenReturn(0L);
-            when(gameListEntryRepository.findByGameListIdOrderByPositionAsc(testList.getId()))
-                    .thenReturn(List.of());
-            when(gameListMapper.toCardDto(eq(testList), eq(5L), eq(0L), anyList()))
+            testList.setLikesCount(5);
+            when(gameListEntryRepository.findLeadingCoverUrls(List.of(testList.getId()), 4L))
+                    .thenReturn(List.<Object[]>of(new Object[] {testList.getId(), "cover.jpg"}));
+            when(gameListMapper.toCardDto(testList, 5L, 0L, List.of("cover.jpg")))
                     .thenReturn(cardDto);
 
             // When
@@ -513,9 +510,7 @@ class GameListServiceImplTest {
             when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(testUser));
             when(gameListRepository.findVisibleListsContainingGame(testGame.getId(), testUser.getId(), pageable))
                     .thenReturn(page);
-            when(likeRepository.countByGameListId(testList.getId())).thenReturn(0L);
-            when(commentRepository.countByGameListId(testList.getId())).thenReturn(0L);
-            when(gameListEntryRepository.findByGameListIdOrderByPositionAsc(testList.getId()))
+            when(gameListEntryRepository.findLeadingCoverUrls(List.of(testList.getId()), 4L))
                     .thenReturn(List.of());
             when(gameListMapper.toCardDto(eq(testList), anyLong(), anyLong(), anyList()))
                     .thenReturn(cardDto);
@@ -51,6 +51,7 @@ import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.repositories.WishRepository;
 import com.checkpoint.api.services.RateService;
+import com.checkpoint.api.services.UserStatsService;
 
 @ExtendWith(MockitoExtension.class)
 class GamePlayLogServiceImplTest {
@@ -88,6 +89,9 @@ class GamePlayLogServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private UserStatsService userStatsService;
+
     private GamePlayLogServiceImpl gamePlayLogService;
 
     private User testUser;
@@ -110,7 +114,8 @@ class GamePlayLogServiceImplTest {
                 userGameRepository,
                 gamePlayLogMapper,
                 rateService,
-                eventPublisher
+                eventPublisher,
+                userStatsService
         );
 
         testUser = new User();
@@ -164,6 +169,7 @@ class GamePlayLogServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(result.id()).isEqualTo(testPlayLog.getId());
             verify(userGamePlayRepository).save(any(UserGamePlay.class));
+            verify(userStatsService).playAdded(testUser.getId(), testPlatform.getId());
             verify(eventPublisher).publishEvent(any(GameFinishedEvent.class));
         }
 
@@ -394,6 +400,8 @@ class GamePlayLogServiceImplTest {
 
             // Then
             verify(userGamePlayRepository).delete(testPlayLog);
+            verify(userStatsService).playRemoved(testUser.getId(), testPlatform.getId());
+            verify(userStatsService, never()).reviewRemoved(any());
         }
 
         @Test
@@ -558,6 +566,7 @@ class GamePlayLogServiceImplTest {
             assertThat(saved.getUser()).isEqualTo(testUser);
             assertThat(saved.getVideoGame()).isEqualTo(testGame);
             assertThat(saved.getStatus()).isEqualTo(PlayStatus.COMPLETED);
+            verify(userStatsService).libraryEntryAdded(testUser.getId(), testGame.getId(), PlayStatus.COMPLETED);
         }
 
         @Test
@@ -577,6 +586,8 @@ class GamePlayLogServiceImplTest {
             verify(userGameRepository).save(existing);
             assertThat(existing.getStatus()).isEqualTo(PlayStatus.COMPLETED);
             assertThat(existing.getNotes()).isEqualTo("my note");
+            verify(userStatsService).libraryStatusChanged(
+                    testUser.getId(), testGame.getId(), PlayStatus.ARE_PLAYING, PlayStatus.COMPLETED);
         }
 
         @ParameterizedTest
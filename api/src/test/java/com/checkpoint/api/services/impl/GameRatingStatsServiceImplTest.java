@@ -0,0 +1,193 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.checkpoint.api.dto.profile.RatingDistributionEntryDto;
+import com.checkpoint.api.entities.GameRatingStats;
+import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.repositories.GameRatingStatsRepository;
+import com.checkpoint.api.repositories.RateRepository;
+import com.checkpoint.api.services.SearchIndexService;
+
+/**
+ * Unit tests for {@link GameRatingStatsServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class GameRatingStatsServiceImplTest {
+
+    @Mock
+    private GameRatingStatsRepository gameRatingStatsRepository;
+
+    @Mock
+    private RateRepository rateRepository;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    private GameRatingStatsServiceImpl gameRatingStatsService;
+
+    private UUID gameId;
+
+    @BeforeEach
+    void setUp() {
+        gameRatingStatsService = new GameRatingStatsServiceImpl(
+                gameRatingStatsRepository, rateRepository, searchIndexService);
+
+        gameId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("rateChanged()")
+    class RateChanged {
+
+        @Test
+        @DisplayName("A new rating is added to built stats and the game is re-indexed")
+        void rateChanged_newRating_shouldAdjustAndReindex() {
+            when(gameRatingStatsRepository.adjust(gameId, 8, 0)).thenReturn(List.of(gameId));
+
+            gameRatingStatsService.rateChanged(gameId, null, 8);
+
+            verify(gameRatingStatsRepository, never()).build(any());
+            verify(searchIndexService).reindex(VideoGame.class, List.of(gameId));
+        }
+
+        @Test
+        @DisplayName("A changed score moves one rating between buckets")
+        void rateChanged_changedScore_shouldMoveBetweenBuckets() {
+            when(gameRatingStatsRepository.adjust(gameId, 10, 6)).thenReturn(List.of(gameId));
+
+            gameRatingStatsService.rateChanged(gameId, 6, 10);
+
+            verify(gameRatingStatsRepository).adjust(gameId, 10, 6);
+        }
+
+        @Test
+        @DisplayName("A removed rating is subtracted")
+        void rateChanged_removedRating_shouldSubtract() {
+            when(gameRatingStatsRepository.adjust(gameId, 0, 4)).thenReturn(List.of(gameId));
+
+            gameRatingStatsService.rateChanged(gameId, 4, null);
+
+            verify(gameRatingStatsRepository).adjust(gameId, 0, 4);
+        }
+
+        @Test
+        @DisplayName("Re-submitting the same score touches nothing")
+        void rateChanged_sameScore_shouldNoOp() {
+            gameRatingStatsService.rateChanged(gameId, 7, 7);
+
+            verifyNoInteractions(gameRatingStatsRepository, searchIndexService);
+        }
+
+        @Test
+        @DisplayName("Stats that are not built yet are built from the rates instead")
+        void rateChanged_unbuilt_shouldBuild() {
+            when(gameRatingStatsRepository.adjust(gameId, 8, 0)).thenReturn(List.of());
+            when(gameRatingStatsRepository.build(List.of(gameId))).thenReturn(List.of(gameId));
+
+            gameRatingStatsService.rateChanged(gameId, null, 8);
+
+            verify(gameRatingStatsRepository).adjust(gameId, 8, 0);
+            verify(searchIndexService).reindex(VideoGame.class, List.of(gameId));
+        }
+
+        @Test
+        @DisplayName("When a concurrent rating built the stats first, the change is applied to them")
+        void rateChanged_builtConcurrently_shouldAdjustAgain() {
+            when(gameRatingStatsRepository.adjust(gameId, 8, 0)).thenReturn(List.of(), List.of(gameId));
+            when(gameRatingStatsRepository.build(List.of(gameId))).thenReturn(List.of());
+
+            gameRatingStatsService.rateChanged(gameId, null, 8);
+
+            InOrder inOrder = inOrder(gameRatingStatsRepository);
+            inOrder.verify(gameRatingStatsRepository).adjust(gameId, 8, 0);
+            inOrder.verify(gameRatingStatsRepository).build(List.of(gameId));
+            inOrder.verify(gameRatingStatsRepository).adjust(gameId, 8, 0);
+            verify(searchIndexService).reindex(VideoGame.class, List.of(gameId));
+        }
+    }
+
+    @Nested
+    @DisplayName("getDistribution()")
+    class GetDistribution {
+
+        @Test
+        @DisplayName("Returns the used buckets of the histogram in score order")
+        void getDistribution_shouldReadHistogram() {
+            GameRatingStats stats = new GameRatingStats(gameId);
+            stats.setHistogram(new long[] {0, 0, 0, 0, 0, 0, 0, 0, 700, 800});
+            when(gameRatingStatsRepository.findById(gameId)).thenReturn(Optional.of(stats));
+
+            List<RatingDistributionEntryDto> distribution = gameRatingStatsService.getDistribution(gameId, 1500);
+
+            assertThat(distribution).containsExactly(
+                    new RatingDistributionEntryDto(9, 700),
+                    new RatingDistributionEntryDto(10, 800));
+            verifyNoInteractions(rateRepository);
+        }
+
+        @Test
+        @DisplayName("Falls back to counting the rates while the stats are not built")
+        void getDistribution_unbuilt_shouldCountRates() {
+            List<RatingDistributionEntryDto> counted = List.of(new RatingDistributionEntryDto(6, 3));
+            when(gameRatingStatsRepository.findById(gameId)).thenReturn(Optional.empty());
+            when(rateRepository.findDistributionByVideoGameId(gameId)).thenReturn(counted);
+
+            assertThat(gameRatingStatsService.getDistribution(gameId, 3)).isEqualTo(counted);
+        }
+
+        @Test
+        @DisplayName("An unrated game is not looked up")
+        void getDistribution_unrated_shouldBeEmpty() {
+            assertThat(gameRatingStatsService.getDistribution(gameId, 0)).isEmpty();
+
+            verifyNoInteractions(gameRatingStatsRepository, rateRepository);
+        }
+    }
+
+    @Test
+    @DisplayName("userRatingsRemoved() re-indexes every adjusted game")
+    void userRatingsRemoved_shouldReindexAdjustedGames() {
+        UUID userId = UUID.randomUUID();
+        UUID otherGameId = UUID.randomUUID();
+        when(gameRatingStatsRepository.removeRatingsOf(userId)).thenReturn(List.of(gameId, otherGameId));
+
+        gameRatingStatsService.userRatingsRemoved(userId);
+
+        verify(searchIndexService).reindex(VideoGame.class, List.of(gameId, otherGameId));
+    }
+
+    @Test
+    @DisplayName("backfill() builds the rated games without stats")
+    void backfill_shouldBuildMissingStats() {
+        when(gameRatingStatsRepository.findRatedGameIdsWithoutStats(PageRequest.of(0, 50)))
+                .thenReturn(List.of(gameId));
+        when(gameRatingStatsRepository.build(List.of(gameId))).thenReturn(List.of(gameId));
+
+        assertThat(gameRatingStatsService.backfill(50)).isEqualTo(1);
+
+        verify(searchIndexService).reindex(VideoGame.class, List.of(gameId));
+        verify(gameRatingStatsRepository, never()).adjust(any(), anyInt(), anyInt());
+    }
+}
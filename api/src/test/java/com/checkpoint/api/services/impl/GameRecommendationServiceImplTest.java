@@ -5,11 +5,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -43,7 +46,9 @@ import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
 import com.checkpoint.api.repositories.WishRepository;
+import com.checkpoint.api.services.CatalogTagIndexService;
 import com.checkpoint.api.services.GameTrendingService;
+import com.checkpoint.api.utils.BoundedCache;
 
 @ExtendWith(MockitoExtension.class)
 class GameRecommendationServiceImplTest {
@@ -57,7 +62,10 @@ class GameRecommendationServiceImplTest {
     @Mock private LikeRepository likeRepository;
     @Mock private VideoGameRepository videoGameRepository;
     @Mock private GameTrendingService gameTrendingService;
+    @Mock private CatalogTagIndexService catalogTagIndex;
 
+    private BoundedCache<UUID, List<RecommendedGameDto>> recommendationCache;
+    private BoundedCache<UUID, Set<UUID>> exclusionCache;
     private GameRecommendationServiceImpl service;
 
     private User user;
@@ -72,9 +80,12 @@ class GameRecommendationServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        recommendationCache = new BoundedCache<>("recommendations", 100, Duration.ofMinutes(30), Clock.systemUTC());
+        exclusionCache = new BoundedCache<>("recommendation-exclusions", 100, Duration.ofHours(1), Clock.systemUTC());
         service = new GameRecommendationServiceImpl(
                 userRepository, rateRepository, userGameRepository,
-                wishRepository, likeRepository, videoGameRepository, gameTrendingService);
+                wishRepository, likeRepository, videoGameRepository, gameTrendingService,
+                catalogTagIndex, recommendationCache, exclusionCache);
 
         userId = UUID.randomUUID();
         user = new User();
@@ -203,6 +214,103 @@ class GameRecommendationServiceImplTest {
             assertThat(result.get(1).id()).isEqualTo(actionCandidate.getId());
         }
 
+        @Test
+        @DisplayName("built tag index scores the catalog in memory and excludes interacted games")
+        void builtIndexReplacesSqlCandidatePool() {
+            VideoGame likedRpg = newGame("Liked RPG", List.of(rpgGenre), List.of(pcPlatform), List.of(studioA));
+            UserGame ug = new UserGame(user, likedRpg, PlayStatus.COMPLETED);
+            when(rateRepository.findAllByUserId(userId)).thenReturn(List.of());
+            when(userGameRepository.findAllByUserId(userId)).thenReturn(List.of(ug));
+            when(wishRepository.findVideoGameIdsByUserId(userId)).thenReturn(List.of());
+            when(videoGameRepository.findAllByIdInWithRelationships(Set.of(likedRpg.getId())))
+                    .thenReturn(List.of(likedRpg));
+
+            VideoGame first = newGame("First RPG", List.of(rpgGenre), List.of(pcPlatform), List.of(studioA));
+            VideoGame second = newGame("Second RPG", List.of(rpgGenre), List.of(), List.of());
+            when(catalogTagIndex.isReady()).thenReturn(true);
+            when(videoGameRepository.findInteractedGameIds(userId)).thenReturn(List.of(likedRpg.getId()));
+            when(catalogTagIndex.findTopMatches(any(), any(), any(), eq(Set.of(likedRpg.getId())), eq(30)))
+                    .thenReturn(java.util.Optional.of(List.of(
+                            new CatalogTagIndexService.TagMatch(first.getId(), 3.0, 1.5, 0.9),
+                            new CatalogTagIndexService.TagMatch(second.getId(), 1.5, 1.5, 0.0))));
+            when(videoGameRepository.findAllByIdInWithRelationships(List.of(first.getId(), second.getId())))
+                    .thenReturn(List.of(second, first));
+
+            List<RecommendedGameDto> result = service.getRecommendationsFor(USER_EMAIL, 5);
+
+            assertThat(result).extracting(RecommendedGameDto::id)
+                    .containsExactly(first.getId(), second.getId());
+            verify(videoGameRepository, never())
+                    .findCandidateIdsForRecommendation(any(), any(), any(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("index-backed lists are cached per user, sliced per request and dropped on eviction")
+        void indexedRecommendationsAreCachedUntilEvicted() {
+            VideoGame likedRpg = newGame("Liked RPG", List.of(rpgGenre), List.of(), List.of());
+            UserGame ug = new UserGame(user, likedRpg, PlayStatus.COMPLETED);
+            when(rateRepository.findAllByUserId(userId)).thenReturn(List.of());
+            when(userGameRepository.findAllByUserId(userId)).thenReturn(List.of(ug));
+            when(wishRepository.findVideoGameIdsByUserId(userId)).thenReturn(List.of());
+            when(videoGameRepository.findAllByIdInWithRelationships(Set.of(likedRpg.getId())))
+                    .thenReturn(List.of(likedRpg));
+
+            VideoGame first = newGame("First RPG", List.of(rpgGenre), List.of(), List.of());
+            VideoGame second = newGame("Second RPG", List.of(rpgGenre), List.of(), List.of());
+            when(catalogTagIndex.isReady()).thenReturn(true);
+            when(videoGameRepository.findInteractedGameIds(userId)).thenReturn(List.of(likedRpg.getId()));
+            when(catalogTagIndex.findTopMatches(any(), any(), any(), any(), eq(30)))
+                    .thenReturn(java.util.Optional.of(List.of(
+                            new CatalogTagIndexService.TagMatch(first.getId(), 3.0, 1.5, 0.0),
+                            new CatalogTagIndexService.TagMatch(second.getId(), 1.5, 1.5, 0.0))));
+            when(videoGameRepository.findAllByIdInWithRelationships(List.of(first.getId(), second.getId())))
+                    .thenReturn(List.of(first, second));
+
+            assertThat(service.getRecommendationsFor(USER_EMAIL, 10)).hasSize(2);
+            assertThat(service.getRecommendationsFor(USER_EMAIL, 1)).extracting(RecommendedGameDto::id)
+                    .containsExactly(first.getId());
+            verify(rateRepository, times(1)).findAllByUserId(userId);
+            assertThat(recommendationCache.stats().hits()).isEqualTo(1);
+
+            service.evictRecommendations(userId);
+            service.getRecommendationsFor(USER_EMAIL, 10);
+
+            verify(rateRepository, times(2)).findAllByUserId(userId);
+        }
+
+        @Test
+        @DisplayName("exclusion sets outlive an expired list and are dropped with the user's recommendations")
+        void exclusionSetsAreCachedUntilEvicted() {
+            VideoGame likedRpg = newGame("Liked RPG", List.of(rpgGenre), List.of(), List.of());
+            UserGame ug = new UserGame(user, likedRpg, PlayStatus.COMPLETED);
+            when(rateRepository.findAllByUserId(userId)).thenReturn(List.of());
+            when(userGameRepository.findAllByUserId(userId)).thenReturn(List.of(ug));
+            when(wishRepository.findVideoGameIdsByUserId(userId)).thenReturn(List.of());
+            when(videoGameRepository.findAllByIdInWithRelationships(Set.of(likedRpg.getId())))
+                    .thenReturn(List.of(likedRpg));
+
+            VideoGame first = newGame("First RPG", List.of(rpgGenre), List.of(), List.of());
+            when(catalogTagIndex.isReady()).thenReturn(true);
+            when(videoGameRepository.findInteractedGameIds(userId)).thenReturn(List.of(likedRpg.getId()));
+            when(catalogTagIndex.findTopMatches(any(), any(), any(), eq(Set.of(likedRpg.getId())), eq(30)))
+                    .thenReturn(java.util.Optional.of(List.of(
+                            new CatalogTagIndexService.TagMatch(first.getId(), 3.0, 1.5, 0.0))));
+            when(videoGameRepository.findAllByIdInWithRelationships(List.of(first.getId())))
+                    .thenReturn(List.of(first));
+
+            service.getRecommendationsFor(USER_EMAIL, 10);
+            recommendationCache.invalidateAll();
+            service.getRecommendationsFor(USER_EMAIL, 10);
+
+            verify(rateRepository, times(2)).findAllByUserId(userId);
+            verify(videoGameRepository, times(1)).findInteractedGameIds(userId);
+
+            service.evictRecommendations(userId);
+            service.getRecommendationsFor(USER_EMAIL, 10);
+
+            verify(videoGameRepository, times(2)).findInteractedGameIds(userId);
+        }
+
         @Test
         @DisplayName("empty candidate pool falls back to trending")
         void emptyCandidatePoolFallsBackToTrending() {
@@ -0,0 +1,188 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.entities.Company;
+import com.checkpoint.api.entities.Genre;
+import com.checkpoint.api.entities.Platform;
+import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.repositories.VideoGameRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameSimilarityIndexServiceImplTest {
+
+    private static final LocalDate OLD_RELEASE = LocalDate.of(2015, 1, 1);
+
+    @Mock private VideoGameRepository videoGameRepository;
+
+    private GameSimilarityIndexServiceImpl index;
+
+    private UUID rpg;
+    private UUID action;
+    private UUID studio;
+    private UUID pc;
+
+    private final List<Object[]> profiles = new ArrayList<>();
+    private final List<Object[]> genreLinks = new ArrayList<>();
+    private final List<Object[]> platformLinks = new ArrayList<>();
+    private final List<Object[]> companyLinks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-06-01T00:00:00Z"), ZoneOffset.UTC);
+        index = new GameSimilarityIndexServiceImpl(new CatalogGameLoader(videoGameRepository), clock);
+
+        rpg = UUID.randomUUID();
+        action = UUID.randomUUID();
+        studio = UUID.randomUUID();
+        pc = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("lookups are empty until the index has been built")
+    void emptyBeforeFirstBuild() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.findNeighbourIds(UUID.randomUUID(), 12)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rebuild ranks neighbours by tag overlap and skips DLC and unrelated games")
+    void rebuildRanksByOverlap() {
+        UUID seed = catalogGame("Seed", null, List.of(rpg, action), List.of(pc), List.of(studio));
+        UUID strong = catalogGame("Strong", null, List.of(rpg, action), List.of(pc), List.of(studio));
+        UUID weak = catalogGame("Weak", null, List.of(rpg), List.of(), List.of());
+        UUID dlc = catalogGame("Dlc", strong, List.of(rpg, action), List.of(pc), List.of(studio));
+        catalogGame("Unrelated", null, List.of(UUID.randomUUID()), List.of(pc), List.of());
+        stubCatalog();
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.findNeighbourIds(seed, 12)).contains(List.of(strong, weak));
+        // A DLC is still a valid seed, it just never shows up as a neighbour.
+        assertThat(index.findNeighbourIds(dlc, 12)).contains(List.of(seed, strong, weak));
+        assertThat(index.findNeighbourIds(seed, 1)).contains(List.of(strong));
+    }
+
+    @Test
+    @DisplayName("equal scores are ordered by title")
+    void tiesBrokenByTitle() {
+        UUID seed = catalogGame("Seed", null, List.of(rpg), List.of(), List.of());
+        UUID zelda = catalogGame("Zelda", null, List.of(rpg), List.of(), List.of());
+        UUID alpha = catalogGame("Alpha", null, List.of(rpg), List.of(), List.of());
+        stubCatalog();
+
+        index.rebuild();
+
+        assertThat(index.findNeighbourIds(seed, 12)).contains(List.of(alpha, zelda));
+    }
+
+    @Test
+    @DisplayName("refreshGame inserts a new game into the lists of the games it resembles")
+    void refreshAddsNewGameToNeighbourLists() {
+        UUID seed = catalogGame("Seed", null, List.of(rpg, action), List.of(), List.of());
+        UUID weak = catalogGame("Weak", null, List.of(rpg), List.of(), List.of());
+        stubCatalog();
+        index.rebuild();
+
+        VideoGame imported = entity("Imported", List.of(rpg, action), List.of(), List.of());
+        when(videoGameRepository.findByIdWithRelationships(imported.getId())).thenReturn(Optional.of(imported));
+
+        index.refreshGame(imported.getId());
+
+        assertThat(index.findNeighbourIds(seed, 12)).contains(List.of(imported.getId(), weak));
+        assertThat(index.findNeighbourIds(imported.getId(), 12)).contains(List.of(seed, weak));
+    }
+
+    @Test
+    @DisplayName("refreshGame drops a game from lists it no longer qualifies for after a tag edit")
+    void refreshRemovesGameThatLostSharedTags() {
+        UUID seed = catalogGame("Seed", null, List.of(rpg), List.of(), List.of());
+        UUID edited = catalogGame("Edited", null, List.of(rpg), List.of(), List.of());
+        stubCatalog();
+        index.rebuild();
+        assertThat(index.findNeighbourIds(seed, 12)).contains(List.of(edited));
+
+        VideoGame retagged = entity("Edited", List.of(action), List.of(), List.of());
+        retagged.setId(edited);
+        when(videoGameRepository.findByIdWithRelationships(edited)).thenReturn(Optional.of(retagged));
+
+        index.refreshGame(edited);
+
+        assertThat(index.findNeighbourIds(seed, 12)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("removeGame drops a deleted game from every neighbour list")
+    void removeGameDropsFromNeighbourLists() {
+        UUID seed = catalogGame("Seed", null, List.of(rpg), List.of(), List.of());
+        UUID deleted = catalogGame("Deleted", null, List.of(rpg), List.of(), List.of());
+        UUID kept = catalogGame("Kept", null, List.of(rpg), List.of(), List.of());
+        stubCatalog();
+        index.rebuild();
+
+        index.removeGame(deleted);
+
+        assertThat(index.findNeighbourIds(seed, 12)).contains(List.of(kept));
+        assertThat(index.findNeighbourIds(deleted, 12)).isEmpty();
+    }
+
+    // ----- helpers -----
+
+    private UUID catalogGame(String title, UUID parentId, List<UUID> genres, List<UUID> platforms, List<UUID> companies) {
+        UUID id = UUID.randomUUID();
+        profiles.add(new Object[] {id, title, 0.0, OLD_RELEASE, parentId});
+        genres.forEach(tag -> genreLinks.add(new Object[] {id, tag}));
+        platforms.forEach(tag -> platformLinks.add(new Object[] {id, tag}));
+        companies.forEach(tag -> companyLinks.add(new Object[] {id, tag}));
+        return id;
+    }
+
+    private void stubCatalog() {
+        when(videoGameRepository.findSimilarityProfiles()).thenReturn(profiles);
+        when(videoGameRepository.findAllGenreLinks()).thenReturn(genreLinks);
+        when(videoGameRepository.findAllPlatformLinks()).thenReturn(platformLinks);
+        when(videoGameRepository.findAllCompanyLinks()).thenReturn(companyLinks);
+    }
+
+    private static VideoGame entity(String title, List<UUID> genres, List<UUID> platforms, List<UUID> companies) {
+        VideoGame game = new VideoGame();
+        game.setId(UUID.randomUUID());
+        game.setTitle(title);
+        game.setReleaseDate(OLD_RELEASE);
+        game.setGenres(new HashSet<>(genres.stream().map(id -> {
+            Genre genre = new Genre("g");
+            genre.setId(id);
+            return genre;
+        }).toList()));
+        game.setPlatforms(new HashSet<>(platforms.stream().map(id -> {
+            Platform platform = new Platform();
+            platform.setId(id);
+            return platform;
+        }).toList()));
+        game.setCompanies(new HashSet<>(companies.stream().map(id -> {
+            Company company = new Company("c");
+            company.setId(id);
+            return company;
+        }).toList()));
+        return game;
+    }
+}
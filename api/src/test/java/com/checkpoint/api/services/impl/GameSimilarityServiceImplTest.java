@@ -29,11 +29,13 @@ import com.checkpoint.api.entities.Platform;
 import com.checkpoint.api.entities.VideoGame;
 import com.checkpoint.api.exceptions.GameNotFoundException;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.GameSimilarityIndexService;
 
 @ExtendWith(MockitoExtension.class)
 class GameSimilarityServiceImplTest {
 
     @Mock private VideoGameRepository videoGameRepository;
+    @Mock private GameSimilarityIndexService similarityIndex;
 
     private GameSimilarityServiceImpl service;
 
@@ -45,7 +47,7 @@ class GameSimilarityServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        service = new GameSimilarityServiceImpl(videoGameRepository);
+        service = new GameSimilarityServiceImpl(videoGameRepository, similarityIndex);
 
         rpgGenre = newGenre("RPG");
         actionGenre = newGenre("Action");
@@ -54,6 +56,23 @@ class GameSimilarityServiceImplTest {
         pcPlatform = newPlatform("PC");
     }
 
+    @Test
+    @DisplayName("indexed neighbours are served from a single card query without live scoring")
+    void servesIndexedNeighbours() {
+        UUID seedId = UUID.randomUUID();
+        VideoGame first = newGame("First", List.of(rpgGenre), List.of(), List.of());
+        VideoGame second = newGame("Second", List.of(rpgGenre), List.of(), List.of());
+        List<UUID> neighbours = List.of(first.getId(), second.getId());
+        when(similarityIndex.findNeighbourIds(seedId, 12)).thenReturn(Optional.of(neighbours));
+        when(videoGameRepository.findGameCardsByIdIn(neighbours)).thenReturn(List.of(card(second), card(first)));
+
+        List<GameCardDto> result = service.getSimilarGames(seedId, 12);
+
+        assertThat(result).extracting(GameCardDto::id).containsExactly(first.getId(), second.getId());
+        verify(videoGameRepository, never()).findByIdWithRelationships(any());
+        verify(videoGameRepository, never()).findAllByIdInWithRelationships(any());
+    }
+
     @Test
     @DisplayName("unknown seed game throws GameNotFoundException")
     void unknownGameThrows() {
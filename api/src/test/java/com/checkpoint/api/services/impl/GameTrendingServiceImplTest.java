@@ -1,14 +1,11 @@
 package com.checkpoint.api.services.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,7 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.checkpoint.api.dto.catalog.GameCardDto;
-import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.repositories.TrendingGameRepository;
 
 /**
  * Unit tests for {@link GameTrendingServiceImpl}.
@@ -29,98 +26,55 @@ import com.checkpoint.api.repositories.VideoGameRepository;
 class GameTrendingServiceImplTest {
 
     @Mock
-    private VideoGameRepository videoGameRepository;
+    private TrendingGameRepository trendingGameRepository;
 
     private GameTrendingServiceImpl gameTrendingService;
 
     @BeforeEach
     void setUp() {
-        gameTrendingService = new GameTrendingServiceImpl(videoGameRepository);
+        gameTrendingService = new GameTrendingServiceImpl(trendingGameRepository);
     }
 
     @Test
-    @DisplayName("getTrendingGames should return mapped game cards from repository results")
-    void getTrendingGames_shouldReturnMappedGameCards() {
+    @DisplayName("getTrendingGames should return the snapshot cards from the repository")
+    void getTrendingGames_shouldReturnSnapshotCards() {
         // Given
         UUID gameId = UUID.randomUUID();
-        Object[] row = new Object[]{
-                gameId,
-                "Elden Ring",
-                "cover.jpg",
-                java.sql.Date.valueOf(LocalDate.of(2022, 2, 25)),
-                4.9,
-                2000L
-        };
-        List<Object[]> rows = new ArrayList<>();
-        rows.add(row);
-        when(videoGameRepository.findTrendingGames(argThat(since ->
-                since.isAfter(LocalDateTime.now().minusDays(8))
-                        && since.isBefore(LocalDateTime.now().minusDays(6))),
-                anyInt()))
-                .thenReturn(rows);
+        GameCardDto card = new GameCardDto(gameId, "Elden Ring", "cover.jpg",
+                LocalDate.of(2022, 2, 25), 4.9, 2000L);
+        when(trendingGameRepository.findSnapshotCards(argThat(page -> page.getPageSize() == 7)))
+                .thenReturn(List.of(card));
 
         // When
         List<GameCardDto> results = gameTrendingService.getTrendingGames(7);
 
         // Then
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0).id()).isEqualTo(gameId);
-        assertThat(results.get(0).title()).isEqualTo("Elden Ring");
-        assertThat(results.get(0).coverUrl()).isEqualTo("cover.jpg");
-        assertThat(results.get(0).releaseDate()).isEqualTo(LocalDate.of(2022, 2, 25));
-        assertThat(results.get(0).averageRating()).isEqualTo(4.9);
-        assertThat(results.get(0).ratingCount()).isEqualTo(2000L);
-    }
-
-    @Test
-    @DisplayName("getTrendingGames should use a 7-day window for trending calculation")
-    void getTrendingGames_shouldUseSevenDayWindow() {
-        // Given
-        when(videoGameRepository.findTrendingGames(argThat(since ->
-                since.isAfter(LocalDateTime.now().minusDays(8))
-                        && since.isBefore(LocalDateTime.now().minusDays(6))),
-                anyInt()))
-                .thenReturn(List.of());
-
-        // When
-        gameTrendingService.getTrendingGames(7);
-
-        // Then
-        verify(videoGameRepository).findTrendingGames(
-                argThat(since -> since.isAfter(LocalDateTime.now().minusDays(8))
-                        && since.isBefore(LocalDateTime.now().minusDays(6))),
-                anyInt());
+        assertThat(results).containsExactly(card);
     }
 
     @Test
     @DisplayName("getTrendingGames should cap size to maximum 20")
     void getTrendingGames_shouldCapSizeToMaximum() {
         // Given
-        when(videoGameRepository.findTrendingGames(argThat(since ->
-                since.isAfter(LocalDateTime.now().minusDays(8))),
-                anyInt()))
+        when(trendingGameRepository.findSnapshotCards(argThat(page -> page.getPageSize() == 20)))
                 .thenReturn(List.of());
 
         // When
         gameTrendingService.getTrendingGames(50);
 
         // Then
-        verify(videoGameRepository).findTrendingGames(
-                argThat(since -> since.isAfter(LocalDateTime.now().minusDays(8))),
-                org.mockito.ArgumentMatchers.eq(20));
+        verify(trendingGameRepository).findSnapshotCards(argThat(page -> page.getPageSize() == 20));
     }
 
     @Test
-    @DisplayName("getTrendingGames should return empty list when no games found")
-    void getTrendingGames_shouldReturnEmptyListWhenNoGames() {
+    @DisplayName("getTrendingGames should request at least one game")
+    void getTrendingGames_shouldRequestAtLeastOne() {
         // Given
-        when(videoGameRepository.findTrendingGames(argThat(since ->
-                since.isAfter(LocalDateTime.now().minusDays(8))),
-                anyInt()))
+        when(trendingGameRepository.findSnapshotCards(argThat(page -> page.getPageSize() == 1)))
                 .thenReturn(List.of());
 
         // When
-        List<GameCardDto> results = gameTrendingService.getTrendingGames(7);
+        List<GameCardDto> results = gameTrendingService.getTrendingGames(0);
 
         // Then
         assertThat(results).isEmpty();
@@ -3,10 +3,13 @@ package com.checkpoint.api.services.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,15 +22,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
-import com.checkpoint.api.entities.User;
-import com.checkpoint.api.entities.XpGrant;
 import com.checkpoint.api.enums.XpEventType;
+import com.checkpoint.api.events.LeaderboardStandingChangedEvent;
 import com.checkpoint.api.events.UserLeveledUpEvent;
-import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.XpGrantRepository;
+import com.checkpoint.api.repositories.XpGrantRepositoryCustom.XpAward;
+import com.checkpoint.api.repositories.XpGrantRepositoryCustom.XpCredit;
 
 /**
  * Unit tests for {@link GamificationServiceImpl}.
@@ -35,9 +37,6 @@ import com.checkpoint.api.repositories.XpGrantRepository;
 @ExtendWith(MockitoExtension.class)
 class GamificationServiceImplTest {
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private XpGrantRepository xpGrantRepository;
 
@@ -46,18 +45,13 @@ class GamificationServiceImplTest {
 
     private GamificationServiceImpl gamificationService;
 
-    private User testUser;
     private UUID userId;
 
     @BeforeEach
     void setUp() {
-        gamificationService = new GamificationServiceImpl(userRepository, xpGrantRepository, eventPublisher);
+        gamificationService = new GamificationServiceImpl(xpGrantRepository, eventPublisher);
 
         userId = UUID.randomUUID();
-        testUser = new User();
-        testUser.setId(userId);
-        testUser.setXpPoint(0);
-        testUser.setLevel(1);
     }
 
     @Nested
@@ -65,114 +59,49 @@ class GamificationServiceImplTest {
     class AddXp {
 
         @Test
-        @DisplayName("Should add XP to user without leveling up")
-        void addXp_shouldAddXpWithoutLevelUp() {
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        @DisplayName("Should credit XP atomically without publishing when no level-up occurs")
+        void addXp_shouldCreditWithoutLevelUp() {
+            when(xpGrantRepository.credit(userId, 50)).thenReturn(Optional.of(new XpCredit(userId, 1, 1, 150)));
 
             gamificationService.addXp(userId, 50);
 
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository).save(userCaptor.capture());
-            User savedUser = userCaptor.getValue();
-            assertThat(savedUser.getXpPoint()).isEqualTo(50);
-            assertThat(savedUser.getLevel()).isEqualTo(1);
+            verify(xpGrantRepository).credit(userId, 50);
+            verify(eventPublisher, never()).publishEvent(any(UserLeveledUpEvent.class));
         }
 
         @Test
-        @DisplayName("Should level up when XP reaches threshold")
-        void addXp_shouldLevelUpWhenThresholdReached() {
-            testUser.setXpPoint(950);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-
-            gamificationService.addXp(userId, 50);
-
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository).save(userCaptor.capture());
-            User savedUser = userCaptor.getValue();
-            assertThat(savedUser.getXpPoint()).isEqualTo(1000);
-            assertThat(savedUser.getLevel()).isEqualTo(2);
-        }
-
-        @Test
-        @DisplayName("Should handle multiple level ups at once")
-        void addXp_shouldHandleMultipleLevelUps() {
-            testUser.setXpPoint(900);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        @DisplayName("Should publish UserLeveledUpEvent with the new level when leveling up")
+        void addXp_shouldPublishLevelUpEvent() {
+            when(xpGrantRepository.credit(userId, 2100)).thenReturn(Optional.of(new XpCredit(userId, 1, 4, 3000)));
 
             gamificationService.addXp(userId, 2100);
 
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository).save(userCaptor.capture());
-            User savedUser = userCaptor.getValue();
-            assertThat(savedUser.getXpPoint()).isEqualTo(3000);
-            assertThat(savedUser.getLevel()).isEqualTo(4);
+            UserLeveledUpEvent event = singlePublished(UserLeveledUpEvent.class);
+            assertThat(event.getUserId()).isEqualTo(userId);
+            assertThat(event.getNewLevel()).isEqualTo(4);
         }
 
         @Test
-        @DisplayName("Should not level up when XP is below threshold")
-        void addXp_shouldNotLevelUpBelowThreshold() {
-            testUser.setXpPoint(800);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-
-            gamificationService.addXp(userId, 100);
-
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository).save(userCaptor.capture());
-            User savedUser = userCaptor.getValue();
-            assertThat(savedUser.getXpPoint()).isEqualTo(900);
-            assertThat(savedUser.getLevel()).isEqualTo(1);
-        }
+        @DisplayName("Should report the new totals to the leaderboard")
+        void addXp_shouldPublishLeaderboardUpdate() {
+            when(xpGrantRepository.credit(userId, 50)).thenReturn(Optional.of(new XpCredit(userId, 1, 1, 150)));
 
-        @Test
-        @DisplayName("Should level up correctly at higher levels")
-        void addXp_shouldLevelUpCorrectlyAtHigherLevels() {
-            testUser.setXpPoint(1900);
-            testUser.setLevel(2);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-
-            gamificationService.addXp(userId, 100);
-
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository).save(userCaptor.capture());
-            User savedUser = userCaptor.getValue();
-            assertThat(savedUser.getXpPoint()).isEqualTo(2000);
-            assertThat(savedUser.getLevel()).isEqualTo(3);
+            gamificationService.addXp(userId, 50);
+
+            LeaderboardStandingChangedEvent event = singlePublished(LeaderboardStandingChangedEvent.class);
+            assertThat(event.getUserId()).isEqualTo(userId);
+            assertThat(event.getXpPoint()).isEqualTo(150);
+            assertThat(event.getLevel()).isEqualTo(1);
         }
 
         @Test
         @DisplayName("Should throw when user not found")
         void addXp_shouldThrowWhenUserNotFound() {
-            when(userRepository.findById(userId)).thenReturn(Optional.empty());
+            when(xpGrantRepository.credit(userId, 50)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> gamificationService.addXp(userId, 50))
                     .isInstanceOf(UsernameNotFoundException.class);
         }
-
-        @Test
-        @DisplayName("Should publish UserLeveledUpEvent with the new level when leveling up")
-        void addXp_shouldPublishLevelUpEvent() {
-            testUser.setXpPoint(950);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-
-            gamificationService.addXp(userId, 50);
-
-            ArgumentCaptor<UserLeveledUpEvent> eventCaptor =
-                    ArgumentCaptor.forClass(UserLeveledUpEvent.class);
-            verify(eventPublisher).publishEvent(eventCaptor.capture());
-            assertThat(eventCaptor.getValue().getUserId()).isEqualTo(userId);
-            assertThat(eventCaptor.getValue().getNewLevel()).isEqualTo(2);
-        }
-
-        @Test
-        @DisplayName("Should not publish UserLeveledUpEvent when no level-up occurs")
-        void addXp_shouldNotPublishWhenNoLevelUp() {
-            testUser.setXpPoint(100);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-
-            gamificationService.addXp(userId, 50);
-
-            verify(eventPublisher, never()).publishEvent(any());
-        }
     }
 
     @Nested
@@ -180,53 +109,75 @@ class GamificationServiceImplTest {
     class AwardXp {
 
         @Test
-        @DisplayName("Should insert audit row and award XP on first grant")
-        void awardXp_shouldInsertAndAwardOnFirstGrant() {
+        @DisplayName("Should record the grant through the ledger in a single call")
+        void awardXp_shouldGrantThroughLedger() {
             UUID targetId = UUID.randomUUID();
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            XpAward award = new XpAward(userId, 10, XpEventType.USER_FOLLOWED, targetId);
+            when(xpGrantRepository.grantAll(List.of(award))).thenReturn(List.of(new XpCredit(userId, 1, 1, 10)));
 
             gamificationService.awardXp(userId, 10, XpEventType.USER_FOLLOWED, targetId);
 
-            ArgumentCaptor<XpGrant> grantCaptor = ArgumentCaptor.forClass(XpGrant.class);
-            verify(xpGrantRepository).saveAndFlush(grantCaptor.capture());
-            XpGrant savedGrant = grantCaptor.getValue();
-            assertThat(savedGrant.getUser()).isSameAs(testUser);
-            assertThat(savedGrant.getEventType()).isEqualTo(XpEventType.USER_FOLLOWED);
-            assertThat(savedGrant.getTargetId()).isEqualTo(targetId);
-            assertThat(savedGrant.getXpAmount()).isEqualTo(10);
-
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository).save(userCaptor.capture());
-            assertThat(userCaptor.getValue().getXpPoint()).isEqualTo(10);
+            verify(xpGrantRepository).grantAll(List.of(award));
+            verify(eventPublisher, never()).publishEvent(any(UserLeveledUpEvent.class));
         }
 
         @Test
-        @DisplayName("Should skip XP update when the audit insert violates the unique key")
+        @DisplayName("Should skip silently when the grant was already recorded")
         void awardXp_shouldSkipOnDuplicate() {
-            UUID targetId = UUID.randomUUID();
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-            when(xpGrantRepository.saveAndFlush(any(XpGrant.class)))
-                    .thenThrow(new DataIntegrityViolationException("uk_xp_grants_user_event_target"));
+            when(xpGrantRepository.grantAll(anyList())).thenReturn(List.of());
 
-            gamificationService.awardXp(userId, 10, XpEventType.USER_FOLLOWED, targetId);
+            gamificationService.awardXp(userId, 10, XpEventType.USER_FOLLOWED, UUID.randomUUID());
 
-            verify(userRepository, never()).save(any(User.class));
             verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
         @DisplayName("Should publish UserLeveledUpEvent when the awarded XP crosses a threshold")
         void awardXp_shouldPublishLevelUpEvent() {
-            testUser.setXpPoint(995);
-            UUID targetId = UUID.randomUUID();
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(xpGrantRepository.grantAll(anyList())).thenReturn(List.of(new XpCredit(userId, 1, 2, 1005)));
+
+            gamificationService.awardXp(userId, 10, XpEventType.GAME_RATED, UUID.randomUUID());
+
+            UserLeveledUpEvent event = singlePublished(UserLeveledUpEvent.class);
+            assertThat(event.getNewLevel()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should apply a batch in one call and publish one event per user leveling up")
+        void awardXp_batch_shouldPublishPerLeveledUser() {
+            UUID otherUserId = UUID.randomUUID();
+            List<XpAward> awards = List.of(
+                    new XpAward(userId, 70, XpEventType.STREAK_DAILY, null),
+                    new XpAward(userId, 100, XpEventType.STREAK_WEEKLY_MILESTONE, null),
+                    new XpAward(otherUserId, 10, XpEventType.USER_GAINED_FOLLOWER, userId));
+            when(xpGrantRepository.grantAll(awards)).thenReturn(List.of(
+                    new XpCredit(userId, 1, 2, 1020),
+                    new XpCredit(otherUserId, 3, 3, 2500)));
+
+            gamificationService.awardXp(awards);
+
+            UserLeveledUpEvent event = singlePublished(UserLeveledUpEvent.class);
+            assertThat(event.getUserId()).isEqualTo(userId);
+            assertThat(event.getNewLevel()).isEqualTo(2);
+        }
 
-            gamificationService.awardXp(userId, 10, XpEventType.GAME_RATED, targetId);
+        @Test
+        @DisplayName("Should not touch the database for an empty batch")
+        void awardXp_emptyBatch_shouldNoOp() {
+            gamificationService.awardXp(List.of());
 
-            ArgumentCaptor<UserLeveledUpEvent> eventCaptor =
-                    ArgumentCaptor.forClass(UserLeveledUpEvent.class);
-            verify(eventPublisher).publishEvent(eventCaptor.capture());
-            assertThat(eventCaptor.getValue().getNewLevel()).isEqualTo(2);
+            verify(xpGrantRepository, never()).grantAll(anyList());
         }
     }
+
+    private <T> T singlePublished(Class<T> type) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        List<T> events = captor.getAllValues().stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .toList();
+        assertThat(events).hasSize(1);
+        return events.get(0);
+    }
 }
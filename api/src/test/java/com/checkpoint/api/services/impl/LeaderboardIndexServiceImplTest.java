@@ -0,0 +1,141 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.LeaderboardIndexService.Neighbourhood;
+import com.checkpoint.api.services.LeaderboardIndexService.Standing;
+import com.checkpoint.api.services.LeaderboardSortBy;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardIndexServiceImplTest {
+
+    @Mock private UserRepository userRepository;
+
+    private LeaderboardIndexServiceImpl index;
+
+    private final List<Object[]> standings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        index = new LeaderboardIndexServiceImpl(userRepository);
+    }
+
+    @Test
+    @DisplayName("queries return empty until the index has been built")
+    void emptyBeforeFirstBuild() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.top(LeaderboardSortBy.XP, 10)).isEmpty();
+        assertThat(index.around(UUID.randomUUID(), LeaderboardSortBy.XP, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ranks by XP, and by level then XP")
+    void ranksBothOrders() {
+        UUID grinder = user(9000, 3);
+        UUID veteran = user(5000, 6);
+        UUID rookie = user(100, 1);
+        build();
+
+        assertThat(index.top(LeaderboardSortBy.XP, 10).orElseThrow())
+                .extracting(Standing::userId).containsExactly(grinder, veteran, rookie);
+        assertThat(index.top(LeaderboardSortBy.LEVEL, 2).orElseThrow())
+                .extracting(Standing::userId).containsExactly(veteran, grinder);
+    }
+
+    @Test
+    @DisplayName("returns the users around a rank, clipped at the top")
+    void neighbourhood() {
+        List<UUID> users = new ArrayList<>();
+        for (int xp = 1000; xp > 0; xp -= 100) {
+            users.add(user(xp, 1));
+        }
+        build();
+
+        Neighbourhood middle = index.around(users.get(4), LeaderboardSortBy.XP, 2).orElseThrow();
+        assertThat(middle.rank()).isEqualTo(5);
+        assertThat(middle.total()).isEqualTo(10);
+        assertThat(middle.firstRank()).isEqualTo(3);
+        assertThat(middle.standings()).extracting(Standing::userId).containsExactlyElementsOf(users.subList(2, 7));
+
+        Neighbourhood top = index.around(users.get(0), LeaderboardSortBy.XP, 2).orElseThrow();
+        assertThat(top.firstRank()).isEqualTo(1);
+        assertThat(top.standings()).extracting(Standing::userId).containsExactlyElementsOf(users.subList(0, 3));
+    }
+
+    @Test
+    @DisplayName("a credit moves the user and a stale, lower credit is ignored")
+    void updateScore() {
+        UUID leader = user(5000, 6);
+        UUID climber = user(1000, 2);
+        build();
+
+        index.updateScore(climber, 6000, 7);
+        index.updateScore(climber, 1500, 2);
+
+        assertThat(index.top(LeaderboardSortBy.XP, 1).orElseThrow())
+                .containsExactly(new Standing(climber, 6000, 7));
+        assertThat(index.around(leader, LeaderboardSortBy.XP, 0).orElseThrow().rank()).isEqualTo(2);
+        verify(userRepository, never()).findLeaderboardStanding(climber);
+    }
+
+    @Test
+    @DisplayName("a credit for an unindexed user reads them back from the database")
+    void updateScore_unknownUser_refreshes() {
+        build();
+        UUID newcomer = UUID.randomUUID();
+        when(userRepository.findLeaderboardStanding(newcomer))
+                .thenReturn(List.<Object[]>of(new Object[] {newcomer, 50, 1, false}));
+
+        index.updateScore(newcomer, 50, 1);
+
+        assertThat(index.top(LeaderboardSortBy.XP, 10).orElseThrow())
+                .containsExactly(new Standing(newcomer, 50, 1));
+    }
+
+    @Test
+    @DisplayName("refreshing a banned or deleted user drops them from both rankings")
+    void refreshUser_dropsBannedAndDeleted() {
+        UUID banned = user(5000, 6);
+        UUID deleted = user(4000, 5);
+        UUID kept = user(3000, 4);
+        build();
+        when(userRepository.findLeaderboardStanding(banned))
+                .thenReturn(List.<Object[]>of(new Object[] {banned, 5000, 6, true}));
+        when(userRepository.findLeaderboardStanding(deleted)).thenReturn(List.of());
+
+        index.refreshUser(banned);
+        index.refreshUser(deleted);
+
+        assertThat(index.top(LeaderboardSortBy.XP, 10).orElseThrow())
+                .extracting(Standing::userId).containsExactly(kept);
+        assertThat(index.top(LeaderboardSortBy.LEVEL, 10).orElseThrow())
+                .extracting(Standing::userId).containsExactly(kept);
+        assertThat(index.around(banned, LeaderboardSortBy.XP, 5)).isEmpty();
+    }
+
+    private UUID user(int xpPoint, int level) {
+        UUID id = UUID.randomUUID();
+        standings.add(new Object[] {id, xpPoint, level});
+        return id;
+    }
+
+    private void build() {
+        when(userRepository.findLeaderboardStandings()).thenReturn(standings);
+        index.rebuild();
+    }
+}
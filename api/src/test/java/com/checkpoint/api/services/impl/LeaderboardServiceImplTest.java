@@ -23,8 +23,13 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import com.checkpoint.api.dto.leaderboard.LeaderboardEntryDto;
+import com.checkpoint.api.dto.leaderboard.LeaderboardPositionDto;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.FollowGraphService;
+import com.checkpoint.api.services.LeaderboardIndexService;
+import com.checkpoint.api.services.LeaderboardIndexService.Neighbourhood;
+import com.checkpoint.api.services.LeaderboardIndexService.Standing;
 import com.checkpoint.api.services.LeaderboardSortBy;
 
 /**
@@ -36,6 +41,12 @@ class LeaderboardServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private LeaderboardIndexService leaderboardIndex;
+
+    @Mock
+    private FollowGraphService followGraph;
+
     private LeaderboardServiceImpl service;
 
     private User user(String pseudo, int level, int xp) {
@@ -47,9 +58,13 @@ class LeaderboardServiceImplTest {
         return u;
     }
 
+    private Standing standing(User u) {
+        return new Standing(u.getId(), u.getXpPoint(), u.getLevel());
+    }
+
     @org.junit.jupiter.api.BeforeEach
     void setUp() {
-        service = new LeaderboardServiceImpl(userRepository);
+        service = new LeaderboardServiceImpl(userRepository, leaderboardIndex, followGraph);
     }
 
     @Test
@@ -158,4 +173,118 @@ class LeaderboardServiceImplTest {
                 service.getFollowingLeaderboard("ghost@example.com", LeaderboardSortBy.XP, 10))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("uses the index when it is built and only loads the returned users")
+    void indexReady_servesTopFromIndex() {
+        User alpha = user("alpha", 5, 9000);
+        User bravo = user("bravo", 4, 7000);
+        when(leaderboardIndex.top(LeaderboardSortBy.XP, 2))
+                .thenReturn(Optional.of(List.of(standing(alpha), standing(bravo))));
+        when(userRepository.findAllById(List.of(alpha.getId(), bravo.getId())))
+                .thenReturn(List.of(bravo, alpha));
+
+        List<LeaderboardEntryDto> result = service.getLeaderboard(LeaderboardSortBy.XP, 2);
+
+        assertThat(result).extracting(LeaderboardEntryDto::pseudo).containsExactly("alpha", "bravo");
+        assertThat(result).extracting(LeaderboardEntryDto::rank).containsExactly(1, 2);
+        verify(userRepository, never()).findLeaderboardByXp(any());
+    }
+
+    @Test
+    @DisplayName("following leaderboard ranks the indexed standings of followed users")
+    void indexReady_followingSortsStandings() {
+        User viewer = user("viewer", 1, 0);
+        User alpha = user("alpha", 5, 9000);
+        User bravo = user("bravo", 4, 7000);
+        when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
+        when(followGraph.getFollowingIds(viewer.getId()))
+                .thenReturn(List.of(bravo.getId(), alpha.getId()));
+        when(leaderboardIndex.standingsOf(List.of(bravo.getId(), alpha.getId())))
+                .thenReturn(Optional.of(List.of(standing(bravo), standing(alpha))));
+        when(userRepository.findAllById(List.of(alpha.getId(), bravo.getId())))
+                .thenReturn(List.of(alpha, bravo));
+
+        List<LeaderboardEntryDto> result =
+                service.getFollowingLeaderboard("viewer@example.com", LeaderboardSortBy.XP, 10);
+
+        assertThat(result).extracting(LeaderboardEntryDto::pseudo).containsExactly("alpha", "bravo");
+        verify(userRepository, never()).findFollowingLeaderboardByXp(any(), any());
+    }
+
+    @Test
+    @DisplayName("my position returns the viewer's rank and neighbours from the index")
+    void myPosition_fromIndex() {
+        User above = user("above", 6, 5200);
+        User viewer = user("viewer", 6, 5100);
+        User below = user("below", 5, 4900);
+        when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
+        when(leaderboardIndex.isReady()).thenReturn(true);
+        when(leaderboardIndex.around(viewer.getId(), LeaderboardSortBy.XP, 1))
+                .thenReturn(Optional.of(new Neighbourhood(42, 1000, 41,
+                        List.of(standing(above), standing(viewer), standing(below)))));
+        when(userRepository.findAllById(List.of(above.getId(), viewer.getId(), below.getId())))
+                .thenReturn(List.of(above, viewer, below));
+
+        LeaderboardPositionDto result =
+                service.getMyPosition("viewer@example.com", LeaderboardSortBy.XP, 1, false);
+
+        assertThat(result.rank()).isEqualTo(42);
+        assertThat(result.total()).isEqualTo(1000);
+        assertThat(result.entries()).extracting(LeaderboardEntryDto::rank).containsExactly(41, 42, 43);
+    }
+
+    @Test
+    @DisplayName("my position indexes a viewer missing from the index before giving up")
+    void myPosition_unindexedViewer_refreshesOnce() {
+        User viewer = user("viewer", 1, 0);
+        when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
+        when(leaderboardIndex.isReady()).thenReturn(true);
+        when(leaderboardIndex.around(viewer.getId(), LeaderboardSortBy.XP, 5))
+                .thenReturn(Optional.empty(), Optional.of(new Neighbourhood(7, 7, 2, List.of())));
+
+        LeaderboardPositionDto result =
+                service.getMyPosition("viewer@example.com", LeaderboardSortBy.XP, 5, false);
+
+        verify(leaderboardIndex).refreshUser(viewer.getId());
+        assertThat(result.rank()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("my position counts users ranked above while the index is being built")
+    void myPosition_indexNotReady_countsAbove() {
+        User viewer = user("viewer", 3, 2500);
+        when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
+        when(userRepository.countRankedAboveByLevel(3, 2500)).thenReturn(9L);
+
+        LeaderboardPositionDto result =
+                service.getMyPosition("viewer@example.com", LeaderboardSortBy.LEVEL, 5, false);
+
+        assertThat(result.rank()).isEqualTo(10);
+        assertThat(result.total()).isNull();
+        assertThat(result.entries()).extracting(LeaderboardEntryDto::pseudo).containsExactly("viewer");
+    }
+
+    @Test
+    @DisplayName("following position ranks the viewer among the users they follow")
+    void myPosition_following_ranksAmongFollowed() {
+        User viewer = user("viewer", 4, 4000);
+        User alpha = user("alpha", 5, 9000);
+        User bravo = user("bravo", 2, 1500);
+        when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
+        when(followGraph.getFollowingIds(viewer.getId()))
+                .thenReturn(List.of(alpha.getId(), bravo.getId()));
+        when(leaderboardIndex.standingsOf(List.of(alpha.getId(), bravo.getId())))
+                .thenReturn(Optional.of(List.of(standing(alpha), standing(bravo))));
+        when(userRepository.findAllById(List.of(alpha.getId(), viewer.getId(), bravo.getId())))
+                .thenReturn(List.of(alpha, viewer, bravo));
+
+        LeaderboardPositionDto result =
+                service.getMyPosition("viewer@example.com", LeaderboardSortBy.XP, 5, true);
+
+        assertThat(result.rank()).isEqualTo(2);
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.entries()).extracting(LeaderboardEntryDto::pseudo)
+                .containsExactly("alpha", "viewer", "bravo");
+    }
 }
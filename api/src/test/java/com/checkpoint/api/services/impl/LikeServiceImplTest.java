@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,8 +39,12 @@ import com.checkpoint.api.entities.Like;
 import com.checkpoint.api.entities.Review;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.enums.FeedItemType;
 import com.checkpoint.api.enums.NotificationType;
+import com.checkpoint.api.events.FeedActivityEvent;
+import com.checkpoint.api.events.GameLikeToggledEvent;
 import com.checkpoint.api.events.NotificationEvent;
+import com.checkpoint.api.events.TrendingActivityRemovedEvent;
 import com.checkpoint.api.exceptions.CommentNotFoundException;
 import com.checkpoint.api.exceptions.GameListNotFoundException;
 import com.checkpoint.api.exceptions.GameNotFoundException;
@@ -51,6 +56,7 @@ import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.EngagementCounterService;
 
 /**
  * Unit tests for {@link LikeServiceImpl}.
@@ -85,6 +91,9 @@ class LikeServiceImplTest {
     @Mock
     private LikedGameMapper likedGameMapper;
 
+    @Mock
+    private EngagementCounterService engagementCounterService;
+
     private LikeServiceImpl likeService;
 
     private User user;
@@ -99,7 +108,7 @@ class LikeServiceImplTest {
         likeService = new LikeServiceImpl(
                 likeRepository, reviewRepository, gameListRepository,
                 commentRepository, userRepository, videoGameRepository,
-                eventPublisher, entityManager, likedGameMapper);
+                eventPublisher, entityManager, likedGameMapper, engagementCounterService);
 
         user = new User();
         user.setId(UUID.randomUUID());
@@ -143,8 +152,7 @@ class LikeServiceImplTest {
                     .thenReturn(Optional.of(review));
             when(likeRepository.findByUserIdAndReviewId(user.getId(), review.getId()))
                     .thenReturn(Optional.empty());
-            when(likeRepository.countByReviewId(review.getId()))
-                    .thenReturn(3L);
+            review.setLikesCount(3);
             when(likeRepository.save(any(Like.class))).thenAnswer(invocation -> {
                 Like like = invocation.getArgument(0);
                 like.setId(UUID.randomUUID());
@@ -158,6 +166,7 @@ class LikeServiceImplTest {
             assertThat(result.liked()).isTrue();
             assertThat(result.likesCount()).isEqualTo(4);
             verify(likeRepository).save(any(Like.class));
+            verify(engagementCounterService).likeAdded(any(Like.class));
 
             ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
             verify(eventPublisher).publishEvent(eventCaptor.capture());
@@ -181,8 +190,7 @@ class LikeServiceImplTest {
                     .thenReturn(Optional.of(review));
             when(likeRepository.findByUserIdAndReviewId(user.getId(), review.getId()))
                     .thenReturn(Optional.of(existingLike));
-            when(likeRepository.countByReviewId(review.getId()))
-                    .thenReturn(4L);
+            review.setLikesCount(4);
 
             // When
             LikeResponseDto result = likeService.toggleReviewLike("user@example.com", review.getId());
@@ -191,6 +199,7 @@ class LikeServiceImplTest {
             assertThat(result.liked()).isFalse();
             assertThat(result.likesCount()).isEqualTo(3);
             verify(likeRepository).delete(existingLike);
+            verify(engagementCounterService).likeRemoved(existingLike);
             verify(eventPublisher, never()).publishEvent(any(NotificationEvent.class));
         }
 
@@ -224,8 +233,8 @@ class LikeServiceImplTest {
                     .thenReturn(Optional.of(gameList));
             when(likeRepository.findByUserIdAndGameListId(user.getId(), gameList.getId()))
                     .thenReturn(Optional.empty());
-            when(likeRepository.countByGameListId(gameList.getId()))
-                    .thenReturn(7L);
+            // Counter value as reloaded by the refresh that follows the increment
+            gameList.setLikesCount(8);
 
             // When / Then
             try (MockedStatic<org.hibernate.search.mapper.orm.Search> searchStatic =
@@ -239,6 +248,7 @@ class LikeServiceImplTest {
                 assertThat(result.liked()).isTrue();
                 assertThat(result.likesCount()).isEqualTo(8);
                 verify(likeRepository).save(any(Like.class));
+                verify(engagementCounterService).likeAdded(any());
 
                 ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
                 verify(eventPublisher).publishEvent(eventCaptor.capture());
@@ -263,8 +273,7 @@ class LikeServiceImplTest {
                     .thenReturn(Optional.of(gameList));
             when(likeRepository.findByUserIdAndGameListId(user.getId(), gameList.getId()))
                     .thenReturn(Optional.of(existingLike));
-            when(likeRepository.countByGameListId(gameList.getId()))
-                    .thenReturn(8L);
+            gameList.setLikesCount(7);
 
             // When / Then
             try (MockedStatic<org.hibernate.search.mapper.orm.Search> searchStatic =
@@ -278,6 +287,7 @@ class LikeServiceImplTest {
                 assertThat(result.liked()).isFalse();
                 assertThat(result.likesCount()).isEqualTo(7);
                 verify(likeRepository).delete(existingLike);
+                verify(engagementCounterService).likeRemoved(existingLike);
                 verify(eventPublisher, never()).publishEvent(any(NotificationEvent.class));
             }
         }
@@ -315,8 +325,7 @@ class LikeServiceImplTest {
                     .thenReturn(Optional.of(comment));
             when(likeRepository.findByUserIdAndCommentId(user.getId(), comment.getId()))
                     .thenReturn(Optional.empty());
-            when(likeRepository.countByCommentId(comment.getId()))
-                    .thenReturn(2L);
+            comment.setLikesCount(2);
 
             // When
             LikeResponseDto result = likeService.toggleCommentLike("user@example.com", comment.getId());
@@ -341,8 +350,7 @@ class LikeServiceImplTest {
                     .thenReturn(Optional.of(comment));
             when(likeRepository.findByUserIdAndCommentId(user.getId(), comment.getId()))
                     .thenReturn(Optional.of(existingLike));
-            when(likeRepository.countByCommentId(comment.getId()))
-                    .thenReturn(3L);
+            comment.setLikesCount(3);
 
             // When
             LikeResponseDto result = likeService.toggleCommentLike("user@example.com", comment.getId());
@@ -351,6 +359,7 @@ class LikeServiceImplTest {
             assertThat(result.liked()).isFalse();
             assertThat(result.likesCount()).isEqualTo(2);
             verify(likeRepository).delete(existingLike);
+            verify(engagementCounterService).likeRemoved(existingLike);
         }
 
         @Test
@@ -385,6 +394,11 @@ class LikeServiceImplTest {
                     .thenReturn(Optional.empty());
             when(likeRepository.countByVideoGameId(videoGame.getId()))
                     .thenReturn(5L);
+            when(likeRepository.save(any(Like.class))).thenAnswer(invocation -> {
+                Like like = invocation.getArgument(0);
+                like.setId(UUID.randomUUID());
+                return like;
+            });
 
             // When
             LikeResponseDto result = likeService.toggleGameLike("user@example.com", videoGame.getId());
@@ -394,6 +408,15 @@ class LikeServiceImplTest {
             assertThat(result.likesCount()).isEqualTo(6);
             verify(likeRepository).save(any(Like.class));
             verify(eventPublisher, never()).publishEvent(any(NotificationEvent.class));
+
+            ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+            FeedActivityEvent feedEvent = (FeedActivityEvent) eventCaptor.getAllValues().get(0);
+            assertThat(feedEvent.getType()).isEqualTo(FeedItemType.LIKE_GAME);
+            assertThat(feedEvent.getVideoGameId()).isEqualTo(videoGame.getId());
+            GameLikeToggledEvent toggledEvent = (GameLikeToggledEvent) eventCaptor.getAllValues().get(1);
+            assertThat(toggledEvent.getUserId()).isEqualTo(user.getId());
+            assertThat(toggledEvent.isLiked()).isTrue();
         }
 
         @Test
@@ -418,6 +441,8 @@ class LikeServiceImplTest {
             assertThat(result.liked()).isFalse();
             assertThat(result.likesCount()).isEqualTo(5);
             verify(likeRepository).delete(existingLike);
+            verify(eventPublisher).publishEvent(any(GameLikeToggledEvent.class));
+            verify(eventPublisher).publishEvent(any(TrendingActivityRemovedEvent.class));
         }
 
         @Test
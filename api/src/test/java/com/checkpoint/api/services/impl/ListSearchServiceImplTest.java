@@ -34,9 +34,7 @@ import com.checkpoint.api.dto.list.GameListSearchCriteria;
 import com.checkpoint.api.entities.GameList;
 import com.checkpoint.api.entities.User;
 import com.checkpoint.api.mapper.GameListMapper;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.GameListEntryRepository;
-import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.UserRepository;
 
 import jakarta.persistence.EntityManager;
@@ -54,12 +52,6 @@ class ListSearchServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private LikeRepository likeRepository;
-
-    @Mock
-    private CommentRepository commentRepository;
-
     @Mock
     private GameListEntryRepository gameListEntryRepository;
 
@@ -71,8 +63,7 @@ class ListSearchServiceImplTest {
     @BeforeEach
     void setUp() {
         listSearchService = new ListSearchServiceImpl(
-                entityManager, userRepository, likeRepository,
-                commentRepository, gameListEntryRepository, gameListMapper);
+                entityManager, userRepository, gameListEntryRepository, gameListMapper);
     }
 
     private GameListCardDto buildDto(UUID id, String title) {
@@ -122,9 +113,9 @@ class ListSearchServiceImplTest {
         GameList list = buildList(id, "alice");
 
         GameListCardDto dto = buildDto(id, "Best RPGs");
-        when(likeRepository.countByGameListId(id)).thenReturn(5L);
-        when(commentRepository.countByGameListId(id)).thenReturn(1L);
-        when(gameListEntryRepository.findByGameListIdOrderByPositionAsc(id)).thenReturn(List.of());
+        list.setLikesCount(5);
+        list.setCommentsCount(1);
+        when(gameListEntryRepository.findLeadingCoverUrls(List.of(id), 4L)).thenReturn(List.of());
         when(gameListMapper.toCardDto(eq(list), eq(5L), eq(1L), any())).thenReturn(dto);
 
         SearchSession session = mockPaginatedSession(List.of(list), 1L);
@@ -2,8 +2,7 @@ package com.checkpoint.api.services.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,6 +11,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +29,7 @@ import com.checkpoint.api.entities.UserLoginStreak;
 import com.checkpoint.api.enums.XpEventType;
 import com.checkpoint.api.repositories.UserLoginStreakRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.repositories.XpGrantRepositoryCustom.XpAward;
 import com.checkpoint.api.services.GamificationService;
 
 /**
@@ -87,9 +88,7 @@ class LoginStreakServiceImplTest {
             assertThat(saved.getCurrentDay()).isEqualTo(1);
             assertThat(saved.getLastActivityDate()).isEqualTo(TODAY);
 
-            verify(gamificationService).awardXp(userId, 10, XpEventType.STREAK_DAILY, null);
-            verify(gamificationService, never()).awardXp(eq(userId), eq(100),
-                    eq(XpEventType.STREAK_WEEKLY_MILESTONE), any());
+            verify(gamificationService).awardXp(List.of(new XpAward(userId, 10, XpEventType.STREAK_DAILY, null)));
         }
 
         @Test
@@ -103,7 +102,7 @@ class LoginStreakServiceImplTest {
             assertThat(existing.getCurrentDay()).isEqualTo(4);
             assertThat(existing.getLastActivityDate()).isEqualTo(TODAY);
             // Day 4 -> 10 * min(4, 7) = 40
-            verify(gamificationService).awardXp(userId, 40, XpEventType.STREAK_DAILY, null);
+            verify(gamificationService).awardXp(List.of(new XpAward(userId, 40, XpEventType.STREAK_DAILY, null)));
         }
 
         @Test
@@ -115,7 +114,7 @@ class LoginStreakServiceImplTest {
             streakService.recordActivity(userId);
 
             assertThat(existing.getCurrentDay()).isEqualTo(10);
-            verify(gamificationService).awardXp(userId, 70, XpEventType.STREAK_DAILY, null);
+            verify(gamificationService).awardXp(List.of(new XpAward(userId, 70, XpEventType.STREAK_DAILY, null)));
         }
 
         @Test
@@ -127,7 +126,7 @@ class LoginStreakServiceImplTest {
             streakService.recordActivity(userId);
 
             assertThat(existing.getCurrentDay()).isEqualTo(1);
-            verify(gamificationService).awardXp(userId, 10, XpEventType.STREAK_DAILY, null);
+            verify(gamificationService).awardXp(List.of(new XpAward(userId, 10, XpEventType.STREAK_DAILY, null)));
         }
 
         @Test
@@ -139,7 +138,7 @@ class LoginStreakServiceImplTest {
             streakService.recordActivity(userId);
 
             verify(streakRepository, never()).save(any());
-            verify(gamificationService, never()).awardXp(any(), anyInt(), any(), any());
+            verify(gamificationService, never()).awardXp(anyList());
         }
 
         @Test
@@ -152,8 +151,9 @@ class LoginStreakServiceImplTest {
 
             assertThat(existing.getCurrentDay()).isEqualTo(7);
             // Day 7 -> daily bonus 70 XP + weekly milestone 100 XP
-            verify(gamificationService).awardXp(userId, 70, XpEventType.STREAK_DAILY, null);
-            verify(gamificationService).awardXp(userId, 100, XpEventType.STREAK_WEEKLY_MILESTONE, null);
+            verify(gamificationService).awardXp(List.of(
+                    new XpAward(userId, 70, XpEventType.STREAK_DAILY, null),
+                    new XpAward(userId, 100, XpEventType.STREAK_WEEKLY_MILESTONE, null)));
         }
 
         @Test
@@ -165,8 +165,9 @@ class LoginStreakServiceImplTest {
             streakService.recordActivity(userId);
 
             assertThat(existing.getCurrentDay()).isEqualTo(14);
-            verify(gamificationService).awardXp(userId, 70, XpEventType.STREAK_DAILY, null);
-            verify(gamificationService).awardXp(userId, 100, XpEventType.STREAK_WEEKLY_MILESTONE, null);
+            verify(gamificationService).awardXp(List.of(
+                    new XpAward(userId, 70, XpEventType.STREAK_DAILY, null),
+                    new XpAward(userId, 100, XpEventType.STREAK_WEEKLY_MILESTONE, null)));
         }
     }
 
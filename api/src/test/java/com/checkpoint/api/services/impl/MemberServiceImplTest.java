@@ -3,11 +3,15 @@ package com.checkpoint.api.services.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +32,9 @@ import com.checkpoint.api.mapper.MemberMapper;
 import com.checkpoint.api.mapper.impl.MemberMapperImpl;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.FollowGraphService;
+import com.checkpoint.api.services.MemberSimilarityIndexService;
+import com.checkpoint.api.services.ProfileComparisonService;
 
 /**
  * Unit tests for {@link MemberServiceImpl}.
@@ -41,6 +48,15 @@ class MemberServiceImplTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private FollowGraphService followGraph;
+
+    @Mock
+    private MemberSimilarityIndexService memberSimilarityIndex;
+
+    @Mock
+    private ProfileComparisonService profileComparisonService;
+
     private MemberMapper memberMapper;
     private MemberServiceImpl memberService;
 
@@ -51,7 +67,8 @@ class MemberServiceImplTest {
     @BeforeEach
     void setUp() {
         memberMapper = new MemberMapperImpl();
-        memberService = new MemberServiceImpl(userRepository, reviewRepository, memberMapper);
+        memberService = new MemberServiceImpl(userRepository, reviewRepository, memberMapper, followGraph,
+                memberSimilarityIndex, profileComparisonService);
 
         userA = new User();
         userA.setId(UUID.randomUUID());
@@ -108,7 +125,7 @@ class MemberServiceImplTest {
             when(userRepository.findPopularMembers(pageable)).thenReturn(page);
             when(reviewRepository.countByUserPseudo("userA")).thenReturn(10L);
             when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
-            when(userRepository.findFollowingIdsByUserId(viewer.getId())).thenReturn(List.of(userA.getId()));
+            when(followGraph.getFollowingIds(viewer.getId())).thenReturn(List.of(userA.getId()));
 
             // When
             List<MemberCardDto> result = memberService.getPopularMembers(pageable, "viewer@example.com");
@@ -145,8 +162,8 @@ class MemberServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<Object[]> page = createObjectArrayPage(new Object[]{userA, 50L}, new Object[]{userB, 20L});
             when(userRepository.findTopReviewers(pageable)).thenReturn(page);
-            when(userRepository.countFollowersByUserId(userA.getId())).thenReturn(10L);
-            when(userRepository.countFollowersByUserId(userB.getId())).thenReturn(5L);
+            when(followGraph.countFollowers(userA.getId())).thenReturn(10L);
+            when(followGraph.countFollowers(userB.getId())).thenReturn(5L);
 
             // When
             List<MemberCardDto> result = memberService.getTopReviewers(pageable, null);
@@ -166,9 +183,9 @@ class MemberServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<Object[]> page = createObjectArrayPage(new Object[]{userA, 50L});
             when(userRepository.findTopReviewers(pageable)).thenReturn(page);
-            when(userRepository.countFollowersByUserId(userA.getId())).thenReturn(10L);
+            when(followGraph.countFollowers(userA.getId())).thenReturn(10L);
             when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
-            when(userRepository.findFollowingIdsByUserId(viewer.getId())).thenReturn(List.of());
+            when(followGraph.getFollowingIds(viewer.getId())).thenReturn(List.of());
 
             // When
             List<MemberCardDto> result = memberService.getTopReviewers(pageable, "viewer@example.com");
@@ -184,17 +201,83 @@ class MemberServiceImplTest {
     class GetSuggestedMembers {
 
         @Test
-        @DisplayName("should return suggested members based on shared games")
+        @DisplayName("should rank suggestions from the similarity index")
+        void getSuggestedMembers_shouldUseSimilarityIndex() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 2);
+            when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
+            when(followGraph.getFollowingIds(viewer.getId())).thenReturn(List.of());
+            when(memberSimilarityIndex.findSimilarUserIds(viewer.getId(), 2, Set.of()))
+                    .thenReturn(Optional.of(List.of(userB.getId(), userA.getId())));
+            when(userRepository.findAllById(List.of(userB.getId(), userA.getId())))
+                    .thenReturn(List.of(userA, userB));
+            when(reviewRepository.countByUserIds(List.of(userB.getId(), userA.getId())))
+                    .thenReturn(List.<Object[]>of(new Object[]{userA.getId(), 4L}));
+            when(profileComparisonService.estimateAffinity(viewer.getId(), userB.getId()))
+                    .thenReturn(OptionalInt.of(42));
+
+            // When
+            List<MemberCardDto> result = memberService.getSuggestedMembers(pageable, "viewer@example.com");
+
+            // Then
+            assertThat(result).extracting(MemberCardDto::pseudo).containsExactly("userB", "userA");
+            assertThat(result.get(0).affinityScore()).isEqualTo(42);
+            assertThat(result.get(0).reviewCount()).isZero();
+            assertThat(result.get(1).reviewCount()).isEqualTo(4L);
+            verify(userRepository, never()).findSuggestedMembers(any(), any());
+        }
+
+        @Test
+        @DisplayName("should skip the previous pages of the index ranking")
+        void getSuggestedMembers_shouldPageThroughIndexRanking() {
+            // Given
+            Pageable pageable = PageRequest.of(1, 1);
+            when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
+            when(followGraph.getFollowingIds(viewer.getId())).thenReturn(List.of());
+            when(memberSimilarityIndex.findSimilarUserIds(viewer.getId(), 2, Set.of()))
+                    .thenReturn(Optional.of(List.of(userB.getId(), userA.getId())));
+            when(userRepository.findAllById(List.of(userA.getId()))).thenReturn(List.of(userA));
+
+            // When
+            List<MemberCardDto> result = memberService.getSuggestedMembers(pageable, "viewer@example.com");
+
+            // Then
+            assertThat(result).extracting(MemberCardDto::pseudo).containsExactly("userA");
+        }
+
+        @Test
+        @DisplayName("should top up a short index ranking with shared games")
+        void getSuggestedMembers_shouldTopUpFromSharedGames() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 3);
+            when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
+            when(followGraph.getFollowingIds(viewer.getId())).thenReturn(List.of());
+            when(memberSimilarityIndex.findSimilarUserIds(viewer.getId(), 3, Set.of()))
+                    .thenReturn(Optional.of(List.of(userB.getId())));
+            Page<Object[]> page = createObjectArrayPage(new Object[]{userB, 2L}, new Object[]{userA, 1L});
+            when(userRepository.findSuggestedMembers(viewer.getId(), PageRequest.of(0, 3))).thenReturn(page);
+            when(userRepository.findAllById(List.of(userB.getId()))).thenReturn(List.of(userB));
+
+            // When
+            List<MemberCardDto> result = memberService.getSuggestedMembers(pageable, "viewer@example.com");
+
+            // Then
+            assertThat(result).extracting(MemberCardDto::pseudo).containsExactly("userB", "userA");
+        }
+
+        @Test
+        @DisplayName("should fall back to shared games until the similarity index is built")
         void getSuggestedMembers_shouldReturnSuggestions() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
             when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
-            when(userRepository.findFollowingIdsByUserId(viewer.getId())).thenReturn(List.of());
+            when(followGraph.getFollowingIds(viewer.getId())).thenReturn(List.of());
 
             Page<Object[]> page = createObjectArrayPage(new Object[]{userA, 5L});
             when(userRepository.findSuggestedMembers(viewer.getId(), pageable)).thenReturn(page);
-            when(userRepository.countFollowersByUserId(userA.getId())).thenReturn(20L);
-            when(reviewRepository.countByUserPseudo("userA")).thenReturn(8L);
+            when(followGraph.countFollowers(userA.getId())).thenReturn(20L);
+            when(reviewRepository.countByUserIds(List.of(userA.getId())))
+                    .thenReturn(List.<Object[]>of(new Object[]{userA.getId(), 8L}));
 
             // When
             List<MemberCardDto> result = memberService.getSuggestedMembers(pageable, "viewer@example.com");
@@ -226,7 +309,7 @@ class MemberServiceImplTest {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
             when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
-            when(userRepository.findFollowingIdsByUserId(viewer.getId())).thenReturn(List.of());
+            when(followGraph.getFollowingIds(viewer.getId())).thenReturn(List.of());
             when(userRepository.findSuggestedMembers(viewer.getId(), pageable))
                     .thenReturn(createObjectArrayPage());
 
@@ -249,8 +332,8 @@ class MemberServiceImplTest {
             Pageable pageable = PageRequest.of(0, 20);
             Page<User> usersPage = new PageImpl<>(List.of(userA, userB));
             when(userRepository.findAll(pageable)).thenReturn(usersPage);
-            when(userRepository.countFollowersByUserId(userA.getId())).thenReturn(10L);
-            when(userRepository.countFollowersByUserId(userB.getId())).thenReturn(5L);
+            when(followGraph.countFollowers(userA.getId())).thenReturn(10L);
+            when(followGraph.countFollowers(userB.getId())).thenReturn(5L);
             when(reviewRepository.countByUserPseudo("userA")).thenReturn(3L);
             when(reviewRepository.countByUserPseudo("userB")).thenReturn(1L);
 
@@ -270,7 +353,7 @@ class MemberServiceImplTest {
             Pageable pageable = PageRequest.of(0, 20);
             Page<User> usersPage = new PageImpl<>(List.of(userA));
             when(userRepository.findByPseudoContainingIgnoreCase("userA", pageable)).thenReturn(usersPage);
-            when(userRepository.countFollowersByUserId(userA.getId())).thenReturn(10L);
+            when(followGraph.countFollowers(userA.getId())).thenReturn(10L);
             when(reviewRepository.countByUserPseudo("userA")).thenReturn(3L);
 
             // When
@@ -288,7 +371,7 @@ class MemberServiceImplTest {
             Pageable pageable = PageRequest.of(0, 20);
             Page<User> usersPage = new PageImpl<>(List.of(userA));
             when(userRepository.findAll(pageable)).thenReturn(usersPage);
-            when(userRepository.countFollowersByUserId(userA.getId())).thenReturn(10L);
+            when(followGraph.countFollowers(userA.getId())).thenReturn(10L);
             when(reviewRepository.countByUserPseudo("userA")).thenReturn(3L);
 
             // When
@@ -305,10 +388,10 @@ class MemberServiceImplTest {
             Pageable pageable = PageRequest.of(0, 20);
             Page<User> usersPage = new PageImpl<>(List.of(userA));
             when(userRepository.findAll(pageable)).thenReturn(usersPage);
-            when(userRepository.countFollowersByUserId(userA.getId())).thenReturn(10L);
+            when(followGraph.countFollowers(userA.getId())).thenReturn(10L);
             when(reviewRepository.countByUserPseudo("userA")).thenReturn(3L);
             when(userRepository.findByEmail("viewer@example.com")).thenReturn(Optional.of(viewer));
-            when(userRepository.findFollowingIdsByUserId(viewer.getId())).thenReturn(List.of(userA.getId()));
+            when(followGraph.getFollowingIds(viewer.getId())).thenReturn(List.of(userA.getId()));
 
             // When
             Page<MemberCardDto> result = memberService.searchMembers(null, pageable, "viewer@example.com");
@@ -0,0 +1,132 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.repositories.UserGameRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSimilarityIndexServiceImplTest {
+
+    @Mock private UserGameRepository userGameRepository;
+
+    private MemberSimilarityIndexServiceImpl index;
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+    private final UUID dave = UUID.randomUUID();
+
+    private final List<UUID> sharedGames = randomIds(10);
+    private final List<Object[]> pairs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberSimilarityIndexServiceImpl(userGameRepository);
+    }
+
+    @Test
+    @DisplayName("lookups are empty until the index has been built")
+    void emptyBeforeFirstBuild() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.findSimilarUserIds(alice, 10, Set.of())).isEmpty();
+        assertThat(index.estimateSimilarity(alice, bob)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rebuild ranks look-alikes first and leaves out unrelated and excluded members")
+    void rebuildRanksBySimilarity() {
+        library(alice, sharedGames);
+        library(bob, sharedGames);
+        library(carol, sharedGames.subList(0, 9));
+        library(dave, randomIds(10));
+        stubPairs();
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.findSimilarUserIds(alice, 10, Set.of())).contains(List.of(bob, carol));
+        assertThat(index.findSimilarUserIds(alice, 1, Set.of())).contains(List.of(bob));
+        assertThat(index.findSimilarUserIds(alice, 10, Set.of(bob))).contains(List.of(carol));
+        assertThat(index.estimateSimilarity(alice, bob)).hasValue(1.0);
+        assertThat(index.estimateSimilarity(alice, dave).getAsDouble()).isLessThan(0.2);
+    }
+
+    @Test
+    @DisplayName("members without games are not indexed")
+    void memberWithoutGames() {
+        library(alice, sharedGames);
+        stubPairs();
+
+        index.rebuild();
+
+        assertThat(index.findSimilarUserIds(bob, 10, Set.of())).contains(List.of());
+        assertThat(index.estimateSimilarity(alice, bob)).hasValue(0.0);
+    }
+
+    @Test
+    @DisplayName("refreshUser re-reads a member's games and removes members who have none left")
+    void refreshUserReplacesSignature() {
+        library(alice, sharedGames);
+        library(bob, randomIds(10));
+        stubPairs();
+        index.rebuild();
+        assertThat(index.findSimilarUserIds(alice, 10, Set.of())).contains(List.of());
+
+        when(userGameRepository.findLibraryAndRatedGameIds(bob)).thenReturn(sharedGames);
+        index.refreshUser(bob);
+
+        assertThat(index.findSimilarUserIds(alice, 10, Set.of())).contains(List.of(bob));
+
+        when(userGameRepository.findLibraryAndRatedGameIds(bob)).thenReturn(List.of());
+        index.refreshUser(bob);
+
+        assertThat(index.findSimilarUserIds(alice, 10, Set.of())).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("removeUser drops a deleted member from every lookup")
+    void removeUserDropsMember() {
+        library(alice, sharedGames);
+        library(bob, sharedGames);
+        stubPairs();
+        index.rebuild();
+
+        index.removeUser(bob);
+
+        assertThat(index.findSimilarUserIds(alice, 10, Set.of())).contains(List.of());
+        assertThat(index.findSimilarUserIds(bob, 10, Set.of())).isEqualTo(Optional.of(List.of()));
+        assertThat(index.estimateSimilarity(alice, bob)).hasValue(0.0);
+    }
+
+    private void library(UUID userId, List<UUID> gameIds) {
+        for (UUID gameId : gameIds) {
+            pairs.add(new Object[] {userId, gameId});
+        }
+    }
+
+    private void stubPairs() {
+        when(userGameRepository.findAllLibraryAndRatedGamePairs()).thenReturn(pairs);
+    }
+
+    private static List<UUID> randomIds(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
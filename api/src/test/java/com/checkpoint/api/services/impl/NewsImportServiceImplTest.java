@@ -25,29 +25,34 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.checkpoint.api.client.IgdbApiClient;
+import com.checkpoint.api.client.ConditionalResponse;
+import com.checkpoint.api.client.HttpValidators;
 import com.checkpoint.api.client.RssFeedClient;
 import com.checkpoint.api.client.SteamNewsApiClient;
 import com.checkpoint.api.config.RssFeedsProperties;
 import com.checkpoint.api.dto.steam.SteamNewsResponseDto;
 import com.checkpoint.api.entities.News;
+import com.checkpoint.api.entities.NewsFetchState;
 import com.checkpoint.api.entities.NewsSource;
 import com.checkpoint.api.entities.VideoGame;
+import com.checkpoint.api.repositories.NewsFetchStateRepository;
 import com.checkpoint.api.repositories.NewsRepository;
 import com.checkpoint.api.repositories.VideoGameRepository;
+import com.checkpoint.api.services.SteamAppMappingService;
 
 /**
  * Unit tests for {@link NewsImportServiceImpl} — covers dedup, per-item / per-source
- * error isolation, lazy Steam appId backfill, and dispatch.
+ * error isolation, lazy Steam appId backfill, conditional fetches and dispatch.
  */
 @ExtendWith(MockitoExtension.class)
 class NewsImportServiceImplTest {
 
     @Mock private SteamNewsApiClient steamNewsApiClient;
     @Mock private RssFeedClient rssFeedClient;
-    @Mock private IgdbApiClient igdbApiClient;
+    @Mock private SteamAppMappingService steamAppMappingService;
     @Mock private VideoGameRepository videoGameRepository;
     @Mock private NewsRepository newsRepository;
+    @Mock private NewsFetchStateRepository newsFetchStateRepository;
 
     private RssFeedsProperties rssFeedsProperties;
     private NewsImportServiceImpl service;
@@ -56,8 +61,9 @@ class NewsImportServiceImplTest {
     void setUp() {
         rssFeedsProperties = new RssFeedsProperties();
         service = new NewsImportServiceImpl(
-                steamNewsApiClient, rssFeedClient, igdbApiClient,
-                videoGameRepository, newsRepository, rssFeedsProperties
+                steamNewsApiClient, rssFeedClient, steamAppMappingService,
+                videoGameRepository, newsRepository, rssFeedsProperties,
+                newsFetchStateRepository, 4, 2
         );
     }
 
@@ -70,6 +76,17 @@ class NewsImportServiceImplTest {
         return game;
     }
 
+    private static <T> ConditionalResponse<T> fresh(T body) {
+        return ConditionalResponse.modified(body, HttpValidators.NONE);
+    }
+
+    private RssFeedsProperties.Feed feed(String name, String url) {
+        RssFeedsProperties.Feed feed = new RssFeedsProperties.Feed();
+        feed.setName(name);
+        feed.setUrl(url);
+        return feed;
+    }
+
     private SteamNewsResponseDto.NewsItem steamItem(String gid, String title) {
         return new SteamNewsResponseDto.NewsItem(
                 gid, title, "https://steam/" + gid, "valve",
@@ -82,8 +99,8 @@ class NewsImportServiceImplTest {
     void steamImport_skipsDuplicates() {
         VideoGame game = gameWithSteamId(730L, 1L, "CS2");
         when(videoGameRepository.findGamesWithAtLeastOneUserLink()).thenReturn(List.of(game));
-        when(steamNewsApiClient.fetchNewsForApp(eq(730L), anyInt()))
-                .thenReturn(List.of(steamItem("gid-1", "A"), steamItem("gid-2", "B")));
+        when(steamNewsApiClient.fetchNewsForAppIfModified(eq(730L), anyInt(), any()))
+                .thenReturn(fresh(List.of(steamItem("gid-1", "A"), steamItem("gid-2", "B"))));
         when(newsRepository.existsBySourceAndExternalId(NewsSource.STEAM, "gid-1")).thenReturn(true);
         when(newsRepository.existsBySourceAndExternalId(NewsSource.STEAM, "gid-2")).thenReturn(false);
 
@@ -104,8 +121,8 @@ class NewsImportServiceImplTest {
     void steamImport_perItemIsolation() {
         VideoGame game = gameWithSteamId(730L, 1L, "CS2");
         when(videoGameRepository.findGamesWithAtLeastOneUserLink()).thenReturn(List.of(game));
-        when(steamNewsApiClient.fetchNewsForApp(eq(730L), anyInt()))
-                .thenReturn(List.of(steamItem("gid-1", "A"), steamItem("gid-2", "B")));
+        when(steamNewsApiClient.fetchNewsForAppIfModified(eq(730L), anyInt(), any()))
+                .thenReturn(fresh(List.of(steamItem("gid-1", "A"), steamItem("gid-2", "B"))));
         when(newsRepository.existsBySourceAndExternalId(any(), any())).thenReturn(false);
         when(newsRepository.save(any(News.class)))
                 .thenThrow(new RuntimeException("boom"))
@@ -118,14 +135,14 @@ class NewsImportServiceImplTest {
     }
 
     @Test
-    @DisplayName("Steam import: backfills missing steamAppId via IGDB and uses the resolved id")
+    @DisplayName("Steam import: backfills missing steamAppId via the mapping cache and uses the resolved id")
     void steamImport_backfillsSteamAppId() {
         VideoGame game = gameWithSteamId(null, 42L, "Some Game");
         when(videoGameRepository.findGamesWithAtLeastOneUserLink()).thenReturn(List.of(game));
-        when(igdbApiClient.findSteamAppIdsForIgdbIds(anyCollection()))
+        when(steamAppMappingService.resolveSteamAppIds(anyCollection()))
                 .thenReturn(Map.of(42L, 999L));
-        when(steamNewsApiClient.fetchNewsForApp(eq(999L), anyInt()))
-                .thenReturn(List.of(steamItem("gid-x", "X")));
+        when(steamNewsApiClient.fetchNewsForAppIfModified(eq(999L), anyInt(), any()))
+                .thenReturn(fresh(List.of(steamItem("gid-x", "X"))));
         when(newsRepository.existsBySourceAndExternalId(any(), any())).thenReturn(false);
 
         int imported = service.importSteamNews();
@@ -140,12 +157,12 @@ class NewsImportServiceImplTest {
     void steamImport_unresolvedGameSkipped() {
         VideoGame game = gameWithSteamId(null, 42L, "Indie Game");
         when(videoGameRepository.findGamesWithAtLeastOneUserLink()).thenReturn(List.of(game));
-        when(igdbApiClient.findSteamAppIdsForIgdbIds(anyCollection())).thenReturn(Map.of());
+        when(steamAppMappingService.resolveSteamAppIds(anyCollection())).thenReturn(Map.of());
 
         int imported = service.importSteamNews();
 
         assertThat(imported).isZero();
-        verify(steamNewsApiClient, never()).fetchNewsForApp(anyLong(), anyInt());
+        verify(steamNewsApiClient, never()).fetchNewsForAppIfModified(anyLong(), anyInt(), any());
         verify(newsRepository, never()).save(any(News.class));
     }
 
@@ -155,10 +172,10 @@ class NewsImportServiceImplTest {
         VideoGame g1 = gameWithSteamId(730L, 1L, "CS2");
         VideoGame g2 = gameWithSteamId(570L, 2L, "Dota 2");
         when(videoGameRepository.findGamesWithAtLeastOneUserLink()).thenReturn(List.of(g1, g2));
-        when(steamNewsApiClient.fetchNewsForApp(eq(730L), anyInt()))
+        when(steamNewsApiClient.fetchNewsForAppIfModified(eq(730L), anyInt(), any()))
                 .thenThrow(new RuntimeException("Steam 503"));
-        when(steamNewsApiClient.fetchNewsForApp(eq(570L), anyInt()))
-                .thenReturn(List.of(steamItem("gid-ok", "OK")));
+        when(steamNewsApiClient.fetchNewsForAppIfModified(eq(570L), anyInt(), any()))
+                .thenReturn(fresh(List.of(steamItem("gid-ok", "OK"))));
         when(newsRepository.existsBySourceAndExternalId(any(), any())).thenReturn(false);
 
         int imported = service.importSteamNews();
@@ -174,10 +191,10 @@ class NewsImportServiceImplTest {
         ign.setUrl("https://example.test/ign");
         rssFeedsProperties.setFeeds(List.of(ign));
 
-        when(rssFeedClient.fetch("IGN", "https://example.test/ign")).thenReturn(List.of(
+        when(rssFeedClient.fetchIfModified("IGN", "https://example.test/ign", HttpValidators.NONE)).thenReturn(fresh(List.of(
                 new RssFeedClient.RssItem("guid-a", "A", "body a", "https://a", LocalDateTime.now(), "img-a"),
                 new RssFeedClient.RssItem("guid-b", "B", "body b", "https://b", LocalDateTime.now(), null)
-        ));
+        )));
         when(newsRepository.existsBySourceAndExternalId(NewsSource.RSS, "guid-a")).thenReturn(true);
         when(newsRepository.existsBySourceAndExternalId(NewsSource.RSS, "guid-b")).thenReturn(false);
 
@@ -205,11 +222,11 @@ class NewsImportServiceImplTest {
         ok.setUrl("https://example.test/ok");
         rssFeedsProperties.setFeeds(List.of(broken, ok));
 
-        when(rssFeedClient.fetch("Broken", "https://example.test/broken"))
+        when(rssFeedClient.fetchIfModified("Broken", "https://example.test/broken", HttpValidators.NONE))
                 .thenThrow(new RuntimeException("DNS"));
-        when(rssFeedClient.fetch("OK", "https://example.test/ok")).thenReturn(List.of(
+        when(rssFeedClient.fetchIfModified("OK", "https://example.test/ok", HttpValidators.NONE)).thenReturn(fresh(List.of(
                 new RssFeedClient.RssItem("guid-ok", "Ok", "body", "https://ok", null, null)
-        ));
+        )));
         when(newsRepository.existsBySourceAndExternalId(any(), any())).thenReturn(false);
 
         int imported = service.importRssFeeds();
@@ -217,6 +234,63 @@ class NewsImportServiceImplTest {
         assertThat(imported).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("RSS import replays the stored validators and skips an unchanged feed")
+    void rssImport_notModified() {
+        rssFeedsProperties.setFeeds(List.of(feed("IGN", "https://example.test/ign")));
+        NewsFetchState state = new NewsFetchState(NewsSource.RSS, "https://example.test/ign");
+        state.setValidators(new HttpValidators("\"v1\"", null));
+        when(newsFetchStateRepository.findAllBySource(NewsSource.RSS)).thenReturn(List.of(state));
+        when(rssFeedClient.fetchIfModified("IGN", "https://example.test/ign", new HttpValidators("\"v1\"", null)))
+                .thenReturn(ConditionalResponse.notModified(new HttpValidators("\"v1\"", null)));
+
+        int imported = service.importRssFeeds();
+
+        assertThat(imported).isZero();
+        verify(newsRepository, never()).existsBySourceAndExternalId(any(), any());
+        verify(newsFetchStateRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("RSS import stores the validators of a fully imported feed")
+    void rssImport_storesValidators() {
+        rssFeedsProperties.setFeeds(List.of(feed("IGN", "https://example.test/ign")));
+        when(rssFeedClient.fetchIfModified("IGN", "https://example.test/ign", HttpValidators.NONE))
+                .thenReturn(ConditionalResponse.modified(
+                        List.of(new RssFeedClient.RssItem("guid-a", "A", "body", "https://a", null, null)),
+                        new HttpValidators("\"v2\"", "Tue, 01 Sep 2026 10:00:00 GMT")));
+        when(newsRepository.existsBySourceAndExternalId(NewsSource.RSS, "guid-a")).thenReturn(false);
+
+        int imported = service.importRssFeeds();
+
+        assertThat(imported).isEqualTo(1);
+        ArgumentCaptor<NewsFetchState> captor = ArgumentCaptor.forClass(NewsFetchState.class);
+        verify(newsFetchStateRepository).save(captor.capture());
+        NewsFetchState saved = captor.getValue();
+        assertThat(saved.getSource()).isEqualTo(NewsSource.RSS);
+        assertThat(saved.getSourceKey()).isEqualTo("https://example.test/ign");
+        assertThat(saved.getEtag()).isEqualTo("\"v2\"");
+        assertThat(saved.getLastModified()).isEqualTo("Tue, 01 Sep 2026 10:00:00 GMT");
+        assertThat(saved.getFetchedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Steam import keeps the old validators when an item could not be saved")
+    void steamImport_failedItemKeepsValidators() {
+        VideoGame game = gameWithSteamId(730L, 1L, "CS2");
+        when(videoGameRepository.findGamesWithAtLeastOneUserLink()).thenReturn(List.of(game));
+        when(steamNewsApiClient.fetchNewsForAppIfModified(eq(730L), anyInt(), eq(HttpValidators.NONE)))
+                .thenReturn(ConditionalResponse.modified(
+                        List.of(steamItem("gid-1", "A")), new HttpValidators("\"v3\"", null)));
+        when(newsRepository.existsBySourceAndExternalId(any(), any())).thenReturn(false);
+        when(newsRepository.save(any(News.class))).thenThrow(new RuntimeException("boom"));
+
+        int imported = service.importSteamNews();
+
+        assertThat(imported).isZero();
+        verify(newsFetchStateRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("importFromSource dispatches and rejects MANUAL")
     void dispatch_rejectsManual() {
@@ -0,0 +1,191 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.ReflectionUtils;
+
+import com.checkpoint.api.entities.OutboxMessage;
+import com.checkpoint.api.events.ReviewCreatedEvent;
+import com.checkpoint.api.listeners.DurableEventHandlerRegistry;
+import com.checkpoint.api.listeners.DurableEventHandlerRegistry.Handler;
+import com.checkpoint.api.repositories.OutboxMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+/**
+ * Unit tests for {@link OutboxServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T12:00:00Z");
+    private static final String HANDLER_KEY = "recordingHandler#on";
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Mock
+    private DurableEventHandlerRegistry handlerRegistry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ParameterNamesModule());
+
+    private RecordingHandler recordingHandler;
+    private Handler handler;
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        outboxService = new OutboxServiceImpl(outboxMessageRepository, handlerRegistry, objectMapper,
+                transactionManager, clock, 2, 200, 3, Duration.ofSeconds(5));
+
+        recordingHandler = new RecordingHandler();
+        Method method = RecordingHandler.class.getDeclaredMethod("on", ReviewCreatedEvent.class);
+        ReflectionUtils.makeAccessible(method);
+        handler = new Handler(HANDLER_KEY, recordingHandler, method, ReviewCreatedEvent.class);
+    }
+
+    @Test
+    @DisplayName("record stores one delivery per handler, keyed by the event's partition")
+    void record_shouldStoreOneRowPerHandler() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(handlerRegistry.handlersFor(ReviewCreatedEvent.class)).thenReturn(List.of(handler));
+
+        // When
+        outboxService.record(new ReviewCreatedEvent(userId));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxMessageRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(message -> {
+            assertThat(message.getPartitionKey()).isEqualTo(userId);
+            assertThat(message.getHandler()).isEqualTo(HANDLER_KEY);
+            assertThat(message.getEventType()).isEqualTo(ReviewCreatedEvent.class.getName());
+        });
+    }
+
+    @Test
+    @DisplayName("drain claims each delivery and hands the deserialized event to its handler")
+    void drain_shouldDeliverEvents() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        OutboxMessage message = message(1L, userId);
+        when(outboxMessageRepository.findReady(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(message));
+        when(handlerRegistry.handler(HANDLER_KEY)).thenReturn(Optional.of(handler));
+        when(outboxMessageRepository.deleteHandled(1L)).thenReturn(1);
+
+        // When
+        int handled = outboxService.drain();
+
+        // Then
+        assertThat(handled).isEqualTo(1);
+        assertThat(recordingHandler.received).singleElement()
+                .extracting(ReviewCreatedEvent::getUserId).isEqualTo(userId);
+        assertThat(outboxService.getStats().handledLastMinute()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a failed delivery is retried later and holds back the rest of its partition")
+    void drain_failure_shouldRescheduleAndBlockPartition() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        OutboxMessage failing = message(1L, userId);
+        OutboxMessage next = message(2L, userId);
+        recordingHandler.failing = true;
+        when(outboxMessageRepository.findReady(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(failing, next));
+        when(handlerRegistry.handler(HANDLER_KEY)).thenReturn(Optional.of(handler));
+        when(outboxMessageRepository.deleteHandled(1L)).thenReturn(1);
+        when(outboxMessageRepository.findById(1L)).thenReturn(Optional.of(failing));
+
+        // When
+        int handled = outboxService.drain();
+
+        // Then
+        assertThat(handled).isZero();
+        assertThat(failing.getAttempts()).isEqualTo(1);
+        assertThat(failing.isDead()).isFalse();
+        assertThat(failing.getAvailableAt()).isEqualTo(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plusSeconds(5));
+        verify(outboxMessageRepository, never()).deleteHandled(2L);
+        assertThat(outboxService.getStats().failedTotal()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a delivery is dead-lettered once it reaches the attempt limit")
+    void drain_lastAttempt_shouldDeadLetter() {
+        // Given
+        OutboxMessage failing = message(1L, UUID.randomUUID());
+        failing.setAttempts(2);
+        recordingHandler.failing = true;
+        when(outboxMessageRepository.findReady(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(failing));
+        when(handlerRegistry.handler(HANDLER_KEY)).thenReturn(Optional.of(handler));
+        when(outboxMessageRepository.deleteHandled(1L)).thenReturn(1);
+        when(outboxMessageRepository.findById(1L)).thenReturn(Optional.of(failing));
+
+        // When
+        outboxService.drain();
+
+        // Then
+        assertThat(failing.getAttempts()).isEqualTo(3);
+        assertThat(failing.isDead()).isTrue();
+        assertThat(failing.getLastError()).contains("boom");
+    }
+
+    private OutboxMessage message(Long id, UUID userId) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new ReviewCreatedEvent(userId));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        LocalDateTime createdAt = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        OutboxMessage message = new OutboxMessage(userId, ReviewCreatedEvent.class.getName(),
+                HANDLER_KEY, payload, createdAt);
+        message.setId(id);
+        return message;
+    }
+
+    static class RecordingHandler {
+
+        private final List<ReviewCreatedEvent> received = new ArrayList<>();
+        private boolean failing;
+
+        void on(ReviewCreatedEvent event) {
+            if (failing) {
+                throw new IllegalStateException("boom");
+            }
+            received.add(event);
+        }
+    }
+}
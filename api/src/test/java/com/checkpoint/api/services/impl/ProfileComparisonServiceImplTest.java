@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,7 @@ import com.checkpoint.api.exceptions.ProfilePrivateException;
 import com.checkpoint.api.repositories.RateRepository;
 import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
+import com.checkpoint.api.services.MemberSimilarityIndexService;
 
 /**
  * Unit tests for {@link ProfileComparisonServiceImpl}.
@@ -49,6 +51,9 @@ class ProfileComparisonServiceImplTest {
     @Mock
     private RateRepository rateRepository;
 
+    @Mock
+    private MemberSimilarityIndexService memberSimilarityIndex;
+
     private ProfileComparisonServiceImpl service;
 
     private User viewer;
@@ -56,7 +61,8 @@ class ProfileComparisonServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        service = new ProfileComparisonServiceImpl(userRepository, userGameRepository, rateRepository);
+        service = new ProfileComparisonServiceImpl(userRepository, userGameRepository, rateRepository,
+                memberSimilarityIndex);
 
         viewer = new User();
         viewer.setId(UUID.randomUUID());
@@ -297,6 +303,24 @@ class ProfileComparisonServiceImplTest {
         assertThat(secondContent.get(0).ratingDiff()).isNull();
     }
 
+    @Test
+    @DisplayName("estimateAffinity should scale the estimated similarity to a percentage")
+    void estimateAffinity_shouldScaleSimilarity() {
+        when(memberSimilarityIndex.estimateSimilarity(viewer.getId(), target.getId()))
+                .thenReturn(OptionalDouble.of(0.421875));
+
+        assertThat(service.estimateAffinity(viewer.getId(), target.getId())).hasValue(42);
+    }
+
+    @Test
+    @DisplayName("estimateAffinity should be empty until the similarity index is built")
+    void estimateAffinity_indexNotReady_shouldBeEmpty() {
+        when(memberSimilarityIndex.estimateSimilarity(viewer.getId(), target.getId()))
+                .thenReturn(OptionalDouble.empty());
+
+        assertThat(service.estimateAffinity(viewer.getId(), target.getId())).isEmpty();
+    }
+
     // Helpers
 
     private void stubUsersFound() {
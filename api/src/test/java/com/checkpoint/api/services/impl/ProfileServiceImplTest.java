@@ -57,13 +57,13 @@ import com.checkpoint.api.mapper.UserGameMapper;
 import com.checkpoint.api.mapper.WishMapper;
 import com.checkpoint.api.mapper.impl.ProfileMapperImpl;
 import com.checkpoint.api.repositories.BacklogRepository;
-import com.checkpoint.api.repositories.CommentRepository;
 import com.checkpoint.api.repositories.LikeRepository;
 import com.checkpoint.api.repositories.ReviewRepository;
 import com.checkpoint.api.repositories.UserGamePlayRepository;
 import com.checkpoint.api.repositories.UserGameRepository;
 import com.checkpoint.api.repositories.UserRepository;
 import com.checkpoint.api.repositories.WishRepository;
+import com.checkpoint.api.services.FollowGraphService;
 import com.checkpoint.api.services.GameListService;
 import com.checkpoint.api.services.StorageService;
 
@@ -88,9 +88,6 @@ class ProfileServiceImplTest {
     @Mock
     private LikeRepository likeRepository;
 
-    @Mock
-    private CommentRepository commentRepository;
-
     @Mock
     private com.checkpoint.api.repositories.RateRepository rateRepository;
 
@@ -130,6 +127,9 @@ class ProfileServiceImplTest {
     @Mock
     private com.checkpoint.api.services.OnboardingService onboardingService;
 
+    @Mock
+    private FollowGraphService followGraph;
+
     private ProfileMapper profileMapper;
     private ProfileServiceImpl profileService;
 
@@ -141,10 +141,11 @@ class ProfileServiceImplTest {
         profileMapper = new ProfileMapperImpl();
         profileService = new ProfileServiceImpl(
                 userRepository, reviewRepository, wishRepository,
-                userGamePlayRepository, likeRepository, commentRepository, rateRepository,
+                userGamePlayRepository, likeRepository, rateRepository,
                 userGameRepository, backlogRepository, badgeRepository,
                 gameListService, storageService, profileMapper, reviewMapper, wishMapper,
-                likedGameMapper, userGameMapper, backlogMapper, gamePlayLogMapper, onboardingService);
+                likedGameMapper, userGameMapper, backlogMapper, gamePlayLogMapper, onboardingService,
+                followGraph);
 
         profileUser = new User();
         profileUser.setId(UUID.randomUUID());
@@ -180,8 +181,8 @@ class ProfileServiceImplTest {
             // Given
             when(userRepository.findByPseudoWithBadgesAndFavorites("gamer123"))
                     .thenReturn(Optional.of(profileUser));
-            when(userRepository.countFollowersByUserId(profileUser.getId())).thenReturn(10L);
-            when(userRepository.countFollowingByUserId(profileUser.getId())).thenReturn(5L);
+            when(followGraph.countFollowers(profileUser.getId())).thenReturn(10L);
+            when(followGraph.countFollowing(profileUser.getId())).thenReturn(5L);
             when(reviewRepository.countByUserPseudo("gamer123")).thenReturn(3L);
             when(wishRepository.countByUserPseudo("gamer123")).thenReturn(7L);
 
@@ -208,13 +209,13 @@ class ProfileServiceImplTest {
             // Given
             when(userRepository.findByPseudoWithBadgesAndFavorites("gamer123"))
                     .thenReturn(Optional.of(profileUser));
-            when(userRepository.countFollowersByUserId(profileUser.getId())).thenReturn(0L);
-            when(userRepository.countFollowingByUserId(profileUser.getId())).thenReturn(0L);
+            when(followGraph.countFollowers(profileUser.getId())).thenReturn(0L);
+            when(followGraph.countFollowing(profileUser.getId())).thenReturn(0L);
             when(reviewRepository.countByUserPseudo("gamer123")).thenReturn(0L);
             when(wishRepository.countByUserPseudo("gamer123")).thenReturn(0L);
             when(userRepository.findByEmail("viewer@example.com"))
                     .thenReturn(Optional.of(viewerUser));
-            when(userRepository.isFollowing(viewerUser.getId(), profileUser.getId()))
+            when(followGraph.isFollowing(viewerUser.getId(), profileUser.getId()))
                     .thenReturn(true);
 
             // When
@@ -231,13 +232,13 @@ class ProfileServiceImplTest {
             // Given
             when(userRepository.findByPseudoWithBadgesAndFavorites("gamer123"))
                     .thenReturn(Optional.of(profileUser));
-            when(userRepository.countFollowersByUserId(profileUser.getId())).thenReturn(0L);
-            when(userRepository.countFollowingByUserId(profileUser.getId())).thenReturn(0L);
+            when(followGraph.countFollowers(profileUser.getId())).thenReturn(0L);
+            when(followGraph.countFollowing(profileUser.getId())).thenReturn(0L);
             when(reviewRepository.countByUserPseudo("gamer123")).thenReturn(0L);
             when(wishRepository.countByUserPseudo("gamer123")).thenReturn(0L);
             when(userRepository.findByEmail("profile@example.com"))
                     .thenReturn(Optional.of(profileUser));
-            when(userRepository.isFollowing(profileUser.getId(), profileUser.getId()))
+            when(followGraph.isFollowing(profileUser.getId(), profileUser.getId()))
                     .thenReturn(false);
 
             // When
@@ -304,8 +305,8 @@ class ProfileServiceImplTest {
 
             when(userRepository.findByPseudoWithBadgesAndFavorites("gamer123"))
                     .thenReturn(Optional.of(profileUser));
-            when(userRepository.countFollowersByUserId(profileUser.getId())).thenReturn(0L);
-            when(userRepository.countFollowingByUserId(profileUser.getId())).thenReturn(0L);
+            when(followGraph.countFollowers(profileUser.getId())).thenReturn(0L);
+            when(followGraph.countFollowing(profileUser.getId())).thenReturn(0L);
             when(reviewRepository.countByUserPseudo("gamer123")).thenReturn(0L);
             when(wishRepository.countByUserPseudo("gamer123")).thenReturn(0L);
             when(userGamePlayRepository.findRecentByUserId(eq(profileUser.getId()), any(Pageable.class)))
@@ -350,13 +351,13 @@ class ProfileServiceImplTest {
             profileUser.setIsPrivate(true);
             when(userRepository.findByPseudoWithBadgesAndFavorites("gamer123"))
                     .thenReturn(Optional.of(profileUser));
-            when(userRepository.countFollowersByUserId(profileUser.getId())).thenReturn(0L);
-            when(userRepository.countFollowingByUserId(profileUser.getId())).thenReturn(0L);
+            when(followGraph.countFollowers(profileUser.getId())).thenReturn(0L);
+            when(followGraph.countFollowing(profileUser.getId())).thenReturn(0L);
             when(reviewRepository.countByUserPseudo("gamer123")).thenReturn(0L);
             when(wishRepository.countByUserPseudo("gamer123")).thenReturn(0L);
             when(userRepository.findByEmail("viewer@example.com"))
                     .thenReturn(Optional.of(viewerUser));
-            when(userRepository.isFollowing(viewerUser.getId(), profileUser.getId()))
+            when(followGraph.isFollowing(viewerUser.getId(), profileUser.getId()))
                     .thenReturn(false);
 
             // When
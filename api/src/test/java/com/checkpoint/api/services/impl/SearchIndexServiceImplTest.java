@@ -0,0 +1,350 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.metamodel.IndexDescriptor;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryWhereStep;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.entity.SearchIndexedEntity;
+import org.hibernate.search.mapper.orm.mapping.SearchMapping;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.scope.SearchScope;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.hibernate.search.mapper.orm.work.SearchWorkspace;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.checkpoint.api.dto.admin.SearchIndexEntityStatusDto;
+import com.checkpoint.api.dto.admin.SearchIndexStatusDto;
+import com.checkpoint.api.entities.News;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Unit tests for {@link SearchIndexServiceImpl}: full rebuild without a watermark or after
+ * a mapping change, incremental catch-up from a stored watermark, and id reconciliation. The Hibernate
+ * Search mapping and DSL are mocked end-to-end.
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchIndexServiceImplTest {
+
+    private static final LocalDateTime LATEST_UPDATE = LocalDateTime.of(2026, 3, 1, 11, 0);
+
+    @TempDir
+    Path indexRoot;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SearchMapping mapping;
+
+    @Mock
+    private SearchIndexedEntity<News> newsEntity;
+
+    @Mock
+    private IndexManager indexManager;
+
+    @Mock
+    private IndexDescriptor indexDescriptor;
+
+    @Mock
+    private SearchScope<News> scope;
+
+    @Mock
+    private SearchWorkspace workspace;
+
+    @Mock
+    private MassIndexer massIndexer;
+
+    @Mock
+    private SearchSession session;
+
+    @Mock
+    private SearchIndexingPlan indexingPlan;
+
+    private SearchIndexServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+        service = new SearchIndexServiceImpl(entityManagerFactory, entityManager, transactionManager, clock,
+                indexRoot.toString(), 2, 2, Duration.ofMinutes(5), false);
+
+        lenient().when(newsEntity.jpaName()).thenReturn("News");
+        lenient().doReturn(News.class).when(newsEntity).javaClass();
+        lenient().when(newsEntity.indexManager()).thenReturn(indexManager);
+        lenient().when(indexManager.descriptor()).thenReturn(indexDescriptor);
+        lenient().doReturn(List.of()).when(indexDescriptor).staticFields();
+        lenient().doReturn(List.of(newsEntity)).when(mapping).allIndexedEntities();
+        lenient().doReturn(scope).when(mapping).scope(News.class);
+        lenient().when(scope.workspace()).thenReturn(workspace);
+        lenient().when(session.indexingPlan()).thenReturn(indexingPlan);
+
+        TypedQuery<LocalDateTime> latest = stubQuery("SELECT MAX(e.updatedAt)", LocalDateTime.class);
+        lenient().when(latest.getSingleResult()).thenReturn(LATEST_UPDATE);
+    }
+
+    @Test
+    @DisplayName("status is degraded until the first catch-up completes")
+    void getStatus_shouldBeDegradedBeforeCatchUp() {
+        SearchIndexStatusDto status = service.getStatus();
+
+        assertThat(status.state()).isEqualTo("CATCHING_UP");
+        assertThat(status.degraded()).isTrue();
+        assertThat(service.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("catchUp mass-indexes an entity without a watermark and stores one")
+    void catchUp_shouldMassIndexWithoutWatermark() throws Exception {
+        stubMassIndexer();
+        stubCounts(10L, 10L);
+
+        try (MockedStatic<Search> search = Mockito.mockStatic(Search.class)) {
+            search.when(() -> Search.mapping(entityManagerFactory)).thenReturn(mapping);
+            search.when(() -> Search.session(entityManager)).thenReturn(session);
+
+            service.catchUp();
+        }
+
+        verify(massIndexer).purgeAllOnStart(false);
+        verify(massIndexer).startAndWait();
+        verify(workspace).refresh();
+        assertThat(readWatermarks().getProperty("News")).isEqualTo(LATEST_UPDATE.minusMinutes(5).toString());
+        assertThat(readWatermarks().getProperty("News.mapping"))
+                .isEqualTo(SearchIndexServiceImpl.mappingFingerprint(newsEntity));
+
+        SearchIndexStatusDto status = service.getStatus();
+        assertThat(status.state()).isEqualTo("READY");
+        assertThat(status.degraded()).isFalse();
+        assertThat(status.entities()).extracting(SearchIndexEntityStatusDto::mode).containsExactly("FULL");
+        assertThat(service.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("catchUp mass-indexes an entity whose index fields changed since its watermark")
+    void catchUp_shouldMassIndexWhenMappingChanged() throws Exception {
+        writeWatermarks("News=2026-02-01T00:00\nNews.mapping=outdated\n");
+        stubMassIndexer();
+        stubCounts(10L, 10L);
+
+        try (MockedStatic<Search> search = Mockito.mockStatic(Search.class)) {
+            search.when(() -> Search.mapping(entityManagerFactory)).thenReturn(mapping);
+            search.when(() -> Search.session(entityManager)).thenReturn(session);
+
+            service.catchUp();
+        }
+
+        verify(massIndexer).startAndWait();
+        assertThat(readWatermarks().getProperty("News.mapping"))
+                .isEqualTo(SearchIndexServiceImpl.mappingFingerprint(newsEntity));
+        assertThat(service.getStatus().entities()).extracting(SearchIndexEntityStatusDto::mode).containsExactly("FULL");
+    }
+
+    @Test
+    @DisplayName("catchUp re-indexes only the rows updated since the watermark, in batches")
+    void catchUp_shouldReindexChangedRowsOnly() throws Exception {
+        writeWatermark("2026-02-01T00:00");
+
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        TypedQuery<UUID> changed = stubQuery("SELECT e.id FROM News e WHERE e.updatedAt", UUID.class);
+        when(changed.getResultList()).thenReturn(List.of(first, second, third));
+
+        News firstNews = news(first);
+        News secondNews = news(second);
+        News thirdNews = news(third);
+        TypedQuery<News> load = stubQuery("SELECT e FROM News e WHERE e.id IN", News.class);
+        when(load.getResultList()).thenReturn(List.of(firstNews, secondNews), List.of(thirdNews));
+
+        stubCounts(10L, 10L);
+
+        try (MockedStatic<Search> search = Mockito.mockStatic(Search.class)) {
+            search.when(() -> Search.mapping(entityManagerFactory)).thenReturn(mapping);
+            search.when(() -> Search.session(entityManager)).thenReturn(session);
+
+            service.catchUp();
+        }
+
+        verify(indexingPlan).addOrUpdate(firstNews);
+        verify(indexingPlan).addOrUpdate(secondNews);
+        verify(indexingPlan).addOrUpdate(thirdNews);
+        verify(load).setParameter("ids", List.of(first, second));
+        verify(load).setParameter("ids", List.of(third));
+        verify(scope, never()).massIndexer();
+        verify(workspace).refresh();
+        assertThat(readWatermarks().getProperty("News")).isEqualTo(LATEST_UPDATE.minusMinutes(5).toString());
+
+        SearchIndexEntityStatusDto progress = service.getStatus().entities().get(0);
+        assertThat(progress.mode()).isEqualTo("INCREMENTAL");
+        assertThat(progress.total()).isEqualTo(3);
+        assertThat(progress.indexed()).isEqualTo(3);
+        assertThat(progress.completed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("catchUp indexes missing rows and purges orphaned documents when counts differ")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void catchUp_shouldReconcileIdsWhenCountsDiffer() {
+        writeWatermark("2026-02-01T00:00");
+
+        TypedQuery<UUID> changed = stubQuery("SELECT e.id FROM News e WHERE e.updatedAt", UUID.class);
+        when(changed.getResultList()).thenReturn(List.of());
+
+        UUID kept = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        UUID orphan = UUID.randomUUID();
+        TypedQuery<UUID> rowIds = mock(TypedQuery.class);
+        when(entityManager.createQuery(eq("SELECT e.id FROM News e"), eq(UUID.class))).thenReturn(rowIds);
+        when(rowIds.getResultList()).thenReturn(List.of(kept, missing));
+
+        News missingNews = news(missing);
+        TypedQuery<News> load = stubQuery("SELECT e FROM News e WHERE e.id IN", News.class);
+        when(load.getResultList()).thenReturn(List.of(missingNews));
+
+        SearchQuerySelectStep selectStep = stubCounts(2L, 3L);
+        SearchQueryWhereStep whereStep = mock(SearchQueryWhereStep.class);
+        SearchQueryOptionsStep idsStep = mock(SearchQueryOptionsStep.class);
+        doReturn(whereStep).when(selectStep).select(any(Function.class));
+        doReturn(idsStep).when(whereStep).where(any(Function.class));
+        doReturn(List.of(kept, orphan)).when(idsStep).fetchAllHits();
+
+        try (MockedStatic<Search> search = Mockito.mockStatic(Search.class)) {
+            search.when(() -> Search.mapping(entityManagerFactory)).thenReturn(mapping);
+            search.when(() -> Search.session(entityManager)).thenReturn(session);
+
+            service.catchUp();
+        }
+
+        verify(load).setParameter("ids", List.of(missing));
+        verify(indexingPlan).addOrUpdate(missingNews);
+        verify(indexingPlan).purge(News.class, orphan, null);
+        assertThat(service.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("catchUp records a failure in the status instead of throwing")
+    void catchUp_shouldRecordFailure() {
+        when(mapping.allIndexedEntities()).thenThrow(new IllegalStateException("index locked"));
+
+        try (MockedStatic<Search> search = Mockito.mockStatic(Search.class)) {
+            search.when(() -> Search.mapping(entityManagerFactory)).thenReturn(mapping);
+
+            service.catchUp();
+        }
+
+        SearchIndexStatusDto status = service.getStatus();
+        assertThat(status.state()).isEqualTo("FAILED");
+        assertThat(status.degraded()).isTrue();
+        assertThat(status.errorMessage()).isEqualTo("index locked");
+        assertThat(status.finishedAt()).isNotNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TypedQuery<T> stubQuery(String prefix, Class<T> type) {
+        TypedQuery<T> query = mock(TypedQuery.class);
+        lenient().when(entityManager.createQuery(startsWith(prefix), eq(type))).thenReturn(query);
+        lenient().when(query.setParameter(anyString(), any())).thenReturn(query);
+        return query;
+    }
+
+    /**
+     * Stubs the row count query and the index document count; returns the mocked search
+     * step so callers can stub further projections on it.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private SearchQuerySelectStep stubCounts(long rows, long documents) {
+        TypedQuery<Long> count = stubQuery("SELECT COUNT(e)", Long.class);
+        when(count.getSingleResult()).thenReturn(rows);
+
+        SearchQuerySelectStep selectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryOptionsStep countStep = mock(SearchQueryOptionsStep.class);
+        doReturn(selectStep).when(session).search(News.class);
+        doReturn(countStep).when(selectStep).where(any(Function.class));
+        when(countStep.fetchTotalHitCount()).thenReturn(documents);
+        return selectStep;
+    }
+
+    private void stubMassIndexer() {
+        when(scope.massIndexer()).thenReturn(massIndexer);
+        when(massIndexer.purgeAllOnStart(false)).thenReturn(massIndexer);
+        when(massIndexer.threadsToLoadObjects(2)).thenReturn(massIndexer);
+        when(massIndexer.batchSizeToLoadObjects(2)).thenReturn(massIndexer);
+        when(massIndexer.monitor(any(MassIndexingMonitor.class))).thenReturn(massIndexer);
+    }
+
+    /** Stores a watermark for the current mapping of the News index. */
+    private void writeWatermark(String value) {
+        writeWatermarks("News=" + value + "\n"
+                + "News.mapping=" + SearchIndexServiceImpl.mappingFingerprint(newsEntity) + "\n");
+    }
+
+    private void writeWatermarks(String content) {
+        try {
+            Files.writeString(indexRoot.resolve(SearchIndexServiceImpl.WATERMARK_FILE), content);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Properties readWatermarks() throws IOException {
+        Properties watermarks = new Properties();
+        try (InputStream in = Files.newInputStream(indexRoot.resolve(SearchIndexServiceImpl.WATERMARK_FILE))) {
+            watermarks.load(in);
+        }
+        return watermarks;
+    }
+
+    private static News news(UUID id) {
+        News news = new News();
+        news.setId(id);
+        return news;
+    }
+}
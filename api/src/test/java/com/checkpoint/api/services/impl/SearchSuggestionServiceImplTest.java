@@ -0,0 +1,131 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryWhereStep;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.dto.search.GameSuggestionDto;
+import com.checkpoint.api.dto.search.ListSuggestionDto;
+import com.checkpoint.api.dto.search.MemberSuggestionDto;
+import com.checkpoint.api.dto.search.SearchSuggestionsDto;
+import com.checkpoint.api.entities.GameList;
+import com.checkpoint.api.entities.User;
+import com.checkpoint.api.entities.VideoGame;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Unit tests for {@link SearchSuggestionServiceImpl}: query splitting, and one projected
+ * query per suggestion group. The Hibernate Search DSL is mocked end-to-end.
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchSuggestionServiceImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SearchSession session;
+
+    private SearchSuggestionServiceImpl searchSuggestionService;
+
+    @BeforeEach
+    void setUp() {
+        searchSuggestionService = new SearchSuggestionServiceImpl(entityManager);
+    }
+
+    @Test
+    @DisplayName("terms lower-cases, drops one-letter words and truncates long ones")
+    void terms_shouldNormalizeWords() {
+        assertThat(SearchSuggestionServiceImpl.terms("  The Witcher 3  Wild  "))
+                .containsExactly("the", "witcher", "wild");
+        assertThat(SearchSuggestionServiceImpl.terms("supercalifragilisticexpialidocious"))
+                .containsExactly("supercalifragilistic");
+        assertThat(SearchSuggestionServiceImpl.terms("zelda zelda")).containsExactly("zelda");
+    }
+
+    @Test
+    @DisplayName("terms keeps at most five words")
+    void terms_shouldCapWordCount() {
+        assertThat(SearchSuggestionServiceImpl.terms("aa bb cc dd ee ff gg"))
+                .containsExactly("aa", "bb", "cc", "dd", "ee");
+    }
+
+    @Test
+    @DisplayName("suggest returns empty groups without querying the index when no word is long enough")
+    void suggest_shouldSkipIndexForShortQuery() {
+        try (MockedStatic<Search> search = Mockito.mockStatic(Search.class)) {
+            SearchSuggestionsDto result = searchSuggestionService.suggest("a", 5);
+
+            assertThat(result.games()).isEmpty();
+            assertThat(result.lists()).isEmpty();
+            assertThat(result.members()).isEmpty();
+            search.verifyNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("suggest returns the projected hits of each group")
+    @SuppressWarnings("rawtypes")
+    void suggest_shouldReturnProjectedHits() {
+        GameSuggestionDto game = new GameSuggestionDto(
+                UUID.randomUUID(), "Hollow Knight", "https://img/hk.jpg", LocalDate.of(2017, 2, 24));
+        ListSuggestionDto list = new ListSuggestionDto(UUID.randomUUID(), "Hollow favourites", "alice", 12);
+        MemberSuggestionDto member = new MemberSuggestionDto(UUID.randomUUID(), "HollowFan", null, 7);
+
+        SearchQueryOptionsStep games = stubSearch(VideoGame.class, List.of(game));
+        stubSearch(GameList.class, List.of(list));
+        stubSearch(User.class, List.of(member));
+
+        try (MockedStatic<Search> search = Mockito.mockStatic(Search.class)) {
+            search.when(() -> Search.session(entityManager)).thenReturn(session);
+
+            SearchSuggestionsDto result = searchSuggestionService.suggest("hol", 3);
+
+            assertThat(result.games()).containsExactly(game);
+            assertThat(result.lists()).containsExactly(list);
+            assertThat(result.members()).containsExactly(member);
+        }
+
+        verify(games).fetchHits(3);
+    }
+
+    /**
+     * Stubs the select / where / sort / fetch chain for one entity type. Uses raw types
+     * and {@code doReturn} to bypass Hibernate Search's generic fluent API.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private SearchQueryOptionsStep stubSearch(Class<?> type, List<?> hits) {
+        SearchQuerySelectStep selectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryWhereStep whereStep = mock(SearchQueryWhereStep.class);
+        SearchQueryOptionsStep optionsStep = mock(SearchQueryOptionsStep.class);
+
+        doReturn(selectStep).when(session).search(type);
+        doReturn(whereStep).when(selectStep).select(any(Function.class));
+        doReturn(optionsStep).when(whereStep).where(any(Function.class));
+        doReturn(optionsStep).when(optionsStep).sort(any(Function.class));
+        doReturn(hits).when(optionsStep).fetchHits(3);
+        return optionsStep;
+    }
+}
@@ -0,0 +1,140 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.checkpoint.api.client.IgdbApiClient;
+import com.checkpoint.api.dto.igdb.IgdbExternalGameDto;
+import com.checkpoint.api.entities.SteamAppMapping;
+import com.checkpoint.api.repositories.SteamAppMappingRepository;
+import com.checkpoint.api.services.SteamAppMappingService.SteamAppMatch;
+
+/**
+ * Unit tests for {@link SteamAppMappingServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SteamAppMappingServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T12:00:00Z");
+
+    @Mock
+    private SteamAppMappingRepository steamAppMappingRepository;
+
+    @Mock
+    private IgdbApiClient igdbApiClient;
+
+    private SteamAppMappingServiceImpl service;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        now = LocalDateTime.now(clock);
+        service = new SteamAppMappingServiceImpl(steamAppMappingRepository, igdbApiClient, clock, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("a library made only of known apps resolves without calling IGDB")
+    void resolveIgdbIds_allKnown_shouldSkipIgdb() {
+        when(steamAppMappingRepository.findAllBySteamAppIdIn(anyCollection())).thenReturn(List.of(
+                new SteamAppMapping(100L, 1000L, now.minusYears(1)),
+                new SteamAppMapping(200L, null, now.minusDays(1))));
+
+        List<SteamAppMatch> result = service.resolveIgdbIds(List.of(100L, 200L));
+
+        assertThat(result).containsExactly(new SteamAppMatch(100L, 1000L));
+        verifyNoInteractions(igdbApiClient);
+        verify(steamAppMappingRepository, never()).upsertAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("unknown and expired apps are looked up once and cached, unmatched ones as negatives")
+    @SuppressWarnings("unchecked")
+    void resolveIgdbIds_unknownAndExpired_shouldLookUpAndCache() {
+        SteamAppMapping expired = new SteamAppMapping(200L, null, now.minusDays(8));
+        when(steamAppMappingRepository.findAllBySteamAppIdIn(anyCollection())).thenReturn(List.of(
+                new SteamAppMapping(100L, 1000L, now.minusDays(30)),
+                expired));
+        when(igdbApiClient.findIgdbIdsForSteamAppIds(List.of(200L, 300L))).thenReturn(List.of(
+                new IgdbExternalGameDto(1L, "200", 2000L)));
+
+        List<SteamAppMatch> result = service.resolveIgdbIds(List.of(100L, 200L, 300L));
+
+        assertThat(result).containsExactlyInAnyOrder(
+                new SteamAppMatch(100L, 1000L),
+                new SteamAppMatch(200L, 2000L));
+
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(steamAppMappingRepository).upsertAll(captor.capture(), eq(now));
+        assertThat(captor.getValue()).containsExactly(entry(200L, 2000L), entry(300L, null));
+    }
+
+    @Test
+    @DisplayName("two syncs resolving the same unknown app at once both upsert it and both get the match")
+    void resolveIgdbIds_concurrentFirstInsert_shouldUpsertInsteadOfFailing() throws Exception {
+        when(steamAppMappingRepository.findAllBySteamAppIdIn(anyCollection())).thenReturn(List.of());
+        when(igdbApiClient.findIgdbIdsForSteamAppIds(List.of(100L))).thenReturn(List.of(
+                new IgdbExternalGameDto(1L, "100", 1000L)));
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Callable<List<SteamAppMatch>> sync = () -> {
+                start.await();
+                return service.resolveIgdbIds(List.of(100L));
+            };
+            Future<List<SteamAppMatch>> first = executor.submit(sync);
+            Future<List<SteamAppMatch>> second = executor.submit(sync);
+            start.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(new SteamAppMatch(100L, 1000L));
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly(new SteamAppMatch(100L, 1000L));
+        }
+
+        verify(steamAppMappingRepository, times(2)).upsertAll(Map.of(100L, 1000L), now);
+        verify(steamAppMappingRepository, never()).saveAll(any());
+        verify(steamAppMappingRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("resolveSteamAppIds serves known mappings and records the ones IGDB returns")
+    void resolveSteamAppIds_shouldRecordNewMappings() {
+        when(steamAppMappingRepository.findAllByIgdbIdIn(anyCollection())).thenReturn(List.of(
+                new SteamAppMapping(100L, 1000L, now.minusDays(3))));
+        when(igdbApiClient.findSteamAppIdsForIgdbIds(List.of(2000L))).thenReturn(Map.of(2000L, 200L));
+
+        Map<Long, Long> result = service.resolveSteamAppIds(List.of(1000L, 2000L));
+
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1000L, 100L, 2000L, 200L));
+        verify(steamAppMappingRepository).upsertAll(Map.of(200L, 2000L), now);
+    }
+}
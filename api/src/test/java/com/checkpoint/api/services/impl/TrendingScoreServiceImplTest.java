@@ -0,0 +1,134 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.checkpoint.api.entities.TrendingGame;
+import com.checkpoint.api.enums.TrendingSignal;
+import com.checkpoint.api.repositories.GameActivityBucketRepository;
+import com.checkpoint.api.repositories.RateRepository;
+import com.checkpoint.api.repositories.TrendingGameRepository;
+import com.checkpoint.api.repositories.VideoGameRepository;
+
+/**
+ * Unit tests for {@link TrendingScoreServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrendingScoreServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T12:20:00Z");
+
+    @Mock private GameActivityBucketRepository bucketRepository;
+    @Mock private TrendingGameRepository trendingGameRepository;
+    @Mock private VideoGameRepository videoGameRepository;
+    @Mock private RateRepository rateRepository;
+
+    @Captor private ArgumentCaptor<List<TrendingGame>> snapshotCaptor;
+
+    private TrendingScoreServiceImpl service;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrendingScoreServiceImpl(bucketRepository, trendingGameRepository,
+                videoGameRepository, rateRepository, Clock.fixed(NOW, ZoneOffset.UTC));
+        now = LocalDateTime.ofInstant(NOW, ZoneId.systemDefault());
+    }
+
+    @Test
+    @DisplayName("recordActivity should create the current hour's bucket when it does not exist")
+    void recordActivity_shouldInsertMissingBucket() {
+        LocalDateTime hour = now.truncatedTo(ChronoUnit.HOURS);
+        UUID gameId = UUID.randomUUID();
+        when(bucketRepository.addPoints(gameId, hour, 3)).thenReturn(0);
+
+        service.recordActivity(gameId, TrendingSignal.PLAY);
+
+        verify(bucketRepository).insertBucket(gameId, hour, 3);
+    }
+
+    @Test
+    @DisplayName("recordActivity should only increment an existing bucket")
+    void recordActivity_shouldIncrementExistingBucket() {
+        UUID gameId = UUID.randomUUID();
+        when(bucketRepository.addPoints(eq(gameId), any(), eq(1L))).thenReturn(1);
+
+        service.recordActivity(gameId, TrendingSignal.WISH);
+
+        verify(bucketRepository, never()).insertBucket(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("removeActivity should take the points back out of the bucket the row was created in")
+    void removeActivity_shouldSubtractFromCreationBucket() {
+        UUID gameId = UUID.randomUUID();
+        LocalDateTime createdAt = now.minusHours(5).withMinute(42);
+
+        service.removeActivity(gameId, TrendingSignal.LIBRARY_ADD, createdAt);
+
+        verify(bucketRepository).removePoints(gameId, createdAt.truncatedTo(ChronoUnit.HOURS), 3);
+        verify(bucketRepository, never()).addPoints(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("refreshSnapshot should rank by decayed score and pad with top-rated games")
+    void refreshSnapshot_shouldRankByDecayedScoreAndPad() {
+        UUID recent = UUID.randomUUID();
+        UUID older = UUID.randomUUID();
+        UUID fallback = UUID.randomUUID();
+        LocalDateTime hour = now.truncatedTo(ChronoUnit.HOURS);
+        when(bucketRepository.findStandaloneBucketsSince(any())).thenReturn(List.of(
+                new Object[] {recent, hour, 3L},
+                // 10 points four days ago decay to about 2.5, below the 3 recent points.
+                new Object[] {older, hour.minusDays(4), 10L}));
+        when(videoGameRepository.findTrendingFallbackIds(any(Pageable.class)))
+                .thenReturn(List.of(older, fallback));
+        when(rateRepository.countByVideoGameIds(List.of(recent, older, fallback)))
+                .thenReturn(List.<Object[]>of(new Object[] {fallback, 12L}));
+
+        int ranked = service.refreshSnapshot();
+
+        assertThat(ranked).isEqualTo(2);
+        verify(bucketRepository).deleteOlderThan(hour.minusDays(7));
+        verify(trendingGameRepository).deleteAllInBatch();
+        verify(trendingGameRepository).saveAll(snapshotCaptor.capture());
+        List<TrendingGame> snapshot = snapshotCaptor.getValue();
+        assertThat(snapshot).extracting(TrendingGame::getVideoGameId).containsExactly(recent, older, fallback);
+        assertThat(snapshot).extracting(TrendingGame::getPosition).containsExactly(1, 2, 3);
+        assertThat(snapshot).extracting(TrendingGame::getRatingCount).containsExactly(0L, 0L, 12L);
+        assertThat(snapshot.get(2).getScore()).isZero();
+    }
+
+    @Test
+    @DisplayName("decayed should halve points every half-life")
+    void decayed_shouldHalvePerHalfLife() {
+        LocalDateTime bucketStart = now.minusHours(TrendingScoreServiceImpl.HALF_LIFE_HOURS).minusMinutes(30);
+
+        assertThat(TrendingScoreServiceImpl.decayed(8, bucketStart, now)).isCloseTo(4.0, within(1e-9));
+    }
+}
@@ -0,0 +1,175 @@
+package com.checkpoint.api.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.checkpoint.api.entities.UserStats;
+import com.checkpoint.api.enums.PlayStatus;
+import com.checkpoint.api.repositories.UserStatsRepository;
+
+/**
+ * Unit tests for {@link UserStatsServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserStatsServiceImplTest {
+
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
+    private UserStatsServiceImpl userStatsService;
+
+    private UUID userId;
+    private UUID gameId;
+
+    @BeforeEach
+    void setUp() {
+        userStatsService = new UserStatsServiceImpl(userStatsRepository);
+
+        userId = UUID.randomUUID();
+        gameId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("library changes")
+    class LibraryChanges {
+
+        @Test
+        @DisplayName("Adding a completed game counts it in the library and in its genres")
+        void libraryEntryAdded_completed_shouldAdjustBoth() {
+            userStatsService.libraryEntryAdded(userId, gameId, PlayStatus.COMPLETED);
+
+            verify(userStatsRepository).adjust(userId, 0, 1, 0);
+            verify(userStatsRepository).adjustCompleted(userId, gameId, 1);
+        }
+
+        @Test
+        @DisplayName("A status change that does not cross COMPLETED leaves the counters alone")
+        void libraryStatusChanged_withoutCompletion_shouldNoOp() {
+            userStatsService.libraryStatusChanged(userId, gameId, PlayStatus.ARE_PLAYING, PlayStatus.PLAYED);
+
+            verify(userStatsRepository, never()).adjustCompleted(eq(userId), eq(gameId), anyInt());
+        }
+
+        @Test
+        @DisplayName("Leaving COMPLETED decrements the completion counters")
+        void libraryStatusChanged_leavingCompleted_shouldDecrement() {
+            userStatsService.libraryStatusChanged(userId, gameId, PlayStatus.COMPLETED, PlayStatus.ARE_PLAYING);
+
+            verify(userStatsRepository).adjustCompleted(userId, gameId, -1);
+        }
+
+        @Test
+        @DisplayName("Removing a completed game decrements the library and its genres")
+        void libraryEntryRemoved_completed_shouldDecrementBoth() {
+            userStatsService.libraryEntryRemoved(userId, gameId, PlayStatus.COMPLETED);
+
+            verify(userStatsRepository).adjust(userId, 0, -1, 0);
+            verify(userStatsRepository).adjustCompleted(userId, gameId, -1);
+        }
+    }
+
+    @Nested
+    @DisplayName("rateChanged()")
+    class RateChanged {
+
+        @Test
+        @DisplayName("Moving a rate into the one-star range increments the count")
+        void rateChanged_intoOneStar_shouldIncrement() {
+            userStatsService.rateChanged(userId, 6, 2);
+
+            verify(userStatsRepository).adjust(userId, 0, 0, 1);
+        }
+
+        @Test
+        @DisplayName("Removing a one-star rate decrements the count")
+        void rateChanged_removedOneStar_shouldDecrement() {
+            userStatsService.rateChanged(userId, 1, null);
+
+            verify(userStatsRepository).adjust(userId, 0, 0, -1);
+        }
+
+        @Test
+        @DisplayName("Changes outside the one-star range do not touch the database")
+        void rateChanged_outsideOneStar_shouldNoOp() {
+            userStatsService.rateChanged(userId, 6, 8);
+
+            verify(userStatsRepository, never()).adjust(eq(userId), anyInt(), anyInt(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("getStats()")
+    class GetStats {
+
+        @Test
+        @DisplayName("Should return the stored row without rebuilding it")
+        void getStats_existing_shouldNotRebuild() {
+            UserStats stats = new UserStats(userId);
+            when(userStatsRepository.findById(userId)).thenReturn(Optional.of(stats));
+
+            assertThat(userStatsService.getStats(userId)).isSameAs(stats);
+            verify(userStatsRepository, never()).buildStats(List.of(userId));
+        }
+
+        @Test
+        @DisplayName("Should build the row from the source tables on first read")
+        void getStats_missing_shouldBuild() {
+            UserStats built = new UserStats(userId);
+            built.setReviewCount(3);
+            when(userStatsRepository.findById(userId)).thenReturn(Optional.empty(), Optional.of(built));
+
+            UserStats result = userStatsService.getStats(userId);
+
+            assertThat(result.getReviewCount()).isEqualTo(3);
+            InOrder inOrder = inOrder(userStatsRepository);
+            inOrder.verify(userStatsRepository).deleteCounters(List.of(userId));
+            inOrder.verify(userStatsRepository).buildCounters(List.of(userId));
+            inOrder.verify(userStatsRepository).buildStats(List.of(userId));
+        }
+    }
+
+    @Test
+    @DisplayName("getGenreCompletions matches genre names case-insensitively")
+    void getGenreCompletions_shouldLowerCaseNames() {
+        when(userStatsRepository.findById(userId)).thenReturn(Optional.of(new UserStats(userId)));
+        when(userStatsRepository.findGenreCompletions(userId, List.of("indie", "shooter")))
+                .thenReturn(List.<Object[]>of(new Object[] {"indie", 4L}));
+
+        Map<String, Long> completions = userStatsService.getGenreCompletions(userId, List.of("Indie", "Shooter"));
+
+        assertThat(completions).containsExactly(Map.entry("indie", 4L));
+    }
+
+    @Test
+    @DisplayName("backfill builds the next batch of users without stats")
+    void backfill_shouldBuildBatch() {
+        List<UUID> batch = List.of(userId, UUID.randomUUID());
+        when(userStatsRepository.findUserIdsWithoutStats(PageRequest.of(0, 2))).thenReturn(batch);
+
+        int built = userStatsService.backfill(2);
+
+        assertThat(built).isEqualTo(2);
+        verify(userStatsRepository).buildCounters(batch);
+        verify(userStatsRepository).buildStats(batch);
+    }
+}
@@ -0,0 +1,98 @@
+package com.checkpoint.api.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BoundedCache}.
+ */
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("should evict the least recently used entry once full")
+    void shouldEvictLeastRecentlyUsed() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 2, null, Clock.systemUTC());
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should treat entries older than the TTL as misses")
+    void shouldExpireEntries() {
+        MutableClock clock = new MutableClock();
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(5), clock);
+        cache.put("a", 1);
+
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should drop a value computed across an invalidation of the same key only")
+    void shouldRejectStaleWrites() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, null, Clock.systemUTC());
+        long stamp = cache.stamp();
+
+        cache.invalidate("a");
+
+        assertThat(cache.putIfUnchanged("a", 1, stamp)).isFalse();
+        assertThat(cache.putIfUnchanged("b", 2, stamp)).isTrue();
+        assertThat(cache.putIfUnchanged("a", 1, cache.stamp())).isTrue();
+    }
+
+    @Test
+    @DisplayName("should reject every older stamp after invalidateAll")
+    void shouldRejectStaleWritesAfterInvalidateAll() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("test", 10, null, Clock.systemUTC());
+        cache.put("a", 1);
+        long stamp = cache.stamp();
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.putIfUnchanged("b", 2, stamp)).isFalse();
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.checkpoint.api.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CompactDigraph}.
+ */
+class CompactDigraphTest {
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    @Test
+    @DisplayName("should answer degrees and edge checks in both directions after a bulk load")
+    void shouldLoadBothDirections() {
+        CompactDigraph graph = CompactDigraph.build(
+                List.of(alice, alice, bob, alice),
+                List.of(bob, carol, carol, bob));
+
+        assertThat(graph.edgeCount()).isEqualTo(3);
+        assertThat(graph.outDegree(alice)).isEqualTo(2);
+        assertThat(graph.inDegree(carol)).isEqualTo(2);
+        assertThat(graph.inDegree(alice)).isZero();
+        assertThat(graph.hasEdge(alice, bob)).isTrue();
+        assertThat(graph.hasEdge(bob, alice)).isFalse();
+        assertThat(graph.successors(alice)).containsExactlyInAnyOrder(bob, carol);
+        assertThat(graph.predecessors(carol)).containsExactlyInAnyOrder(alice, bob);
+        assertThat(graph.successors(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should apply edge additions and removals on top of the loaded rows")
+    void shouldMutate() {
+        CompactDigraph graph = CompactDigraph.build(List.of(alice), List.of(bob));
+        UUID dave = UUID.randomUUID();
+
+        assertThat(graph.addEdge(alice, dave)).isTrue();
+        assertThat(graph.addEdge(alice, dave)).isFalse();
+        assertThat(graph.removeEdge(alice, bob)).isTrue();
+        assertThat(graph.removeEdge(alice, bob)).isFalse();
+
+        assertThat(graph.successors(alice)).containsExactly(dave);
+        assertThat(graph.predecessors(bob)).isEmpty();
+        assertThat(graph.inDegree(dave)).isEqualTo(1);
+        assertThat(graph.edgeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should drop every edge touching a removed vertex")
+    void shouldRemoveVertex() {
+        CompactDigraph graph = CompactDigraph.build(
+                List.of(alice, bob, carol),
+                List.of(bob, carol, bob));
+
+        graph.removeVertex(bob);
+
+        assertThat(graph.edgeCount()).isZero();
+        assertThat(graph.outDegree(alice)).isZero();
+        assertThat(graph.inDegree(carol)).isZero();
+        assertThat(graph.hasEdge(carol, bob)).isFalse();
+    }
+}
@@ -0,0 +1,74 @@
+package com.checkpoint.api.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HostFanOut}.
+ */
+class HostFanOutTest {
+
+    @Test
+    @DisplayName("should run every task and respect the global and per-host limits")
+    void shouldRespectLimits() {
+        HostFanOut fanOut = new HostFanOut(4, 2);
+        List<Integer> items = IntStream.range(0, 24).boxed().toList();
+        Set<Integer> done = ConcurrentHashMap.newKeySet();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Map<String, AtomicInteger> runningPerHost = new ConcurrentHashMap<>();
+        Map<String, Integer> maxPerHost = new ConcurrentHashMap<>();
+
+        fanOut.forEach(items, item -> item < 12 ? "slow.example" : "host-" + (item % 3), item -> {
+            String host = item < 12 ? "slow.example" : "host-" + (item % 3);
+            int onHost = runningPerHost.computeIfAbsent(host, key -> new AtomicInteger()).incrementAndGet();
+            maxPerHost.merge(host, onHost, Math::max);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            runningPerHost.get(host).decrementAndGet();
+            done.add(item);
+        });
+
+        assertThat(done).hasSize(24);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(4);
+        assertThat(maxPerHost.values()).allSatisfy(max -> assertThat(max).isLessThanOrEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("should keep running the other tasks when one throws")
+    void shouldIsolateFailures() {
+        HostFanOut fanOut = new HostFanOut(2, 1);
+        Set<Integer> done = ConcurrentHashMap.newKeySet();
+
+        fanOut.forEach(List.of(1, 2, 3), item -> "host", item -> {
+            if (item == 2) {
+                throw new IllegalStateException("boom");
+            }
+            done.add(item);
+        });
+
+        assertThat(done).containsExactlyInAnyOrder(1, 3);
+    }
+
+    @Test
+    @DisplayName("should reject non-positive limits")
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new HostFanOut(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HostFanOut(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
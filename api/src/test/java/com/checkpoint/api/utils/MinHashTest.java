@@ -0,0 +1,69 @@
+package com.checkpoint.api.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MinHash}.
+ */
+class MinHashTest {
+
+    @Test
+    @DisplayName("should estimate identical sets as fully similar regardless of order and duplicates")
+    void identicalSets() {
+        List<UUID> games = randomIds(20);
+        List<UUID> shuffled = new ArrayList<>(games.reversed());
+        shuffled.add(games.get(0));
+
+        int[] signature = MinHash.signature(games);
+
+        assertThat(MinHash.similarity(signature, MinHash.signature(shuffled))).isEqualTo(1.0);
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            assertThat(MinHash.bandKey(signature, band))
+                    .isEqualTo(MinHash.bandKey(MinHash.signature(shuffled), band));
+        }
+    }
+
+    @Test
+    @DisplayName("should estimate the Jaccard similarity of overlapping sets")
+    void overlappingSets() {
+        List<UUID> shared = randomIds(100);
+        List<UUID> a = new ArrayList<>(shared);
+        a.addAll(randomIds(50));
+        List<UUID> b = new ArrayList<>(shared);
+        b.addAll(randomIds(50));
+
+        // J = 100 / 200; the estimate's standard error is about 0.06.
+        assertThat(MinHash.similarity(MinHash.signature(a), MinHash.signature(b))).isCloseTo(0.5, within(0.25));
+        assertThat(MinHash.similarity(MinHash.signature(randomIds(100)), MinHash.signature(randomIds(100))))
+                .isLessThan(0.15);
+    }
+
+    @Test
+    @DisplayName("should grow a signature in place to the signature of the larger set")
+    void addGrowsSignature() {
+        List<UUID> games = randomIds(10);
+        int[] signature = MinHash.emptySignature();
+        assertThat(MinHash.isEmpty(signature)).isTrue();
+
+        games.forEach(game -> MinHash.add(signature, game));
+
+        assertThat(MinHash.isEmpty(signature)).isFalse();
+        assertThat(signature).isEqualTo(MinHash.signature(games));
+    }
+
+    private static List<UUID> randomIds(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,90 @@
+package com.checkpoint.api.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RankedSkipList}.
+ */
+class RankedSkipListTest {
+
+    private static final Comparator<Integer> DESCENDING = Comparator.reverseOrder();
+
+    @Test
+    @DisplayName("should rank elements in comparator order, 1-based")
+    void shouldRankInOrder() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(DESCENDING);
+        list.add(10);
+        list.add(30);
+        list.add(20);
+
+        assertThat(list.rankOf(30)).isEqualTo(1);
+        assertThat(list.rankOf(20)).isEqualTo(2);
+        assertThat(list.rankOf(10)).isEqualTo(3);
+        assertThat(list.rankOf(99)).isZero();
+        assertThat(list.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should return the elements at a rank range, clipped to the size")
+    void shouldReturnRange() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(DESCENDING);
+        for (int i = 1; i <= 10; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.range(1, 3)).containsExactly(10, 9, 8);
+        assertThat(list.range(9, 5)).containsExactly(2, 1);
+        assertThat(list.range(11, 5)).isEmpty();
+        assertThat(list.range(0, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should keep ranks consistent across removals")
+    void shouldRemove() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(DESCENDING);
+        list.add(3);
+        list.add(2);
+        list.add(1);
+
+        assertThat(list.remove(2)).isTrue();
+        assertThat(list.remove(2)).isFalse();
+        assertThat(list.rankOf(1)).isEqualTo(2);
+        assertThat(list.range(1, 10)).containsExactly(3, 1);
+    }
+
+    @Test
+    @DisplayName("should agree with a sorted set under random inserts and removals")
+    void shouldMatchSortedSet() {
+        Random random = new Random(42);
+        RankedSkipList<Integer> list = new RankedSkipList<>(DESCENDING);
+        TreeSet<Integer> expected = new TreeSet<>(DESCENDING);
+
+        for (int op = 0; op < 5_000; op++) {
+            int value = random.nextInt(1_000);
+            if (expected.contains(value)) {
+                assertThat(list.remove(value)).isTrue();
+                expected.remove(value);
+            } else {
+                list.add(value);
+                expected.add(value);
+            }
+        }
+
+        List<Integer> ordered = new ArrayList<>(expected);
+        assertThat(list.size()).isEqualTo(ordered.size());
+        assertThat(list.range(1, ordered.size())).isEqualTo(ordered);
+        for (int i = 0; i < ordered.size(); i += 37) {
+            assertThat(list.rankOf(ordered.get(i))).isEqualTo(i + 1);
+            assertThat(list.range(i + 1, 3)).isEqualTo(ordered.subList(i, Math.min(i + 3, ordered.size())));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.checkpoint.api.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RebuildTracker}.
+ */
+class RebuildTrackerTest {
+
+    @Test
+    @DisplayName("should let only one rebuild run at a time")
+    void shouldAllowSingleRebuild() {
+        RebuildTracker<String> tracker = new RebuildTracker<>();
+
+        assertThat(tracker.tryStart()).isTrue();
+        assertThat(tracker.tryStart()).isFalse();
+
+        tracker.finish();
+
+        assertThat(tracker.tryStart()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should only record changes while a rebuild is loading")
+    void shouldRecordChangesDuringRebuild() {
+        RebuildTracker<String> tracker = new RebuildTracker<>();
+        tracker.recordChange("before");
+
+        tracker.tryStart();
+        tracker.recordChange("during");
+
+        assertThat(tracker.drainChanges()).containsExactly("during");
+
+        tracker.recordChange("after-swap");
+        assertThat(tracker.drainChanges()).isEmpty();
+        tracker.finish();
+    }
+}
@@ -3,6 +3,7 @@ import { useNavigate, useRouterState } from '@tanstack/react-router'
 import { useQuery } from '@tanstack/react-query'
 import { SlidersHorizontal, X } from 'lucide-react'
 import type { KeyboardEvent } from 'react'
+import type { CatalogFacets, FacetCount } from '@/types/game'
 import { genresQueryOptions, platformsQueryOptions } from '@/queries/catalog'
 import { MultiSelectFilter } from '@/components/games/multi-select-filter'
 import { Badge } from '@/components/ui/badge'
@@ -45,15 +46,23 @@ const SORT_OPTIONS = [
 
 interface CatalogFiltersProps {
   search: CatalogFiltersSearch
+  /** Counts for the current filters; catalog-wide counts are shown without them. */
+  facets?: CatalogFacets
 }
 
-export function CatalogFilters({ search }: CatalogFiltersProps) {
+function toCountMap(facet: Array<FacetCount> | undefined) {
+  return facet ? new Map(facet.map((f) => [f.value, f.count])) : undefined
+}
+
+export function CatalogFilters({ search, facets }: CatalogFiltersProps) {
   const navigate = useNavigate()
   const pathname = useRouterState({ select: (s) => s.location.pathname })
   const isOnFiltered = pathname.startsWith('/games/filtered')
 
   const { data: genres } = useQuery(genresQueryOptions())
   const { data: platforms } = useQuery(platformsQueryOptions())
+  const genreCounts = toCountMap(facets?.genres)
+  const platformCounts = toCountMap(facets?.platforms)
 
   const [yearMin, setYearMin] = useState(search.yearMin?.toString() ?? '')
   const [yearMax, setYearMax] = useState(search.yearMax?.toString() ?? '')
@@ -206,7 +215,9 @@ export function CatalogFilters({ search }: CatalogFiltersProps) {
             genres?.map((g) => ({
               value: g.name,
               label: g.name,
-              count: g.videoGamesCount,
+              count: genreCounts
+                ? (genreCounts.get(g.name) ?? 0)
+                : g.videoGamesCount,
             })) ?? []
           }
           selected={selectedGenres}
@@ -221,7 +232,9 @@ export function CatalogFilters({ search }: CatalogFiltersProps) {
             platforms?.map((p) => ({
               value: p.name,
               label: p.name,
-              count: p.videoGamesCount,
+              count: platformCounts
+                ? (platformCounts.get(p.name) ?? 0)
+                : p.videoGamesCount,
             })) ?? []
           }
           selected={selectedPlatforms}
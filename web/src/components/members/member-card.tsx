@@ -23,6 +23,7 @@ interface MemberCardProps {
     followerCount?: number
     reviewCount?: number
     isFollowing?: boolean | null
+    affinityScore?: number
   }
   /**
    * Overrides the default follow button (e.g. a Remove/Unfollow action on the
@@ -80,6 +81,11 @@ export function MemberCard({ member, action }: MemberCardProps) {
               Level {member.level}
             </p>
           )}
+          {member.affinityScore != null && (
+            <p className="text-muted-foreground text-xs">
+              {member.affinityScore}% match
+            </p>
+          )}
         </div>
       </Link>
       {hasStats && (
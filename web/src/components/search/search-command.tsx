@@ -1,7 +1,15 @@
 import { useDeferredValue, useEffect, useRef, useState } from 'react'
 import { useNavigate } from '@tanstack/react-router'
 import { useQuery } from '@tanstack/react-query'
-import { Gamepad2, Loader2, Monitor, Newspaper, Tag, Users } from 'lucide-react'
+import {
+  Gamepad2,
+  ListOrdered,
+  Loader2,
+  Monitor,
+  Newspaper,
+  Tag,
+  Users,
+} from 'lucide-react'
 import {
   CommandDialog,
   CommandEmpty,
@@ -11,19 +19,22 @@ import {
   CommandList,
 } from '@/components/ui/command'
 import { Tabs, TabsContent, TabsList, TabsTrigger } from '@/components/ui/tabs'
-import {
-  genresQueryOptions,
-  platformsQueryOptions,
-  searchGamesQueryOptions,
-} from '@/queries/catalog'
-import { searchMembersQueryOptions } from '@/queries/members'
+import { genresQueryOptions, platformsQueryOptions } from '@/queries/catalog'
+import { searchSuggestionsQueryOptions } from '@/queries/search'
 import { searchNewsQueryOptions } from '@/queries/news'
 import { triggerRickroll } from '@/queries/easter-eggs'
 import { Badge } from '@/components/ui/badge'
 import { cn } from '@/lib/utils'
 import { resolvePictureUrl } from '@/lib/picture'
 
-type SearchTab = 'all' | 'games' | 'members' | 'news' | 'genres' | 'platforms'
+type SearchTab =
+  | 'all'
+  | 'games'
+  | 'lists'
+  | 'members'
+  | 'news'
+  | 'genres'
+  | 'platforms'
 
 interface SearchCommandProps {
   open: boolean
@@ -57,27 +68,22 @@ export function SearchCommand({ open, onOpenChange }: SearchCommandProps) {
   }, [deferredQuery])
 
   const showGames = tab === 'all' || tab === 'games'
+  const showLists = tab === 'all' || tab === 'lists'
   const showMembers = tab === 'all' || tab === 'members'
   const showNews = tab === 'all' || tab === 'news'
   const showGenres = tab === 'all' || tab === 'genres'
   const showPlatforms = tab === 'all' || tab === 'platforms'
 
+  // Games, lists and members come from one typeahead request, served from
+  // prefix-indexed fields so it stays cheap on every keystroke.
+  const showSuggestions = showGames || showLists || showMembers
   const {
-    data: games,
-    isLoading: isLoadingGames,
-    isFetching: isFetchingGames,
-  } = useQuery({
-    ...searchGamesQueryOptions(deferredQuery),
-    enabled: isSearchActive && showGames,
-  })
-
-  const {
-    data: membersResponse,
-    isLoading: isLoadingMembers,
-    isFetching: isFetchingMembers,
+    data: suggestions,
+    isLoading: isLoadingSuggestions,
+    isFetching: isFetchingSuggestions,
   } = useQuery({
-    ...searchMembersQueryOptions(deferredQuery),
-    enabled: isSearchActive && showMembers,
+    ...searchSuggestionsQueryOptions(deferredQuery),
+    enabled: isSearchActive && showSuggestions,
   })
 
   const {
@@ -92,7 +98,9 @@ export function SearchCommand({ open, onOpenChange }: SearchCommandProps) {
   const { data: genres } = useQuery(genresQueryOptions())
   const { data: platforms } = useQuery(platformsQueryOptions())
 
-  const members = membersResponse?.content
+  const games = suggestions?.games
+  const lists = suggestions?.lists
+  const members = suggestions?.members
 
   const filteredGenres =
     isSearchActive && showGenres
@@ -110,18 +118,17 @@ export function SearchCommand({ open, onOpenChange }: SearchCommandProps) {
 
   const isLoading =
     isSearchActive &&
-    ((showGames && isLoadingGames) ||
-      (showMembers && isLoadingMembers) ||
+    ((showSuggestions && isLoadingSuggestions) ||
       (showNews && isLoadingNews))
 
   const isFetching =
     isSearchActive &&
-    ((showGames && isFetchingGames) ||
-      (showMembers && isFetchingMembers) ||
+    ((showSuggestions && isFetchingSuggestions) ||
       (showNews && isFetchingNews))
 
   const hasResults =
     (showGames && games && games.length > 0) ||
+    (showLists && lists && lists.length > 0) ||
     (showMembers && members && members.length > 0) ||
     (showNews && news && news.length > 0) ||
     (showGenres && filteredGenres && filteredGenres.length > 0) ||
@@ -142,7 +149,7 @@ export function SearchCommand({ open, onOpenChange }: SearchCommandProps) {
 
   const gamesResults = showGames && games && games.length > 0 && (
     <CommandGroup heading="Games">
-      {games.slice(0, 5).map((game) => (
+      {games.map((game) => (
         <CommandItem
           key={game.id}
           value={`game-${game.title}`}
@@ -178,6 +185,33 @@ export function SearchCommand({ open, onOpenChange }: SearchCommandProps) {
     </CommandGroup>
   )
 
+  const listsResults = showLists && lists && lists.length > 0 && (
+    <CommandGroup heading="Lists">
+      {lists.map((list) => (
+        <CommandItem
+          key={list.id}
+          value={`list-${list.id}-${list.title}`}
+          onSelect={() =>
+            handleSelect(() =>
+              navigate({
+                to: '/lists/$listId',
+                params: { listId: list.id },
+              }),
+            )
+          }
+        >
+          <ListOrdered />
+          <div>
+            <p className="font-medium">{list.title}</p>
+            <p className="text-xs text-muted-foreground">
+              by {list.authorPseudo}
+            </p>
+          </div>
+        </CommandItem>
+      ))}
+    </CommandGroup>
+  )
+
   const membersResults = showMembers && members && members.length > 0 && (
     <CommandGroup heading="Members">
       {members.map((member) => (
@@ -320,7 +354,7 @@ export function SearchCommand({ open, onOpenChange }: SearchCommandProps) {
       open={open}
       onOpenChange={onOpenChange}
       title="Search"
-      description="Search for games, members, news, genres, and platforms"
+      description="Search for games, lists, members, news, genres, and platforms"
       showCloseButton={false}
     >
       <CommandInput
@@ -339,6 +373,10 @@ export function SearchCommand({ open, onOpenChange }: SearchCommandProps) {
             <Gamepad2 className="size-3.5" />
             Games
           </TabsTrigger>
+          <TabsTrigger value="lists">
+            <ListOrdered className="size-3.5" />
+            Lists
+          </TabsTrigger>
           <TabsTrigger value="members">
             <Users className="size-3.5" />
             Members
@@ -386,6 +424,7 @@ export function SearchCommand({ open, onOpenChange }: SearchCommandProps) {
           >
             <TabsContent value="all" className="mt-0">
               {gamesResults}
+              {listsResults}
               {newsResults}
               {membersResults}
               {genresResults}
@@ -394,6 +433,9 @@ export function SearchCommand({ open, onOpenChange }: SearchCommandProps) {
             <TabsContent value="games" className="mt-0">
               {gamesResults}
             </TabsContent>
+            <TabsContent value="lists" className="mt-0">
+              {listsResults}
+            </TabsContent>
             <TabsContent value="members" className="mt-0">
               {membersResults}
             </TabsContent>
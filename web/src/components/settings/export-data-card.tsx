@@ -1,3 +1,4 @@
+import { useState } from 'react'
 import { useMutation } from '@tanstack/react-query'
 import { Download, Loader2 } from 'lucide-react'
 import { toast } from 'sonner'
@@ -9,25 +10,29 @@ import {
   CardHeader,
   CardTitle,
 } from '@/components/ui/card'
+import type { DataExportJob } from '@/queries/profile'
 import { exportData } from '@/queries/profile'
 
+const API_URL = import.meta.env.VITE_API_URL ?? ''
+
 export function ExportDataCard() {
+  const [progress, setProgress] = useState<DataExportJob | null>(null)
+
   const exportMutation = useMutation({
     meta: { suppressGlobalError: true },
-    mutationFn: exportData,
-    onSuccess: (blob) => {
-      const url = URL.createObjectURL(blob)
-      const today = new Date().toISOString().slice(0, 10)
+    mutationFn: () => exportData(setProgress),
+    onSuccess: (job) => {
+      // The browser downloads the file straight from the API, with the
+      // session cookie, instead of buffering it in memory first.
       const anchor = document.createElement('a')
-      anchor.href = url
-      anchor.download = `checkpoint-export-${today}.json`
+      anchor.href = `${API_URL}${job.downloadUrl}`
       anchor.click()
-      URL.revokeObjectURL(url)
       toast.success('Your data export is ready')
     },
     onError: () => {
       toast.error('Failed to export your data. Please try again.')
     },
+    onSettled: () => setProgress(null),
   })
 
   return (
@@ -35,9 +40,9 @@ export function ExportDataCard() {
       <CardHeader>
         <CardTitle className="text-base">Export my data</CardTitle>
         <CardDescription>
-          Download a JSON file containing every piece of personal data we hold
-          about you (GDPR right to data portability). This may take a few
-          seconds for users with a long play history.
+          Download a compressed JSON file containing every piece of personal
+          data we hold about you (GDPR right to data portability). The file is
+          prepared in the background and stays available for 24 hours.
         </CardDescription>
       </CardHeader>
       <CardContent>
@@ -51,7 +56,9 @@ export function ExportDataCard() {
           ) : (
             <Download className="size-4" />
           )}
-          Export my data (JSON)
+          {exportMutation.isPending
+            ? `Preparing export${progress ? ` (${progress.sectionsCompleted}/${progress.totalSections})` : ''}…`
+            : 'Export my data (JSON)'}
         </Button>
       </CardContent>
     </Card>
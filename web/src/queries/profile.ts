@@ -11,7 +11,7 @@ import type {
 import type { PaginationMetadata } from '@/types/game'
 import type { PlayStatus } from '@/types/interaction'
 import type { LibraryResponse } from '@/types/library'
-import { apiFetch } from '@/services/api'
+import { apiFetch, isApiError } from '@/services/api'
 
 export interface WishlistItem {
   id: string
@@ -28,6 +28,20 @@ export interface WishlistResponse {
   metadata: PaginationMetadata
 }
 
+export interface DataExportJob {
+  jobId: string
+  state: 'PENDING' | 'RUNNING' | 'COMPLETED' | 'FAILED'
+  sectionsCompleted: number
+  totalSections: number
+  recordsWritten: number
+  sizeBytes: number | null
+  downloadUrl: string | null
+  errorMessage: string | null
+  startedAt: string
+  finishedAt: string | null
+  expiresAt: string | null
+}
+
 export interface FollowingUser {
   id: string
   pseudo: string
@@ -327,9 +341,49 @@ export async function deleteAccount(): Promise<void> {
   })
 }
 
-export async function exportData(): Promise<Blob> {
+const EXPORT_POLL_INTERVAL_MS = 1000
+
+export async function requestDataExport(): Promise<DataExportJob> {
+  const res = await apiFetch('/api/me/export', { method: 'POST' })
+  return res.json()
+}
+
+export async function getLatestDataExport(): Promise<DataExportJob> {
   const res = await apiFetch('/api/me/export')
-  return res.blob()
+  return res.json()
+}
+
+export async function getDataExport(jobId: string): Promise<DataExportJob> {
+  const res = await apiFetch(`/api/me/export/${jobId}`)
+  return res.json()
+}
+
+/**
+ * Starts a data export — or joins the one already being prepared (409) — and
+ * polls it until the file is ready. Resolves with the completed job, whose
+ * `downloadUrl` serves the gzipped JSON file.
+ */
+export async function exportData(
+  onProgress?: (job: DataExportJob) => void,
+): Promise<DataExportJob> {
+  let job: DataExportJob
+  try {
+    job = await requestDataExport()
+  } catch (error) {
+    if (!isApiError(error) || error.status !== 409) throw error
+    job = await getLatestDataExport()
+  }
+
+  while (job.state === 'PENDING' || job.state === 'RUNNING') {
+    onProgress?.(job)
+    await new Promise((resolve) => setTimeout(resolve, EXPORT_POLL_INTERVAL_MS))
+    job = await getDataExport(job.jobId)
+  }
+
+  if (job.state === 'FAILED') {
+    throw new Error(job.errorMessage ?? 'Export failed')
+  }
+  return job
 }
 
 export async function updateFavorites(
@@ -0,0 +1,22 @@
+import { keepPreviousData, queryOptions } from '@tanstack/react-query'
+import type { SearchSuggestions } from '@/types/search'
+import { apiFetch } from '@/services/api'
+
+/**
+ * Typeahead suggestions for games, lists and members. Cheap enough to run on
+ * every keystroke; words shorter than 2 characters are ignored by the API.
+ */
+export function searchSuggestionsQueryOptions(query: string, limit = 5) {
+  return queryOptions({
+    queryKey: ['search', 'suggest', query, limit],
+    queryFn: async (): Promise<SearchSuggestions> => {
+      const res = await apiFetch(
+        `/api/search/suggest?q=${encodeURIComponent(query)}&limit=${limit}`,
+      )
+      return res.json()
+    },
+    staleTime: 30 * 1000,
+    enabled: query.length >= 2,
+    placeholderData: keepPreviousData,
+  })
+}
@@ -68,7 +68,20 @@ export interface PaginationMetadata {
   hasPrevious: boolean
 }
 
+export interface FacetCount {
+  value: string
+  count: number
+}
+
+/** Catalog facet counts; each facet ignores its own filter. */
+export interface CatalogFacets {
+  genres: Array<FacetCount>
+  platforms: Array<FacetCount>
+  years: Array<FacetCount>
+}
+
 export interface GamesResponse {
   content: Array<Game>
   metadata: PaginationMetadata
+  facets?: CatalogFacets
 }
@@ -8,6 +8,8 @@ export interface MemberCard {
   followerCount: number
   reviewCount: number
   isFollowing: boolean | null
+  /** Estimated 0–100 overlap with the viewer's games; only on suggestions. */
+  affinityScore?: number
 }
 
 export interface MembersResponse {
@@ -0,0 +1,26 @@
+export interface GameSuggestion {
+  id: string
+  title: string
+  coverUrl: string | null
+  releaseDate: string | null
+}
+
+export interface ListSuggestion {
+  id: string
+  title: string
+  authorPseudo: string
+  likesCount: number
+}
+
+export interface MemberSuggestion {
+  id: string
+  pseudo: string
+  picture: string | null
+  level: number
+}
+
+export interface SearchSuggestions {
+  games: Array<GameSuggestion>
+  lists: Array<ListSuggestion>
+  members: Array<MemberSuggestion>
+}